@@ -0,0 +1,372 @@
+package Datasworn.character;
+
+import Datasworn.Asset;
+import Datasworn.AssetAbility;
+import Datasworn.AssetAbilityControlField;
+import Datasworn.AssetAbilityControlFieldCheckbox;
+import Datasworn.AssetAbilityControlFieldClock;
+import Datasworn.AssetAbilityControlFieldCounter;
+import Datasworn.AssetAbilityControlFieldText;
+import Datasworn.AssetConditionMeterControlField;
+import Datasworn.AssetConditionMeterControlFieldCardFlip;
+import Datasworn.AssetConditionMeterControlFieldCheckbox;
+import Datasworn.AssetControlField;
+import Datasworn.AssetControlFieldCardFlip;
+import Datasworn.AssetControlFieldCheckbox;
+import Datasworn.AssetControlFieldConditionMeter;
+import Datasworn.AssetControlFieldEnhancement;
+import Datasworn.AssetControlFieldEnhancementConditionMeter;
+import Datasworn.AssetControlFieldSelectEnhancement;
+import Datasworn.AssetControlFieldSelectEnhancementChoice;
+import Datasworn.AssetControlFieldSelectEnhancementChoiceChoiceGroup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The fixed layout of one asset's controls in an {@link AssetStateStore},
+ * made by its {@link CharacterSchema}.<p>
+ * Every control of the asset, of its condition meters and of its abilities
+ * is a field, addressed by its key, {@code meter/key} for a condition
+ * meter's own controls, and {@code abilities/i/key} for the controls of the
+ * {@code i}th ability. Each field is stored as the smallest value that holds
+ * it:
+ * <ul>
+ * <li>checkboxes and card flips as one bit;</li>
+ * <li>condition meters as a short holding two bytes, the value and a
+ * {@code max} of the record's own, so both change together atomically. The
+ * value is kept within {@code min} and that {@code max}, which starts at the
+ * asset's and can be raised as far as the highest {@code max} that any of
+ * its abilities' {@code enhance_asset} give it, once they're enabled;</li>
+ * <li>{@code select_enhancement}s as a byte, the index of the choice, or -1;
+ * </li>
+ * <li>clocks and counters as a short, kept within {@code min} and
+ * {@code max};</li>
+ * <li>text as the int handle of the interned string, with 0 for none.</li>
+ * </ul>
+ * Layouts are immutable and safe to share between threads.
+ */
+public final class AssetLayout {
+    /** How a field is stored. */
+    static final byte FLAG = 0;
+    static final byte BYTE = 1;
+    static final byte SHORT = 2;
+    static final byte TEXT = 3;
+    /** A condition meter's value and {@code max}, in a short. */
+    static final byte METER = 4;
+
+    private final String id;
+    private final String[] paths;
+    private final String[] types;
+    private final byte[] storage;
+    /** The field's bit, byte, short or int within the asset's record. */
+    private final int[] offsets;
+    private final int[] mins;
+    private final int[] maxes;
+    private final int[] limits;
+    private final int[] defaults;
+    private final String[] defaultTexts;
+    /** The keys of each {@code select_enhancement}'s choices, or null. */
+    private final String[][] choiceKeys;
+    private final Map<String, Integer> fields = new HashMap<>();
+    private final int flags;
+    private final int bytes;
+    private final int shorts;
+    private final int texts;
+
+    private AssetLayout(Asset asset) {
+        id = asset.getId() == null ? null : asset.getId().getValue();
+        Builder builder = new Builder();
+        if (asset.getControls() != null) {
+            for (Map.Entry<String, AssetControlField> entry : asset.getControls().entrySet()) {
+                String key = entry.getKey();
+                AssetControlField control = entry.getValue();
+                if (control instanceof AssetControlFieldCheckbox) {
+                    builder.flag(key, "checkbox", ((AssetControlFieldCheckbox) control).getValue());
+                } else if (control instanceof AssetControlFieldCardFlip) {
+                    builder.flag(key, "card_flip", ((AssetControlFieldCardFlip) control).getValue());
+                } else if (control instanceof AssetControlFieldConditionMeter) {
+                    meter(asset, key, (AssetControlFieldConditionMeter) control, builder);
+                } else if (control instanceof AssetControlFieldSelectEnhancement) {
+                    select(key, (AssetControlFieldSelectEnhancement) control, builder);
+                } else {
+                    throw new IllegalArgumentException("Unknown AssetControlField subtype "
+                            + control.getClass().getName());
+                }
+            }
+        }
+        List<AssetAbility> abilities = asset.getAbilities() == null ? List.of() : asset.getAbilities();
+        for (int i = 0; i < abilities.size(); i++) {
+            if (abilities.get(i).getControls() == null) {
+                continue;
+            }
+            for (Map.Entry<String, AssetAbilityControlField> entry : abilities.get(i).getControls().entrySet()) {
+                String path = "abilities/" + i + "/" + entry.getKey();
+                AssetAbilityControlField control = entry.getValue();
+                if (control instanceof AssetAbilityControlFieldCheckbox) {
+                    builder.flag(path, "checkbox", ((AssetAbilityControlFieldCheckbox) control).getValue());
+                } else if (control instanceof AssetAbilityControlFieldClock) {
+                    AssetAbilityControlFieldClock clock = (AssetAbilityControlFieldClock) control;
+                    int min = clock.getMin() == null ? 0 : clock.getMin();
+                    int max = clock.getMax() == null ? Short.MAX_VALUE : clock.getMax();
+                    builder.add(path, "clock", SHORT, min, max, clock.getValue() == null ? min : clock.getValue(), null);
+                } else if (control instanceof AssetAbilityControlFieldCounter) {
+                    AssetAbilityControlFieldCounter counter = (AssetAbilityControlFieldCounter) control;
+                    int min = counter.getMin() == null ? 0 : counter.getMin();
+                    int max = counter.getMax() == null ? Short.MAX_VALUE : counter.getMax();
+                    builder.add(path, "counter", SHORT, min, max,
+                            counter.getValue() == null ? min : counter.getValue(), null);
+                } else if (control instanceof AssetAbilityControlFieldText) {
+                    builder.add(path, "text", TEXT, 0, 0, 0, ((AssetAbilityControlFieldText) control).getValue());
+                } else {
+                    throw new IllegalArgumentException("Unknown AssetAbilityControlField subtype "
+                            + control.getClass().getName());
+                }
+            }
+        }
+        int count = builder.paths.size();
+        paths = builder.paths.toArray(new String[0]);
+        types = builder.types.toArray(new String[0]);
+        storage = new byte[count];
+        offsets = new int[count];
+        mins = new int[count];
+        maxes = new int[count];
+        limits = new int[count];
+        defaults = new int[count];
+        defaultTexts = builder.defaultTexts.toArray(new String[0]);
+        choiceKeys = builder.choiceKeys.toArray(new String[0][]);
+        int[] next = new int[4];
+        for (int field = 0; field < count; field++) {
+            storage[field] = builder.storage.get(field);
+            offsets[field] = next[storage[field] == METER ? SHORT : storage[field]]++;
+            mins[field] = builder.mins.get(field);
+            maxes[field] = builder.maxes.get(field);
+            limits[field] = builder.limits.get(field);
+            defaults[field] = builder.defaults.get(field);
+            fields.put(paths[field], field);
+        }
+        flags = next[FLAG];
+        bytes = next[BYTE];
+        shorts = next[SHORT];
+        texts = next[TEXT];
+    }
+
+    /**
+     * @throws IllegalArgumentException if a condition meter's bounds don't
+     *                                  fit in a byte, or a
+     *                                  {@code select_enhancement} has more
+     *                                  than 127 choices.
+     */
+    public static AssetLayout of(Asset asset) {
+        return new AssetLayout(asset);
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public int fields() {
+        return paths.length;
+    }
+
+    /**
+     * Returns the field at a path, such as {@code health},
+     * {@code health/out_of_action} or {@code abilities/1/marked}, or -1.
+     */
+    public int field(String path) {
+        return fields.getOrDefault(path, -1);
+    }
+
+    public String path(int field) {
+        return paths[field];
+    }
+
+    /**
+     * Returns the field's {@code field_type}, such as {@code checkbox} or
+     * {@code condition_meter}.
+     */
+    public String type(int field) {
+        return types[field];
+    }
+
+    public int min(int field) {
+        return mins[field];
+    }
+
+    /**
+     * Returns the highest value a field can have before any ability
+     * enhances it: for a condition meter, the asset's own {@code max}.
+     */
+    public int max(int field) {
+        return maxes[field];
+    }
+
+    /**
+     * Returns the highest {@code max} a field can be given: for a condition
+     * meter, the highest that the asset or any of its abilities'
+     * {@code enhance_asset} give it, and otherwise its {@link #max}.
+     */
+    public int limit(int field) {
+        return limits[field];
+    }
+
+    /**
+     * Returns the value a field starts at: 1 for a checked box, the index of
+     * the chosen choice or -1, and 0 for text.
+     */
+    public int defaultValue(int field) {
+        return defaults[field];
+    }
+
+    /**
+     * Returns the text a text field starts with, or null.
+     */
+    public String defaultText(int field) {
+        return defaultTexts[field];
+    }
+
+    /**
+     * Returns the number of choices of a {@code select_enhancement}, counting
+     * those in choice groups, or 0 for other fields.
+     */
+    public int choices(int field) {
+        return choiceKeys[field] == null ? 0 : choiceKeys[field].length;
+    }
+
+    /**
+     * Returns the index of a {@code select_enhancement}'s choice, or -1.
+     */
+    public int choice(int field, String key) {
+        return choiceKeys[field] == null ? -1 : Arrays.asList(choiceKeys[field]).indexOf(key);
+    }
+
+    public String choiceKey(int field, int choice) {
+        return choiceKeys[field][choice];
+    }
+
+    byte storage(int field) {
+        return storage[field];
+    }
+
+    int offset(int field) {
+        return offsets[field];
+    }
+
+    /**
+     * Returns the number of checkbox and card flip bits.
+     */
+    int flags() {
+        return flags;
+    }
+
+    int bytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns the number of shorts, including condition meters.
+     */
+    int shorts() {
+        return shorts;
+    }
+
+    int texts() {
+        return texts;
+    }
+
+    private static void meter(Asset asset, String key, AssetControlFieldConditionMeter meter, Builder builder) {
+        int min = meter.getMin() == null ? 0 : meter.getMin();
+        int max = meter.getMax() == null ? Byte.MAX_VALUE : meter.getMax();
+        int limit = max;
+        if (asset.getAbilities() != null) {
+            for (AssetAbility ability : asset.getAbilities()) {
+                Map<String, AssetControlFieldEnhancement> enhanced = ability.getEnhanceAsset() == null ? null
+                        : ability.getEnhanceAsset().getControls();
+                AssetControlFieldEnhancement enhancement = enhanced == null ? null : enhanced.get(key);
+                if (enhancement instanceof AssetControlFieldEnhancementConditionMeter) {
+                    Byte enhancedMax = ((AssetControlFieldEnhancementConditionMeter) enhancement).getMax();
+                    if (enhancedMax != null) {
+                        limit = Math.max(limit, enhancedMax);
+                    }
+                }
+            }
+        }
+        if (min > max) {
+            throw new IllegalArgumentException("Condition meter " + key + " of " + asset.getId().getValue()
+                    + " has min " + min + " above max " + max);
+        }
+        builder.add(key, "condition_meter", METER, min, max, meter.getValue() == null ? max : meter.getValue(), null);
+        builder.limits.set(builder.limits.size() - 1, limit);
+        if (meter.getControls() != null) {
+            for (Map.Entry<String, AssetConditionMeterControlField> entry : meter.getControls().entrySet()) {
+                String path = key + "/" + entry.getKey();
+                AssetConditionMeterControlField control = entry.getValue();
+                if (control instanceof AssetConditionMeterControlFieldCheckbox) {
+                    builder.flag(path, "checkbox", ((AssetConditionMeterControlFieldCheckbox) control).getValue());
+                } else if (control instanceof AssetConditionMeterControlFieldCardFlip) {
+                    builder.flag(path, "card_flip", ((AssetConditionMeterControlFieldCardFlip) control).getValue());
+                } else {
+                    throw new IllegalArgumentException("Unknown AssetConditionMeterControlField subtype "
+                            + control.getClass().getName());
+                }
+            }
+        }
+    }
+
+    private static void select(String key, AssetControlFieldSelectEnhancement select, Builder builder) {
+        List<String> keys = new ArrayList<>();
+        if (select.getChoices() != null) {
+            for (Map.Entry<String, AssetControlFieldSelectEnhancementChoice> entry : select.getChoices().entrySet()) {
+                if (entry.getValue() instanceof AssetControlFieldSelectEnhancementChoiceChoiceGroup) {
+                    AssetControlFieldSelectEnhancementChoiceChoiceGroup group =
+                            (AssetControlFieldSelectEnhancementChoiceChoiceGroup) entry.getValue();
+                    if (group.getChoices() != null) {
+                        keys.addAll(group.getChoices().keySet());
+                    }
+                } else {
+                    keys.add(entry.getKey());
+                }
+            }
+        }
+        if (keys.size() > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Control " + key + " has too many choices");
+        }
+        int value = select.getValue() == null ? -1 : keys.indexOf(select.getValue().getValue());
+        builder.add(key, "select_enhancement", BYTE, -1, keys.size() - 1, value, null);
+        builder.choiceKeys.set(builder.choiceKeys.size() - 1, keys.toArray(new String[0]));
+    }
+
+    private static final class Builder {
+        private final List<String> paths = new ArrayList<>();
+        private final List<String> types = new ArrayList<>();
+        private final List<Byte> storage = new ArrayList<>();
+        private final List<Integer> mins = new ArrayList<>();
+        private final List<Integer> maxes = new ArrayList<>();
+        private final List<Integer> limits = new ArrayList<>();
+        private final List<Integer> defaults = new ArrayList<>();
+        private final List<String> defaultTexts = new ArrayList<>();
+        private final List<String[]> choiceKeys = new ArrayList<>();
+
+        void flag(String path, String type, Boolean value) {
+            add(path, type, FLAG, 0, 1, Boolean.TRUE.equals(value) ? 1 : 0, null);
+        }
+
+        void add(String path, String type, byte kind, int min, int max, int value, String text) {
+            if ((kind == BYTE || kind == METER) && (min < Byte.MIN_VALUE || max > Byte.MAX_VALUE)) {
+                throw new IllegalArgumentException("Control " + path + " doesn't fit in a byte");
+            }
+            paths.add(path);
+            types.add(type);
+            storage.add(kind);
+            mins.add(min);
+            maxes.add(max);
+            limits.add(max);
+            defaults.add(Math.max(min, Math.min(max, value)));
+            defaultTexts.add(text);
+            choiceKeys.add(null);
+        }
+    }
+}
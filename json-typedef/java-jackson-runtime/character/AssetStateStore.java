@@ -0,0 +1,545 @@
+package Datasworn.character;
+
+import Datasworn.moves.EffectiveAsset;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The control state of many characters' assets, in flat primitive arrays.
+ * <p>
+ * Each asset that a character owns is a record: a run of bits, bytes,
+ * shorts and ints laid out by the asset's {@link AssetLayout}, in pages of
+ * {@value #PAGE} elements that never move once allocated, plus five ints
+ * saying where the runs are. So a record costs a few dozen bytes rather than
+ * a copy of the {@code Asset}, and a character is just the handles of their
+ * records, kept by their {@link CharacterState}. Text is interned by the store, so records
+ * hold an int handle for it.<p>
+ * Reads and writes of a field are atomic and lock-free, through
+ * {@link VarHandle}s: {@link #set} and {@link #add} clamp meters, clocks and
+ * counters to their bounds, and {@link #compareAndSet} lets callers build
+ * other updates. A condition meter's {@code max} is kept with its value, and
+ * {@link #apply} sets it from the abilities a character has enabled. Adding and removing records is synchronized. Removed
+ * records are reused by the next record of the same asset. Stores are
+ * thread-safe, as long as a record isn't used after it's removed.
+ * <pre>
+ * AssetStateStore store = AssetStateStore.of(schema);
+ * int companion = store.add(schema.asset("starforged/assets/companion/protocol_bot"));
+ * int health = store.layout(store.asset(companion)).field("health");
+ * store.add(companion, health, -1);
+ * </pre>
+ */
+public final class AssetStateStore {
+    /** The number of elements in each page of each array. */
+    public static final int PAGE = 1 << 12;
+
+    private static final int PAGE_SHIFT = 12;
+    private static final int PAGE_MASK = PAGE - 1;
+    private static final int FIELDS = 5;
+    /** The storage of the words that flags are packed in. */
+    private static final int FLAG_WORDS = AssetLayout.FLAG;
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle BYTES = MethodHandles.arrayElementVarHandle(byte[].class);
+    private static final VarHandle SHORTS = MethodHandles.arrayElementVarHandle(short[].class);
+    private static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final CharacterSchema schema;
+
+    /** For each record, its asset, or -1 if removed, and where its flags, bytes, shorts and texts start. */
+    private volatile int[] records = new int[FIELDS * 64];
+    private int size;
+    private volatile long[][] flagPages = new long[0][];
+    private volatile byte[][] bytePages = new byte[0][];
+    private volatile short[][] shortPages = new short[0][];
+    private volatile int[][] textPages = new int[0][];
+    /** The next free element of the flag words, bytes, shorts and texts. */
+    private final int[] next = new int[4];
+    /** For each asset, the records of it that were removed. */
+    private final int[][] free;
+    private final int[] freeCounts;
+
+    private final Map<String, Integer> strings = new ConcurrentHashMap<>();
+    private volatile String[] texts = new String[64];
+    private volatile int textCount = 1;
+
+    private AssetStateStore(CharacterSchema schema) {
+        this.schema = schema;
+        for (int asset = 0; asset < schema.assets(); asset++) {
+            AssetLayout layout = schema.layout(asset);
+            int words = (layout.flags() + 63) / 64;
+            if (Math.max(Math.max(words, layout.bytes()), Math.max(layout.shorts(), layout.texts())) > PAGE) {
+                throw new IllegalArgumentException("Asset " + schema.assetId(asset) + " has too many controls");
+            }
+            for (int field = 0; field < layout.fields(); field++) {
+                if (layout.defaultText(field) != null) {
+                    intern(layout.defaultText(field));
+                }
+            }
+        }
+        free = new int[schema.assets()][];
+        freeCounts = new int[schema.assets()];
+    }
+
+    /**
+     * Creates a store for the assets of a schema, with their handles and
+     * layouts.
+     *
+     * @throws IllegalArgumentException if an asset has more controls than
+     *                                  fit in a page.
+     */
+    public static AssetStateStore of(CharacterSchema schema) {
+        return new AssetStateStore(schema);
+    }
+
+    public CharacterSchema schema() {
+        return schema;
+    }
+
+    public AssetLayout layout(int asset) {
+        return schema.layout(asset);
+    }
+
+    /**
+     * Adds a record for an asset, with its controls at their starting
+     * values, and returns its handle.
+     */
+    public synchronized int add(int asset) {
+        AssetLayout layout = schema.layout(asset);
+        int record;
+        int[] records = this.records;
+        if (freeCounts[asset] > 0) {
+            record = free[asset][--freeCounts[asset]];
+        } else {
+            record = size++;
+            if (FIELDS * size > records.length) {
+                records = Arrays.copyOf(records, records.length * 2);
+            }
+            int base = FIELDS * record;
+            records[base + 1] = allocate(FLAG_WORDS, (layout.flags() + 63) / 64);
+            records[base + 2] = allocate(AssetLayout.BYTE, layout.bytes());
+            records[base + 3] = allocate(AssetLayout.SHORT, layout.shorts());
+            records[base + 4] = allocate(AssetLayout.TEXT, layout.texts());
+        }
+        records[FIELDS * record] = asset;
+        reset(records, record, layout);
+        this.records = records;
+        return record;
+    }
+
+    /**
+     * Removes a record, whose handle may then be returned by {@link #add}.
+     */
+    public synchronized void remove(int record) {
+        int[] records = this.records;
+        int asset = records[FIELDS * record];
+        if (asset < 0) {
+            throw new IllegalArgumentException("Record " + record + " was removed");
+        }
+        records[FIELDS * record] = -1;
+        if (free[asset] == null) {
+            free[asset] = new int[8];
+        } else if (freeCounts[asset] == free[asset].length) {
+            free[asset] = Arrays.copyOf(free[asset], free[asset].length * 2);
+        }
+        free[asset][freeCounts[asset]++] = record;
+        this.records = records;
+    }
+
+    /**
+     * Returns the number of records ever added, including removed ones.
+     */
+    public synchronized int records() {
+        return size;
+    }
+
+    /**
+     * Returns a record's asset, or -1 if it was removed.
+     */
+    public int asset(int record) {
+        return records[FIELDS * record];
+    }
+
+    /**
+     * Returns a field's value: 1 for a checked box or flipped card and 0
+     * otherwise, a meter's, clock's or counter's value, the index of a
+     * {@code select_enhancement}'s choice or -1, or a text's handle.
+     */
+    public int get(int record, int field) {
+        int[] records = this.records;
+        AssetLayout layout = schema.layout(records[FIELDS * record]);
+        int offset = layout.offset(field);
+        switch (layout.storage(field)) {
+            case AssetLayout.FLAG: {
+                int word = records[FIELDS * record + 1] + (offset >>> 6);
+                long bits = (long) LONGS.getVolatile(flagPages[word >>> PAGE_SHIFT], word & PAGE_MASK);
+                return (int) (bits >>> offset) & 1;
+            }
+            case AssetLayout.BYTE: {
+                int i = records[FIELDS * record + 2] + offset;
+                return (byte) BYTES.getVolatile(bytePages[i >>> PAGE_SHIFT], i & PAGE_MASK);
+            }
+            case AssetLayout.SHORT: {
+                int i = records[FIELDS * record + 3] + offset;
+                return (short) SHORTS.getVolatile(shortPages[i >>> PAGE_SHIFT], i & PAGE_MASK);
+            }
+            case AssetLayout.METER: {
+                int i = records[FIELDS * record + 3] + offset;
+                return (byte) (short) SHORTS.getVolatile(shortPages[i >>> PAGE_SHIFT], i & PAGE_MASK);
+            }
+            default: {
+                int i = records[FIELDS * record + 4] + offset;
+                return (int) INTS.getVolatile(textPages[i >>> PAGE_SHIFT], i & PAGE_MASK);
+            }
+        }
+    }
+
+    /**
+     * Returns the highest value a field can be set to: a condition meter's
+     * {@code max} in this record, and otherwise the layout's.
+     */
+    public int max(int record, int field) {
+        int[] records = this.records;
+        AssetLayout layout = schema.layout(records[FIELDS * record]);
+        if (layout.storage(field) != AssetLayout.METER) {
+            return layout.max(field);
+        }
+        int i = records[FIELDS * record + 3] + layout.offset(field);
+        return (short) SHORTS.getVolatile(shortPages[i >>> PAGE_SHIFT], i & PAGE_MASK) >> 8;
+    }
+
+    /**
+     * Sets a condition meter's {@code max} in this record, kept within its
+     * {@code min} and the highest {@code max} its abilities can give it, and
+     * lowers its value to it if need be.
+     *
+     * @throws IllegalArgumentException if the field isn't a condition meter.
+     */
+    public void setMax(int record, int field, int max) {
+        int[] records = this.records;
+        AssetLayout layout = schema.layout(records[FIELDS * record]);
+        if (layout.storage(field) != AssetLayout.METER) {
+            throw new IllegalArgumentException("Can't set the max of " + layout.type(field) + " "
+                    + layout.path(field));
+        }
+        int bounded = Math.max(layout.min(field), Math.min(layout.limit(field), max));
+        int i = records[FIELDS * record + 3] + layout.offset(field);
+        short[] page = shortPages[i >>> PAGE_SHIFT];
+        while (true) {
+            short meter = (short) SHORTS.getVolatile(page, i & PAGE_MASK);
+            short updated = meter(bounded, Math.min((byte) meter, bounded));
+            if (meter == updated || SHORTS.compareAndSet(page, i & PAGE_MASK, meter, updated)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sets the {@code max} of each of a record's condition meters to an
+     * effective asset's, such as after an ability that raises it is enabled
+     * or disabled.
+     *
+     * @throws IllegalArgumentException if {@code asset} isn't the record's.
+     */
+    public void apply(int record, EffectiveAsset asset) {
+        AssetLayout layout = schema.layout(records[FIELDS * record]);
+        if (asset.id() == null || !asset.id().equals(layout.id())) {
+            throw new IllegalArgumentException("Record " + record + " is of " + layout.id() + ", not " + asset.id());
+        }
+        for (int field = 0; field < layout.fields(); field++) {
+            if (layout.storage(field) == AssetLayout.METER) {
+                int max = asset.meterMax(layout.path(field));
+                setMax(record, field, max < 0 ? layout.max(field) : max);
+            }
+        }
+    }
+
+    /**
+     * Sets a field: a box or card to whether {@code value} isn't 0, a meter,
+     * clock or counter to {@code value} kept within its bounds, or a
+     * {@code select_enhancement} or text to a choice index or text handle.
+     *
+     * @throws IllegalArgumentException if a choice index or text handle is
+     *                                  out of range.
+     */
+    public void set(int record, int field, int value) {
+        int[] records = this.records;
+        AssetLayout layout = schema.layout(records[FIELDS * record]);
+        int offset = layout.offset(field);
+        switch (layout.storage(field)) {
+            case AssetLayout.FLAG: {
+                int word = records[FIELDS * record + 1] + (offset >>> 6);
+                long[] page = flagPages[word >>> PAGE_SHIFT];
+                if (value != 0) {
+                    LONGS.getAndBitwiseOr(page, word & PAGE_MASK, 1L << offset);
+                } else {
+                    LONGS.getAndBitwiseAnd(page, word & PAGE_MASK, ~(1L << offset));
+                }
+                return;
+            }
+            case AssetLayout.BYTE: {
+                int i = records[FIELDS * record + 2] + offset;
+                BYTES.setVolatile(bytePages[i >>> PAGE_SHIFT], i & PAGE_MASK, (byte) bounded(layout, field, value));
+                return;
+            }
+            case AssetLayout.SHORT: {
+                int i = records[FIELDS * record + 3] + offset;
+                SHORTS.setVolatile(shortPages[i >>> PAGE_SHIFT], i & PAGE_MASK, (short) bounded(layout, field, value));
+                return;
+            }
+            case AssetLayout.METER: {
+                int i = records[FIELDS * record + 3] + offset;
+                short[] page = shortPages[i >>> PAGE_SHIFT];
+                while (true) {
+                    short meter = (short) SHORTS.getVolatile(page, i & PAGE_MASK);
+                    int max = meter >> 8;
+                    short updated = meter(max, Math.max(layout.min(field), Math.min(max, value)));
+                    if (SHORTS.compareAndSet(page, i & PAGE_MASK, meter, updated)) {
+                        return;
+                    }
+                }
+            }
+            default: {
+                if (value < 0 || value >= textCount) {
+                    throw new IllegalArgumentException("No text with handle " + value);
+                }
+                int i = records[FIELDS * record + 4] + offset;
+                INTS.setVolatile(textPages[i >>> PAGE_SHIFT], i & PAGE_MASK, value);
+            }
+        }
+    }
+
+    /**
+     * Adds to a meter, clock or counter, keeping it within its bounds, and
+     * returns its new value.
+     *
+     * @throws IllegalArgumentException if the field isn't a meter, clock or
+     *                                  counter.
+     */
+    public int add(int record, int field, int delta) {
+        AssetLayout layout = schema.layout(records[FIELDS * record]);
+        String type = layout.type(field);
+        if (!type.equals("condition_meter") && !type.equals("clock") && !type.equals("counter")) {
+            throw new IllegalArgumentException("Can't add to " + type + " " + layout.path(field));
+        }
+        while (true) {
+            int value = get(record, field);
+            int updated = Math.max(layout.min(field), Math.min(max(record, field), value + delta));
+            if (updated == value || compareAndSet(record, field, value, updated)) {
+                return updated;
+            }
+        }
+    }
+
+    /**
+     * Sets a field to {@code value} if it's {@code expected}, as
+     * {@link #get} and {@link #set} see it, and returns whether it was.
+     * Values out of a field's bounds are never set.
+     */
+    public boolean compareAndSet(int record, int field, int expected, int value) {
+        int[] records = this.records;
+        AssetLayout layout = schema.layout(records[FIELDS * record]);
+        int offset = layout.offset(field);
+        switch (layout.storage(field)) {
+            case AssetLayout.FLAG: {
+                int word = records[FIELDS * record + 1] + (offset >>> 6);
+                long[] page = flagPages[word >>> PAGE_SHIFT];
+                long bit = 1L << offset;
+                while (true) {
+                    long bits = (long) LONGS.getVolatile(page, word & PAGE_MASK);
+                    if (((bits & bit) != 0 ? 1 : 0) != expected) {
+                        return false;
+                    }
+                    long updated = value != 0 ? bits | bit : bits & ~bit;
+                    if (LONGS.compareAndSet(page, word & PAGE_MASK, bits, updated)) {
+                        return true;
+                    }
+                }
+            }
+            case AssetLayout.BYTE: {
+                if (value < layout.min(field) || value > layout.max(field)) {
+                    return false;
+                }
+                int i = records[FIELDS * record + 2] + offset;
+                return BYTES.compareAndSet(bytePages[i >>> PAGE_SHIFT], i & PAGE_MASK, (byte) expected, (byte) value);
+            }
+            case AssetLayout.SHORT: {
+                if (value < layout.min(field) || value > layout.max(field)) {
+                    return false;
+                }
+                int i = records[FIELDS * record + 3] + offset;
+                return SHORTS.compareAndSet(shortPages[i >>> PAGE_SHIFT], i & PAGE_MASK, (short) expected,
+                        (short) value);
+            }
+            case AssetLayout.METER: {
+                int i = records[FIELDS * record + 3] + offset;
+                short[] page = shortPages[i >>> PAGE_SHIFT];
+                while (true) {
+                    short meter = (short) SHORTS.getVolatile(page, i & PAGE_MASK);
+                    if ((byte) meter != expected || value < layout.min(field) || value > meter >> 8) {
+                        return false;
+                    }
+                    // Retried only if the max changed under us.
+                    if (SHORTS.compareAndSet(page, i & PAGE_MASK, meter, meter(meter >> 8, value))) {
+                        return true;
+                    }
+                }
+            }
+            default: {
+                if (value < 0 || value >= textCount) {
+                    return false;
+                }
+                int i = records[FIELDS * record + 4] + offset;
+                return INTS.compareAndSet(textPages[i >>> PAGE_SHIFT], i & PAGE_MASK, expected, value);
+            }
+        }
+    }
+
+    /**
+     * Returns a text field's text, or null.
+     */
+    public String text(int record, int field) {
+        return text(get(record, field));
+    }
+
+    public void setText(int record, int field, String text) {
+        set(record, field, intern(text));
+    }
+
+    /**
+     * Returns the handle of a text, adding it if it's new, or 0 for null.
+     */
+    public int intern(String text) {
+        if (text == null) {
+            return 0;
+        }
+        Integer handle = strings.get(text);
+        return handle != null ? handle : add(text);
+    }
+
+    /**
+     * Returns the text with a handle, or null for 0.
+     */
+    public String text(int handle) {
+        return texts[handle];
+    }
+
+    private synchronized int add(String text) {
+        Integer handle = strings.get(text);
+        if (handle != null) {
+            return handle;
+        }
+        String[] texts = this.texts;
+        if (textCount == texts.length) {
+            texts = Arrays.copyOf(texts, texts.length * 2);
+        }
+        texts[textCount] = text;
+        this.texts = texts;
+        strings.put(text, textCount);
+        return textCount++;
+    }
+
+    /**
+     * Packs a condition meter's {@code max} and value into a short.
+     */
+    private static short meter(int max, int value) {
+        return (short) (max << 8 | value & 0xff);
+    }
+
+    private static int bounded(AssetLayout layout, int field, int value) {
+        if (layout.type(field).equals("select_enhancement")) {
+            if (value < -1 || value >= layout.choices(field)) {
+                throw new IllegalArgumentException("Choice " + value + " out of " + layout.choices(field));
+            }
+            return value;
+        }
+        return Math.max(layout.min(field), Math.min(layout.max(field), value));
+    }
+
+    /**
+     * Returns the start of a run of {@code length} elements of one storage,
+     * within one page, adding the page if it's new.
+     */
+    private int allocate(int storage, int length) {
+        int start = next[storage];
+        if ((start & PAGE_MASK) + length > PAGE) {
+            start = (start + PAGE_MASK) & ~PAGE_MASK;
+        }
+        next[storage] = start + length;
+        int pages = (start + length + PAGE_MASK) >>> PAGE_SHIFT;
+        switch (storage) {
+            case FLAG_WORDS:
+                if (pages > flagPages.length) {
+                    long[][] grown = Arrays.copyOf(flagPages, pages);
+                    grown[pages - 1] = new long[PAGE];
+                    flagPages = grown;
+                }
+                break;
+            case AssetLayout.BYTE:
+                if (pages > bytePages.length) {
+                    byte[][] grown = Arrays.copyOf(bytePages, pages);
+                    grown[pages - 1] = new byte[PAGE];
+                    bytePages = grown;
+                }
+                break;
+            case AssetLayout.SHORT:
+                if (pages > shortPages.length) {
+                    short[][] grown = Arrays.copyOf(shortPages, pages);
+                    grown[pages - 1] = new short[PAGE];
+                    shortPages = grown;
+                }
+                break;
+            default:
+                if (pages > textPages.length) {
+                    int[][] grown = Arrays.copyOf(textPages, pages);
+                    grown[pages - 1] = new int[PAGE];
+                    textPages = grown;
+                }
+        }
+        return start;
+    }
+
+    /**
+     * Sets a record's fields to their starting values, before the record
+     * is handed out.
+     */
+    private void reset(int[] records, int record, AssetLayout layout) {
+        int words = (layout.flags() + 63) / 64;
+        for (int w = 0; w < words; w++) {
+            int word = records[FIELDS * record + 1] + w;
+            flagPages[word >>> PAGE_SHIFT][word & PAGE_MASK] = 0;
+        }
+        for (int field = 0; field < layout.fields(); field++) {
+            int offset = layout.offset(field);
+            switch (layout.storage(field)) {
+                case AssetLayout.FLAG:
+                    if (layout.defaultValue(field) != 0) {
+                        int word = records[FIELDS * record + 1] + (offset >>> 6);
+                        flagPages[word >>> PAGE_SHIFT][word & PAGE_MASK] |= 1L << offset;
+                    }
+                    break;
+                case AssetLayout.BYTE: {
+                    int i = records[FIELDS * record + 2] + offset;
+                    bytePages[i >>> PAGE_SHIFT][i & PAGE_MASK] = (byte) layout.defaultValue(field);
+                    break;
+                }
+                case AssetLayout.SHORT: {
+                    int i = records[FIELDS * record + 3] + offset;
+                    shortPages[i >>> PAGE_SHIFT][i & PAGE_MASK] = (short) layout.defaultValue(field);
+                    break;
+                }
+                case AssetLayout.METER: {
+                    int i = records[FIELDS * record + 3] + offset;
+                    shortPages[i >>> PAGE_SHIFT][i & PAGE_MASK] = meter(layout.max(field), layout.defaultValue(field));
+                    break;
+                }
+                default: {
+                    int i = records[FIELDS * record + 4] + offset;
+                    textPages[i >>> PAGE_SHIFT][i & PAGE_MASK] = intern(layout.defaultText(field));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,646 @@
+package Datasworn.character;
+
+import Datasworn.Asset;
+import Datasworn.AssetAbility;
+import Datasworn.AssetControlField;
+import Datasworn.AssetIdWildcard;
+import Datasworn.AssetOptionField;
+import Datasworn.AssetOptionFieldSelectValue;
+import Datasworn.ConditionMeterRule;
+import Datasworn.DictKey;
+import Datasworn.Move;
+import Datasworn.MoveActionRoll;
+import Datasworn.MoveEnhancement;
+import Datasworn.MoveEnhancementActionRoll;
+import Datasworn.RollableValue;
+import Datasworn.RollableValueAssetControl;
+import Datasworn.RollableValueAssetOption;
+import Datasworn.RollableValueAttachedAssetControl;
+import Datasworn.RollableValueAttachedAssetOption;
+import Datasworn.RollableValueConditionMeter;
+import Datasworn.RollableValueCustom;
+import Datasworn.RollableValueStat;
+import Datasworn.Rules;
+import Datasworn.RulesExpansion;
+import Datasworn.RulesPackage;
+import Datasworn.RulesPackageExpansion;
+import Datasworn.RulesPackageRuleset;
+import Datasworn.SelectValueFieldChoice;
+import Datasworn.SelectValueFieldChoiceAssetControl;
+import Datasworn.SelectValueFieldChoiceAssetOption;
+import Datasworn.SelectValueFieldChoiceAttachedAssetControl;
+import Datasworn.SelectValueFieldChoiceAttachedAssetOption;
+import Datasworn.SelectValueFieldChoiceConditionMeter;
+import Datasworn.SelectValueFieldChoiceCustom;
+import Datasworn.SelectValueFieldChoiceStat;
+import Datasworn.StatRule;
+import Datasworn.TriggerActionRollCondition;
+import Datasworn.TriggerActionRollConditionEnhancement;
+import Datasworn.index.DataswornIndex;
+import Datasworn.index.WildcardMatcher;
+import Datasworn.moves.RollValues;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The layout of a character's state, derived from the rules and assets of
+ * the packages in an index, and the roll options of their moves compiled
+ * against it.<p>
+ * Stats and condition meters get dense indexes into one {@code byte[]}, stats
+ * first. Every asset gets a dense handle, and each of its controls and
+ * options a dense slot, with each asset's slots in one run, and an
+ * {@link AssetLayout} that maps each control slot to a field of the asset's
+ * records in an {@link AssetStateStore}, where a {@link CharacterState} keeps
+ * its controls. Options are kept by the state, in a small array for each
+ * asset it owns, indexed from the asset's first slot.
+ * Each {@code RollableValue} and {@code SelectValueFieldChoice} in the
+ * packages is compiled into a {@link RollOption} that knows the indexes and
+ * slots it reads, with asset wildcards resolved and the asset it belongs to
+ * (for options without {@code assets}, and for attached assets) worked out,
+ * so evaluating one reads arrays rather than walking {@code Asset.controls}
+ * and {@code options} by key. Schemas are immutable and safe to share
+ * between threads.
+ * <pre>
+ * CharacterSchema schema = CharacterSchema.of(index);
+ * AssetStateStore store = AssetStateStore.of(schema);
+ * CharacterState state = CharacterState.of(store);
+ * state.setStat(schema.stat("iron"), 3);
+ * List&lt;RollOdds[]&gt; odds = MoveOdds.of(move, schema.values(state), 0, momentum, true, 0);
+ * </pre>
+ */
+public final class CharacterSchema {
+    private final String[] stats;
+    private final String[] meters;
+    private final byte[] meterMins;
+    private final byte[] meterMaxes;
+    private final byte[] meterDefaults;
+    private final Map<String, Integer> statIndexes = new HashMap<>();
+    private final Map<String, Integer> meterIndexes = new HashMap<>();
+
+    private final Asset[] assets;
+    private final Map<String, Integer> assetHandles = new HashMap<>();
+    /** For each asset, its controls' slots and its options' slots by key. */
+    private final List<Map<String, Integer>> controlSlots = new ArrayList<>();
+    private final List<Map<String, Integer>> optionSlots = new ArrayList<>();
+    private final int controlCount;
+    private final int optionCount;
+    /** For each asset, its first option slot, and one past the last asset's. */
+    private final int[] optionStarts;
+    /** For each control slot and option slot, the asset it belongs to. */
+    private final int[] controlAssets;
+    private final int[] optionAssets;
+    private final AssetControlField[] controls;
+    private final AssetLayout[] layouts;
+    /** For each control slot, its field in its asset's layout. */
+    private final int[] controlFields;
+    private final AssetOptionField[] options;
+    /** For each option slot, the keys of its choices, and each compiled, or empty. */
+    private final String[][] choiceKeys;
+    private final RollOption[][] choices;
+    private final Map<RollableValue, RollOption> compiled = new IdentityHashMap<>();
+
+    private CharacterSchema(DataswornIndex index) {
+        Map<String, StatRule> statRules = new LinkedHashMap<>();
+        Map<String, ConditionMeterRule> meterRules = new LinkedHashMap<>();
+        for (RulesPackage rulesPackage : index.packages()) {
+            rules(rulesPackage, statRules, meterRules);
+        }
+        if (statRules.size() + meterRules.size() > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many stats and condition meters");
+        }
+        stats = statRules.keySet().toArray(new String[0]);
+        meters = meterRules.keySet().toArray(new String[0]);
+        meterMins = new byte[meters.length];
+        meterMaxes = new byte[meters.length];
+        meterDefaults = new byte[meters.length];
+        for (int i = 0; i < stats.length; i++) {
+            statIndexes.put(stats[i], i);
+        }
+        for (int i = 0; i < meters.length; i++) {
+            meterIndexes.put(meters[i], i);
+            ConditionMeterRule rule = meterRules.get(meters[i]);
+            meterMins[i] = rule.getMin() == null ? 0 : rule.getMin();
+            meterMaxes[i] = rule.getMax() == null ? Byte.MAX_VALUE : rule.getMax();
+            meterDefaults[i] = rule.getValue() == null ? meterMins[i] : rule.getValue();
+        }
+
+        List<Asset> found = new ArrayList<>();
+        List<AssetControlField> controlList = new ArrayList<>();
+        List<AssetOptionField> optionList = new ArrayList<>();
+        List<Integer> controlStartList = new ArrayList<>();
+        List<Integer> optionStartList = new ArrayList<>();
+        for (int handle = 0; handle < index.size(); handle++) {
+            String id = index.id(handle);
+            Object node = index.get(id);
+            if (!(node instanceof Asset)) {
+                continue;
+            }
+            Asset asset = (Asset) node;
+            assetHandles.put(id, found.size());
+            found.add(asset);
+            controlStartList.add(controlList.size());
+            optionStartList.add(optionList.size());
+            Map<String, Integer> assetControls = new HashMap<>();
+            if (asset.getControls() != null) {
+                asset.getControls().forEach((key, control) -> {
+                    assetControls.put(key, controlList.size());
+                    controlList.add(control);
+                });
+            }
+            controlSlots.add(assetControls);
+            Map<String, Integer> assetOptions = new HashMap<>();
+            if (asset.getOptions() != null) {
+                asset.getOptions().forEach((key, option) -> {
+                    assetOptions.put(key, optionList.size());
+                    optionList.add(option);
+                });
+            }
+            optionSlots.add(assetOptions);
+        }
+        assets = found.toArray(new Asset[0]);
+        controls = controlList.toArray(new AssetControlField[0]);
+        options = optionList.toArray(new AssetOptionField[0]);
+        controlCount = controls.length;
+        optionCount = options.length;
+        controlStartList.add(controlCount);
+        optionStartList.add(optionCount);
+        int[] controlStarts = controlStartList.stream().mapToInt(Integer::intValue).toArray();
+        optionStarts = optionStartList.stream().mapToInt(Integer::intValue).toArray();
+        controlAssets = new int[controlCount];
+        optionAssets = new int[optionCount];
+        layouts = new AssetLayout[assets.length];
+        controlFields = new int[controlCount];
+        for (int asset = 0; asset < assets.length; asset++) {
+            Arrays.fill(controlAssets, controlStarts[asset], controlStarts[asset + 1], asset);
+            Arrays.fill(optionAssets, optionStarts[asset], optionStarts[asset + 1], asset);
+            layouts[asset] = AssetLayout.of(assets[asset]);
+            for (Map.Entry<String, Integer> control : controlSlots.get(asset).entrySet()) {
+                controlFields[control.getValue()] = layouts[asset].field(control.getKey());
+            }
+        }
+
+        choiceKeys = new String[optionCount][];
+        choices = new RollOption[optionCount][];
+        for (int asset = 0; asset < assets.length; asset++) {
+            for (Map.Entry<String, Integer> option : optionSlots.get(asset).entrySet()) {
+                int slot = option.getValue();
+                Map<String, SelectValueFieldChoice> fieldChoices = options[slot] instanceof AssetOptionFieldSelectValue
+                        ? ((AssetOptionFieldSelectValue) options[slot]).getChoices() : null;
+                if (fieldChoices == null) {
+                    choiceKeys[slot] = new String[0];
+                    choices[slot] = new RollOption[0];
+                    continue;
+                }
+                if (fieldChoices.size() > Byte.MAX_VALUE) {
+                    throw new IllegalArgumentException("Option " + option.getKey() + " of " + assetId(asset)
+                            + " has too many choices");
+                }
+                choiceKeys[slot] = fieldChoices.keySet().toArray(new String[0]);
+                choices[slot] = new RollOption[choiceKeys[slot].length];
+            }
+        }
+        // Choices can refer to other options, so every slot exists before any is compiled.
+        for (int asset = 0; asset < assets.length; asset++) {
+            for (int slot : optionSlots.get(asset).values()) {
+                if (options[slot] instanceof AssetOptionFieldSelectValue) {
+                    Map<String, SelectValueFieldChoice> fieldChoices =
+                            ((AssetOptionFieldSelectValue) options[slot]).getChoices();
+                    for (int choice = 0; choice < choices[slot].length; choice++) {
+                        choices[slot][choice] = compile(fieldChoices.get(choiceKeys[slot][choice]), asset, index);
+                    }
+                }
+            }
+        }
+
+        for (int asset = 0; asset < assets.length; asset++) {
+            if (assets[asset].getAbilities() == null) {
+                continue;
+            }
+            for (AssetAbility ability : assets[asset].getAbilities()) {
+                if (ability.getMoves() != null) {
+                    for (Move move : ability.getMoves().values()) {
+                        compileMove(move, asset, index);
+                    }
+                }
+                if (ability.getEnhanceMoves() != null) {
+                    for (MoveEnhancement enhancement : ability.getEnhanceMoves()) {
+                        compileEnhancement(enhancement, asset, index);
+                    }
+                }
+            }
+        }
+        for (int handle = 0; handle < index.size(); handle++) {
+            Object node = index.get(index.id(handle));
+            if (node instanceof Move) {
+                // Moves of asset abilities were compiled with their asset above.
+                compileMove((Move) node, -1, index);
+            }
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if there are more than 127 stats and
+     *                                  condition meters, an option has more
+     *                                  than 127 choices, or an asset can't
+     *                                  be laid out.
+     */
+    public static CharacterSchema of(DataswornIndex index) {
+        return new CharacterSchema(index);
+    }
+
+    public int stats() {
+        return stats.length;
+    }
+
+    /**
+     * Returns the index of a stat, such as {@code iron}, or -1.
+     */
+    public int stat(String key) {
+        return statIndexes.getOrDefault(key, -1);
+    }
+
+    public String statKey(int stat) {
+        return stats[stat];
+    }
+
+    public int meters() {
+        return meters.length;
+    }
+
+    /**
+     * Returns the index of a condition meter, such as {@code health}, or -1.
+     */
+    public int meter(String key) {
+        return meterIndexes.getOrDefault(key, -1);
+    }
+
+    public String meterKey(int meter) {
+        return meters[meter];
+    }
+
+    public int meterMin(int meter) {
+        return meterMins[meter];
+    }
+
+    public int meterMax(int meter) {
+        return meterMaxes[meter];
+    }
+
+    /**
+     * Returns the value a condition meter starts at.
+     */
+    public int meterDefault(int meter) {
+        return meterDefaults[meter];
+    }
+
+    public int assets() {
+        return assets.length;
+    }
+
+    /**
+     * Returns the handle of an asset, or -1.
+     */
+    public int asset(String id) {
+        return assetHandles.getOrDefault(id, -1);
+    }
+
+    public String assetId(int asset) {
+        return assets[asset].getId() == null ? null : assets[asset].getId().getValue();
+    }
+
+    public Asset assetSource(int asset) {
+        return assets[asset];
+    }
+
+    /**
+     * Returns the number of control slots across every asset.
+     */
+    public int controlSlots() {
+        return controlCount;
+    }
+
+    /**
+     * Returns the slot of an asset's control, or -1 if it has none with that
+     * key.
+     */
+    public int controlSlot(int asset, String control) {
+        return controlSlots.get(asset).getOrDefault(control, -1);
+    }
+
+    public AssetControlField control(int slot) {
+        return controls[slot];
+    }
+
+    /**
+     * Returns the layout of an asset's records in an
+     * {@link AssetStateStore}.
+     */
+    public AssetLayout layout(int asset) {
+        return layouts[asset];
+    }
+
+    /**
+     * Returns the asset a control slot belongs to.
+     */
+    public int controlAsset(int slot) {
+        return controlAssets[slot];
+    }
+
+    /**
+     * Returns a control slot's field in its asset's {@link #layout}.
+     */
+    public int controlField(int slot) {
+        return controlFields[slot];
+    }
+
+    public int optionSlots() {
+        return optionCount;
+    }
+
+    /**
+     * Returns the slot of an asset's option, or -1 if it has none with that
+     * key.
+     */
+    public int optionSlot(int asset, String option) {
+        return optionSlots.get(asset).getOrDefault(option, -1);
+    }
+
+    public AssetOptionField option(int slot) {
+        return options[slot];
+    }
+
+    /**
+     * Returns the number of choices of a {@code select_value} option, or 0
+     * for other options.
+     */
+    public int choices(int optionSlot) {
+        return choiceKeys[optionSlot].length;
+    }
+
+    /**
+     * Returns the index of an option's choice, or -1.
+     */
+    public int choice(int optionSlot, String key) {
+        return Arrays.asList(choiceKeys[optionSlot]).indexOf(key);
+    }
+
+    public String choiceKey(int optionSlot, int choice) {
+        return choiceKeys[optionSlot][choice];
+    }
+
+    /**
+     * Returns an option's choice, compiled.
+     */
+    public RollOption choiceOption(int optionSlot, int choice) {
+        return choices[optionSlot][choice];
+    }
+
+    /**
+     * Returns the compiled form of a roll option found in the packages, or
+     * null if it isn't one of theirs.
+     */
+    public RollOption option(RollableValue value) {
+        return compiled.get(value);
+    }
+
+    /**
+     * Returns the values of a character's roll options, for
+     * {@link Datasworn.moves.MoveOdds}. Options that aren't in the packages
+     * are compiled on the spot, as if they belonged to no asset.
+     */
+    public RollValues values(CharacterState state) {
+        return value -> {
+            RollOption option = compiled.get(value);
+            if (option == null) {
+                option = compile(value, -1, null);
+            }
+            return option.value(state);
+        };
+    }
+
+    int optionAsset(int slot) {
+        return optionAssets[slot];
+    }
+
+    int firstOption(int asset) {
+        return optionStarts[asset];
+    }
+
+    int optionCount(int asset) {
+        return optionStarts[asset + 1] - optionStarts[asset];
+    }
+
+    int choiceDefault(int slot) {
+        if (options[slot] instanceof AssetOptionFieldSelectValue) {
+            DictKey value = ((AssetOptionFieldSelectValue) options[slot]).getValue();
+            return value == null ? -1 : choice(slot, value.getValue());
+        }
+        return -1;
+    }
+
+    private void compileMove(Move move, int asset, DataswornIndex index) {
+        if (!(move instanceof MoveActionRoll) || ((MoveActionRoll) move).getTrigger() == null) {
+            return;
+        }
+        List<TriggerActionRollCondition> conditions = ((MoveActionRoll) move).getTrigger().getConditions();
+        if (conditions == null) {
+            return;
+        }
+        for (TriggerActionRollCondition condition : conditions) {
+            compileAll(condition.getRollOptions(), asset, index);
+        }
+    }
+
+    private void compileEnhancement(MoveEnhancement enhancement, int asset, DataswornIndex index) {
+        if (!(enhancement instanceof MoveEnhancementActionRoll)
+                || ((MoveEnhancementActionRoll) enhancement).getTrigger() == null) {
+            return;
+        }
+        List<TriggerActionRollConditionEnhancement> conditions =
+                ((MoveEnhancementActionRoll) enhancement).getTrigger().getConditions();
+        if (conditions == null) {
+            return;
+        }
+        for (TriggerActionRollConditionEnhancement condition : conditions) {
+            compileAll(condition.getRollOptions(), asset, index);
+        }
+    }
+
+    private void compileAll(List<RollableValue> values, int asset, DataswornIndex index) {
+        if (values == null) {
+            return;
+        }
+        for (RollableValue value : values) {
+            if (!compiled.containsKey(value)) {
+                compiled.put(value, compile(value, asset, index));
+            }
+        }
+    }
+
+    /**
+     * Compiles a roll option that belongs to {@code asset}, or to no asset
+     * for -1. Asset wildcards are only resolved with an index.
+     */
+    RollOption compile(RollableValue value, int asset, DataswornIndex index) {
+        if (value instanceof RollableValueStat) {
+            RollableValueStat stat = (RollableValueStat) value;
+            return stat(stat.getStat() == null ? null : stat.getStat().getValue());
+        }
+        if (value instanceof RollableValueConditionMeter) {
+            RollableValueConditionMeter meter = (RollableValueConditionMeter) value;
+            return meter(meter.getConditionMeter() == null ? null : meter.getConditionMeter().getValue());
+        }
+        if (value instanceof RollableValueCustom) {
+            Short custom = ((RollableValueCustom) value).getValue();
+            return RollOption.constant(custom == null ? RollValues.NONE : custom);
+        }
+        if (value instanceof RollableValueAssetControl) {
+            RollableValueAssetControl control = (RollableValueAssetControl) value;
+            return assetControl(control.getAssets(), key(control.getControl()), asset, index);
+        }
+        if (value instanceof RollableValueAssetOption) {
+            RollableValueAssetOption option = (RollableValueAssetOption) value;
+            return assetOption(option.getAssets(), key(option.getOption()), asset, index);
+        }
+        if (value instanceof RollableValueAttachedAssetControl) {
+            return attached(key(((RollableValueAttachedAssetControl) value).getControl()), asset, false);
+        }
+        if (value instanceof RollableValueAttachedAssetOption) {
+            return attached(key(((RollableValueAttachedAssetOption) value).getOption()), asset, true);
+        }
+        throw new IllegalArgumentException("Unknown RollableValue subtype " + value.getClass().getName());
+    }
+
+    private RollOption compile(SelectValueFieldChoice value, int asset, DataswornIndex index) {
+        if (value instanceof SelectValueFieldChoiceStat) {
+            SelectValueFieldChoiceStat stat = (SelectValueFieldChoiceStat) value;
+            return stat(stat.getStat() == null ? null : stat.getStat().getValue());
+        }
+        if (value instanceof SelectValueFieldChoiceConditionMeter) {
+            SelectValueFieldChoiceConditionMeter meter = (SelectValueFieldChoiceConditionMeter) value;
+            return meter(meter.getConditionMeter() == null ? null : meter.getConditionMeter().getValue());
+        }
+        if (value instanceof SelectValueFieldChoiceCustom) {
+            Short custom = ((SelectValueFieldChoiceCustom) value).getValue();
+            return RollOption.constant(custom == null ? RollValues.NONE : custom);
+        }
+        if (value instanceof SelectValueFieldChoiceAssetControl) {
+            SelectValueFieldChoiceAssetControl control = (SelectValueFieldChoiceAssetControl) value;
+            return assetControl(control.getAssets(), key(control.getControl()), asset, index);
+        }
+        if (value instanceof SelectValueFieldChoiceAssetOption) {
+            SelectValueFieldChoiceAssetOption option = (SelectValueFieldChoiceAssetOption) value;
+            return assetOption(option.getAssets(), key(option.getOption()), asset, index);
+        }
+        if (value instanceof SelectValueFieldChoiceAttachedAssetControl) {
+            return attached(key(((SelectValueFieldChoiceAttachedAssetControl) value).getControl()), asset, false);
+        }
+        if (value instanceof SelectValueFieldChoiceAttachedAssetOption) {
+            return attached(key(((SelectValueFieldChoiceAttachedAssetOption) value).getOption()), asset, true);
+        }
+        throw new IllegalArgumentException("Unknown SelectValueFieldChoice subtype " + value.getClass().getName());
+    }
+
+    private RollOption stat(DictKey key) {
+        int stat = key == null ? -1 : stat(key.getValue());
+        return stat < 0 ? RollOption.constant(RollValues.NONE) : RollOption.value(stat);
+    }
+
+    private RollOption meter(DictKey key) {
+        int meter = key == null ? -1 : meter(key.getValue());
+        return meter < 0 ? RollOption.constant(RollValues.NONE) : RollOption.value(stats.length + meter);
+    }
+
+    private RollOption assetControl(List<AssetIdWildcard> wildcards, String key, int asset, DataswornIndex index) {
+        int[] owners = owners(wildcards, asset, index);
+        int[] slots = new int[owners.length];
+        int count = 0;
+        for (int owner : owners) {
+            int slot = key == null ? -1 : controlSlot(owner, key);
+            if (slot >= 0) {
+                owners[count] = owner;
+                slots[count++] = slot;
+            }
+        }
+        return RollOption.assetControl(Arrays.copyOf(owners, count), Arrays.copyOf(slots, count));
+    }
+
+    private RollOption assetOption(List<AssetIdWildcard> wildcards, String key, int asset, DataswornIndex index) {
+        int[] owners = owners(wildcards, asset, index);
+        int[] slots = new int[owners.length];
+        int count = 0;
+        for (int owner : owners) {
+            int slot = key == null ? -1 : optionSlot(owner, key);
+            if (slot >= 0) {
+                owners[count] = owner;
+                slots[count++] = slot;
+            }
+        }
+        return RollOption.assetOption(this, Arrays.copyOf(owners, count), Arrays.copyOf(slots, count));
+    }
+
+    /**
+     * Compiles a reference to the asset this one is attached to: a slot for
+     * the key on every asset, since the host is only known from the state.
+     */
+    private RollOption attached(String key, int asset, boolean option) {
+        if (asset < 0 || key == null) {
+            return RollOption.constant(RollValues.NONE);
+        }
+        int[] slots = new int[assets.length];
+        for (int host = 0; host < assets.length; host++) {
+            slots[host] = option ? optionSlot(host, key) : controlSlot(host, key);
+        }
+        return RollOption.attached(this, asset, slots, option);
+    }
+
+    /**
+     * Returns the assets that {@code assets} wildcards name, or just the
+     * asset the option belongs to when there are none.
+     */
+    private int[] owners(List<AssetIdWildcard> wildcards, int asset, DataswornIndex index) {
+        if (wildcards == null || wildcards.isEmpty()) {
+            return asset < 0 ? new int[0] : new int[] {asset};
+        }
+        if (index == null) {
+            return new int[0];
+        }
+        return WildcardMatcher.compileAssets(wildcards).select(index).stream()
+                .mapToInt(this::asset)
+                .filter(handle -> handle >= 0)
+                .toArray();
+    }
+
+    private static String key(DictKey key) {
+        return key == null ? null : key.getValue();
+    }
+
+    private static void rules(RulesPackage rulesPackage, Map<String, StatRule> stats,
+            Map<String, ConditionMeterRule> meters) {
+        Map<String, StatRule> packageStats;
+        Map<String, ConditionMeterRule> packageMeters;
+        if (rulesPackage instanceof RulesPackageRuleset) {
+            Rules rules = ((RulesPackageRuleset) rulesPackage).getRules();
+            packageStats = rules == null ? null : rules.getStats();
+            packageMeters = rules == null ? null : rules.getConditionMeters();
+        } else if (rulesPackage instanceof RulesPackageExpansion) {
+            RulesExpansion rules = ((RulesPackageExpansion) rulesPackage).getRules();
+            packageStats = rules == null ? null : rules.getStats();
+            packageMeters = rules == null ? null : rules.getConditionMeters();
+        } else {
+            throw new IllegalArgumentException("Unknown RulesPackage subtype " + rulesPackage.getClass().getName());
+        }
+        if (packageStats != null) {
+            packageStats.forEach(stats::putIfAbsent);
+        }
+        if (packageMeters != null) {
+            packageMeters.forEach(meters::putIfAbsent);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package Datasworn.character;
+
+import java.util.Arrays;
+
+/**
+ * One character's stats, condition meters and assets, laid out by a
+ * {@link CharacterSchema}: stats and meters in one {@code byte[]}, and for
+ * each asset they own, kept in order of handle, the asset it's attached to,
+ * its record in an {@link AssetStateStore}, which holds its controls, and
+ * its chosen options, in an array as long as the asset has option slots. So
+ * a character costs a few dozen bytes plus their assets, rather than an
+ * entry for every asset in the packages, and their controls have one home,
+ * shared with anything else that reads the store.<p>
+ * A new state starts with the meters at the values the rules give them, and
+ * each asset's controls and options at the values it gives them when it's
+ * owned. States aren't thread-safe.
+ * <pre>
+ * CharacterState state = CharacterState.of(store);
+ * state.setOwned(starship, true);
+ * state.setControl(schema.controlSlot(starship, "integrity"), 4);
+ * int integrity = store.get(state.record(starship), schema.layout(starship).field("integrity"));
+ * </pre>
+ */
+public final class CharacterState {
+    private final CharacterSchema schema;
+    private final AssetStateStore store;
+    private final byte[] values;
+    private int size;
+    /** The handles of the owned assets, ascending. */
+    private int[] assets = new int[4];
+    /** For each owned asset, the asset it's attached to, or -1. */
+    private int[] hosts = new int[4];
+    /** For each owned asset, its record in the store. */
+    private int[] records = new int[4];
+    /** For each owned asset, the index of the choice made for each option, or -1. */
+    private byte[][] options = new byte[4][];
+
+    private CharacterState(AssetStateStore store) {
+        this.schema = store.schema();
+        this.store = store;
+        values = new byte[schema.stats() + schema.meters()];
+        for (int meter = 0; meter < schema.meters(); meter++) {
+            values[schema.stats() + meter] = (byte) schema.meterDefault(meter);
+        }
+    }
+
+    /**
+     * Creates a state whose assets' controls are records in {@code store}.
+     */
+    public static CharacterState of(AssetStateStore store) {
+        return new CharacterState(store);
+    }
+
+    /**
+     * Creates a state with a store of its own.
+     */
+    public static CharacterState of(CharacterSchema schema) {
+        return new CharacterState(AssetStateStore.of(schema));
+    }
+
+    public CharacterSchema schema() {
+        return schema;
+    }
+
+    public AssetStateStore store() {
+        return store;
+    }
+
+    public int stat(int stat) {
+        return values[stat];
+    }
+
+    public void setStat(int stat, int value) {
+        if (stat < 0 || stat >= schema.stats()) {
+            throw new IndexOutOfBoundsException("Stat " + stat + " out of " + schema.stats());
+        }
+        values[stat] = (byte) Math.max(Byte.MIN_VALUE, Math.min(Byte.MAX_VALUE, value));
+    }
+
+    public int meter(int meter) {
+        return values[schema.stats() + meter];
+    }
+
+    /**
+     * Sets a condition meter, kept within its {@code min} and {@code max}.
+     */
+    public void setMeter(int meter, int value) {
+        int clamped = Math.max(schema.meterMin(meter), Math.min(schema.meterMax(meter), value));
+        values[schema.stats() + meter] = (byte) clamped;
+    }
+
+    public boolean owns(int asset) {
+        return indexOf(asset) >= 0;
+    }
+
+    /**
+     * Returns the number of assets owned.
+     */
+    public int ownedAssets() {
+        return size;
+    }
+
+    /**
+     * Returns the handle of the {@code i}th asset owned, in order of handle.
+     */
+    public int ownedAsset(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Asset " + i + " out of " + size);
+        }
+        return assets[i];
+    }
+
+    /**
+     * Adds an asset, with a new record for its controls and its options at
+     * their starting values, or removes it and its record, detaching the
+     * assets attached to it. Adding an asset already owned keeps its state.
+     */
+    public void setOwned(int asset, boolean owns) {
+        int i = indexOf(asset);
+        if (owns && i < 0) {
+            insert(-i - 1, asset);
+        } else if (!owns && i >= 0) {
+            remove(i);
+            for (int j = 0; j < size; j++) {
+                if (hosts[j] == asset) {
+                    hosts[j] = -1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the record of an owned asset's controls in the
+     * {@linkplain #store() store}, or -1 if it isn't owned.
+     */
+    public int record(int asset) {
+        int i = indexOf(asset);
+        return i < 0 ? -1 : records[i];
+    }
+
+    /**
+     * Returns the asset that {@code asset} is attached to, or -1.
+     */
+    public int host(int asset) {
+        int i = indexOf(asset);
+        return i < 0 ? -1 : hosts[i];
+    }
+
+    /**
+     * Attaches an asset to another, such as a module to a vehicle, or
+     * detaches it with -1.
+     *
+     * @throws IllegalArgumentException if either asset isn't owned.
+     */
+    public void attach(int asset, int host) {
+        int i = owned(asset);
+        if (host >= 0) {
+            owned(host);
+        }
+        hosts[i] = host;
+    }
+
+    /**
+     * Returns a control's value: a meter's value, or 1 for a checked box or
+     * flipped card and 0 otherwise. Controls of assets that aren't owned
+     * have their starting values.
+     */
+    public int control(int slot) {
+        int asset = schema.controlAsset(slot);
+        int i = indexOf(asset);
+        int field = schema.controlField(slot);
+        return i < 0 ? schema.layout(asset).defaultValue(field) : store.get(records[i], field);
+    }
+
+    /**
+     * Sets a control, kept within its bounds by the store: a meter's
+     * {@code min} and its record's {@code max}, and 0 and 1 for a box or
+     * card.
+     *
+     * @throws IllegalArgumentException if the control's asset isn't owned,
+     *                                  or a {@code select_enhancement}
+     *                                  choice is out of range.
+     */
+    public void setControl(int slot, int value) {
+        int asset = schema.controlAsset(slot);
+        store.set(records[owned(asset)], schema.controlField(slot), value);
+    }
+
+    /**
+     * Returns the index of the choice made for an option, or -1.
+     */
+    public int option(int slot) {
+        int asset = schema.optionAsset(slot);
+        int i = indexOf(asset);
+        return i < 0 ? schema.choiceDefault(slot) : options[i][slot - schema.firstOption(asset)];
+    }
+
+    /**
+     * Makes a choice for an option, or clears it with -1.
+     *
+     * @throws IllegalArgumentException if the option's asset isn't owned.
+     * @throws IllegalArgumentException if the choice isn't -1 or one of the
+     *                                  option's choices.
+     */
+    public void choose(int slot, int choice) {
+        if (choice < -1 || choice >= schema.choices(slot)) {
+            throw new IllegalArgumentException("Choice " + choice + " out of " + schema.choices(slot));
+        }
+        int asset = schema.optionAsset(slot);
+        options[owned(asset)][slot - schema.firstOption(asset)] = (byte) choice;
+    }
+
+    /**
+     * Returns a stat, or a meter after the stats, by its index in the
+     * values.
+     */
+    int value(int index) {
+        return values[index];
+    }
+
+    private int indexOf(int asset) {
+        return Arrays.binarySearch(assets, 0, size, asset);
+    }
+
+    private int owned(int asset) {
+        int i = indexOf(asset);
+        if (i < 0) {
+            throw new IllegalArgumentException("Asset " + schema.assetId(asset) + " isn't owned");
+        }
+        return i;
+    }
+
+    private void insert(int i, int asset) {
+        if (size == assets.length) {
+            int capacity = size * 2;
+            assets = Arrays.copyOf(assets, capacity);
+            hosts = Arrays.copyOf(hosts, capacity);
+            records = Arrays.copyOf(records, capacity);
+            options = Arrays.copyOf(options, capacity);
+        }
+        System.arraycopy(assets, i, assets, i + 1, size - i);
+        System.arraycopy(hosts, i, hosts, i + 1, size - i);
+        System.arraycopy(records, i, records, i + 1, size - i);
+        System.arraycopy(options, i, options, i + 1, size - i);
+        size++;
+        assets[i] = asset;
+        hosts[i] = -1;
+        records[i] = store.add(asset);
+        options[i] = new byte[schema.optionCount(asset)];
+        for (int o = 0; o < options[i].length; o++) {
+            options[i][o] = (byte) schema.choiceDefault(schema.firstOption(asset) + o);
+        }
+    }
+
+    private void remove(int i) {
+        store.remove(records[i]);
+        size--;
+        System.arraycopy(assets, i + 1, assets, i, size - i);
+        System.arraycopy(hosts, i + 1, hosts, i, size - i);
+        System.arraycopy(records, i + 1, records, i, size - i);
+        System.arraycopy(options, i + 1, options, i, size - i);
+        options[size] = null;
+    }
+}
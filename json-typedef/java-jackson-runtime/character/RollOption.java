@@ -0,0 +1,105 @@
+package Datasworn.character;
+
+import Datasworn.moves.RollValues;
+
+/**
+ * A {@code RollableValue} or {@code SelectValueFieldChoice} compiled by a
+ * {@link CharacterSchema}: what it reads from a {@link CharacterState},
+ * reduced to indexes and slots.<p>
+ * An asset control or option that several assets could supply reads
+ * whichever of those the character owns, and takes the highest. Options are
+ * immutable and safe to share between threads.
+ */
+public final class RollOption {
+    private static final int CONSTANT = 0;
+    private static final int VALUE = 1;
+    private static final int ASSET_CONTROL = 2;
+    private static final int ASSET_OPTION = 3;
+    private static final int ATTACHED_CONTROL = 4;
+    private static final int ATTACHED_OPTION = 5;
+
+    private final int kind;
+    /** The constant, the stat or meter index, or the asset an attached option belongs to. */
+    private final int index;
+    /** The assets that may supply an asset control or option. */
+    private final int[] assets;
+    /** The slot of the control or option on each of {@code assets}, or on every asset for attached ones. */
+    private final int[] slots;
+    private final CharacterSchema schema;
+
+    private RollOption(int kind, int index, int[] assets, int[] slots, CharacterSchema schema) {
+        this.kind = kind;
+        this.index = index;
+        this.assets = assets;
+        this.slots = slots;
+        this.schema = schema;
+    }
+
+    static RollOption constant(int value) {
+        return new RollOption(CONSTANT, value, null, null, null);
+    }
+
+    /**
+     * Reads a stat or condition meter, by its index in the state's values.
+     */
+    static RollOption value(int index) {
+        return new RollOption(VALUE, index, null, null, null);
+    }
+
+    static RollOption assetControl(int[] assets, int[] slots) {
+        return new RollOption(ASSET_CONTROL, 0, assets, slots, null);
+    }
+
+    static RollOption assetOption(CharacterSchema schema, int[] assets, int[] slots) {
+        return new RollOption(ASSET_OPTION, 0, assets, slots, schema);
+    }
+
+    static RollOption attached(CharacterSchema schema, int asset, int[] slots, boolean option) {
+        return new RollOption(option ? ATTACHED_OPTION : ATTACHED_CONTROL, asset, null, slots, schema);
+    }
+
+    /**
+     * Returns the option's value for a character, or
+     * {@link RollValues#NONE} if they don't have it, such as a control of
+     * an asset they don't own.
+     */
+    public int value(CharacterState state) {
+        switch (kind) {
+            case CONSTANT:
+                return index;
+            case VALUE:
+                return state.value(index);
+            case ASSET_CONTROL:
+            case ASSET_OPTION: {
+                int best = RollValues.NONE;
+                for (int i = 0; i < assets.length; i++) {
+                    if (state.owns(assets[i])) {
+                        int value = kind == ASSET_CONTROL ? state.control(slots[i]) : choice(state, slots[i]);
+                        best = Math.max(best, value);
+                    }
+                }
+                return best;
+            }
+            case ATTACHED_CONTROL:
+            case ATTACHED_OPTION: {
+                int host = state.host(index);
+                int slot = host < 0 ? -1 : slots[host];
+                if (slot < 0) {
+                    return RollValues.NONE;
+                }
+                return kind == ATTACHED_CONTROL ? state.control(slot) : choice(state, slot);
+            }
+            default:
+                throw new IllegalStateException("Unknown kind " + kind);
+        }
+    }
+
+    /**
+     * Evaluates the choice made for an option slot, such as the stat chosen
+     * for an asset that rolls "+your linked stat".
+     */
+    private int choice(CharacterState state, int slot) {
+        int choice = state.option(slot);
+        return choice < 0 ? RollValues.NONE : schema.choiceOption(slot, choice).value(state);
+    }
+}
@@ -0,0 +1,1290 @@
+package Datasworn.codegen;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Generates the streaming reader and writer, the Jackson module and the binary
+ * snapshot reader and writer in {@code io/}, and the content walker in
+ * {@code index/}, from the jtd-codegen Java + Jackson bindings.<p>
+ * The bindings are inspected through their Jackson annotations, so the
+ * generated code always matches the field names, setters and subtype
+ * mappings that jtd-codegen produced. Re-run it whenever the bindings are
+ * regenerated:
+ * <pre>
+ * javac -d build/bindings json-typedef/java-jackson/*.java
+ * javac -cp build/bindings -d build/codegen json-typedef/java-jackson-runtime/codegen/*.java
+ * java -cp build/bindings:build/codegen Datasworn.codegen.StreamingCodegen \
+ *     json-typedef/java-jackson json-typedef/java-jackson-runtime
+ * </pre>
+ */
+public final class StreamingCodegen {
+    static final String HEADER = "// Code generated by Datasworn.codegen.StreamingCodegen. DO NOT EDIT.\n";
+
+    private StreamingCodegen() {
+    }
+
+    public static void main(String[] args) throws IOException, ClassNotFoundException {
+        if (args.length != 2) {
+            System.err.println("Usage: StreamingCodegen <bindings source dir> <runtime source dir>");
+            System.exit(2);
+        }
+        List<Binding> bindings = loadBindings(Paths.get(args[0]));
+        Path out = Paths.get(args[1]);
+        write(out.resolve("io/DataswornReader.java"), new ReaderEmitter(bindings).emit());
+        write(out.resolve("io/DataswornWriter.java"), new WriterEmitter(bindings).emit());
+        write(out.resolve("io/DataswornModule.java"), new ModuleEmitter(bindings).emit());
+        write(out.resolve("io/DataswornSnapshotWriter.java"), new SnapshotWriterEmitter(bindings).emit());
+        write(out.resolve("io/DataswornSnapshotReader.java"), new SnapshotReaderEmitter(bindings).emit());
+        write(out.resolve("index/ContentWalker.java"), new ContentWalkerEmitter(bindings).emit());
+    }
+
+    static void write(Path path, String source) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.write(path, source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static List<Binding> loadBindings(Path sourceDir) throws IOException, ClassNotFoundException {
+        List<String> names;
+        try (Stream<Path> files = Files.list(sourceDir)) {
+            names = files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(".java"))
+                    .map(name -> name.substring(0, name.length() - ".java".length()))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        List<Binding> bindings = new ArrayList<>();
+        for (String name : names) {
+            bindings.add(Binding.of(Class.forName("Datasworn." + name)));
+        }
+        return bindings;
+    }
+
+    /**
+     * How a binding class is represented in JSON.
+     */
+    enum Kind {
+        /** A Java enum whose constants carry {@code @JsonProperty} names. */
+        ENUM,
+        /** A class holding a single {@code @JsonValue} field. */
+        WRAPPER,
+        /** An unsigned number class with its own Jackson (de)serializer. */
+        UNSIGNED,
+        /** An abstract class with {@code @JsonTypeInfo} subtypes. */
+        UNION,
+        /** A class with {@code @JsonProperty} fields. */
+        BEAN,
+    }
+
+    /**
+     * A single JSON property of a {@link Kind#BEAN} binding.
+     */
+    static final class Property {
+        final String jsonName;
+        final String fieldName;
+        final Type type;
+        final boolean optional;
+
+        Property(String jsonName, String fieldName, Type type, boolean optional) {
+            this.jsonName = jsonName;
+            this.fieldName = fieldName;
+            this.type = type;
+            this.optional = optional;
+        }
+
+        String accessorSuffix() {
+            return Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+        }
+    }
+
+    /**
+     * The shape of one binding class, as read from its annotations.
+     */
+    static final class Binding {
+        final Class<?> type;
+        final Kind kind;
+        /** JSON name to constant name, for {@link Kind#ENUM}. */
+        final Map<String, String> constants = new TreeMap<>();
+        /** The wrapped type, for {@link Kind#WRAPPER} and {@link Kind#UNSIGNED}. */
+        Type valueType;
+        /** The discriminator property, for {@link Kind#UNION}. */
+        String discriminator;
+        /** Discriminator value to subtype, for {@link Kind#UNION}. */
+        final Map<String, Class<?>> subtypes = new TreeMap<>();
+        /** Discriminator property and value, for subtypes of a {@link Kind#UNION}. */
+        String parentDiscriminator;
+        String parentTag;
+        final List<Property> properties = new ArrayList<>();
+
+        private Binding(Class<?> type, Kind kind) {
+            this.type = type;
+            this.kind = kind;
+        }
+
+        String name() {
+            return type.getSimpleName();
+        }
+
+        /**
+         * Whether this is an ID or wildcard ID, which readers intern.
+         */
+        boolean isId() {
+            return kind == Kind.WRAPPER && valueType == String.class
+                    && (name().endsWith("Id") || name().endsWith("IdWildcard"));
+        }
+
+        static Binding of(Class<?> type) {
+            if (type.isEnum()) {
+                Binding binding = new Binding(type, Kind.ENUM);
+                for (Field field : type.getFields()) {
+                    JsonProperty json = field.getAnnotation(JsonProperty.class);
+                    if (field.isEnumConstant() && json != null) {
+                        binding.constants.put(json.value(), field.getName());
+                    }
+                }
+                return binding;
+            }
+            if (type.isAnnotationPresent(JsonDeserialize.class)) {
+                Binding binding = new Binding(type, Kind.UNSIGNED);
+                binding.valueType = valueField(type).getType();
+                return binding;
+            }
+            JsonTypeInfo typeInfo = type.getAnnotation(JsonTypeInfo.class);
+            if (typeInfo != null && Modifier.isAbstract(type.getModifiers())) {
+                Binding binding = new Binding(type, Kind.UNION);
+                binding.discriminator = typeInfo.property();
+                for (JsonSubTypes.Type subtype : type.getAnnotation(JsonSubTypes.class).value()) {
+                    binding.subtypes.put(subtype.name(), subtype.value());
+                }
+                return binding;
+            }
+            for (Field field : type.getDeclaredFields()) {
+                if (field.isAnnotationPresent(JsonValue.class)) {
+                    Binding binding = new Binding(type, Kind.WRAPPER);
+                    binding.valueType = field.getGenericType();
+                    return binding;
+                }
+            }
+            Binding binding = new Binding(type, Kind.BEAN);
+            for (Field field : type.getDeclaredFields()) {
+                JsonProperty json = field.getAnnotation(JsonProperty.class);
+                if (json == null) {
+                    continue;
+                }
+                JsonInclude include = field.getAnnotation(JsonInclude.class);
+                boolean optional = include != null && include.value() == JsonInclude.Include.NON_NULL;
+                binding.properties.add(new Property(json.value(), field.getName(), field.getGenericType(), optional));
+            }
+            Class<?> parent = type.getSuperclass();
+            JsonTypeInfo parentInfo = parent == null ? null : parent.getAnnotation(JsonTypeInfo.class);
+            if (parentInfo != null) {
+                binding.parentDiscriminator = parentInfo.property();
+                for (JsonSubTypes.Type subtype : parent.getAnnotation(JsonSubTypes.class).value()) {
+                    if (subtype.value() == type) {
+                        binding.parentTag = subtype.name();
+                    }
+                }
+            }
+            return binding;
+        }
+
+        private static Field valueField(Class<?> type) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    return field;
+                }
+            }
+            throw new IllegalArgumentException(type + " has no value field");
+        }
+    }
+
+    /**
+     * Base for the emitters: type naming and source layout helpers.
+     */
+    abstract static class Emitter {
+        final List<Binding> bindings;
+        final StringBuilder out = new StringBuilder();
+        final TreeSet<String> imports = new TreeSet<>();
+        /** Method suffix to container type, for every List/Map type in use. */
+        final Map<String, Type> containers = new TreeMap<>();
+
+        Emitter(List<Binding> bindings) {
+            this.bindings = bindings;
+            for (Binding binding : bindings) {
+                imports.add(binding.type.getName());
+                for (Property property : binding.properties) {
+                    collectContainers(property.type);
+                }
+                if (binding.valueType != null) {
+                    collectContainers(binding.valueType);
+                }
+            }
+        }
+
+        private void collectContainers(Type type) {
+            if (type instanceof ParameterizedType) {
+                ParameterizedType parameterized = (ParameterizedType) type;
+                imports.add(((Class<?>) parameterized.getRawType()).getName());
+                containers.put(suffix(type), type);
+                for (Type argument : parameterized.getActualTypeArguments()) {
+                    collectContainers(argument);
+                }
+            } else if (type instanceof Class && !((Class<?>) type).isPrimitive()
+                    && !((Class<?>) type).getPackageName().equals("java.lang")) {
+                imports.add(((Class<?>) type).getName());
+            }
+        }
+
+        static String suffix(Type type) {
+            if (type instanceof ParameterizedType) {
+                ParameterizedType parameterized = (ParameterizedType) type;
+                Type[] arguments = parameterized.getActualTypeArguments();
+                return ((Class<?>) parameterized.getRawType()).getSimpleName() + "Of"
+                        + suffix(arguments[arguments.length - 1]);
+            }
+            return boxed((Class<?>) type).getSimpleName();
+        }
+
+        static String typeName(Type type) {
+            if (type instanceof ParameterizedType) {
+                ParameterizedType parameterized = (ParameterizedType) type;
+                return ((Class<?>) parameterized.getRawType()).getSimpleName() + "<"
+                        + Stream.of(parameterized.getActualTypeArguments())
+                                .map(Emitter::typeName)
+                                .collect(Collectors.joining(", "))
+                        + ">";
+            }
+            return ((Class<?>) type).getSimpleName();
+        }
+
+        static Class<?> boxed(Class<?> type) {
+            if (type == byte.class) {
+                return Byte.class;
+            }
+            if (type == short.class) {
+                return Short.class;
+            }
+            if (type == int.class) {
+                return Integer.class;
+            }
+            if (type == boolean.class) {
+                return Boolean.class;
+            }
+            return type;
+        }
+
+        static Type elementType(Type container) {
+            Type[] arguments = ((ParameterizedType) container).getActualTypeArguments();
+            return arguments[arguments.length - 1];
+        }
+
+        static boolean isList(Type container) {
+            return ((ParameterizedType) container).getRawType() == List.class;
+        }
+
+        /**
+         * A 64-bit FNV-1a hash of everything that determines the snapshot
+         * encoding, so that snapshots written by other bindings are rejected.
+         */
+        long schemaFingerprint() {
+            StringBuilder shape = new StringBuilder();
+            for (Binding binding : bindings) {
+                shape.append(binding.name()).append(':').append(binding.kind).append('{');
+                shape.append(binding.constants.keySet()).append(binding.subtypes.keySet());
+                if (binding.valueType != null) {
+                    shape.append(typeName(binding.valueType));
+                }
+                for (Property property : binding.properties) {
+                    shape.append(property.jsonName).append('=').append(typeName(property.type)).append(',');
+                }
+                shape.append('}');
+            }
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : shape.toString().getBytes(StandardCharsets.UTF_8)) {
+                hash = (hash ^ (b & 0xFF)) * 0x100000001b3L;
+            }
+            return hash;
+        }
+
+        /**
+         * The Datasworn version the bindings were generated for.
+         */
+        String dataswornVersion() {
+            for (Binding binding : bindings) {
+                if (binding.name().equals("RulesPackageRulesetDataswornVersion")) {
+                    return binding.constants.keySet().iterator().next();
+                }
+            }
+            throw new IllegalStateException("No RulesPackageRulesetDataswornVersion binding");
+        }
+
+        static String quote(String value) {
+            return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+        }
+
+        Emitter line(String text) {
+            out.append(text.isEmpty() ? "" : text).append('\n');
+            return this;
+        }
+
+        String assemble(String packageLine, String body) {
+            StringBuilder source = new StringBuilder(HEADER).append('\n').append(packageLine).append("\n\n");
+            String previousRoot = null;
+            for (String name : imports) {
+                String root = name.substring(0, name.indexOf('.'));
+                if (previousRoot != null && !previousRoot.equals(root)) {
+                    source.append('\n');
+                }
+                source.append("import ").append(name).append(";\n");
+                previousRoot = root;
+            }
+            return source.append('\n').append(body).toString();
+        }
+    }
+
+    /**
+     * Emits {@code Datasworn.io.DataswornReader}.
+     */
+    static final class ReaderEmitter extends Emitter {
+        ReaderEmitter(List<Binding> bindings) {
+            super(bindings);
+            imports.add("Datasworn.ids.IdPool");
+            imports.add("com.fasterxml.jackson.core.JsonParser");
+            imports.add("com.fasterxml.jackson.core.JsonToken");
+            imports.add("java.io.IOException");
+            imports.add("java.util.ArrayList");
+            imports.add("java.util.LinkedHashMap");
+        }
+
+        String emit() {
+            line("/**");
+            line(" * Reads Datasworn bindings straight off a {@link JsonParser}, one token at a");
+            line(" * time.<p>");
+            line(" * Polymorphic objects are dispatched on their discriminator, found by looking");
+            line(" * ahead in the source bytes, so no object is ever buffered. Unknown");
+            line(" * properties are skipped.");
+            line(" */");
+            line("public final class DataswornReader extends DataswornReaderBase {");
+            line("    /**");
+            line("     * Creates a reader that interns IDs into {@link IdPool#shared()}.");
+            line("     */");
+            line("    public DataswornReader(JsonParser parser, byte[] source) {");
+            line("        super(parser, source, 0, IdPool.shared());");
+            line("    }");
+            line("");
+            line("    /**");
+            line("     * @param sourceOffset where the parser's input starts within {@code source}.");
+            line("     * @param ids          the pool to intern IDs into.");
+            line("     */");
+            line("    public DataswornReader(JsonParser parser, byte[] source, int sourceOffset, IdPool ids) {");
+            line("        super(parser, source, sourceOffset, ids);");
+            line("    }");
+            for (Binding binding : bindings) {
+                line("");
+                switch (binding.kind) {
+                    case ENUM:
+                        emitEnum(binding);
+                        break;
+                    case WRAPPER:
+                        emitWrapper(binding);
+                        break;
+                    case UNSIGNED:
+                        emitUnsigned(binding);
+                        break;
+                    case UNION:
+                        emitUnion(binding);
+                        break;
+                    case BEAN:
+                        emitBean(binding);
+                        break;
+                }
+            }
+            for (Map.Entry<String, Type> container : containers.entrySet()) {
+                line("");
+                emitContainer(container.getKey(), container.getValue());
+            }
+            line("}");
+            return assemble("package Datasworn.io;", out.toString());
+        }
+
+        private void nullGuard() {
+            line("        if (parser.currentToken() == JsonToken.VALUE_NULL) {");
+            line("            return null;");
+            line("        }");
+        }
+
+        private void emitEnum(Binding binding) {
+            String name = binding.name();
+            line("    public " + name + " read" + name + "() throws IOException {");
+            nullGuard();
+            line("        switch (parser.getText()) {");
+            for (Map.Entry<String, String> constant : binding.constants.entrySet()) {
+                line("            case " + quote(constant.getKey()) + ":");
+                line("                return " + name + "." + constant.getValue() + ";");
+            }
+            line("            default:");
+            line("                throw unknownEnumValue(" + quote(name) + ");");
+            line("        }");
+            line("    }");
+        }
+
+        private void emitWrapper(Binding binding) {
+            String name = binding.name();
+            line("    public " + name + " read" + name + "() throws IOException {");
+            nullGuard();
+            if (binding.isId()) {
+                line("        return ids.intern(" + name + ".class, parser.getText(), " + name + "::new);");
+            } else {
+                line("        return new " + name + "(read" + suffix(binding.valueType) + "());");
+            }
+            line("    }");
+        }
+
+        private void emitUnsigned(Binding binding) {
+            String name = binding.name();
+            String primitive = ((Class<?>) binding.valueType).getName();
+            line("    public " + name + " read" + name + "() throws IOException {");
+            nullGuard();
+            line("        return new " + name + "((" + primitive + ") parser.getLongValue());");
+            line("    }");
+        }
+
+        private void emitUnion(Binding binding) {
+            String name = binding.name();
+            line("    public " + name + " read" + name + "() throws IOException {");
+            nullGuard();
+            line("        expectStartObject(" + quote(name) + ");");
+            line("        JsonParser outer = parser;");
+            line("        String tag = discriminator(" + quote(name) + ", " + quote(binding.discriminator) + ");");
+            line("        " + name + " value;");
+            line("        switch (tag) {");
+            for (Map.Entry<String, Class<?>> subtype : binding.subtypes.entrySet()) {
+                String subtypeName = subtype.getValue().getSimpleName();
+                line("            case " + quote(subtype.getKey()) + ":");
+                line("                value = read" + subtypeName + "Fields(new " + subtypeName + "());");
+                line("                break;");
+            }
+            line("            default:");
+            line("                throw unknownDiscriminator(" + quote(name) + ", " + quote(binding.discriminator)
+                    + ", tag);");
+            line("        }");
+            line("        parser = outer;");
+            line("        return value;");
+            line("    }");
+        }
+
+        private void emitBean(Binding binding) {
+            String name = binding.name();
+            line("    public " + name + " read" + name + "() throws IOException {");
+            nullGuard();
+            line("        expectStartObject(" + quote(name) + ");");
+            line("        return read" + name + "Fields(new " + name + "());");
+            line("    }");
+            line("");
+            line("    private " + name + " read" + name + "Fields(" + name + " value) throws IOException {");
+            line("        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {");
+            line("            parser.nextToken();");
+            line("            if (!read" + name + "Field(value, field)) {");
+            line("                parser.skipChildren();");
+            line("            }");
+            line("        }");
+            line("        return value;");
+            line("    }");
+            line("");
+            line("    /**");
+            line("     * Reads the value of one property into {@code value}, returning false if");
+            line("     * the property is unknown and was left unread.");
+            line("     */");
+            line("    boolean read" + name + "Field(" + name + " value, String field) throws IOException {");
+            if (binding.properties.isEmpty()) {
+                line("        return false;");
+            } else {
+                line("        switch (field) {");
+                for (Property property : binding.properties) {
+                    line("            case " + quote(property.jsonName) + ":");
+                    line("                value.set" + property.accessorSuffix() + "(read" + suffix(property.type)
+                            + "());");
+                    line("                return true;");
+                }
+                line("            default:");
+                line("                return false;");
+                line("        }");
+            }
+            line("    }");
+        }
+
+        private void emitContainer(String suffix, Type container) {
+            String type = typeName(container);
+            Type element = elementType(container);
+            line("    public " + type + " read" + suffix + "() throws IOException {");
+            nullGuard();
+            if (isList(container)) {
+                line("        expectStartArray(" + quote(type) + ");");
+                line("        " + type + " list = new ArrayList<>();");
+                line("        while (parser.nextToken() != JsonToken.END_ARRAY) {");
+                line("            list.add(read" + suffix(element) + "());");
+                line("        }");
+                line("        return list;");
+            } else {
+                line("        expectStartObject(" + quote(type) + ");");
+                line("        " + type + " map = new LinkedHashMap<>();");
+                line("        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {");
+                line("            parser.nextToken();");
+                line("            map.put(key, read" + suffix(element) + "());");
+                line("        }");
+                line("        return map;");
+            }
+            line("    }");
+        }
+    }
+
+    /**
+     * Emits {@code Datasworn.io.DataswornWriter}.
+     */
+    static final class WriterEmitter extends Emitter {
+        WriterEmitter(List<Binding> bindings) {
+            super(bindings);
+            imports.add("com.fasterxml.jackson.core.JsonGenerationException");
+            imports.add("com.fasterxml.jackson.core.JsonGenerator");
+            imports.add("java.io.IOException");
+        }
+
+        String emit() {
+            line("/**");
+            line(" * Writes Datasworn bindings straight to a {@link JsonGenerator}.<p>");
+            line(" * Output matches what Jackson writes for the bindings, except that");
+            line(" * polymorphic objects always start with their discriminator, so");
+            line(" * {@link DataswornReader} can read them back without buffering.");
+            line(" */");
+            line("public final class DataswornWriter extends DataswornWriterBase {");
+            line("    public DataswornWriter(JsonGenerator generator) {");
+            line("        super(generator);");
+            line("    }");
+            for (Binding binding : bindings) {
+                line("");
+                switch (binding.kind) {
+                    case ENUM:
+                        emitEnum(binding);
+                        break;
+                    case WRAPPER:
+                        emitWrapper(binding);
+                        break;
+                    case UNSIGNED:
+                        emitUnsigned(binding);
+                        break;
+                    case UNION:
+                        emitUnion(binding);
+                        break;
+                    case BEAN:
+                        emitBean(binding);
+                        break;
+                }
+            }
+            for (Map.Entry<String, Type> container : containers.entrySet()) {
+                line("");
+                emitContainer(container.getKey(), container.getValue());
+            }
+            line("}");
+            return assemble("package Datasworn.io;", out.toString());
+        }
+
+        private void nullGuard() {
+            line("        if (value == null) {");
+            line("            generator.writeNull();");
+            line("            return;");
+            line("        }");
+        }
+
+        private void emitEnum(Binding binding) {
+            String name = binding.name();
+            line("    public void write" + name + "(" + name + " value) throws IOException {");
+            nullGuard();
+            line("        switch (value) {");
+            for (Map.Entry<String, String> constant : binding.constants.entrySet()) {
+                line("            case " + constant.getValue() + ":");
+                line("                generator.writeString(" + quote(constant.getKey()) + ");");
+                line("                break;");
+            }
+            line("        }");
+            line("    }");
+        }
+
+        private void emitWrapper(Binding binding) {
+            String name = binding.name();
+            line("    public void write" + name + "(" + name + " value) throws IOException {");
+            nullGuard();
+            line("        write" + suffix(binding.valueType) + "(value.getValue());");
+            line("    }");
+        }
+
+        private void emitUnsigned(Binding binding) {
+            String name = binding.name();
+            String boxed = boxed((Class<?>) binding.valueType).getSimpleName();
+            line("    public void write" + name + "(" + name + " value) throws IOException {");
+            nullGuard();
+            line("        generator.writeNumber(" + boxed + ".toUnsignedLong(value.getValue()));");
+            line("    }");
+        }
+
+        private void emitUnion(Binding binding) {
+            String name = binding.name();
+            line("    public void write" + name + "(" + name + " value) throws IOException {");
+            nullGuard();
+            String keyword = "if";
+            for (Class<?> subtype : binding.subtypes.values()) {
+                String subtypeName = subtype.getSimpleName();
+                line("        " + keyword + " (value instanceof " + subtypeName + ") {");
+                line("            write" + subtypeName + "((" + subtypeName + ") value);");
+                keyword = "} else if";
+            }
+            line("        } else {");
+            line("            throw new JsonGenerationException(\"Unknown " + name
+                    + " subtype \" + value.getClass().getName(), generator);");
+            line("        }");
+            line("    }");
+        }
+
+        private void emitBean(Binding binding) {
+            String name = binding.name();
+            line("    public void write" + name + "(" + name + " value) throws IOException {");
+            nullGuard();
+            line("        generator.writeStartObject();");
+            if (binding.parentDiscriminator != null) {
+                line("        generator.writeStringField(" + quote(binding.parentDiscriminator) + ", "
+                        + quote(binding.parentTag) + ");");
+            }
+            for (Property property : binding.properties) {
+                String getter = "value.get" + property.accessorSuffix() + "()";
+                String write = "write" + suffix(property.type) + "(" + getter + ");";
+                if (property.optional) {
+                    line("        if (" + getter + " != null) {");
+                    line("            generator.writeFieldName(" + quote(property.jsonName) + ");");
+                    line("            " + write);
+                    line("        }");
+                } else {
+                    line("        generator.writeFieldName(" + quote(property.jsonName) + ");");
+                    line("        " + write);
+                }
+            }
+            line("        generator.writeEndObject();");
+            line("    }");
+        }
+
+        private void emitContainer(String suffix, Type container) {
+            String type = typeName(container);
+            Type element = elementType(container);
+            String elementType = typeName(element);
+            line("    public void write" + suffix + "(" + type + " value) throws IOException {");
+            nullGuard();
+            if (isList(container)) {
+                line("        generator.writeStartArray();");
+                line("        for (" + elementType + " element : value) {");
+                line("            write" + suffix(element) + "(element);");
+                line("        }");
+                line("        generator.writeEndArray();");
+            } else {
+                line("        generator.writeStartObject();");
+                line("        for (Map.Entry<String, " + elementType + "> entry : value.entrySet()) {");
+                line("            generator.writeFieldName(entry.getKey());");
+                line("            write" + suffix(element) + "(entry.getValue());");
+                line("        }");
+                line("        generator.writeEndObject();");
+            }
+            line("    }");
+        }
+    }
+
+    /**
+     * Emits {@code Datasworn.io.DataswornModule}.
+     */
+    static final class ModuleEmitter extends Emitter {
+        ModuleEmitter(List<Binding> bindings) {
+            super(bindings);
+            imports.clear();
+            for (Binding binding : bindings) {
+                imports.add(binding.type.getName());
+            }
+            imports.add("Datasworn.ids.IdPool");
+            imports.add("com.fasterxml.jackson.databind.module.SimpleModule");
+        }
+
+        String emit() {
+            line("/**");
+            line(" * Registers {@link DataswornReader} and {@link DataswornWriter} with an");
+            line(" * {@code ObjectMapper} for every Datasworn binding, replacing bean");
+            line(" * introspection and Jackson's buffering subtype resolution:");
+            line(" * <pre>");
+            line(" * ObjectMapper mapper = new ObjectMapper().registerModule(new DataswornModule());");
+            line(" * </pre>");
+            line(" */");
+            line("public final class DataswornModule extends SimpleModule {");
+            line("    private static final long serialVersionUID = 1L;");
+            line("");
+            line("    /**");
+            line("     * Creates a module that interns IDs into {@link IdPool#shared()}.");
+            line("     */");
+            line("    public DataswornModule() {");
+            line("        this(IdPool.shared());");
+            line("    }");
+            line("");
+            line("    public DataswornModule(IdPool ids) {");
+            line("        super(\"DataswornModule\");");
+            for (Binding binding : bindings) {
+                String name = binding.name();
+                line("        addDeserializer(" + name + ".class, new BindingDeserializer<>(" + name
+                        + ".class, ids, DataswornReader::read" + name + "));");
+                line("        addSerializer(" + name + ".class, new BindingSerializer<>(" + name
+                        + ".class, DataswornWriter::write" + name + "));");
+            }
+            line("    }");
+            line("}");
+            return assemble("package Datasworn.io;", out.toString());
+        }
+    }
+
+    /**
+     * Emits {@code Datasworn.io.DataswornSnapshotWriter}.
+     */
+    static final class SnapshotWriterEmitter extends Emitter {
+        SnapshotWriterEmitter(List<Binding> bindings) {
+            super(bindings);
+        }
+
+        String emit() {
+            line("/**");
+            line(" * Encodes Datasworn bindings into the binary snapshot format read by");
+            line(" * {@link DataswornSnapshotReader}.");
+            line(" */");
+            line("final class DataswornSnapshotWriter extends SnapshotWriterBase {");
+            line("    static final long SCHEMA_FINGERPRINT = " + String.format("0x%016xL", schemaFingerprint()) + ";");
+            line("");
+            line("    static final String DATASWORN_VERSION = " + quote(dataswornVersion()) + ";");
+            line("");
+            line("    /**");
+            line("     * Returns the complete snapshot, once the root value is written.");
+            line("     */");
+            line("    byte[] finish() {");
+            line("        return finish(SCHEMA_FINGERPRINT, DATASWORN_VERSION);");
+            line("    }");
+            for (Binding binding : bindings) {
+                line("");
+                switch (binding.kind) {
+                    case ENUM:
+                        emitEnum(binding);
+                        break;
+                    case WRAPPER:
+                        emitWrapper(binding);
+                        break;
+                    case UNSIGNED:
+                        emitUnsigned(binding);
+                        break;
+                    case UNION:
+                        emitUnion(binding);
+                        break;
+                    case BEAN:
+                        emitBean(binding);
+                        break;
+                }
+            }
+            for (Map.Entry<String, Type> container : containers.entrySet()) {
+                line("");
+                emitContainer(container.getKey(), container.getValue());
+            }
+            line("}");
+            return assemble("package Datasworn.io;", out.toString());
+        }
+
+        private void nullGuard() {
+            line("        if (value == null) {");
+            line("            writeVarLong(0);");
+            line("            return;");
+            line("        }");
+        }
+
+        private void emitEnum(Binding binding) {
+            String name = binding.name();
+            line("    public void write" + name + "(" + name + " value) {");
+            nullGuard();
+            line("        switch (value) {");
+            int tag = 1;
+            for (String constant : binding.constants.values()) {
+                line("            case " + constant + ":");
+                line("                writeVarLong(" + tag++ + ");");
+                line("                break;");
+            }
+            line("        }");
+            line("    }");
+        }
+
+        private void emitWrapper(Binding binding) {
+            String name = binding.name();
+            line("    public void write" + name + "(" + name + " value) {");
+            line("        write" + suffix(binding.valueType) + "(value == null ? null : value.getValue());");
+            line("    }");
+        }
+
+        private void emitUnsigned(Binding binding) {
+            String name = binding.name();
+            line("    public void write" + name + "(" + name + " value) {");
+            line("        writeNumber(value == null ? null : (long) value.getValue());");
+            line("    }");
+        }
+
+        private void emitUnion(Binding binding) {
+            String name = binding.name();
+            line("    public void write" + name + "(" + name + " value) {");
+            nullGuard();
+            String keyword = "if";
+            int tag = 1;
+            for (Class<?> subtype : binding.subtypes.values()) {
+                String subtypeName = subtype.getSimpleName();
+                line("        " + keyword + " (value instanceof " + subtypeName + ") {");
+                line("            writeVarLong(" + tag++ + ");");
+                line("            write" + subtypeName + "((" + subtypeName + ") value);");
+                keyword = "} else if";
+            }
+            line("        } else {");
+            line("            throw new IllegalArgumentException(\"Unknown " + name
+                    + " subtype \" + value.getClass().getName());");
+            line("        }");
+            line("    }");
+        }
+
+        private void emitBean(Binding binding) {
+            String name = binding.name();
+            List<Property> properties = binding.properties;
+            if (properties.size() > 62) {
+                throw new IllegalStateException(name + " has too many properties for a snapshot presence mask");
+            }
+            line("    public void write" + name + "(" + name + " value) {");
+            nullGuard();
+            line("        long mask = 0;");
+            for (int i = 0; i < properties.size(); i++) {
+                line("        if (value.get" + properties.get(i).accessorSuffix() + "() != null) {");
+                line("            mask |= 1L << " + i + ";");
+                line("        }");
+            }
+            line("        writeVarLong(mask << 1 | 1);");
+            for (int i = 0; i < properties.size(); i++) {
+                Property property = properties.get(i);
+                line("        if ((mask & 1L << " + i + ") != 0) {");
+                line("            write" + suffix(property.type) + "(value.get" + property.accessorSuffix() + "());");
+                line("        }");
+            }
+            line("    }");
+        }
+
+        private void emitContainer(String suffix, Type container) {
+            String type = typeName(container);
+            Type element = elementType(container);
+            String elementType = typeName(element);
+            line("    public void write" + suffix + "(" + type + " value) {");
+            nullGuard();
+            line("        writeVarLong(value.size() + 1L);");
+            if (isList(container)) {
+                line("        for (" + elementType + " element : value) {");
+                line("            write" + suffix(element) + "(element);");
+                line("        }");
+            } else {
+                line("        for (Map.Entry<String, " + elementType + "> entry : value.entrySet()) {");
+                line("            writeString(entry.getKey());");
+                line("            write" + suffix(element) + "(entry.getValue());");
+                line("        }");
+            }
+            line("    }");
+        }
+    }
+
+    /**
+     * Emits {@code Datasworn.io.DataswornSnapshotReader}.
+     */
+    static final class SnapshotReaderEmitter extends Emitter {
+        SnapshotReaderEmitter(List<Binding> bindings) {
+            super(bindings);
+            imports.add("Datasworn.ids.IdPool");
+            imports.add("java.io.IOException");
+            imports.add("java.nio.ByteBuffer");
+            imports.add("java.util.ArrayList");
+            imports.add("java.util.LinkedHashMap");
+        }
+
+        String emit() {
+            line("/**");
+            line(" * Decodes Datasworn bindings from the binary snapshot format written by");
+            line(" * {@link DataswornSnapshotWriter}.");
+            line(" */");
+            line("final class DataswornSnapshotReader extends SnapshotReaderBase {");
+            line("    static final long SCHEMA_FINGERPRINT = " + String.format("0x%016xL", schemaFingerprint()) + ";");
+            line("");
+            line("    static final String DATASWORN_VERSION = " + quote(dataswornVersion()) + ";");
+            line("");
+            line("    /**");
+            line("     * @param snapshot a complete snapshot, which is validated first.");
+            line("     * @param ids      the pool to intern IDs into.");
+            line("     */");
+            line("    DataswornSnapshotReader(ByteBuffer snapshot, IdPool ids) throws IOException {");
+            line("        super(payload(snapshot, SCHEMA_FINGERPRINT, DATASWORN_VERSION), ids);");
+            line("    }");
+            for (Binding binding : bindings) {
+                line("");
+                switch (binding.kind) {
+                    case ENUM:
+                        emitEnum(binding);
+                        break;
+                    case WRAPPER:
+                        emitWrapper(binding);
+                        break;
+                    case UNSIGNED:
+                        emitUnsigned(binding);
+                        break;
+                    case UNION:
+                        emitUnion(binding);
+                        break;
+                    case BEAN:
+                        emitBean(binding);
+                        break;
+                }
+            }
+            for (Map.Entry<String, Type> container : containers.entrySet()) {
+                line("");
+                emitContainer(container.getKey(), container.getValue());
+            }
+            line("}");
+            return assemble("package Datasworn.io;", out.toString());
+        }
+
+        private void emitEnum(Binding binding) {
+            String name = binding.name();
+            line("    public " + name + " read" + name + "() throws IOException {");
+            line("        int tag = readVarInt();");
+            line("        switch (tag) {");
+            line("            case 0:");
+            line("                return null;");
+            int tag = 1;
+            for (String constant : binding.constants.values()) {
+                line("            case " + tag++ + ":");
+                line("                return " + name + "." + constant + ";");
+            }
+            line("            default:");
+            line("                throw corrupt(" + quote(name) + ", tag);");
+            line("        }");
+            line("    }");
+        }
+
+        private void emitWrapper(Binding binding) {
+            String name = binding.name();
+            String valueType = typeName(binding.valueType);
+            line("    public " + name + " read" + name + "() throws IOException {");
+            line("        " + valueType + " value = read" + suffix(binding.valueType) + "();");
+            if (binding.isId()) {
+                line("        return value == null ? null : ids.intern(" + name + ".class, value, " + name + "::new);");
+            } else {
+                line("        return value == null ? null : new " + name + "(value);");
+            }
+            line("    }");
+        }
+
+        private void emitUnsigned(Binding binding) {
+            String name = binding.name();
+            Class<?> primitive = (Class<?>) binding.valueType;
+            String boxed = boxed(primitive).getSimpleName();
+            line("    public " + name + " read" + name + "() {");
+            line("        " + boxed + " value = read" + boxed + "();");
+            line("        return value == null ? null : new " + name + "(value);");
+            line("    }");
+        }
+
+        private void emitUnion(Binding binding) {
+            String name = binding.name();
+            line("    public " + name + " read" + name + "() throws IOException {");
+            line("        int tag = readVarInt();");
+            line("        switch (tag) {");
+            line("            case 0:");
+            line("                return null;");
+            int tag = 1;
+            for (Class<?> subtype : binding.subtypes.values()) {
+                line("            case " + tag++ + ":");
+                line("                return read" + subtype.getSimpleName() + "();");
+            }
+            line("            default:");
+            line("                throw corrupt(" + quote(name) + ", tag);");
+            line("        }");
+            line("    }");
+        }
+
+        private void emitBean(Binding binding) {
+            String name = binding.name();
+            List<Property> properties = binding.properties;
+            line("    public " + name + " read" + name + "() throws IOException {");
+            line("        long header = readVarLong();");
+            line("        if (header == 0) {");
+            line("            return null;");
+            line("        }");
+            line("        " + name + " value = new " + name + "();");
+            if (!properties.isEmpty()) {
+                line("        long mask = header >>> 1;");
+            }
+            for (int i = 0; i < properties.size(); i++) {
+                Property property = properties.get(i);
+                line("        if ((mask & 1L << " + i + ") != 0) {");
+                line("            value.set" + property.accessorSuffix() + "(read" + suffix(property.type) + "());");
+                line("        }");
+            }
+            line("        return value;");
+            line("    }");
+        }
+
+        private void emitContainer(String suffix, Type container) {
+            String type = typeName(container);
+            Type element = elementType(container);
+            line("    public " + type + " read" + suffix + "() throws IOException {");
+            line("        int size = readVarInt() - 1;");
+            line("        if (size < 0) {");
+            line("            return null;");
+            line("        }");
+            if (isList(container)) {
+                line("        " + type + " list = new ArrayList<>(size);");
+                line("        for (int i = 0; i < size; i++) {");
+                line("            list.add(read" + suffix(element) + "());");
+                line("        }");
+                line("        return list;");
+            } else {
+                line("        " + type + " map = new LinkedHashMap<>();");
+                line("        for (int i = 0; i < size; i++) {");
+                line("            map.put(readString(), read" + suffix(element) + "());");
+                line("        }");
+                line("        return map;");
+            }
+            line("    }");
+        }
+    }
+
+    /**
+     * Emits {@code Datasworn.index.ContentWalker}, which only visits the
+     * bindings that can hold an ID reference, markdown text or a label.
+     */
+    static final class ContentWalkerEmitter extends Emitter {
+        private final Set<Class<?>> relevant = new HashSet<>();
+
+        ContentWalkerEmitter(List<Binding> bindings) {
+            super(bindings);
+            Map<Class<?>, Binding> byType = new HashMap<>();
+            for (Binding binding : bindings) {
+                byType.put(binding.type, binding);
+                if (binding.isId() || isText(binding)) {
+                    relevant.add(binding.type);
+                }
+            }
+            for (boolean changed = true; changed; ) {
+                changed = false;
+                for (Binding binding : bindings) {
+                    if (relevant.contains(binding.type)) {
+                        continue;
+                    }
+                    boolean holdsReferences = false;
+                    for (Property property : binding.properties) {
+                        holdsReferences |= !property.jsonName.equals("_id") && isRelevant(property.type);
+                    }
+                    for (Class<?> subtype : binding.subtypes.values()) {
+                        holdsReferences |= relevant.contains(subtype);
+                    }
+                    if (holdsReferences) {
+                        relevant.add(binding.type);
+                        changed = true;
+                    }
+                }
+            }
+            imports.clear();
+            for (Binding binding : bindings) {
+                if (relevant.contains(binding.type)) {
+                    imports.add(binding.type.getName());
+                }
+            }
+            containers.values().removeIf(container -> !isRelevant(container));
+            for (Type container : containers.values()) {
+                imports.add(((Class<?>) ((ParameterizedType) container).getRawType()).getName());
+            }
+        }
+
+        private static boolean isText(Binding binding) {
+            return binding.kind == Kind.WRAPPER && (binding.name().equals("MarkdownString")
+                    || binding.name().equals("TemplateString") || isLabel(binding));
+        }
+
+        private static boolean isLabel(Binding binding) {
+            return binding.kind == Kind.WRAPPER && binding.name().equals("Label");
+        }
+
+        private static boolean hasId(Binding binding) {
+            for (Property property : binding.properties) {
+                if (property.jsonName.equals("_id")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isRelevant(Type type) {
+            if (type instanceof ParameterizedType) {
+                return isRelevant(elementType(type));
+            }
+            return relevant.contains(type);
+        }
+
+        String emit() {
+            line("/**");
+            line(" * Visits the content of a tree of Datasworn bindings: typed ID and wildcard");
+            line(" * properties, markdown and template text and the links in it, and labels.");
+            line(" */");
+            line("final class ContentWalker extends ContentWalkerBase {");
+            line("    ContentWalker(Sink sink) {");
+            line("        super(sink);");
+            line("    }");
+            line("");
+            line("    /**");
+            line("     * Walks any binding with an {@code _id}.");
+            line("     */");
+            line("    void walk(Object value) {");
+            String keyword = "if";
+            for (Binding binding : bindings) {
+                if (binding.kind == Kind.BEAN && hasId(binding) && relevant.contains(binding.type)) {
+                    line("        " + keyword + " (value instanceof " + binding.name() + ") {");
+                    line("            walk" + binding.name() + "((" + binding.name() + ") value);");
+                    keyword = "} else if";
+                }
+            }
+            line("        }");
+            line("    }");
+            for (Binding binding : bindings) {
+                if (!relevant.contains(binding.type)) {
+                    continue;
+                }
+                line("");
+                switch (binding.kind) {
+                    case WRAPPER:
+                        emitWrapper(binding);
+                        break;
+                    case UNION:
+                        emitUnion(binding);
+                        break;
+                    case BEAN:
+                        emitBean(binding);
+                        break;
+                    default:
+                        throw new IllegalStateException(binding.name() + " can't hold references");
+                }
+            }
+            for (Map.Entry<String, Type> container : containers.entrySet()) {
+                line("");
+                emitContainer(container.getKey(), container.getValue());
+            }
+            line("}");
+            return assemble("package Datasworn.index;", out.toString());
+        }
+
+        private void emitWrapper(Binding binding) {
+            String name = binding.name();
+            line("    void walk" + name + "(" + name + " value) {");
+            line("        if (value != null) {");
+            line("            " + (binding.isId() ? "reference" : isLabel(binding) ? "label" : "text")
+                    + "(value.getValue());");
+            line("        }");
+            line("    }");
+        }
+
+        private void emitUnion(Binding binding) {
+            String name = binding.name();
+            line("    void walk" + name + "(" + name + " value) {");
+            String keyword = "if";
+            for (Class<?> subtype : binding.subtypes.values()) {
+                if (!relevant.contains(subtype)) {
+                    continue;
+                }
+                String subtypeName = subtype.getSimpleName();
+                line("        " + keyword + " (value instanceof " + subtypeName + ") {");
+                line("            walk" + subtypeName + "((" + subtypeName + ") value);");
+                keyword = "} else if";
+            }
+            line("        }");
+            line("    }");
+        }
+
+        private void emitBean(Binding binding) {
+            String name = binding.name();
+            line("    void walk" + name + "(" + name + " value) {");
+            line("        if (value == null) {");
+            line("            return;");
+            line("        }");
+            Property id = null;
+            for (Property property : binding.properties) {
+                if (property.jsonName.equals("_id")) {
+                    id = property;
+                }
+            }
+            if (id != null) {
+                line("        String id = value.getId() == null ? null : value.getId().getValue();");
+                line("        enter(id);");
+            }
+            for (Property property : binding.properties) {
+                if (property == id || !isRelevant(property.type)) {
+                    continue;
+                }
+                line("        field(" + quote(property.jsonName) + ");");
+                line("        walk" + suffix(property.type) + "(value.get" + property.accessorSuffix() + "());");
+                line("        pop();");
+            }
+            if (id != null) {
+                line("        leave(id);");
+            }
+            line("    }");
+        }
+
+        private void emitContainer(String suffix, Type container) {
+            String type = typeName(container);
+            Type element = elementType(container);
+            String elementType = typeName(element);
+            line("    void walk" + suffix + "(" + type + " value) {");
+            line("        if (value == null) {");
+            line("            return;");
+            line("        }");
+            if (isList(container)) {
+                line("        for (int i = 0; i < value.size(); i++) {");
+                line("            index(i);");
+                line("            walk" + suffix(element) + "(value.get(i));");
+                line("            pop();");
+                line("        }");
+            } else {
+                line("        for (Map.Entry<String, " + elementType + "> entry : value.entrySet()) {");
+                line("            field(entry.getKey());");
+                line("            walk" + suffix(element) + "(entry.getValue());");
+                line("            pop();");
+                line("        }");
+            }
+            line("    }");
+        }
+    }
+}
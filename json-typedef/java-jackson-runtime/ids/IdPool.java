@@ -0,0 +1,127 @@
+package Datasworn.ids;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Interns Datasworn ID objects ({@code MoveId}, {@code OracleRollableId},
+ * {@code AssetIdWildcard} and so on), so that every occurrence of an ID is
+ * the same instance.<p>
+ * The ID bindings don't override {@code equals} or {@code hashCode}, so on
+ * their own two {@code MoveId}s for the same move are unequal. Interned IDs
+ * can be compared with {@code ==} and used as keys of any map, since equal
+ * IDs are the same object. Each interned ID also gets a dense {@code int}
+ * handle, counting up from 0, for array-indexed lookups.<p>
+ * The readers in {@code Datasworn.io} intern every ID they read, into
+ * {@link #shared()} unless they're given another pool. Interned IDs must not
+ * be modified with {@code setValue}. Pools are thread-safe.
+ */
+public final class IdPool {
+    private static final IdPool SHARED = new IdPool();
+
+    private final Map<Class<?>, Map<String, Entry>> tables = new ConcurrentHashMap<>();
+    private final Map<Object, Entry> byInstance = new ConcurrentHashMap<>();
+    private volatile Entry[] entries = new Entry[1024];
+    private int size;
+
+    /**
+     * The pool used by default, shared by every package read in this JVM.
+     */
+    public static IdPool shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the canonical {@code type} instance for {@code value}, creating
+     * it with {@code factory} the first time.
+     */
+    public <T> T intern(Class<T> type, String value, Function<String, T> factory) {
+        Map<String, Entry> table = tables.get(type);
+        if (table != null) {
+            Entry entry = table.get(value);
+            if (entry != null) {
+                return type.cast(entry.id);
+            }
+        }
+        return type.cast(add(type, value, factory).id);
+    }
+
+    /**
+     * Returns the handle of an interned ID, or -1 if {@code id} isn't an
+     * instance interned by this pool.
+     */
+    public int handle(Object id) {
+        Entry entry = byInstance.get(id);
+        return entry == null ? -1 : entry.handle;
+    }
+
+    /**
+     * Returns the handle of the {@code type} ID for {@code value}, or -1 if it
+     * hasn't been interned.
+     */
+    public int handle(Class<?> type, String value) {
+        Map<String, Entry> table = tables.get(type);
+        Entry entry = table == null ? null : table.get(value);
+        return entry == null ? -1 : entry.handle;
+    }
+
+    /**
+     * Returns the interned ID with the given handle.
+     */
+    public Object get(int handle) {
+        return entry(handle).id;
+    }
+
+    /**
+     * Returns the ID string of the interned ID with the given handle.
+     */
+    public String value(int handle) {
+        return entry(handle).value;
+    }
+
+    /**
+     * Returns the number of interned IDs, which is one more than the highest
+     * handle.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private Entry entry(int handle) {
+        Entry[] current = entries;
+        Entry entry = handle >= 0 && handle < current.length ? current[handle] : null;
+        if (entry == null) {
+            throw new IndexOutOfBoundsException("No interned ID with handle " + handle);
+        }
+        return entry;
+    }
+
+    private synchronized <T> Entry add(Class<T> type, String value, Function<String, T> factory) {
+        Map<String, Entry> table = tables.computeIfAbsent(type, key -> new ConcurrentHashMap<>());
+        Entry entry = table.get(value);
+        if (entry == null) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entry = new Entry(factory.apply(value), value, size);
+            entries[size++] = entry;
+            byInstance.put(entry.id, entry);
+            table.put(value, entry);
+        }
+        return entry;
+    }
+
+    private static final class Entry {
+        final Object id;
+        final String value;
+        final int handle;
+
+        Entry(Object id, String value, int handle) {
+            this.id = id;
+            this.value = value;
+            this.handle = handle;
+        }
+    }
+}
@@ -0,0 +1,3144 @@
+// Code generated by Datasworn.codegen.StreamingCodegen. DO NOT EDIT.
+
+package Datasworn.index;
+
+import Datasworn.Asset;
+import Datasworn.AssetAbility;
+import Datasworn.AssetAbilityId;
+import Datasworn.AssetAttachment;
+import Datasworn.AssetCollection;
+import Datasworn.AssetCollectionId;
+import Datasworn.AssetControlField;
+import Datasworn.AssetControlFieldConditionMeter;
+import Datasworn.AssetControlFieldConditionMeterMoves;
+import Datasworn.AssetControlFieldSelectEnhancement;
+import Datasworn.AssetControlFieldSelectEnhancementChoice;
+import Datasworn.AssetControlFieldSelectEnhancementChoiceChoice;
+import Datasworn.AssetControlFieldSelectEnhancementChoiceChoiceGroup;
+import Datasworn.AssetEnhancement;
+import Datasworn.AssetId;
+import Datasworn.AssetIdWildcard;
+import Datasworn.AssetOptionField;
+import Datasworn.AssetOptionFieldSelectEnhancement;
+import Datasworn.AssetOptionFieldSelectEnhancementChoice;
+import Datasworn.AssetOptionFieldSelectEnhancementChoiceChoice;
+import Datasworn.AssetOptionFieldSelectEnhancementChoiceChoiceGroup;
+import Datasworn.AssetOptionFieldSelectValue;
+import Datasworn.AtlasCollection;
+import Datasworn.AtlasCollectionId;
+import Datasworn.AtlasEntry;
+import Datasworn.AtlasEntryId;
+import Datasworn.ConditionMeterRule;
+import Datasworn.DelveSite;
+import Datasworn.DelveSiteDenizen;
+import Datasworn.DelveSiteDomain;
+import Datasworn.DelveSiteDomainId;
+import Datasworn.DelveSiteId;
+import Datasworn.DelveSiteTheme;
+import Datasworn.DelveSiteThemeId;
+import Datasworn.ExpansionId;
+import Datasworn.ImpactCategory;
+import Datasworn.ImpactRule;
+import Datasworn.Label;
+import Datasworn.MarkdownString;
+import Datasworn.Move;
+import Datasworn.MoveActionRoll;
+import Datasworn.MoveCategory;
+import Datasworn.MoveCategoryId;
+import Datasworn.MoveEnhancement;
+import Datasworn.MoveEnhancementActionRoll;
+import Datasworn.MoveEnhancementNoRoll;
+import Datasworn.MoveEnhancementProgressRoll;
+import Datasworn.MoveEnhancementSpecialTrack;
+import Datasworn.MoveId;
+import Datasworn.MoveIdWildcard;
+import Datasworn.MoveNoRoll;
+import Datasworn.MoveOutcome;
+import Datasworn.MoveOutcomes;
+import Datasworn.MoveProgressRoll;
+import Datasworn.MoveSpecialTrack;
+import Datasworn.Npc;
+import Datasworn.NpcCollection;
+import Datasworn.NpcCollectionId;
+import Datasworn.NpcId;
+import Datasworn.NpcVariant;
+import Datasworn.NpcVariantId;
+import Datasworn.OracleCollection;
+import Datasworn.OracleCollectionId;
+import Datasworn.OracleCollectionOracleTableSharedText3;
+import Datasworn.OracleCollectionOracleTableSharedText3ColumnLabels;
+import Datasworn.OracleCollectionTableSharedRolls;
+import Datasworn.OracleCollectionTableSharedRollsColumnLabels;
+import Datasworn.OracleCollectionTableSharedText;
+import Datasworn.OracleCollectionTableSharedText2;
+import Datasworn.OracleCollectionTableSharedText2ColumnLabels;
+import Datasworn.OracleCollectionTableSharedTextColumnLabels;
+import Datasworn.OracleCollectionTables;
+import Datasworn.OracleColumnText;
+import Datasworn.OracleColumnText2;
+import Datasworn.OracleColumnText3;
+import Datasworn.OracleMatchBehavior;
+import Datasworn.OracleRoll;
+import Datasworn.OracleRollTemplate;
+import Datasworn.OracleRollableId;
+import Datasworn.OracleTableRollable;
+import Datasworn.OracleTableRollableTableText;
+import Datasworn.OracleTableRollableTableText2;
+import Datasworn.OracleTableRollableTableText2ColumnLabels;
+import Datasworn.OracleTableRollableTableText3;
+import Datasworn.OracleTableRollableTableText3ColumnLabels;
+import Datasworn.OracleTableRollableTableTextColumnLabels;
+import Datasworn.OracleTableRowText;
+import Datasworn.OracleTableRowText2;
+import Datasworn.OracleTableRowText3;
+import Datasworn.OracleTablesCollection;
+import Datasworn.ProgressTrackTypeInfo;
+import Datasworn.Rarity;
+import Datasworn.RarityId;
+import Datasworn.RollableValue;
+import Datasworn.RollableValueAssetControl;
+import Datasworn.RollableValueAssetOption;
+import Datasworn.Rules;
+import Datasworn.RulesExpansion;
+import Datasworn.RulesPackage;
+import Datasworn.RulesPackageExpansion;
+import Datasworn.RulesPackageRuleset;
+import Datasworn.RulesetId;
+import Datasworn.SelectEnhancementFieldChoice;
+import Datasworn.SelectValueFieldChoice;
+import Datasworn.SelectValueFieldChoiceAssetControl;
+import Datasworn.SelectValueFieldChoiceAssetOption;
+import Datasworn.SpecialTrackRule;
+import Datasworn.StatRule;
+import Datasworn.Suggestions;
+import Datasworn.TagRule;
+import Datasworn.TagRuleAsset;
+import Datasworn.TagRuleAssetCollection;
+import Datasworn.TagRuleAtlasCollection;
+import Datasworn.TagRuleAtlasEntry;
+import Datasworn.TagRuleBoolean;
+import Datasworn.TagRuleDelveSite;
+import Datasworn.TagRuleDelveSiteDomain;
+import Datasworn.TagRuleDelveSiteTheme;
+import Datasworn.TagRuleEnum;
+import Datasworn.TagRuleInteger;
+import Datasworn.TagRuleMove;
+import Datasworn.TagRuleMoveCategory;
+import Datasworn.TagRuleNpc;
+import Datasworn.TagRuleNpcCollection;
+import Datasworn.TagRuleOracleCollection;
+import Datasworn.TagRuleOracleRollable;
+import Datasworn.TagRuleRarity;
+import Datasworn.TagRuleTruth;
+import Datasworn.TemplateString;
+import Datasworn.TriggerActionRoll;
+import Datasworn.TriggerActionRollCondition;
+import Datasworn.TriggerActionRollConditionEnhancement;
+import Datasworn.TriggerActionRollEnhancement;
+import Datasworn.TriggerNoRoll;
+import Datasworn.TriggerNoRollCondition;
+import Datasworn.TriggerNoRollEnhancement;
+import Datasworn.TriggerProgressRoll;
+import Datasworn.TriggerProgressRollCondition;
+import Datasworn.TriggerProgressRollConditionEnhancement;
+import Datasworn.TriggerProgressRollEnhancement;
+import Datasworn.TriggerSpecialTrack;
+import Datasworn.TriggerSpecialTrackCondition;
+import Datasworn.TriggerSpecialTrackConditionEnhancement;
+import Datasworn.TriggerSpecialTrackEnhancement;
+import Datasworn.Truth;
+import Datasworn.TruthId;
+import Datasworn.TruthOption;
+import Datasworn.TruthOptionTable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Visits the content of a tree of Datasworn bindings: typed ID and wildcard
+ * properties, markdown and template text and the links in it, and labels.
+ */
+final class ContentWalker extends ContentWalkerBase {
+    ContentWalker(Sink sink) {
+        super(sink);
+    }
+
+    /**
+     * Walks any binding with an {@code _id}.
+     */
+    void walk(Object value) {
+        if (value instanceof Asset) {
+            walkAsset((Asset) value);
+        } else if (value instanceof AssetAbility) {
+            walkAssetAbility((AssetAbility) value);
+        } else if (value instanceof AssetCollection) {
+            walkAssetCollection((AssetCollection) value);
+        } else if (value instanceof AtlasCollection) {
+            walkAtlasCollection((AtlasCollection) value);
+        } else if (value instanceof AtlasEntry) {
+            walkAtlasEntry((AtlasEntry) value);
+        } else if (value instanceof DelveSite) {
+            walkDelveSite((DelveSite) value);
+        } else if (value instanceof DelveSiteDomain) {
+            walkDelveSiteDomain((DelveSiteDomain) value);
+        } else if (value instanceof DelveSiteTheme) {
+            walkDelveSiteTheme((DelveSiteTheme) value);
+        } else if (value instanceof MoveActionRoll) {
+            walkMoveActionRoll((MoveActionRoll) value);
+        } else if (value instanceof MoveCategory) {
+            walkMoveCategory((MoveCategory) value);
+        } else if (value instanceof MoveNoRoll) {
+            walkMoveNoRoll((MoveNoRoll) value);
+        } else if (value instanceof MoveProgressRoll) {
+            walkMoveProgressRoll((MoveProgressRoll) value);
+        } else if (value instanceof MoveSpecialTrack) {
+            walkMoveSpecialTrack((MoveSpecialTrack) value);
+        } else if (value instanceof Npc) {
+            walkNpc((Npc) value);
+        } else if (value instanceof NpcCollection) {
+            walkNpcCollection((NpcCollection) value);
+        } else if (value instanceof NpcVariant) {
+            walkNpcVariant((NpcVariant) value);
+        } else if (value instanceof OracleCollectionOracleTableSharedText3) {
+            walkOracleCollectionOracleTableSharedText3((OracleCollectionOracleTableSharedText3) value);
+        } else if (value instanceof OracleCollectionTableSharedRolls) {
+            walkOracleCollectionTableSharedRolls((OracleCollectionTableSharedRolls) value);
+        } else if (value instanceof OracleCollectionTableSharedText) {
+            walkOracleCollectionTableSharedText((OracleCollectionTableSharedText) value);
+        } else if (value instanceof OracleCollectionTableSharedText2) {
+            walkOracleCollectionTableSharedText2((OracleCollectionTableSharedText2) value);
+        } else if (value instanceof OracleCollectionTables) {
+            walkOracleCollectionTables((OracleCollectionTables) value);
+        } else if (value instanceof OracleColumnText) {
+            walkOracleColumnText((OracleColumnText) value);
+        } else if (value instanceof OracleColumnText2) {
+            walkOracleColumnText2((OracleColumnText2) value);
+        } else if (value instanceof OracleColumnText3) {
+            walkOracleColumnText3((OracleColumnText3) value);
+        } else if (value instanceof OracleTableRollableTableText) {
+            walkOracleTableRollableTableText((OracleTableRollableTableText) value);
+        } else if (value instanceof OracleTableRollableTableText2) {
+            walkOracleTableRollableTableText2((OracleTableRollableTableText2) value);
+        } else if (value instanceof OracleTableRollableTableText3) {
+            walkOracleTableRollableTableText3((OracleTableRollableTableText3) value);
+        } else if (value instanceof OracleTablesCollection) {
+            walkOracleTablesCollection((OracleTablesCollection) value);
+        } else if (value instanceof Rarity) {
+            walkRarity((Rarity) value);
+        } else if (value instanceof RulesPackageExpansion) {
+            walkRulesPackageExpansion((RulesPackageExpansion) value);
+        } else if (value instanceof RulesPackageRuleset) {
+            walkRulesPackageRuleset((RulesPackageRuleset) value);
+        } else if (value instanceof Truth) {
+            walkTruth((Truth) value);
+        }
+    }
+
+    void walkAsset(Asset value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("abilities");
+        walkListOfAssetAbility(value.getAbilities());
+        pop();
+        field("category");
+        walkLabel(value.getCategory());
+        pop();
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("attachments");
+        walkAssetAttachment(value.getAttachments());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("controls");
+        walkMapOfAssetControlField(value.getControls());
+        pop();
+        field("options");
+        walkMapOfAssetOptionField(value.getOptions());
+        pop();
+        field("requirement");
+        walkMarkdownString(value.getRequirement());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        leave(id);
+    }
+
+    void walkAssetAbility(AssetAbility value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("text");
+        walkMarkdownString(value.getText());
+        pop();
+        field("enhance_asset");
+        walkAssetEnhancement(value.getEnhanceAsset());
+        pop();
+        field("enhance_moves");
+        walkListOfMoveEnhancement(value.getEnhanceMoves());
+        pop();
+        field("moves");
+        walkMapOfMove(value.getMoves());
+        pop();
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        leave(id);
+    }
+
+    void walkAssetAbilityId(AssetAbilityId value) {
+        if (value != null) {
+            reference(value.getValue());
+        }
+    }
+
+    void walkAssetAttachment(AssetAttachment value) {
+        if (value == null) {
+            return;
+        }
+        field("assets");
+        walkListOfAssetIdWildcard(value.getAssets());
+        pop();
+    }
+
+    void walkAssetCollection(AssetCollection value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("contents");
+        walkMapOfAsset(value.getContents());
+        pop();
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+        field("enhances");
+        walkAssetCollectionId(value.getEnhances());
+        pop();
+        field("replaces");
+        walkAssetCollectionId(value.getReplaces());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        field("summary");
+        walkMarkdownString(value.getSummary());
+        pop();
+        leave(id);
+    }
+
+    void walkAssetCollectionId(AssetCollectionId value) {
+        if (value != null) {
+            reference(value.getValue());
+        }
+    }
+
+    void walkAssetControlField(AssetControlField value) {
+        if (value instanceof AssetControlFieldConditionMeter) {
+            walkAssetControlFieldConditionMeter((AssetControlFieldConditionMeter) value);
+        } else if (value instanceof AssetControlFieldSelectEnhancement) {
+            walkAssetControlFieldSelectEnhancement((AssetControlFieldSelectEnhancement) value);
+        }
+    }
+
+    void walkAssetControlFieldConditionMeter(AssetControlFieldConditionMeter value) {
+        if (value == null) {
+            return;
+        }
+        field("moves");
+        walkAssetControlFieldConditionMeterMoves(value.getMoves());
+        pop();
+    }
+
+    void walkAssetControlFieldConditionMeterMoves(AssetControlFieldConditionMeterMoves value) {
+        if (value == null) {
+            return;
+        }
+        field("recover");
+        walkListOfMoveIdWildcard(value.getRecover());
+        pop();
+        field("suffer");
+        walkListOfMoveIdWildcard(value.getSuffer());
+        pop();
+    }
+
+    void walkAssetControlFieldSelectEnhancement(AssetControlFieldSelectEnhancement value) {
+        if (value == null) {
+            return;
+        }
+        field("choices");
+        walkMapOfAssetControlFieldSelectEnhancementChoice(value.getChoices());
+        pop();
+    }
+
+    void walkAssetControlFieldSelectEnhancementChoice(AssetControlFieldSelectEnhancementChoice value) {
+        if (value instanceof AssetControlFieldSelectEnhancementChoiceChoice) {
+            walkAssetControlFieldSelectEnhancementChoiceChoice((AssetControlFieldSelectEnhancementChoiceChoice) value);
+        } else if (value instanceof AssetControlFieldSelectEnhancementChoiceChoiceGroup) {
+            walkAssetControlFieldSelectEnhancementChoiceChoiceGroup((AssetControlFieldSelectEnhancementChoiceChoiceGroup) value);
+        }
+    }
+
+    void walkAssetControlFieldSelectEnhancementChoiceChoice(AssetControlFieldSelectEnhancementChoiceChoice value) {
+        if (value == null) {
+            return;
+        }
+        field("enhance_asset");
+        walkAssetEnhancement(value.getEnhanceAsset());
+        pop();
+        field("enhance_moves");
+        walkListOfMoveEnhancement(value.getEnhanceMoves());
+        pop();
+    }
+
+    void walkAssetControlFieldSelectEnhancementChoiceChoiceGroup(AssetControlFieldSelectEnhancementChoiceChoiceGroup value) {
+        if (value == null) {
+            return;
+        }
+        field("choices");
+        walkMapOfSelectEnhancementFieldChoice(value.getChoices());
+        pop();
+    }
+
+    void walkAssetEnhancement(AssetEnhancement value) {
+        if (value == null) {
+            return;
+        }
+        field("attachments");
+        walkAssetAttachment(value.getAttachments());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+    }
+
+    void walkAssetId(AssetId value) {
+        if (value != null) {
+            reference(value.getValue());
+        }
+    }
+
+    void walkAssetIdWildcard(AssetIdWildcard value) {
+        if (value != null) {
+            reference(value.getValue());
+        }
+    }
+
+    void walkAssetOptionField(AssetOptionField value) {
+        if (value instanceof AssetOptionFieldSelectEnhancement) {
+            walkAssetOptionFieldSelectEnhancement((AssetOptionFieldSelectEnhancement) value);
+        } else if (value instanceof AssetOptionFieldSelectValue) {
+            walkAssetOptionFieldSelectValue((AssetOptionFieldSelectValue) value);
+        }
+    }
+
+    void walkAssetOptionFieldSelectEnhancement(AssetOptionFieldSelectEnhancement value) {
+        if (value == null) {
+            return;
+        }
+        field("choices");
+        walkMapOfAssetOptionFieldSelectEnhancementChoice(value.getChoices());
+        pop();
+    }
+
+    void walkAssetOptionFieldSelectEnhancementChoice(AssetOptionFieldSelectEnhancementChoice value) {
+        if (value instanceof AssetOptionFieldSelectEnhancementChoiceChoice) {
+            walkAssetOptionFieldSelectEnhancementChoiceChoice((AssetOptionFieldSelectEnhancementChoiceChoice) value);
+        } else if (value instanceof AssetOptionFieldSelectEnhancementChoiceChoiceGroup) {
+            walkAssetOptionFieldSelectEnhancementChoiceChoiceGroup((AssetOptionFieldSelectEnhancementChoiceChoiceGroup) value);
+        }
+    }
+
+    void walkAssetOptionFieldSelectEnhancementChoiceChoice(AssetOptionFieldSelectEnhancementChoiceChoice value) {
+        if (value == null) {
+            return;
+        }
+        field("enhance_asset");
+        walkAssetEnhancement(value.getEnhanceAsset());
+        pop();
+        field("enhance_moves");
+        walkListOfMoveEnhancement(value.getEnhanceMoves());
+        pop();
+    }
+
+    void walkAssetOptionFieldSelectEnhancementChoiceChoiceGroup(AssetOptionFieldSelectEnhancementChoiceChoiceGroup value) {
+        if (value == null) {
+            return;
+        }
+        field("choices");
+        walkMapOfSelectEnhancementFieldChoice(value.getChoices());
+        pop();
+    }
+
+    void walkAssetOptionFieldSelectValue(AssetOptionFieldSelectValue value) {
+        if (value == null) {
+            return;
+        }
+        field("choices");
+        walkMapOfSelectValueFieldChoice(value.getChoices());
+        pop();
+    }
+
+    void walkAtlasCollection(AtlasCollection value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("collections");
+        walkMapOfAtlasCollection(value.getCollections());
+        pop();
+        field("contents");
+        walkMapOfAtlasEntry(value.getContents());
+        pop();
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+        field("enhances");
+        walkAtlasCollectionId(value.getEnhances());
+        pop();
+        field("replaces");
+        walkAtlasCollectionId(value.getReplaces());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        field("summary");
+        walkMarkdownString(value.getSummary());
+        pop();
+        leave(id);
+    }
+
+    void walkAtlasCollectionId(AtlasCollectionId value) {
+        if (value != null) {
+            reference(value.getValue());
+        }
+    }
+
+    void walkAtlasEntry(AtlasEntry value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+        field("features");
+        walkListOfMarkdownString(value.getFeatures());
+        pop();
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("quest_starter");
+        walkMarkdownString(value.getQuestStarter());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        field("summary");
+        walkMarkdownString(value.getSummary());
+        pop();
+        field("your_truth");
+        walkMarkdownString(value.getYourTruth());
+        pop();
+        leave(id);
+    }
+
+    void walkAtlasEntryId(AtlasEntryId value) {
+        if (value != null) {
+            reference(value.getValue());
+        }
+    }
+
+    void walkConditionMeterRule(ConditionMeterRule value) {
+        if (value == null) {
+            return;
+        }
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+    }
+
+    void walkDelveSite(DelveSite value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("denizens");
+        walkListOfDelveSiteDenizen(value.getDenizens());
+        pop();
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+        field("domain");
+        walkDelveSiteDomainId(value.getDomain());
+        pop();
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("theme");
+        walkDelveSiteThemeId(value.getTheme());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("region");
+        walkAtlasEntryId(value.getRegion());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        leave(id);
+    }
+
+    void walkDelveSiteDenizen(DelveSiteDenizen value) {
+        if (value == null) {
+            return;
+        }
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("npc");
+        walkNpcId(value.getNpc());
+        pop();
+    }
+
+    void walkDelveSiteDomain(DelveSiteDomain value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("dangers");
+        walkListOfOracleTableRowText(value.getDangers());
+        pop();
+        field("features");
+        walkListOfOracleTableRowText(value.getFeatures());
+        pop();
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("summary");
+        walkMarkdownString(value.getSummary());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+        field("name_oracle");
+        walkOracleRollableId(value.getNameOracle());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        leave(id);
+    }
+
+    void walkDelveSiteDomainId(DelveSiteDomainId value) {
+        if (value != null) {
+            reference(value.getValue());
+        }
+    }
+
+    void walkDelveSiteId(DelveSiteId value) {
+        if (value != null) {
+            reference(value.getValue());
+        }
+    }
+
+    void walkDelveSiteTheme(DelveSiteTheme value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("dangers");
+        walkListOfOracleTableRowText(value.getDangers());
+        pop();
+        field("features");
+        walkListOfOracleTableRowText(value.getFeatures());
+        pop();
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("summary");
+        walkMarkdownString(value.getSummary());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        leave(id);
+    }
+
+    void walkDelveSiteThemeId(DelveSiteThemeId value) {
+        if (value != null) {
+            reference(value.getValue());
+        }
+    }
+
+    void walkExpansionId(ExpansionId value) {
+        if (value != null) {
+            reference(value.getValue());
+        }
+    }
+
+    void walkImpactCategory(ImpactCategory value) {
+        if (value == null) {
+            return;
+        }
+        field("contents");
+        walkMapOfImpactRule(value.getContents());
+        pop();
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+    }
+
+    void walkImpactRule(ImpactRule value) {
+        if (value == null) {
+            return;
+        }
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+    }
+
+    void walkLabel(Label value) {
+        if (value != null) {
+            label(value.getValue());
+        }
+    }
+
+    void walkMarkdownString(MarkdownString value) {
+        if (value != null) {
+            text(value.getValue());
+        }
+    }
+
+    void walkMove(Move value) {
+        if (value instanceof MoveActionRoll) {
+            walkMoveActionRoll((MoveActionRoll) value);
+        } else if (value instanceof MoveNoRoll) {
+            walkMoveNoRoll((MoveNoRoll) value);
+        } else if (value instanceof MoveProgressRoll) {
+            walkMoveProgressRoll((MoveProgressRoll) value);
+        } else if (value instanceof MoveSpecialTrack) {
+            walkMoveSpecialTrack((MoveSpecialTrack) value);
+        }
+    }
+
+    void walkMoveActionRoll(MoveActionRoll value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("outcomes");
+        walkMoveOutcomes(value.getOutcomes());
+        pop();
+        field("text");
+        walkMarkdownString(value.getText());
+        pop();
+        field("trigger");
+        walkTriggerActionRoll(value.getTrigger());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("oracles");
+        walkListOfOracleRollableId(value.getOracles());
+        pop();
+        field("replaces");
+        walkMoveId(value.getReplaces());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        leave(id);
+    }
+
+    void walkMoveCategory(MoveCategory value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("contents");
+        walkMapOfMove(value.getContents());
+        pop();
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+        field("enhances");
+        walkMoveCategoryId(value.getEnhances());
+        pop();
+        field("replaces");
+        walkMoveCategoryId(value.getReplaces());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        field("summary");
+        walkMarkdownString(value.getSummary());
+        pop();
+        leave(id);
+    }
+
+    void walkMoveCategoryId(MoveCategoryId value) {
+        if (value != null) {
+            reference(value.getValue());
+        }
+    }
+
+    void walkMoveEnhancement(MoveEnhancement value) {
+        if (value instanceof MoveEnhancementActionRoll) {
+            walkMoveEnhancementActionRoll((MoveEnhancementActionRoll) value);
+        } else if (value instanceof MoveEnhancementNoRoll) {
+            walkMoveEnhancementNoRoll((MoveEnhancementNoRoll) value);
+        } else if (value instanceof MoveEnhancementProgressRoll) {
+            walkMoveEnhancementProgressRoll((MoveEnhancementProgressRoll) value);
+        } else if (value instanceof MoveEnhancementSpecialTrack) {
+            walkMoveEnhancementSpecialTrack((MoveEnhancementSpecialTrack) value);
+        }
+    }
+
+    void walkMoveEnhancementActionRoll(MoveEnhancementActionRoll value) {
+        if (value == null) {
+            return;
+        }
+        field("enhances");
+        walkListOfMoveIdWildcard(value.getEnhances());
+        pop();
+        field("trigger");
+        walkTriggerActionRollEnhancement(value.getTrigger());
+        pop();
+    }
+
+    void walkMoveEnhancementNoRoll(MoveEnhancementNoRoll value) {
+        if (value == null) {
+            return;
+        }
+        field("enhances");
+        walkListOfMoveIdWildcard(value.getEnhances());
+        pop();
+        field("trigger");
+        walkTriggerNoRollEnhancement(value.getTrigger());
+        pop();
+    }
+
+    void walkMoveEnhancementProgressRoll(MoveEnhancementProgressRoll value) {
+        if (value == null) {
+            return;
+        }
+        field("enhances");
+        walkListOfMoveIdWildcard(value.getEnhances());
+        pop();
+        field("trigger");
+        walkTriggerProgressRollEnhancement(value.getTrigger());
+        pop();
+    }
+
+    void walkMoveEnhancementSpecialTrack(MoveEnhancementSpecialTrack value) {
+        if (value == null) {
+            return;
+        }
+        field("enhances");
+        walkListOfMoveIdWildcard(value.getEnhances());
+        pop();
+        field("trigger");
+        walkTriggerSpecialTrackEnhancement(value.getTrigger());
+        pop();
+    }
+
+    void walkMoveId(MoveId value) {
+        if (value != null) {
+            reference(value.getValue());
+        }
+    }
+
+    void walkMoveIdWildcard(MoveIdWildcard value) {
+        if (value != null) {
+            reference(value.getValue());
+        }
+    }
+
+    void walkMoveNoRoll(MoveNoRoll value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("text");
+        walkMarkdownString(value.getText());
+        pop();
+        field("trigger");
+        walkTriggerNoRoll(value.getTrigger());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("oracles");
+        walkListOfOracleRollableId(value.getOracles());
+        pop();
+        field("replaces");
+        walkMoveId(value.getReplaces());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        leave(id);
+    }
+
+    void walkMoveOutcome(MoveOutcome value) {
+        if (value == null) {
+            return;
+        }
+        field("text");
+        walkMarkdownString(value.getText());
+        pop();
+        field("oracle_rolls");
+        walkListOfOracleRoll(value.getOracleRolls());
+        pop();
+    }
+
+    void walkMoveOutcomes(MoveOutcomes value) {
+        if (value == null) {
+            return;
+        }
+        field("miss");
+        walkMoveOutcome(value.getMiss());
+        pop();
+        field("strong_hit");
+        walkMoveOutcome(value.getStrongHit());
+        pop();
+        field("weak_hit");
+        walkMoveOutcome(value.getWeakHit());
+        pop();
+    }
+
+    void walkMoveProgressRoll(MoveProgressRoll value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("outcomes");
+        walkMoveOutcomes(value.getOutcomes());
+        pop();
+        field("text");
+        walkMarkdownString(value.getText());
+        pop();
+        field("tracks");
+        walkProgressTrackTypeInfo(value.getTracks());
+        pop();
+        field("trigger");
+        walkTriggerProgressRoll(value.getTrigger());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("oracles");
+        walkListOfOracleRollableId(value.getOracles());
+        pop();
+        field("replaces");
+        walkMoveId(value.getReplaces());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        leave(id);
+    }
+
+    void walkMoveSpecialTrack(MoveSpecialTrack value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("outcomes");
+        walkMoveOutcomes(value.getOutcomes());
+        pop();
+        field("text");
+        walkMarkdownString(value.getText());
+        pop();
+        field("trigger");
+        walkTriggerSpecialTrack(value.getTrigger());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("oracles");
+        walkListOfOracleRollableId(value.getOracles());
+        pop();
+        field("replaces");
+        walkMoveId(value.getReplaces());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        leave(id);
+    }
+
+    void walkNpc(Npc value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+        field("drives");
+        walkListOfMarkdownString(value.getDrives());
+        pop();
+        field("features");
+        walkListOfMarkdownString(value.getFeatures());
+        pop();
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("tactics");
+        walkListOfMarkdownString(value.getTactics());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("quest_starter");
+        walkMarkdownString(value.getQuestStarter());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        field("summary");
+        walkMarkdownString(value.getSummary());
+        pop();
+        field("variants");
+        walkMapOfNpcVariant(value.getVariants());
+        pop();
+        field("your_truth");
+        walkMarkdownString(value.getYourTruth());
+        pop();
+        leave(id);
+    }
+
+    void walkNpcCollection(NpcCollection value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("contents");
+        walkMapOfNpc(value.getContents());
+        pop();
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+        field("enhances");
+        walkNpcCollectionId(value.getEnhances());
+        pop();
+        field("replaces");
+        walkNpcCollectionId(value.getReplaces());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        field("summary");
+        walkMarkdownString(value.getSummary());
+        pop();
+        leave(id);
+    }
+
+    void walkNpcCollectionId(NpcCollectionId value) {
+        if (value != null) {
+            reference(value.getValue());
+        }
+    }
+
+    void walkNpcId(NpcId value) {
+        if (value != null) {
+            reference(value.getValue());
+        }
+    }
+
+    void walkNpcVariant(NpcVariant value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("summary");
+        walkMarkdownString(value.getSummary());
+        pop();
+        leave(id);
+    }
+
+    void walkNpcVariantId(NpcVariantId value) {
+        if (value != null) {
+            reference(value.getValue());
+        }
+    }
+
+    void walkOracleCollection(OracleCollection value) {
+        if (value instanceof OracleCollectionOracleTableSharedText3) {
+            walkOracleCollectionOracleTableSharedText3((OracleCollectionOracleTableSharedText3) value);
+        } else if (value instanceof OracleCollectionTableSharedRolls) {
+            walkOracleCollectionTableSharedRolls((OracleCollectionTableSharedRolls) value);
+        } else if (value instanceof OracleCollectionTableSharedText) {
+            walkOracleCollectionTableSharedText((OracleCollectionTableSharedText) value);
+        } else if (value instanceof OracleCollectionTableSharedText2) {
+            walkOracleCollectionTableSharedText2((OracleCollectionTableSharedText2) value);
+        } else if (value instanceof OracleCollectionTables) {
+            walkOracleCollectionTables((OracleCollectionTables) value);
+        }
+    }
+
+    void walkOracleCollectionId(OracleCollectionId value) {
+        if (value != null) {
+            reference(value.getValue());
+        }
+    }
+
+    void walkOracleCollectionOracleTableSharedText3(OracleCollectionOracleTableSharedText3 value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("column_labels");
+        walkOracleCollectionOracleTableSharedText3ColumnLabels(value.getColumnLabels());
+        pop();
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("contents");
+        walkMapOfOracleColumnText3(value.getContents());
+        pop();
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+        field("enhances");
+        walkOracleCollectionId(value.getEnhances());
+        pop();
+        field("replaces");
+        walkOracleCollectionId(value.getReplaces());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        field("summary");
+        walkMarkdownString(value.getSummary());
+        pop();
+        leave(id);
+    }
+
+    void walkOracleCollectionOracleTableSharedText3ColumnLabels(OracleCollectionOracleTableSharedText3ColumnLabels value) {
+        if (value == null) {
+            return;
+        }
+        field("text");
+        walkLabel(value.getText());
+        pop();
+    }
+
+    void walkOracleCollectionTableSharedRolls(OracleCollectionTableSharedRolls value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("column_labels");
+        walkOracleCollectionTableSharedRollsColumnLabels(value.getColumnLabels());
+        pop();
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("contents");
+        walkMapOfOracleColumnText(value.getContents());
+        pop();
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+        field("enhances");
+        walkOracleCollectionId(value.getEnhances());
+        pop();
+        field("replaces");
+        walkOracleCollectionId(value.getReplaces());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        field("summary");
+        walkMarkdownString(value.getSummary());
+        pop();
+        leave(id);
+    }
+
+    void walkOracleCollectionTableSharedRollsColumnLabels(OracleCollectionTableSharedRollsColumnLabels value) {
+        if (value == null) {
+            return;
+        }
+        field("roll");
+        walkLabel(value.getRoll());
+        pop();
+    }
+
+    void walkOracleCollectionTableSharedText(OracleCollectionTableSharedText value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("column_labels");
+        walkOracleCollectionTableSharedTextColumnLabels(value.getColumnLabels());
+        pop();
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("contents");
+        walkMapOfOracleColumnText(value.getContents());
+        pop();
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+        field("enhances");
+        walkOracleCollectionId(value.getEnhances());
+        pop();
+        field("replaces");
+        walkOracleCollectionId(value.getReplaces());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        field("summary");
+        walkMarkdownString(value.getSummary());
+        pop();
+        leave(id);
+    }
+
+    void walkOracleCollectionTableSharedText2(OracleCollectionTableSharedText2 value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("column_labels");
+        walkOracleCollectionTableSharedText2ColumnLabels(value.getColumnLabels());
+        pop();
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("contents");
+        walkMapOfOracleColumnText2(value.getContents());
+        pop();
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+        field("enhances");
+        walkOracleCollectionId(value.getEnhances());
+        pop();
+        field("replaces");
+        walkOracleCollectionId(value.getReplaces());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        field("summary");
+        walkMarkdownString(value.getSummary());
+        pop();
+        leave(id);
+    }
+
+    void walkOracleCollectionTableSharedText2ColumnLabels(OracleCollectionTableSharedText2ColumnLabels value) {
+        if (value == null) {
+            return;
+        }
+        field("text");
+        walkLabel(value.getText());
+        pop();
+        field("text2");
+        walkLabel(value.getText2());
+        pop();
+    }
+
+    void walkOracleCollectionTableSharedTextColumnLabels(OracleCollectionTableSharedTextColumnLabels value) {
+        if (value == null) {
+            return;
+        }
+        field("text");
+        walkLabel(value.getText());
+        pop();
+    }
+
+    void walkOracleCollectionTables(OracleCollectionTables value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("collections");
+        walkMapOfOracleCollection(value.getCollections());
+        pop();
+        field("contents");
+        walkMapOfOracleTableRollable(value.getContents());
+        pop();
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+        field("enhances");
+        walkOracleCollectionId(value.getEnhances());
+        pop();
+        field("replaces");
+        walkOracleCollectionId(value.getReplaces());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        field("summary");
+        walkMarkdownString(value.getSummary());
+        pop();
+        leave(id);
+    }
+
+    void walkOracleColumnText(OracleColumnText value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("rows");
+        walkListOfOracleTableRowText(value.getRows());
+        pop();
+        field("match");
+        walkOracleMatchBehavior(value.getMatch());
+        pop();
+        field("replaces");
+        walkOracleRollableId(value.getReplaces());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        field("summary");
+        walkMarkdownString(value.getSummary());
+        pop();
+        leave(id);
+    }
+
+    void walkOracleColumnText2(OracleColumnText2 value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("rows");
+        walkListOfOracleTableRowText2(value.getRows());
+        pop();
+        field("match");
+        walkOracleMatchBehavior(value.getMatch());
+        pop();
+        field("replaces");
+        walkOracleRollableId(value.getReplaces());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        field("summary");
+        walkMarkdownString(value.getSummary());
+        pop();
+        leave(id);
+    }
+
+    void walkOracleColumnText3(OracleColumnText3 value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("rows");
+        walkListOfOracleTableRowText3(value.getRows());
+        pop();
+        field("match");
+        walkOracleMatchBehavior(value.getMatch());
+        pop();
+        field("replaces");
+        walkOracleRollableId(value.getReplaces());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        field("summary");
+        walkMarkdownString(value.getSummary());
+        pop();
+        leave(id);
+    }
+
+    void walkOracleMatchBehavior(OracleMatchBehavior value) {
+        if (value == null) {
+            return;
+        }
+        field("text");
+        walkMarkdownString(value.getText());
+        pop();
+    }
+
+    void walkOracleRoll(OracleRoll value) {
+        if (value == null) {
+            return;
+        }
+        field("oracle");
+        walkOracleRollableId(value.getOracle());
+        pop();
+    }
+
+    void walkOracleRollTemplate(OracleRollTemplate value) {
+        if (value == null) {
+            return;
+        }
+        field("text");
+        walkTemplateString(value.getText());
+        pop();
+        field("text2");
+        walkTemplateString(value.getText2());
+        pop();
+        field("text3");
+        walkTemplateString(value.getText3());
+        pop();
+    }
+
+    void walkOracleRollableId(OracleRollableId value) {
+        if (value != null) {
+            reference(value.getValue());
+        }
+    }
+
+    void walkOracleTableRollable(OracleTableRollable value) {
+        if (value instanceof OracleTableRollableTableText) {
+            walkOracleTableRollableTableText((OracleTableRollableTableText) value);
+        } else if (value instanceof OracleTableRollableTableText2) {
+            walkOracleTableRollableTableText2((OracleTableRollableTableText2) value);
+        } else if (value instanceof OracleTableRollableTableText3) {
+            walkOracleTableRollableTableText3((OracleTableRollableTableText3) value);
+        }
+    }
+
+    void walkOracleTableRollableTableText(OracleTableRollableTableText value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("column_labels");
+        walkOracleTableRollableTableTextColumnLabels(value.getColumnLabels());
+        pop();
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("rows");
+        walkListOfOracleTableRowText(value.getRows());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+        field("match");
+        walkOracleMatchBehavior(value.getMatch());
+        pop();
+        field("replaces");
+        walkOracleRollableId(value.getReplaces());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        field("summary");
+        walkMarkdownString(value.getSummary());
+        pop();
+        leave(id);
+    }
+
+    void walkOracleTableRollableTableText2(OracleTableRollableTableText2 value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("column_labels");
+        walkOracleTableRollableTableText2ColumnLabels(value.getColumnLabels());
+        pop();
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("rows");
+        walkListOfOracleTableRowText2(value.getRows());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+        field("match");
+        walkOracleMatchBehavior(value.getMatch());
+        pop();
+        field("replaces");
+        walkOracleRollableId(value.getReplaces());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        field("summary");
+        walkMarkdownString(value.getSummary());
+        pop();
+        leave(id);
+    }
+
+    void walkOracleTableRollableTableText2ColumnLabels(OracleTableRollableTableText2ColumnLabels value) {
+        if (value == null) {
+            return;
+        }
+        field("roll");
+        walkLabel(value.getRoll());
+        pop();
+        field("text");
+        walkLabel(value.getText());
+        pop();
+        field("text2");
+        walkLabel(value.getText2());
+        pop();
+    }
+
+    void walkOracleTableRollableTableText3(OracleTableRollableTableText3 value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("column_labels");
+        walkOracleTableRollableTableText3ColumnLabels(value.getColumnLabels());
+        pop();
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("rows");
+        walkListOfOracleTableRowText3(value.getRows());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+        field("match");
+        walkOracleMatchBehavior(value.getMatch());
+        pop();
+        field("replaces");
+        walkOracleRollableId(value.getReplaces());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        field("summary");
+        walkMarkdownString(value.getSummary());
+        pop();
+        leave(id);
+    }
+
+    void walkOracleTableRollableTableText3ColumnLabels(OracleTableRollableTableText3ColumnLabels value) {
+        if (value == null) {
+            return;
+        }
+        field("roll");
+        walkLabel(value.getRoll());
+        pop();
+        field("text");
+        walkLabel(value.getText());
+        pop();
+        field("text2");
+        walkLabel(value.getText2());
+        pop();
+        field("text3");
+        walkLabel(value.getText3());
+        pop();
+    }
+
+    void walkOracleTableRollableTableTextColumnLabels(OracleTableRollableTableTextColumnLabels value) {
+        if (value == null) {
+            return;
+        }
+        field("roll");
+        walkLabel(value.getRoll());
+        pop();
+        field("text");
+        walkLabel(value.getText());
+        pop();
+    }
+
+    void walkOracleTableRowText(OracleTableRowText value) {
+        if (value == null) {
+            return;
+        }
+        field("text");
+        walkMarkdownString(value.getText());
+        pop();
+        field("embed_table");
+        walkOracleRollableId(value.getEmbedTable());
+        pop();
+        field("oracle_rolls");
+        walkListOfOracleRoll(value.getOracleRolls());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        field("template");
+        walkOracleRollTemplate(value.getTemplate());
+        pop();
+    }
+
+    void walkOracleTableRowText2(OracleTableRowText2 value) {
+        if (value == null) {
+            return;
+        }
+        field("text");
+        walkMarkdownString(value.getText());
+        pop();
+        field("text2");
+        walkMarkdownString(value.getText2());
+        pop();
+        field("embed_table");
+        walkOracleRollableId(value.getEmbedTable());
+        pop();
+        field("oracle_rolls");
+        walkListOfOracleRoll(value.getOracleRolls());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        field("template");
+        walkOracleRollTemplate(value.getTemplate());
+        pop();
+    }
+
+    void walkOracleTableRowText3(OracleTableRowText3 value) {
+        if (value == null) {
+            return;
+        }
+        field("text");
+        walkMarkdownString(value.getText());
+        pop();
+        field("text2");
+        walkMarkdownString(value.getText2());
+        pop();
+        field("text3");
+        walkMarkdownString(value.getText3());
+        pop();
+        field("embed_table");
+        walkOracleRollableId(value.getEmbedTable());
+        pop();
+        field("oracle_rolls");
+        walkListOfOracleRoll(value.getOracleRolls());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        field("template");
+        walkOracleRollTemplate(value.getTemplate());
+        pop();
+    }
+
+    void walkOracleTablesCollection(OracleTablesCollection value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("collections");
+        walkMapOfOracleCollection(value.getCollections());
+        pop();
+        field("contents");
+        walkMapOfOracleTableRollable(value.getContents());
+        pop();
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+        field("enhances");
+        walkOracleCollectionId(value.getEnhances());
+        pop();
+        field("replaces");
+        walkOracleCollectionId(value.getReplaces());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        field("summary");
+        walkMarkdownString(value.getSummary());
+        pop();
+        leave(id);
+    }
+
+    void walkProgressTrackTypeInfo(ProgressTrackTypeInfo value) {
+        if (value == null) {
+            return;
+        }
+        field("category");
+        walkLabel(value.getCategory());
+        pop();
+    }
+
+    void walkRarity(Rarity value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("asset");
+        walkAssetId(value.getAsset());
+        pop();
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        leave(id);
+    }
+
+    void walkRarityId(RarityId value) {
+        if (value != null) {
+            reference(value.getValue());
+        }
+    }
+
+    void walkRollableValue(RollableValue value) {
+        if (value instanceof RollableValueAssetControl) {
+            walkRollableValueAssetControl((RollableValueAssetControl) value);
+        } else if (value instanceof RollableValueAssetOption) {
+            walkRollableValueAssetOption((RollableValueAssetOption) value);
+        }
+    }
+
+    void walkRollableValueAssetControl(RollableValueAssetControl value) {
+        if (value == null) {
+            return;
+        }
+        field("assets");
+        walkListOfAssetIdWildcard(value.getAssets());
+        pop();
+    }
+
+    void walkRollableValueAssetOption(RollableValueAssetOption value) {
+        if (value == null) {
+            return;
+        }
+        field("assets");
+        walkListOfAssetIdWildcard(value.getAssets());
+        pop();
+    }
+
+    void walkRules(Rules value) {
+        if (value == null) {
+            return;
+        }
+        field("condition_meters");
+        walkMapOfConditionMeterRule(value.getConditionMeters());
+        pop();
+        field("impacts");
+        walkMapOfImpactCategory(value.getImpacts());
+        pop();
+        field("special_tracks");
+        walkMapOfSpecialTrackRule(value.getSpecialTracks());
+        pop();
+        field("stats");
+        walkMapOfStatRule(value.getStats());
+        pop();
+        field("tags");
+        walkMapOfTagRule(value.getTags());
+        pop();
+    }
+
+    void walkRulesExpansion(RulesExpansion value) {
+        if (value == null) {
+            return;
+        }
+        field("condition_meters");
+        walkMapOfConditionMeterRule(value.getConditionMeters());
+        pop();
+        field("impacts");
+        walkMapOfImpactCategory(value.getImpacts());
+        pop();
+        field("special_tracks");
+        walkMapOfSpecialTrackRule(value.getSpecialTracks());
+        pop();
+        field("stats");
+        walkMapOfStatRule(value.getStats());
+        pop();
+        field("tags");
+        walkMapOfTagRule(value.getTags());
+        pop();
+    }
+
+    void walkRulesPackage(RulesPackage value) {
+        if (value instanceof RulesPackageExpansion) {
+            walkRulesPackageExpansion((RulesPackageExpansion) value);
+        } else if (value instanceof RulesPackageRuleset) {
+            walkRulesPackageRuleset((RulesPackageRuleset) value);
+        }
+    }
+
+    void walkRulesPackageExpansion(RulesPackageExpansion value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("ruleset");
+        walkRulesetId(value.getRuleset());
+        pop();
+        field("assets");
+        walkMapOfAssetCollection(value.getAssets());
+        pop();
+        field("atlas");
+        walkMapOfAtlasCollection(value.getAtlas());
+        pop();
+        field("delve_sites");
+        walkMapOfDelveSite(value.getDelveSites());
+        pop();
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+        field("moves");
+        walkMapOfMoveCategory(value.getMoves());
+        pop();
+        field("npcs");
+        walkMapOfNpcCollection(value.getNpcs());
+        pop();
+        field("oracles");
+        walkMapOfOracleTablesCollection(value.getOracles());
+        pop();
+        field("rarities");
+        walkMapOfRarity(value.getRarities());
+        pop();
+        field("rules");
+        walkRulesExpansion(value.getRules());
+        pop();
+        field("site_domains");
+        walkMapOfDelveSiteDomain(value.getSiteDomains());
+        pop();
+        field("site_themes");
+        walkMapOfDelveSiteTheme(value.getSiteThemes());
+        pop();
+        field("truths");
+        walkMapOfTruth(value.getTruths());
+        pop();
+        leave(id);
+    }
+
+    void walkRulesPackageRuleset(RulesPackageRuleset value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("assets");
+        walkMapOfAssetCollection(value.getAssets());
+        pop();
+        field("moves");
+        walkMapOfMoveCategory(value.getMoves());
+        pop();
+        field("oracles");
+        walkMapOfOracleTablesCollection(value.getOracles());
+        pop();
+        field("rules");
+        walkRules(value.getRules());
+        pop();
+        field("atlas");
+        walkMapOfAtlasCollection(value.getAtlas());
+        pop();
+        field("delve_sites");
+        walkMapOfDelveSite(value.getDelveSites());
+        pop();
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+        field("npcs");
+        walkMapOfNpcCollection(value.getNpcs());
+        pop();
+        field("rarities");
+        walkMapOfRarity(value.getRarities());
+        pop();
+        field("site_domains");
+        walkMapOfDelveSiteDomain(value.getSiteDomains());
+        pop();
+        field("site_themes");
+        walkMapOfDelveSiteTheme(value.getSiteThemes());
+        pop();
+        field("truths");
+        walkMapOfTruth(value.getTruths());
+        pop();
+        leave(id);
+    }
+
+    void walkRulesetId(RulesetId value) {
+        if (value != null) {
+            reference(value.getValue());
+        }
+    }
+
+    void walkSelectEnhancementFieldChoice(SelectEnhancementFieldChoice value) {
+        if (value == null) {
+            return;
+        }
+        field("enhance_asset");
+        walkAssetEnhancement(value.getEnhanceAsset());
+        pop();
+        field("enhance_moves");
+        walkListOfMoveEnhancement(value.getEnhanceMoves());
+        pop();
+    }
+
+    void walkSelectValueFieldChoice(SelectValueFieldChoice value) {
+        if (value instanceof SelectValueFieldChoiceAssetControl) {
+            walkSelectValueFieldChoiceAssetControl((SelectValueFieldChoiceAssetControl) value);
+        } else if (value instanceof SelectValueFieldChoiceAssetOption) {
+            walkSelectValueFieldChoiceAssetOption((SelectValueFieldChoiceAssetOption) value);
+        }
+    }
+
+    void walkSelectValueFieldChoiceAssetControl(SelectValueFieldChoiceAssetControl value) {
+        if (value == null) {
+            return;
+        }
+        field("assets");
+        walkListOfAssetIdWildcard(value.getAssets());
+        pop();
+    }
+
+    void walkSelectValueFieldChoiceAssetOption(SelectValueFieldChoiceAssetOption value) {
+        if (value == null) {
+            return;
+        }
+        field("assets");
+        walkListOfAssetIdWildcard(value.getAssets());
+        pop();
+    }
+
+    void walkSpecialTrackRule(SpecialTrackRule value) {
+        if (value == null) {
+            return;
+        }
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+    }
+
+    void walkStatRule(StatRule value) {
+        if (value == null) {
+            return;
+        }
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+    }
+
+    void walkSuggestions(Suggestions value) {
+        if (value == null) {
+            return;
+        }
+        field("assets");
+        walkListOfAssetId(value.getAssets());
+        pop();
+        field("atlas");
+        walkListOfAtlasEntryId(value.getAtlas());
+        pop();
+        field("moves");
+        walkListOfMoveId(value.getMoves());
+        pop();
+        field("npcs");
+        walkListOfNpcId(value.getNpcs());
+        pop();
+        field("oracles");
+        walkListOfOracleRollableId(value.getOracles());
+        pop();
+        field("rarities");
+        walkListOfRarityId(value.getRarities());
+        pop();
+        field("site_domains");
+        walkListOfDelveSiteDomainId(value.getSiteDomains());
+        pop();
+        field("site_themes");
+        walkListOfDelveSiteThemeId(value.getSiteThemes());
+        pop();
+    }
+
+    void walkTagRule(TagRule value) {
+        if (value instanceof TagRuleAsset) {
+            walkTagRuleAsset((TagRuleAsset) value);
+        } else if (value instanceof TagRuleAssetCollection) {
+            walkTagRuleAssetCollection((TagRuleAssetCollection) value);
+        } else if (value instanceof TagRuleAtlasCollection) {
+            walkTagRuleAtlasCollection((TagRuleAtlasCollection) value);
+        } else if (value instanceof TagRuleAtlasEntry) {
+            walkTagRuleAtlasEntry((TagRuleAtlasEntry) value);
+        } else if (value instanceof TagRuleBoolean) {
+            walkTagRuleBoolean((TagRuleBoolean) value);
+        } else if (value instanceof TagRuleDelveSite) {
+            walkTagRuleDelveSite((TagRuleDelveSite) value);
+        } else if (value instanceof TagRuleDelveSiteDomain) {
+            walkTagRuleDelveSiteDomain((TagRuleDelveSiteDomain) value);
+        } else if (value instanceof TagRuleDelveSiteTheme) {
+            walkTagRuleDelveSiteTheme((TagRuleDelveSiteTheme) value);
+        } else if (value instanceof TagRuleEnum) {
+            walkTagRuleEnum((TagRuleEnum) value);
+        } else if (value instanceof TagRuleInteger) {
+            walkTagRuleInteger((TagRuleInteger) value);
+        } else if (value instanceof TagRuleMove) {
+            walkTagRuleMove((TagRuleMove) value);
+        } else if (value instanceof TagRuleMoveCategory) {
+            walkTagRuleMoveCategory((TagRuleMoveCategory) value);
+        } else if (value instanceof TagRuleNpc) {
+            walkTagRuleNpc((TagRuleNpc) value);
+        } else if (value instanceof TagRuleNpcCollection) {
+            walkTagRuleNpcCollection((TagRuleNpcCollection) value);
+        } else if (value instanceof TagRuleOracleCollection) {
+            walkTagRuleOracleCollection((TagRuleOracleCollection) value);
+        } else if (value instanceof TagRuleOracleRollable) {
+            walkTagRuleOracleRollable((TagRuleOracleRollable) value);
+        } else if (value instanceof TagRuleRarity) {
+            walkTagRuleRarity((TagRuleRarity) value);
+        } else if (value instanceof TagRuleTruth) {
+            walkTagRuleTruth((TagRuleTruth) value);
+        }
+    }
+
+    void walkTagRuleAsset(TagRuleAsset value) {
+        if (value == null) {
+            return;
+        }
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+    }
+
+    void walkTagRuleAssetCollection(TagRuleAssetCollection value) {
+        if (value == null) {
+            return;
+        }
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+    }
+
+    void walkTagRuleAtlasCollection(TagRuleAtlasCollection value) {
+        if (value == null) {
+            return;
+        }
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+    }
+
+    void walkTagRuleAtlasEntry(TagRuleAtlasEntry value) {
+        if (value == null) {
+            return;
+        }
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+    }
+
+    void walkTagRuleBoolean(TagRuleBoolean value) {
+        if (value == null) {
+            return;
+        }
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+    }
+
+    void walkTagRuleDelveSite(TagRuleDelveSite value) {
+        if (value == null) {
+            return;
+        }
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+    }
+
+    void walkTagRuleDelveSiteDomain(TagRuleDelveSiteDomain value) {
+        if (value == null) {
+            return;
+        }
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+    }
+
+    void walkTagRuleDelveSiteTheme(TagRuleDelveSiteTheme value) {
+        if (value == null) {
+            return;
+        }
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+    }
+
+    void walkTagRuleEnum(TagRuleEnum value) {
+        if (value == null) {
+            return;
+        }
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+    }
+
+    void walkTagRuleInteger(TagRuleInteger value) {
+        if (value == null) {
+            return;
+        }
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+    }
+
+    void walkTagRuleMove(TagRuleMove value) {
+        if (value == null) {
+            return;
+        }
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+    }
+
+    void walkTagRuleMoveCategory(TagRuleMoveCategory value) {
+        if (value == null) {
+            return;
+        }
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+    }
+
+    void walkTagRuleNpc(TagRuleNpc value) {
+        if (value == null) {
+            return;
+        }
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+    }
+
+    void walkTagRuleNpcCollection(TagRuleNpcCollection value) {
+        if (value == null) {
+            return;
+        }
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+    }
+
+    void walkTagRuleOracleCollection(TagRuleOracleCollection value) {
+        if (value == null) {
+            return;
+        }
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+    }
+
+    void walkTagRuleOracleRollable(TagRuleOracleRollable value) {
+        if (value == null) {
+            return;
+        }
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+    }
+
+    void walkTagRuleRarity(TagRuleRarity value) {
+        if (value == null) {
+            return;
+        }
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+    }
+
+    void walkTagRuleTruth(TagRuleTruth value) {
+        if (value == null) {
+            return;
+        }
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+    }
+
+    void walkTemplateString(TemplateString value) {
+        if (value != null) {
+            text(value.getValue());
+        }
+    }
+
+    void walkTriggerActionRoll(TriggerActionRoll value) {
+        if (value == null) {
+            return;
+        }
+        field("conditions");
+        walkListOfTriggerActionRollCondition(value.getConditions());
+        pop();
+        field("text");
+        walkMarkdownString(value.getText());
+        pop();
+    }
+
+    void walkTriggerActionRollCondition(TriggerActionRollCondition value) {
+        if (value == null) {
+            return;
+        }
+        field("roll_options");
+        walkListOfRollableValue(value.getRollOptions());
+        pop();
+        field("text");
+        walkMarkdownString(value.getText());
+        pop();
+    }
+
+    void walkTriggerActionRollConditionEnhancement(TriggerActionRollConditionEnhancement value) {
+        if (value == null) {
+            return;
+        }
+        field("roll_options");
+        walkListOfRollableValue(value.getRollOptions());
+        pop();
+        field("text");
+        walkMarkdownString(value.getText());
+        pop();
+    }
+
+    void walkTriggerActionRollEnhancement(TriggerActionRollEnhancement value) {
+        if (value == null) {
+            return;
+        }
+        field("conditions");
+        walkListOfTriggerActionRollConditionEnhancement(value.getConditions());
+        pop();
+    }
+
+    void walkTriggerNoRoll(TriggerNoRoll value) {
+        if (value == null) {
+            return;
+        }
+        field("conditions");
+        walkListOfTriggerNoRollCondition(value.getConditions());
+        pop();
+        field("text");
+        walkMarkdownString(value.getText());
+        pop();
+    }
+
+    void walkTriggerNoRollCondition(TriggerNoRollCondition value) {
+        if (value == null) {
+            return;
+        }
+        field("text");
+        walkMarkdownString(value.getText());
+        pop();
+    }
+
+    void walkTriggerNoRollEnhancement(TriggerNoRollEnhancement value) {
+        if (value == null) {
+            return;
+        }
+        field("conditions");
+        walkListOfTriggerNoRollCondition(value.getConditions());
+        pop();
+    }
+
+    void walkTriggerProgressRoll(TriggerProgressRoll value) {
+        if (value == null) {
+            return;
+        }
+        field("conditions");
+        walkListOfTriggerProgressRollCondition(value.getConditions());
+        pop();
+        field("text");
+        walkMarkdownString(value.getText());
+        pop();
+    }
+
+    void walkTriggerProgressRollCondition(TriggerProgressRollCondition value) {
+        if (value == null) {
+            return;
+        }
+        field("text");
+        walkMarkdownString(value.getText());
+        pop();
+    }
+
+    void walkTriggerProgressRollConditionEnhancement(TriggerProgressRollConditionEnhancement value) {
+        if (value == null) {
+            return;
+        }
+        field("text");
+        walkMarkdownString(value.getText());
+        pop();
+    }
+
+    void walkTriggerProgressRollEnhancement(TriggerProgressRollEnhancement value) {
+        if (value == null) {
+            return;
+        }
+        field("conditions");
+        walkListOfTriggerProgressRollConditionEnhancement(value.getConditions());
+        pop();
+    }
+
+    void walkTriggerSpecialTrack(TriggerSpecialTrack value) {
+        if (value == null) {
+            return;
+        }
+        field("conditions");
+        walkListOfTriggerSpecialTrackCondition(value.getConditions());
+        pop();
+        field("text");
+        walkMarkdownString(value.getText());
+        pop();
+    }
+
+    void walkTriggerSpecialTrackCondition(TriggerSpecialTrackCondition value) {
+        if (value == null) {
+            return;
+        }
+        field("text");
+        walkMarkdownString(value.getText());
+        pop();
+    }
+
+    void walkTriggerSpecialTrackConditionEnhancement(TriggerSpecialTrackConditionEnhancement value) {
+        if (value == null) {
+            return;
+        }
+        field("text");
+        walkMarkdownString(value.getText());
+        pop();
+    }
+
+    void walkTriggerSpecialTrackEnhancement(TriggerSpecialTrackEnhancement value) {
+        if (value == null) {
+            return;
+        }
+        field("conditions");
+        walkListOfTriggerSpecialTrackConditionEnhancement(value.getConditions());
+        pop();
+    }
+
+    void walkTruth(Truth value) {
+        if (value == null) {
+            return;
+        }
+        String id = value.getId() == null ? null : value.getId().getValue();
+        enter(id);
+        field("name");
+        walkLabel(value.getName());
+        pop();
+        field("options");
+        walkListOfTruthOption(value.getOptions());
+        pop();
+        field("canonical_name");
+        walkLabel(value.getCanonicalName());
+        pop();
+        field("suggestions");
+        walkSuggestions(value.getSuggestions());
+        pop();
+        field("summary");
+        walkMarkdownString(value.getSummary());
+        pop();
+        field("your_character");
+        walkMarkdownString(value.getYourCharacter());
+        pop();
+        leave(id);
+    }
+
+    void walkTruthId(TruthId value) {
+        if (value != null) {
+            reference(value.getValue());
+        }
+    }
+
+    void walkTruthOption(TruthOption value) {
+        if (value == null) {
+            return;
+        }
+        field("description");
+        walkMarkdownString(value.getDescription());
+        pop();
+        field("quest_starter");
+        walkMarkdownString(value.getQuestStarter());
+        pop();
+        field("summary");
+        walkMarkdownString(value.getSummary());
+        pop();
+        field("table");
+        walkTruthOptionTable(value.getTable());
+        pop();
+    }
+
+    void walkTruthOptionTable(TruthOptionTable value) {
+        if (value == null) {
+            return;
+        }
+        field("rows");
+        walkListOfOracleTableRowText(value.getRows());
+        pop();
+    }
+
+    void walkListOfAssetAbility(List<AssetAbility> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkAssetAbility(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfAssetId(List<AssetId> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkAssetId(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfAssetIdWildcard(List<AssetIdWildcard> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkAssetIdWildcard(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfAtlasEntryId(List<AtlasEntryId> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkAtlasEntryId(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfDelveSiteDenizen(List<DelveSiteDenizen> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkDelveSiteDenizen(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfDelveSiteDomainId(List<DelveSiteDomainId> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkDelveSiteDomainId(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfDelveSiteThemeId(List<DelveSiteThemeId> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkDelveSiteThemeId(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfMarkdownString(List<MarkdownString> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkMarkdownString(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfMoveEnhancement(List<MoveEnhancement> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkMoveEnhancement(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfMoveId(List<MoveId> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkMoveId(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfMoveIdWildcard(List<MoveIdWildcard> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkMoveIdWildcard(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfNpcId(List<NpcId> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkNpcId(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfOracleRoll(List<OracleRoll> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkOracleRoll(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfOracleRollableId(List<OracleRollableId> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkOracleRollableId(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfOracleTableRowText(List<OracleTableRowText> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkOracleTableRowText(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfOracleTableRowText2(List<OracleTableRowText2> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkOracleTableRowText2(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfOracleTableRowText3(List<OracleTableRowText3> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkOracleTableRowText3(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfRarityId(List<RarityId> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkRarityId(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfRollableValue(List<RollableValue> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkRollableValue(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfTriggerActionRollCondition(List<TriggerActionRollCondition> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkTriggerActionRollCondition(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfTriggerActionRollConditionEnhancement(List<TriggerActionRollConditionEnhancement> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkTriggerActionRollConditionEnhancement(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfTriggerNoRollCondition(List<TriggerNoRollCondition> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkTriggerNoRollCondition(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfTriggerProgressRollCondition(List<TriggerProgressRollCondition> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkTriggerProgressRollCondition(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfTriggerProgressRollConditionEnhancement(List<TriggerProgressRollConditionEnhancement> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkTriggerProgressRollConditionEnhancement(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfTriggerSpecialTrackCondition(List<TriggerSpecialTrackCondition> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkTriggerSpecialTrackCondition(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfTriggerSpecialTrackConditionEnhancement(List<TriggerSpecialTrackConditionEnhancement> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkTriggerSpecialTrackConditionEnhancement(value.get(i));
+            pop();
+        }
+    }
+
+    void walkListOfTruthOption(List<TruthOption> value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.size(); i++) {
+            index(i);
+            walkTruthOption(value.get(i));
+            pop();
+        }
+    }
+
+    void walkMapOfAsset(Map<String, Asset> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, Asset> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkAsset(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfAssetCollection(Map<String, AssetCollection> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, AssetCollection> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkAssetCollection(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfAssetControlField(Map<String, AssetControlField> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, AssetControlField> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkAssetControlField(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfAssetControlFieldSelectEnhancementChoice(Map<String, AssetControlFieldSelectEnhancementChoice> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, AssetControlFieldSelectEnhancementChoice> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkAssetControlFieldSelectEnhancementChoice(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfAssetOptionField(Map<String, AssetOptionField> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, AssetOptionField> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkAssetOptionField(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfAssetOptionFieldSelectEnhancementChoice(Map<String, AssetOptionFieldSelectEnhancementChoice> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, AssetOptionFieldSelectEnhancementChoice> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkAssetOptionFieldSelectEnhancementChoice(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfAtlasCollection(Map<String, AtlasCollection> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, AtlasCollection> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkAtlasCollection(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfAtlasEntry(Map<String, AtlasEntry> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, AtlasEntry> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkAtlasEntry(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfConditionMeterRule(Map<String, ConditionMeterRule> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, ConditionMeterRule> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkConditionMeterRule(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfDelveSite(Map<String, DelveSite> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, DelveSite> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkDelveSite(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfDelveSiteDomain(Map<String, DelveSiteDomain> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, DelveSiteDomain> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkDelveSiteDomain(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfDelveSiteTheme(Map<String, DelveSiteTheme> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, DelveSiteTheme> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkDelveSiteTheme(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfImpactCategory(Map<String, ImpactCategory> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, ImpactCategory> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkImpactCategory(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfImpactRule(Map<String, ImpactRule> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, ImpactRule> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkImpactRule(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfMove(Map<String, Move> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, Move> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkMove(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfMoveCategory(Map<String, MoveCategory> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, MoveCategory> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkMoveCategory(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfNpc(Map<String, Npc> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, Npc> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkNpc(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfNpcCollection(Map<String, NpcCollection> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, NpcCollection> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkNpcCollection(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfNpcVariant(Map<String, NpcVariant> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, NpcVariant> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkNpcVariant(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfOracleCollection(Map<String, OracleCollection> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, OracleCollection> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkOracleCollection(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfOracleColumnText(Map<String, OracleColumnText> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, OracleColumnText> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkOracleColumnText(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfOracleColumnText2(Map<String, OracleColumnText2> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, OracleColumnText2> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkOracleColumnText2(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfOracleColumnText3(Map<String, OracleColumnText3> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, OracleColumnText3> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkOracleColumnText3(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfOracleTableRollable(Map<String, OracleTableRollable> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, OracleTableRollable> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkOracleTableRollable(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfOracleTablesCollection(Map<String, OracleTablesCollection> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, OracleTablesCollection> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkOracleTablesCollection(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfRarity(Map<String, Rarity> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, Rarity> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkRarity(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfSelectEnhancementFieldChoice(Map<String, SelectEnhancementFieldChoice> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, SelectEnhancementFieldChoice> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkSelectEnhancementFieldChoice(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfSelectValueFieldChoice(Map<String, SelectValueFieldChoice> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, SelectValueFieldChoice> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkSelectValueFieldChoice(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfSpecialTrackRule(Map<String, SpecialTrackRule> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, SpecialTrackRule> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkSpecialTrackRule(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfStatRule(Map<String, StatRule> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, StatRule> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkStatRule(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfTagRule(Map<String, TagRule> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, TagRule> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkTagRule(entry.getValue());
+            pop();
+        }
+    }
+
+    void walkMapOfTruth(Map<String, Truth> value) {
+        if (value == null) {
+            return;
+        }
+        for (Map.Entry<String, Truth> entry : value.entrySet()) {
+            field(entry.getKey());
+            walkTruth(entry.getValue());
+            pop();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package Datasworn.index;
+
+import java.util.Arrays;
+
+/**
+ * Path tracking and text scanning shared by the generated
+ * {@link ContentWalker}.<p>
+ * Each reference or text is reported with the ID of the nearest enclosing
+ * object that has one, and the path from that object to it, made of JSON
+ * property names, map keys and list indexes, such as
+ * {@code suggestions.oracles[0]} or {@code outcomes.strong_hit.text}.
+ */
+abstract class ContentWalkerBase {
+    interface Sink {
+        /**
+         * @param from the ID of the object holding the reference.
+         * @param path where the reference is within {@code from}.
+         * @param to   the referenced ID, which may be a wildcard.
+         */
+        default void reference(String from, String path, String to) {
+        }
+
+        /**
+         * @param text  markdown or template text, or a plain label.
+         * @param label whether {@code text} is a {@code Label}.
+         */
+        default void text(String from, String path, String text, boolean label) {
+        }
+    }
+
+    private final Sink sink;
+    private final StringBuilder path = new StringBuilder();
+    private int[] marks = new int[32];
+    private int depth;
+    private String[] owners = new String[8];
+    private int[] bases = new int[8];
+    private int owner = -1;
+
+    protected ContentWalkerBase(Sink sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * Starts walking an object, which becomes the referrer for everything in
+     * it if {@code id} isn't null.
+     */
+    protected final void enter(String id) {
+        if (id == null) {
+            return;
+        }
+        owner++;
+        if (owner == owners.length) {
+            owners = Arrays.copyOf(owners, owner * 2);
+            bases = Arrays.copyOf(bases, owner * 2);
+        }
+        owners[owner] = id;
+        bases[owner] = path.length();
+    }
+
+    /**
+     * Finishes walking an object started with {@link #enter}.
+     */
+    protected final void leave(String id) {
+        if (id != null) {
+            owners[owner--] = null;
+        }
+    }
+
+    protected final void field(String name) {
+        mark();
+        if (path.length() > (owner < 0 ? 0 : bases[owner])) {
+            path.append('.');
+        }
+        path.append(name);
+    }
+
+    protected final void index(int index) {
+        mark();
+        path.append('[').append(index).append(']');
+    }
+
+    protected final void pop() {
+        path.setLength(marks[--depth]);
+    }
+
+    /**
+     * Reports a typed ID reference.
+     */
+    protected final void reference(String to) {
+        if (owner >= 0) {
+            sink.reference(owners[owner], path.substring(bases[owner]), to);
+        }
+    }
+
+    /**
+     * Reports a label.
+     */
+    protected final void label(String text) {
+        if (text != null && owner >= 0) {
+            sink.text(owners[owner], path.substring(bases[owner]), text, true);
+        }
+    }
+
+    /**
+     * Reports markdown or template text, and the {@code (id:...)} links and
+     * {@code {{kind:id}}} macros in it.
+     */
+    protected final void text(String text) {
+        if (text == null || owner < 0) {
+            return;
+        }
+        sink.text(owners[owner], path.substring(bases[owner]), text, false);
+        for (int start = text.indexOf("(id:"); start >= 0; start = text.indexOf("(id:", start + 1)) {
+            int end = text.indexOf(')', start);
+            if (end < 0) {
+                break;
+            }
+            reference(text.substring(start + "(id:".length(), end));
+        }
+        for (int start = text.indexOf("{{"); start >= 0; start = text.indexOf("{{", start + 2)) {
+            int end = text.indexOf("}}", start);
+            int colon = text.indexOf(':', start);
+            if (end < 0) {
+                break;
+            }
+            if (colon >= 0 && colon < end) {
+                reference(text.substring(colon + 1, end));
+            }
+        }
+    }
+
+    private void mark() {
+        if (depth == marks.length) {
+            marks = Arrays.copyOf(marks, depth * 2);
+        }
+        marks[depth++] = path.length();
+    }
+}
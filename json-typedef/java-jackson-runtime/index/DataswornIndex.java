@@ -0,0 +1,174 @@
+package Datasworn.index;
+
+import Datasworn.RulesPackage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Looks up anything with an {@code _id} across one or more packages: the
+ * packages themselves, collections and their contents, asset abilities and
+ * the moves they add, and NPC variants.<p>
+ * An index is built once, walking each top-level section of each package in
+ * parallel, and is immutable afterwards. Lookups are a single hash probe.
+ * Building an index reads every section, so it defeats
+ * {@code RulesPackageLoader.readLazily}.
+ * <pre>
+ * DataswornIndex index = DataswornIndex.of(starforged, sunderedIsles);
+ * OracleTableRollable action = index.get("starforged/oracles/core/action", OracleTableRollable.class);
+ * </pre>
+ */
+public final class DataswornIndex {
+    private final Map<String, Node> nodes;
+    private final List<RulesPackage> packages;
+    private volatile IdTrie trie;
+
+    private DataswornIndex(Map<String, Node> nodes, List<RulesPackage> packages) {
+        this.nodes = nodes;
+        this.packages = packages;
+    }
+
+    public static DataswornIndex of(RulesPackage... packages) {
+        return of(Arrays.asList(packages));
+    }
+
+    /**
+     * @throws IllegalArgumentException if two objects share an ID.
+     */
+    public static DataswornIndex of(Collection<? extends RulesPackage> packages) {
+        List<RulesPackage> ordered = List.copyOf(packages);
+        Map<String, Node> roots = new HashMap<>();
+        List<IdWalker.Section> sections = new ArrayList<>();
+        for (RulesPackage rulesPackage : ordered) {
+            String id = IdWalker.id(rulesPackage);
+            if (id != null) {
+                put(roots, id, new Node(rulesPackage, null));
+            }
+            sections.addAll(IdWalker.sections(rulesPackage));
+        }
+        List<Map<String, Node>> parts = sections.parallelStream()
+                .map(section -> {
+                    Map<String, Node> part = new HashMap<>();
+                    section.walk((id, node, parent) -> put(part, id, new Node(node, parent)));
+                    return part;
+                })
+                .collect(Collectors.toList());
+        int size = roots.size();
+        for (Map<String, Node> part : parts) {
+            size += part.size();
+        }
+        Map<String, Node> nodes = new HashMap<>(size * 4 / 3 + 1);
+        nodes.putAll(roots);
+        for (Map<String, Node> part : parts) {
+            part.forEach((id, node) -> put(nodes, id, node));
+        }
+        return new DataswornIndex(nodes, ordered);
+    }
+
+    /**
+     * Returns the object with the given ID, or null if there's none.
+     */
+    public Object get(String id) {
+        Node node = nodes.get(id);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Returns the object with the given ID, or null if there's none or it
+     * isn't a {@code type}.
+     */
+    public <T> T get(String id, Class<T> type) {
+        Object value = get(id);
+        return type.isInstance(value) ? type.cast(value) : null;
+    }
+
+    /**
+     * Returns the object that the object with the given ID is nested in, or
+     * null if there's no such ID or it's a package's ID. Top-level collections
+     * and other section entries have their package as their parent.
+     */
+    public Object parent(String id) {
+        Node node = nodes.get(id);
+        return node == null ? null : node.parent;
+    }
+
+    public boolean contains(String id) {
+        return nodes.containsKey(id);
+    }
+
+    /**
+     * Returns every indexed ID.
+     */
+    public Set<String> ids() {
+        return Collections.unmodifiableSet(nodes.keySet());
+    }
+
+    /**
+     * Returns the packages this index was built over, in the order given.
+     */
+    public List<RulesPackage> packages() {
+        return packages;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Returns the handle of an ID: its position among the indexed IDs in
+     * sorted order, or -1 if it isn't indexed. Handles run densely from 0 to
+     * {@code size() - 1}, for array- and bitset-indexed lookups such as
+     * {@link TagIndex}'s.
+     */
+    public int handle(String id) {
+        int handle = Arrays.binarySearch(trie().ids, id);
+        return handle < 0 ? -1 : handle;
+    }
+
+    /**
+     * Returns the ID with the given handle.
+     */
+    public String id(int handle) {
+        return trie().ids[handle];
+    }
+
+    /**
+     * Returns the indexed IDs as a trie, building it the first time.
+     */
+    IdTrie trie() {
+        IdTrie current = trie;
+        if (current == null) {
+            synchronized (this) {
+                current = trie;
+                if (current == null) {
+                    current = IdTrie.of(nodes.keySet());
+                    trie = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static void put(Map<String, Node> nodes, String id, Node node) {
+        if (nodes.putIfAbsent(id, node) != null) {
+            throw new IllegalArgumentException("Duplicate Datasworn ID " + id);
+        }
+    }
+
+    private static final class Node {
+        final Object value;
+        final Object parent;
+
+        Node(Object value, Object parent) {
+            this.value = value;
+            this.parent = parent;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package Datasworn.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable set of object handles, the dense {@code int}s that an index
+ * assigns to the objects in it.<p>
+ * A set is stored either as a sorted {@code int[]} or as a bitmap, whichever
+ * is smaller, the way Roaring bitmaps choose their containers: sets of a few
+ * handles cost four bytes each, and large sets one bit per possible handle.
+ * Intersections and unions of two bitmaps work a word at a time.
+ */
+public final class HandleSet {
+    public static final HandleSet EMPTY = new HandleSet(new int[0], null, 0);
+
+    /** Sorted handles, or null if this set is a bitmap. */
+    private final int[] handles;
+    /** The bitmap, or null if this set is sorted handles. */
+    private final long[] words;
+    private final int size;
+
+    private HandleSet(int[] handles, long[] words, int size) {
+        this.handles = handles;
+        this.words = words;
+        this.size = size;
+    }
+
+    public static HandleSet of(int... handles) {
+        BitSet bits = new BitSet();
+        for (int handle : handles) {
+            bits.set(handle);
+        }
+        return of(bits);
+    }
+
+    public static HandleSet of(BitSet bits) {
+        int size = bits.cardinality();
+        if (size == 0) {
+            return EMPTY;
+        }
+        long[] words = bits.toLongArray();
+        if ((long) size * Integer.SIZE < (long) words.length * Long.SIZE) {
+            return new HandleSet(bits.stream().toArray(), null, size);
+        }
+        return new HandleSet(null, words, size);
+    }
+
+    public boolean contains(int handle) {
+        if (handle < 0) {
+            return false;
+        }
+        if (words == null) {
+            return Arrays.binarySearch(handles, handle) >= 0;
+        }
+        int word = handle >>> 6;
+        return word < words.length && (words[word] & (1L << handle)) != 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public HandleSet and(HandleSet other) {
+        if (isEmpty() || other.isEmpty()) {
+            return EMPTY;
+        }
+        if (words != null && other.words != null) {
+            long[] result = new long[Math.min(words.length, other.words.length)];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = words[i] & other.words[i];
+            }
+            return of(BitSet.valueOf(result));
+        }
+        HandleSet sparse = words == null ? this : other;
+        HandleSet dense = sparse == this ? other : this;
+        BitSet bits = new BitSet();
+        for (int handle : sparse.handles) {
+            if (dense.contains(handle)) {
+                bits.set(handle);
+            }
+        }
+        return of(bits);
+    }
+
+    public HandleSet or(HandleSet other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        BitSet bits = toBitSet();
+        bits.or(other.toBitSet());
+        return of(bits);
+    }
+
+    public HandleSet andNot(HandleSet other) {
+        if (isEmpty() || other.isEmpty()) {
+            return this;
+        }
+        BitSet bits = toBitSet();
+        bits.andNot(other.toBitSet());
+        return of(bits);
+    }
+
+    /**
+     * Calls {@code action} with every handle, in ascending order.
+     */
+    public void forEach(IntConsumer action) {
+        if (words == null) {
+            for (int handle : handles) {
+                action.accept(handle);
+            }
+            return;
+        }
+        for (int i = 0; i < words.length; i++) {
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                action.accept(i * Long.SIZE + Long.numberOfTrailingZeros(word));
+            }
+        }
+    }
+
+    public int[] toArray() {
+        if (words == null) {
+            return handles.clone();
+        }
+        return BitSet.valueOf(words).stream().toArray();
+    }
+
+    public BitSet toBitSet() {
+        if (words != null) {
+            return BitSet.valueOf(words);
+        }
+        BitSet bits = new BitSet();
+        for (int handle : handles) {
+            bits.set(handle);
+        }
+        return bits;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof HandleSet && toBitSet().equals(((HandleSet) o).toBitSet());
+    }
+
+    @Override
+    public int hashCode() {
+        return toBitSet().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
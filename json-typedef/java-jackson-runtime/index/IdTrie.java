@@ -0,0 +1,129 @@
+package Datasworn.index;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The IDs of a {@link DataswornIndex} as a trie of their {@code /}-separated
+ * segments, so that {@link WildcardMatcher} can match every ID in one
+ * traversal instead of testing them one by one.
+ */
+final class IdTrie {
+    final Node root;
+    /**
+     * Every ID, by ordinal. Ordinals follow the IDs' sorted order.
+     */
+    final String[] ids;
+
+    private IdTrie(Node root, String[] ids) {
+        this.root = root;
+        this.ids = ids;
+    }
+
+    static IdTrie of(Collection<String> ids) {
+        String[] sorted = ids.toArray(new String[0]);
+        Arrays.sort(sorted);
+        Builder root = new Builder();
+        for (int ordinal = 0; ordinal < sorted.length; ordinal++) {
+            String id = sorted[ordinal];
+            Builder node = root;
+            for (int start = 0; ; ) {
+                int end = segmentEnd(id, start);
+                node = node.children.computeIfAbsent(id.substring(start, end), key -> new Builder());
+                if (end == id.length()) {
+                    break;
+                }
+                start = end + 1;
+            }
+            node.ordinal = ordinal;
+        }
+        return new IdTrie(root.build(), sorted);
+    }
+
+    static final class Node {
+        /**
+         * Segments leading to {@link #children}, sorted.
+         */
+        final String[] labels;
+        final Node[] children;
+        /**
+         * The ordinal of the ID ending here, or -1.
+         */
+        final int ordinal;
+
+        Node(String[] labels, Node[] children, int ordinal) {
+            this.labels = labels;
+            this.children = children;
+            this.ordinal = ordinal;
+        }
+
+        Node child(String label) {
+            int i = Arrays.binarySearch(labels, label);
+            return i < 0 ? null : children[i];
+        }
+    }
+
+    /**
+     * Returns the index of the segment that starts at {@code start} in
+     * {@code labels}, which must be sorted, or a negative number if there's
+     * none.
+     */
+    static int find(String[] labels, String id, int start, int end) {
+        int low = 0;
+        int high = labels.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(labels[mid], id, start, end);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the end of the segment that starts at {@code start}: the index
+     * of the next {@code /}, or the length of {@code id}.
+     */
+    static int segmentEnd(String id, int start) {
+        int end = id.indexOf('/', start);
+        return end < 0 ? id.length() : end;
+    }
+
+    /**
+     * Compares {@code label} with {@code id.substring(start, end)}, the way
+     * {@link String#compareTo} would.
+     */
+    private static int compare(String label, String id, int start, int end) {
+        int length = end - start;
+        int n = Math.min(label.length(), length);
+        for (int i = 0; i < n; i++) {
+            int cmp = label.charAt(i) - id.charAt(start + i);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return label.length() - length;
+    }
+
+    private static final class Builder {
+        final Map<String, Builder> children = new TreeMap<>();
+        int ordinal = -1;
+
+        Node build() {
+            String[] labels = children.keySet().toArray(new String[0]);
+            Node[] built = new Node[labels.length];
+            int i = 0;
+            for (Builder child : children.values()) {
+                built[i++] = child.build();
+            }
+            return new Node(labels, built, ordinal);
+        }
+    }
+}
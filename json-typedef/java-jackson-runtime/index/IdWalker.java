@@ -0,0 +1,319 @@
+package Datasworn.index;
+
+import Datasworn.Asset;
+import Datasworn.AssetAbility;
+import Datasworn.AssetCollection;
+import Datasworn.AtlasCollection;
+import Datasworn.AtlasEntry;
+import Datasworn.DelveSite;
+import Datasworn.DelveSiteDomain;
+import Datasworn.DelveSiteTheme;
+import Datasworn.Move;
+import Datasworn.MoveActionRoll;
+import Datasworn.MoveCategory;
+import Datasworn.MoveId;
+import Datasworn.MoveNoRoll;
+import Datasworn.MoveProgressRoll;
+import Datasworn.MoveSpecialTrack;
+import Datasworn.Npc;
+import Datasworn.NpcCollection;
+import Datasworn.NpcVariant;
+import Datasworn.OracleCollection;
+import Datasworn.OracleCollectionOracleTableSharedText3;
+import Datasworn.OracleCollectionTableSharedRolls;
+import Datasworn.OracleCollectionTableSharedText;
+import Datasworn.OracleCollectionTableSharedText2;
+import Datasworn.OracleCollectionTables;
+import Datasworn.OracleColumnText;
+import Datasworn.OracleColumnText2;
+import Datasworn.OracleColumnText3;
+import Datasworn.OracleRollableId;
+import Datasworn.OracleTableRollable;
+import Datasworn.OracleTableRollableTableText;
+import Datasworn.OracleTableRollableTableText2;
+import Datasworn.OracleTableRollableTableText3;
+import Datasworn.OracleTablesCollection;
+import Datasworn.Rarity;
+import Datasworn.Rules;
+import Datasworn.RulesExpansion;
+import Datasworn.RulesPackage;
+import Datasworn.RulesPackageExpansion;
+import Datasworn.RulesPackageRuleset;
+import Datasworn.TagRule;
+import Datasworn.Truth;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Walks every object with an {@code _id} in a {@link RulesPackage}: its
+ * collections and their contents, asset abilities and the moves they add,
+ * and NPC variants.<p>
+ * The bindings have no common type for objects with IDs, so this is where the
+ * shape of the Datasworn tree is spelled out for the indexes in this package.
+ */
+final class IdWalker {
+    private IdWalker() {
+    }
+
+    interface Visitor {
+        /**
+         * @param parent the object {@code node} is nested in, or the package
+         *               for top-level objects.
+         */
+        void visit(String id, Object node, Object parent);
+    }
+
+    /**
+     * One top-level section of a package, such as its oracles. Sections don't
+     * share objects, so they can be walked concurrently.
+     */
+    interface Section {
+        void walk(Visitor visitor);
+    }
+
+    /**
+     * Returns the package's ID, or null if it has none.
+     */
+    static String id(RulesPackage rulesPackage) {
+        if (rulesPackage instanceof RulesPackageRuleset) {
+            RulesPackageRuleset ruleset = (RulesPackageRuleset) rulesPackage;
+            return ruleset.getId() == null ? null : ruleset.getId().getValue();
+        }
+        if (rulesPackage instanceof RulesPackageExpansion) {
+            RulesPackageExpansion expansion = (RulesPackageExpansion) rulesPackage;
+            return expansion.getId() == null ? null : expansion.getId().getValue();
+        }
+        throw new IllegalArgumentException("Unknown RulesPackage subtype " + rulesPackage.getClass().getName());
+    }
+
+    /**
+     * Returns the package's tag rules, keyed by tag name, or null if it has
+     * none.
+     */
+    static Map<String, TagRule> tagRules(RulesPackage rulesPackage) {
+        if (rulesPackage instanceof RulesPackageRuleset) {
+            Rules rules = ((RulesPackageRuleset) rulesPackage).getRules();
+            return rules == null ? null : rules.getTags();
+        }
+        if (rulesPackage instanceof RulesPackageExpansion) {
+            RulesExpansion rules = ((RulesPackageExpansion) rulesPackage).getRules();
+            return rules == null ? null : rules.getTags();
+        }
+        throw new IllegalArgumentException("Unknown RulesPackage subtype " + rulesPackage.getClass().getName());
+    }
+
+    static List<Section> sections(RulesPackage rulesPackage) {
+        if (rulesPackage instanceof RulesPackageRuleset) {
+            RulesPackageRuleset r = (RulesPackageRuleset) rulesPackage;
+            return sections(r, r.getAssets(), r.getAtlas(), r.getDelveSites(), r.getMoves(), r.getNpcs(),
+                    r.getOracles(), r.getRarities(), r.getSiteDomains(), r.getSiteThemes(), r.getTruths());
+        }
+        if (rulesPackage instanceof RulesPackageExpansion) {
+            RulesPackageExpansion e = (RulesPackageExpansion) rulesPackage;
+            return sections(e, e.getAssets(), e.getAtlas(), e.getDelveSites(), e.getMoves(), e.getNpcs(),
+                    e.getOracles(), e.getRarities(), e.getSiteDomains(), e.getSiteThemes(), e.getTruths());
+        }
+        throw new IllegalArgumentException("Unknown RulesPackage subtype " + rulesPackage.getClass().getName());
+    }
+
+    private static List<Section> sections(RulesPackage p, Map<String, AssetCollection> assets,
+            Map<String, AtlasCollection> atlas, Map<String, DelveSite> delveSites,
+            Map<String, MoveCategory> moves, Map<String, NpcCollection> npcs,
+            Map<String, OracleTablesCollection> oracles, Map<String, Rarity> rarities,
+            Map<String, DelveSiteDomain> siteDomains, Map<String, DelveSiteTheme> siteThemes,
+            Map<String, Truth> truths) {
+        List<Section> sections = new ArrayList<>(10);
+        if (assets != null) {
+            sections.add(v -> assets.values().forEach(c -> walk(c, p, v)));
+        }
+        if (atlas != null) {
+            sections.add(v -> atlas.values().forEach(c -> walk(c, p, v)));
+        }
+        if (delveSites != null) {
+            sections.add(v -> delveSites.values().forEach(s ->
+                    visit(s.getId() == null ? null : s.getId().getValue(), s, p, v)));
+        }
+        if (moves != null) {
+            sections.add(v -> moves.values().forEach(c -> walk(c, p, v)));
+        }
+        if (npcs != null) {
+            sections.add(v -> npcs.values().forEach(c -> walk(c, p, v)));
+        }
+        if (oracles != null) {
+            sections.add(v -> oracles.values().forEach(c -> walk(c, p, v)));
+        }
+        if (rarities != null) {
+            sections.add(v -> rarities.values().forEach(r ->
+                    visit(r.getId() == null ? null : r.getId().getValue(), r, p, v)));
+        }
+        if (siteDomains != null) {
+            sections.add(v -> siteDomains.values().forEach(d ->
+                    visit(d.getId() == null ? null : d.getId().getValue(), d, p, v)));
+        }
+        if (siteThemes != null) {
+            sections.add(v -> siteThemes.values().forEach(t ->
+                    visit(t.getId() == null ? null : t.getId().getValue(), t, p, v)));
+        }
+        if (truths != null) {
+            sections.add(v -> truths.values().forEach(t ->
+                    visit(t.getId() == null ? null : t.getId().getValue(), t, p, v)));
+        }
+        return sections;
+    }
+
+    /**
+     * Returns a move's ID, or null if it has none.
+     */
+    static String id(Move move) {
+        MoveId id;
+        if (move instanceof MoveActionRoll) {
+            id = ((MoveActionRoll) move).getId();
+        } else if (move instanceof MoveNoRoll) {
+            id = ((MoveNoRoll) move).getId();
+        } else if (move instanceof MoveProgressRoll) {
+            id = ((MoveProgressRoll) move).getId();
+        } else if (move instanceof MoveSpecialTrack) {
+            id = ((MoveSpecialTrack) move).getId();
+        } else {
+            throw new IllegalArgumentException("Unknown Move subtype " + move.getClass().getName());
+        }
+        return id == null ? null : id.getValue();
+    }
+
+    /**
+     * Returns an oracle table's ID, or null if it has none.
+     */
+    static String id(OracleTableRollable table) {
+        OracleRollableId id;
+        if (table instanceof OracleTableRollableTableText) {
+            id = ((OracleTableRollableTableText) table).getId();
+        } else if (table instanceof OracleTableRollableTableText2) {
+            id = ((OracleTableRollableTableText2) table).getId();
+        } else if (table instanceof OracleTableRollableTableText3) {
+            id = ((OracleTableRollableTableText3) table).getId();
+        } else {
+            throw new IllegalArgumentException("Unknown OracleTableRollable subtype " + table.getClass().getName());
+        }
+        return id == null ? null : id.getValue();
+    }
+
+    private static void walk(AssetCollection collection, Object parent, Visitor v) {
+        visit(collection.getId() == null ? null : collection.getId().getValue(), collection, parent, v);
+        if (collection.getContents() != null) {
+            collection.getContents().values().forEach(asset -> walk(asset, collection, v));
+        }
+    }
+
+    private static void walk(Asset asset, Object parent, Visitor v) {
+        visit(asset.getId() == null ? null : asset.getId().getValue(), asset, parent, v);
+        if (asset.getAbilities() != null) {
+            for (AssetAbility ability : asset.getAbilities()) {
+                visit(ability.getId() == null ? null : ability.getId().getValue(), ability, asset, v);
+                if (ability.getMoves() != null) {
+                    ability.getMoves().values().forEach(move -> visit(id(move), move, ability, v));
+                }
+            }
+        }
+    }
+
+    private static void walk(AtlasCollection collection, Object parent, Visitor v) {
+        visit(collection.getId() == null ? null : collection.getId().getValue(), collection, parent, v);
+        if (collection.getCollections() != null) {
+            collection.getCollections().values().forEach(child -> walk(child, collection, v));
+        }
+        if (collection.getContents() != null) {
+            for (AtlasEntry entry : collection.getContents().values()) {
+                visit(entry.getId() == null ? null : entry.getId().getValue(), entry, collection, v);
+            }
+        }
+    }
+
+    private static void walk(MoveCategory category, Object parent, Visitor v) {
+        visit(category.getId() == null ? null : category.getId().getValue(), category, parent, v);
+        if (category.getContents() != null) {
+            category.getContents().values().forEach(move -> visit(id(move), move, category, v));
+        }
+    }
+
+    private static void walk(NpcCollection collection, Object parent, Visitor v) {
+        visit(collection.getId() == null ? null : collection.getId().getValue(), collection, parent, v);
+        if (collection.getContents() == null) {
+            return;
+        }
+        for (Npc npc : collection.getContents().values()) {
+            visit(npc.getId() == null ? null : npc.getId().getValue(), npc, collection, v);
+            if (npc.getVariants() != null) {
+                for (NpcVariant variant : npc.getVariants().values()) {
+                    visit(variant.getId() == null ? null : variant.getId().getValue(), variant, npc, v);
+                }
+            }
+        }
+    }
+
+    private static void walk(OracleTablesCollection collection, Object parent, Visitor v) {
+        visit(collection.getId() == null ? null : collection.getId().getValue(), collection, parent, v);
+        walk(collection.getCollections(), collection, v);
+        if (collection.getContents() != null) {
+            collection.getContents().values().forEach(table -> visit(id(table), table, collection, v));
+        }
+    }
+
+    private static void walk(Map<String, OracleCollection> collections, Object parent, Visitor v) {
+        if (collections == null) {
+            return;
+        }
+        for (OracleCollection collection : collections.values()) {
+            if (collection instanceof OracleCollectionTables) {
+                OracleCollectionTables tables = (OracleCollectionTables) collection;
+                visit(tables.getId() == null ? null : tables.getId().getValue(), tables, parent, v);
+                walk(tables.getCollections(), tables, v);
+                if (tables.getContents() != null) {
+                    tables.getContents().values().forEach(table -> visit(id(table), table, tables, v));
+                }
+            } else if (collection instanceof OracleCollectionTableSharedRolls) {
+                OracleCollectionTableSharedRolls shared = (OracleCollectionTableSharedRolls) collection;
+                visit(shared.getId() == null ? null : shared.getId().getValue(), shared, parent, v);
+                if (shared.getContents() != null) {
+                    for (OracleColumnText column : shared.getContents().values()) {
+                        visit(column.getId() == null ? null : column.getId().getValue(), column, shared, v);
+                    }
+                }
+            } else if (collection instanceof OracleCollectionTableSharedText) {
+                OracleCollectionTableSharedText shared = (OracleCollectionTableSharedText) collection;
+                visit(shared.getId() == null ? null : shared.getId().getValue(), shared, parent, v);
+                if (shared.getContents() != null) {
+                    for (OracleColumnText column : shared.getContents().values()) {
+                        visit(column.getId() == null ? null : column.getId().getValue(), column, shared, v);
+                    }
+                }
+            } else if (collection instanceof OracleCollectionTableSharedText2) {
+                OracleCollectionTableSharedText2 shared = (OracleCollectionTableSharedText2) collection;
+                visit(shared.getId() == null ? null : shared.getId().getValue(), shared, parent, v);
+                if (shared.getContents() != null) {
+                    for (OracleColumnText2 column : shared.getContents().values()) {
+                        visit(column.getId() == null ? null : column.getId().getValue(), column, shared, v);
+                    }
+                }
+            } else if (collection instanceof OracleCollectionOracleTableSharedText3) {
+                OracleCollectionOracleTableSharedText3 shared = (OracleCollectionOracleTableSharedText3) collection;
+                visit(shared.getId() == null ? null : shared.getId().getValue(), shared, parent, v);
+                if (shared.getContents() != null) {
+                    for (OracleColumnText3 column : shared.getContents().values()) {
+                        visit(column.getId() == null ? null : column.getId().getValue(), column, shared, v);
+                    }
+                }
+            } else {
+                throw new IllegalArgumentException(
+                        "Unknown OracleCollection subtype " + collection.getClass().getName());
+            }
+        }
+    }
+
+    private static void visit(String id, Object node, Object parent, Visitor v) {
+        if (id != null) {
+            v.visit(id, node, parent);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package Datasworn.index;
+
+import Datasworn.RulesPackage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Answers "what refers to this?" for the packages of a {@link DataswornIndex}.<p>
+ * A reference is any typed ID property other than an object's own
+ * {@code _id} (suggestions, {@code oracle}, {@code embed_table},
+ * {@code replaces}, {@code enhances} and so on), or an {@code (id:...)} link
+ * or {@code {{kind:id}}} macro in markdown or template text. Each one records
+ * the ID of the nearest enclosing object that has one, and the path from that
+ * object to the reference. Wildcard references, such as
+ * {@code *}{@code /assets/companion/*}, are resolved against the index, and
+ * recorded once for every ID they match.<p>
+ * The index is built once, walking each package in parallel, and is immutable
+ * afterwards.
+ */
+public final class ReferenceIndex {
+    private final Map<String, List<Reference>> byTarget;
+    private final Map<String, List<Reference>> bySource;
+
+    private ReferenceIndex(Map<String, List<Reference>> byTarget, Map<String, List<Reference>> bySource) {
+        this.byTarget = byTarget;
+        this.bySource = bySource;
+    }
+
+    public static ReferenceIndex of(DataswornIndex index) {
+        List<List<Reference>> parts = index.packages().parallelStream()
+                .map(ReferenceIndex::walk)
+                .collect(Collectors.toList());
+        Map<String, Integer> wildcards = new LinkedHashMap<>();
+        for (List<Reference> part : parts) {
+            for (Reference reference : part) {
+                if (reference.to.indexOf('*') >= 0) {
+                    wildcards.putIfAbsent(reference.to, wildcards.size());
+                }
+            }
+        }
+        List<List<String>> matches = new ArrayList<>(wildcards.size());
+        for (int i = 0; i < wildcards.size(); i++) {
+            matches.add(new ArrayList<>());
+        }
+        WildcardMatcher.compile(wildcards.keySet()).forEachMatch(index, (id, i) -> matches.get(i).add(id));
+
+        Map<String, List<Reference>> byTarget = new HashMap<>();
+        Map<String, List<Reference>> bySource = new HashMap<>();
+        for (List<Reference> part : parts) {
+            for (Reference reference : part) {
+                Integer wildcard = wildcards.get(reference.to);
+                if (wildcard == null) {
+                    add(byTarget, bySource, reference);
+                } else {
+                    for (String id : matches.get(wildcard)) {
+                        add(byTarget, bySource, new Reference(reference.from, reference.path, id, reference.to));
+                    }
+                }
+            }
+        }
+        byTarget.replaceAll((id, references) -> Collections.unmodifiableList(references));
+        bySource.replaceAll((id, references) -> Collections.unmodifiableList(references));
+        return new ReferenceIndex(byTarget, bySource);
+    }
+
+    /**
+     * Returns the references to the given ID, in package order. The ID doesn't
+     * have to be in the index: references to missing objects are kept too.
+     */
+    public List<Reference> referencesTo(String id) {
+        return byTarget.getOrDefault(id, Collections.emptyList());
+    }
+
+    /**
+     * Returns the references held by the object with the given ID, not
+     * counting those held by objects nested in it that have IDs of their own.
+     */
+    public List<Reference> referencesFrom(String id) {
+        return bySource.getOrDefault(id, Collections.emptyList());
+    }
+
+    private static List<Reference> walk(RulesPackage rulesPackage) {
+        List<Reference> references = new ArrayList<>();
+        new ContentWalker(new ContentWalkerBase.Sink() {
+            @Override
+            public void reference(String from, String path, String to) {
+                references.add(new Reference(from, path, to, null));
+            }
+        }).walkRulesPackage(rulesPackage);
+        return references;
+    }
+
+    private static void add(Map<String, List<Reference>> byTarget, Map<String, List<Reference>> bySource,
+            Reference reference) {
+        byTarget.computeIfAbsent(reference.to, key -> new ArrayList<>()).add(reference);
+        bySource.computeIfAbsent(reference.from, key -> new ArrayList<>()).add(reference);
+    }
+
+    /**
+     * A single reference from one object to another.
+     */
+    public static final class Reference {
+        private final String from;
+        private final String path;
+        private final String to;
+        private final String wildcard;
+
+        Reference(String from, String path, String to, String wildcard) {
+            this.from = from;
+            this.path = path;
+            this.to = to;
+            this.wildcard = wildcard;
+        }
+
+        /**
+         * Returns the ID of the object holding the reference.
+         */
+        public String from() {
+            return from;
+        }
+
+        /**
+         * Returns where the reference is within {@link #from()}, such as
+         * {@code suggestions.oracles[0]} or {@code outcomes.strong_hit.text}.
+         */
+        public String path() {
+            return path;
+        }
+
+        /**
+         * Returns the referenced ID.
+         */
+        public String to() {
+            return to;
+        }
+
+        /**
+         * Returns the wildcard that matched {@link #to()}, or null if the
+         * reference named it directly.
+         */
+        public String wildcard() {
+            return wildcard;
+        }
+
+        @Override
+        public String toString() {
+            return from + "#" + path + " -> " + to + (wildcard == null ? "" : " (" + wildcard + ")");
+        }
+    }
+}
@@ -0,0 +1,445 @@
+package Datasworn.index;
+
+import Datasworn.RulesPackage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Full-text search over the markdown, template text and labels of the objects
+ * in a {@link DataswornIndex}, ranked by BM25F.<p>
+ * Each object with an {@code _id} is one document, made of two fields: its
+ * {@code name} (or {@code canonical_name}), and all its other text, not
+ * counting text held by objects nested in it that have IDs of their own.
+ * Matches in the name field count {@value #NAME_BOOST} times as much as
+ * matches in the text. Markdown is reduced to its words: emphasis and heading
+ * markers are dropped, links keep their text but not their {@code (id:...)}
+ * targets, and {@code {{table:...}}} macros are skipped.<p>
+ * The index is built once, walking each package section in parallel. Each
+ * term's postings store their precomputed score, so a query only sums scores
+ * into an accumulator and keeps the best {@code k} in a heap.
+ * {@link #search(CharSequence, int, HandleSet, int[], float[])} does that
+ * without allocating, using per-thread scratch space and the caller's arrays:
+ * <pre>
+ * int[] handles = new int[10];
+ * float[] scores = new float[10];
+ * int hits = search.search("face danger", 10, null, handles, scores);
+ * for (int i = 0; i &lt; hits; i++) {
+ *     System.out.println(index.id(handles[i]) + " " + scores[i]);
+ * }
+ * </pre>
+ */
+public final class SearchIndex {
+    public static final float NAME_BOOST = 5f;
+    public static final float TEXT_BOOST = 1f;
+
+    static final float K1 = 1.2f;
+    static final float NAME_B = 0.5f;
+    static final float TEXT_B = 0.75f;
+
+    private static final int NAME = 0;
+    private static final int TEXT = 1;
+
+    private final DataswornIndex index;
+    /** Open-addressed term table: term ordinal + 1, or 0 for an empty slot. */
+    private final int[] slots;
+    private final String[] terms;
+    /** The postings of term {@code t} are {@code offsets[t]} to {@code offsets[t + 1]}. */
+    private final int[] offsets;
+    private final int[] docs;
+    private final float[] impacts;
+    private final ThreadLocal<Scratch> scratch;
+
+    private SearchIndex(DataswornIndex index, String[] terms, int[] offsets, int[] docs, float[] impacts) {
+        this.index = index;
+        this.terms = terms;
+        this.offsets = offsets;
+        this.docs = docs;
+        this.impacts = impacts;
+        this.slots = new int[Integer.highestOneBit(Math.max(terms.length, 1) * 2) * 2];
+        for (int term = 0; term < terms.length; term++) {
+            int mask = slots.length - 1;
+            int slot = terms[term].hashCode() & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = term + 1;
+        }
+        int size = index.size();
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(size));
+    }
+
+    public static SearchIndex of(DataswornIndex index) {
+        List<Runnable> tasks = new ArrayList<>();
+        List<Map<Integer, Document>> parts = new ArrayList<>();
+        for (RulesPackage rulesPackage : index.packages()) {
+            for (IdWalker.Section section : IdWalker.sections(rulesPackage)) {
+                Map<Integer, Document> documents = new HashMap<>();
+                parts.add(documents);
+                tasks.add(() -> walk(index, rulesPackage, section, documents));
+            }
+        }
+        tasks.parallelStream().forEach(Runnable::run);
+
+        int[] lengths = new int[2];
+        int count = 0;
+        Map<String, Integer> ordinals = new HashMap<>();
+        List<String> terms = new ArrayList<>();
+        List<int[]> postings = new ArrayList<>();
+        for (Map<Integer, Document> documents : parts) {
+            for (Document document : documents.values()) {
+                count++;
+                lengths[NAME] += document.lengths[NAME];
+                lengths[TEXT] += document.lengths[TEXT];
+                for (String term : document.frequencies.keySet()) {
+                    Integer ordinal = ordinals.get(term);
+                    if (ordinal == null) {
+                        ordinal = terms.size();
+                        ordinals.put(term, ordinal);
+                        terms.add(term);
+                        postings.add(new int[1]);
+                    }
+                    postings.get(ordinal)[0]++;
+                }
+            }
+        }
+
+        int[] offsets = new int[terms.size() + 1];
+        for (int term = 0; term < terms.size(); term++) {
+            offsets[term + 1] = offsets[term] + postings.get(term)[0];
+        }
+        int[] docs = new int[offsets[terms.size()]];
+        float[] impacts = new float[docs.length];
+        int[] next = Arrays.copyOf(offsets, terms.size());
+        float averageName = count == 0 ? 1 : Math.max(1, (float) lengths[NAME] / count);
+        float averageText = count == 0 ? 1 : Math.max(1, (float) lengths[TEXT] / count);
+        Map<Integer, Document> all = new HashMap<>();
+        parts.forEach(all::putAll);
+        int[] handles = all.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        for (int handle : handles) {
+            Document document = all.get(handle);
+            float nameNorm = 1 - NAME_B + NAME_B * document.lengths[NAME] / averageName;
+            float textNorm = 1 - TEXT_B + TEXT_B * document.lengths[TEXT] / averageText;
+            for (Map.Entry<String, int[]> entry : document.frequencies.entrySet()) {
+                int term = ordinals.get(entry.getKey());
+                int[] frequency = entry.getValue();
+                float weight = NAME_BOOST * frequency[NAME] / nameNorm + TEXT_BOOST * frequency[TEXT] / textNorm;
+                int frequencyOfTerm = offsets[term + 1] - offsets[term];
+                double idf = Math.log(1 + (count - frequencyOfTerm + 0.5) / (frequencyOfTerm + 0.5));
+                int posting = next[term]++;
+                docs[posting] = handle;
+                impacts[posting] = (float) (idf * weight * (K1 + 1) / (weight + K1));
+            }
+        }
+        return new SearchIndex(index, terms.toArray(new String[0]), offsets, docs, impacts);
+    }
+
+    /**
+     * Finds the {@code k} best matches for {@code query}, best first, and
+     * writes their handles and scores to the start of {@code handles} and
+     * {@code scores}. Matching any of the query's words is enough to be a
+     * hit; ties go to the lower handle.
+     *
+     * @param filter if not null, only objects in it are returned, such as
+     *               those picked out by a {@link TagIndex} query.
+     * @return the number of hits written, at most {@code k}.
+     * @throws IllegalArgumentException if either array is shorter than
+     *                                  {@code k}.
+     */
+    public int search(CharSequence query, int k, HandleSet filter, int[] handles, float[] scores) {
+        if (handles.length < k || scores.length < k) {
+            throw new IllegalArgumentException("Arrays are shorter than k = " + k);
+        }
+        if (k <= 0) {
+            return 0;
+        }
+        Scratch s = scratch.get();
+        int touched = 0;
+        int length = query.length();
+        for (int start = 0; start < length; ) {
+            if (!isWordChar(query.charAt(start))) {
+                start++;
+                continue;
+            }
+            int end = wordEnd(query, start);
+            int term = term(query, start, end);
+            start = end;
+            if (term < 0) {
+                continue;
+            }
+            for (int posting = offsets[term]; posting < offsets[term + 1]; posting++) {
+                int doc = docs[posting];
+                if (s.accumulators[doc] == 0) {
+                    s.touched[touched++] = doc;
+                }
+                s.accumulators[doc] += impacts[posting];
+            }
+        }
+
+        int hits = 0;
+        for (int i = 0; i < touched; i++) {
+            int doc = s.touched[i];
+            float score = s.accumulators[doc];
+            s.accumulators[doc] = 0;
+            if (filter != null && !filter.contains(doc)) {
+                continue;
+            }
+            if (hits < k) {
+                handles[hits] = doc;
+                scores[hits] = score;
+                siftUp(handles, scores, hits++);
+            } else if (worse(handles[0], scores[0], doc, score)) {
+                handles[0] = doc;
+                scores[0] = score;
+                siftDown(handles, scores, 0, hits);
+            }
+        }
+        for (int end = hits - 1; end > 0; end--) {
+            swap(handles, scores, 0, end);
+            siftDown(handles, scores, 0, end);
+        }
+        return hits;
+    }
+
+    /**
+     * Finds the {@code k} best matches for {@code query}, best first.
+     */
+    public List<Hit> search(CharSequence query, int k) {
+        int[] handles = new int[k];
+        float[] scores = new float[k];
+        int hits = search(query, k, null, handles, scores);
+        List<Hit> result = new ArrayList<>(hits);
+        for (int i = 0; i < hits; i++) {
+            result.add(new Hit(index.id(handles[i]), handles[i], scores[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of distinct terms in the index.
+     */
+    public int terms() {
+        return terms.length;
+    }
+
+    private static void walk(DataswornIndex index, RulesPackage rulesPackage, IdWalker.Section section,
+            Map<Integer, Document> documents) {
+        ContentWalker walker = new ContentWalker(new ContentWalkerBase.Sink() {
+            @Override
+            public void text(String from, String path, String text, boolean label) {
+                int handle = index.handle(from);
+                if (handle < 0) {
+                    return;
+                }
+                boolean name = label && (path.equals("name") || path.equals("canonical_name"));
+                documents.computeIfAbsent(handle, key -> new Document()).add(text, name ? NAME : TEXT);
+            }
+        });
+        section.walk((id, node, parent) -> {
+            if (parent == rulesPackage) {
+                walker.walk(node);
+            }
+        });
+    }
+
+    /**
+     * Returns the ordinal of the term spelled by {@code query} from
+     * {@code start} to {@code end}, or -1 if it isn't in the index.
+     */
+    private int term(CharSequence query, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            char c = query.charAt(i);
+            if (!isApostrophe(c)) {
+                hash = 31 * hash + Character.toLowerCase(c);
+            }
+        }
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int term = slots[slot] - 1;
+            if (spells(terms[term], query, start, end)) {
+                return term;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean spells(String term, CharSequence query, int start, int end) {
+        int j = 0;
+        for (int i = start; i < end; i++) {
+            char c = query.charAt(i);
+            if (isApostrophe(c)) {
+                continue;
+            }
+            if (j == term.length() || term.charAt(j++) != Character.toLowerCase(c)) {
+                return false;
+            }
+        }
+        return j == term.length();
+    }
+
+    /**
+     * Splits text into lowercase words of letters and digits. Apostrophes
+     * within a word are dropped, so {@code don't} is {@code dont}.
+     */
+    static void tokenize(String text, List<String> words) {
+        int length = text.length();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; ) {
+            char c = text.charAt(i);
+            if (c == '{' && text.startsWith("{{", i)) {
+                int end = text.indexOf("}}", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else if (c == ']' && i + 1 < length && text.charAt(i + 1) == '(') {
+                int end = text.indexOf(')', i + 2);
+                i = end < 0 ? length : end + 1;
+            } else if (isWordChar(c)) {
+                int end = wordEnd(text, i);
+                word.setLength(0);
+                for (int j = i; j < end; j++) {
+                    char d = text.charAt(j);
+                    if (!isApostrophe(d)) {
+                        word.append(Character.toLowerCase(d));
+                    }
+                }
+                words.add(word.toString());
+                i = end;
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private static int wordEnd(CharSequence text, int start) {
+        int end = start + 1;
+        while (end < text.length()) {
+            char c = text.charAt(end);
+            if (isWordChar(c)) {
+                end++;
+            } else if (isApostrophe(c) && end + 1 < text.length() && isWordChar(text.charAt(end + 1))) {
+                end += 2;
+            } else {
+                break;
+            }
+        }
+        return end;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+
+    private static boolean isApostrophe(char c) {
+        return c == '\'' || c == '\u2019';
+    }
+
+    /**
+     * Whether hit {@code a} ranks below hit {@code b}.
+     */
+    private static boolean worse(int a, float aScore, int b, float bScore) {
+        return aScore < bScore || (aScore == bScore && a > b);
+    }
+
+    /** The heap is a min-heap on rank, so its root is the worst hit kept. */
+    private static void siftUp(int[] handles, float[] scores, int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!worse(handles[i], scores[i], handles[parent], scores[parent])) {
+                break;
+            }
+            swap(handles, scores, i, parent);
+            i = parent;
+        }
+    }
+
+    private static void siftDown(int[] handles, float[] scores, int i, int size) {
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && worse(handles[child + 1], scores[child + 1], handles[child], scores[child])) {
+                child++;
+            }
+            if (!worse(handles[child], scores[child], handles[i], scores[i])) {
+                break;
+            }
+            swap(handles, scores, i, child);
+            i = child;
+        }
+    }
+
+    private static void swap(int[] handles, float[] scores, int i, int j) {
+        int handle = handles[i];
+        handles[i] = handles[j];
+        handles[j] = handle;
+        float score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+    }
+
+    /**
+     * The term frequencies and field lengths of one object, while building.
+     */
+    private static final class Document {
+        final Map<String, int[]> frequencies = new HashMap<>();
+        final int[] lengths = new int[2];
+
+        void add(String text, int field) {
+            List<String> words = new ArrayList<>();
+            tokenize(text, words);
+            for (String word : words) {
+                frequencies.computeIfAbsent(word, key -> new int[2])[field]++;
+            }
+            lengths[field] += words.size();
+        }
+    }
+
+    /**
+     * Per-thread query state. Accumulators are left zeroed after each query.
+     */
+    private static final class Scratch {
+        final float[] accumulators;
+        final int[] touched;
+
+        Scratch(int size) {
+            accumulators = new float[size];
+            touched = new int[size];
+        }
+    }
+
+    /**
+     * One search result.
+     */
+    public static final class Hit {
+        private final String id;
+        private final int handle;
+        private final float score;
+
+        Hit(String id, int handle, float score) {
+            this.id = id;
+            this.handle = handle;
+            this.score = score;
+        }
+
+        public String id() {
+            return id;
+        }
+
+        public int handle() {
+            return handle;
+        }
+
+        public float score() {
+            return score;
+        }
+
+        @Override
+        public String toString() {
+            return id + " " + score;
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package Datasworn.index;
+
+import Datasworn.DictKey;
+import Datasworn.ObjectType;
+import Datasworn.RulesPackage;
+import Datasworn.Tag;
+import Datasworn.TagRule;
+import Datasworn.TagRuleBoolean;
+import Datasworn.TagRuleEnum;
+import Datasworn.TagRuleInteger;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An inverted index of the {@code tags} of the objects in a
+ * {@link DataswornIndex}, for filtering content by tag.<p>
+ * Tags are named {@code namespace/key}, such as {@code starforged/region}, and
+ * their values are decoded according to the {@code TagRule} that the
+ * namespace's package defines for them: booleans as {@link Boolean},
+ * integers as {@link Integer}, and enum values and IDs as {@link String}.
+ * Wildcard IDs are resolved against the index. Tags without a rule are
+ * decoded from their JSON type. Array-valued tags are indexed under each
+ * element.<p>
+ * Every query returns a {@link HandleSet} of {@linkplain DataswornIndex#handle
+ * handles}, so that queries are combined by intersecting and unioning sets:
+ * <pre>
+ * HandleSet terminus = tags.ofType(ObjectType.ORACLE_ROLLABLE)
+ *         .and(tags.equal("starforged/region", "terminus"))
+ *         .and(tags.atLeast("my_homebrew/rank", 3));
+ * List&lt;Object&gt; tables = tags.objects(terminus);
+ * </pre>
+ * Integer tags are ordered numerically and enum tags in the order their rule
+ * lists them, for {@link #range}, {@link #atLeast} and {@link #atMost}.
+ */
+public final class TagIndex {
+    private final DataswornIndex index;
+    private final Map<String, TagRule> rules;
+    private final Map<String, Postings> postings;
+    private final Map<ObjectType, HandleSet> types;
+
+    private TagIndex(DataswornIndex index, Map<String, TagRule> rules, Map<String, Postings> postings,
+            Map<ObjectType, HandleSet> types) {
+        this.index = index;
+        this.rules = rules;
+        this.postings = postings;
+        this.types = types;
+    }
+
+    /**
+     * @throws IllegalArgumentException if a tag value doesn't match its rule.
+     */
+    public static TagIndex of(DataswornIndex index) {
+        Map<String, TagRule> rules = new HashMap<>();
+        for (RulesPackage rulesPackage : index.packages()) {
+            Map<String, TagRule> packageRules = IdWalker.tagRules(rulesPackage);
+            String namespace = IdWalker.id(rulesPackage);
+            if (packageRules != null && namespace != null) {
+                packageRules.forEach((key, rule) -> rules.put(namespace + "/" + key, rule));
+            }
+        }
+
+        Map<ObjectType, BitSet> types = new EnumMap<>(ObjectType.class);
+        Map<String, Map<Object, BitSet>> values = new TreeMap<>();
+        Map<String, Map<String, BitSet>> wildcards = new LinkedHashMap<>();
+        for (int handle = 0; handle < index.size(); handle++) {
+            String id = index.id(handle);
+            Object node = index.get(id);
+            Tagged tagged = Tagged.of(node);
+            if (tagged == null) {
+                continue;
+            }
+            types.computeIfAbsent(tagged.type, key -> new BitSet()).set(handle);
+            Map<String, Map<String, Tag>> tags = tagged.tags(node);
+            if (tags == null) {
+                continue;
+            }
+            for (Map.Entry<String, Map<String, Tag>> namespace : tags.entrySet()) {
+                for (Map.Entry<String, Tag> tag : namespace.getValue().entrySet()) {
+                    String name = namespace.getKey() + "/" + tag.getKey();
+                    Map<Object, BitSet> tagValues = values.computeIfAbsent(name, key -> new HashMap<>());
+                    Object raw = tag.getValue() == null ? null : tag.getValue().getValue();
+                    for (Object value : elements(raw)) {
+                        Object decoded = decode(rules.get(name), value, name, id);
+                        if (decoded instanceof String && ((String) decoded).indexOf('*') >= 0) {
+                            wildcards.computeIfAbsent(name, key -> new LinkedHashMap<>())
+                                    .computeIfAbsent((String) decoded, key -> new BitSet())
+                                    .set(handle);
+                        } else {
+                            tagValues.computeIfAbsent(decoded, key -> new BitSet()).set(handle);
+                        }
+                    }
+                }
+            }
+        }
+        resolveWildcards(index, values, wildcards);
+
+        Map<String, Postings> postings = new HashMap<>();
+        values.forEach((name, tagValues) -> postings.put(name, new Postings(rules.get(name), tagValues)));
+        Map<ObjectType, HandleSet> typeSets = new EnumMap<>(ObjectType.class);
+        types.forEach((type, handles) -> typeSets.put(type, HandleSet.of(handles)));
+        return new TagIndex(index, rules, postings, typeSets);
+    }
+
+    /**
+     * Returns the handles of every object of the given type.
+     */
+    public HandleSet ofType(ObjectType type) {
+        return types.getOrDefault(type, HandleSet.EMPTY);
+    }
+
+    /**
+     * Returns the handles of every object with the given tag, whatever its
+     * value.
+     */
+    public HandleSet with(String tag) {
+        Postings tagPostings = postings.get(tag);
+        return tagPostings == null ? HandleSet.EMPTY : tagPostings.any;
+    }
+
+    /**
+     * Returns the handles of every object whose tag has the given value, or
+     * includes it for array-valued tags.
+     */
+    public HandleSet equal(String tag, Object value) {
+        Postings tagPostings = postings.get(tag);
+        if (tagPostings == null || value == null) {
+            return HandleSet.EMPTY;
+        }
+        return tagPostings.byValue.getOrDefault(normalize(value), HandleSet.EMPTY);
+    }
+
+    /**
+     * Returns the handles of every object whose tag value is between
+     * {@code from} and {@code to}, inclusive. Either bound may be null.
+     */
+    public HandleSet range(String tag, Object from, Object to) {
+        Postings tagPostings = postings.get(tag);
+        if (tagPostings == null) {
+            return HandleSet.EMPTY;
+        }
+        NavigableMap<Object, HandleSet> range = tagPostings.byValue;
+        if (from != null) {
+            range = range.tailMap(normalize(from), true);
+        }
+        if (to != null) {
+            range = range.headMap(normalize(to), true);
+        }
+        HandleSet result = HandleSet.EMPTY;
+        for (HandleSet handles : range.values()) {
+            result = result.or(handles);
+        }
+        return result;
+    }
+
+    public HandleSet atLeast(String tag, Object value) {
+        return range(tag, value, null);
+    }
+
+    public HandleSet atMost(String tag, Object value) {
+        return range(tag, null, value);
+    }
+
+    /**
+     * Returns the distinct values of a tag, in order.
+     */
+    public Set<Object> values(String tag) {
+        Postings tagPostings = postings.get(tag);
+        return tagPostings == null ? Collections.emptySet() : Collections.unmodifiableSet(tagPostings.byValue.keySet());
+    }
+
+    /**
+     * Returns the names of every tag in use.
+     */
+    public Set<String> tags() {
+        return Collections.unmodifiableSet(postings.keySet());
+    }
+
+    /**
+     * Returns the rule for a tag, or null if no package defines one.
+     */
+    public TagRule rule(String tag) {
+        return rules.get(tag);
+    }
+
+    public List<String> ids(HandleSet handles) {
+        List<String> ids = new ArrayList<>(handles.size());
+        handles.forEach(handle -> ids.add(index.id(handle)));
+        return ids;
+    }
+
+    public List<Object> objects(HandleSet handles) {
+        List<Object> objects = new ArrayList<>(handles.size());
+        handles.forEach(handle -> objects.add(index.get(index.id(handle))));
+        return objects;
+    }
+
+    private static List<?> elements(Object raw) {
+        if (raw == null) {
+            return Collections.emptyList();
+        }
+        return raw instanceof List ? (List<?>) raw : Collections.singletonList(raw);
+    }
+
+    private static Object decode(TagRule rule, Object value, String tag, String id) {
+        if (value == null) {
+            throw new IllegalArgumentException("Tag " + tag + " of " + id + " has a null value");
+        }
+        if (rule == null) {
+            if (value instanceof Boolean || value instanceof String) {
+                return value;
+            }
+            if (value instanceof Number) {
+                return ((Number) value).intValue();
+            }
+        } else if (rule instanceof TagRuleBoolean) {
+            if (value instanceof Boolean) {
+                return value;
+            }
+        } else if (rule instanceof TagRuleInteger) {
+            if (value instanceof Integer || value instanceof Long || value instanceof Short
+                    || value instanceof Byte) {
+                return ((Number) value).intValue();
+            }
+        } else if (rule instanceof TagRuleEnum) {
+            if (value instanceof String && enumIndex((TagRuleEnum) rule, (String) value) >= 0) {
+                return value;
+            }
+        } else if (value instanceof String) {
+            return value;
+        }
+        throw new IllegalArgumentException("Tag " + tag + " of " + id + " has an invalid value " + value);
+    }
+
+    private static Object normalize(Object value) {
+        return value instanceof Number ? (Object) ((Number) value).intValue() : value;
+    }
+
+    private static int enumIndex(TagRuleEnum rule, String value) {
+        List<DictKey> values = rule.getEnum_();
+        if (values != null) {
+            for (int i = 0; i < values.size(); i++) {
+                if (value.equals(values.get(i).getValue())) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static void resolveWildcards(DataswornIndex index, Map<String, Map<Object, BitSet>> values,
+            Map<String, Map<String, BitSet>> wildcards) {
+        List<String> patterns = new ArrayList<>();
+        List<BitSet> holders = new ArrayList<>();
+        List<Map<Object, BitSet>> targets = new ArrayList<>();
+        wildcards.forEach((name, byPattern) -> byPattern.forEach((pattern, handles) -> {
+            patterns.add(pattern);
+            holders.add(handles);
+            targets.add(values.get(name));
+        }));
+        if (patterns.isEmpty()) {
+            return;
+        }
+        WildcardMatcher.compile(patterns).forEachMatch(index,
+                (id, i) -> targets.get(i).computeIfAbsent(id, key -> new BitSet()).or(holders.get(i)));
+    }
+
+    /**
+     * The handles of the objects with each value of one tag.
+     */
+    private static final class Postings {
+        final NavigableMap<Object, HandleSet> byValue;
+        final HandleSet any;
+
+        Postings(TagRule rule, Map<Object, BitSet> values) {
+            byValue = new TreeMap<>(order(rule));
+            BitSet any = new BitSet();
+            values.forEach((value, handles) -> {
+                byValue.put(value, HandleSet.of(handles));
+                any.or(handles);
+            });
+            this.any = HandleSet.of(any);
+        }
+
+        /**
+         * Orders enum values as their rule lists them. Other values are in
+         * their natural order, with booleans before numbers before strings,
+         * since tags without rules can mix them.
+         */
+        private static Comparator<Object> order(TagRule rule) {
+            Comparator<Object> natural = Comparator.comparingInt(Postings::typeRank)
+                    .thenComparing((a, b) -> compare(a, b));
+            if (rule instanceof TagRuleEnum) {
+                TagRuleEnum enumRule = (TagRuleEnum) rule;
+                return Comparator.comparingInt(
+                        (Object value) -> value instanceof String ? enumIndex(enumRule, (String) value) : -1)
+                        .thenComparing(natural);
+            }
+            return natural;
+        }
+
+        private static int typeRank(Object value) {
+            return value instanceof Boolean ? 0 : value instanceof Integer ? 1 : 2;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static int compare(Object a, Object b) {
+            return ((Comparable<Object>) a).compareTo(b);
+        }
+    }
+}
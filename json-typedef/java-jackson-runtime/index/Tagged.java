@@ -0,0 +1,103 @@
+package Datasworn.index;
+
+import Datasworn.Asset;
+import Datasworn.AssetCollection;
+import Datasworn.AtlasCollection;
+import Datasworn.AtlasEntry;
+import Datasworn.DelveSite;
+import Datasworn.DelveSiteDomain;
+import Datasworn.DelveSiteTheme;
+import Datasworn.MoveActionRoll;
+import Datasworn.MoveCategory;
+import Datasworn.MoveNoRoll;
+import Datasworn.MoveProgressRoll;
+import Datasworn.MoveSpecialTrack;
+import Datasworn.Npc;
+import Datasworn.NpcCollection;
+import Datasworn.ObjectType;
+import Datasworn.OracleCollectionOracleTableSharedText3;
+import Datasworn.OracleCollectionTableSharedRolls;
+import Datasworn.OracleCollectionTableSharedText;
+import Datasworn.OracleCollectionTableSharedText2;
+import Datasworn.OracleCollectionTables;
+import Datasworn.OracleColumnText;
+import Datasworn.OracleColumnText2;
+import Datasworn.OracleColumnText3;
+import Datasworn.OracleTableRollableTableText;
+import Datasworn.OracleTableRollableTableText2;
+import Datasworn.OracleTableRollableTableText3;
+import Datasworn.OracleTablesCollection;
+import Datasworn.Rarity;
+import Datasworn.Tag;
+import Datasworn.Truth;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The {@link ObjectType} and {@code tags} of each binding that can be tagged.
+ * The bindings share no type for these, so they're looked up by class.
+ */
+final class Tagged {
+    private static final Map<Class<?>, Tagged> BY_CLASS = Map.ofEntries(
+            entry(Asset.class, ObjectType.ASSET, Asset::getTags),
+            entry(AssetCollection.class, ObjectType.ASSET_COLLECTION, AssetCollection::getTags),
+            entry(AtlasCollection.class, ObjectType.ATLAS_COLLECTION, AtlasCollection::getTags),
+            entry(AtlasEntry.class, ObjectType.ATLAS_ENTRY, AtlasEntry::getTags),
+            entry(DelveSite.class, ObjectType.DELVE_SITE, DelveSite::getTags),
+            entry(DelveSiteDomain.class, ObjectType.DELVE_SITE_DOMAIN, DelveSiteDomain::getTags),
+            entry(DelveSiteTheme.class, ObjectType.DELVE_SITE_THEME, DelveSiteTheme::getTags),
+            entry(MoveActionRoll.class, ObjectType.MOVE, MoveActionRoll::getTags),
+            entry(MoveNoRoll.class, ObjectType.MOVE, MoveNoRoll::getTags),
+            entry(MoveProgressRoll.class, ObjectType.MOVE, MoveProgressRoll::getTags),
+            entry(MoveSpecialTrack.class, ObjectType.MOVE, MoveSpecialTrack::getTags),
+            entry(MoveCategory.class, ObjectType.MOVE_CATEGORY, MoveCategory::getTags),
+            entry(Npc.class, ObjectType.NPC, Npc::getTags),
+            entry(NpcCollection.class, ObjectType.NPC_COLLECTION, NpcCollection::getTags),
+            entry(OracleTablesCollection.class, ObjectType.ORACLE_COLLECTION, OracleTablesCollection::getTags),
+            entry(OracleCollectionTables.class, ObjectType.ORACLE_COLLECTION, OracleCollectionTables::getTags),
+            entry(OracleCollectionTableSharedRolls.class, ObjectType.ORACLE_COLLECTION,
+                    OracleCollectionTableSharedRolls::getTags),
+            entry(OracleCollectionTableSharedText.class, ObjectType.ORACLE_COLLECTION,
+                    OracleCollectionTableSharedText::getTags),
+            entry(OracleCollectionTableSharedText2.class, ObjectType.ORACLE_COLLECTION,
+                    OracleCollectionTableSharedText2::getTags),
+            entry(OracleCollectionOracleTableSharedText3.class, ObjectType.ORACLE_COLLECTION,
+                    OracleCollectionOracleTableSharedText3::getTags),
+            entry(OracleTableRollableTableText.class, ObjectType.ORACLE_ROLLABLE,
+                    OracleTableRollableTableText::getTags),
+            entry(OracleTableRollableTableText2.class, ObjectType.ORACLE_ROLLABLE,
+                    OracleTableRollableTableText2::getTags),
+            entry(OracleTableRollableTableText3.class, ObjectType.ORACLE_ROLLABLE,
+                    OracleTableRollableTableText3::getTags),
+            entry(OracleColumnText.class, ObjectType.ORACLE_ROLLABLE, OracleColumnText::getTags),
+            entry(OracleColumnText2.class, ObjectType.ORACLE_ROLLABLE, OracleColumnText2::getTags),
+            entry(OracleColumnText3.class, ObjectType.ORACLE_ROLLABLE, OracleColumnText3::getTags),
+            entry(Rarity.class, ObjectType.RARITY, Rarity::getTags),
+            entry(Truth.class, ObjectType.TRUTH, Truth::getTags));
+
+    final ObjectType type;
+    private final Function<Object, Map<String, Map<String, Tag>>> tags;
+
+    private Tagged(ObjectType type, Function<Object, Map<String, Map<String, Tag>>> tags) {
+        this.type = type;
+        this.tags = tags;
+    }
+
+    /**
+     * Returns how to read the tags of {@code node}, or null if it can't have
+     * any.
+     */
+    static Tagged of(Object node) {
+        return BY_CLASS.get(node.getClass());
+    }
+
+    Map<String, Map<String, Tag>> tags(Object node) {
+        return tags.apply(node);
+    }
+
+    private static <T> Map.Entry<Class<?>, Tagged> entry(Class<T> type, ObjectType objectType,
+            Function<T, Map<String, Map<String, Tag>>> tags) {
+        return Map.entry(type, new Tagged(objectType, node -> tags.apply(type.cast(node))));
+    }
+}
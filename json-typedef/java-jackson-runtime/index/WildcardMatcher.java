@@ -0,0 +1,270 @@
+package Datasworn.index;
+
+import Datasworn.AssetIdWildcard;
+import Datasworn.MoveIdWildcard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A set of wildcard IDs, such as {@code AssetIdWildcard}s and
+ * {@code MoveIdWildcard}s, compiled into one trie of their segments.<p>
+ * As in Datasworn's {@code IdParser}, {@code *} matches a single segment and
+ * {@code **} matches from one to {@value #MAX_GLOBSTAR_SEGMENTS} segments
+ * (any number of collection levels, since collections are nested at most
+ * that deep). Every other segment matches itself.<p>
+ * Testing an ID walks the trie segment by segment, and doesn't allocate.
+ * {@link #forEachMatch} walks the trie alongside an index's IDs, so it finds
+ * the matches of every wildcard in a single traversal rather than testing
+ * each ID against each wildcard. Matchers are immutable and thread-safe.
+ * <pre>
+ * WildcardMatcher companions = WildcardMatcher.compile("*&#47;assets/companion/*");
+ * boolean companion = companions.matches("starforged/assets/companion/protocol_bot");
+ * List&lt;String&gt; all = companions.select(index);
+ * </pre>
+ */
+public final class WildcardMatcher {
+    public static final String WILDCARD = "*";
+    public static final String GLOBSTAR = "**";
+    public static final int MAX_GLOBSTAR_SEGMENTS = 3;
+
+    private final String[] wildcards;
+    private final Node root;
+
+    private WildcardMatcher(String[] wildcards, Node root) {
+        this.wildcards = wildcards;
+        this.root = root;
+    }
+
+    public static WildcardMatcher compile(String... wildcards) {
+        return compile(Arrays.asList(wildcards));
+    }
+
+    /**
+     * Compiles the wildcards, which are numbered in iteration order.
+     */
+    public static WildcardMatcher compile(Collection<String> wildcards) {
+        String[] patterns = wildcards.toArray(new String[0]);
+        Builder root = new Builder();
+        for (int i = 0; i < patterns.length; i++) {
+            String pattern = patterns[i];
+            if (pattern == null || pattern.isEmpty()) {
+                throw new IllegalArgumentException("Empty wildcard ID at " + i);
+            }
+            Builder node = root;
+            for (int start = 0; ; ) {
+                int end = IdTrie.segmentEnd(pattern, start);
+                node = node.child(pattern.substring(start, end));
+                if (end == pattern.length()) {
+                    break;
+                }
+                start = end + 1;
+            }
+            node.accepts.add(i);
+        }
+        return new WildcardMatcher(patterns, root.build());
+    }
+
+    public static WildcardMatcher compileAssets(Collection<AssetIdWildcard> wildcards) {
+        List<String> values = new ArrayList<>(wildcards.size());
+        for (AssetIdWildcard wildcard : wildcards) {
+            values.add(wildcard.getValue());
+        }
+        return compile(values);
+    }
+
+    public static WildcardMatcher compileMoves(Collection<MoveIdWildcard> wildcards) {
+        List<String> values = new ArrayList<>(wildcards.size());
+        for (MoveIdWildcard wildcard : wildcards) {
+            values.add(wildcard.getValue());
+        }
+        return compile(values);
+    }
+
+    /**
+     * Returns the number of wildcards.
+     */
+    public int size() {
+        return wildcards.length;
+    }
+
+    /**
+     * Returns wildcard number {@code i}.
+     */
+    public String wildcard(int i) {
+        return wildcards[i];
+    }
+
+    /**
+     * Returns whether any of the wildcards matches {@code id}.
+     */
+    public boolean matches(String id) {
+        return match(root, id, 0, null);
+    }
+
+    /**
+     * Sets the bit of every wildcard that matches {@code id} in {@code into},
+     * and returns whether there were any.
+     */
+    public boolean matches(String id, BitSet into) {
+        return match(root, id, 0, into);
+    }
+
+    /**
+     * Calls {@code action} with every ID in {@code index} and the number of
+     * each wildcard that matches it. Calls for each wildcard are in ID order.
+     */
+    public void forEachMatch(DataswornIndex index, ObjIntConsumer<String> action) {
+        IdTrie trie = index.trie();
+        BitSet[] hits = new BitSet[wildcards.length];
+        for (int i = 0; i < hits.length; i++) {
+            hits[i] = new BitSet();
+        }
+        select(root, trie.root, hits);
+        for (int i = 0; i < hits.length; i++) {
+            for (int ordinal = hits[i].nextSetBit(0); ordinal >= 0; ordinal = hits[i].nextSetBit(ordinal + 1)) {
+                action.accept(trie.ids[ordinal], i);
+            }
+        }
+    }
+
+    /**
+     * Returns every ID in {@code index} that any of the wildcards matches, in
+     * sorted order.
+     */
+    public List<String> select(DataswornIndex index) {
+        IdTrie trie = index.trie();
+        BitSet[] hits = new BitSet[wildcards.length];
+        BitSet all = new BitSet();
+        Arrays.fill(hits, all);
+        select(root, trie.root, hits);
+        List<String> ids = new ArrayList<>(all.cardinality());
+        for (int ordinal = all.nextSetBit(0); ordinal >= 0; ordinal = all.nextSetBit(ordinal + 1)) {
+            ids.add(trie.ids[ordinal]);
+        }
+        return ids;
+    }
+
+    private static boolean match(Node node, String id, int start, BitSet into) {
+        if (start > id.length()) {
+            if (node.accepts.length == 0) {
+                return false;
+            }
+            if (into != null) {
+                for (int accept : node.accepts) {
+                    into.set(accept);
+                }
+            }
+            return true;
+        }
+        int end = IdTrie.segmentEnd(id, start);
+        boolean matched = false;
+        int i = IdTrie.find(node.labels, id, start, end);
+        if (i >= 0) {
+            matched = match(node.children[i], id, end + 1, into);
+        }
+        if (node.wildcard != null && (into != null || !matched)) {
+            matched |= match(node.wildcard, id, end + 1, into);
+        }
+        if (node.globstar != null) {
+            for (int n = 1; n <= MAX_GLOBSTAR_SEGMENTS && (into != null || !matched); n++) {
+                matched |= match(node.globstar, id, end + 1, into);
+                if (end == id.length()) {
+                    break;
+                }
+                end = IdTrie.segmentEnd(id, end + 1);
+            }
+        }
+        return matched;
+    }
+
+    private static void select(Node node, IdTrie.Node ids, BitSet[] hits) {
+        if (ids.ordinal >= 0) {
+            for (int accept : node.accepts) {
+                hits[accept].set(ids.ordinal);
+            }
+        }
+        for (int i = 0; i < node.labels.length; i++) {
+            IdTrie.Node child = ids.child(node.labels[i]);
+            if (child != null) {
+                select(node.children[i], child, hits);
+            }
+        }
+        if (node.wildcard != null) {
+            for (IdTrie.Node child : ids.children) {
+                select(node.wildcard, child, hits);
+            }
+        }
+        if (node.globstar != null) {
+            selectGlobstar(node.globstar, ids, hits, 1);
+        }
+    }
+
+    private static void selectGlobstar(Node next, IdTrie.Node ids, BitSet[] hits, int depth) {
+        for (IdTrie.Node child : ids.children) {
+            select(next, child, hits);
+            if (depth < MAX_GLOBSTAR_SEGMENTS) {
+                selectGlobstar(next, child, hits, depth + 1);
+            }
+        }
+    }
+
+    private static final class Node {
+        /**
+         * Literal segments leading to {@link #children}, sorted.
+         */
+        final String[] labels;
+        final Node[] children;
+        final Node wildcard;
+        final Node globstar;
+        /**
+         * The numbers of the wildcards that end here.
+         */
+        final int[] accepts;
+
+        Node(String[] labels, Node[] children, Node wildcard, Node globstar, int[] accepts) {
+            this.labels = labels;
+            this.children = children;
+            this.wildcard = wildcard;
+            this.globstar = globstar;
+            this.accepts = accepts;
+        }
+    }
+
+    private static final class Builder {
+        final Map<String, Builder> children = new TreeMap<>();
+        Builder wildcard;
+        Builder globstar;
+        final List<Integer> accepts = new ArrayList<>(1);
+
+        Builder child(String segment) {
+            switch (segment) {
+                case WILDCARD:
+                    return wildcard == null ? wildcard = new Builder() : wildcard;
+                case GLOBSTAR:
+                    return globstar == null ? globstar = new Builder() : globstar;
+                default:
+                    return children.computeIfAbsent(segment, key -> new Builder());
+            }
+        }
+
+        Node build() {
+            String[] labels = children.keySet().toArray(new String[0]);
+            Node[] built = new Node[labels.length];
+            int i = 0;
+            for (Builder child : children.values()) {
+                built[i++] = child.build();
+            }
+            return new Node(labels, built,
+                    wildcard == null ? null : wildcard.build(),
+                    globstar == null ? null : globstar.build(),
+                    accepts.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package Datasworn.io;
+
+import Datasworn.ids.IdPool;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Adapts one {@link DataswornReader} method to a Jackson deserializer.
+ */
+final class BindingDeserializer<T> extends JsonDeserializer<T> {
+    /**
+     * A {@link DataswornReader} read method.
+     */
+    interface Read<T> {
+        T read(DataswornReader reader) throws IOException;
+    }
+
+    private final Class<T> type;
+    private final IdPool ids;
+    private final Read<T> read;
+
+    BindingDeserializer(Class<T> type, IdPool ids, Read<T> read) {
+        this.type = type;
+        this.ids = ids;
+        this.read = read;
+    }
+
+    @Override
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return read.read(new DataswornReader(p, null, 0, ids));
+    }
+
+    /**
+     * The reader handles discriminators itself, so Jackson's subtype resolver,
+     * which buffers the object to find its type, is bypassed.
+     */
+    @Override
+    public Object deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer)
+            throws IOException {
+        return deserialize(p, ctxt);
+    }
+
+    @Override
+    public Class<?> handledType() {
+        return type;
+    }
+}
@@ -0,0 +1,47 @@
+package Datasworn.io;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+
+/**
+ * Adapts one {@link DataswornWriter} method to a Jackson serializer.
+ */
+final class BindingSerializer<T> extends JsonSerializer<T> {
+    /**
+     * A {@link DataswornWriter} write method.
+     */
+    interface Write<T> {
+        void write(DataswornWriter writer, T value) throws IOException;
+    }
+
+    private final Class<T> type;
+    private final Write<T> write;
+
+    BindingSerializer(Class<T> type, Write<T> write) {
+        this.type = type;
+        this.write = write;
+    }
+
+    @Override
+    public void serialize(T value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        write.write(new DataswornWriter(gen), value);
+    }
+
+    /**
+     * The writer emits discriminators itself.
+     */
+    @Override
+    public void serializeWithType(T value, JsonGenerator gen, SerializerProvider serializers,
+            TypeSerializer typeSer) throws IOException {
+        serialize(value, gen, serializers);
+    }
+
+    @Override
+    public Class<T> handledType() {
+        return type;
+    }
+}
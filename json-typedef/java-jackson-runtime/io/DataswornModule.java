@@ -0,0 +1,783 @@
+// Code generated by Datasworn.codegen.StreamingCodegen. DO NOT EDIT.
+
+package Datasworn.io;
+
+import Datasworn.ActionRollMethod;
+import Datasworn.Asset;
+import Datasworn.AssetAbility;
+import Datasworn.AssetAbilityControlField;
+import Datasworn.AssetAbilityControlFieldCheckbox;
+import Datasworn.AssetAbilityControlFieldClock;
+import Datasworn.AssetAbilityControlFieldCounter;
+import Datasworn.AssetAbilityControlFieldText;
+import Datasworn.AssetAbilityId;
+import Datasworn.AssetAbilityOptionField;
+import Datasworn.AssetAbilityOptionFieldText;
+import Datasworn.AssetAttachment;
+import Datasworn.AssetCollection;
+import Datasworn.AssetCollectionId;
+import Datasworn.AssetCollectionType;
+import Datasworn.AssetConditionMeterControlField;
+import Datasworn.AssetConditionMeterControlFieldCardFlip;
+import Datasworn.AssetConditionMeterControlFieldCheckbox;
+import Datasworn.AssetControlField;
+import Datasworn.AssetControlFieldCardFlip;
+import Datasworn.AssetControlFieldCheckbox;
+import Datasworn.AssetControlFieldConditionMeter;
+import Datasworn.AssetControlFieldConditionMeterMoves;
+import Datasworn.AssetControlFieldEnhancement;
+import Datasworn.AssetControlFieldEnhancementConditionMeter;
+import Datasworn.AssetControlFieldSelectEnhancement;
+import Datasworn.AssetControlFieldSelectEnhancementChoice;
+import Datasworn.AssetControlFieldSelectEnhancementChoiceChoice;
+import Datasworn.AssetControlFieldSelectEnhancementChoiceChoiceGroup;
+import Datasworn.AssetEnhancement;
+import Datasworn.AssetId;
+import Datasworn.AssetIdWildcard;
+import Datasworn.AssetOptionField;
+import Datasworn.AssetOptionFieldSelectEnhancement;
+import Datasworn.AssetOptionFieldSelectEnhancementChoice;
+import Datasworn.AssetOptionFieldSelectEnhancementChoiceChoice;
+import Datasworn.AssetOptionFieldSelectEnhancementChoiceChoiceGroup;
+import Datasworn.AssetOptionFieldSelectValue;
+import Datasworn.AssetOptionFieldText;
+import Datasworn.AssetType;
+import Datasworn.AtlasCollection;
+import Datasworn.AtlasCollectionId;
+import Datasworn.AtlasCollectionType;
+import Datasworn.AtlasEntry;
+import Datasworn.AtlasEntryId;
+import Datasworn.AtlasEntryType;
+import Datasworn.AuthorInfo;
+import Datasworn.ChallengeRank;
+import Datasworn.ConditionMeterKey;
+import Datasworn.ConditionMeterRule;
+import Datasworn.CssColor;
+import Datasworn.DelveSite;
+import Datasworn.DelveSiteDenizen;
+import Datasworn.DelveSiteDenizenFrequency;
+import Datasworn.DelveSiteDomain;
+import Datasworn.DelveSiteDomainId;
+import Datasworn.DelveSiteDomainType;
+import Datasworn.DelveSiteId;
+import Datasworn.DelveSiteTheme;
+import Datasworn.DelveSiteThemeId;
+import Datasworn.DelveSiteThemeType;
+import Datasworn.DelveSiteType;
+import Datasworn.DiceExpression;
+import Datasworn.DictKey;
+import Datasworn.ExpansionId;
+import Datasworn.I18nHint;
+import Datasworn.I18nHints;
+import Datasworn.I18nHintsTemplate;
+import Datasworn.ImpactCategory;
+import Datasworn.ImpactRule;
+import Datasworn.InputLabel;
+import Datasworn.Label;
+import Datasworn.License;
+import Datasworn.MarkdownString;
+import Datasworn.Move;
+import Datasworn.MoveActionRoll;
+import Datasworn.MoveActionRollType;
+import Datasworn.MoveCategory;
+import Datasworn.MoveCategoryId;
+import Datasworn.MoveCategoryType;
+import Datasworn.MoveEnhancement;
+import Datasworn.MoveEnhancementActionRoll;
+import Datasworn.MoveEnhancementNoRoll;
+import Datasworn.MoveEnhancementProgressRoll;
+import Datasworn.MoveEnhancementSpecialTrack;
+import Datasworn.MoveId;
+import Datasworn.MoveIdWildcard;
+import Datasworn.MoveNoRoll;
+import Datasworn.MoveNoRollType;
+import Datasworn.MoveOutcome;
+import Datasworn.MoveOutcomes;
+import Datasworn.MoveProgressRoll;
+import Datasworn.MoveProgressRollType;
+import Datasworn.MoveSpecialTrack;
+import Datasworn.MoveSpecialTrackType;
+import Datasworn.Npc;
+import Datasworn.NpcCollection;
+import Datasworn.NpcCollectionId;
+import Datasworn.NpcCollectionType;
+import Datasworn.NpcId;
+import Datasworn.NpcNature;
+import Datasworn.NpcType;
+import Datasworn.NpcVariant;
+import Datasworn.NpcVariantId;
+import Datasworn.ObjectType;
+import Datasworn.OracleCollection;
+import Datasworn.OracleCollectionId;
+import Datasworn.OracleCollectionOracleTableSharedText3;
+import Datasworn.OracleCollectionOracleTableSharedText3ColumnLabels;
+import Datasworn.OracleCollectionOracleTableSharedText3Type;
+import Datasworn.OracleCollectionTableSharedRolls;
+import Datasworn.OracleCollectionTableSharedRollsColumnLabels;
+import Datasworn.OracleCollectionTableSharedRollsType;
+import Datasworn.OracleCollectionTableSharedText;
+import Datasworn.OracleCollectionTableSharedText2;
+import Datasworn.OracleCollectionTableSharedText2ColumnLabels;
+import Datasworn.OracleCollectionTableSharedText2Type;
+import Datasworn.OracleCollectionTableSharedTextColumnLabels;
+import Datasworn.OracleCollectionTableSharedTextType;
+import Datasworn.OracleCollectionTables;
+import Datasworn.OracleCollectionTablesType;
+import Datasworn.OracleColumnText;
+import Datasworn.OracleColumnText2;
+import Datasworn.OracleColumnText2OracleType;
+import Datasworn.OracleColumnText2Type;
+import Datasworn.OracleColumnText3;
+import Datasworn.OracleColumnText3OracleType;
+import Datasworn.OracleColumnText3Type;
+import Datasworn.OracleColumnTextOracleType;
+import Datasworn.OracleColumnTextType;
+import Datasworn.OracleDuplicateBehavior;
+import Datasworn.OracleMatchBehavior;
+import Datasworn.OracleRoll;
+import Datasworn.OracleRollTemplate;
+import Datasworn.OracleRollableId;
+import Datasworn.OracleTableRollable;
+import Datasworn.OracleTableRollableTableText;
+import Datasworn.OracleTableRollableTableText2;
+import Datasworn.OracleTableRollableTableText2ColumnLabels;
+import Datasworn.OracleTableRollableTableText2RecommendedRolls;
+import Datasworn.OracleTableRollableTableText2Type;
+import Datasworn.OracleTableRollableTableText3;
+import Datasworn.OracleTableRollableTableText3ColumnLabels;
+import Datasworn.OracleTableRollableTableText3RecommendedRolls;
+import Datasworn.OracleTableRollableTableText3Type;
+import Datasworn.OracleTableRollableTableTextColumnLabels;
+import Datasworn.OracleTableRollableTableTextRecommendedRolls;
+import Datasworn.OracleTableRollableTableTextType;
+import Datasworn.OracleTableRowText;
+import Datasworn.OracleTableRowText2;
+import Datasworn.OracleTableRowText3;
+import Datasworn.OracleTablesCollection;
+import Datasworn.OracleTablesCollectionOracleType;
+import Datasworn.OracleTablesCollectionType;
+import Datasworn.PartOfSpeech;
+import Datasworn.ProgressRollMethod;
+import Datasworn.ProgressRollOption;
+import Datasworn.ProgressRollOptionUsing;
+import Datasworn.ProgressTrackTypeInfo;
+import Datasworn.Rarity;
+import Datasworn.RarityId;
+import Datasworn.RarityType;
+import Datasworn.RollableValue;
+import Datasworn.RollableValueAssetControl;
+import Datasworn.RollableValueAssetOption;
+import Datasworn.RollableValueAttachedAssetControl;
+import Datasworn.RollableValueAttachedAssetOption;
+import Datasworn.RollableValueConditionMeter;
+import Datasworn.RollableValueCustom;
+import Datasworn.RollableValueStat;
+import Datasworn.Rules;
+import Datasworn.RulesExpansion;
+import Datasworn.RulesPackage;
+import Datasworn.RulesPackageExpansion;
+import Datasworn.RulesPackageExpansionDataswornVersion;
+import Datasworn.RulesPackageRuleset;
+import Datasworn.RulesPackageRulesetDataswornVersion;
+import Datasworn.RulesetId;
+import Datasworn.SelectEnhancementFieldChoice;
+import Datasworn.SelectEnhancementFieldChoiceChoiceType;
+import Datasworn.SelectValueFieldChoice;
+import Datasworn.SelectValueFieldChoiceAssetControl;
+import Datasworn.SelectValueFieldChoiceAssetControlChoiceType;
+import Datasworn.SelectValueFieldChoiceAssetOption;
+import Datasworn.SelectValueFieldChoiceAssetOptionChoiceType;
+import Datasworn.SelectValueFieldChoiceAttachedAssetControl;
+import Datasworn.SelectValueFieldChoiceAttachedAssetControlChoiceType;
+import Datasworn.SelectValueFieldChoiceAttachedAssetOption;
+import Datasworn.SelectValueFieldChoiceAttachedAssetOptionChoiceType;
+import Datasworn.SelectValueFieldChoiceConditionMeter;
+import Datasworn.SelectValueFieldChoiceConditionMeterChoiceType;
+import Datasworn.SelectValueFieldChoiceCustom;
+import Datasworn.SelectValueFieldChoiceCustomChoiceType;
+import Datasworn.SelectValueFieldChoiceStat;
+import Datasworn.SelectValueFieldChoiceStatChoiceType;
+import Datasworn.SourceInfo;
+import Datasworn.SpecialTrackRollMethod;
+import Datasworn.SpecialTrackRule;
+import Datasworn.SpecialTrackType;
+import Datasworn.StatKey;
+import Datasworn.StatRule;
+import Datasworn.Suggestions;
+import Datasworn.SvgImageUrl;
+import Datasworn.Tag;
+import Datasworn.TagRule;
+import Datasworn.TagRuleAsset;
+import Datasworn.TagRuleAssetCollection;
+import Datasworn.TagRuleAtlasCollection;
+import Datasworn.TagRuleAtlasEntry;
+import Datasworn.TagRuleBoolean;
+import Datasworn.TagRuleDelveSite;
+import Datasworn.TagRuleDelveSiteDomain;
+import Datasworn.TagRuleDelveSiteTheme;
+import Datasworn.TagRuleEnum;
+import Datasworn.TagRuleInteger;
+import Datasworn.TagRuleMove;
+import Datasworn.TagRuleMoveCategory;
+import Datasworn.TagRuleNpc;
+import Datasworn.TagRuleNpcCollection;
+import Datasworn.TagRuleOracleCollection;
+import Datasworn.TagRuleOracleRollable;
+import Datasworn.TagRuleRarity;
+import Datasworn.TagRuleTruth;
+import Datasworn.TemplateString;
+import Datasworn.TriggerActionRoll;
+import Datasworn.TriggerActionRollCondition;
+import Datasworn.TriggerActionRollConditionEnhancement;
+import Datasworn.TriggerActionRollEnhancement;
+import Datasworn.TriggerBy;
+import Datasworn.TriggerNoRoll;
+import Datasworn.TriggerNoRollCondition;
+import Datasworn.TriggerNoRollEnhancement;
+import Datasworn.TriggerProgressRoll;
+import Datasworn.TriggerProgressRollCondition;
+import Datasworn.TriggerProgressRollConditionEnhancement;
+import Datasworn.TriggerProgressRollEnhancement;
+import Datasworn.TriggerSpecialTrack;
+import Datasworn.TriggerSpecialTrackCondition;
+import Datasworn.TriggerSpecialTrackConditionEnhancement;
+import Datasworn.TriggerSpecialTrackConditionOption;
+import Datasworn.TriggerSpecialTrackEnhancement;
+import Datasworn.Truth;
+import Datasworn.TruthId;
+import Datasworn.TruthOption;
+import Datasworn.TruthOptionTable;
+import Datasworn.TruthOptionTableOracleType;
+import Datasworn.UnsignedByte;
+import Datasworn.UnsignedInteger;
+import Datasworn.UnsignedShort;
+import Datasworn.WebUrl;
+import Datasworn.WebpImageUrl;
+import Datasworn.ids.IdPool;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Registers {@link DataswornReader} and {@link DataswornWriter} with an
+ * {@code ObjectMapper} for every Datasworn binding, replacing bean
+ * introspection and Jackson's buffering subtype resolution:
+ * <pre>
+ * ObjectMapper mapper = new ObjectMapper().registerModule(new DataswornModule());
+ * </pre>
+ */
+public final class DataswornModule extends SimpleModule {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a module that interns IDs into {@link IdPool#shared()}.
+     */
+    public DataswornModule() {
+        this(IdPool.shared());
+    }
+
+    public DataswornModule(IdPool ids) {
+        super("DataswornModule");
+        addDeserializer(ActionRollMethod.class, new BindingDeserializer<>(ActionRollMethod.class, ids, DataswornReader::readActionRollMethod));
+        addSerializer(ActionRollMethod.class, new BindingSerializer<>(ActionRollMethod.class, DataswornWriter::writeActionRollMethod));
+        addDeserializer(Asset.class, new BindingDeserializer<>(Asset.class, ids, DataswornReader::readAsset));
+        addSerializer(Asset.class, new BindingSerializer<>(Asset.class, DataswornWriter::writeAsset));
+        addDeserializer(AssetAbility.class, new BindingDeserializer<>(AssetAbility.class, ids, DataswornReader::readAssetAbility));
+        addSerializer(AssetAbility.class, new BindingSerializer<>(AssetAbility.class, DataswornWriter::writeAssetAbility));
+        addDeserializer(AssetAbilityControlField.class, new BindingDeserializer<>(AssetAbilityControlField.class, ids, DataswornReader::readAssetAbilityControlField));
+        addSerializer(AssetAbilityControlField.class, new BindingSerializer<>(AssetAbilityControlField.class, DataswornWriter::writeAssetAbilityControlField));
+        addDeserializer(AssetAbilityControlFieldCheckbox.class, new BindingDeserializer<>(AssetAbilityControlFieldCheckbox.class, ids, DataswornReader::readAssetAbilityControlFieldCheckbox));
+        addSerializer(AssetAbilityControlFieldCheckbox.class, new BindingSerializer<>(AssetAbilityControlFieldCheckbox.class, DataswornWriter::writeAssetAbilityControlFieldCheckbox));
+        addDeserializer(AssetAbilityControlFieldClock.class, new BindingDeserializer<>(AssetAbilityControlFieldClock.class, ids, DataswornReader::readAssetAbilityControlFieldClock));
+        addSerializer(AssetAbilityControlFieldClock.class, new BindingSerializer<>(AssetAbilityControlFieldClock.class, DataswornWriter::writeAssetAbilityControlFieldClock));
+        addDeserializer(AssetAbilityControlFieldCounter.class, new BindingDeserializer<>(AssetAbilityControlFieldCounter.class, ids, DataswornReader::readAssetAbilityControlFieldCounter));
+        addSerializer(AssetAbilityControlFieldCounter.class, new BindingSerializer<>(AssetAbilityControlFieldCounter.class, DataswornWriter::writeAssetAbilityControlFieldCounter));
+        addDeserializer(AssetAbilityControlFieldText.class, new BindingDeserializer<>(AssetAbilityControlFieldText.class, ids, DataswornReader::readAssetAbilityControlFieldText));
+        addSerializer(AssetAbilityControlFieldText.class, new BindingSerializer<>(AssetAbilityControlFieldText.class, DataswornWriter::writeAssetAbilityControlFieldText));
+        addDeserializer(AssetAbilityId.class, new BindingDeserializer<>(AssetAbilityId.class, ids, DataswornReader::readAssetAbilityId));
+        addSerializer(AssetAbilityId.class, new BindingSerializer<>(AssetAbilityId.class, DataswornWriter::writeAssetAbilityId));
+        addDeserializer(AssetAbilityOptionField.class, new BindingDeserializer<>(AssetAbilityOptionField.class, ids, DataswornReader::readAssetAbilityOptionField));
+        addSerializer(AssetAbilityOptionField.class, new BindingSerializer<>(AssetAbilityOptionField.class, DataswornWriter::writeAssetAbilityOptionField));
+        addDeserializer(AssetAbilityOptionFieldText.class, new BindingDeserializer<>(AssetAbilityOptionFieldText.class, ids, DataswornReader::readAssetAbilityOptionFieldText));
+        addSerializer(AssetAbilityOptionFieldText.class, new BindingSerializer<>(AssetAbilityOptionFieldText.class, DataswornWriter::writeAssetAbilityOptionFieldText));
+        addDeserializer(AssetAttachment.class, new BindingDeserializer<>(AssetAttachment.class, ids, DataswornReader::readAssetAttachment));
+        addSerializer(AssetAttachment.class, new BindingSerializer<>(AssetAttachment.class, DataswornWriter::writeAssetAttachment));
+        addDeserializer(AssetCollection.class, new BindingDeserializer<>(AssetCollection.class, ids, DataswornReader::readAssetCollection));
+        addSerializer(AssetCollection.class, new BindingSerializer<>(AssetCollection.class, DataswornWriter::writeAssetCollection));
+        addDeserializer(AssetCollectionId.class, new BindingDeserializer<>(AssetCollectionId.class, ids, DataswornReader::readAssetCollectionId));
+        addSerializer(AssetCollectionId.class, new BindingSerializer<>(AssetCollectionId.class, DataswornWriter::writeAssetCollectionId));
+        addDeserializer(AssetCollectionType.class, new BindingDeserializer<>(AssetCollectionType.class, ids, DataswornReader::readAssetCollectionType));
+        addSerializer(AssetCollectionType.class, new BindingSerializer<>(AssetCollectionType.class, DataswornWriter::writeAssetCollectionType));
+        addDeserializer(AssetConditionMeterControlField.class, new BindingDeserializer<>(AssetConditionMeterControlField.class, ids, DataswornReader::readAssetConditionMeterControlField));
+        addSerializer(AssetConditionMeterControlField.class, new BindingSerializer<>(AssetConditionMeterControlField.class, DataswornWriter::writeAssetConditionMeterControlField));
+        addDeserializer(AssetConditionMeterControlFieldCardFlip.class, new BindingDeserializer<>(AssetConditionMeterControlFieldCardFlip.class, ids, DataswornReader::readAssetConditionMeterControlFieldCardFlip));
+        addSerializer(AssetConditionMeterControlFieldCardFlip.class, new BindingSerializer<>(AssetConditionMeterControlFieldCardFlip.class, DataswornWriter::writeAssetConditionMeterControlFieldCardFlip));
+        addDeserializer(AssetConditionMeterControlFieldCheckbox.class, new BindingDeserializer<>(AssetConditionMeterControlFieldCheckbox.class, ids, DataswornReader::readAssetConditionMeterControlFieldCheckbox));
+        addSerializer(AssetConditionMeterControlFieldCheckbox.class, new BindingSerializer<>(AssetConditionMeterControlFieldCheckbox.class, DataswornWriter::writeAssetConditionMeterControlFieldCheckbox));
+        addDeserializer(AssetControlField.class, new BindingDeserializer<>(AssetControlField.class, ids, DataswornReader::readAssetControlField));
+        addSerializer(AssetControlField.class, new BindingSerializer<>(AssetControlField.class, DataswornWriter::writeAssetControlField));
+        addDeserializer(AssetControlFieldCardFlip.class, new BindingDeserializer<>(AssetControlFieldCardFlip.class, ids, DataswornReader::readAssetControlFieldCardFlip));
+        addSerializer(AssetControlFieldCardFlip.class, new BindingSerializer<>(AssetControlFieldCardFlip.class, DataswornWriter::writeAssetControlFieldCardFlip));
+        addDeserializer(AssetControlFieldCheckbox.class, new BindingDeserializer<>(AssetControlFieldCheckbox.class, ids, DataswornReader::readAssetControlFieldCheckbox));
+        addSerializer(AssetControlFieldCheckbox.class, new BindingSerializer<>(AssetControlFieldCheckbox.class, DataswornWriter::writeAssetControlFieldCheckbox));
+        addDeserializer(AssetControlFieldConditionMeter.class, new BindingDeserializer<>(AssetControlFieldConditionMeter.class, ids, DataswornReader::readAssetControlFieldConditionMeter));
+        addSerializer(AssetControlFieldConditionMeter.class, new BindingSerializer<>(AssetControlFieldConditionMeter.class, DataswornWriter::writeAssetControlFieldConditionMeter));
+        addDeserializer(AssetControlFieldConditionMeterMoves.class, new BindingDeserializer<>(AssetControlFieldConditionMeterMoves.class, ids, DataswornReader::readAssetControlFieldConditionMeterMoves));
+        addSerializer(AssetControlFieldConditionMeterMoves.class, new BindingSerializer<>(AssetControlFieldConditionMeterMoves.class, DataswornWriter::writeAssetControlFieldConditionMeterMoves));
+        addDeserializer(AssetControlFieldEnhancement.class, new BindingDeserializer<>(AssetControlFieldEnhancement.class, ids, DataswornReader::readAssetControlFieldEnhancement));
+        addSerializer(AssetControlFieldEnhancement.class, new BindingSerializer<>(AssetControlFieldEnhancement.class, DataswornWriter::writeAssetControlFieldEnhancement));
+        addDeserializer(AssetControlFieldEnhancementConditionMeter.class, new BindingDeserializer<>(AssetControlFieldEnhancementConditionMeter.class, ids, DataswornReader::readAssetControlFieldEnhancementConditionMeter));
+        addSerializer(AssetControlFieldEnhancementConditionMeter.class, new BindingSerializer<>(AssetControlFieldEnhancementConditionMeter.class, DataswornWriter::writeAssetControlFieldEnhancementConditionMeter));
+        addDeserializer(AssetControlFieldSelectEnhancement.class, new BindingDeserializer<>(AssetControlFieldSelectEnhancement.class, ids, DataswornReader::readAssetControlFieldSelectEnhancement));
+        addSerializer(AssetControlFieldSelectEnhancement.class, new BindingSerializer<>(AssetControlFieldSelectEnhancement.class, DataswornWriter::writeAssetControlFieldSelectEnhancement));
+        addDeserializer(AssetControlFieldSelectEnhancementChoice.class, new BindingDeserializer<>(AssetControlFieldSelectEnhancementChoice.class, ids, DataswornReader::readAssetControlFieldSelectEnhancementChoice));
+        addSerializer(AssetControlFieldSelectEnhancementChoice.class, new BindingSerializer<>(AssetControlFieldSelectEnhancementChoice.class, DataswornWriter::writeAssetControlFieldSelectEnhancementChoice));
+        addDeserializer(AssetControlFieldSelectEnhancementChoiceChoice.class, new BindingDeserializer<>(AssetControlFieldSelectEnhancementChoiceChoice.class, ids, DataswornReader::readAssetControlFieldSelectEnhancementChoiceChoice));
+        addSerializer(AssetControlFieldSelectEnhancementChoiceChoice.class, new BindingSerializer<>(AssetControlFieldSelectEnhancementChoiceChoice.class, DataswornWriter::writeAssetControlFieldSelectEnhancementChoiceChoice));
+        addDeserializer(AssetControlFieldSelectEnhancementChoiceChoiceGroup.class, new BindingDeserializer<>(AssetControlFieldSelectEnhancementChoiceChoiceGroup.class, ids, DataswornReader::readAssetControlFieldSelectEnhancementChoiceChoiceGroup));
+        addSerializer(AssetControlFieldSelectEnhancementChoiceChoiceGroup.class, new BindingSerializer<>(AssetControlFieldSelectEnhancementChoiceChoiceGroup.class, DataswornWriter::writeAssetControlFieldSelectEnhancementChoiceChoiceGroup));
+        addDeserializer(AssetEnhancement.class, new BindingDeserializer<>(AssetEnhancement.class, ids, DataswornReader::readAssetEnhancement));
+        addSerializer(AssetEnhancement.class, new BindingSerializer<>(AssetEnhancement.class, DataswornWriter::writeAssetEnhancement));
+        addDeserializer(AssetId.class, new BindingDeserializer<>(AssetId.class, ids, DataswornReader::readAssetId));
+        addSerializer(AssetId.class, new BindingSerializer<>(AssetId.class, DataswornWriter::writeAssetId));
+        addDeserializer(AssetIdWildcard.class, new BindingDeserializer<>(AssetIdWildcard.class, ids, DataswornReader::readAssetIdWildcard));
+        addSerializer(AssetIdWildcard.class, new BindingSerializer<>(AssetIdWildcard.class, DataswornWriter::writeAssetIdWildcard));
+        addDeserializer(AssetOptionField.class, new BindingDeserializer<>(AssetOptionField.class, ids, DataswornReader::readAssetOptionField));
+        addSerializer(AssetOptionField.class, new BindingSerializer<>(AssetOptionField.class, DataswornWriter::writeAssetOptionField));
+        addDeserializer(AssetOptionFieldSelectEnhancement.class, new BindingDeserializer<>(AssetOptionFieldSelectEnhancement.class, ids, DataswornReader::readAssetOptionFieldSelectEnhancement));
+        addSerializer(AssetOptionFieldSelectEnhancement.class, new BindingSerializer<>(AssetOptionFieldSelectEnhancement.class, DataswornWriter::writeAssetOptionFieldSelectEnhancement));
+        addDeserializer(AssetOptionFieldSelectEnhancementChoice.class, new BindingDeserializer<>(AssetOptionFieldSelectEnhancementChoice.class, ids, DataswornReader::readAssetOptionFieldSelectEnhancementChoice));
+        addSerializer(AssetOptionFieldSelectEnhancementChoice.class, new BindingSerializer<>(AssetOptionFieldSelectEnhancementChoice.class, DataswornWriter::writeAssetOptionFieldSelectEnhancementChoice));
+        addDeserializer(AssetOptionFieldSelectEnhancementChoiceChoice.class, new BindingDeserializer<>(AssetOptionFieldSelectEnhancementChoiceChoice.class, ids, DataswornReader::readAssetOptionFieldSelectEnhancementChoiceChoice));
+        addSerializer(AssetOptionFieldSelectEnhancementChoiceChoice.class, new BindingSerializer<>(AssetOptionFieldSelectEnhancementChoiceChoice.class, DataswornWriter::writeAssetOptionFieldSelectEnhancementChoiceChoice));
+        addDeserializer(AssetOptionFieldSelectEnhancementChoiceChoiceGroup.class, new BindingDeserializer<>(AssetOptionFieldSelectEnhancementChoiceChoiceGroup.class, ids, DataswornReader::readAssetOptionFieldSelectEnhancementChoiceChoiceGroup));
+        addSerializer(AssetOptionFieldSelectEnhancementChoiceChoiceGroup.class, new BindingSerializer<>(AssetOptionFieldSelectEnhancementChoiceChoiceGroup.class, DataswornWriter::writeAssetOptionFieldSelectEnhancementChoiceChoiceGroup));
+        addDeserializer(AssetOptionFieldSelectValue.class, new BindingDeserializer<>(AssetOptionFieldSelectValue.class, ids, DataswornReader::readAssetOptionFieldSelectValue));
+        addSerializer(AssetOptionFieldSelectValue.class, new BindingSerializer<>(AssetOptionFieldSelectValue.class, DataswornWriter::writeAssetOptionFieldSelectValue));
+        addDeserializer(AssetOptionFieldText.class, new BindingDeserializer<>(AssetOptionFieldText.class, ids, DataswornReader::readAssetOptionFieldText));
+        addSerializer(AssetOptionFieldText.class, new BindingSerializer<>(AssetOptionFieldText.class, DataswornWriter::writeAssetOptionFieldText));
+        addDeserializer(AssetType.class, new BindingDeserializer<>(AssetType.class, ids, DataswornReader::readAssetType));
+        addSerializer(AssetType.class, new BindingSerializer<>(AssetType.class, DataswornWriter::writeAssetType));
+        addDeserializer(AtlasCollection.class, new BindingDeserializer<>(AtlasCollection.class, ids, DataswornReader::readAtlasCollection));
+        addSerializer(AtlasCollection.class, new BindingSerializer<>(AtlasCollection.class, DataswornWriter::writeAtlasCollection));
+        addDeserializer(AtlasCollectionId.class, new BindingDeserializer<>(AtlasCollectionId.class, ids, DataswornReader::readAtlasCollectionId));
+        addSerializer(AtlasCollectionId.class, new BindingSerializer<>(AtlasCollectionId.class, DataswornWriter::writeAtlasCollectionId));
+        addDeserializer(AtlasCollectionType.class, new BindingDeserializer<>(AtlasCollectionType.class, ids, DataswornReader::readAtlasCollectionType));
+        addSerializer(AtlasCollectionType.class, new BindingSerializer<>(AtlasCollectionType.class, DataswornWriter::writeAtlasCollectionType));
+        addDeserializer(AtlasEntry.class, new BindingDeserializer<>(AtlasEntry.class, ids, DataswornReader::readAtlasEntry));
+        addSerializer(AtlasEntry.class, new BindingSerializer<>(AtlasEntry.class, DataswornWriter::writeAtlasEntry));
+        addDeserializer(AtlasEntryId.class, new BindingDeserializer<>(AtlasEntryId.class, ids, DataswornReader::readAtlasEntryId));
+        addSerializer(AtlasEntryId.class, new BindingSerializer<>(AtlasEntryId.class, DataswornWriter::writeAtlasEntryId));
+        addDeserializer(AtlasEntryType.class, new BindingDeserializer<>(AtlasEntryType.class, ids, DataswornReader::readAtlasEntryType));
+        addSerializer(AtlasEntryType.class, new BindingSerializer<>(AtlasEntryType.class, DataswornWriter::writeAtlasEntryType));
+        addDeserializer(AuthorInfo.class, new BindingDeserializer<>(AuthorInfo.class, ids, DataswornReader::readAuthorInfo));
+        addSerializer(AuthorInfo.class, new BindingSerializer<>(AuthorInfo.class, DataswornWriter::writeAuthorInfo));
+        addDeserializer(ChallengeRank.class, new BindingDeserializer<>(ChallengeRank.class, ids, DataswornReader::readChallengeRank));
+        addSerializer(ChallengeRank.class, new BindingSerializer<>(ChallengeRank.class, DataswornWriter::writeChallengeRank));
+        addDeserializer(ConditionMeterKey.class, new BindingDeserializer<>(ConditionMeterKey.class, ids, DataswornReader::readConditionMeterKey));
+        addSerializer(ConditionMeterKey.class, new BindingSerializer<>(ConditionMeterKey.class, DataswornWriter::writeConditionMeterKey));
+        addDeserializer(ConditionMeterRule.class, new BindingDeserializer<>(ConditionMeterRule.class, ids, DataswornReader::readConditionMeterRule));
+        addSerializer(ConditionMeterRule.class, new BindingSerializer<>(ConditionMeterRule.class, DataswornWriter::writeConditionMeterRule));
+        addDeserializer(CssColor.class, new BindingDeserializer<>(CssColor.class, ids, DataswornReader::readCssColor));
+        addSerializer(CssColor.class, new BindingSerializer<>(CssColor.class, DataswornWriter::writeCssColor));
+        addDeserializer(DelveSite.class, new BindingDeserializer<>(DelveSite.class, ids, DataswornReader::readDelveSite));
+        addSerializer(DelveSite.class, new BindingSerializer<>(DelveSite.class, DataswornWriter::writeDelveSite));
+        addDeserializer(DelveSiteDenizen.class, new BindingDeserializer<>(DelveSiteDenizen.class, ids, DataswornReader::readDelveSiteDenizen));
+        addSerializer(DelveSiteDenizen.class, new BindingSerializer<>(DelveSiteDenizen.class, DataswornWriter::writeDelveSiteDenizen));
+        addDeserializer(DelveSiteDenizenFrequency.class, new BindingDeserializer<>(DelveSiteDenizenFrequency.class, ids, DataswornReader::readDelveSiteDenizenFrequency));
+        addSerializer(DelveSiteDenizenFrequency.class, new BindingSerializer<>(DelveSiteDenizenFrequency.class, DataswornWriter::writeDelveSiteDenizenFrequency));
+        addDeserializer(DelveSiteDomain.class, new BindingDeserializer<>(DelveSiteDomain.class, ids, DataswornReader::readDelveSiteDomain));
+        addSerializer(DelveSiteDomain.class, new BindingSerializer<>(DelveSiteDomain.class, DataswornWriter::writeDelveSiteDomain));
+        addDeserializer(DelveSiteDomainId.class, new BindingDeserializer<>(DelveSiteDomainId.class, ids, DataswornReader::readDelveSiteDomainId));
+        addSerializer(DelveSiteDomainId.class, new BindingSerializer<>(DelveSiteDomainId.class, DataswornWriter::writeDelveSiteDomainId));
+        addDeserializer(DelveSiteDomainType.class, new BindingDeserializer<>(DelveSiteDomainType.class, ids, DataswornReader::readDelveSiteDomainType));
+        addSerializer(DelveSiteDomainType.class, new BindingSerializer<>(DelveSiteDomainType.class, DataswornWriter::writeDelveSiteDomainType));
+        addDeserializer(DelveSiteId.class, new BindingDeserializer<>(DelveSiteId.class, ids, DataswornReader::readDelveSiteId));
+        addSerializer(DelveSiteId.class, new BindingSerializer<>(DelveSiteId.class, DataswornWriter::writeDelveSiteId));
+        addDeserializer(DelveSiteTheme.class, new BindingDeserializer<>(DelveSiteTheme.class, ids, DataswornReader::readDelveSiteTheme));
+        addSerializer(DelveSiteTheme.class, new BindingSerializer<>(DelveSiteTheme.class, DataswornWriter::writeDelveSiteTheme));
+        addDeserializer(DelveSiteThemeId.class, new BindingDeserializer<>(DelveSiteThemeId.class, ids, DataswornReader::readDelveSiteThemeId));
+        addSerializer(DelveSiteThemeId.class, new BindingSerializer<>(DelveSiteThemeId.class, DataswornWriter::writeDelveSiteThemeId));
+        addDeserializer(DelveSiteThemeType.class, new BindingDeserializer<>(DelveSiteThemeType.class, ids, DataswornReader::readDelveSiteThemeType));
+        addSerializer(DelveSiteThemeType.class, new BindingSerializer<>(DelveSiteThemeType.class, DataswornWriter::writeDelveSiteThemeType));
+        addDeserializer(DelveSiteType.class, new BindingDeserializer<>(DelveSiteType.class, ids, DataswornReader::readDelveSiteType));
+        addSerializer(DelveSiteType.class, new BindingSerializer<>(DelveSiteType.class, DataswornWriter::writeDelveSiteType));
+        addDeserializer(DiceExpression.class, new BindingDeserializer<>(DiceExpression.class, ids, DataswornReader::readDiceExpression));
+        addSerializer(DiceExpression.class, new BindingSerializer<>(DiceExpression.class, DataswornWriter::writeDiceExpression));
+        addDeserializer(DictKey.class, new BindingDeserializer<>(DictKey.class, ids, DataswornReader::readDictKey));
+        addSerializer(DictKey.class, new BindingSerializer<>(DictKey.class, DataswornWriter::writeDictKey));
+        addDeserializer(ExpansionId.class, new BindingDeserializer<>(ExpansionId.class, ids, DataswornReader::readExpansionId));
+        addSerializer(ExpansionId.class, new BindingSerializer<>(ExpansionId.class, DataswornWriter::writeExpansionId));
+        addDeserializer(I18nHint.class, new BindingDeserializer<>(I18nHint.class, ids, DataswornReader::readI18nHint));
+        addSerializer(I18nHint.class, new BindingSerializer<>(I18nHint.class, DataswornWriter::writeI18nHint));
+        addDeserializer(I18nHints.class, new BindingDeserializer<>(I18nHints.class, ids, DataswornReader::readI18nHints));
+        addSerializer(I18nHints.class, new BindingSerializer<>(I18nHints.class, DataswornWriter::writeI18nHints));
+        addDeserializer(I18nHintsTemplate.class, new BindingDeserializer<>(I18nHintsTemplate.class, ids, DataswornReader::readI18nHintsTemplate));
+        addSerializer(I18nHintsTemplate.class, new BindingSerializer<>(I18nHintsTemplate.class, DataswornWriter::writeI18nHintsTemplate));
+        addDeserializer(ImpactCategory.class, new BindingDeserializer<>(ImpactCategory.class, ids, DataswornReader::readImpactCategory));
+        addSerializer(ImpactCategory.class, new BindingSerializer<>(ImpactCategory.class, DataswornWriter::writeImpactCategory));
+        addDeserializer(ImpactRule.class, new BindingDeserializer<>(ImpactRule.class, ids, DataswornReader::readImpactRule));
+        addSerializer(ImpactRule.class, new BindingSerializer<>(ImpactRule.class, DataswornWriter::writeImpactRule));
+        addDeserializer(InputLabel.class, new BindingDeserializer<>(InputLabel.class, ids, DataswornReader::readInputLabel));
+        addSerializer(InputLabel.class, new BindingSerializer<>(InputLabel.class, DataswornWriter::writeInputLabel));
+        addDeserializer(Label.class, new BindingDeserializer<>(Label.class, ids, DataswornReader::readLabel));
+        addSerializer(Label.class, new BindingSerializer<>(Label.class, DataswornWriter::writeLabel));
+        addDeserializer(License.class, new BindingDeserializer<>(License.class, ids, DataswornReader::readLicense));
+        addSerializer(License.class, new BindingSerializer<>(License.class, DataswornWriter::writeLicense));
+        addDeserializer(MarkdownString.class, new BindingDeserializer<>(MarkdownString.class, ids, DataswornReader::readMarkdownString));
+        addSerializer(MarkdownString.class, new BindingSerializer<>(MarkdownString.class, DataswornWriter::writeMarkdownString));
+        addDeserializer(Move.class, new BindingDeserializer<>(Move.class, ids, DataswornReader::readMove));
+        addSerializer(Move.class, new BindingSerializer<>(Move.class, DataswornWriter::writeMove));
+        addDeserializer(MoveActionRoll.class, new BindingDeserializer<>(MoveActionRoll.class, ids, DataswornReader::readMoveActionRoll));
+        addSerializer(MoveActionRoll.class, new BindingSerializer<>(MoveActionRoll.class, DataswornWriter::writeMoveActionRoll));
+        addDeserializer(MoveActionRollType.class, new BindingDeserializer<>(MoveActionRollType.class, ids, DataswornReader::readMoveActionRollType));
+        addSerializer(MoveActionRollType.class, new BindingSerializer<>(MoveActionRollType.class, DataswornWriter::writeMoveActionRollType));
+        addDeserializer(MoveCategory.class, new BindingDeserializer<>(MoveCategory.class, ids, DataswornReader::readMoveCategory));
+        addSerializer(MoveCategory.class, new BindingSerializer<>(MoveCategory.class, DataswornWriter::writeMoveCategory));
+        addDeserializer(MoveCategoryId.class, new BindingDeserializer<>(MoveCategoryId.class, ids, DataswornReader::readMoveCategoryId));
+        addSerializer(MoveCategoryId.class, new BindingSerializer<>(MoveCategoryId.class, DataswornWriter::writeMoveCategoryId));
+        addDeserializer(MoveCategoryType.class, new BindingDeserializer<>(MoveCategoryType.class, ids, DataswornReader::readMoveCategoryType));
+        addSerializer(MoveCategoryType.class, new BindingSerializer<>(MoveCategoryType.class, DataswornWriter::writeMoveCategoryType));
+        addDeserializer(MoveEnhancement.class, new BindingDeserializer<>(MoveEnhancement.class, ids, DataswornReader::readMoveEnhancement));
+        addSerializer(MoveEnhancement.class, new BindingSerializer<>(MoveEnhancement.class, DataswornWriter::writeMoveEnhancement));
+        addDeserializer(MoveEnhancementActionRoll.class, new BindingDeserializer<>(MoveEnhancementActionRoll.class, ids, DataswornReader::readMoveEnhancementActionRoll));
+        addSerializer(MoveEnhancementActionRoll.class, new BindingSerializer<>(MoveEnhancementActionRoll.class, DataswornWriter::writeMoveEnhancementActionRoll));
+        addDeserializer(MoveEnhancementNoRoll.class, new BindingDeserializer<>(MoveEnhancementNoRoll.class, ids, DataswornReader::readMoveEnhancementNoRoll));
+        addSerializer(MoveEnhancementNoRoll.class, new BindingSerializer<>(MoveEnhancementNoRoll.class, DataswornWriter::writeMoveEnhancementNoRoll));
+        addDeserializer(MoveEnhancementProgressRoll.class, new BindingDeserializer<>(MoveEnhancementProgressRoll.class, ids, DataswornReader::readMoveEnhancementProgressRoll));
+        addSerializer(MoveEnhancementProgressRoll.class, new BindingSerializer<>(MoveEnhancementProgressRoll.class, DataswornWriter::writeMoveEnhancementProgressRoll));
+        addDeserializer(MoveEnhancementSpecialTrack.class, new BindingDeserializer<>(MoveEnhancementSpecialTrack.class, ids, DataswornReader::readMoveEnhancementSpecialTrack));
+        addSerializer(MoveEnhancementSpecialTrack.class, new BindingSerializer<>(MoveEnhancementSpecialTrack.class, DataswornWriter::writeMoveEnhancementSpecialTrack));
+        addDeserializer(MoveId.class, new BindingDeserializer<>(MoveId.class, ids, DataswornReader::readMoveId));
+        addSerializer(MoveId.class, new BindingSerializer<>(MoveId.class, DataswornWriter::writeMoveId));
+        addDeserializer(MoveIdWildcard.class, new BindingDeserializer<>(MoveIdWildcard.class, ids, DataswornReader::readMoveIdWildcard));
+        addSerializer(MoveIdWildcard.class, new BindingSerializer<>(MoveIdWildcard.class, DataswornWriter::writeMoveIdWildcard));
+        addDeserializer(MoveNoRoll.class, new BindingDeserializer<>(MoveNoRoll.class, ids, DataswornReader::readMoveNoRoll));
+        addSerializer(MoveNoRoll.class, new BindingSerializer<>(MoveNoRoll.class, DataswornWriter::writeMoveNoRoll));
+        addDeserializer(MoveNoRollType.class, new BindingDeserializer<>(MoveNoRollType.class, ids, DataswornReader::readMoveNoRollType));
+        addSerializer(MoveNoRollType.class, new BindingSerializer<>(MoveNoRollType.class, DataswornWriter::writeMoveNoRollType));
+        addDeserializer(MoveOutcome.class, new BindingDeserializer<>(MoveOutcome.class, ids, DataswornReader::readMoveOutcome));
+        addSerializer(MoveOutcome.class, new BindingSerializer<>(MoveOutcome.class, DataswornWriter::writeMoveOutcome));
+        addDeserializer(MoveOutcomes.class, new BindingDeserializer<>(MoveOutcomes.class, ids, DataswornReader::readMoveOutcomes));
+        addSerializer(MoveOutcomes.class, new BindingSerializer<>(MoveOutcomes.class, DataswornWriter::writeMoveOutcomes));
+        addDeserializer(MoveProgressRoll.class, new BindingDeserializer<>(MoveProgressRoll.class, ids, DataswornReader::readMoveProgressRoll));
+        addSerializer(MoveProgressRoll.class, new BindingSerializer<>(MoveProgressRoll.class, DataswornWriter::writeMoveProgressRoll));
+        addDeserializer(MoveProgressRollType.class, new BindingDeserializer<>(MoveProgressRollType.class, ids, DataswornReader::readMoveProgressRollType));
+        addSerializer(MoveProgressRollType.class, new BindingSerializer<>(MoveProgressRollType.class, DataswornWriter::writeMoveProgressRollType));
+        addDeserializer(MoveSpecialTrack.class, new BindingDeserializer<>(MoveSpecialTrack.class, ids, DataswornReader::readMoveSpecialTrack));
+        addSerializer(MoveSpecialTrack.class, new BindingSerializer<>(MoveSpecialTrack.class, DataswornWriter::writeMoveSpecialTrack));
+        addDeserializer(MoveSpecialTrackType.class, new BindingDeserializer<>(MoveSpecialTrackType.class, ids, DataswornReader::readMoveSpecialTrackType));
+        addSerializer(MoveSpecialTrackType.class, new BindingSerializer<>(MoveSpecialTrackType.class, DataswornWriter::writeMoveSpecialTrackType));
+        addDeserializer(Npc.class, new BindingDeserializer<>(Npc.class, ids, DataswornReader::readNpc));
+        addSerializer(Npc.class, new BindingSerializer<>(Npc.class, DataswornWriter::writeNpc));
+        addDeserializer(NpcCollection.class, new BindingDeserializer<>(NpcCollection.class, ids, DataswornReader::readNpcCollection));
+        addSerializer(NpcCollection.class, new BindingSerializer<>(NpcCollection.class, DataswornWriter::writeNpcCollection));
+        addDeserializer(NpcCollectionId.class, new BindingDeserializer<>(NpcCollectionId.class, ids, DataswornReader::readNpcCollectionId));
+        addSerializer(NpcCollectionId.class, new BindingSerializer<>(NpcCollectionId.class, DataswornWriter::writeNpcCollectionId));
+        addDeserializer(NpcCollectionType.class, new BindingDeserializer<>(NpcCollectionType.class, ids, DataswornReader::readNpcCollectionType));
+        addSerializer(NpcCollectionType.class, new BindingSerializer<>(NpcCollectionType.class, DataswornWriter::writeNpcCollectionType));
+        addDeserializer(NpcId.class, new BindingDeserializer<>(NpcId.class, ids, DataswornReader::readNpcId));
+        addSerializer(NpcId.class, new BindingSerializer<>(NpcId.class, DataswornWriter::writeNpcId));
+        addDeserializer(NpcNature.class, new BindingDeserializer<>(NpcNature.class, ids, DataswornReader::readNpcNature));
+        addSerializer(NpcNature.class, new BindingSerializer<>(NpcNature.class, DataswornWriter::writeNpcNature));
+        addDeserializer(NpcType.class, new BindingDeserializer<>(NpcType.class, ids, DataswornReader::readNpcType));
+        addSerializer(NpcType.class, new BindingSerializer<>(NpcType.class, DataswornWriter::writeNpcType));
+        addDeserializer(NpcVariant.class, new BindingDeserializer<>(NpcVariant.class, ids, DataswornReader::readNpcVariant));
+        addSerializer(NpcVariant.class, new BindingSerializer<>(NpcVariant.class, DataswornWriter::writeNpcVariant));
+        addDeserializer(NpcVariantId.class, new BindingDeserializer<>(NpcVariantId.class, ids, DataswornReader::readNpcVariantId));
+        addSerializer(NpcVariantId.class, new BindingSerializer<>(NpcVariantId.class, DataswornWriter::writeNpcVariantId));
+        addDeserializer(ObjectType.class, new BindingDeserializer<>(ObjectType.class, ids, DataswornReader::readObjectType));
+        addSerializer(ObjectType.class, new BindingSerializer<>(ObjectType.class, DataswornWriter::writeObjectType));
+        addDeserializer(OracleCollection.class, new BindingDeserializer<>(OracleCollection.class, ids, DataswornReader::readOracleCollection));
+        addSerializer(OracleCollection.class, new BindingSerializer<>(OracleCollection.class, DataswornWriter::writeOracleCollection));
+        addDeserializer(OracleCollectionId.class, new BindingDeserializer<>(OracleCollectionId.class, ids, DataswornReader::readOracleCollectionId));
+        addSerializer(OracleCollectionId.class, new BindingSerializer<>(OracleCollectionId.class, DataswornWriter::writeOracleCollectionId));
+        addDeserializer(OracleCollectionOracleTableSharedText3.class, new BindingDeserializer<>(OracleCollectionOracleTableSharedText3.class, ids, DataswornReader::readOracleCollectionOracleTableSharedText3));
+        addSerializer(OracleCollectionOracleTableSharedText3.class, new BindingSerializer<>(OracleCollectionOracleTableSharedText3.class, DataswornWriter::writeOracleCollectionOracleTableSharedText3));
+        addDeserializer(OracleCollectionOracleTableSharedText3ColumnLabels.class, new BindingDeserializer<>(OracleCollectionOracleTableSharedText3ColumnLabels.class, ids, DataswornReader::readOracleCollectionOracleTableSharedText3ColumnLabels));
+        addSerializer(OracleCollectionOracleTableSharedText3ColumnLabels.class, new BindingSerializer<>(OracleCollectionOracleTableSharedText3ColumnLabels.class, DataswornWriter::writeOracleCollectionOracleTableSharedText3ColumnLabels));
+        addDeserializer(OracleCollectionOracleTableSharedText3Type.class, new BindingDeserializer<>(OracleCollectionOracleTableSharedText3Type.class, ids, DataswornReader::readOracleCollectionOracleTableSharedText3Type));
+        addSerializer(OracleCollectionOracleTableSharedText3Type.class, new BindingSerializer<>(OracleCollectionOracleTableSharedText3Type.class, DataswornWriter::writeOracleCollectionOracleTableSharedText3Type));
+        addDeserializer(OracleCollectionTableSharedRolls.class, new BindingDeserializer<>(OracleCollectionTableSharedRolls.class, ids, DataswornReader::readOracleCollectionTableSharedRolls));
+        addSerializer(OracleCollectionTableSharedRolls.class, new BindingSerializer<>(OracleCollectionTableSharedRolls.class, DataswornWriter::writeOracleCollectionTableSharedRolls));
+        addDeserializer(OracleCollectionTableSharedRollsColumnLabels.class, new BindingDeserializer<>(OracleCollectionTableSharedRollsColumnLabels.class, ids, DataswornReader::readOracleCollectionTableSharedRollsColumnLabels));
+        addSerializer(OracleCollectionTableSharedRollsColumnLabels.class, new BindingSerializer<>(OracleCollectionTableSharedRollsColumnLabels.class, DataswornWriter::writeOracleCollectionTableSharedRollsColumnLabels));
+        addDeserializer(OracleCollectionTableSharedRollsType.class, new BindingDeserializer<>(OracleCollectionTableSharedRollsType.class, ids, DataswornReader::readOracleCollectionTableSharedRollsType));
+        addSerializer(OracleCollectionTableSharedRollsType.class, new BindingSerializer<>(OracleCollectionTableSharedRollsType.class, DataswornWriter::writeOracleCollectionTableSharedRollsType));
+        addDeserializer(OracleCollectionTableSharedText.class, new BindingDeserializer<>(OracleCollectionTableSharedText.class, ids, DataswornReader::readOracleCollectionTableSharedText));
+        addSerializer(OracleCollectionTableSharedText.class, new BindingSerializer<>(OracleCollectionTableSharedText.class, DataswornWriter::writeOracleCollectionTableSharedText));
+        addDeserializer(OracleCollectionTableSharedText2.class, new BindingDeserializer<>(OracleCollectionTableSharedText2.class, ids, DataswornReader::readOracleCollectionTableSharedText2));
+        addSerializer(OracleCollectionTableSharedText2.class, new BindingSerializer<>(OracleCollectionTableSharedText2.class, DataswornWriter::writeOracleCollectionTableSharedText2));
+        addDeserializer(OracleCollectionTableSharedText2ColumnLabels.class, new BindingDeserializer<>(OracleCollectionTableSharedText2ColumnLabels.class, ids, DataswornReader::readOracleCollectionTableSharedText2ColumnLabels));
+        addSerializer(OracleCollectionTableSharedText2ColumnLabels.class, new BindingSerializer<>(OracleCollectionTableSharedText2ColumnLabels.class, DataswornWriter::writeOracleCollectionTableSharedText2ColumnLabels));
+        addDeserializer(OracleCollectionTableSharedText2Type.class, new BindingDeserializer<>(OracleCollectionTableSharedText2Type.class, ids, DataswornReader::readOracleCollectionTableSharedText2Type));
+        addSerializer(OracleCollectionTableSharedText2Type.class, new BindingSerializer<>(OracleCollectionTableSharedText2Type.class, DataswornWriter::writeOracleCollectionTableSharedText2Type));
+        addDeserializer(OracleCollectionTableSharedTextColumnLabels.class, new BindingDeserializer<>(OracleCollectionTableSharedTextColumnLabels.class, ids, DataswornReader::readOracleCollectionTableSharedTextColumnLabels));
+        addSerializer(OracleCollectionTableSharedTextColumnLabels.class, new BindingSerializer<>(OracleCollectionTableSharedTextColumnLabels.class, DataswornWriter::writeOracleCollectionTableSharedTextColumnLabels));
+        addDeserializer(OracleCollectionTableSharedTextType.class, new BindingDeserializer<>(OracleCollectionTableSharedTextType.class, ids, DataswornReader::readOracleCollectionTableSharedTextType));
+        addSerializer(OracleCollectionTableSharedTextType.class, new BindingSerializer<>(OracleCollectionTableSharedTextType.class, DataswornWriter::writeOracleCollectionTableSharedTextType));
+        addDeserializer(OracleCollectionTables.class, new BindingDeserializer<>(OracleCollectionTables.class, ids, DataswornReader::readOracleCollectionTables));
+        addSerializer(OracleCollectionTables.class, new BindingSerializer<>(OracleCollectionTables.class, DataswornWriter::writeOracleCollectionTables));
+        addDeserializer(OracleCollectionTablesType.class, new BindingDeserializer<>(OracleCollectionTablesType.class, ids, DataswornReader::readOracleCollectionTablesType));
+        addSerializer(OracleCollectionTablesType.class, new BindingSerializer<>(OracleCollectionTablesType.class, DataswornWriter::writeOracleCollectionTablesType));
+        addDeserializer(OracleColumnText.class, new BindingDeserializer<>(OracleColumnText.class, ids, DataswornReader::readOracleColumnText));
+        addSerializer(OracleColumnText.class, new BindingSerializer<>(OracleColumnText.class, DataswornWriter::writeOracleColumnText));
+        addDeserializer(OracleColumnText2.class, new BindingDeserializer<>(OracleColumnText2.class, ids, DataswornReader::readOracleColumnText2));
+        addSerializer(OracleColumnText2.class, new BindingSerializer<>(OracleColumnText2.class, DataswornWriter::writeOracleColumnText2));
+        addDeserializer(OracleColumnText2OracleType.class, new BindingDeserializer<>(OracleColumnText2OracleType.class, ids, DataswornReader::readOracleColumnText2OracleType));
+        addSerializer(OracleColumnText2OracleType.class, new BindingSerializer<>(OracleColumnText2OracleType.class, DataswornWriter::writeOracleColumnText2OracleType));
+        addDeserializer(OracleColumnText2Type.class, new BindingDeserializer<>(OracleColumnText2Type.class, ids, DataswornReader::readOracleColumnText2Type));
+        addSerializer(OracleColumnText2Type.class, new BindingSerializer<>(OracleColumnText2Type.class, DataswornWriter::writeOracleColumnText2Type));
+        addDeserializer(OracleColumnText3.class, new BindingDeserializer<>(OracleColumnText3.class, ids, DataswornReader::readOracleColumnText3));
+        addSerializer(OracleColumnText3.class, new BindingSerializer<>(OracleColumnText3.class, DataswornWriter::writeOracleColumnText3));
+        addDeserializer(OracleColumnText3OracleType.class, new BindingDeserializer<>(OracleColumnText3OracleType.class, ids, DataswornReader::readOracleColumnText3OracleType));
+        addSerializer(OracleColumnText3OracleType.class, new BindingSerializer<>(OracleColumnText3OracleType.class, DataswornWriter::writeOracleColumnText3OracleType));
+        addDeserializer(OracleColumnText3Type.class, new BindingDeserializer<>(OracleColumnText3Type.class, ids, DataswornReader::readOracleColumnText3Type));
+        addSerializer(OracleColumnText3Type.class, new BindingSerializer<>(OracleColumnText3Type.class, DataswornWriter::writeOracleColumnText3Type));
+        addDeserializer(OracleColumnTextOracleType.class, new BindingDeserializer<>(OracleColumnTextOracleType.class, ids, DataswornReader::readOracleColumnTextOracleType));
+        addSerializer(OracleColumnTextOracleType.class, new BindingSerializer<>(OracleColumnTextOracleType.class, DataswornWriter::writeOracleColumnTextOracleType));
+        addDeserializer(OracleColumnTextType.class, new BindingDeserializer<>(OracleColumnTextType.class, ids, DataswornReader::readOracleColumnTextType));
+        addSerializer(OracleColumnTextType.class, new BindingSerializer<>(OracleColumnTextType.class, DataswornWriter::writeOracleColumnTextType));
+        addDeserializer(OracleDuplicateBehavior.class, new BindingDeserializer<>(OracleDuplicateBehavior.class, ids, DataswornReader::readOracleDuplicateBehavior));
+        addSerializer(OracleDuplicateBehavior.class, new BindingSerializer<>(OracleDuplicateBehavior.class, DataswornWriter::writeOracleDuplicateBehavior));
+        addDeserializer(OracleMatchBehavior.class, new BindingDeserializer<>(OracleMatchBehavior.class, ids, DataswornReader::readOracleMatchBehavior));
+        addSerializer(OracleMatchBehavior.class, new BindingSerializer<>(OracleMatchBehavior.class, DataswornWriter::writeOracleMatchBehavior));
+        addDeserializer(OracleRoll.class, new BindingDeserializer<>(OracleRoll.class, ids, DataswornReader::readOracleRoll));
+        addSerializer(OracleRoll.class, new BindingSerializer<>(OracleRoll.class, DataswornWriter::writeOracleRoll));
+        addDeserializer(OracleRollTemplate.class, new BindingDeserializer<>(OracleRollTemplate.class, ids, DataswornReader::readOracleRollTemplate));
+        addSerializer(OracleRollTemplate.class, new BindingSerializer<>(OracleRollTemplate.class, DataswornWriter::writeOracleRollTemplate));
+        addDeserializer(OracleRollableId.class, new BindingDeserializer<>(OracleRollableId.class, ids, DataswornReader::readOracleRollableId));
+        addSerializer(OracleRollableId.class, new BindingSerializer<>(OracleRollableId.class, DataswornWriter::writeOracleRollableId));
+        addDeserializer(OracleTableRollable.class, new BindingDeserializer<>(OracleTableRollable.class, ids, DataswornReader::readOracleTableRollable));
+        addSerializer(OracleTableRollable.class, new BindingSerializer<>(OracleTableRollable.class, DataswornWriter::writeOracleTableRollable));
+        addDeserializer(OracleTableRollableTableText.class, new BindingDeserializer<>(OracleTableRollableTableText.class, ids, DataswornReader::readOracleTableRollableTableText));
+        addSerializer(OracleTableRollableTableText.class, new BindingSerializer<>(OracleTableRollableTableText.class, DataswornWriter::writeOracleTableRollableTableText));
+        addDeserializer(OracleTableRollableTableText2.class, new BindingDeserializer<>(OracleTableRollableTableText2.class, ids, DataswornReader::readOracleTableRollableTableText2));
+        addSerializer(OracleTableRollableTableText2.class, new BindingSerializer<>(OracleTableRollableTableText2.class, DataswornWriter::writeOracleTableRollableTableText2));
+        addDeserializer(OracleTableRollableTableText2ColumnLabels.class, new BindingDeserializer<>(OracleTableRollableTableText2ColumnLabels.class, ids, DataswornReader::readOracleTableRollableTableText2ColumnLabels));
+        addSerializer(OracleTableRollableTableText2ColumnLabels.class, new BindingSerializer<>(OracleTableRollableTableText2ColumnLabels.class, DataswornWriter::writeOracleTableRollableTableText2ColumnLabels));
+        addDeserializer(OracleTableRollableTableText2RecommendedRolls.class, new BindingDeserializer<>(OracleTableRollableTableText2RecommendedRolls.class, ids, DataswornReader::readOracleTableRollableTableText2RecommendedRolls));
+        addSerializer(OracleTableRollableTableText2RecommendedRolls.class, new BindingSerializer<>(OracleTableRollableTableText2RecommendedRolls.class, DataswornWriter::writeOracleTableRollableTableText2RecommendedRolls));
+        addDeserializer(OracleTableRollableTableText2Type.class, new BindingDeserializer<>(OracleTableRollableTableText2Type.class, ids, DataswornReader::readOracleTableRollableTableText2Type));
+        addSerializer(OracleTableRollableTableText2Type.class, new BindingSerializer<>(OracleTableRollableTableText2Type.class, DataswornWriter::writeOracleTableRollableTableText2Type));
+        addDeserializer(OracleTableRollableTableText3.class, new BindingDeserializer<>(OracleTableRollableTableText3.class, ids, DataswornReader::readOracleTableRollableTableText3));
+        addSerializer(OracleTableRollableTableText3.class, new BindingSerializer<>(OracleTableRollableTableText3.class, DataswornWriter::writeOracleTableRollableTableText3));
+        addDeserializer(OracleTableRollableTableText3ColumnLabels.class, new BindingDeserializer<>(OracleTableRollableTableText3ColumnLabels.class, ids, DataswornReader::readOracleTableRollableTableText3ColumnLabels));
+        addSerializer(OracleTableRollableTableText3ColumnLabels.class, new BindingSerializer<>(OracleTableRollableTableText3ColumnLabels.class, DataswornWriter::writeOracleTableRollableTableText3ColumnLabels));
+        addDeserializer(OracleTableRollableTableText3RecommendedRolls.class, new BindingDeserializer<>(OracleTableRollableTableText3RecommendedRolls.class, ids, DataswornReader::readOracleTableRollableTableText3RecommendedRolls));
+        addSerializer(OracleTableRollableTableText3RecommendedRolls.class, new BindingSerializer<>(OracleTableRollableTableText3RecommendedRolls.class, DataswornWriter::writeOracleTableRollableTableText3RecommendedRolls));
+        addDeserializer(OracleTableRollableTableText3Type.class, new BindingDeserializer<>(OracleTableRollableTableText3Type.class, ids, DataswornReader::readOracleTableRollableTableText3Type));
+        addSerializer(OracleTableRollableTableText3Type.class, new BindingSerializer<>(OracleTableRollableTableText3Type.class, DataswornWriter::writeOracleTableRollableTableText3Type));
+        addDeserializer(OracleTableRollableTableTextColumnLabels.class, new BindingDeserializer<>(OracleTableRollableTableTextColumnLabels.class, ids, DataswornReader::readOracleTableRollableTableTextColumnLabels));
+        addSerializer(OracleTableRollableTableTextColumnLabels.class, new BindingSerializer<>(OracleTableRollableTableTextColumnLabels.class, DataswornWriter::writeOracleTableRollableTableTextColumnLabels));
+        addDeserializer(OracleTableRollableTableTextRecommendedRolls.class, new BindingDeserializer<>(OracleTableRollableTableTextRecommendedRolls.class, ids, DataswornReader::readOracleTableRollableTableTextRecommendedRolls));
+        addSerializer(OracleTableRollableTableTextRecommendedRolls.class, new BindingSerializer<>(OracleTableRollableTableTextRecommendedRolls.class, DataswornWriter::writeOracleTableRollableTableTextRecommendedRolls));
+        addDeserializer(OracleTableRollableTableTextType.class, new BindingDeserializer<>(OracleTableRollableTableTextType.class, ids, DataswornReader::readOracleTableRollableTableTextType));
+        addSerializer(OracleTableRollableTableTextType.class, new BindingSerializer<>(OracleTableRollableTableTextType.class, DataswornWriter::writeOracleTableRollableTableTextType));
+        addDeserializer(OracleTableRowText.class, new BindingDeserializer<>(OracleTableRowText.class, ids, DataswornReader::readOracleTableRowText));
+        addSerializer(OracleTableRowText.class, new BindingSerializer<>(OracleTableRowText.class, DataswornWriter::writeOracleTableRowText));
+        addDeserializer(OracleTableRowText2.class, new BindingDeserializer<>(OracleTableRowText2.class, ids, DataswornReader::readOracleTableRowText2));
+        addSerializer(OracleTableRowText2.class, new BindingSerializer<>(OracleTableRowText2.class, DataswornWriter::writeOracleTableRowText2));
+        addDeserializer(OracleTableRowText3.class, new BindingDeserializer<>(OracleTableRowText3.class, ids, DataswornReader::readOracleTableRowText3));
+        addSerializer(OracleTableRowText3.class, new BindingSerializer<>(OracleTableRowText3.class, DataswornWriter::writeOracleTableRowText3));
+        addDeserializer(OracleTablesCollection.class, new BindingDeserializer<>(OracleTablesCollection.class, ids, DataswornReader::readOracleTablesCollection));
+        addSerializer(OracleTablesCollection.class, new BindingSerializer<>(OracleTablesCollection.class, DataswornWriter::writeOracleTablesCollection));
+        addDeserializer(OracleTablesCollectionOracleType.class, new BindingDeserializer<>(OracleTablesCollectionOracleType.class, ids, DataswornReader::readOracleTablesCollectionOracleType));
+        addSerializer(OracleTablesCollectionOracleType.class, new BindingSerializer<>(OracleTablesCollectionOracleType.class, DataswornWriter::writeOracleTablesCollectionOracleType));
+        addDeserializer(OracleTablesCollectionType.class, new BindingDeserializer<>(OracleTablesCollectionType.class, ids, DataswornReader::readOracleTablesCollectionType));
+        addSerializer(OracleTablesCollectionType.class, new BindingSerializer<>(OracleTablesCollectionType.class, DataswornWriter::writeOracleTablesCollectionType));
+        addDeserializer(PartOfSpeech.class, new BindingDeserializer<>(PartOfSpeech.class, ids, DataswornReader::readPartOfSpeech));
+        addSerializer(PartOfSpeech.class, new BindingSerializer<>(PartOfSpeech.class, DataswornWriter::writePartOfSpeech));
+        addDeserializer(ProgressRollMethod.class, new BindingDeserializer<>(ProgressRollMethod.class, ids, DataswornReader::readProgressRollMethod));
+        addSerializer(ProgressRollMethod.class, new BindingSerializer<>(ProgressRollMethod.class, DataswornWriter::writeProgressRollMethod));
+        addDeserializer(ProgressRollOption.class, new BindingDeserializer<>(ProgressRollOption.class, ids, DataswornReader::readProgressRollOption));
+        addSerializer(ProgressRollOption.class, new BindingSerializer<>(ProgressRollOption.class, DataswornWriter::writeProgressRollOption));
+        addDeserializer(ProgressRollOptionUsing.class, new BindingDeserializer<>(ProgressRollOptionUsing.class, ids, DataswornReader::readProgressRollOptionUsing));
+        addSerializer(ProgressRollOptionUsing.class, new BindingSerializer<>(ProgressRollOptionUsing.class, DataswornWriter::writeProgressRollOptionUsing));
+        addDeserializer(ProgressTrackTypeInfo.class, new BindingDeserializer<>(ProgressTrackTypeInfo.class, ids, DataswornReader::readProgressTrackTypeInfo));
+        addSerializer(ProgressTrackTypeInfo.class, new BindingSerializer<>(ProgressTrackTypeInfo.class, DataswornWriter::writeProgressTrackTypeInfo));
+        addDeserializer(Rarity.class, new BindingDeserializer<>(Rarity.class, ids, DataswornReader::readRarity));
+        addSerializer(Rarity.class, new BindingSerializer<>(Rarity.class, DataswornWriter::writeRarity));
+        addDeserializer(RarityId.class, new BindingDeserializer<>(RarityId.class, ids, DataswornReader::readRarityId));
+        addSerializer(RarityId.class, new BindingSerializer<>(RarityId.class, DataswornWriter::writeRarityId));
+        addDeserializer(RarityType.class, new BindingDeserializer<>(RarityType.class, ids, DataswornReader::readRarityType));
+        addSerializer(RarityType.class, new BindingSerializer<>(RarityType.class, DataswornWriter::writeRarityType));
+        addDeserializer(RollableValue.class, new BindingDeserializer<>(RollableValue.class, ids, DataswornReader::readRollableValue));
+        addSerializer(RollableValue.class, new BindingSerializer<>(RollableValue.class, DataswornWriter::writeRollableValue));
+        addDeserializer(RollableValueAssetControl.class, new BindingDeserializer<>(RollableValueAssetControl.class, ids, DataswornReader::readRollableValueAssetControl));
+        addSerializer(RollableValueAssetControl.class, new BindingSerializer<>(RollableValueAssetControl.class, DataswornWriter::writeRollableValueAssetControl));
+        addDeserializer(RollableValueAssetOption.class, new BindingDeserializer<>(RollableValueAssetOption.class, ids, DataswornReader::readRollableValueAssetOption));
+        addSerializer(RollableValueAssetOption.class, new BindingSerializer<>(RollableValueAssetOption.class, DataswornWriter::writeRollableValueAssetOption));
+        addDeserializer(RollableValueAttachedAssetControl.class, new BindingDeserializer<>(RollableValueAttachedAssetControl.class, ids, DataswornReader::readRollableValueAttachedAssetControl));
+        addSerializer(RollableValueAttachedAssetControl.class, new BindingSerializer<>(RollableValueAttachedAssetControl.class, DataswornWriter::writeRollableValueAttachedAssetControl));
+        addDeserializer(RollableValueAttachedAssetOption.class, new BindingDeserializer<>(RollableValueAttachedAssetOption.class, ids, DataswornReader::readRollableValueAttachedAssetOption));
+        addSerializer(RollableValueAttachedAssetOption.class, new BindingSerializer<>(RollableValueAttachedAssetOption.class, DataswornWriter::writeRollableValueAttachedAssetOption));
+        addDeserializer(RollableValueConditionMeter.class, new BindingDeserializer<>(RollableValueConditionMeter.class, ids, DataswornReader::readRollableValueConditionMeter));
+        addSerializer(RollableValueConditionMeter.class, new BindingSerializer<>(RollableValueConditionMeter.class, DataswornWriter::writeRollableValueConditionMeter));
+        addDeserializer(RollableValueCustom.class, new BindingDeserializer<>(RollableValueCustom.class, ids, DataswornReader::readRollableValueCustom));
+        addSerializer(RollableValueCustom.class, new BindingSerializer<>(RollableValueCustom.class, DataswornWriter::writeRollableValueCustom));
+        addDeserializer(RollableValueStat.class, new BindingDeserializer<>(RollableValueStat.class, ids, DataswornReader::readRollableValueStat));
+        addSerializer(RollableValueStat.class, new BindingSerializer<>(RollableValueStat.class, DataswornWriter::writeRollableValueStat));
+        addDeserializer(Rules.class, new BindingDeserializer<>(Rules.class, ids, DataswornReader::readRules));
+        addSerializer(Rules.class, new BindingSerializer<>(Rules.class, DataswornWriter::writeRules));
+        addDeserializer(RulesExpansion.class, new BindingDeserializer<>(RulesExpansion.class, ids, DataswornReader::readRulesExpansion));
+        addSerializer(RulesExpansion.class, new BindingSerializer<>(RulesExpansion.class, DataswornWriter::writeRulesExpansion));
+        addDeserializer(RulesPackage.class, new BindingDeserializer<>(RulesPackage.class, ids, DataswornReader::readRulesPackage));
+        addSerializer(RulesPackage.class, new BindingSerializer<>(RulesPackage.class, DataswornWriter::writeRulesPackage));
+        addDeserializer(RulesPackageExpansion.class, new BindingDeserializer<>(RulesPackageExpansion.class, ids, DataswornReader::readRulesPackageExpansion));
+        addSerializer(RulesPackageExpansion.class, new BindingSerializer<>(RulesPackageExpansion.class, DataswornWriter::writeRulesPackageExpansion));
+        addDeserializer(RulesPackageExpansionDataswornVersion.class, new BindingDeserializer<>(RulesPackageExpansionDataswornVersion.class, ids, DataswornReader::readRulesPackageExpansionDataswornVersion));
+        addSerializer(RulesPackageExpansionDataswornVersion.class, new BindingSerializer<>(RulesPackageExpansionDataswornVersion.class, DataswornWriter::writeRulesPackageExpansionDataswornVersion));
+        addDeserializer(RulesPackageRuleset.class, new BindingDeserializer<>(RulesPackageRuleset.class, ids, DataswornReader::readRulesPackageRuleset));
+        addSerializer(RulesPackageRuleset.class, new BindingSerializer<>(RulesPackageRuleset.class, DataswornWriter::writeRulesPackageRuleset));
+        addDeserializer(RulesPackageRulesetDataswornVersion.class, new BindingDeserializer<>(RulesPackageRulesetDataswornVersion.class, ids, DataswornReader::readRulesPackageRulesetDataswornVersion));
+        addSerializer(RulesPackageRulesetDataswornVersion.class, new BindingSerializer<>(RulesPackageRulesetDataswornVersion.class, DataswornWriter::writeRulesPackageRulesetDataswornVersion));
+        addDeserializer(RulesetId.class, new BindingDeserializer<>(RulesetId.class, ids, DataswornReader::readRulesetId));
+        addSerializer(RulesetId.class, new BindingSerializer<>(RulesetId.class, DataswornWriter::writeRulesetId));
+        addDeserializer(SelectEnhancementFieldChoice.class, new BindingDeserializer<>(SelectEnhancementFieldChoice.class, ids, DataswornReader::readSelectEnhancementFieldChoice));
+        addSerializer(SelectEnhancementFieldChoice.class, new BindingSerializer<>(SelectEnhancementFieldChoice.class, DataswornWriter::writeSelectEnhancementFieldChoice));
+        addDeserializer(SelectEnhancementFieldChoiceChoiceType.class, new BindingDeserializer<>(SelectEnhancementFieldChoiceChoiceType.class, ids, DataswornReader::readSelectEnhancementFieldChoiceChoiceType));
+        addSerializer(SelectEnhancementFieldChoiceChoiceType.class, new BindingSerializer<>(SelectEnhancementFieldChoiceChoiceType.class, DataswornWriter::writeSelectEnhancementFieldChoiceChoiceType));
+        addDeserializer(SelectValueFieldChoice.class, new BindingDeserializer<>(SelectValueFieldChoice.class, ids, DataswornReader::readSelectValueFieldChoice));
+        addSerializer(SelectValueFieldChoice.class, new BindingSerializer<>(SelectValueFieldChoice.class, DataswornWriter::writeSelectValueFieldChoice));
+        addDeserializer(SelectValueFieldChoiceAssetControl.class, new BindingDeserializer<>(SelectValueFieldChoiceAssetControl.class, ids, DataswornReader::readSelectValueFieldChoiceAssetControl));
+        addSerializer(SelectValueFieldChoiceAssetControl.class, new BindingSerializer<>(SelectValueFieldChoiceAssetControl.class, DataswornWriter::writeSelectValueFieldChoiceAssetControl));
+        addDeserializer(SelectValueFieldChoiceAssetControlChoiceType.class, new BindingDeserializer<>(SelectValueFieldChoiceAssetControlChoiceType.class, ids, DataswornReader::readSelectValueFieldChoiceAssetControlChoiceType));
+        addSerializer(SelectValueFieldChoiceAssetControlChoiceType.class, new BindingSerializer<>(SelectValueFieldChoiceAssetControlChoiceType.class, DataswornWriter::writeSelectValueFieldChoiceAssetControlChoiceType));
+        addDeserializer(SelectValueFieldChoiceAssetOption.class, new BindingDeserializer<>(SelectValueFieldChoiceAssetOption.class, ids, DataswornReader::readSelectValueFieldChoiceAssetOption));
+        addSerializer(SelectValueFieldChoiceAssetOption.class, new BindingSerializer<>(SelectValueFieldChoiceAssetOption.class, DataswornWriter::writeSelectValueFieldChoiceAssetOption));
+        addDeserializer(SelectValueFieldChoiceAssetOptionChoiceType.class, new BindingDeserializer<>(SelectValueFieldChoiceAssetOptionChoiceType.class, ids, DataswornReader::readSelectValueFieldChoiceAssetOptionChoiceType));
+        addSerializer(SelectValueFieldChoiceAssetOptionChoiceType.class, new BindingSerializer<>(SelectValueFieldChoiceAssetOptionChoiceType.class, DataswornWriter::writeSelectValueFieldChoiceAssetOptionChoiceType));
+        addDeserializer(SelectValueFieldChoiceAttachedAssetControl.class, new BindingDeserializer<>(SelectValueFieldChoiceAttachedAssetControl.class, ids, DataswornReader::readSelectValueFieldChoiceAttachedAssetControl));
+        addSerializer(SelectValueFieldChoiceAttachedAssetControl.class, new BindingSerializer<>(SelectValueFieldChoiceAttachedAssetControl.class, DataswornWriter::writeSelectValueFieldChoiceAttachedAssetControl));
+        addDeserializer(SelectValueFieldChoiceAttachedAssetControlChoiceType.class, new BindingDeserializer<>(SelectValueFieldChoiceAttachedAssetControlChoiceType.class, ids, DataswornReader::readSelectValueFieldChoiceAttachedAssetControlChoiceType));
+        addSerializer(SelectValueFieldChoiceAttachedAssetControlChoiceType.class, new BindingSerializer<>(SelectValueFieldChoiceAttachedAssetControlChoiceType.class, DataswornWriter::writeSelectValueFieldChoiceAttachedAssetControlChoiceType));
+        addDeserializer(SelectValueFieldChoiceAttachedAssetOption.class, new BindingDeserializer<>(SelectValueFieldChoiceAttachedAssetOption.class, ids, DataswornReader::readSelectValueFieldChoiceAttachedAssetOption));
+        addSerializer(SelectValueFieldChoiceAttachedAssetOption.class, new BindingSerializer<>(SelectValueFieldChoiceAttachedAssetOption.class, DataswornWriter::writeSelectValueFieldChoiceAttachedAssetOption));
+        addDeserializer(SelectValueFieldChoiceAttachedAssetOptionChoiceType.class, new BindingDeserializer<>(SelectValueFieldChoiceAttachedAssetOptionChoiceType.class, ids, DataswornReader::readSelectValueFieldChoiceAttachedAssetOptionChoiceType));
+        addSerializer(SelectValueFieldChoiceAttachedAssetOptionChoiceType.class, new BindingSerializer<>(SelectValueFieldChoiceAttachedAssetOptionChoiceType.class, DataswornWriter::writeSelectValueFieldChoiceAttachedAssetOptionChoiceType));
+        addDeserializer(SelectValueFieldChoiceConditionMeter.class, new BindingDeserializer<>(SelectValueFieldChoiceConditionMeter.class, ids, DataswornReader::readSelectValueFieldChoiceConditionMeter));
+        addSerializer(SelectValueFieldChoiceConditionMeter.class, new BindingSerializer<>(SelectValueFieldChoiceConditionMeter.class, DataswornWriter::writeSelectValueFieldChoiceConditionMeter));
+        addDeserializer(SelectValueFieldChoiceConditionMeterChoiceType.class, new BindingDeserializer<>(SelectValueFieldChoiceConditionMeterChoiceType.class, ids, DataswornReader::readSelectValueFieldChoiceConditionMeterChoiceType));
+        addSerializer(SelectValueFieldChoiceConditionMeterChoiceType.class, new BindingSerializer<>(SelectValueFieldChoiceConditionMeterChoiceType.class, DataswornWriter::writeSelectValueFieldChoiceConditionMeterChoiceType));
+        addDeserializer(SelectValueFieldChoiceCustom.class, new BindingDeserializer<>(SelectValueFieldChoiceCustom.class, ids, DataswornReader::readSelectValueFieldChoiceCustom));
+        addSerializer(SelectValueFieldChoiceCustom.class, new BindingSerializer<>(SelectValueFieldChoiceCustom.class, DataswornWriter::writeSelectValueFieldChoiceCustom));
+        addDeserializer(SelectValueFieldChoiceCustomChoiceType.class, new BindingDeserializer<>(SelectValueFieldChoiceCustomChoiceType.class, ids, DataswornReader::readSelectValueFieldChoiceCustomChoiceType));
+        addSerializer(SelectValueFieldChoiceCustomChoiceType.class, new BindingSerializer<>(SelectValueFieldChoiceCustomChoiceType.class, DataswornWriter::writeSelectValueFieldChoiceCustomChoiceType));
+        addDeserializer(SelectValueFieldChoiceStat.class, new BindingDeserializer<>(SelectValueFieldChoiceStat.class, ids, DataswornReader::readSelectValueFieldChoiceStat));
+        addSerializer(SelectValueFieldChoiceStat.class, new BindingSerializer<>(SelectValueFieldChoiceStat.class, DataswornWriter::writeSelectValueFieldChoiceStat));
+        addDeserializer(SelectValueFieldChoiceStatChoiceType.class, new BindingDeserializer<>(SelectValueFieldChoiceStatChoiceType.class, ids, DataswornReader::readSelectValueFieldChoiceStatChoiceType));
+        addSerializer(SelectValueFieldChoiceStatChoiceType.class, new BindingSerializer<>(SelectValueFieldChoiceStatChoiceType.class, DataswornWriter::writeSelectValueFieldChoiceStatChoiceType));
+        addDeserializer(SourceInfo.class, new BindingDeserializer<>(SourceInfo.class, ids, DataswornReader::readSourceInfo));
+        addSerializer(SourceInfo.class, new BindingSerializer<>(SourceInfo.class, DataswornWriter::writeSourceInfo));
+        addDeserializer(SpecialTrackRollMethod.class, new BindingDeserializer<>(SpecialTrackRollMethod.class, ids, DataswornReader::readSpecialTrackRollMethod));
+        addSerializer(SpecialTrackRollMethod.class, new BindingSerializer<>(SpecialTrackRollMethod.class, DataswornWriter::writeSpecialTrackRollMethod));
+        addDeserializer(SpecialTrackRule.class, new BindingDeserializer<>(SpecialTrackRule.class, ids, DataswornReader::readSpecialTrackRule));
+        addSerializer(SpecialTrackRule.class, new BindingSerializer<>(SpecialTrackRule.class, DataswornWriter::writeSpecialTrackRule));
+        addDeserializer(SpecialTrackType.class, new BindingDeserializer<>(SpecialTrackType.class, ids, DataswornReader::readSpecialTrackType));
+        addSerializer(SpecialTrackType.class, new BindingSerializer<>(SpecialTrackType.class, DataswornWriter::writeSpecialTrackType));
+        addDeserializer(StatKey.class, new BindingDeserializer<>(StatKey.class, ids, DataswornReader::readStatKey));
+        addSerializer(StatKey.class, new BindingSerializer<>(StatKey.class, DataswornWriter::writeStatKey));
+        addDeserializer(StatRule.class, new BindingDeserializer<>(StatRule.class, ids, DataswornReader::readStatRule));
+        addSerializer(StatRule.class, new BindingSerializer<>(StatRule.class, DataswornWriter::writeStatRule));
+        addDeserializer(Suggestions.class, new BindingDeserializer<>(Suggestions.class, ids, DataswornReader::readSuggestions));
+        addSerializer(Suggestions.class, new BindingSerializer<>(Suggestions.class, DataswornWriter::writeSuggestions));
+        addDeserializer(SvgImageUrl.class, new BindingDeserializer<>(SvgImageUrl.class, ids, DataswornReader::readSvgImageUrl));
+        addSerializer(SvgImageUrl.class, new BindingSerializer<>(SvgImageUrl.class, DataswornWriter::writeSvgImageUrl));
+        addDeserializer(Tag.class, new BindingDeserializer<>(Tag.class, ids, DataswornReader::readTag));
+        addSerializer(Tag.class, new BindingSerializer<>(Tag.class, DataswornWriter::writeTag));
+        addDeserializer(TagRule.class, new BindingDeserializer<>(TagRule.class, ids, DataswornReader::readTagRule));
+        addSerializer(TagRule.class, new BindingSerializer<>(TagRule.class, DataswornWriter::writeTagRule));
+        addDeserializer(TagRuleAsset.class, new BindingDeserializer<>(TagRuleAsset.class, ids, DataswornReader::readTagRuleAsset));
+        addSerializer(TagRuleAsset.class, new BindingSerializer<>(TagRuleAsset.class, DataswornWriter::writeTagRuleAsset));
+        addDeserializer(TagRuleAssetCollection.class, new BindingDeserializer<>(TagRuleAssetCollection.class, ids, DataswornReader::readTagRuleAssetCollection));
+        addSerializer(TagRuleAssetCollection.class, new BindingSerializer<>(TagRuleAssetCollection.class, DataswornWriter::writeTagRuleAssetCollection));
+        addDeserializer(TagRuleAtlasCollection.class, new BindingDeserializer<>(TagRuleAtlasCollection.class, ids, DataswornReader::readTagRuleAtlasCollection));
+        addSerializer(TagRuleAtlasCollection.class, new BindingSerializer<>(TagRuleAtlasCollection.class, DataswornWriter::writeTagRuleAtlasCollection));
+        addDeserializer(TagRuleAtlasEntry.class, new BindingDeserializer<>(TagRuleAtlasEntry.class, ids, DataswornReader::readTagRuleAtlasEntry));
+        addSerializer(TagRuleAtlasEntry.class, new BindingSerializer<>(TagRuleAtlasEntry.class, DataswornWriter::writeTagRuleAtlasEntry));
+        addDeserializer(TagRuleBoolean.class, new BindingDeserializer<>(TagRuleBoolean.class, ids, DataswornReader::readTagRuleBoolean));
+        addSerializer(TagRuleBoolean.class, new BindingSerializer<>(TagRuleBoolean.class, DataswornWriter::writeTagRuleBoolean));
+        addDeserializer(TagRuleDelveSite.class, new BindingDeserializer<>(TagRuleDelveSite.class, ids, DataswornReader::readTagRuleDelveSite));
+        addSerializer(TagRuleDelveSite.class, new BindingSerializer<>(TagRuleDelveSite.class, DataswornWriter::writeTagRuleDelveSite));
+        addDeserializer(TagRuleDelveSiteDomain.class, new BindingDeserializer<>(TagRuleDelveSiteDomain.class, ids, DataswornReader::readTagRuleDelveSiteDomain));
+        addSerializer(TagRuleDelveSiteDomain.class, new BindingSerializer<>(TagRuleDelveSiteDomain.class, DataswornWriter::writeTagRuleDelveSiteDomain));
+        addDeserializer(TagRuleDelveSiteTheme.class, new BindingDeserializer<>(TagRuleDelveSiteTheme.class, ids, DataswornReader::readTagRuleDelveSiteTheme));
+        addSerializer(TagRuleDelveSiteTheme.class, new BindingSerializer<>(TagRuleDelveSiteTheme.class, DataswornWriter::writeTagRuleDelveSiteTheme));
+        addDeserializer(TagRuleEnum.class, new BindingDeserializer<>(TagRuleEnum.class, ids, DataswornReader::readTagRuleEnum));
+        addSerializer(TagRuleEnum.class, new BindingSerializer<>(TagRuleEnum.class, DataswornWriter::writeTagRuleEnum));
+        addDeserializer(TagRuleInteger.class, new BindingDeserializer<>(TagRuleInteger.class, ids, DataswornReader::readTagRuleInteger));
+        addSerializer(TagRuleInteger.class, new BindingSerializer<>(TagRuleInteger.class, DataswornWriter::writeTagRuleInteger));
+        addDeserializer(TagRuleMove.class, new BindingDeserializer<>(TagRuleMove.class, ids, DataswornReader::readTagRuleMove));
+        addSerializer(TagRuleMove.class, new BindingSerializer<>(TagRuleMove.class, DataswornWriter::writeTagRuleMove));
+        addDeserializer(TagRuleMoveCategory.class, new BindingDeserializer<>(TagRuleMoveCategory.class, ids, DataswornReader::readTagRuleMoveCategory));
+        addSerializer(TagRuleMoveCategory.class, new BindingSerializer<>(TagRuleMoveCategory.class, DataswornWriter::writeTagRuleMoveCategory));
+        addDeserializer(TagRuleNpc.class, new BindingDeserializer<>(TagRuleNpc.class, ids, DataswornReader::readTagRuleNpc));
+        addSerializer(TagRuleNpc.class, new BindingSerializer<>(TagRuleNpc.class, DataswornWriter::writeTagRuleNpc));
+        addDeserializer(TagRuleNpcCollection.class, new BindingDeserializer<>(TagRuleNpcCollection.class, ids, DataswornReader::readTagRuleNpcCollection));
+        addSerializer(TagRuleNpcCollection.class, new BindingSerializer<>(TagRuleNpcCollection.class, DataswornWriter::writeTagRuleNpcCollection));
+        addDeserializer(TagRuleOracleCollection.class, new BindingDeserializer<>(TagRuleOracleCollection.class, ids, DataswornReader::readTagRuleOracleCollection));
+        addSerializer(TagRuleOracleCollection.class, new BindingSerializer<>(TagRuleOracleCollection.class, DataswornWriter::writeTagRuleOracleCollection));
+        addDeserializer(TagRuleOracleRollable.class, new BindingDeserializer<>(TagRuleOracleRollable.class, ids, DataswornReader::readTagRuleOracleRollable));
+        addSerializer(TagRuleOracleRollable.class, new BindingSerializer<>(TagRuleOracleRollable.class, DataswornWriter::writeTagRuleOracleRollable));
+        addDeserializer(TagRuleRarity.class, new BindingDeserializer<>(TagRuleRarity.class, ids, DataswornReader::readTagRuleRarity));
+        addSerializer(TagRuleRarity.class, new BindingSerializer<>(TagRuleRarity.class, DataswornWriter::writeTagRuleRarity));
+        addDeserializer(TagRuleTruth.class, new BindingDeserializer<>(TagRuleTruth.class, ids, DataswornReader::readTagRuleTruth));
+        addSerializer(TagRuleTruth.class, new BindingSerializer<>(TagRuleTruth.class, DataswornWriter::writeTagRuleTruth));
+        addDeserializer(TemplateString.class, new BindingDeserializer<>(TemplateString.class, ids, DataswornReader::readTemplateString));
+        addSerializer(TemplateString.class, new BindingSerializer<>(TemplateString.class, DataswornWriter::writeTemplateString));
+        addDeserializer(TriggerActionRoll.class, new BindingDeserializer<>(TriggerActionRoll.class, ids, DataswornReader::readTriggerActionRoll));
+        addSerializer(TriggerActionRoll.class, new BindingSerializer<>(TriggerActionRoll.class, DataswornWriter::writeTriggerActionRoll));
+        addDeserializer(TriggerActionRollCondition.class, new BindingDeserializer<>(TriggerActionRollCondition.class, ids, DataswornReader::readTriggerActionRollCondition));
+        addSerializer(TriggerActionRollCondition.class, new BindingSerializer<>(TriggerActionRollCondition.class, DataswornWriter::writeTriggerActionRollCondition));
+        addDeserializer(TriggerActionRollConditionEnhancement.class, new BindingDeserializer<>(TriggerActionRollConditionEnhancement.class, ids, DataswornReader::readTriggerActionRollConditionEnhancement));
+        addSerializer(TriggerActionRollConditionEnhancement.class, new BindingSerializer<>(TriggerActionRollConditionEnhancement.class, DataswornWriter::writeTriggerActionRollConditionEnhancement));
+        addDeserializer(TriggerActionRollEnhancement.class, new BindingDeserializer<>(TriggerActionRollEnhancement.class, ids, DataswornReader::readTriggerActionRollEnhancement));
+        addSerializer(TriggerActionRollEnhancement.class, new BindingSerializer<>(TriggerActionRollEnhancement.class, DataswornWriter::writeTriggerActionRollEnhancement));
+        addDeserializer(TriggerBy.class, new BindingDeserializer<>(TriggerBy.class, ids, DataswornReader::readTriggerBy));
+        addSerializer(TriggerBy.class, new BindingSerializer<>(TriggerBy.class, DataswornWriter::writeTriggerBy));
+        addDeserializer(TriggerNoRoll.class, new BindingDeserializer<>(TriggerNoRoll.class, ids, DataswornReader::readTriggerNoRoll));
+        addSerializer(TriggerNoRoll.class, new BindingSerializer<>(TriggerNoRoll.class, DataswornWriter::writeTriggerNoRoll));
+        addDeserializer(TriggerNoRollCondition.class, new BindingDeserializer<>(TriggerNoRollCondition.class, ids, DataswornReader::readTriggerNoRollCondition));
+        addSerializer(TriggerNoRollCondition.class, new BindingSerializer<>(TriggerNoRollCondition.class, DataswornWriter::writeTriggerNoRollCondition));
+        addDeserializer(TriggerNoRollEnhancement.class, new BindingDeserializer<>(TriggerNoRollEnhancement.class, ids, DataswornReader::readTriggerNoRollEnhancement));
+        addSerializer(TriggerNoRollEnhancement.class, new BindingSerializer<>(TriggerNoRollEnhancement.class, DataswornWriter::writeTriggerNoRollEnhancement));
+        addDeserializer(TriggerProgressRoll.class, new BindingDeserializer<>(TriggerProgressRoll.class, ids, DataswornReader::readTriggerProgressRoll));
+        addSerializer(TriggerProgressRoll.class, new BindingSerializer<>(TriggerProgressRoll.class, DataswornWriter::writeTriggerProgressRoll));
+        addDeserializer(TriggerProgressRollCondition.class, new BindingDeserializer<>(TriggerProgressRollCondition.class, ids, DataswornReader::readTriggerProgressRollCondition));
+        addSerializer(TriggerProgressRollCondition.class, new BindingSerializer<>(TriggerProgressRollCondition.class, DataswornWriter::writeTriggerProgressRollCondition));
+        addDeserializer(TriggerProgressRollConditionEnhancement.class, new BindingDeserializer<>(TriggerProgressRollConditionEnhancement.class, ids, DataswornReader::readTriggerProgressRollConditionEnhancement));
+        addSerializer(TriggerProgressRollConditionEnhancement.class, new BindingSerializer<>(TriggerProgressRollConditionEnhancement.class, DataswornWriter::writeTriggerProgressRollConditionEnhancement));
+        addDeserializer(TriggerProgressRollEnhancement.class, new BindingDeserializer<>(TriggerProgressRollEnhancement.class, ids, DataswornReader::readTriggerProgressRollEnhancement));
+        addSerializer(TriggerProgressRollEnhancement.class, new BindingSerializer<>(TriggerProgressRollEnhancement.class, DataswornWriter::writeTriggerProgressRollEnhancement));
+        addDeserializer(TriggerSpecialTrack.class, new BindingDeserializer<>(TriggerSpecialTrack.class, ids, DataswornReader::readTriggerSpecialTrack));
+        addSerializer(TriggerSpecialTrack.class, new BindingSerializer<>(TriggerSpecialTrack.class, DataswornWriter::writeTriggerSpecialTrack));
+        addDeserializer(TriggerSpecialTrackCondition.class, new BindingDeserializer<>(TriggerSpecialTrackCondition.class, ids, DataswornReader::readTriggerSpecialTrackCondition));
+        addSerializer(TriggerSpecialTrackCondition.class, new BindingSerializer<>(TriggerSpecialTrackCondition.class, DataswornWriter::writeTriggerSpecialTrackCondition));
+        addDeserializer(TriggerSpecialTrackConditionEnhancement.class, new BindingDeserializer<>(TriggerSpecialTrackConditionEnhancement.class, ids, DataswornReader::readTriggerSpecialTrackConditionEnhancement));
+        addSerializer(TriggerSpecialTrackConditionEnhancement.class, new BindingSerializer<>(TriggerSpecialTrackConditionEnhancement.class, DataswornWriter::writeTriggerSpecialTrackConditionEnhancement));
+        addDeserializer(TriggerSpecialTrackConditionOption.class, new BindingDeserializer<>(TriggerSpecialTrackConditionOption.class, ids, DataswornReader::readTriggerSpecialTrackConditionOption));
+        addSerializer(TriggerSpecialTrackConditionOption.class, new BindingSerializer<>(TriggerSpecialTrackConditionOption.class, DataswornWriter::writeTriggerSpecialTrackConditionOption));
+        addDeserializer(TriggerSpecialTrackEnhancement.class, new BindingDeserializer<>(TriggerSpecialTrackEnhancement.class, ids, DataswornReader::readTriggerSpecialTrackEnhancement));
+        addSerializer(TriggerSpecialTrackEnhancement.class, new BindingSerializer<>(TriggerSpecialTrackEnhancement.class, DataswornWriter::writeTriggerSpecialTrackEnhancement));
+        addDeserializer(Truth.class, new BindingDeserializer<>(Truth.class, ids, DataswornReader::readTruth));
+        addSerializer(Truth.class, new BindingSerializer<>(Truth.class, DataswornWriter::writeTruth));
+        addDeserializer(TruthId.class, new BindingDeserializer<>(TruthId.class, ids, DataswornReader::readTruthId));
+        addSerializer(TruthId.class, new BindingSerializer<>(TruthId.class, DataswornWriter::writeTruthId));
+        addDeserializer(TruthOption.class, new BindingDeserializer<>(TruthOption.class, ids, DataswornReader::readTruthOption));
+        addSerializer(TruthOption.class, new BindingSerializer<>(TruthOption.class, DataswornWriter::writeTruthOption));
+        addDeserializer(TruthOptionTable.class, new BindingDeserializer<>(TruthOptionTable.class, ids, DataswornReader::readTruthOptionTable));
+        addSerializer(TruthOptionTable.class, new BindingSerializer<>(TruthOptionTable.class, DataswornWriter::writeTruthOptionTable));
+        addDeserializer(TruthOptionTableOracleType.class, new BindingDeserializer<>(TruthOptionTableOracleType.class, ids, DataswornReader::readTruthOptionTableOracleType));
+        addSerializer(TruthOptionTableOracleType.class, new BindingSerializer<>(TruthOptionTableOracleType.class, DataswornWriter::writeTruthOptionTableOracleType));
+        addDeserializer(UnsignedByte.class, new BindingDeserializer<>(UnsignedByte.class, ids, DataswornReader::readUnsignedByte));
+        addSerializer(UnsignedByte.class, new BindingSerializer<>(UnsignedByte.class, DataswornWriter::writeUnsignedByte));
+        addDeserializer(UnsignedInteger.class, new BindingDeserializer<>(UnsignedInteger.class, ids, DataswornReader::readUnsignedInteger));
+        addSerializer(UnsignedInteger.class, new BindingSerializer<>(UnsignedInteger.class, DataswornWriter::writeUnsignedInteger));
+        addDeserializer(UnsignedShort.class, new BindingDeserializer<>(UnsignedShort.class, ids, DataswornReader::readUnsignedShort));
+        addSerializer(UnsignedShort.class, new BindingSerializer<>(UnsignedShort.class, DataswornWriter::writeUnsignedShort));
+        addDeserializer(WebUrl.class, new BindingDeserializer<>(WebUrl.class, ids, DataswornReader::readWebUrl));
+        addSerializer(WebUrl.class, new BindingSerializer<>(WebUrl.class, DataswornWriter::writeWebUrl));
+        addDeserializer(WebpImageUrl.class, new BindingDeserializer<>(WebpImageUrl.class, ids, DataswornReader::readWebpImageUrl));
+        addSerializer(WebpImageUrl.class, new BindingSerializer<>(WebpImageUrl.class, DataswornWriter::writeWebpImageUrl));
+    }
+}
@@ -0,0 +1,9366 @@
+// Code generated by Datasworn.codegen.StreamingCodegen. DO NOT EDIT.
+
+package Datasworn.io;
+
+import Datasworn.ActionRollMethod;
+import Datasworn.Asset;
+import Datasworn.AssetAbility;
+import Datasworn.AssetAbilityControlField;
+import Datasworn.AssetAbilityControlFieldCheckbox;
+import Datasworn.AssetAbilityControlFieldClock;
+import Datasworn.AssetAbilityControlFieldCounter;
+import Datasworn.AssetAbilityControlFieldText;
+import Datasworn.AssetAbilityId;
+import Datasworn.AssetAbilityOptionField;
+import Datasworn.AssetAbilityOptionFieldText;
+import Datasworn.AssetAttachment;
+import Datasworn.AssetCollection;
+import Datasworn.AssetCollectionId;
+import Datasworn.AssetCollectionType;
+import Datasworn.AssetConditionMeterControlField;
+import Datasworn.AssetConditionMeterControlFieldCardFlip;
+import Datasworn.AssetConditionMeterControlFieldCheckbox;
+import Datasworn.AssetControlField;
+import Datasworn.AssetControlFieldCardFlip;
+import Datasworn.AssetControlFieldCheckbox;
+import Datasworn.AssetControlFieldConditionMeter;
+import Datasworn.AssetControlFieldConditionMeterMoves;
+import Datasworn.AssetControlFieldEnhancement;
+import Datasworn.AssetControlFieldEnhancementConditionMeter;
+import Datasworn.AssetControlFieldSelectEnhancement;
+import Datasworn.AssetControlFieldSelectEnhancementChoice;
+import Datasworn.AssetControlFieldSelectEnhancementChoiceChoice;
+import Datasworn.AssetControlFieldSelectEnhancementChoiceChoiceGroup;
+import Datasworn.AssetEnhancement;
+import Datasworn.AssetId;
+import Datasworn.AssetIdWildcard;
+import Datasworn.AssetOptionField;
+import Datasworn.AssetOptionFieldSelectEnhancement;
+import Datasworn.AssetOptionFieldSelectEnhancementChoice;
+import Datasworn.AssetOptionFieldSelectEnhancementChoiceChoice;
+import Datasworn.AssetOptionFieldSelectEnhancementChoiceChoiceGroup;
+import Datasworn.AssetOptionFieldSelectValue;
+import Datasworn.AssetOptionFieldText;
+import Datasworn.AssetType;
+import Datasworn.AtlasCollection;
+import Datasworn.AtlasCollectionId;
+import Datasworn.AtlasCollectionType;
+import Datasworn.AtlasEntry;
+import Datasworn.AtlasEntryId;
+import Datasworn.AtlasEntryType;
+import Datasworn.AuthorInfo;
+import Datasworn.ChallengeRank;
+import Datasworn.ConditionMeterKey;
+import Datasworn.ConditionMeterRule;
+import Datasworn.CssColor;
+import Datasworn.DelveSite;
+import Datasworn.DelveSiteDenizen;
+import Datasworn.DelveSiteDenizenFrequency;
+import Datasworn.DelveSiteDomain;
+import Datasworn.DelveSiteDomainId;
+import Datasworn.DelveSiteDomainType;
+import Datasworn.DelveSiteId;
+import Datasworn.DelveSiteTheme;
+import Datasworn.DelveSiteThemeId;
+import Datasworn.DelveSiteThemeType;
+import Datasworn.DelveSiteType;
+import Datasworn.DiceExpression;
+import Datasworn.DictKey;
+import Datasworn.ExpansionId;
+import Datasworn.I18nHint;
+import Datasworn.I18nHints;
+import Datasworn.I18nHintsTemplate;
+import Datasworn.ImpactCategory;
+import Datasworn.ImpactRule;
+import Datasworn.InputLabel;
+import Datasworn.Label;
+import Datasworn.License;
+import Datasworn.MarkdownString;
+import Datasworn.Move;
+import Datasworn.MoveActionRoll;
+import Datasworn.MoveActionRollType;
+import Datasworn.MoveCategory;
+import Datasworn.MoveCategoryId;
+import Datasworn.MoveCategoryType;
+import Datasworn.MoveEnhancement;
+import Datasworn.MoveEnhancementActionRoll;
+import Datasworn.MoveEnhancementNoRoll;
+import Datasworn.MoveEnhancementProgressRoll;
+import Datasworn.MoveEnhancementSpecialTrack;
+import Datasworn.MoveId;
+import Datasworn.MoveIdWildcard;
+import Datasworn.MoveNoRoll;
+import Datasworn.MoveNoRollType;
+import Datasworn.MoveOutcome;
+import Datasworn.MoveOutcomes;
+import Datasworn.MoveProgressRoll;
+import Datasworn.MoveProgressRollType;
+import Datasworn.MoveSpecialTrack;
+import Datasworn.MoveSpecialTrackType;
+import Datasworn.Npc;
+import Datasworn.NpcCollection;
+import Datasworn.NpcCollectionId;
+import Datasworn.NpcCollectionType;
+import Datasworn.NpcId;
+import Datasworn.NpcNature;
+import Datasworn.NpcType;
+import Datasworn.NpcVariant;
+import Datasworn.NpcVariantId;
+import Datasworn.ObjectType;
+import Datasworn.OracleCollection;
+import Datasworn.OracleCollectionId;
+import Datasworn.OracleCollectionOracleTableSharedText3;
+import Datasworn.OracleCollectionOracleTableSharedText3ColumnLabels;
+import Datasworn.OracleCollectionOracleTableSharedText3Type;
+import Datasworn.OracleCollectionTableSharedRolls;
+import Datasworn.OracleCollectionTableSharedRollsColumnLabels;
+import Datasworn.OracleCollectionTableSharedRollsType;
+import Datasworn.OracleCollectionTableSharedText;
+import Datasworn.OracleCollectionTableSharedText2;
+import Datasworn.OracleCollectionTableSharedText2ColumnLabels;
+import Datasworn.OracleCollectionTableSharedText2Type;
+import Datasworn.OracleCollectionTableSharedTextColumnLabels;
+import Datasworn.OracleCollectionTableSharedTextType;
+import Datasworn.OracleCollectionTables;
+import Datasworn.OracleCollectionTablesType;
+import Datasworn.OracleColumnText;
+import Datasworn.OracleColumnText2;
+import Datasworn.OracleColumnText2OracleType;
+import Datasworn.OracleColumnText2Type;
+import Datasworn.OracleColumnText3;
+import Datasworn.OracleColumnText3OracleType;
+import Datasworn.OracleColumnText3Type;
+import Datasworn.OracleColumnTextOracleType;
+import Datasworn.OracleColumnTextType;
+import Datasworn.OracleDuplicateBehavior;
+import Datasworn.OracleMatchBehavior;
+import Datasworn.OracleRoll;
+import Datasworn.OracleRollTemplate;
+import Datasworn.OracleRollableId;
+import Datasworn.OracleTableRollable;
+import Datasworn.OracleTableRollableTableText;
+import Datasworn.OracleTableRollableTableText2;
+import Datasworn.OracleTableRollableTableText2ColumnLabels;
+import Datasworn.OracleTableRollableTableText2RecommendedRolls;
+import Datasworn.OracleTableRollableTableText2Type;
+import Datasworn.OracleTableRollableTableText3;
+import Datasworn.OracleTableRollableTableText3ColumnLabels;
+import Datasworn.OracleTableRollableTableText3RecommendedRolls;
+import Datasworn.OracleTableRollableTableText3Type;
+import Datasworn.OracleTableRollableTableTextColumnLabels;
+import Datasworn.OracleTableRollableTableTextRecommendedRolls;
+import Datasworn.OracleTableRollableTableTextType;
+import Datasworn.OracleTableRowText;
+import Datasworn.OracleTableRowText2;
+import Datasworn.OracleTableRowText3;
+import Datasworn.OracleTablesCollection;
+import Datasworn.OracleTablesCollectionOracleType;
+import Datasworn.OracleTablesCollectionType;
+import Datasworn.PartOfSpeech;
+import Datasworn.ProgressRollMethod;
+import Datasworn.ProgressRollOption;
+import Datasworn.ProgressRollOptionUsing;
+import Datasworn.ProgressTrackTypeInfo;
+import Datasworn.Rarity;
+import Datasworn.RarityId;
+import Datasworn.RarityType;
+import Datasworn.RollableValue;
+import Datasworn.RollableValueAssetControl;
+import Datasworn.RollableValueAssetOption;
+import Datasworn.RollableValueAttachedAssetControl;
+import Datasworn.RollableValueAttachedAssetOption;
+import Datasworn.RollableValueConditionMeter;
+import Datasworn.RollableValueCustom;
+import Datasworn.RollableValueStat;
+import Datasworn.Rules;
+import Datasworn.RulesExpansion;
+import Datasworn.RulesPackage;
+import Datasworn.RulesPackageExpansion;
+import Datasworn.RulesPackageExpansionDataswornVersion;
+import Datasworn.RulesPackageRuleset;
+import Datasworn.RulesPackageRulesetDataswornVersion;
+import Datasworn.RulesetId;
+import Datasworn.SelectEnhancementFieldChoice;
+import Datasworn.SelectEnhancementFieldChoiceChoiceType;
+import Datasworn.SelectValueFieldChoice;
+import Datasworn.SelectValueFieldChoiceAssetControl;
+import Datasworn.SelectValueFieldChoiceAssetControlChoiceType;
+import Datasworn.SelectValueFieldChoiceAssetOption;
+import Datasworn.SelectValueFieldChoiceAssetOptionChoiceType;
+import Datasworn.SelectValueFieldChoiceAttachedAssetControl;
+import Datasworn.SelectValueFieldChoiceAttachedAssetControlChoiceType;
+import Datasworn.SelectValueFieldChoiceAttachedAssetOption;
+import Datasworn.SelectValueFieldChoiceAttachedAssetOptionChoiceType;
+import Datasworn.SelectValueFieldChoiceConditionMeter;
+import Datasworn.SelectValueFieldChoiceConditionMeterChoiceType;
+import Datasworn.SelectValueFieldChoiceCustom;
+import Datasworn.SelectValueFieldChoiceCustomChoiceType;
+import Datasworn.SelectValueFieldChoiceStat;
+import Datasworn.SelectValueFieldChoiceStatChoiceType;
+import Datasworn.SourceInfo;
+import Datasworn.SpecialTrackRollMethod;
+import Datasworn.SpecialTrackRule;
+import Datasworn.SpecialTrackType;
+import Datasworn.StatKey;
+import Datasworn.StatRule;
+import Datasworn.Suggestions;
+import Datasworn.SvgImageUrl;
+import Datasworn.Tag;
+import Datasworn.TagRule;
+import Datasworn.TagRuleAsset;
+import Datasworn.TagRuleAssetCollection;
+import Datasworn.TagRuleAtlasCollection;
+import Datasworn.TagRuleAtlasEntry;
+import Datasworn.TagRuleBoolean;
+import Datasworn.TagRuleDelveSite;
+import Datasworn.TagRuleDelveSiteDomain;
+import Datasworn.TagRuleDelveSiteTheme;
+import Datasworn.TagRuleEnum;
+import Datasworn.TagRuleInteger;
+import Datasworn.TagRuleMove;
+import Datasworn.TagRuleMoveCategory;
+import Datasworn.TagRuleNpc;
+import Datasworn.TagRuleNpcCollection;
+import Datasworn.TagRuleOracleCollection;
+import Datasworn.TagRuleOracleRollable;
+import Datasworn.TagRuleRarity;
+import Datasworn.TagRuleTruth;
+import Datasworn.TemplateString;
+import Datasworn.TriggerActionRoll;
+import Datasworn.TriggerActionRollCondition;
+import Datasworn.TriggerActionRollConditionEnhancement;
+import Datasworn.TriggerActionRollEnhancement;
+import Datasworn.TriggerBy;
+import Datasworn.TriggerNoRoll;
+import Datasworn.TriggerNoRollCondition;
+import Datasworn.TriggerNoRollEnhancement;
+import Datasworn.TriggerProgressRoll;
+import Datasworn.TriggerProgressRollCondition;
+import Datasworn.TriggerProgressRollConditionEnhancement;
+import Datasworn.TriggerProgressRollEnhancement;
+import Datasworn.TriggerSpecialTrack;
+import Datasworn.TriggerSpecialTrackCondition;
+import Datasworn.TriggerSpecialTrackConditionEnhancement;
+import Datasworn.TriggerSpecialTrackConditionOption;
+import Datasworn.TriggerSpecialTrackEnhancement;
+import Datasworn.Truth;
+import Datasworn.TruthId;
+import Datasworn.TruthOption;
+import Datasworn.TruthOptionTable;
+import Datasworn.TruthOptionTableOracleType;
+import Datasworn.UnsignedByte;
+import Datasworn.UnsignedInteger;
+import Datasworn.UnsignedShort;
+import Datasworn.WebUrl;
+import Datasworn.WebpImageUrl;
+import Datasworn.ids.IdPool;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads Datasworn bindings straight off a {@link JsonParser}, one token at a
+ * time.<p>
+ * Polymorphic objects are dispatched on their discriminator, found by looking
+ * ahead in the source bytes, so no object is ever buffered. Unknown
+ * properties are skipped.
+ */
+public final class DataswornReader extends DataswornReaderBase {
+    /**
+     * Creates a reader that interns IDs into {@link IdPool#shared()}.
+     */
+    public DataswornReader(JsonParser parser, byte[] source) {
+        super(parser, source, 0, IdPool.shared());
+    }
+
+    /**
+     * @param sourceOffset where the parser's input starts within {@code source}.
+     * @param ids          the pool to intern IDs into.
+     */
+    public DataswornReader(JsonParser parser, byte[] source, int sourceOffset, IdPool ids) {
+        super(parser, source, sourceOffset, ids);
+    }
+
+    public ActionRollMethod readActionRollMethod() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "all":
+                return ActionRollMethod.ALL;
+            case "highest":
+                return ActionRollMethod.HIGHEST;
+            case "lowest":
+                return ActionRollMethod.LOWEST;
+            case "miss":
+                return ActionRollMethod.MISS;
+            case "player_choice":
+                return ActionRollMethod.PLAYER_CHOICE;
+            case "strong_hit":
+                return ActionRollMethod.STRONG_HIT;
+            case "weak_hit":
+                return ActionRollMethod.WEAK_HIT;
+            default:
+                throw unknownEnumValue("ActionRollMethod");
+        }
+    }
+
+    public Asset readAsset() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Asset");
+        return readAssetFields(new Asset());
+    }
+
+    private Asset readAssetFields(Asset value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetField(Asset value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readAssetId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "abilities":
+                value.setAbilities(readListOfAssetAbility());
+                return true;
+            case "category":
+                value.setCategory(readLabel());
+                return true;
+            case "count_as_impact":
+                value.setCountAsImpact(readBoolean());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "shared":
+                value.setShared(readBoolean());
+                return true;
+            case "type":
+                value.setType(readAssetType());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "attachments":
+                value.setAttachments(readAssetAttachment());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "color":
+                value.setColor(readCssColor());
+                return true;
+            case "controls":
+                value.setControls(readMapOfAssetControlField());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "options":
+                value.setOptions(readMapOfAssetOptionField());
+                return true;
+            case "requirement":
+                value.setRequirement(readMarkdownString());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetAbility readAssetAbility() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetAbility");
+        return readAssetAbilityFields(new AssetAbility());
+    }
+
+    private AssetAbility readAssetAbilityFields(AssetAbility value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetAbilityField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetAbilityField(AssetAbility value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readAssetAbilityId());
+                return true;
+            case "enabled":
+                value.setEnabled(readBoolean());
+                return true;
+            case "text":
+                value.setText(readMarkdownString());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "controls":
+                value.setControls(readMapOfAssetAbilityControlField());
+                return true;
+            case "enhance_asset":
+                value.setEnhanceAsset(readAssetEnhancement());
+                return true;
+            case "enhance_moves":
+                value.setEnhanceMoves(readListOfMoveEnhancement());
+                return true;
+            case "moves":
+                value.setMoves(readMapOfMove());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "options":
+                value.setOptions(readMapOfAssetAbilityOptionField());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetAbilityControlField readAssetAbilityControlField() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetAbilityControlField");
+        JsonParser outer = parser;
+        String tag = discriminator("AssetAbilityControlField", "field_type");
+        AssetAbilityControlField value;
+        switch (tag) {
+            case "checkbox":
+                value = readAssetAbilityControlFieldCheckboxFields(new AssetAbilityControlFieldCheckbox());
+                break;
+            case "clock":
+                value = readAssetAbilityControlFieldClockFields(new AssetAbilityControlFieldClock());
+                break;
+            case "counter":
+                value = readAssetAbilityControlFieldCounterFields(new AssetAbilityControlFieldCounter());
+                break;
+            case "text":
+                value = readAssetAbilityControlFieldTextFields(new AssetAbilityControlFieldText());
+                break;
+            default:
+                throw unknownDiscriminator("AssetAbilityControlField", "field_type", tag);
+        }
+        parser = outer;
+        return value;
+    }
+
+    public AssetAbilityControlFieldCheckbox readAssetAbilityControlFieldCheckbox() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetAbilityControlFieldCheckbox");
+        return readAssetAbilityControlFieldCheckboxFields(new AssetAbilityControlFieldCheckbox());
+    }
+
+    private AssetAbilityControlFieldCheckbox readAssetAbilityControlFieldCheckboxFields(AssetAbilityControlFieldCheckbox value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetAbilityControlFieldCheckboxField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetAbilityControlFieldCheckboxField(AssetAbilityControlFieldCheckbox value, String field) throws IOException {
+        switch (field) {
+            case "disables_asset":
+                value.setDisablesAsset(readBoolean());
+                return true;
+            case "is_impact":
+                value.setIsImpact(readBoolean());
+                return true;
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "value":
+                value.setValue(readBoolean());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetAbilityControlFieldClock readAssetAbilityControlFieldClock() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetAbilityControlFieldClock");
+        return readAssetAbilityControlFieldClockFields(new AssetAbilityControlFieldClock());
+    }
+
+    private AssetAbilityControlFieldClock readAssetAbilityControlFieldClockFields(AssetAbilityControlFieldClock value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetAbilityControlFieldClockField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetAbilityControlFieldClockField(AssetAbilityControlFieldClock value, String field) throws IOException {
+        switch (field) {
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "max":
+                value.setMax(readByte());
+                return true;
+            case "min":
+                value.setMin(readByte());
+                return true;
+            case "rollable":
+                value.setRollable(readBoolean());
+                return true;
+            case "value":
+                value.setValue(readByte());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetAbilityControlFieldCounter readAssetAbilityControlFieldCounter() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetAbilityControlFieldCounter");
+        return readAssetAbilityControlFieldCounterFields(new AssetAbilityControlFieldCounter());
+    }
+
+    private AssetAbilityControlFieldCounter readAssetAbilityControlFieldCounterFields(AssetAbilityControlFieldCounter value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetAbilityControlFieldCounterField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetAbilityControlFieldCounterField(AssetAbilityControlFieldCounter value, String field) throws IOException {
+        switch (field) {
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "max":
+                value.setMax(readShort());
+                return true;
+            case "min":
+                value.setMin(readByte());
+                return true;
+            case "rollable":
+                value.setRollable(readBoolean());
+                return true;
+            case "value":
+                value.setValue(readByte());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetAbilityControlFieldText readAssetAbilityControlFieldText() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetAbilityControlFieldText");
+        return readAssetAbilityControlFieldTextFields(new AssetAbilityControlFieldText());
+    }
+
+    private AssetAbilityControlFieldText readAssetAbilityControlFieldTextFields(AssetAbilityControlFieldText value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetAbilityControlFieldTextField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetAbilityControlFieldTextField(AssetAbilityControlFieldText value, String field) throws IOException {
+        switch (field) {
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "value":
+                value.setValue(readString());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetAbilityId readAssetAbilityId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ids.intern(AssetAbilityId.class, parser.getText(), AssetAbilityId::new);
+    }
+
+    public AssetAbilityOptionField readAssetAbilityOptionField() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetAbilityOptionField");
+        JsonParser outer = parser;
+        String tag = discriminator("AssetAbilityOptionField", "field_type");
+        AssetAbilityOptionField value;
+        switch (tag) {
+            case "text":
+                value = readAssetAbilityOptionFieldTextFields(new AssetAbilityOptionFieldText());
+                break;
+            default:
+                throw unknownDiscriminator("AssetAbilityOptionField", "field_type", tag);
+        }
+        parser = outer;
+        return value;
+    }
+
+    public AssetAbilityOptionFieldText readAssetAbilityOptionFieldText() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetAbilityOptionFieldText");
+        return readAssetAbilityOptionFieldTextFields(new AssetAbilityOptionFieldText());
+    }
+
+    private AssetAbilityOptionFieldText readAssetAbilityOptionFieldTextFields(AssetAbilityOptionFieldText value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetAbilityOptionFieldTextField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetAbilityOptionFieldTextField(AssetAbilityOptionFieldText value, String field) throws IOException {
+        switch (field) {
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "value":
+                value.setValue(readString());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetAttachment readAssetAttachment() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetAttachment");
+        return readAssetAttachmentFields(new AssetAttachment());
+    }
+
+    private AssetAttachment readAssetAttachmentFields(AssetAttachment value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetAttachmentField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetAttachmentField(AssetAttachment value, String field) throws IOException {
+        switch (field) {
+            case "assets":
+                value.setAssets(readListOfAssetIdWildcard());
+                return true;
+            case "max":
+                value.setMax(readShort());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetCollection readAssetCollection() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetCollection");
+        return readAssetCollectionFields(new AssetCollection());
+    }
+
+    private AssetCollection readAssetCollectionFields(AssetCollection value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetCollectionField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetCollectionField(AssetCollection value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readAssetCollectionId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "type":
+                value.setType(readAssetCollectionType());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "color":
+                value.setColor(readCssColor());
+                return true;
+            case "contents":
+                value.setContents(readMapOfAsset());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "enhances":
+                value.setEnhances(readAssetCollectionId());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "images":
+                value.setImages(readListOfWebpImageUrl());
+                return true;
+            case "replaces":
+                value.setReplaces(readAssetCollectionId());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "summary":
+                value.setSummary(readMarkdownString());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetCollectionId readAssetCollectionId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ids.intern(AssetCollectionId.class, parser.getText(), AssetCollectionId::new);
+    }
+
+    public AssetCollectionType readAssetCollectionType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "asset_collection":
+                return AssetCollectionType.ASSET_COLLECTION;
+            default:
+                throw unknownEnumValue("AssetCollectionType");
+        }
+    }
+
+    public AssetConditionMeterControlField readAssetConditionMeterControlField() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetConditionMeterControlField");
+        JsonParser outer = parser;
+        String tag = discriminator("AssetConditionMeterControlField", "field_type");
+        AssetConditionMeterControlField value;
+        switch (tag) {
+            case "card_flip":
+                value = readAssetConditionMeterControlFieldCardFlipFields(new AssetConditionMeterControlFieldCardFlip());
+                break;
+            case "checkbox":
+                value = readAssetConditionMeterControlFieldCheckboxFields(new AssetConditionMeterControlFieldCheckbox());
+                break;
+            default:
+                throw unknownDiscriminator("AssetConditionMeterControlField", "field_type", tag);
+        }
+        parser = outer;
+        return value;
+    }
+
+    public AssetConditionMeterControlFieldCardFlip readAssetConditionMeterControlFieldCardFlip() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetConditionMeterControlFieldCardFlip");
+        return readAssetConditionMeterControlFieldCardFlipFields(new AssetConditionMeterControlFieldCardFlip());
+    }
+
+    private AssetConditionMeterControlFieldCardFlip readAssetConditionMeterControlFieldCardFlipFields(AssetConditionMeterControlFieldCardFlip value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetConditionMeterControlFieldCardFlipField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetConditionMeterControlFieldCardFlipField(AssetConditionMeterControlFieldCardFlip value, String field) throws IOException {
+        switch (field) {
+            case "disables_asset":
+                value.setDisablesAsset(readBoolean());
+                return true;
+            case "is_impact":
+                value.setIsImpact(readBoolean());
+                return true;
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "value":
+                value.setValue(readBoolean());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetConditionMeterControlFieldCheckbox readAssetConditionMeterControlFieldCheckbox() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetConditionMeterControlFieldCheckbox");
+        return readAssetConditionMeterControlFieldCheckboxFields(new AssetConditionMeterControlFieldCheckbox());
+    }
+
+    private AssetConditionMeterControlFieldCheckbox readAssetConditionMeterControlFieldCheckboxFields(AssetConditionMeterControlFieldCheckbox value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetConditionMeterControlFieldCheckboxField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetConditionMeterControlFieldCheckboxField(AssetConditionMeterControlFieldCheckbox value, String field) throws IOException {
+        switch (field) {
+            case "disables_asset":
+                value.setDisablesAsset(readBoolean());
+                return true;
+            case "is_impact":
+                value.setIsImpact(readBoolean());
+                return true;
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "value":
+                value.setValue(readBoolean());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetControlField readAssetControlField() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetControlField");
+        JsonParser outer = parser;
+        String tag = discriminator("AssetControlField", "field_type");
+        AssetControlField value;
+        switch (tag) {
+            case "card_flip":
+                value = readAssetControlFieldCardFlipFields(new AssetControlFieldCardFlip());
+                break;
+            case "checkbox":
+                value = readAssetControlFieldCheckboxFields(new AssetControlFieldCheckbox());
+                break;
+            case "condition_meter":
+                value = readAssetControlFieldConditionMeterFields(new AssetControlFieldConditionMeter());
+                break;
+            case "select_enhancement":
+                value = readAssetControlFieldSelectEnhancementFields(new AssetControlFieldSelectEnhancement());
+                break;
+            default:
+                throw unknownDiscriminator("AssetControlField", "field_type", tag);
+        }
+        parser = outer;
+        return value;
+    }
+
+    public AssetControlFieldCardFlip readAssetControlFieldCardFlip() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetControlFieldCardFlip");
+        return readAssetControlFieldCardFlipFields(new AssetControlFieldCardFlip());
+    }
+
+    private AssetControlFieldCardFlip readAssetControlFieldCardFlipFields(AssetControlFieldCardFlip value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetControlFieldCardFlipField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetControlFieldCardFlipField(AssetControlFieldCardFlip value, String field) throws IOException {
+        switch (field) {
+            case "disables_asset":
+                value.setDisablesAsset(readBoolean());
+                return true;
+            case "is_impact":
+                value.setIsImpact(readBoolean());
+                return true;
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "value":
+                value.setValue(readBoolean());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetControlFieldCheckbox readAssetControlFieldCheckbox() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetControlFieldCheckbox");
+        return readAssetControlFieldCheckboxFields(new AssetControlFieldCheckbox());
+    }
+
+    private AssetControlFieldCheckbox readAssetControlFieldCheckboxFields(AssetControlFieldCheckbox value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetControlFieldCheckboxField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetControlFieldCheckboxField(AssetControlFieldCheckbox value, String field) throws IOException {
+        switch (field) {
+            case "disables_asset":
+                value.setDisablesAsset(readBoolean());
+                return true;
+            case "is_impact":
+                value.setIsImpact(readBoolean());
+                return true;
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "value":
+                value.setValue(readBoolean());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetControlFieldConditionMeter readAssetControlFieldConditionMeter() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetControlFieldConditionMeter");
+        return readAssetControlFieldConditionMeterFields(new AssetControlFieldConditionMeter());
+    }
+
+    private AssetControlFieldConditionMeter readAssetControlFieldConditionMeterFields(AssetControlFieldConditionMeter value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetControlFieldConditionMeterField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetControlFieldConditionMeterField(AssetControlFieldConditionMeter value, String field) throws IOException {
+        switch (field) {
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "max":
+                value.setMax(readByte());
+                return true;
+            case "min":
+                value.setMin(readByte());
+                return true;
+            case "rollable":
+                value.setRollable(readBoolean());
+                return true;
+            case "value":
+                value.setValue(readByte());
+                return true;
+            case "controls":
+                value.setControls(readMapOfAssetConditionMeterControlField());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "moves":
+                value.setMoves(readAssetControlFieldConditionMeterMoves());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetControlFieldConditionMeterMoves readAssetControlFieldConditionMeterMoves() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetControlFieldConditionMeterMoves");
+        return readAssetControlFieldConditionMeterMovesFields(new AssetControlFieldConditionMeterMoves());
+    }
+
+    private AssetControlFieldConditionMeterMoves readAssetControlFieldConditionMeterMovesFields(AssetControlFieldConditionMeterMoves value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetControlFieldConditionMeterMovesField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetControlFieldConditionMeterMovesField(AssetControlFieldConditionMeterMoves value, String field) throws IOException {
+        switch (field) {
+            case "recover":
+                value.setRecover(readListOfMoveIdWildcard());
+                return true;
+            case "suffer":
+                value.setSuffer(readListOfMoveIdWildcard());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetControlFieldEnhancement readAssetControlFieldEnhancement() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetControlFieldEnhancement");
+        JsonParser outer = parser;
+        String tag = discriminator("AssetControlFieldEnhancement", "field_type");
+        AssetControlFieldEnhancement value;
+        switch (tag) {
+            case "condition_meter":
+                value = readAssetControlFieldEnhancementConditionMeterFields(new AssetControlFieldEnhancementConditionMeter());
+                break;
+            default:
+                throw unknownDiscriminator("AssetControlFieldEnhancement", "field_type", tag);
+        }
+        parser = outer;
+        return value;
+    }
+
+    public AssetControlFieldEnhancementConditionMeter readAssetControlFieldEnhancementConditionMeter() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetControlFieldEnhancementConditionMeter");
+        return readAssetControlFieldEnhancementConditionMeterFields(new AssetControlFieldEnhancementConditionMeter());
+    }
+
+    private AssetControlFieldEnhancementConditionMeter readAssetControlFieldEnhancementConditionMeterFields(AssetControlFieldEnhancementConditionMeter value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetControlFieldEnhancementConditionMeterField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetControlFieldEnhancementConditionMeterField(AssetControlFieldEnhancementConditionMeter value, String field) throws IOException {
+        switch (field) {
+            case "max":
+                value.setMax(readByte());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetControlFieldSelectEnhancement readAssetControlFieldSelectEnhancement() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetControlFieldSelectEnhancement");
+        return readAssetControlFieldSelectEnhancementFields(new AssetControlFieldSelectEnhancement());
+    }
+
+    private AssetControlFieldSelectEnhancement readAssetControlFieldSelectEnhancementFields(AssetControlFieldSelectEnhancement value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetControlFieldSelectEnhancementField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetControlFieldSelectEnhancementField(AssetControlFieldSelectEnhancement value, String field) throws IOException {
+        switch (field) {
+            case "choices":
+                value.setChoices(readMapOfAssetControlFieldSelectEnhancementChoice());
+                return true;
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "value":
+                value.setValue(readDictKey());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetControlFieldSelectEnhancementChoice readAssetControlFieldSelectEnhancementChoice() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetControlFieldSelectEnhancementChoice");
+        JsonParser outer = parser;
+        String tag = discriminator("AssetControlFieldSelectEnhancementChoice", "choice_type");
+        AssetControlFieldSelectEnhancementChoice value;
+        switch (tag) {
+            case "choice":
+                value = readAssetControlFieldSelectEnhancementChoiceChoiceFields(new AssetControlFieldSelectEnhancementChoiceChoice());
+                break;
+            case "choice_group":
+                value = readAssetControlFieldSelectEnhancementChoiceChoiceGroupFields(new AssetControlFieldSelectEnhancementChoiceChoiceGroup());
+                break;
+            default:
+                throw unknownDiscriminator("AssetControlFieldSelectEnhancementChoice", "choice_type", tag);
+        }
+        parser = outer;
+        return value;
+    }
+
+    public AssetControlFieldSelectEnhancementChoiceChoice readAssetControlFieldSelectEnhancementChoiceChoice() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetControlFieldSelectEnhancementChoiceChoice");
+        return readAssetControlFieldSelectEnhancementChoiceChoiceFields(new AssetControlFieldSelectEnhancementChoiceChoice());
+    }
+
+    private AssetControlFieldSelectEnhancementChoiceChoice readAssetControlFieldSelectEnhancementChoiceChoiceFields(AssetControlFieldSelectEnhancementChoiceChoice value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetControlFieldSelectEnhancementChoiceChoiceField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetControlFieldSelectEnhancementChoiceChoiceField(AssetControlFieldSelectEnhancementChoiceChoice value, String field) throws IOException {
+        switch (field) {
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "enhance_asset":
+                value.setEnhanceAsset(readAssetEnhancement());
+                return true;
+            case "enhance_moves":
+                value.setEnhanceMoves(readListOfMoveEnhancement());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetControlFieldSelectEnhancementChoiceChoiceGroup readAssetControlFieldSelectEnhancementChoiceChoiceGroup() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetControlFieldSelectEnhancementChoiceChoiceGroup");
+        return readAssetControlFieldSelectEnhancementChoiceChoiceGroupFields(new AssetControlFieldSelectEnhancementChoiceChoiceGroup());
+    }
+
+    private AssetControlFieldSelectEnhancementChoiceChoiceGroup readAssetControlFieldSelectEnhancementChoiceChoiceGroupFields(AssetControlFieldSelectEnhancementChoiceChoiceGroup value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetControlFieldSelectEnhancementChoiceChoiceGroupField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetControlFieldSelectEnhancementChoiceChoiceGroupField(AssetControlFieldSelectEnhancementChoiceChoiceGroup value, String field) throws IOException {
+        switch (field) {
+            case "choices":
+                value.setChoices(readMapOfSelectEnhancementFieldChoice());
+                return true;
+            case "name":
+                value.setName(readInputLabel());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetEnhancement readAssetEnhancement() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetEnhancement");
+        return readAssetEnhancementFields(new AssetEnhancement());
+    }
+
+    private AssetEnhancement readAssetEnhancementFields(AssetEnhancement value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetEnhancementField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetEnhancementField(AssetEnhancement value, String field) throws IOException {
+        switch (field) {
+            case "attachments":
+                value.setAttachments(readAssetAttachment());
+                return true;
+            case "controls":
+                value.setControls(readMapOfAssetControlFieldEnhancement());
+                return true;
+            case "count_as_impact":
+                value.setCountAsImpact(readBoolean());
+                return true;
+            case "shared":
+                value.setShared(readBoolean());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetId readAssetId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ids.intern(AssetId.class, parser.getText(), AssetId::new);
+    }
+
+    public AssetIdWildcard readAssetIdWildcard() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ids.intern(AssetIdWildcard.class, parser.getText(), AssetIdWildcard::new);
+    }
+
+    public AssetOptionField readAssetOptionField() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetOptionField");
+        JsonParser outer = parser;
+        String tag = discriminator("AssetOptionField", "field_type");
+        AssetOptionField value;
+        switch (tag) {
+            case "select_enhancement":
+                value = readAssetOptionFieldSelectEnhancementFields(new AssetOptionFieldSelectEnhancement());
+                break;
+            case "select_value":
+                value = readAssetOptionFieldSelectValueFields(new AssetOptionFieldSelectValue());
+                break;
+            case "text":
+                value = readAssetOptionFieldTextFields(new AssetOptionFieldText());
+                break;
+            default:
+                throw unknownDiscriminator("AssetOptionField", "field_type", tag);
+        }
+        parser = outer;
+        return value;
+    }
+
+    public AssetOptionFieldSelectEnhancement readAssetOptionFieldSelectEnhancement() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetOptionFieldSelectEnhancement");
+        return readAssetOptionFieldSelectEnhancementFields(new AssetOptionFieldSelectEnhancement());
+    }
+
+    private AssetOptionFieldSelectEnhancement readAssetOptionFieldSelectEnhancementFields(AssetOptionFieldSelectEnhancement value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetOptionFieldSelectEnhancementField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetOptionFieldSelectEnhancementField(AssetOptionFieldSelectEnhancement value, String field) throws IOException {
+        switch (field) {
+            case "choices":
+                value.setChoices(readMapOfAssetOptionFieldSelectEnhancementChoice());
+                return true;
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "value":
+                value.setValue(readDictKey());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetOptionFieldSelectEnhancementChoice readAssetOptionFieldSelectEnhancementChoice() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetOptionFieldSelectEnhancementChoice");
+        JsonParser outer = parser;
+        String tag = discriminator("AssetOptionFieldSelectEnhancementChoice", "choice_type");
+        AssetOptionFieldSelectEnhancementChoice value;
+        switch (tag) {
+            case "choice":
+                value = readAssetOptionFieldSelectEnhancementChoiceChoiceFields(new AssetOptionFieldSelectEnhancementChoiceChoice());
+                break;
+            case "choice_group":
+                value = readAssetOptionFieldSelectEnhancementChoiceChoiceGroupFields(new AssetOptionFieldSelectEnhancementChoiceChoiceGroup());
+                break;
+            default:
+                throw unknownDiscriminator("AssetOptionFieldSelectEnhancementChoice", "choice_type", tag);
+        }
+        parser = outer;
+        return value;
+    }
+
+    public AssetOptionFieldSelectEnhancementChoiceChoice readAssetOptionFieldSelectEnhancementChoiceChoice() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetOptionFieldSelectEnhancementChoiceChoice");
+        return readAssetOptionFieldSelectEnhancementChoiceChoiceFields(new AssetOptionFieldSelectEnhancementChoiceChoice());
+    }
+
+    private AssetOptionFieldSelectEnhancementChoiceChoice readAssetOptionFieldSelectEnhancementChoiceChoiceFields(AssetOptionFieldSelectEnhancementChoiceChoice value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetOptionFieldSelectEnhancementChoiceChoiceField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetOptionFieldSelectEnhancementChoiceChoiceField(AssetOptionFieldSelectEnhancementChoiceChoice value, String field) throws IOException {
+        switch (field) {
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "enhance_asset":
+                value.setEnhanceAsset(readAssetEnhancement());
+                return true;
+            case "enhance_moves":
+                value.setEnhanceMoves(readListOfMoveEnhancement());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetOptionFieldSelectEnhancementChoiceChoiceGroup readAssetOptionFieldSelectEnhancementChoiceChoiceGroup() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetOptionFieldSelectEnhancementChoiceChoiceGroup");
+        return readAssetOptionFieldSelectEnhancementChoiceChoiceGroupFields(new AssetOptionFieldSelectEnhancementChoiceChoiceGroup());
+    }
+
+    private AssetOptionFieldSelectEnhancementChoiceChoiceGroup readAssetOptionFieldSelectEnhancementChoiceChoiceGroupFields(AssetOptionFieldSelectEnhancementChoiceChoiceGroup value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetOptionFieldSelectEnhancementChoiceChoiceGroupField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetOptionFieldSelectEnhancementChoiceChoiceGroupField(AssetOptionFieldSelectEnhancementChoiceChoiceGroup value, String field) throws IOException {
+        switch (field) {
+            case "choices":
+                value.setChoices(readMapOfSelectEnhancementFieldChoice());
+                return true;
+            case "name":
+                value.setName(readInputLabel());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetOptionFieldSelectValue readAssetOptionFieldSelectValue() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetOptionFieldSelectValue");
+        return readAssetOptionFieldSelectValueFields(new AssetOptionFieldSelectValue());
+    }
+
+    private AssetOptionFieldSelectValue readAssetOptionFieldSelectValueFields(AssetOptionFieldSelectValue value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetOptionFieldSelectValueField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetOptionFieldSelectValueField(AssetOptionFieldSelectValue value, String field) throws IOException {
+        switch (field) {
+            case "choices":
+                value.setChoices(readMapOfSelectValueFieldChoice());
+                return true;
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "value":
+                value.setValue(readDictKey());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetOptionFieldText readAssetOptionFieldText() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AssetOptionFieldText");
+        return readAssetOptionFieldTextFields(new AssetOptionFieldText());
+    }
+
+    private AssetOptionFieldText readAssetOptionFieldTextFields(AssetOptionFieldText value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAssetOptionFieldTextField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAssetOptionFieldTextField(AssetOptionFieldText value, String field) throws IOException {
+        switch (field) {
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "value":
+                value.setValue(readString());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AssetType readAssetType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "asset":
+                return AssetType.ASSET;
+            default:
+                throw unknownEnumValue("AssetType");
+        }
+    }
+
+    public AtlasCollection readAtlasCollection() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AtlasCollection");
+        return readAtlasCollectionFields(new AtlasCollection());
+    }
+
+    private AtlasCollection readAtlasCollectionFields(AtlasCollection value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAtlasCollectionField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAtlasCollectionField(AtlasCollection value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readAtlasCollectionId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "type":
+                value.setType(readAtlasCollectionType());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "collections":
+                value.setCollections(readMapOfAtlasCollection());
+                return true;
+            case "color":
+                value.setColor(readCssColor());
+                return true;
+            case "contents":
+                value.setContents(readMapOfAtlasEntry());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "enhances":
+                value.setEnhances(readAtlasCollectionId());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "images":
+                value.setImages(readListOfWebpImageUrl());
+                return true;
+            case "replaces":
+                value.setReplaces(readAtlasCollectionId());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "summary":
+                value.setSummary(readMarkdownString());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AtlasCollectionId readAtlasCollectionId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ids.intern(AtlasCollectionId.class, parser.getText(), AtlasCollectionId::new);
+    }
+
+    public AtlasCollectionType readAtlasCollectionType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "atlas":
+                return AtlasCollectionType.ATLAS;
+            default:
+                throw unknownEnumValue("AtlasCollectionType");
+        }
+    }
+
+    public AtlasEntry readAtlasEntry() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AtlasEntry");
+        return readAtlasEntryFields(new AtlasEntry());
+    }
+
+    private AtlasEntry readAtlasEntryFields(AtlasEntry value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAtlasEntryField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAtlasEntryField(AtlasEntry value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readAtlasEntryId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "features":
+                value.setFeatures(readListOfMarkdownString());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "type":
+                value.setType(readAtlasEntryType());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "quest_starter":
+                value.setQuestStarter(readMarkdownString());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "summary":
+                value.setSummary(readMarkdownString());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            case "your_truth":
+                value.setYourTruth(readMarkdownString());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public AtlasEntryId readAtlasEntryId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ids.intern(AtlasEntryId.class, parser.getText(), AtlasEntryId::new);
+    }
+
+    public AtlasEntryType readAtlasEntryType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "atlas_entry":
+                return AtlasEntryType.ATLAS_ENTRY;
+            default:
+                throw unknownEnumValue("AtlasEntryType");
+        }
+    }
+
+    public AuthorInfo readAuthorInfo() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("AuthorInfo");
+        return readAuthorInfoFields(new AuthorInfo());
+    }
+
+    private AuthorInfo readAuthorInfoFields(AuthorInfo value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readAuthorInfoField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readAuthorInfoField(AuthorInfo value, String field) throws IOException {
+        switch (field) {
+            case "name":
+                value.setName(readString());
+                return true;
+            case "email":
+                value.setEmail(readString());
+                return true;
+            case "url":
+                value.setUrl(readString());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public ChallengeRank readChallengeRank() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return new ChallengeRank(readUnsignedByte());
+    }
+
+    public ConditionMeterKey readConditionMeterKey() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return new ConditionMeterKey(readDictKey());
+    }
+
+    public ConditionMeterRule readConditionMeterRule() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("ConditionMeterRule");
+        return readConditionMeterRuleFields(new ConditionMeterRule());
+    }
+
+    private ConditionMeterRule readConditionMeterRuleFields(ConditionMeterRule value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readConditionMeterRuleField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readConditionMeterRuleField(ConditionMeterRule value, String field) throws IOException {
+        switch (field) {
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "max":
+                value.setMax(readByte());
+                return true;
+            case "min":
+                value.setMin(readByte());
+                return true;
+            case "rollable":
+                value.setRollable(readBoolean());
+                return true;
+            case "shared":
+                value.setShared(readBoolean());
+                return true;
+            case "value":
+                value.setValue(readByte());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public CssColor readCssColor() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return new CssColor(readString());
+    }
+
+    public DelveSite readDelveSite() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("DelveSite");
+        return readDelveSiteFields(new DelveSite());
+    }
+
+    private DelveSite readDelveSiteFields(DelveSite value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readDelveSiteField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readDelveSiteField(DelveSite value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readDelveSiteId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "denizens":
+                value.setDenizens(readListOfDelveSiteDenizen());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "domain":
+                value.setDomain(readDelveSiteDomainId());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "rank":
+                value.setRank(readChallengeRank());
+                return true;
+            case "theme":
+                value.setTheme(readDelveSiteThemeId());
+                return true;
+            case "type":
+                value.setType(readDelveSiteType());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "extra_card":
+                value.setExtraCard(readString());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "region":
+                value.setRegion(readAtlasEntryId());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public DelveSiteDenizen readDelveSiteDenizen() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("DelveSiteDenizen");
+        return readDelveSiteDenizenFields(new DelveSiteDenizen());
+    }
+
+    private DelveSiteDenizen readDelveSiteDenizenFields(DelveSiteDenizen value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readDelveSiteDenizenField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readDelveSiteDenizenField(DelveSiteDenizen value, String field) throws IOException {
+        switch (field) {
+            case "frequency":
+                value.setFrequency(readDelveSiteDenizenFrequency());
+                return true;
+            case "max":
+                value.setMax(readShort());
+                return true;
+            case "min":
+                value.setMin(readShort());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "npc":
+                value.setNpc(readNpcId());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public DelveSiteDenizenFrequency readDelveSiteDenizenFrequency() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "common":
+                return DelveSiteDenizenFrequency.COMMON;
+            case "rare":
+                return DelveSiteDenizenFrequency.RARE;
+            case "uncommon":
+                return DelveSiteDenizenFrequency.UNCOMMON;
+            case "unforeseen":
+                return DelveSiteDenizenFrequency.UNFORESEEN;
+            case "very_common":
+                return DelveSiteDenizenFrequency.VERY_COMMON;
+            default:
+                throw unknownEnumValue("DelveSiteDenizenFrequency");
+        }
+    }
+
+    public DelveSiteDomain readDelveSiteDomain() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("DelveSiteDomain");
+        return readDelveSiteDomainFields(new DelveSiteDomain());
+    }
+
+    private DelveSiteDomain readDelveSiteDomainFields(DelveSiteDomain value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readDelveSiteDomainField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readDelveSiteDomainField(DelveSiteDomain value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readDelveSiteDomainId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "dangers":
+                value.setDangers(readListOfOracleTableRowText());
+                return true;
+            case "features":
+                value.setFeatures(readListOfOracleTableRowText());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "summary":
+                value.setSummary(readMarkdownString());
+                return true;
+            case "type":
+                value.setType(readDelveSiteDomainType());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "name_oracle":
+                value.setNameOracle(readOracleRollableId());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public DelveSiteDomainId readDelveSiteDomainId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ids.intern(DelveSiteDomainId.class, parser.getText(), DelveSiteDomainId::new);
+    }
+
+    public DelveSiteDomainType readDelveSiteDomainType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "delve_site_domain":
+                return DelveSiteDomainType.DELVE_SITE_DOMAIN;
+            default:
+                throw unknownEnumValue("DelveSiteDomainType");
+        }
+    }
+
+    public DelveSiteId readDelveSiteId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ids.intern(DelveSiteId.class, parser.getText(), DelveSiteId::new);
+    }
+
+    public DelveSiteTheme readDelveSiteTheme() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("DelveSiteTheme");
+        return readDelveSiteThemeFields(new DelveSiteTheme());
+    }
+
+    private DelveSiteTheme readDelveSiteThemeFields(DelveSiteTheme value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readDelveSiteThemeField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readDelveSiteThemeField(DelveSiteTheme value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readDelveSiteThemeId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "dangers":
+                value.setDangers(readListOfOracleTableRowText());
+                return true;
+            case "features":
+                value.setFeatures(readListOfOracleTableRowText());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "summary":
+                value.setSummary(readMarkdownString());
+                return true;
+            case "type":
+                value.setType(readDelveSiteThemeType());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public DelveSiteThemeId readDelveSiteThemeId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ids.intern(DelveSiteThemeId.class, parser.getText(), DelveSiteThemeId::new);
+    }
+
+    public DelveSiteThemeType readDelveSiteThemeType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "delve_site_theme":
+                return DelveSiteThemeType.DELVE_SITE_THEME;
+            default:
+                throw unknownEnumValue("DelveSiteThemeType");
+        }
+    }
+
+    public DelveSiteType readDelveSiteType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "delve_site":
+                return DelveSiteType.DELVE_SITE;
+            default:
+                throw unknownEnumValue("DelveSiteType");
+        }
+    }
+
+    public DiceExpression readDiceExpression() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return new DiceExpression(readString());
+    }
+
+    public DictKey readDictKey() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return new DictKey(readString());
+    }
+
+    public ExpansionId readExpansionId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ids.intern(ExpansionId.class, parser.getText(), ExpansionId::new);
+    }
+
+    public I18nHint readI18nHint() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("I18nHint");
+        return readI18nHintFields(new I18nHint());
+    }
+
+    private I18nHint readI18nHintFields(I18nHint value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readI18nHintField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readI18nHintField(I18nHint value, String field) throws IOException {
+        switch (field) {
+            case "part_of_speech":
+                value.setPartOfSpeech(readPartOfSpeech());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public I18nHints readI18nHints() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("I18nHints");
+        return readI18nHintsFields(new I18nHints());
+    }
+
+    private I18nHints readI18nHintsFields(I18nHints value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readI18nHintsField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readI18nHintsField(I18nHints value, String field) throws IOException {
+        switch (field) {
+            case "template":
+                value.setTemplate(readI18nHintsTemplate());
+                return true;
+            case "text":
+                value.setText(readI18nHint());
+                return true;
+            case "text2":
+                value.setText2(readI18nHint());
+                return true;
+            case "text3":
+                value.setText3(readI18nHint());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public I18nHintsTemplate readI18nHintsTemplate() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("I18nHintsTemplate");
+        return readI18nHintsTemplateFields(new I18nHintsTemplate());
+    }
+
+    private I18nHintsTemplate readI18nHintsTemplateFields(I18nHintsTemplate value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readI18nHintsTemplateField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readI18nHintsTemplateField(I18nHintsTemplate value, String field) throws IOException {
+        switch (field) {
+            case "text":
+                value.setText(readI18nHint());
+                return true;
+            case "text2":
+                value.setText2(readI18nHint());
+                return true;
+            case "text3":
+                value.setText3(readI18nHint());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public ImpactCategory readImpactCategory() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("ImpactCategory");
+        return readImpactCategoryFields(new ImpactCategory());
+    }
+
+    private ImpactCategory readImpactCategoryFields(ImpactCategory value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readImpactCategoryField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readImpactCategoryField(ImpactCategory value, String field) throws IOException {
+        switch (field) {
+            case "contents":
+                value.setContents(readMapOfImpactRule());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public ImpactRule readImpactRule() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("ImpactRule");
+        return readImpactRuleFields(new ImpactRule());
+    }
+
+    private ImpactRule readImpactRuleFields(ImpactRule value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readImpactRuleField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readImpactRuleField(ImpactRule value, String field) throws IOException {
+        switch (field) {
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "permanent":
+                value.setPermanent(readBoolean());
+                return true;
+            case "prevents_recovery":
+                value.setPreventsRecovery(readListOfConditionMeterKey());
+                return true;
+            case "shared":
+                value.setShared(readBoolean());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public InputLabel readInputLabel() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return new InputLabel(readString());
+    }
+
+    public Label readLabel() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return new Label(readString());
+    }
+
+    public License readLicense() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return new License(readWebUrl());
+    }
+
+    public MarkdownString readMarkdownString() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return new MarkdownString(readString());
+    }
+
+    public Move readMove() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Move");
+        JsonParser outer = parser;
+        String tag = discriminator("Move", "roll_type");
+        Move value;
+        switch (tag) {
+            case "action_roll":
+                value = readMoveActionRollFields(new MoveActionRoll());
+                break;
+            case "no_roll":
+                value = readMoveNoRollFields(new MoveNoRoll());
+                break;
+            case "progress_roll":
+                value = readMoveProgressRollFields(new MoveProgressRoll());
+                break;
+            case "special_track":
+                value = readMoveSpecialTrackFields(new MoveSpecialTrack());
+                break;
+            default:
+                throw unknownDiscriminator("Move", "roll_type", tag);
+        }
+        parser = outer;
+        return value;
+    }
+
+    public MoveActionRoll readMoveActionRoll() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("MoveActionRoll");
+        return readMoveActionRollFields(new MoveActionRoll());
+    }
+
+    private MoveActionRoll readMoveActionRollFields(MoveActionRoll value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readMoveActionRollField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readMoveActionRollField(MoveActionRoll value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readMoveId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "outcomes":
+                value.setOutcomes(readMoveOutcomes());
+                return true;
+            case "text":
+                value.setText(readMarkdownString());
+                return true;
+            case "trigger":
+                value.setTrigger(readTriggerActionRoll());
+                return true;
+            case "type":
+                value.setType(readMoveActionRollType());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "oracles":
+                value.setOracles(readListOfOracleRollableId());
+                return true;
+            case "replaces":
+                value.setReplaces(readMoveId());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public MoveActionRollType readMoveActionRollType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "move":
+                return MoveActionRollType.MOVE;
+            default:
+                throw unknownEnumValue("MoveActionRollType");
+        }
+    }
+
+    public MoveCategory readMoveCategory() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("MoveCategory");
+        return readMoveCategoryFields(new MoveCategory());
+    }
+
+    private MoveCategory readMoveCategoryFields(MoveCategory value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readMoveCategoryField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readMoveCategoryField(MoveCategory value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readMoveCategoryId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "type":
+                value.setType(readMoveCategoryType());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "color":
+                value.setColor(readCssColor());
+                return true;
+            case "contents":
+                value.setContents(readMapOfMove());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "enhances":
+                value.setEnhances(readMoveCategoryId());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "images":
+                value.setImages(readListOfWebpImageUrl());
+                return true;
+            case "replaces":
+                value.setReplaces(readMoveCategoryId());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "summary":
+                value.setSummary(readMarkdownString());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public MoveCategoryId readMoveCategoryId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ids.intern(MoveCategoryId.class, parser.getText(), MoveCategoryId::new);
+    }
+
+    public MoveCategoryType readMoveCategoryType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "move_category":
+                return MoveCategoryType.MOVE_CATEGORY;
+            default:
+                throw unknownEnumValue("MoveCategoryType");
+        }
+    }
+
+    public MoveEnhancement readMoveEnhancement() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("MoveEnhancement");
+        JsonParser outer = parser;
+        String tag = discriminator("MoveEnhancement", "roll_type");
+        MoveEnhancement value;
+        switch (tag) {
+            case "action_roll":
+                value = readMoveEnhancementActionRollFields(new MoveEnhancementActionRoll());
+                break;
+            case "no_roll":
+                value = readMoveEnhancementNoRollFields(new MoveEnhancementNoRoll());
+                break;
+            case "progress_roll":
+                value = readMoveEnhancementProgressRollFields(new MoveEnhancementProgressRoll());
+                break;
+            case "special_track":
+                value = readMoveEnhancementSpecialTrackFields(new MoveEnhancementSpecialTrack());
+                break;
+            default:
+                throw unknownDiscriminator("MoveEnhancement", "roll_type", tag);
+        }
+        parser = outer;
+        return value;
+    }
+
+    public MoveEnhancementActionRoll readMoveEnhancementActionRoll() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("MoveEnhancementActionRoll");
+        return readMoveEnhancementActionRollFields(new MoveEnhancementActionRoll());
+    }
+
+    private MoveEnhancementActionRoll readMoveEnhancementActionRollFields(MoveEnhancementActionRoll value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readMoveEnhancementActionRollField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readMoveEnhancementActionRollField(MoveEnhancementActionRoll value, String field) throws IOException {
+        switch (field) {
+            case "enhances":
+                value.setEnhances(readListOfMoveIdWildcard());
+                return true;
+            case "trigger":
+                value.setTrigger(readTriggerActionRollEnhancement());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public MoveEnhancementNoRoll readMoveEnhancementNoRoll() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("MoveEnhancementNoRoll");
+        return readMoveEnhancementNoRollFields(new MoveEnhancementNoRoll());
+    }
+
+    private MoveEnhancementNoRoll readMoveEnhancementNoRollFields(MoveEnhancementNoRoll value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readMoveEnhancementNoRollField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readMoveEnhancementNoRollField(MoveEnhancementNoRoll value, String field) throws IOException {
+        switch (field) {
+            case "enhances":
+                value.setEnhances(readListOfMoveIdWildcard());
+                return true;
+            case "trigger":
+                value.setTrigger(readTriggerNoRollEnhancement());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public MoveEnhancementProgressRoll readMoveEnhancementProgressRoll() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("MoveEnhancementProgressRoll");
+        return readMoveEnhancementProgressRollFields(new MoveEnhancementProgressRoll());
+    }
+
+    private MoveEnhancementProgressRoll readMoveEnhancementProgressRollFields(MoveEnhancementProgressRoll value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readMoveEnhancementProgressRollField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readMoveEnhancementProgressRollField(MoveEnhancementProgressRoll value, String field) throws IOException {
+        switch (field) {
+            case "enhances":
+                value.setEnhances(readListOfMoveIdWildcard());
+                return true;
+            case "trigger":
+                value.setTrigger(readTriggerProgressRollEnhancement());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public MoveEnhancementSpecialTrack readMoveEnhancementSpecialTrack() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("MoveEnhancementSpecialTrack");
+        return readMoveEnhancementSpecialTrackFields(new MoveEnhancementSpecialTrack());
+    }
+
+    private MoveEnhancementSpecialTrack readMoveEnhancementSpecialTrackFields(MoveEnhancementSpecialTrack value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readMoveEnhancementSpecialTrackField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readMoveEnhancementSpecialTrackField(MoveEnhancementSpecialTrack value, String field) throws IOException {
+        switch (field) {
+            case "enhances":
+                value.setEnhances(readListOfMoveIdWildcard());
+                return true;
+            case "trigger":
+                value.setTrigger(readTriggerSpecialTrackEnhancement());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public MoveId readMoveId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ids.intern(MoveId.class, parser.getText(), MoveId::new);
+    }
+
+    public MoveIdWildcard readMoveIdWildcard() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ids.intern(MoveIdWildcard.class, parser.getText(), MoveIdWildcard::new);
+    }
+
+    public MoveNoRoll readMoveNoRoll() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("MoveNoRoll");
+        return readMoveNoRollFields(new MoveNoRoll());
+    }
+
+    private MoveNoRoll readMoveNoRollFields(MoveNoRoll value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readMoveNoRollField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readMoveNoRollField(MoveNoRoll value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readMoveId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "text":
+                value.setText(readMarkdownString());
+                return true;
+            case "trigger":
+                value.setTrigger(readTriggerNoRoll());
+                return true;
+            case "type":
+                value.setType(readMoveNoRollType());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "oracles":
+                value.setOracles(readListOfOracleRollableId());
+                return true;
+            case "replaces":
+                value.setReplaces(readMoveId());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public MoveNoRollType readMoveNoRollType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "move":
+                return MoveNoRollType.MOVE;
+            default:
+                throw unknownEnumValue("MoveNoRollType");
+        }
+    }
+
+    public MoveOutcome readMoveOutcome() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("MoveOutcome");
+        return readMoveOutcomeFields(new MoveOutcome());
+    }
+
+    private MoveOutcome readMoveOutcomeFields(MoveOutcome value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readMoveOutcomeField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readMoveOutcomeField(MoveOutcome value, String field) throws IOException {
+        switch (field) {
+            case "text":
+                value.setText(readMarkdownString());
+                return true;
+            case "oracle_rolls":
+                value.setOracleRolls(readListOfOracleRoll());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public MoveOutcomes readMoveOutcomes() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("MoveOutcomes");
+        return readMoveOutcomesFields(new MoveOutcomes());
+    }
+
+    private MoveOutcomes readMoveOutcomesFields(MoveOutcomes value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readMoveOutcomesField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readMoveOutcomesField(MoveOutcomes value, String field) throws IOException {
+        switch (field) {
+            case "miss":
+                value.setMiss(readMoveOutcome());
+                return true;
+            case "strong_hit":
+                value.setStrongHit(readMoveOutcome());
+                return true;
+            case "weak_hit":
+                value.setWeakHit(readMoveOutcome());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public MoveProgressRoll readMoveProgressRoll() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("MoveProgressRoll");
+        return readMoveProgressRollFields(new MoveProgressRoll());
+    }
+
+    private MoveProgressRoll readMoveProgressRollFields(MoveProgressRoll value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readMoveProgressRollField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readMoveProgressRollField(MoveProgressRoll value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readMoveId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "outcomes":
+                value.setOutcomes(readMoveOutcomes());
+                return true;
+            case "text":
+                value.setText(readMarkdownString());
+                return true;
+            case "tracks":
+                value.setTracks(readProgressTrackTypeInfo());
+                return true;
+            case "trigger":
+                value.setTrigger(readTriggerProgressRoll());
+                return true;
+            case "type":
+                value.setType(readMoveProgressRollType());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "oracles":
+                value.setOracles(readListOfOracleRollableId());
+                return true;
+            case "replaces":
+                value.setReplaces(readMoveId());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public MoveProgressRollType readMoveProgressRollType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "move":
+                return MoveProgressRollType.MOVE;
+            default:
+                throw unknownEnumValue("MoveProgressRollType");
+        }
+    }
+
+    public MoveSpecialTrack readMoveSpecialTrack() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("MoveSpecialTrack");
+        return readMoveSpecialTrackFields(new MoveSpecialTrack());
+    }
+
+    private MoveSpecialTrack readMoveSpecialTrackFields(MoveSpecialTrack value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readMoveSpecialTrackField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readMoveSpecialTrackField(MoveSpecialTrack value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readMoveId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "outcomes":
+                value.setOutcomes(readMoveOutcomes());
+                return true;
+            case "text":
+                value.setText(readMarkdownString());
+                return true;
+            case "trigger":
+                value.setTrigger(readTriggerSpecialTrack());
+                return true;
+            case "type":
+                value.setType(readMoveSpecialTrackType());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "oracles":
+                value.setOracles(readListOfOracleRollableId());
+                return true;
+            case "replaces":
+                value.setReplaces(readMoveId());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public MoveSpecialTrackType readMoveSpecialTrackType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "move":
+                return MoveSpecialTrackType.MOVE;
+            default:
+                throw unknownEnumValue("MoveSpecialTrackType");
+        }
+    }
+
+    public Npc readNpc() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Npc");
+        return readNpcFields(new Npc());
+    }
+
+    private Npc readNpcFields(Npc value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readNpcField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readNpcField(Npc value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readNpcId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "drives":
+                value.setDrives(readListOfMarkdownString());
+                return true;
+            case "features":
+                value.setFeatures(readListOfMarkdownString());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "nature":
+                value.setNature(readNpcNature());
+                return true;
+            case "rank":
+                value.setRank(readChallengeRank());
+                return true;
+            case "tactics":
+                value.setTactics(readListOfMarkdownString());
+                return true;
+            case "type":
+                value.setType(readNpcType());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "quest_starter":
+                value.setQuestStarter(readMarkdownString());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "summary":
+                value.setSummary(readMarkdownString());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            case "variants":
+                value.setVariants(readMapOfNpcVariant());
+                return true;
+            case "your_truth":
+                value.setYourTruth(readMarkdownString());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public NpcCollection readNpcCollection() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("NpcCollection");
+        return readNpcCollectionFields(new NpcCollection());
+    }
+
+    private NpcCollection readNpcCollectionFields(NpcCollection value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readNpcCollectionField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readNpcCollectionField(NpcCollection value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readNpcCollectionId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "type":
+                value.setType(readNpcCollectionType());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "color":
+                value.setColor(readCssColor());
+                return true;
+            case "contents":
+                value.setContents(readMapOfNpc());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "enhances":
+                value.setEnhances(readNpcCollectionId());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "images":
+                value.setImages(readListOfWebpImageUrl());
+                return true;
+            case "replaces":
+                value.setReplaces(readNpcCollectionId());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "summary":
+                value.setSummary(readMarkdownString());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public NpcCollectionId readNpcCollectionId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ids.intern(NpcCollectionId.class, parser.getText(), NpcCollectionId::new);
+    }
+
+    public NpcCollectionType readNpcCollectionType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "npc_collection":
+                return NpcCollectionType.NPC_COLLECTION;
+            default:
+                throw unknownEnumValue("NpcCollectionType");
+        }
+    }
+
+    public NpcId readNpcId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ids.intern(NpcId.class, parser.getText(), NpcId::new);
+    }
+
+    public NpcNature readNpcNature() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return new NpcNature(readLabel());
+    }
+
+    public NpcType readNpcType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "npc":
+                return NpcType.NPC;
+            default:
+                throw unknownEnumValue("NpcType");
+        }
+    }
+
+    public NpcVariant readNpcVariant() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("NpcVariant");
+        return readNpcVariantFields(new NpcVariant());
+    }
+
+    private NpcVariant readNpcVariantFields(NpcVariant value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readNpcVariantField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readNpcVariantField(NpcVariant value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readNpcVariantId());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "nature":
+                value.setNature(readNpcNature());
+                return true;
+            case "rank":
+                value.setRank(readChallengeRank());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "summary":
+                value.setSummary(readMarkdownString());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public NpcVariantId readNpcVariantId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ids.intern(NpcVariantId.class, parser.getText(), NpcVariantId::new);
+    }
+
+    public ObjectType readObjectType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "asset":
+                return ObjectType.ASSET;
+            case "asset_collection":
+                return ObjectType.ASSET_COLLECTION;
+            case "atlas_collection":
+                return ObjectType.ATLAS_COLLECTION;
+            case "atlas_entry":
+                return ObjectType.ATLAS_ENTRY;
+            case "delve_site":
+                return ObjectType.DELVE_SITE;
+            case "delve_site_domain":
+                return ObjectType.DELVE_SITE_DOMAIN;
+            case "delve_site_theme":
+                return ObjectType.DELVE_SITE_THEME;
+            case "move":
+                return ObjectType.MOVE;
+            case "move_category":
+                return ObjectType.MOVE_CATEGORY;
+            case "npc":
+                return ObjectType.NPC;
+            case "npc_collection":
+                return ObjectType.NPC_COLLECTION;
+            case "oracle_collection":
+                return ObjectType.ORACLE_COLLECTION;
+            case "oracle_rollable":
+                return ObjectType.ORACLE_ROLLABLE;
+            case "rarity":
+                return ObjectType.RARITY;
+            case "truth":
+                return ObjectType.TRUTH;
+            default:
+                throw unknownEnumValue("ObjectType");
+        }
+    }
+
+    public OracleCollection readOracleCollection() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleCollection");
+        JsonParser outer = parser;
+        String tag = discriminator("OracleCollection", "oracle_type");
+        OracleCollection value;
+        switch (tag) {
+            case "OracleTableSharedText3":
+                value = readOracleCollectionOracleTableSharedText3Fields(new OracleCollectionOracleTableSharedText3());
+                break;
+            case "table_shared_rolls":
+                value = readOracleCollectionTableSharedRollsFields(new OracleCollectionTableSharedRolls());
+                break;
+            case "table_shared_text":
+                value = readOracleCollectionTableSharedTextFields(new OracleCollectionTableSharedText());
+                break;
+            case "table_shared_text2":
+                value = readOracleCollectionTableSharedText2Fields(new OracleCollectionTableSharedText2());
+                break;
+            case "tables":
+                value = readOracleCollectionTablesFields(new OracleCollectionTables());
+                break;
+            default:
+                throw unknownDiscriminator("OracleCollection", "oracle_type", tag);
+        }
+        parser = outer;
+        return value;
+    }
+
+    public OracleCollectionId readOracleCollectionId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ids.intern(OracleCollectionId.class, parser.getText(), OracleCollectionId::new);
+    }
+
+    public OracleCollectionOracleTableSharedText3 readOracleCollectionOracleTableSharedText3() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleCollectionOracleTableSharedText3");
+        return readOracleCollectionOracleTableSharedText3Fields(new OracleCollectionOracleTableSharedText3());
+    }
+
+    private OracleCollectionOracleTableSharedText3 readOracleCollectionOracleTableSharedText3Fields(OracleCollectionOracleTableSharedText3 value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleCollectionOracleTableSharedText3Field(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleCollectionOracleTableSharedText3Field(OracleCollectionOracleTableSharedText3 value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readOracleCollectionId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "column_labels":
+                value.setColumnLabels(readOracleCollectionOracleTableSharedText3ColumnLabels());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "type":
+                value.setType(readOracleCollectionOracleTableSharedText3Type());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "color":
+                value.setColor(readCssColor());
+                return true;
+            case "contents":
+                value.setContents(readMapOfOracleColumnText3());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "enhances":
+                value.setEnhances(readOracleCollectionId());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "images":
+                value.setImages(readListOfWebpImageUrl());
+                return true;
+            case "replaces":
+                value.setReplaces(readOracleCollectionId());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "summary":
+                value.setSummary(readMarkdownString());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleCollectionOracleTableSharedText3ColumnLabels readOracleCollectionOracleTableSharedText3ColumnLabels() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleCollectionOracleTableSharedText3ColumnLabels");
+        return readOracleCollectionOracleTableSharedText3ColumnLabelsFields(new OracleCollectionOracleTableSharedText3ColumnLabels());
+    }
+
+    private OracleCollectionOracleTableSharedText3ColumnLabels readOracleCollectionOracleTableSharedText3ColumnLabelsFields(OracleCollectionOracleTableSharedText3ColumnLabels value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleCollectionOracleTableSharedText3ColumnLabelsField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleCollectionOracleTableSharedText3ColumnLabelsField(OracleCollectionOracleTableSharedText3ColumnLabels value, String field) throws IOException {
+        switch (field) {
+            case "text":
+                value.setText(readLabel());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleCollectionOracleTableSharedText3Type readOracleCollectionOracleTableSharedText3Type() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "oracle_collection":
+                return OracleCollectionOracleTableSharedText3Type.ORACLE_COLLECTION;
+            default:
+                throw unknownEnumValue("OracleCollectionOracleTableSharedText3Type");
+        }
+    }
+
+    public OracleCollectionTableSharedRolls readOracleCollectionTableSharedRolls() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleCollectionTableSharedRolls");
+        return readOracleCollectionTableSharedRollsFields(new OracleCollectionTableSharedRolls());
+    }
+
+    private OracleCollectionTableSharedRolls readOracleCollectionTableSharedRollsFields(OracleCollectionTableSharedRolls value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleCollectionTableSharedRollsField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleCollectionTableSharedRollsField(OracleCollectionTableSharedRolls value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readOracleCollectionId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "column_labels":
+                value.setColumnLabels(readOracleCollectionTableSharedRollsColumnLabels());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "type":
+                value.setType(readOracleCollectionTableSharedRollsType());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "color":
+                value.setColor(readCssColor());
+                return true;
+            case "contents":
+                value.setContents(readMapOfOracleColumnText());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "enhances":
+                value.setEnhances(readOracleCollectionId());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "images":
+                value.setImages(readListOfWebpImageUrl());
+                return true;
+            case "replaces":
+                value.setReplaces(readOracleCollectionId());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "summary":
+                value.setSummary(readMarkdownString());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleCollectionTableSharedRollsColumnLabels readOracleCollectionTableSharedRollsColumnLabels() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleCollectionTableSharedRollsColumnLabels");
+        return readOracleCollectionTableSharedRollsColumnLabelsFields(new OracleCollectionTableSharedRollsColumnLabels());
+    }
+
+    private OracleCollectionTableSharedRollsColumnLabels readOracleCollectionTableSharedRollsColumnLabelsFields(OracleCollectionTableSharedRollsColumnLabels value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleCollectionTableSharedRollsColumnLabelsField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleCollectionTableSharedRollsColumnLabelsField(OracleCollectionTableSharedRollsColumnLabels value, String field) throws IOException {
+        switch (field) {
+            case "roll":
+                value.setRoll(readLabel());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleCollectionTableSharedRollsType readOracleCollectionTableSharedRollsType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "oracle_collection":
+                return OracleCollectionTableSharedRollsType.ORACLE_COLLECTION;
+            default:
+                throw unknownEnumValue("OracleCollectionTableSharedRollsType");
+        }
+    }
+
+    public OracleCollectionTableSharedText readOracleCollectionTableSharedText() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleCollectionTableSharedText");
+        return readOracleCollectionTableSharedTextFields(new OracleCollectionTableSharedText());
+    }
+
+    private OracleCollectionTableSharedText readOracleCollectionTableSharedTextFields(OracleCollectionTableSharedText value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleCollectionTableSharedTextField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleCollectionTableSharedTextField(OracleCollectionTableSharedText value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readOracleCollectionId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "column_labels":
+                value.setColumnLabels(readOracleCollectionTableSharedTextColumnLabels());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "type":
+                value.setType(readOracleCollectionTableSharedTextType());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "color":
+                value.setColor(readCssColor());
+                return true;
+            case "contents":
+                value.setContents(readMapOfOracleColumnText());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "enhances":
+                value.setEnhances(readOracleCollectionId());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "images":
+                value.setImages(readListOfWebpImageUrl());
+                return true;
+            case "replaces":
+                value.setReplaces(readOracleCollectionId());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "summary":
+                value.setSummary(readMarkdownString());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleCollectionTableSharedText2 readOracleCollectionTableSharedText2() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleCollectionTableSharedText2");
+        return readOracleCollectionTableSharedText2Fields(new OracleCollectionTableSharedText2());
+    }
+
+    private OracleCollectionTableSharedText2 readOracleCollectionTableSharedText2Fields(OracleCollectionTableSharedText2 value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleCollectionTableSharedText2Field(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleCollectionTableSharedText2Field(OracleCollectionTableSharedText2 value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readOracleCollectionId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "column_labels":
+                value.setColumnLabels(readOracleCollectionTableSharedText2ColumnLabels());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "type":
+                value.setType(readOracleCollectionTableSharedText2Type());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "color":
+                value.setColor(readCssColor());
+                return true;
+            case "contents":
+                value.setContents(readMapOfOracleColumnText2());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "enhances":
+                value.setEnhances(readOracleCollectionId());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "images":
+                value.setImages(readListOfWebpImageUrl());
+                return true;
+            case "replaces":
+                value.setReplaces(readOracleCollectionId());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "summary":
+                value.setSummary(readMarkdownString());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleCollectionTableSharedText2ColumnLabels readOracleCollectionTableSharedText2ColumnLabels() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleCollectionTableSharedText2ColumnLabels");
+        return readOracleCollectionTableSharedText2ColumnLabelsFields(new OracleCollectionTableSharedText2ColumnLabels());
+    }
+
+    private OracleCollectionTableSharedText2ColumnLabels readOracleCollectionTableSharedText2ColumnLabelsFields(OracleCollectionTableSharedText2ColumnLabels value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleCollectionTableSharedText2ColumnLabelsField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleCollectionTableSharedText2ColumnLabelsField(OracleCollectionTableSharedText2ColumnLabels value, String field) throws IOException {
+        switch (field) {
+            case "text":
+                value.setText(readLabel());
+                return true;
+            case "text2":
+                value.setText2(readLabel());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleCollectionTableSharedText2Type readOracleCollectionTableSharedText2Type() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "oracle_collection":
+                return OracleCollectionTableSharedText2Type.ORACLE_COLLECTION;
+            default:
+                throw unknownEnumValue("OracleCollectionTableSharedText2Type");
+        }
+    }
+
+    public OracleCollectionTableSharedTextColumnLabels readOracleCollectionTableSharedTextColumnLabels() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleCollectionTableSharedTextColumnLabels");
+        return readOracleCollectionTableSharedTextColumnLabelsFields(new OracleCollectionTableSharedTextColumnLabels());
+    }
+
+    private OracleCollectionTableSharedTextColumnLabels readOracleCollectionTableSharedTextColumnLabelsFields(OracleCollectionTableSharedTextColumnLabels value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleCollectionTableSharedTextColumnLabelsField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleCollectionTableSharedTextColumnLabelsField(OracleCollectionTableSharedTextColumnLabels value, String field) throws IOException {
+        switch (field) {
+            case "text":
+                value.setText(readLabel());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleCollectionTableSharedTextType readOracleCollectionTableSharedTextType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "oracle_collection":
+                return OracleCollectionTableSharedTextType.ORACLE_COLLECTION;
+            default:
+                throw unknownEnumValue("OracleCollectionTableSharedTextType");
+        }
+    }
+
+    public OracleCollectionTables readOracleCollectionTables() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleCollectionTables");
+        return readOracleCollectionTablesFields(new OracleCollectionTables());
+    }
+
+    private OracleCollectionTables readOracleCollectionTablesFields(OracleCollectionTables value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleCollectionTablesField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleCollectionTablesField(OracleCollectionTables value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readOracleCollectionId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "type":
+                value.setType(readOracleCollectionTablesType());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "collections":
+                value.setCollections(readMapOfOracleCollection());
+                return true;
+            case "color":
+                value.setColor(readCssColor());
+                return true;
+            case "contents":
+                value.setContents(readMapOfOracleTableRollable());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "enhances":
+                value.setEnhances(readOracleCollectionId());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "images":
+                value.setImages(readListOfWebpImageUrl());
+                return true;
+            case "replaces":
+                value.setReplaces(readOracleCollectionId());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "summary":
+                value.setSummary(readMarkdownString());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleCollectionTablesType readOracleCollectionTablesType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "oracle_collection":
+                return OracleCollectionTablesType.ORACLE_COLLECTION;
+            default:
+                throw unknownEnumValue("OracleCollectionTablesType");
+        }
+    }
+
+    public OracleColumnText readOracleColumnText() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleColumnText");
+        return readOracleColumnTextFields(new OracleColumnText());
+    }
+
+    private OracleColumnText readOracleColumnTextFields(OracleColumnText value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleColumnTextField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleColumnTextField(OracleColumnText value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readOracleRollableId());
+                return true;
+            case "dice":
+                value.setDice(readDiceExpression());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "oracle_type":
+                value.setOracleType(readOracleColumnTextOracleType());
+                return true;
+            case "rows":
+                value.setRows(readListOfOracleTableRowText());
+                return true;
+            case "type":
+                value.setType(readOracleColumnTextType());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "color":
+                value.setColor(readCssColor());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "match":
+                value.setMatch(readOracleMatchBehavior());
+                return true;
+            case "replaces":
+                value.setReplaces(readOracleRollableId());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "summary":
+                value.setSummary(readMarkdownString());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleColumnText2 readOracleColumnText2() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleColumnText2");
+        return readOracleColumnText2Fields(new OracleColumnText2());
+    }
+
+    private OracleColumnText2 readOracleColumnText2Fields(OracleColumnText2 value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleColumnText2Field(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleColumnText2Field(OracleColumnText2 value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readOracleRollableId());
+                return true;
+            case "dice":
+                value.setDice(readDiceExpression());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "oracle_type":
+                value.setOracleType(readOracleColumnText2OracleType());
+                return true;
+            case "rows":
+                value.setRows(readListOfOracleTableRowText2());
+                return true;
+            case "type":
+                value.setType(readOracleColumnText2Type());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "color":
+                value.setColor(readCssColor());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "match":
+                value.setMatch(readOracleMatchBehavior());
+                return true;
+            case "replaces":
+                value.setReplaces(readOracleRollableId());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "summary":
+                value.setSummary(readMarkdownString());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleColumnText2OracleType readOracleColumnText2OracleType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "column_text2":
+                return OracleColumnText2OracleType.COLUMN_TEXT2;
+            default:
+                throw unknownEnumValue("OracleColumnText2OracleType");
+        }
+    }
+
+    public OracleColumnText2Type readOracleColumnText2Type() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "oracle_rollable":
+                return OracleColumnText2Type.ORACLE_ROLLABLE;
+            default:
+                throw unknownEnumValue("OracleColumnText2Type");
+        }
+    }
+
+    public OracleColumnText3 readOracleColumnText3() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleColumnText3");
+        return readOracleColumnText3Fields(new OracleColumnText3());
+    }
+
+    private OracleColumnText3 readOracleColumnText3Fields(OracleColumnText3 value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleColumnText3Field(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleColumnText3Field(OracleColumnText3 value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readOracleRollableId());
+                return true;
+            case "dice":
+                value.setDice(readDiceExpression());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "oracle_type":
+                value.setOracleType(readOracleColumnText3OracleType());
+                return true;
+            case "rows":
+                value.setRows(readListOfOracleTableRowText3());
+                return true;
+            case "type":
+                value.setType(readOracleColumnText3Type());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "color":
+                value.setColor(readCssColor());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "match":
+                value.setMatch(readOracleMatchBehavior());
+                return true;
+            case "replaces":
+                value.setReplaces(readOracleRollableId());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "summary":
+                value.setSummary(readMarkdownString());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleColumnText3OracleType readOracleColumnText3OracleType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "column_text3":
+                return OracleColumnText3OracleType.COLUMN_TEXT3;
+            default:
+                throw unknownEnumValue("OracleColumnText3OracleType");
+        }
+    }
+
+    public OracleColumnText3Type readOracleColumnText3Type() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "oracle_rollable":
+                return OracleColumnText3Type.ORACLE_ROLLABLE;
+            default:
+                throw unknownEnumValue("OracleColumnText3Type");
+        }
+    }
+
+    public OracleColumnTextOracleType readOracleColumnTextOracleType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "column_text":
+                return OracleColumnTextOracleType.COLUMN_TEXT;
+            default:
+                throw unknownEnumValue("OracleColumnTextOracleType");
+        }
+    }
+
+    public OracleColumnTextType readOracleColumnTextType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "oracle_rollable":
+                return OracleColumnTextType.ORACLE_ROLLABLE;
+            default:
+                throw unknownEnumValue("OracleColumnTextType");
+        }
+    }
+
+    public OracleDuplicateBehavior readOracleDuplicateBehavior() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "keep":
+                return OracleDuplicateBehavior.KEEP;
+            case "make_it_worse":
+                return OracleDuplicateBehavior.MAKE_IT_WORSE;
+            case "reroll":
+                return OracleDuplicateBehavior.REROLL;
+            default:
+                throw unknownEnumValue("OracleDuplicateBehavior");
+        }
+    }
+
+    public OracleMatchBehavior readOracleMatchBehavior() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleMatchBehavior");
+        return readOracleMatchBehaviorFields(new OracleMatchBehavior());
+    }
+
+    private OracleMatchBehavior readOracleMatchBehaviorFields(OracleMatchBehavior value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleMatchBehaviorField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleMatchBehaviorField(OracleMatchBehavior value, String field) throws IOException {
+        switch (field) {
+            case "text":
+                value.setText(readMarkdownString());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleRoll readOracleRoll() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleRoll");
+        return readOracleRollFields(new OracleRoll());
+    }
+
+    private OracleRoll readOracleRollFields(OracleRoll value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleRollField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleRollField(OracleRoll value, String field) throws IOException {
+        switch (field) {
+            case "auto":
+                value.setAuto(readBoolean());
+                return true;
+            case "dice":
+                value.setDice(readDiceExpression());
+                return true;
+            case "duplicates":
+                value.setDuplicates(readOracleDuplicateBehavior());
+                return true;
+            case "number_of_rolls":
+                value.setNumberOfRolls(readShort());
+                return true;
+            case "oracle":
+                value.setOracle(readOracleRollableId());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleRollTemplate readOracleRollTemplate() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleRollTemplate");
+        return readOracleRollTemplateFields(new OracleRollTemplate());
+    }
+
+    private OracleRollTemplate readOracleRollTemplateFields(OracleRollTemplate value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleRollTemplateField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleRollTemplateField(OracleRollTemplate value, String field) throws IOException {
+        switch (field) {
+            case "text":
+                value.setText(readTemplateString());
+                return true;
+            case "text2":
+                value.setText2(readTemplateString());
+                return true;
+            case "text3":
+                value.setText3(readTemplateString());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleRollableId readOracleRollableId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ids.intern(OracleRollableId.class, parser.getText(), OracleRollableId::new);
+    }
+
+    public OracleTableRollable readOracleTableRollable() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleTableRollable");
+        JsonParser outer = parser;
+        String tag = discriminator("OracleTableRollable", "oracle_type");
+        OracleTableRollable value;
+        switch (tag) {
+            case "table_text":
+                value = readOracleTableRollableTableTextFields(new OracleTableRollableTableText());
+                break;
+            case "table_text2":
+                value = readOracleTableRollableTableText2Fields(new OracleTableRollableTableText2());
+                break;
+            case "table_text3":
+                value = readOracleTableRollableTableText3Fields(new OracleTableRollableTableText3());
+                break;
+            default:
+                throw unknownDiscriminator("OracleTableRollable", "oracle_type", tag);
+        }
+        parser = outer;
+        return value;
+    }
+
+    public OracleTableRollableTableText readOracleTableRollableTableText() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleTableRollableTableText");
+        return readOracleTableRollableTableTextFields(new OracleTableRollableTableText());
+    }
+
+    private OracleTableRollableTableText readOracleTableRollableTableTextFields(OracleTableRollableTableText value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleTableRollableTableTextField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleTableRollableTableTextField(OracleTableRollableTableText value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readOracleRollableId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "column_labels":
+                value.setColumnLabels(readOracleTableRollableTableTextColumnLabels());
+                return true;
+            case "dice":
+                value.setDice(readDiceExpression());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "rows":
+                value.setRows(readListOfOracleTableRowText());
+                return true;
+            case "type":
+                value.setType(readOracleTableRollableTableTextType());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "match":
+                value.setMatch(readOracleMatchBehavior());
+                return true;
+            case "recommended_rolls":
+                value.setRecommendedRolls(readOracleTableRollableTableTextRecommendedRolls());
+                return true;
+            case "replaces":
+                value.setReplaces(readOracleRollableId());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "summary":
+                value.setSummary(readMarkdownString());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleTableRollableTableText2 readOracleTableRollableTableText2() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleTableRollableTableText2");
+        return readOracleTableRollableTableText2Fields(new OracleTableRollableTableText2());
+    }
+
+    private OracleTableRollableTableText2 readOracleTableRollableTableText2Fields(OracleTableRollableTableText2 value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleTableRollableTableText2Field(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleTableRollableTableText2Field(OracleTableRollableTableText2 value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readOracleRollableId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "column_labels":
+                value.setColumnLabels(readOracleTableRollableTableText2ColumnLabels());
+                return true;
+            case "dice":
+                value.setDice(readDiceExpression());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "rows":
+                value.setRows(readListOfOracleTableRowText2());
+                return true;
+            case "type":
+                value.setType(readOracleTableRollableTableText2Type());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "match":
+                value.setMatch(readOracleMatchBehavior());
+                return true;
+            case "recommended_rolls":
+                value.setRecommendedRolls(readOracleTableRollableTableText2RecommendedRolls());
+                return true;
+            case "replaces":
+                value.setReplaces(readOracleRollableId());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "summary":
+                value.setSummary(readMarkdownString());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleTableRollableTableText2ColumnLabels readOracleTableRollableTableText2ColumnLabels() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleTableRollableTableText2ColumnLabels");
+        return readOracleTableRollableTableText2ColumnLabelsFields(new OracleTableRollableTableText2ColumnLabels());
+    }
+
+    private OracleTableRollableTableText2ColumnLabels readOracleTableRollableTableText2ColumnLabelsFields(OracleTableRollableTableText2ColumnLabels value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleTableRollableTableText2ColumnLabelsField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleTableRollableTableText2ColumnLabelsField(OracleTableRollableTableText2ColumnLabels value, String field) throws IOException {
+        switch (field) {
+            case "roll":
+                value.setRoll(readLabel());
+                return true;
+            case "text":
+                value.setText(readLabel());
+                return true;
+            case "text2":
+                value.setText2(readLabel());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleTableRollableTableText2RecommendedRolls readOracleTableRollableTableText2RecommendedRolls() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleTableRollableTableText2RecommendedRolls");
+        return readOracleTableRollableTableText2RecommendedRollsFields(new OracleTableRollableTableText2RecommendedRolls());
+    }
+
+    private OracleTableRollableTableText2RecommendedRolls readOracleTableRollableTableText2RecommendedRollsFields(OracleTableRollableTableText2RecommendedRolls value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleTableRollableTableText2RecommendedRollsField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleTableRollableTableText2RecommendedRollsField(OracleTableRollableTableText2RecommendedRolls value, String field) throws IOException {
+        switch (field) {
+            case "max":
+                value.setMax(readShort());
+                return true;
+            case "min":
+                value.setMin(readShort());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleTableRollableTableText2Type readOracleTableRollableTableText2Type() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "oracle_rollable":
+                return OracleTableRollableTableText2Type.ORACLE_ROLLABLE;
+            default:
+                throw unknownEnumValue("OracleTableRollableTableText2Type");
+        }
+    }
+
+    public OracleTableRollableTableText3 readOracleTableRollableTableText3() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleTableRollableTableText3");
+        return readOracleTableRollableTableText3Fields(new OracleTableRollableTableText3());
+    }
+
+    private OracleTableRollableTableText3 readOracleTableRollableTableText3Fields(OracleTableRollableTableText3 value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleTableRollableTableText3Field(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleTableRollableTableText3Field(OracleTableRollableTableText3 value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readOracleRollableId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "column_labels":
+                value.setColumnLabels(readOracleTableRollableTableText3ColumnLabels());
+                return true;
+            case "dice":
+                value.setDice(readDiceExpression());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "rows":
+                value.setRows(readListOfOracleTableRowText3());
+                return true;
+            case "type":
+                value.setType(readOracleTableRollableTableText3Type());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "match":
+                value.setMatch(readOracleMatchBehavior());
+                return true;
+            case "recommended_rolls":
+                value.setRecommendedRolls(readOracleTableRollableTableText3RecommendedRolls());
+                return true;
+            case "replaces":
+                value.setReplaces(readOracleRollableId());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "summary":
+                value.setSummary(readMarkdownString());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleTableRollableTableText3ColumnLabels readOracleTableRollableTableText3ColumnLabels() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleTableRollableTableText3ColumnLabels");
+        return readOracleTableRollableTableText3ColumnLabelsFields(new OracleTableRollableTableText3ColumnLabels());
+    }
+
+    private OracleTableRollableTableText3ColumnLabels readOracleTableRollableTableText3ColumnLabelsFields(OracleTableRollableTableText3ColumnLabels value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleTableRollableTableText3ColumnLabelsField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleTableRollableTableText3ColumnLabelsField(OracleTableRollableTableText3ColumnLabels value, String field) throws IOException {
+        switch (field) {
+            case "roll":
+                value.setRoll(readLabel());
+                return true;
+            case "text":
+                value.setText(readLabel());
+                return true;
+            case "text2":
+                value.setText2(readLabel());
+                return true;
+            case "text3":
+                value.setText3(readLabel());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleTableRollableTableText3RecommendedRolls readOracleTableRollableTableText3RecommendedRolls() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleTableRollableTableText3RecommendedRolls");
+        return readOracleTableRollableTableText3RecommendedRollsFields(new OracleTableRollableTableText3RecommendedRolls());
+    }
+
+    private OracleTableRollableTableText3RecommendedRolls readOracleTableRollableTableText3RecommendedRollsFields(OracleTableRollableTableText3RecommendedRolls value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleTableRollableTableText3RecommendedRollsField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleTableRollableTableText3RecommendedRollsField(OracleTableRollableTableText3RecommendedRolls value, String field) throws IOException {
+        switch (field) {
+            case "max":
+                value.setMax(readShort());
+                return true;
+            case "min":
+                value.setMin(readShort());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleTableRollableTableText3Type readOracleTableRollableTableText3Type() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "oracle_rollable":
+                return OracleTableRollableTableText3Type.ORACLE_ROLLABLE;
+            default:
+                throw unknownEnumValue("OracleTableRollableTableText3Type");
+        }
+    }
+
+    public OracleTableRollableTableTextColumnLabels readOracleTableRollableTableTextColumnLabels() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleTableRollableTableTextColumnLabels");
+        return readOracleTableRollableTableTextColumnLabelsFields(new OracleTableRollableTableTextColumnLabels());
+    }
+
+    private OracleTableRollableTableTextColumnLabels readOracleTableRollableTableTextColumnLabelsFields(OracleTableRollableTableTextColumnLabels value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleTableRollableTableTextColumnLabelsField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleTableRollableTableTextColumnLabelsField(OracleTableRollableTableTextColumnLabels value, String field) throws IOException {
+        switch (field) {
+            case "roll":
+                value.setRoll(readLabel());
+                return true;
+            case "text":
+                value.setText(readLabel());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleTableRollableTableTextRecommendedRolls readOracleTableRollableTableTextRecommendedRolls() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleTableRollableTableTextRecommendedRolls");
+        return readOracleTableRollableTableTextRecommendedRollsFields(new OracleTableRollableTableTextRecommendedRolls());
+    }
+
+    private OracleTableRollableTableTextRecommendedRolls readOracleTableRollableTableTextRecommendedRollsFields(OracleTableRollableTableTextRecommendedRolls value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleTableRollableTableTextRecommendedRollsField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleTableRollableTableTextRecommendedRollsField(OracleTableRollableTableTextRecommendedRolls value, String field) throws IOException {
+        switch (field) {
+            case "max":
+                value.setMax(readShort());
+                return true;
+            case "min":
+                value.setMin(readShort());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleTableRollableTableTextType readOracleTableRollableTableTextType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "oracle_rollable":
+                return OracleTableRollableTableTextType.ORACLE_ROLLABLE;
+            default:
+                throw unknownEnumValue("OracleTableRollableTableTextType");
+        }
+    }
+
+    public OracleTableRowText readOracleTableRowText() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleTableRowText");
+        return readOracleTableRowTextFields(new OracleTableRowText());
+    }
+
+    private OracleTableRowText readOracleTableRowTextFields(OracleTableRowText value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleTableRowTextField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleTableRowTextField(OracleTableRowText value, String field) throws IOException {
+        switch (field) {
+            case "max":
+                value.setMax(readShort());
+                return true;
+            case "min":
+                value.setMin(readShort());
+                return true;
+            case "text":
+                value.setText(readMarkdownString());
+                return true;
+            case "_i18n":
+                value.setI18n(readI18nHints());
+                return true;
+            case "embed_table":
+                value.setEmbedTable(readOracleRollableId());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "oracle_rolls":
+                value.setOracleRolls(readListOfOracleRoll());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "template":
+                value.setTemplate(readOracleRollTemplate());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleTableRowText2 readOracleTableRowText2() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleTableRowText2");
+        return readOracleTableRowText2Fields(new OracleTableRowText2());
+    }
+
+    private OracleTableRowText2 readOracleTableRowText2Fields(OracleTableRowText2 value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleTableRowText2Field(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleTableRowText2Field(OracleTableRowText2 value, String field) throws IOException {
+        switch (field) {
+            case "max":
+                value.setMax(readShort());
+                return true;
+            case "min":
+                value.setMin(readShort());
+                return true;
+            case "text":
+                value.setText(readMarkdownString());
+                return true;
+            case "text2":
+                value.setText2(readMarkdownString());
+                return true;
+            case "_i18n":
+                value.setI18n(readI18nHints());
+                return true;
+            case "embed_table":
+                value.setEmbedTable(readOracleRollableId());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "oracle_rolls":
+                value.setOracleRolls(readListOfOracleRoll());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "template":
+                value.setTemplate(readOracleRollTemplate());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleTableRowText3 readOracleTableRowText3() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleTableRowText3");
+        return readOracleTableRowText3Fields(new OracleTableRowText3());
+    }
+
+    private OracleTableRowText3 readOracleTableRowText3Fields(OracleTableRowText3 value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleTableRowText3Field(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleTableRowText3Field(OracleTableRowText3 value, String field) throws IOException {
+        switch (field) {
+            case "max":
+                value.setMax(readShort());
+                return true;
+            case "min":
+                value.setMin(readShort());
+                return true;
+            case "text":
+                value.setText(readMarkdownString());
+                return true;
+            case "text2":
+                value.setText2(readMarkdownString());
+                return true;
+            case "text3":
+                value.setText3(readMarkdownString());
+                return true;
+            case "_i18n":
+                value.setI18n(readI18nHints());
+                return true;
+            case "embed_table":
+                value.setEmbedTable(readOracleRollableId());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "oracle_rolls":
+                value.setOracleRolls(readListOfOracleRoll());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "template":
+                value.setTemplate(readOracleRollTemplate());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleTablesCollection readOracleTablesCollection() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("OracleTablesCollection");
+        return readOracleTablesCollectionFields(new OracleTablesCollection());
+    }
+
+    private OracleTablesCollection readOracleTablesCollectionFields(OracleTablesCollection value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readOracleTablesCollectionField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readOracleTablesCollectionField(OracleTablesCollection value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readOracleCollectionId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "oracle_type":
+                value.setOracleType(readOracleTablesCollectionOracleType());
+                return true;
+            case "type":
+                value.setType(readOracleTablesCollectionType());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "collections":
+                value.setCollections(readMapOfOracleCollection());
+                return true;
+            case "color":
+                value.setColor(readCssColor());
+                return true;
+            case "contents":
+                value.setContents(readMapOfOracleTableRollable());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "enhances":
+                value.setEnhances(readOracleCollectionId());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "images":
+                value.setImages(readListOfWebpImageUrl());
+                return true;
+            case "replaces":
+                value.setReplaces(readOracleCollectionId());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "summary":
+                value.setSummary(readMarkdownString());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public OracleTablesCollectionOracleType readOracleTablesCollectionOracleType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "tables":
+                return OracleTablesCollectionOracleType.TABLES;
+            default:
+                throw unknownEnumValue("OracleTablesCollectionOracleType");
+        }
+    }
+
+    public OracleTablesCollectionType readOracleTablesCollectionType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "oracle_collection":
+                return OracleTablesCollectionType.ORACLE_COLLECTION;
+            default:
+                throw unknownEnumValue("OracleTablesCollectionType");
+        }
+    }
+
+    public PartOfSpeech readPartOfSpeech() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "adjective":
+                return PartOfSpeech.ADJECTIVE;
+            case "adjective_as_proper_noun":
+                return PartOfSpeech.ADJECTIVE_AS_PROPER_NOUN;
+            case "adjunct_common_noun":
+                return PartOfSpeech.ADJUNCT_COMMON_NOUN;
+            case "adjunct_proper_noun":
+                return PartOfSpeech.ADJUNCT_PROPER_NOUN;
+            case "attributive_verb":
+                return PartOfSpeech.ATTRIBUTIVE_VERB;
+            case "common_noun":
+                return PartOfSpeech.COMMON_NOUN;
+            case "common_noun_as_proper_noun":
+                return PartOfSpeech.COMMON_NOUN_AS_PROPER_NOUN;
+            case "gerund":
+                return PartOfSpeech.GERUND;
+            case "proper_noun":
+                return PartOfSpeech.PROPER_NOUN;
+            case "verb":
+                return PartOfSpeech.VERB;
+            default:
+                throw unknownEnumValue("PartOfSpeech");
+        }
+    }
+
+    public ProgressRollMethod readProgressRollMethod() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "miss":
+                return ProgressRollMethod.MISS;
+            case "progress_roll":
+                return ProgressRollMethod.PROGRESS_ROLL;
+            case "strong_hit":
+                return ProgressRollMethod.STRONG_HIT;
+            case "weak_hit":
+                return ProgressRollMethod.WEAK_HIT;
+            default:
+                throw unknownEnumValue("ProgressRollMethod");
+        }
+    }
+
+    public ProgressRollOption readProgressRollOption() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("ProgressRollOption");
+        return readProgressRollOptionFields(new ProgressRollOption());
+    }
+
+    private ProgressRollOption readProgressRollOptionFields(ProgressRollOption value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readProgressRollOptionField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readProgressRollOptionField(ProgressRollOption value, String field) throws IOException {
+        switch (field) {
+            case "using":
+                value.setUsing(readProgressRollOptionUsing());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public ProgressRollOptionUsing readProgressRollOptionUsing() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "progress_track":
+                return ProgressRollOptionUsing.PROGRESS_TRACK;
+            default:
+                throw unknownEnumValue("ProgressRollOptionUsing");
+        }
+    }
+
+    public ProgressTrackTypeInfo readProgressTrackTypeInfo() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("ProgressTrackTypeInfo");
+        return readProgressTrackTypeInfoFields(new ProgressTrackTypeInfo());
+    }
+
+    private ProgressTrackTypeInfo readProgressTrackTypeInfoFields(ProgressTrackTypeInfo value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readProgressTrackTypeInfoField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readProgressTrackTypeInfoField(ProgressTrackTypeInfo value, String field) throws IOException {
+        switch (field) {
+            case "category":
+                value.setCategory(readLabel());
+                return true;
+            case "controls":
+                value.setControls(readMapOfObject());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public Rarity readRarity() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Rarity");
+        return readRarityFields(new Rarity());
+    }
+
+    private Rarity readRarityFields(Rarity value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readRarityField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readRarityField(Rarity value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readRarityId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "asset":
+                value.setAsset(readAssetId());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "type":
+                value.setType(readRarityType());
+                return true;
+            case "xp_cost":
+                value.setXpCost(readShort());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public RarityId readRarityId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ids.intern(RarityId.class, parser.getText(), RarityId::new);
+    }
+
+    public RarityType readRarityType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "rarity":
+                return RarityType.RARITY;
+            default:
+                throw unknownEnumValue("RarityType");
+        }
+    }
+
+    public RollableValue readRollableValue() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("RollableValue");
+        JsonParser outer = parser;
+        String tag = discriminator("RollableValue", "using");
+        RollableValue value;
+        switch (tag) {
+            case "asset_control":
+                value = readRollableValueAssetControlFields(new RollableValueAssetControl());
+                break;
+            case "asset_option":
+                value = readRollableValueAssetOptionFields(new RollableValueAssetOption());
+                break;
+            case "attached_asset_control":
+                value = readRollableValueAttachedAssetControlFields(new RollableValueAttachedAssetControl());
+                break;
+            case "attached_asset_option":
+                value = readRollableValueAttachedAssetOptionFields(new RollableValueAttachedAssetOption());
+                break;
+            case "condition_meter":
+                value = readRollableValueConditionMeterFields(new RollableValueConditionMeter());
+                break;
+            case "custom":
+                value = readRollableValueCustomFields(new RollableValueCustom());
+                break;
+            case "stat":
+                value = readRollableValueStatFields(new RollableValueStat());
+                break;
+            default:
+                throw unknownDiscriminator("RollableValue", "using", tag);
+        }
+        parser = outer;
+        return value;
+    }
+
+    public RollableValueAssetControl readRollableValueAssetControl() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("RollableValueAssetControl");
+        return readRollableValueAssetControlFields(new RollableValueAssetControl());
+    }
+
+    private RollableValueAssetControl readRollableValueAssetControlFields(RollableValueAssetControl value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readRollableValueAssetControlField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readRollableValueAssetControlField(RollableValueAssetControl value, String field) throws IOException {
+        switch (field) {
+            case "assets":
+                value.setAssets(readListOfAssetIdWildcard());
+                return true;
+            case "control":
+                value.setControl(readDictKey());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public RollableValueAssetOption readRollableValueAssetOption() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("RollableValueAssetOption");
+        return readRollableValueAssetOptionFields(new RollableValueAssetOption());
+    }
+
+    private RollableValueAssetOption readRollableValueAssetOptionFields(RollableValueAssetOption value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readRollableValueAssetOptionField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readRollableValueAssetOptionField(RollableValueAssetOption value, String field) throws IOException {
+        switch (field) {
+            case "assets":
+                value.setAssets(readListOfAssetIdWildcard());
+                return true;
+            case "option":
+                value.setOption(readDictKey());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public RollableValueAttachedAssetControl readRollableValueAttachedAssetControl() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("RollableValueAttachedAssetControl");
+        return readRollableValueAttachedAssetControlFields(new RollableValueAttachedAssetControl());
+    }
+
+    private RollableValueAttachedAssetControl readRollableValueAttachedAssetControlFields(RollableValueAttachedAssetControl value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readRollableValueAttachedAssetControlField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readRollableValueAttachedAssetControlField(RollableValueAttachedAssetControl value, String field) throws IOException {
+        switch (field) {
+            case "control":
+                value.setControl(readDictKey());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public RollableValueAttachedAssetOption readRollableValueAttachedAssetOption() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("RollableValueAttachedAssetOption");
+        return readRollableValueAttachedAssetOptionFields(new RollableValueAttachedAssetOption());
+    }
+
+    private RollableValueAttachedAssetOption readRollableValueAttachedAssetOptionFields(RollableValueAttachedAssetOption value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readRollableValueAttachedAssetOptionField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readRollableValueAttachedAssetOptionField(RollableValueAttachedAssetOption value, String field) throws IOException {
+        switch (field) {
+            case "option":
+                value.setOption(readDictKey());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public RollableValueConditionMeter readRollableValueConditionMeter() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("RollableValueConditionMeter");
+        return readRollableValueConditionMeterFields(new RollableValueConditionMeter());
+    }
+
+    private RollableValueConditionMeter readRollableValueConditionMeterFields(RollableValueConditionMeter value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readRollableValueConditionMeterField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readRollableValueConditionMeterField(RollableValueConditionMeter value, String field) throws IOException {
+        switch (field) {
+            case "condition_meter":
+                value.setConditionMeter(readConditionMeterKey());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public RollableValueCustom readRollableValueCustom() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("RollableValueCustom");
+        return readRollableValueCustomFields(new RollableValueCustom());
+    }
+
+    private RollableValueCustom readRollableValueCustomFields(RollableValueCustom value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readRollableValueCustomField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readRollableValueCustomField(RollableValueCustom value, String field) throws IOException {
+        switch (field) {
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "value":
+                value.setValue(readShort());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public RollableValueStat readRollableValueStat() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("RollableValueStat");
+        return readRollableValueStatFields(new RollableValueStat());
+    }
+
+    private RollableValueStat readRollableValueStatFields(RollableValueStat value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readRollableValueStatField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readRollableValueStatField(RollableValueStat value, String field) throws IOException {
+        switch (field) {
+            case "stat":
+                value.setStat(readStatKey());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public Rules readRules() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Rules");
+        return readRulesFields(new Rules());
+    }
+
+    private Rules readRulesFields(Rules value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readRulesField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readRulesField(Rules value, String field) throws IOException {
+        switch (field) {
+            case "condition_meters":
+                value.setConditionMeters(readMapOfConditionMeterRule());
+                return true;
+            case "impacts":
+                value.setImpacts(readMapOfImpactCategory());
+                return true;
+            case "special_tracks":
+                value.setSpecialTracks(readMapOfSpecialTrackRule());
+                return true;
+            case "stats":
+                value.setStats(readMapOfStatRule());
+                return true;
+            case "tags":
+                value.setTags(readMapOfTagRule());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public RulesExpansion readRulesExpansion() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("RulesExpansion");
+        return readRulesExpansionFields(new RulesExpansion());
+    }
+
+    private RulesExpansion readRulesExpansionFields(RulesExpansion value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readRulesExpansionField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readRulesExpansionField(RulesExpansion value, String field) throws IOException {
+        switch (field) {
+            case "condition_meters":
+                value.setConditionMeters(readMapOfConditionMeterRule());
+                return true;
+            case "impacts":
+                value.setImpacts(readMapOfImpactCategory());
+                return true;
+            case "special_tracks":
+                value.setSpecialTracks(readMapOfSpecialTrackRule());
+                return true;
+            case "stats":
+                value.setStats(readMapOfStatRule());
+                return true;
+            case "tags":
+                value.setTags(readMapOfTagRule());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public RulesPackage readRulesPackage() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("RulesPackage");
+        JsonParser outer = parser;
+        String tag = discriminator("RulesPackage", "type");
+        RulesPackage value;
+        switch (tag) {
+            case "expansion":
+                value = readRulesPackageExpansionFields(new RulesPackageExpansion());
+                break;
+            case "ruleset":
+                value = readRulesPackageRulesetFields(new RulesPackageRuleset());
+                break;
+            default:
+                throw unknownDiscriminator("RulesPackage", "type", tag);
+        }
+        parser = outer;
+        return value;
+    }
+
+    public RulesPackageExpansion readRulesPackageExpansion() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("RulesPackageExpansion");
+        return readRulesPackageExpansionFields(new RulesPackageExpansion());
+    }
+
+    private RulesPackageExpansion readRulesPackageExpansionFields(RulesPackageExpansion value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readRulesPackageExpansionField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readRulesPackageExpansionField(RulesPackageExpansion value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readExpansionId());
+                return true;
+            case "datasworn_version":
+                value.setDataswornVersion(readRulesPackageExpansionDataswornVersion());
+                return true;
+            case "ruleset":
+                value.setRuleset(readRulesetId());
+                return true;
+            case "assets":
+                value.setAssets(readMapOfAssetCollection());
+                return true;
+            case "atlas":
+                value.setAtlas(readMapOfAtlasCollection());
+                return true;
+            case "authors":
+                value.setAuthors(readListOfAuthorInfo());
+                return true;
+            case "date":
+                value.setDate(readOffsetDateTime());
+                return true;
+            case "delve_sites":
+                value.setDelveSites(readMapOfDelveSite());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "license":
+                value.setLicense(readLicense());
+                return true;
+            case "moves":
+                value.setMoves(readMapOfMoveCategory());
+                return true;
+            case "npcs":
+                value.setNpcs(readMapOfNpcCollection());
+                return true;
+            case "oracles":
+                value.setOracles(readMapOfOracleTablesCollection());
+                return true;
+            case "rarities":
+                value.setRarities(readMapOfRarity());
+                return true;
+            case "rules":
+                value.setRules(readRulesExpansion());
+                return true;
+            case "site_domains":
+                value.setSiteDomains(readMapOfDelveSiteDomain());
+                return true;
+            case "site_themes":
+                value.setSiteThemes(readMapOfDelveSiteTheme());
+                return true;
+            case "title":
+                value.setTitle(readString());
+                return true;
+            case "truths":
+                value.setTruths(readMapOfTruth());
+                return true;
+            case "url":
+                value.setUrl(readWebUrl());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public RulesPackageExpansionDataswornVersion readRulesPackageExpansionDataswornVersion() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "0.0.10":
+                return RulesPackageExpansionDataswornVersion.DEFAULT_NAME;
+            default:
+                throw unknownEnumValue("RulesPackageExpansionDataswornVersion");
+        }
+    }
+
+    public RulesPackageRuleset readRulesPackageRuleset() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("RulesPackageRuleset");
+        return readRulesPackageRulesetFields(new RulesPackageRuleset());
+    }
+
+    private RulesPackageRuleset readRulesPackageRulesetFields(RulesPackageRuleset value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readRulesPackageRulesetField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readRulesPackageRulesetField(RulesPackageRuleset value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readRulesetId());
+                return true;
+            case "assets":
+                value.setAssets(readMapOfAssetCollection());
+                return true;
+            case "authors":
+                value.setAuthors(readListOfAuthorInfo());
+                return true;
+            case "datasworn_version":
+                value.setDataswornVersion(readRulesPackageRulesetDataswornVersion());
+                return true;
+            case "date":
+                value.setDate(readOffsetDateTime());
+                return true;
+            case "license":
+                value.setLicense(readLicense());
+                return true;
+            case "moves":
+                value.setMoves(readMapOfMoveCategory());
+                return true;
+            case "oracles":
+                value.setOracles(readMapOfOracleTablesCollection());
+                return true;
+            case "rules":
+                value.setRules(readRules());
+                return true;
+            case "title":
+                value.setTitle(readString());
+                return true;
+            case "url":
+                value.setUrl(readWebUrl());
+                return true;
+            case "atlas":
+                value.setAtlas(readMapOfAtlasCollection());
+                return true;
+            case "delve_sites":
+                value.setDelveSites(readMapOfDelveSite());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "npcs":
+                value.setNpcs(readMapOfNpcCollection());
+                return true;
+            case "rarities":
+                value.setRarities(readMapOfRarity());
+                return true;
+            case "site_domains":
+                value.setSiteDomains(readMapOfDelveSiteDomain());
+                return true;
+            case "site_themes":
+                value.setSiteThemes(readMapOfDelveSiteTheme());
+                return true;
+            case "truths":
+                value.setTruths(readMapOfTruth());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public RulesPackageRulesetDataswornVersion readRulesPackageRulesetDataswornVersion() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "0.0.10":
+                return RulesPackageRulesetDataswornVersion.DEFAULT_NAME;
+            default:
+                throw unknownEnumValue("RulesPackageRulesetDataswornVersion");
+        }
+    }
+
+    public RulesetId readRulesetId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ids.intern(RulesetId.class, parser.getText(), RulesetId::new);
+    }
+
+    public SelectEnhancementFieldChoice readSelectEnhancementFieldChoice() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("SelectEnhancementFieldChoice");
+        return readSelectEnhancementFieldChoiceFields(new SelectEnhancementFieldChoice());
+    }
+
+    private SelectEnhancementFieldChoice readSelectEnhancementFieldChoiceFields(SelectEnhancementFieldChoice value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readSelectEnhancementFieldChoiceField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readSelectEnhancementFieldChoiceField(SelectEnhancementFieldChoice value, String field) throws IOException {
+        switch (field) {
+            case "choice_type":
+                value.setChoiceType(readSelectEnhancementFieldChoiceChoiceType());
+                return true;
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "enhance_asset":
+                value.setEnhanceAsset(readAssetEnhancement());
+                return true;
+            case "enhance_moves":
+                value.setEnhanceMoves(readListOfMoveEnhancement());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public SelectEnhancementFieldChoiceChoiceType readSelectEnhancementFieldChoiceChoiceType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "choice":
+                return SelectEnhancementFieldChoiceChoiceType.CHOICE;
+            default:
+                throw unknownEnumValue("SelectEnhancementFieldChoiceChoiceType");
+        }
+    }
+
+    public SelectValueFieldChoice readSelectValueFieldChoice() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("SelectValueFieldChoice");
+        JsonParser outer = parser;
+        String tag = discriminator("SelectValueFieldChoice", "using");
+        SelectValueFieldChoice value;
+        switch (tag) {
+            case "asset_control":
+                value = readSelectValueFieldChoiceAssetControlFields(new SelectValueFieldChoiceAssetControl());
+                break;
+            case "asset_option":
+                value = readSelectValueFieldChoiceAssetOptionFields(new SelectValueFieldChoiceAssetOption());
+                break;
+            case "attached_asset_control":
+                value = readSelectValueFieldChoiceAttachedAssetControlFields(new SelectValueFieldChoiceAttachedAssetControl());
+                break;
+            case "attached_asset_option":
+                value = readSelectValueFieldChoiceAttachedAssetOptionFields(new SelectValueFieldChoiceAttachedAssetOption());
+                break;
+            case "condition_meter":
+                value = readSelectValueFieldChoiceConditionMeterFields(new SelectValueFieldChoiceConditionMeter());
+                break;
+            case "custom":
+                value = readSelectValueFieldChoiceCustomFields(new SelectValueFieldChoiceCustom());
+                break;
+            case "stat":
+                value = readSelectValueFieldChoiceStatFields(new SelectValueFieldChoiceStat());
+                break;
+            default:
+                throw unknownDiscriminator("SelectValueFieldChoice", "using", tag);
+        }
+        parser = outer;
+        return value;
+    }
+
+    public SelectValueFieldChoiceAssetControl readSelectValueFieldChoiceAssetControl() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("SelectValueFieldChoiceAssetControl");
+        return readSelectValueFieldChoiceAssetControlFields(new SelectValueFieldChoiceAssetControl());
+    }
+
+    private SelectValueFieldChoiceAssetControl readSelectValueFieldChoiceAssetControlFields(SelectValueFieldChoiceAssetControl value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readSelectValueFieldChoiceAssetControlField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readSelectValueFieldChoiceAssetControlField(SelectValueFieldChoiceAssetControl value, String field) throws IOException {
+        switch (field) {
+            case "assets":
+                value.setAssets(readListOfAssetIdWildcard());
+                return true;
+            case "choice_type":
+                value.setChoiceType(readSelectValueFieldChoiceAssetControlChoiceType());
+                return true;
+            case "control":
+                value.setControl(readDictKey());
+                return true;
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public SelectValueFieldChoiceAssetControlChoiceType readSelectValueFieldChoiceAssetControlChoiceType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "choice":
+                return SelectValueFieldChoiceAssetControlChoiceType.CHOICE;
+            default:
+                throw unknownEnumValue("SelectValueFieldChoiceAssetControlChoiceType");
+        }
+    }
+
+    public SelectValueFieldChoiceAssetOption readSelectValueFieldChoiceAssetOption() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("SelectValueFieldChoiceAssetOption");
+        return readSelectValueFieldChoiceAssetOptionFields(new SelectValueFieldChoiceAssetOption());
+    }
+
+    private SelectValueFieldChoiceAssetOption readSelectValueFieldChoiceAssetOptionFields(SelectValueFieldChoiceAssetOption value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readSelectValueFieldChoiceAssetOptionField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readSelectValueFieldChoiceAssetOptionField(SelectValueFieldChoiceAssetOption value, String field) throws IOException {
+        switch (field) {
+            case "assets":
+                value.setAssets(readListOfAssetIdWildcard());
+                return true;
+            case "choice_type":
+                value.setChoiceType(readSelectValueFieldChoiceAssetOptionChoiceType());
+                return true;
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "option":
+                value.setOption(readDictKey());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public SelectValueFieldChoiceAssetOptionChoiceType readSelectValueFieldChoiceAssetOptionChoiceType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "choice":
+                return SelectValueFieldChoiceAssetOptionChoiceType.CHOICE;
+            default:
+                throw unknownEnumValue("SelectValueFieldChoiceAssetOptionChoiceType");
+        }
+    }
+
+    public SelectValueFieldChoiceAttachedAssetControl readSelectValueFieldChoiceAttachedAssetControl() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("SelectValueFieldChoiceAttachedAssetControl");
+        return readSelectValueFieldChoiceAttachedAssetControlFields(new SelectValueFieldChoiceAttachedAssetControl());
+    }
+
+    private SelectValueFieldChoiceAttachedAssetControl readSelectValueFieldChoiceAttachedAssetControlFields(SelectValueFieldChoiceAttachedAssetControl value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readSelectValueFieldChoiceAttachedAssetControlField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readSelectValueFieldChoiceAttachedAssetControlField(SelectValueFieldChoiceAttachedAssetControl value, String field) throws IOException {
+        switch (field) {
+            case "choice_type":
+                value.setChoiceType(readSelectValueFieldChoiceAttachedAssetControlChoiceType());
+                return true;
+            case "control":
+                value.setControl(readDictKey());
+                return true;
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public SelectValueFieldChoiceAttachedAssetControlChoiceType readSelectValueFieldChoiceAttachedAssetControlChoiceType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "choice":
+                return SelectValueFieldChoiceAttachedAssetControlChoiceType.CHOICE;
+            default:
+                throw unknownEnumValue("SelectValueFieldChoiceAttachedAssetControlChoiceType");
+        }
+    }
+
+    public SelectValueFieldChoiceAttachedAssetOption readSelectValueFieldChoiceAttachedAssetOption() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("SelectValueFieldChoiceAttachedAssetOption");
+        return readSelectValueFieldChoiceAttachedAssetOptionFields(new SelectValueFieldChoiceAttachedAssetOption());
+    }
+
+    private SelectValueFieldChoiceAttachedAssetOption readSelectValueFieldChoiceAttachedAssetOptionFields(SelectValueFieldChoiceAttachedAssetOption value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readSelectValueFieldChoiceAttachedAssetOptionField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readSelectValueFieldChoiceAttachedAssetOptionField(SelectValueFieldChoiceAttachedAssetOption value, String field) throws IOException {
+        switch (field) {
+            case "choice_type":
+                value.setChoiceType(readSelectValueFieldChoiceAttachedAssetOptionChoiceType());
+                return true;
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "option":
+                value.setOption(readDictKey());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public SelectValueFieldChoiceAttachedAssetOptionChoiceType readSelectValueFieldChoiceAttachedAssetOptionChoiceType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "choice":
+                return SelectValueFieldChoiceAttachedAssetOptionChoiceType.CHOICE;
+            default:
+                throw unknownEnumValue("SelectValueFieldChoiceAttachedAssetOptionChoiceType");
+        }
+    }
+
+    public SelectValueFieldChoiceConditionMeter readSelectValueFieldChoiceConditionMeter() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("SelectValueFieldChoiceConditionMeter");
+        return readSelectValueFieldChoiceConditionMeterFields(new SelectValueFieldChoiceConditionMeter());
+    }
+
+    private SelectValueFieldChoiceConditionMeter readSelectValueFieldChoiceConditionMeterFields(SelectValueFieldChoiceConditionMeter value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readSelectValueFieldChoiceConditionMeterField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readSelectValueFieldChoiceConditionMeterField(SelectValueFieldChoiceConditionMeter value, String field) throws IOException {
+        switch (field) {
+            case "choice_type":
+                value.setChoiceType(readSelectValueFieldChoiceConditionMeterChoiceType());
+                return true;
+            case "condition_meter":
+                value.setConditionMeter(readConditionMeterKey());
+                return true;
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public SelectValueFieldChoiceConditionMeterChoiceType readSelectValueFieldChoiceConditionMeterChoiceType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "choice":
+                return SelectValueFieldChoiceConditionMeterChoiceType.CHOICE;
+            default:
+                throw unknownEnumValue("SelectValueFieldChoiceConditionMeterChoiceType");
+        }
+    }
+
+    public SelectValueFieldChoiceCustom readSelectValueFieldChoiceCustom() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("SelectValueFieldChoiceCustom");
+        return readSelectValueFieldChoiceCustomFields(new SelectValueFieldChoiceCustom());
+    }
+
+    private SelectValueFieldChoiceCustom readSelectValueFieldChoiceCustomFields(SelectValueFieldChoiceCustom value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readSelectValueFieldChoiceCustomField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readSelectValueFieldChoiceCustomField(SelectValueFieldChoiceCustom value, String field) throws IOException {
+        switch (field) {
+            case "choice_type":
+                value.setChoiceType(readSelectValueFieldChoiceCustomChoiceType());
+                return true;
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "value":
+                value.setValue(readShort());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public SelectValueFieldChoiceCustomChoiceType readSelectValueFieldChoiceCustomChoiceType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "choice":
+                return SelectValueFieldChoiceCustomChoiceType.CHOICE;
+            default:
+                throw unknownEnumValue("SelectValueFieldChoiceCustomChoiceType");
+        }
+    }
+
+    public SelectValueFieldChoiceStat readSelectValueFieldChoiceStat() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("SelectValueFieldChoiceStat");
+        return readSelectValueFieldChoiceStatFields(new SelectValueFieldChoiceStat());
+    }
+
+    private SelectValueFieldChoiceStat readSelectValueFieldChoiceStatFields(SelectValueFieldChoiceStat value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readSelectValueFieldChoiceStatField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readSelectValueFieldChoiceStatField(SelectValueFieldChoiceStat value, String field) throws IOException {
+        switch (field) {
+            case "choice_type":
+                value.setChoiceType(readSelectValueFieldChoiceStatChoiceType());
+                return true;
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "stat":
+                value.setStat(readStatKey());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public SelectValueFieldChoiceStatChoiceType readSelectValueFieldChoiceStatChoiceType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "choice":
+                return SelectValueFieldChoiceStatChoiceType.CHOICE;
+            default:
+                throw unknownEnumValue("SelectValueFieldChoiceStatChoiceType");
+        }
+    }
+
+    public SourceInfo readSourceInfo() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("SourceInfo");
+        return readSourceInfoFields(new SourceInfo());
+    }
+
+    private SourceInfo readSourceInfoFields(SourceInfo value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readSourceInfoField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readSourceInfoField(SourceInfo value, String field) throws IOException {
+        switch (field) {
+            case "authors":
+                value.setAuthors(readListOfAuthorInfo());
+                return true;
+            case "date":
+                value.setDate(readOffsetDateTime());
+                return true;
+            case "license":
+                value.setLicense(readLicense());
+                return true;
+            case "title":
+                value.setTitle(readString());
+                return true;
+            case "url":
+                value.setUrl(readWebUrl());
+                return true;
+            case "page":
+                value.setPage(readUnsignedShort());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public SpecialTrackRollMethod readSpecialTrackRollMethod() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "all":
+                return SpecialTrackRollMethod.ALL;
+            case "highest":
+                return SpecialTrackRollMethod.HIGHEST;
+            case "lowest":
+                return SpecialTrackRollMethod.LOWEST;
+            case "miss":
+                return SpecialTrackRollMethod.MISS;
+            case "player_choice":
+                return SpecialTrackRollMethod.PLAYER_CHOICE;
+            case "strong_hit":
+                return SpecialTrackRollMethod.STRONG_HIT;
+            case "weak_hit":
+                return SpecialTrackRollMethod.WEAK_HIT;
+            default:
+                throw unknownEnumValue("SpecialTrackRollMethod");
+        }
+    }
+
+    public SpecialTrackRule readSpecialTrackRule() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("SpecialTrackRule");
+        return readSpecialTrackRuleFields(new SpecialTrackRule());
+    }
+
+    private SpecialTrackRule readSpecialTrackRuleFields(SpecialTrackRule value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readSpecialTrackRuleField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readSpecialTrackRuleField(SpecialTrackRule value, String field) throws IOException {
+        switch (field) {
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            case "optional":
+                value.setOptional(readBoolean());
+                return true;
+            case "shared":
+                value.setShared(readBoolean());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public SpecialTrackType readSpecialTrackType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return new SpecialTrackType(readDictKey());
+    }
+
+    public StatKey readStatKey() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return new StatKey(readDictKey());
+    }
+
+    public StatRule readStatRule() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("StatRule");
+        return readStatRuleFields(new StatRule());
+    }
+
+    private StatRule readStatRuleFields(StatRule value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readStatRuleField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readStatRuleField(StatRule value, String field) throws IOException {
+        switch (field) {
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "label":
+                value.setLabel(readInputLabel());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public Suggestions readSuggestions() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Suggestions");
+        return readSuggestionsFields(new Suggestions());
+    }
+
+    private Suggestions readSuggestionsFields(Suggestions value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readSuggestionsField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readSuggestionsField(Suggestions value, String field) throws IOException {
+        switch (field) {
+            case "assets":
+                value.setAssets(readListOfAssetId());
+                return true;
+            case "atlas":
+                value.setAtlas(readListOfAtlasEntryId());
+                return true;
+            case "moves":
+                value.setMoves(readListOfMoveId());
+                return true;
+            case "npcs":
+                value.setNpcs(readListOfNpcId());
+                return true;
+            case "oracles":
+                value.setOracles(readListOfOracleRollableId());
+                return true;
+            case "rarities":
+                value.setRarities(readListOfRarityId());
+                return true;
+            case "site_domains":
+                value.setSiteDomains(readListOfDelveSiteDomainId());
+                return true;
+            case "site_themes":
+                value.setSiteThemes(readListOfDelveSiteThemeId());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public SvgImageUrl readSvgImageUrl() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return new SvgImageUrl(readString());
+    }
+
+    public Tag readTag() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return new Tag(readObject());
+    }
+
+    public TagRule readTagRule() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TagRule");
+        JsonParser outer = parser;
+        String tag = discriminator("TagRule", "value_type");
+        TagRule value;
+        switch (tag) {
+            case "asset":
+                value = readTagRuleAssetFields(new TagRuleAsset());
+                break;
+            case "asset_collection":
+                value = readTagRuleAssetCollectionFields(new TagRuleAssetCollection());
+                break;
+            case "atlas_collection":
+                value = readTagRuleAtlasCollectionFields(new TagRuleAtlasCollection());
+                break;
+            case "atlas_entry":
+                value = readTagRuleAtlasEntryFields(new TagRuleAtlasEntry());
+                break;
+            case "boolean":
+                value = readTagRuleBooleanFields(new TagRuleBoolean());
+                break;
+            case "delve_site":
+                value = readTagRuleDelveSiteFields(new TagRuleDelveSite());
+                break;
+            case "delve_site_domain":
+                value = readTagRuleDelveSiteDomainFields(new TagRuleDelveSiteDomain());
+                break;
+            case "delve_site_theme":
+                value = readTagRuleDelveSiteThemeFields(new TagRuleDelveSiteTheme());
+                break;
+            case "enum":
+                value = readTagRuleEnumFields(new TagRuleEnum());
+                break;
+            case "integer":
+                value = readTagRuleIntegerFields(new TagRuleInteger());
+                break;
+            case "move":
+                value = readTagRuleMoveFields(new TagRuleMove());
+                break;
+            case "move_category":
+                value = readTagRuleMoveCategoryFields(new TagRuleMoveCategory());
+                break;
+            case "npc":
+                value = readTagRuleNpcFields(new TagRuleNpc());
+                break;
+            case "npc_collection":
+                value = readTagRuleNpcCollectionFields(new TagRuleNpcCollection());
+                break;
+            case "oracle_collection":
+                value = readTagRuleOracleCollectionFields(new TagRuleOracleCollection());
+                break;
+            case "oracle_rollable":
+                value = readTagRuleOracleRollableFields(new TagRuleOracleRollable());
+                break;
+            case "rarity":
+                value = readTagRuleRarityFields(new TagRuleRarity());
+                break;
+            case "truth":
+                value = readTagRuleTruthFields(new TagRuleTruth());
+                break;
+            default:
+                throw unknownDiscriminator("TagRule", "value_type", tag);
+        }
+        parser = outer;
+        return value;
+    }
+
+    public TagRuleAsset readTagRuleAsset() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TagRuleAsset");
+        return readTagRuleAssetFields(new TagRuleAsset());
+    }
+
+    private TagRuleAsset readTagRuleAssetFields(TagRuleAsset value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTagRuleAssetField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTagRuleAssetField(TagRuleAsset value, String field) throws IOException {
+        switch (field) {
+            case "applies_to":
+                value.setAppliesTo(readListOfObjectType());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "wildcard":
+                value.setWildcard(readBoolean());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TagRuleAssetCollection readTagRuleAssetCollection() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TagRuleAssetCollection");
+        return readTagRuleAssetCollectionFields(new TagRuleAssetCollection());
+    }
+
+    private TagRuleAssetCollection readTagRuleAssetCollectionFields(TagRuleAssetCollection value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTagRuleAssetCollectionField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTagRuleAssetCollectionField(TagRuleAssetCollection value, String field) throws IOException {
+        switch (field) {
+            case "applies_to":
+                value.setAppliesTo(readListOfObjectType());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "wildcard":
+                value.setWildcard(readBoolean());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TagRuleAtlasCollection readTagRuleAtlasCollection() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TagRuleAtlasCollection");
+        return readTagRuleAtlasCollectionFields(new TagRuleAtlasCollection());
+    }
+
+    private TagRuleAtlasCollection readTagRuleAtlasCollectionFields(TagRuleAtlasCollection value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTagRuleAtlasCollectionField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTagRuleAtlasCollectionField(TagRuleAtlasCollection value, String field) throws IOException {
+        switch (field) {
+            case "applies_to":
+                value.setAppliesTo(readListOfObjectType());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "wildcard":
+                value.setWildcard(readBoolean());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TagRuleAtlasEntry readTagRuleAtlasEntry() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TagRuleAtlasEntry");
+        return readTagRuleAtlasEntryFields(new TagRuleAtlasEntry());
+    }
+
+    private TagRuleAtlasEntry readTagRuleAtlasEntryFields(TagRuleAtlasEntry value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTagRuleAtlasEntryField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTagRuleAtlasEntryField(TagRuleAtlasEntry value, String field) throws IOException {
+        switch (field) {
+            case "applies_to":
+                value.setAppliesTo(readListOfObjectType());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "wildcard":
+                value.setWildcard(readBoolean());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TagRuleBoolean readTagRuleBoolean() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TagRuleBoolean");
+        return readTagRuleBooleanFields(new TagRuleBoolean());
+    }
+
+    private TagRuleBoolean readTagRuleBooleanFields(TagRuleBoolean value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTagRuleBooleanField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTagRuleBooleanField(TagRuleBoolean value, String field) throws IOException {
+        switch (field) {
+            case "applies_to":
+                value.setAppliesTo(readListOfObjectType());
+                return true;
+            case "array":
+                value.setArray(readBoolean());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TagRuleDelveSite readTagRuleDelveSite() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TagRuleDelveSite");
+        return readTagRuleDelveSiteFields(new TagRuleDelveSite());
+    }
+
+    private TagRuleDelveSite readTagRuleDelveSiteFields(TagRuleDelveSite value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTagRuleDelveSiteField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTagRuleDelveSiteField(TagRuleDelveSite value, String field) throws IOException {
+        switch (field) {
+            case "applies_to":
+                value.setAppliesTo(readListOfObjectType());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "wildcard":
+                value.setWildcard(readBoolean());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TagRuleDelveSiteDomain readTagRuleDelveSiteDomain() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TagRuleDelveSiteDomain");
+        return readTagRuleDelveSiteDomainFields(new TagRuleDelveSiteDomain());
+    }
+
+    private TagRuleDelveSiteDomain readTagRuleDelveSiteDomainFields(TagRuleDelveSiteDomain value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTagRuleDelveSiteDomainField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTagRuleDelveSiteDomainField(TagRuleDelveSiteDomain value, String field) throws IOException {
+        switch (field) {
+            case "applies_to":
+                value.setAppliesTo(readListOfObjectType());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "wildcard":
+                value.setWildcard(readBoolean());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TagRuleDelveSiteTheme readTagRuleDelveSiteTheme() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TagRuleDelveSiteTheme");
+        return readTagRuleDelveSiteThemeFields(new TagRuleDelveSiteTheme());
+    }
+
+    private TagRuleDelveSiteTheme readTagRuleDelveSiteThemeFields(TagRuleDelveSiteTheme value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTagRuleDelveSiteThemeField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTagRuleDelveSiteThemeField(TagRuleDelveSiteTheme value, String field) throws IOException {
+        switch (field) {
+            case "applies_to":
+                value.setAppliesTo(readListOfObjectType());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "wildcard":
+                value.setWildcard(readBoolean());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TagRuleEnum readTagRuleEnum() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TagRuleEnum");
+        return readTagRuleEnumFields(new TagRuleEnum());
+    }
+
+    private TagRuleEnum readTagRuleEnumFields(TagRuleEnum value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTagRuleEnumField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTagRuleEnumField(TagRuleEnum value, String field) throws IOException {
+        switch (field) {
+            case "applies_to":
+                value.setAppliesTo(readListOfObjectType());
+                return true;
+            case "array":
+                value.setArray(readBoolean());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "enum":
+                value.setEnum_(readListOfDictKey());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TagRuleInteger readTagRuleInteger() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TagRuleInteger");
+        return readTagRuleIntegerFields(new TagRuleInteger());
+    }
+
+    private TagRuleInteger readTagRuleIntegerFields(TagRuleInteger value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTagRuleIntegerField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTagRuleIntegerField(TagRuleInteger value, String field) throws IOException {
+        switch (field) {
+            case "applies_to":
+                value.setAppliesTo(readListOfObjectType());
+                return true;
+            case "array":
+                value.setArray(readBoolean());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TagRuleMove readTagRuleMove() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TagRuleMove");
+        return readTagRuleMoveFields(new TagRuleMove());
+    }
+
+    private TagRuleMove readTagRuleMoveFields(TagRuleMove value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTagRuleMoveField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTagRuleMoveField(TagRuleMove value, String field) throws IOException {
+        switch (field) {
+            case "applies_to":
+                value.setAppliesTo(readListOfObjectType());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "wildcard":
+                value.setWildcard(readBoolean());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TagRuleMoveCategory readTagRuleMoveCategory() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TagRuleMoveCategory");
+        return readTagRuleMoveCategoryFields(new TagRuleMoveCategory());
+    }
+
+    private TagRuleMoveCategory readTagRuleMoveCategoryFields(TagRuleMoveCategory value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTagRuleMoveCategoryField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTagRuleMoveCategoryField(TagRuleMoveCategory value, String field) throws IOException {
+        switch (field) {
+            case "applies_to":
+                value.setAppliesTo(readListOfObjectType());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "wildcard":
+                value.setWildcard(readBoolean());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TagRuleNpc readTagRuleNpc() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TagRuleNpc");
+        return readTagRuleNpcFields(new TagRuleNpc());
+    }
+
+    private TagRuleNpc readTagRuleNpcFields(TagRuleNpc value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTagRuleNpcField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTagRuleNpcField(TagRuleNpc value, String field) throws IOException {
+        switch (field) {
+            case "applies_to":
+                value.setAppliesTo(readListOfObjectType());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "wildcard":
+                value.setWildcard(readBoolean());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TagRuleNpcCollection readTagRuleNpcCollection() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TagRuleNpcCollection");
+        return readTagRuleNpcCollectionFields(new TagRuleNpcCollection());
+    }
+
+    private TagRuleNpcCollection readTagRuleNpcCollectionFields(TagRuleNpcCollection value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTagRuleNpcCollectionField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTagRuleNpcCollectionField(TagRuleNpcCollection value, String field) throws IOException {
+        switch (field) {
+            case "applies_to":
+                value.setAppliesTo(readListOfObjectType());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "wildcard":
+                value.setWildcard(readBoolean());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TagRuleOracleCollection readTagRuleOracleCollection() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TagRuleOracleCollection");
+        return readTagRuleOracleCollectionFields(new TagRuleOracleCollection());
+    }
+
+    private TagRuleOracleCollection readTagRuleOracleCollectionFields(TagRuleOracleCollection value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTagRuleOracleCollectionField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTagRuleOracleCollectionField(TagRuleOracleCollection value, String field) throws IOException {
+        switch (field) {
+            case "applies_to":
+                value.setAppliesTo(readListOfObjectType());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "wildcard":
+                value.setWildcard(readBoolean());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TagRuleOracleRollable readTagRuleOracleRollable() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TagRuleOracleRollable");
+        return readTagRuleOracleRollableFields(new TagRuleOracleRollable());
+    }
+
+    private TagRuleOracleRollable readTagRuleOracleRollableFields(TagRuleOracleRollable value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTagRuleOracleRollableField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTagRuleOracleRollableField(TagRuleOracleRollable value, String field) throws IOException {
+        switch (field) {
+            case "applies_to":
+                value.setAppliesTo(readListOfObjectType());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "wildcard":
+                value.setWildcard(readBoolean());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TagRuleRarity readTagRuleRarity() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TagRuleRarity");
+        return readTagRuleRarityFields(new TagRuleRarity());
+    }
+
+    private TagRuleRarity readTagRuleRarityFields(TagRuleRarity value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTagRuleRarityField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTagRuleRarityField(TagRuleRarity value, String field) throws IOException {
+        switch (field) {
+            case "applies_to":
+                value.setAppliesTo(readListOfObjectType());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "wildcard":
+                value.setWildcard(readBoolean());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TagRuleTruth readTagRuleTruth() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TagRuleTruth");
+        return readTagRuleTruthFields(new TagRuleTruth());
+    }
+
+    private TagRuleTruth readTagRuleTruthFields(TagRuleTruth value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTagRuleTruthField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTagRuleTruthField(TagRuleTruth value, String field) throws IOException {
+        switch (field) {
+            case "applies_to":
+                value.setAppliesTo(readListOfObjectType());
+                return true;
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "wildcard":
+                value.setWildcard(readBoolean());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TemplateString readTemplateString() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return new TemplateString(readString());
+    }
+
+    public TriggerActionRoll readTriggerActionRoll() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TriggerActionRoll");
+        return readTriggerActionRollFields(new TriggerActionRoll());
+    }
+
+    private TriggerActionRoll readTriggerActionRollFields(TriggerActionRoll value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTriggerActionRollField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTriggerActionRollField(TriggerActionRoll value, String field) throws IOException {
+        switch (field) {
+            case "conditions":
+                value.setConditions(readListOfTriggerActionRollCondition());
+                return true;
+            case "text":
+                value.setText(readMarkdownString());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TriggerActionRollCondition readTriggerActionRollCondition() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TriggerActionRollCondition");
+        return readTriggerActionRollConditionFields(new TriggerActionRollCondition());
+    }
+
+    private TriggerActionRollCondition readTriggerActionRollConditionFields(TriggerActionRollCondition value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTriggerActionRollConditionField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTriggerActionRollConditionField(TriggerActionRollCondition value, String field) throws IOException {
+        switch (field) {
+            case "method":
+                value.setMethod(readActionRollMethod());
+                return true;
+            case "roll_options":
+                value.setRollOptions(readListOfRollableValue());
+                return true;
+            case "by":
+                value.setBy(readTriggerBy());
+                return true;
+            case "text":
+                value.setText(readMarkdownString());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TriggerActionRollConditionEnhancement readTriggerActionRollConditionEnhancement() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TriggerActionRollConditionEnhancement");
+        return readTriggerActionRollConditionEnhancementFields(new TriggerActionRollConditionEnhancement());
+    }
+
+    private TriggerActionRollConditionEnhancement readTriggerActionRollConditionEnhancementFields(TriggerActionRollConditionEnhancement value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTriggerActionRollConditionEnhancementField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTriggerActionRollConditionEnhancementField(TriggerActionRollConditionEnhancement value, String field) throws IOException {
+        switch (field) {
+            case "method":
+                value.setMethod(readActionRollMethod());
+                return true;
+            case "roll_options":
+                value.setRollOptions(readListOfRollableValue());
+                return true;
+            case "by":
+                value.setBy(readTriggerBy());
+                return true;
+            case "text":
+                value.setText(readMarkdownString());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TriggerActionRollEnhancement readTriggerActionRollEnhancement() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TriggerActionRollEnhancement");
+        return readTriggerActionRollEnhancementFields(new TriggerActionRollEnhancement());
+    }
+
+    private TriggerActionRollEnhancement readTriggerActionRollEnhancementFields(TriggerActionRollEnhancement value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTriggerActionRollEnhancementField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTriggerActionRollEnhancementField(TriggerActionRollEnhancement value, String field) throws IOException {
+        switch (field) {
+            case "conditions":
+                value.setConditions(readListOfTriggerActionRollConditionEnhancement());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TriggerBy readTriggerBy() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TriggerBy");
+        return readTriggerByFields(new TriggerBy());
+    }
+
+    private TriggerBy readTriggerByFields(TriggerBy value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTriggerByField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTriggerByField(TriggerBy value, String field) throws IOException {
+        switch (field) {
+            case "ally":
+                value.setAlly(readBoolean());
+                return true;
+            case "player":
+                value.setPlayer(readBoolean());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TriggerNoRoll readTriggerNoRoll() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TriggerNoRoll");
+        return readTriggerNoRollFields(new TriggerNoRoll());
+    }
+
+    private TriggerNoRoll readTriggerNoRollFields(TriggerNoRoll value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTriggerNoRollField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTriggerNoRollField(TriggerNoRoll value, String field) throws IOException {
+        switch (field) {
+            case "conditions":
+                value.setConditions(readListOfTriggerNoRollCondition());
+                return true;
+            case "text":
+                value.setText(readMarkdownString());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TriggerNoRollCondition readTriggerNoRollCondition() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TriggerNoRollCondition");
+        return readTriggerNoRollConditionFields(new TriggerNoRollCondition());
+    }
+
+    private TriggerNoRollCondition readTriggerNoRollConditionFields(TriggerNoRollCondition value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTriggerNoRollConditionField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTriggerNoRollConditionField(TriggerNoRollCondition value, String field) throws IOException {
+        switch (field) {
+            case "by":
+                value.setBy(readTriggerBy());
+                return true;
+            case "text":
+                value.setText(readMarkdownString());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TriggerNoRollEnhancement readTriggerNoRollEnhancement() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TriggerNoRollEnhancement");
+        return readTriggerNoRollEnhancementFields(new TriggerNoRollEnhancement());
+    }
+
+    private TriggerNoRollEnhancement readTriggerNoRollEnhancementFields(TriggerNoRollEnhancement value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTriggerNoRollEnhancementField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTriggerNoRollEnhancementField(TriggerNoRollEnhancement value, String field) throws IOException {
+        switch (field) {
+            case "conditions":
+                value.setConditions(readListOfTriggerNoRollCondition());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TriggerProgressRoll readTriggerProgressRoll() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TriggerProgressRoll");
+        return readTriggerProgressRollFields(new TriggerProgressRoll());
+    }
+
+    private TriggerProgressRoll readTriggerProgressRollFields(TriggerProgressRoll value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTriggerProgressRollField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTriggerProgressRollField(TriggerProgressRoll value, String field) throws IOException {
+        switch (field) {
+            case "conditions":
+                value.setConditions(readListOfTriggerProgressRollCondition());
+                return true;
+            case "text":
+                value.setText(readMarkdownString());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TriggerProgressRollCondition readTriggerProgressRollCondition() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TriggerProgressRollCondition");
+        return readTriggerProgressRollConditionFields(new TriggerProgressRollCondition());
+    }
+
+    private TriggerProgressRollCondition readTriggerProgressRollConditionFields(TriggerProgressRollCondition value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTriggerProgressRollConditionField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTriggerProgressRollConditionField(TriggerProgressRollCondition value, String field) throws IOException {
+        switch (field) {
+            case "method":
+                value.setMethod(readProgressRollMethod());
+                return true;
+            case "roll_options":
+                value.setRollOptions(readListOfProgressRollOption());
+                return true;
+            case "by":
+                value.setBy(readTriggerBy());
+                return true;
+            case "text":
+                value.setText(readMarkdownString());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TriggerProgressRollConditionEnhancement readTriggerProgressRollConditionEnhancement() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TriggerProgressRollConditionEnhancement");
+        return readTriggerProgressRollConditionEnhancementFields(new TriggerProgressRollConditionEnhancement());
+    }
+
+    private TriggerProgressRollConditionEnhancement readTriggerProgressRollConditionEnhancementFields(TriggerProgressRollConditionEnhancement value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTriggerProgressRollConditionEnhancementField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTriggerProgressRollConditionEnhancementField(TriggerProgressRollConditionEnhancement value, String field) throws IOException {
+        switch (field) {
+            case "method":
+                value.setMethod(readProgressRollMethod());
+                return true;
+            case "roll_options":
+                value.setRollOptions(readListOfProgressRollOption());
+                return true;
+            case "by":
+                value.setBy(readTriggerBy());
+                return true;
+            case "text":
+                value.setText(readMarkdownString());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TriggerProgressRollEnhancement readTriggerProgressRollEnhancement() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TriggerProgressRollEnhancement");
+        return readTriggerProgressRollEnhancementFields(new TriggerProgressRollEnhancement());
+    }
+
+    private TriggerProgressRollEnhancement readTriggerProgressRollEnhancementFields(TriggerProgressRollEnhancement value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTriggerProgressRollEnhancementField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTriggerProgressRollEnhancementField(TriggerProgressRollEnhancement value, String field) throws IOException {
+        switch (field) {
+            case "conditions":
+                value.setConditions(readListOfTriggerProgressRollConditionEnhancement());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TriggerSpecialTrack readTriggerSpecialTrack() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TriggerSpecialTrack");
+        return readTriggerSpecialTrackFields(new TriggerSpecialTrack());
+    }
+
+    private TriggerSpecialTrack readTriggerSpecialTrackFields(TriggerSpecialTrack value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTriggerSpecialTrackField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTriggerSpecialTrackField(TriggerSpecialTrack value, String field) throws IOException {
+        switch (field) {
+            case "conditions":
+                value.setConditions(readListOfTriggerSpecialTrackCondition());
+                return true;
+            case "text":
+                value.setText(readMarkdownString());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TriggerSpecialTrackCondition readTriggerSpecialTrackCondition() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TriggerSpecialTrackCondition");
+        return readTriggerSpecialTrackConditionFields(new TriggerSpecialTrackCondition());
+    }
+
+    private TriggerSpecialTrackCondition readTriggerSpecialTrackConditionFields(TriggerSpecialTrackCondition value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTriggerSpecialTrackConditionField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTriggerSpecialTrackConditionField(TriggerSpecialTrackCondition value, String field) throws IOException {
+        switch (field) {
+            case "method":
+                value.setMethod(readSpecialTrackRollMethod());
+                return true;
+            case "roll_options":
+                value.setRollOptions(readListOfTriggerSpecialTrackConditionOption());
+                return true;
+            case "by":
+                value.setBy(readTriggerBy());
+                return true;
+            case "text":
+                value.setText(readMarkdownString());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TriggerSpecialTrackConditionEnhancement readTriggerSpecialTrackConditionEnhancement() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TriggerSpecialTrackConditionEnhancement");
+        return readTriggerSpecialTrackConditionEnhancementFields(new TriggerSpecialTrackConditionEnhancement());
+    }
+
+    private TriggerSpecialTrackConditionEnhancement readTriggerSpecialTrackConditionEnhancementFields(TriggerSpecialTrackConditionEnhancement value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTriggerSpecialTrackConditionEnhancementField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTriggerSpecialTrackConditionEnhancementField(TriggerSpecialTrackConditionEnhancement value, String field) throws IOException {
+        switch (field) {
+            case "method":
+                value.setMethod(readSpecialTrackRollMethod());
+                return true;
+            case "roll_options":
+                value.setRollOptions(readListOfTriggerSpecialTrackConditionOption());
+                return true;
+            case "by":
+                value.setBy(readTriggerBy());
+                return true;
+            case "text":
+                value.setText(readMarkdownString());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TriggerSpecialTrackConditionOption readTriggerSpecialTrackConditionOption() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TriggerSpecialTrackConditionOption");
+        return readTriggerSpecialTrackConditionOptionFields(new TriggerSpecialTrackConditionOption());
+    }
+
+    private TriggerSpecialTrackConditionOption readTriggerSpecialTrackConditionOptionFields(TriggerSpecialTrackConditionOption value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTriggerSpecialTrackConditionOptionField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTriggerSpecialTrackConditionOptionField(TriggerSpecialTrackConditionOption value, String field) throws IOException {
+        switch (field) {
+            case "using":
+                value.setUsing(readSpecialTrackType());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TriggerSpecialTrackEnhancement readTriggerSpecialTrackEnhancement() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TriggerSpecialTrackEnhancement");
+        return readTriggerSpecialTrackEnhancementFields(new TriggerSpecialTrackEnhancement());
+    }
+
+    private TriggerSpecialTrackEnhancement readTriggerSpecialTrackEnhancementFields(TriggerSpecialTrackEnhancement value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTriggerSpecialTrackEnhancementField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTriggerSpecialTrackEnhancementField(TriggerSpecialTrackEnhancement value, String field) throws IOException {
+        switch (field) {
+            case "conditions":
+                value.setConditions(readListOfTriggerSpecialTrackConditionEnhancement());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public Truth readTruth() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Truth");
+        return readTruthFields(new Truth());
+    }
+
+    private Truth readTruthFields(Truth value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTruthField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTruthField(Truth value, String field) throws IOException {
+        switch (field) {
+            case "_id":
+                value.setId(readTruthId());
+                return true;
+            case "_source":
+                value.setSource(readSourceInfo());
+                return true;
+            case "dice":
+                value.setDice(readDiceExpression());
+                return true;
+            case "name":
+                value.setName(readLabel());
+                return true;
+            case "options":
+                value.setOptions(readListOfTruthOption());
+                return true;
+            case "_comment":
+                value.setComment(readString());
+                return true;
+            case "canonical_name":
+                value.setCanonicalName(readLabel());
+                return true;
+            case "icon":
+                value.setIcon(readSvgImageUrl());
+                return true;
+            case "suggestions":
+                value.setSuggestions(readSuggestions());
+                return true;
+            case "summary":
+                value.setSummary(readMarkdownString());
+                return true;
+            case "tags":
+                value.setTags(readMapOfMapOfTag());
+                return true;
+            case "your_character":
+                value.setYourCharacter(readMarkdownString());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TruthId readTruthId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ids.intern(TruthId.class, parser.getText(), TruthId::new);
+    }
+
+    public TruthOption readTruthOption() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TruthOption");
+        return readTruthOptionFields(new TruthOption());
+    }
+
+    private TruthOption readTruthOptionFields(TruthOption value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTruthOptionField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTruthOptionField(TruthOption value, String field) throws IOException {
+        switch (field) {
+            case "description":
+                value.setDescription(readMarkdownString());
+                return true;
+            case "quest_starter":
+                value.setQuestStarter(readMarkdownString());
+                return true;
+            case "max":
+                value.setMax(readShort());
+                return true;
+            case "min":
+                value.setMin(readShort());
+                return true;
+            case "summary":
+                value.setSummary(readMarkdownString());
+                return true;
+            case "table":
+                value.setTable(readTruthOptionTable());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TruthOptionTable readTruthOptionTable() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("TruthOptionTable");
+        return readTruthOptionTableFields(new TruthOptionTable());
+    }
+
+    private TruthOptionTable readTruthOptionTableFields(TruthOptionTable value) throws IOException {
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!readTruthOptionTableField(value, field)) {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of one property into {@code value}, returning false if
+     * the property is unknown and was left unread.
+     */
+    boolean readTruthOptionTableField(TruthOptionTable value, String field) throws IOException {
+        switch (field) {
+            case "dice":
+                value.setDice(readDiceExpression());
+                return true;
+            case "oracle_type":
+                value.setOracleType(readTruthOptionTableOracleType());
+                return true;
+            case "rows":
+                value.setRows(readListOfOracleTableRowText());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public TruthOptionTableOracleType readTruthOptionTableOracleType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (parser.getText()) {
+            case "table_text":
+                return TruthOptionTableOracleType.TABLE_TEXT;
+            default:
+                throw unknownEnumValue("TruthOptionTableOracleType");
+        }
+    }
+
+    public UnsignedByte readUnsignedByte() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return new UnsignedByte((byte) parser.getLongValue());
+    }
+
+    public UnsignedInteger readUnsignedInteger() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return new UnsignedInteger((int) parser.getLongValue());
+    }
+
+    public UnsignedShort readUnsignedShort() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return new UnsignedShort((short) parser.getLongValue());
+    }
+
+    public WebUrl readWebUrl() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return new WebUrl(readString());
+    }
+
+    public WebpImageUrl readWebpImageUrl() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return new WebpImageUrl(readString());
+    }
+
+    public List<AssetAbility> readListOfAssetAbility() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<AssetAbility>");
+        List<AssetAbility> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readAssetAbility());
+        }
+        return list;
+    }
+
+    public List<AssetId> readListOfAssetId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<AssetId>");
+        List<AssetId> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readAssetId());
+        }
+        return list;
+    }
+
+    public List<AssetIdWildcard> readListOfAssetIdWildcard() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<AssetIdWildcard>");
+        List<AssetIdWildcard> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readAssetIdWildcard());
+        }
+        return list;
+    }
+
+    public List<AtlasEntryId> readListOfAtlasEntryId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<AtlasEntryId>");
+        List<AtlasEntryId> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readAtlasEntryId());
+        }
+        return list;
+    }
+
+    public List<AuthorInfo> readListOfAuthorInfo() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<AuthorInfo>");
+        List<AuthorInfo> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readAuthorInfo());
+        }
+        return list;
+    }
+
+    public List<ConditionMeterKey> readListOfConditionMeterKey() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<ConditionMeterKey>");
+        List<ConditionMeterKey> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readConditionMeterKey());
+        }
+        return list;
+    }
+
+    public List<DelveSiteDenizen> readListOfDelveSiteDenizen() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<DelveSiteDenizen>");
+        List<DelveSiteDenizen> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readDelveSiteDenizen());
+        }
+        return list;
+    }
+
+    public List<DelveSiteDomainId> readListOfDelveSiteDomainId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<DelveSiteDomainId>");
+        List<DelveSiteDomainId> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readDelveSiteDomainId());
+        }
+        return list;
+    }
+
+    public List<DelveSiteThemeId> readListOfDelveSiteThemeId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<DelveSiteThemeId>");
+        List<DelveSiteThemeId> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readDelveSiteThemeId());
+        }
+        return list;
+    }
+
+    public List<DictKey> readListOfDictKey() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<DictKey>");
+        List<DictKey> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readDictKey());
+        }
+        return list;
+    }
+
+    public List<MarkdownString> readListOfMarkdownString() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<MarkdownString>");
+        List<MarkdownString> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readMarkdownString());
+        }
+        return list;
+    }
+
+    public List<MoveEnhancement> readListOfMoveEnhancement() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<MoveEnhancement>");
+        List<MoveEnhancement> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readMoveEnhancement());
+        }
+        return list;
+    }
+
+    public List<MoveId> readListOfMoveId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<MoveId>");
+        List<MoveId> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readMoveId());
+        }
+        return list;
+    }
+
+    public List<MoveIdWildcard> readListOfMoveIdWildcard() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<MoveIdWildcard>");
+        List<MoveIdWildcard> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readMoveIdWildcard());
+        }
+        return list;
+    }
+
+    public List<NpcId> readListOfNpcId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<NpcId>");
+        List<NpcId> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readNpcId());
+        }
+        return list;
+    }
+
+    public List<ObjectType> readListOfObjectType() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<ObjectType>");
+        List<ObjectType> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readObjectType());
+        }
+        return list;
+    }
+
+    public List<OracleRoll> readListOfOracleRoll() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<OracleRoll>");
+        List<OracleRoll> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readOracleRoll());
+        }
+        return list;
+    }
+
+    public List<OracleRollableId> readListOfOracleRollableId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<OracleRollableId>");
+        List<OracleRollableId> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readOracleRollableId());
+        }
+        return list;
+    }
+
+    public List<OracleTableRowText> readListOfOracleTableRowText() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<OracleTableRowText>");
+        List<OracleTableRowText> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readOracleTableRowText());
+        }
+        return list;
+    }
+
+    public List<OracleTableRowText2> readListOfOracleTableRowText2() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<OracleTableRowText2>");
+        List<OracleTableRowText2> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readOracleTableRowText2());
+        }
+        return list;
+    }
+
+    public List<OracleTableRowText3> readListOfOracleTableRowText3() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<OracleTableRowText3>");
+        List<OracleTableRowText3> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readOracleTableRowText3());
+        }
+        return list;
+    }
+
+    public List<ProgressRollOption> readListOfProgressRollOption() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<ProgressRollOption>");
+        List<ProgressRollOption> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readProgressRollOption());
+        }
+        return list;
+    }
+
+    public List<RarityId> readListOfRarityId() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<RarityId>");
+        List<RarityId> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readRarityId());
+        }
+        return list;
+    }
+
+    public List<RollableValue> readListOfRollableValue() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<RollableValue>");
+        List<RollableValue> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readRollableValue());
+        }
+        return list;
+    }
+
+    public List<TriggerActionRollCondition> readListOfTriggerActionRollCondition() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<TriggerActionRollCondition>");
+        List<TriggerActionRollCondition> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readTriggerActionRollCondition());
+        }
+        return list;
+    }
+
+    public List<TriggerActionRollConditionEnhancement> readListOfTriggerActionRollConditionEnhancement() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<TriggerActionRollConditionEnhancement>");
+        List<TriggerActionRollConditionEnhancement> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readTriggerActionRollConditionEnhancement());
+        }
+        return list;
+    }
+
+    public List<TriggerNoRollCondition> readListOfTriggerNoRollCondition() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<TriggerNoRollCondition>");
+        List<TriggerNoRollCondition> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readTriggerNoRollCondition());
+        }
+        return list;
+    }
+
+    public List<TriggerProgressRollCondition> readListOfTriggerProgressRollCondition() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<TriggerProgressRollCondition>");
+        List<TriggerProgressRollCondition> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readTriggerProgressRollCondition());
+        }
+        return list;
+    }
+
+    public List<TriggerProgressRollConditionEnhancement> readListOfTriggerProgressRollConditionEnhancement() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<TriggerProgressRollConditionEnhancement>");
+        List<TriggerProgressRollConditionEnhancement> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readTriggerProgressRollConditionEnhancement());
+        }
+        return list;
+    }
+
+    public List<TriggerSpecialTrackCondition> readListOfTriggerSpecialTrackCondition() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<TriggerSpecialTrackCondition>");
+        List<TriggerSpecialTrackCondition> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readTriggerSpecialTrackCondition());
+        }
+        return list;
+    }
+
+    public List<TriggerSpecialTrackConditionEnhancement> readListOfTriggerSpecialTrackConditionEnhancement() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<TriggerSpecialTrackConditionEnhancement>");
+        List<TriggerSpecialTrackConditionEnhancement> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readTriggerSpecialTrackConditionEnhancement());
+        }
+        return list;
+    }
+
+    public List<TriggerSpecialTrackConditionOption> readListOfTriggerSpecialTrackConditionOption() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<TriggerSpecialTrackConditionOption>");
+        List<TriggerSpecialTrackConditionOption> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readTriggerSpecialTrackConditionOption());
+        }
+        return list;
+    }
+
+    public List<TruthOption> readListOfTruthOption() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<TruthOption>");
+        List<TruthOption> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readTruthOption());
+        }
+        return list;
+    }
+
+    public List<WebpImageUrl> readListOfWebpImageUrl() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartArray("List<WebpImageUrl>");
+        List<WebpImageUrl> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readWebpImageUrl());
+        }
+        return list;
+    }
+
+    public Map<String, Asset> readMapOfAsset() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, Asset>");
+        Map<String, Asset> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readAsset());
+        }
+        return map;
+    }
+
+    public Map<String, AssetAbilityControlField> readMapOfAssetAbilityControlField() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, AssetAbilityControlField>");
+        Map<String, AssetAbilityControlField> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readAssetAbilityControlField());
+        }
+        return map;
+    }
+
+    public Map<String, AssetAbilityOptionField> readMapOfAssetAbilityOptionField() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, AssetAbilityOptionField>");
+        Map<String, AssetAbilityOptionField> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readAssetAbilityOptionField());
+        }
+        return map;
+    }
+
+    public Map<String, AssetCollection> readMapOfAssetCollection() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, AssetCollection>");
+        Map<String, AssetCollection> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readAssetCollection());
+        }
+        return map;
+    }
+
+    public Map<String, AssetConditionMeterControlField> readMapOfAssetConditionMeterControlField() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, AssetConditionMeterControlField>");
+        Map<String, AssetConditionMeterControlField> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readAssetConditionMeterControlField());
+        }
+        return map;
+    }
+
+    public Map<String, AssetControlField> readMapOfAssetControlField() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, AssetControlField>");
+        Map<String, AssetControlField> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readAssetControlField());
+        }
+        return map;
+    }
+
+    public Map<String, AssetControlFieldEnhancement> readMapOfAssetControlFieldEnhancement() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, AssetControlFieldEnhancement>");
+        Map<String, AssetControlFieldEnhancement> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readAssetControlFieldEnhancement());
+        }
+        return map;
+    }
+
+    public Map<String, AssetControlFieldSelectEnhancementChoice> readMapOfAssetControlFieldSelectEnhancementChoice() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, AssetControlFieldSelectEnhancementChoice>");
+        Map<String, AssetControlFieldSelectEnhancementChoice> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readAssetControlFieldSelectEnhancementChoice());
+        }
+        return map;
+    }
+
+    public Map<String, AssetOptionField> readMapOfAssetOptionField() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, AssetOptionField>");
+        Map<String, AssetOptionField> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readAssetOptionField());
+        }
+        return map;
+    }
+
+    public Map<String, AssetOptionFieldSelectEnhancementChoice> readMapOfAssetOptionFieldSelectEnhancementChoice() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, AssetOptionFieldSelectEnhancementChoice>");
+        Map<String, AssetOptionFieldSelectEnhancementChoice> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readAssetOptionFieldSelectEnhancementChoice());
+        }
+        return map;
+    }
+
+    public Map<String, AtlasCollection> readMapOfAtlasCollection() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, AtlasCollection>");
+        Map<String, AtlasCollection> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readAtlasCollection());
+        }
+        return map;
+    }
+
+    public Map<String, AtlasEntry> readMapOfAtlasEntry() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, AtlasEntry>");
+        Map<String, AtlasEntry> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readAtlasEntry());
+        }
+        return map;
+    }
+
+    public Map<String, ConditionMeterRule> readMapOfConditionMeterRule() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, ConditionMeterRule>");
+        Map<String, ConditionMeterRule> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readConditionMeterRule());
+        }
+        return map;
+    }
+
+    public Map<String, DelveSite> readMapOfDelveSite() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, DelveSite>");
+        Map<String, DelveSite> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readDelveSite());
+        }
+        return map;
+    }
+
+    public Map<String, DelveSiteDomain> readMapOfDelveSiteDomain() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, DelveSiteDomain>");
+        Map<String, DelveSiteDomain> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readDelveSiteDomain());
+        }
+        return map;
+    }
+
+    public Map<String, DelveSiteTheme> readMapOfDelveSiteTheme() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, DelveSiteTheme>");
+        Map<String, DelveSiteTheme> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readDelveSiteTheme());
+        }
+        return map;
+    }
+
+    public Map<String, ImpactCategory> readMapOfImpactCategory() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, ImpactCategory>");
+        Map<String, ImpactCategory> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readImpactCategory());
+        }
+        return map;
+    }
+
+    public Map<String, ImpactRule> readMapOfImpactRule() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, ImpactRule>");
+        Map<String, ImpactRule> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readImpactRule());
+        }
+        return map;
+    }
+
+    public Map<String, Map<String, Tag>> readMapOfMapOfTag() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, Map<String, Tag>>");
+        Map<String, Map<String, Tag>> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readMapOfTag());
+        }
+        return map;
+    }
+
+    public Map<String, Move> readMapOfMove() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, Move>");
+        Map<String, Move> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readMove());
+        }
+        return map;
+    }
+
+    public Map<String, MoveCategory> readMapOfMoveCategory() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, MoveCategory>");
+        Map<String, MoveCategory> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readMoveCategory());
+        }
+        return map;
+    }
+
+    public Map<String, Npc> readMapOfNpc() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, Npc>");
+        Map<String, Npc> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readNpc());
+        }
+        return map;
+    }
+
+    public Map<String, NpcCollection> readMapOfNpcCollection() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, NpcCollection>");
+        Map<String, NpcCollection> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readNpcCollection());
+        }
+        return map;
+    }
+
+    public Map<String, NpcVariant> readMapOfNpcVariant() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, NpcVariant>");
+        Map<String, NpcVariant> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readNpcVariant());
+        }
+        return map;
+    }
+
+    public Map<String, Object> readMapOfObject() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, Object>");
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readObject());
+        }
+        return map;
+    }
+
+    public Map<String, OracleCollection> readMapOfOracleCollection() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, OracleCollection>");
+        Map<String, OracleCollection> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readOracleCollection());
+        }
+        return map;
+    }
+
+    public Map<String, OracleColumnText> readMapOfOracleColumnText() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, OracleColumnText>");
+        Map<String, OracleColumnText> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readOracleColumnText());
+        }
+        return map;
+    }
+
+    public Map<String, OracleColumnText2> readMapOfOracleColumnText2() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, OracleColumnText2>");
+        Map<String, OracleColumnText2> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readOracleColumnText2());
+        }
+        return map;
+    }
+
+    public Map<String, OracleColumnText3> readMapOfOracleColumnText3() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, OracleColumnText3>");
+        Map<String, OracleColumnText3> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readOracleColumnText3());
+        }
+        return map;
+    }
+
+    public Map<String, OracleTableRollable> readMapOfOracleTableRollable() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, OracleTableRollable>");
+        Map<String, OracleTableRollable> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readOracleTableRollable());
+        }
+        return map;
+    }
+
+    public Map<String, OracleTablesCollection> readMapOfOracleTablesCollection() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, OracleTablesCollection>");
+        Map<String, OracleTablesCollection> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readOracleTablesCollection());
+        }
+        return map;
+    }
+
+    public Map<String, Rarity> readMapOfRarity() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, Rarity>");
+        Map<String, Rarity> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readRarity());
+        }
+        return map;
+    }
+
+    public Map<String, SelectEnhancementFieldChoice> readMapOfSelectEnhancementFieldChoice() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, SelectEnhancementFieldChoice>");
+        Map<String, SelectEnhancementFieldChoice> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readSelectEnhancementFieldChoice());
+        }
+        return map;
+    }
+
+    public Map<String, SelectValueFieldChoice> readMapOfSelectValueFieldChoice() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, SelectValueFieldChoice>");
+        Map<String, SelectValueFieldChoice> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readSelectValueFieldChoice());
+        }
+        return map;
+    }
+
+    public Map<String, SpecialTrackRule> readMapOfSpecialTrackRule() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, SpecialTrackRule>");
+        Map<String, SpecialTrackRule> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readSpecialTrackRule());
+        }
+        return map;
+    }
+
+    public Map<String, StatRule> readMapOfStatRule() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, StatRule>");
+        Map<String, StatRule> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readStatRule());
+        }
+        return map;
+    }
+
+    public Map<String, Tag> readMapOfTag() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, Tag>");
+        Map<String, Tag> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readTag());
+        }
+        return map;
+    }
+
+    public Map<String, TagRule> readMapOfTagRule() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, TagRule>");
+        Map<String, TagRule> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readTagRule());
+        }
+        return map;
+    }
+
+    public Map<String, Truth> readMapOfTruth() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject("Map<String, Truth>");
+        Map<String, Truth> map = new LinkedHashMap<>();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            map.put(key, readTruth());
+        }
+        return map;
+    }
+}
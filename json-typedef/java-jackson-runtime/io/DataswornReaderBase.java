@@ -0,0 +1,189 @@
+package Datasworn.io;
+
+import Datasworn.ids.IdPool;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scalar readers and discriminator handling shared by the generated
+ * {@link DataswornReader}.<p>
+ * Every read method expects the parser to be positioned on the first token of
+ * the value, and leaves it on the last token of the value.<p>
+ * Discriminators are found by looking ahead in the source bytes when they're
+ * available. Otherwise the reader relies on the discriminator coming before
+ * the other properties, as {@link DataswornWriter} writes it; any properties
+ * that come before it are buffered and replayed.
+ */
+abstract class DataswornReaderBase {
+    /**
+     * The current parser. Temporarily replaced while replaying properties
+     * that were buffered ahead of a discriminator.
+     */
+    protected JsonParser parser;
+
+    private final byte[] source;
+
+    private final int sourceOffset;
+
+    protected final IdPool ids;
+
+    /**
+     * @param parser       the parser to read from.
+     * @param source       the UTF-8 bytes the parser was created over, used to
+     *                     look ahead for discriminator properties. May be null.
+     * @param sourceOffset where the parser's input starts within {@code source}.
+     * @param ids          the pool to intern IDs into.
+     */
+    protected DataswornReaderBase(JsonParser parser, byte[] source, int sourceOffset, IdPool ids) {
+        this.parser = parser;
+        this.source = source;
+        this.sourceOffset = sourceOffset;
+        this.ids = ids;
+    }
+
+    public String readString() throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getText();
+    }
+
+    public Boolean readBoolean() throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getBooleanValue();
+    }
+
+    public Byte readByte() throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getByteValue();
+    }
+
+    public Short readShort() throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getShortValue();
+    }
+
+    public Integer readInteger() throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getIntValue();
+    }
+
+    /**
+     * Reads a timestamp. Date-only values such as {@code "2022-10-01"}, which is
+     * how Datasworn writes package dates, are read as midnight UTC.
+     */
+    public OffsetDateTime readOffsetDateTime() throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        String text = parser.getText();
+        if (text.length() == 10) {
+            return LocalDate.parse(text).atStartOfDay().atOffset(ZoneOffset.UTC);
+        }
+        return OffsetDateTime.parse(text);
+    }
+
+    /**
+     * Reads a value of unknown shape into maps, lists and boxed scalars, the
+     * same way Jackson binds {@code Object}.
+     */
+    public Object readObject() throws IOException {
+        switch (parser.currentToken()) {
+            case START_OBJECT: {
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+                    parser.nextToken();
+                    map.put(key, readObject());
+                }
+                return map;
+            }
+            case START_ARRAY: {
+                List<Object> list = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    list.add(readObject());
+                }
+                return list;
+            }
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                return parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDoubleValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the value of the discriminator property of the object the parser
+     * is positioned on.<p>
+     * With source bytes, none of the object's tokens are consumed. Without
+     * them, the discriminator property is consumed, and if other properties
+     * came first, {@link #parser} is replaced by one that replays them before
+     * continuing with the rest of the object. Callers must restore the
+     * original parser once the object is read.
+     */
+    protected final String discriminator(String type, String property) throws IOException {
+        String value;
+        if (source != null) {
+            int objectStart = sourceOffset + (int) parser.currentTokenLocation().getByteOffset();
+            value = JsonLookahead.findStringProperty(source, objectStart, property);
+        } else {
+            value = streamDiscriminator(property);
+        }
+        if (value == null) {
+            throw new JsonParseException(parser, type + " is missing its \"" + property + "\" discriminator");
+        }
+        return value;
+    }
+
+    private String streamDiscriminator(String property) throws IOException {
+        String field = parser.nextFieldName();
+        if (property.equals(field)) {
+            parser.nextToken();
+            return parser.getText();
+        }
+        TokenBuffer buffered = new TokenBuffer(parser);
+        for (; field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (property.equals(field)) {
+                String value = parser.getText();
+                parser = JsonParserSequence.createFlattened(false, buffered.asParser(parser), parser);
+                return value;
+            }
+            buffered.writeFieldName(field);
+            buffered.copyCurrentStructure(parser);
+        }
+        return null;
+    }
+
+    protected final JsonParseException unknownDiscriminator(String type, String property, String value) {
+        return new JsonParseException(parser, "Unknown " + type + " \"" + property + "\" value \"" + value + "\"");
+    }
+
+    protected final JsonParseException unknownEnumValue(String type) throws IOException {
+        return new JsonParseException(parser, "Unknown " + type + " value \"" + parser.getText() + "\"");
+    }
+
+    protected final void expectStartObject(String type) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an object for " + type + ", got " + parser.currentToken());
+        }
+    }
+
+    protected final void expectStartArray(String type) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array for " + type + ", got " + parser.currentToken());
+        }
+    }
+}
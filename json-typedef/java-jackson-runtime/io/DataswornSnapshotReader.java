@@ -0,0 +1,6336 @@
+// Code generated by Datasworn.codegen.StreamingCodegen. DO NOT EDIT.
+
+package Datasworn.io;
+
+import Datasworn.ActionRollMethod;
+import Datasworn.Asset;
+import Datasworn.AssetAbility;
+import Datasworn.AssetAbilityControlField;
+import Datasworn.AssetAbilityControlFieldCheckbox;
+import Datasworn.AssetAbilityControlFieldClock;
+import Datasworn.AssetAbilityControlFieldCounter;
+import Datasworn.AssetAbilityControlFieldText;
+import Datasworn.AssetAbilityId;
+import Datasworn.AssetAbilityOptionField;
+import Datasworn.AssetAbilityOptionFieldText;
+import Datasworn.AssetAttachment;
+import Datasworn.AssetCollection;
+import Datasworn.AssetCollectionId;
+import Datasworn.AssetCollectionType;
+import Datasworn.AssetConditionMeterControlField;
+import Datasworn.AssetConditionMeterControlFieldCardFlip;
+import Datasworn.AssetConditionMeterControlFieldCheckbox;
+import Datasworn.AssetControlField;
+import Datasworn.AssetControlFieldCardFlip;
+import Datasworn.AssetControlFieldCheckbox;
+import Datasworn.AssetControlFieldConditionMeter;
+import Datasworn.AssetControlFieldConditionMeterMoves;
+import Datasworn.AssetControlFieldEnhancement;
+import Datasworn.AssetControlFieldEnhancementConditionMeter;
+import Datasworn.AssetControlFieldSelectEnhancement;
+import Datasworn.AssetControlFieldSelectEnhancementChoice;
+import Datasworn.AssetControlFieldSelectEnhancementChoiceChoice;
+import Datasworn.AssetControlFieldSelectEnhancementChoiceChoiceGroup;
+import Datasworn.AssetEnhancement;
+import Datasworn.AssetId;
+import Datasworn.AssetIdWildcard;
+import Datasworn.AssetOptionField;
+import Datasworn.AssetOptionFieldSelectEnhancement;
+import Datasworn.AssetOptionFieldSelectEnhancementChoice;
+import Datasworn.AssetOptionFieldSelectEnhancementChoiceChoice;
+import Datasworn.AssetOptionFieldSelectEnhancementChoiceChoiceGroup;
+import Datasworn.AssetOptionFieldSelectValue;
+import Datasworn.AssetOptionFieldText;
+import Datasworn.AssetType;
+import Datasworn.AtlasCollection;
+import Datasworn.AtlasCollectionId;
+import Datasworn.AtlasCollectionType;
+import Datasworn.AtlasEntry;
+import Datasworn.AtlasEntryId;
+import Datasworn.AtlasEntryType;
+import Datasworn.AuthorInfo;
+import Datasworn.ChallengeRank;
+import Datasworn.ConditionMeterKey;
+import Datasworn.ConditionMeterRule;
+import Datasworn.CssColor;
+import Datasworn.DelveSite;
+import Datasworn.DelveSiteDenizen;
+import Datasworn.DelveSiteDenizenFrequency;
+import Datasworn.DelveSiteDomain;
+import Datasworn.DelveSiteDomainId;
+import Datasworn.DelveSiteDomainType;
+import Datasworn.DelveSiteId;
+import Datasworn.DelveSiteTheme;
+import Datasworn.DelveSiteThemeId;
+import Datasworn.DelveSiteThemeType;
+import Datasworn.DelveSiteType;
+import Datasworn.DiceExpression;
+import Datasworn.DictKey;
+import Datasworn.ExpansionId;
+import Datasworn.I18nHint;
+import Datasworn.I18nHints;
+import Datasworn.I18nHintsTemplate;
+import Datasworn.ImpactCategory;
+import Datasworn.ImpactRule;
+import Datasworn.InputLabel;
+import Datasworn.Label;
+import Datasworn.License;
+import Datasworn.MarkdownString;
+import Datasworn.Move;
+import Datasworn.MoveActionRoll;
+import Datasworn.MoveActionRollType;
+import Datasworn.MoveCategory;
+import Datasworn.MoveCategoryId;
+import Datasworn.MoveCategoryType;
+import Datasworn.MoveEnhancement;
+import Datasworn.MoveEnhancementActionRoll;
+import Datasworn.MoveEnhancementNoRoll;
+import Datasworn.MoveEnhancementProgressRoll;
+import Datasworn.MoveEnhancementSpecialTrack;
+import Datasworn.MoveId;
+import Datasworn.MoveIdWildcard;
+import Datasworn.MoveNoRoll;
+import Datasworn.MoveNoRollType;
+import Datasworn.MoveOutcome;
+import Datasworn.MoveOutcomes;
+import Datasworn.MoveProgressRoll;
+import Datasworn.MoveProgressRollType;
+import Datasworn.MoveSpecialTrack;
+import Datasworn.MoveSpecialTrackType;
+import Datasworn.Npc;
+import Datasworn.NpcCollection;
+import Datasworn.NpcCollectionId;
+import Datasworn.NpcCollectionType;
+import Datasworn.NpcId;
+import Datasworn.NpcNature;
+import Datasworn.NpcType;
+import Datasworn.NpcVariant;
+import Datasworn.NpcVariantId;
+import Datasworn.ObjectType;
+import Datasworn.OracleCollection;
+import Datasworn.OracleCollectionId;
+import Datasworn.OracleCollectionOracleTableSharedText3;
+import Datasworn.OracleCollectionOracleTableSharedText3ColumnLabels;
+import Datasworn.OracleCollectionOracleTableSharedText3Type;
+import Datasworn.OracleCollectionTableSharedRolls;
+import Datasworn.OracleCollectionTableSharedRollsColumnLabels;
+import Datasworn.OracleCollectionTableSharedRollsType;
+import Datasworn.OracleCollectionTableSharedText;
+import Datasworn.OracleCollectionTableSharedText2;
+import Datasworn.OracleCollectionTableSharedText2ColumnLabels;
+import Datasworn.OracleCollectionTableSharedText2Type;
+import Datasworn.OracleCollectionTableSharedTextColumnLabels;
+import Datasworn.OracleCollectionTableSharedTextType;
+import Datasworn.OracleCollectionTables;
+import Datasworn.OracleCollectionTablesType;
+import Datasworn.OracleColumnText;
+import Datasworn.OracleColumnText2;
+import Datasworn.OracleColumnText2OracleType;
+import Datasworn.OracleColumnText2Type;
+import Datasworn.OracleColumnText3;
+import Datasworn.OracleColumnText3OracleType;
+import Datasworn.OracleColumnText3Type;
+import Datasworn.OracleColumnTextOracleType;
+import Datasworn.OracleColumnTextType;
+import Datasworn.OracleDuplicateBehavior;
+import Datasworn.OracleMatchBehavior;
+import Datasworn.OracleRoll;
+import Datasworn.OracleRollTemplate;
+import Datasworn.OracleRollableId;
+import Datasworn.OracleTableRollable;
+import Datasworn.OracleTableRollableTableText;
+import Datasworn.OracleTableRollableTableText2;
+import Datasworn.OracleTableRollableTableText2ColumnLabels;
+import Datasworn.OracleTableRollableTableText2RecommendedRolls;
+import Datasworn.OracleTableRollableTableText2Type;
+import Datasworn.OracleTableRollableTableText3;
+import Datasworn.OracleTableRollableTableText3ColumnLabels;
+import Datasworn.OracleTableRollableTableText3RecommendedRolls;
+import Datasworn.OracleTableRollableTableText3Type;
+import Datasworn.OracleTableRollableTableTextColumnLabels;
+import Datasworn.OracleTableRollableTableTextRecommendedRolls;
+import Datasworn.OracleTableRollableTableTextType;
+import Datasworn.OracleTableRowText;
+import Datasworn.OracleTableRowText2;
+import Datasworn.OracleTableRowText3;
+import Datasworn.OracleTablesCollection;
+import Datasworn.OracleTablesCollectionOracleType;
+import Datasworn.OracleTablesCollectionType;
+import Datasworn.PartOfSpeech;
+import Datasworn.ProgressRollMethod;
+import Datasworn.ProgressRollOption;
+import Datasworn.ProgressRollOptionUsing;
+import Datasworn.ProgressTrackTypeInfo;
+import Datasworn.Rarity;
+import Datasworn.RarityId;
+import Datasworn.RarityType;
+import Datasworn.RollableValue;
+import Datasworn.RollableValueAssetControl;
+import Datasworn.RollableValueAssetOption;
+import Datasworn.RollableValueAttachedAssetControl;
+import Datasworn.RollableValueAttachedAssetOption;
+import Datasworn.RollableValueConditionMeter;
+import Datasworn.RollableValueCustom;
+import Datasworn.RollableValueStat;
+import Datasworn.Rules;
+import Datasworn.RulesExpansion;
+import Datasworn.RulesPackage;
+import Datasworn.RulesPackageExpansion;
+import Datasworn.RulesPackageExpansionDataswornVersion;
+import Datasworn.RulesPackageRuleset;
+import Datasworn.RulesPackageRulesetDataswornVersion;
+import Datasworn.RulesetId;
+import Datasworn.SelectEnhancementFieldChoice;
+import Datasworn.SelectEnhancementFieldChoiceChoiceType;
+import Datasworn.SelectValueFieldChoice;
+import Datasworn.SelectValueFieldChoiceAssetControl;
+import Datasworn.SelectValueFieldChoiceAssetControlChoiceType;
+import Datasworn.SelectValueFieldChoiceAssetOption;
+import Datasworn.SelectValueFieldChoiceAssetOptionChoiceType;
+import Datasworn.SelectValueFieldChoiceAttachedAssetControl;
+import Datasworn.SelectValueFieldChoiceAttachedAssetControlChoiceType;
+import Datasworn.SelectValueFieldChoiceAttachedAssetOption;
+import Datasworn.SelectValueFieldChoiceAttachedAssetOptionChoiceType;
+import Datasworn.SelectValueFieldChoiceConditionMeter;
+import Datasworn.SelectValueFieldChoiceConditionMeterChoiceType;
+import Datasworn.SelectValueFieldChoiceCustom;
+import Datasworn.SelectValueFieldChoiceCustomChoiceType;
+import Datasworn.SelectValueFieldChoiceStat;
+import Datasworn.SelectValueFieldChoiceStatChoiceType;
+import Datasworn.SourceInfo;
+import Datasworn.SpecialTrackRollMethod;
+import Datasworn.SpecialTrackRule;
+import Datasworn.SpecialTrackType;
+import Datasworn.StatKey;
+import Datasworn.StatRule;
+import Datasworn.Suggestions;
+import Datasworn.SvgImageUrl;
+import Datasworn.Tag;
+import Datasworn.TagRule;
+import Datasworn.TagRuleAsset;
+import Datasworn.TagRuleAssetCollection;
+import Datasworn.TagRuleAtlasCollection;
+import Datasworn.TagRuleAtlasEntry;
+import Datasworn.TagRuleBoolean;
+import Datasworn.TagRuleDelveSite;
+import Datasworn.TagRuleDelveSiteDomain;
+import Datasworn.TagRuleDelveSiteTheme;
+import Datasworn.TagRuleEnum;
+import Datasworn.TagRuleInteger;
+import Datasworn.TagRuleMove;
+import Datasworn.TagRuleMoveCategory;
+import Datasworn.TagRuleNpc;
+import Datasworn.TagRuleNpcCollection;
+import Datasworn.TagRuleOracleCollection;
+import Datasworn.TagRuleOracleRollable;
+import Datasworn.TagRuleRarity;
+import Datasworn.TagRuleTruth;
+import Datasworn.TemplateString;
+import Datasworn.TriggerActionRoll;
+import Datasworn.TriggerActionRollCondition;
+import Datasworn.TriggerActionRollConditionEnhancement;
+import Datasworn.TriggerActionRollEnhancement;
+import Datasworn.TriggerBy;
+import Datasworn.TriggerNoRoll;
+import Datasworn.TriggerNoRollCondition;
+import Datasworn.TriggerNoRollEnhancement;
+import Datasworn.TriggerProgressRoll;
+import Datasworn.TriggerProgressRollCondition;
+import Datasworn.TriggerProgressRollConditionEnhancement;
+import Datasworn.TriggerProgressRollEnhancement;
+import Datasworn.TriggerSpecialTrack;
+import Datasworn.TriggerSpecialTrackCondition;
+import Datasworn.TriggerSpecialTrackConditionEnhancement;
+import Datasworn.TriggerSpecialTrackConditionOption;
+import Datasworn.TriggerSpecialTrackEnhancement;
+import Datasworn.Truth;
+import Datasworn.TruthId;
+import Datasworn.TruthOption;
+import Datasworn.TruthOptionTable;
+import Datasworn.TruthOptionTableOracleType;
+import Datasworn.UnsignedByte;
+import Datasworn.UnsignedInteger;
+import Datasworn.UnsignedShort;
+import Datasworn.WebUrl;
+import Datasworn.WebpImageUrl;
+import Datasworn.ids.IdPool;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes Datasworn bindings from the binary snapshot format written by
+ * {@link DataswornSnapshotWriter}.
+ */
+final class DataswornSnapshotReader extends SnapshotReaderBase {
+    static final long SCHEMA_FINGERPRINT = 0x0d66dfa036195e7eL;
+
+    static final String DATASWORN_VERSION = "0.0.10";
+
+    /**
+     * @param snapshot a complete snapshot, which is validated first.
+     * @param ids      the pool to intern IDs into.
+     */
+    DataswornSnapshotReader(ByteBuffer snapshot, IdPool ids) throws IOException {
+        super(payload(snapshot, SCHEMA_FINGERPRINT, DATASWORN_VERSION), ids);
+    }
+
+    public ActionRollMethod readActionRollMethod() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return ActionRollMethod.ALL;
+            case 2:
+                return ActionRollMethod.HIGHEST;
+            case 3:
+                return ActionRollMethod.LOWEST;
+            case 4:
+                return ActionRollMethod.MISS;
+            case 5:
+                return ActionRollMethod.PLAYER_CHOICE;
+            case 6:
+                return ActionRollMethod.STRONG_HIT;
+            case 7:
+                return ActionRollMethod.WEAK_HIT;
+            default:
+                throw corrupt("ActionRollMethod", tag);
+        }
+    }
+
+    public Asset readAsset() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        Asset value = new Asset();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readAssetId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setAbilities(readListOfAssetAbility());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setCategory(readLabel());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setCountAsImpact(readBoolean());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setShared(readBoolean());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setType(readAssetType());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setAttachments(readAssetAttachment());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setColor(readCssColor());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setControls(readMapOfAssetControlField());
+        }
+        if ((mask & 1L << 13) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 14) != 0) {
+            value.setOptions(readMapOfAssetOptionField());
+        }
+        if ((mask & 1L << 15) != 0) {
+            value.setRequirement(readMarkdownString());
+        }
+        if ((mask & 1L << 16) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 17) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public AssetAbility readAssetAbility() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetAbility value = new AssetAbility();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readAssetAbilityId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setEnabled(readBoolean());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setText(readMarkdownString());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setControls(readMapOfAssetAbilityControlField());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setEnhanceAsset(readAssetEnhancement());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setEnhanceMoves(readListOfMoveEnhancement());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setMoves(readMapOfMove());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setOptions(readMapOfAssetAbilityOptionField());
+        }
+        return value;
+    }
+
+    public AssetAbilityControlField readAssetAbilityControlField() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return readAssetAbilityControlFieldCheckbox();
+            case 2:
+                return readAssetAbilityControlFieldClock();
+            case 3:
+                return readAssetAbilityControlFieldCounter();
+            case 4:
+                return readAssetAbilityControlFieldText();
+            default:
+                throw corrupt("AssetAbilityControlField", tag);
+        }
+    }
+
+    public AssetAbilityControlFieldCheckbox readAssetAbilityControlFieldCheckbox() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetAbilityControlFieldCheckbox value = new AssetAbilityControlFieldCheckbox();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setDisablesAsset(readBoolean());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setIsImpact(readBoolean());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setValue(readBoolean());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        return value;
+    }
+
+    public AssetAbilityControlFieldClock readAssetAbilityControlFieldClock() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetAbilityControlFieldClock value = new AssetAbilityControlFieldClock();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setMax(readByte());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setMin(readByte());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setRollable(readBoolean());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setValue(readByte());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        return value;
+    }
+
+    public AssetAbilityControlFieldCounter readAssetAbilityControlFieldCounter() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetAbilityControlFieldCounter value = new AssetAbilityControlFieldCounter();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setMax(readShort());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setMin(readByte());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setRollable(readBoolean());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setValue(readByte());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        return value;
+    }
+
+    public AssetAbilityControlFieldText readAssetAbilityControlFieldText() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetAbilityControlFieldText value = new AssetAbilityControlFieldText();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setValue(readString());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        return value;
+    }
+
+    public AssetAbilityId readAssetAbilityId() throws IOException {
+        String value = readString();
+        return value == null ? null : ids.intern(AssetAbilityId.class, value, AssetAbilityId::new);
+    }
+
+    public AssetAbilityOptionField readAssetAbilityOptionField() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return readAssetAbilityOptionFieldText();
+            default:
+                throw corrupt("AssetAbilityOptionField", tag);
+        }
+    }
+
+    public AssetAbilityOptionFieldText readAssetAbilityOptionFieldText() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetAbilityOptionFieldText value = new AssetAbilityOptionFieldText();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setValue(readString());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        return value;
+    }
+
+    public AssetAttachment readAssetAttachment() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetAttachment value = new AssetAttachment();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAssets(readListOfAssetIdWildcard());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setMax(readShort());
+        }
+        return value;
+    }
+
+    public AssetCollection readAssetCollection() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetCollection value = new AssetCollection();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readAssetCollectionId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setType(readAssetCollectionType());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setColor(readCssColor());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setContents(readMapOfAsset());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setEnhances(readAssetCollectionId());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setImages(readListOfWebpImageUrl());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setReplaces(readAssetCollectionId());
+        }
+        if ((mask & 1L << 13) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 14) != 0) {
+            value.setSummary(readMarkdownString());
+        }
+        if ((mask & 1L << 15) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public AssetCollectionId readAssetCollectionId() throws IOException {
+        String value = readString();
+        return value == null ? null : ids.intern(AssetCollectionId.class, value, AssetCollectionId::new);
+    }
+
+    public AssetCollectionType readAssetCollectionType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return AssetCollectionType.ASSET_COLLECTION;
+            default:
+                throw corrupt("AssetCollectionType", tag);
+        }
+    }
+
+    public AssetConditionMeterControlField readAssetConditionMeterControlField() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return readAssetConditionMeterControlFieldCardFlip();
+            case 2:
+                return readAssetConditionMeterControlFieldCheckbox();
+            default:
+                throw corrupt("AssetConditionMeterControlField", tag);
+        }
+    }
+
+    public AssetConditionMeterControlFieldCardFlip readAssetConditionMeterControlFieldCardFlip() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetConditionMeterControlFieldCardFlip value = new AssetConditionMeterControlFieldCardFlip();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setDisablesAsset(readBoolean());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setIsImpact(readBoolean());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setValue(readBoolean());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        return value;
+    }
+
+    public AssetConditionMeterControlFieldCheckbox readAssetConditionMeterControlFieldCheckbox() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetConditionMeterControlFieldCheckbox value = new AssetConditionMeterControlFieldCheckbox();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setDisablesAsset(readBoolean());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setIsImpact(readBoolean());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setValue(readBoolean());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        return value;
+    }
+
+    public AssetControlField readAssetControlField() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return readAssetControlFieldCardFlip();
+            case 2:
+                return readAssetControlFieldCheckbox();
+            case 3:
+                return readAssetControlFieldConditionMeter();
+            case 4:
+                return readAssetControlFieldSelectEnhancement();
+            default:
+                throw corrupt("AssetControlField", tag);
+        }
+    }
+
+    public AssetControlFieldCardFlip readAssetControlFieldCardFlip() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetControlFieldCardFlip value = new AssetControlFieldCardFlip();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setDisablesAsset(readBoolean());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setIsImpact(readBoolean());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setValue(readBoolean());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        return value;
+    }
+
+    public AssetControlFieldCheckbox readAssetControlFieldCheckbox() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetControlFieldCheckbox value = new AssetControlFieldCheckbox();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setDisablesAsset(readBoolean());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setIsImpact(readBoolean());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setValue(readBoolean());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        return value;
+    }
+
+    public AssetControlFieldConditionMeter readAssetControlFieldConditionMeter() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetControlFieldConditionMeter value = new AssetControlFieldConditionMeter();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setMax(readByte());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setMin(readByte());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setRollable(readBoolean());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setValue(readByte());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setControls(readMapOfAssetConditionMeterControlField());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setMoves(readAssetControlFieldConditionMeterMoves());
+        }
+        return value;
+    }
+
+    public AssetControlFieldConditionMeterMoves readAssetControlFieldConditionMeterMoves() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetControlFieldConditionMeterMoves value = new AssetControlFieldConditionMeterMoves();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setRecover(readListOfMoveIdWildcard());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSuffer(readListOfMoveIdWildcard());
+        }
+        return value;
+    }
+
+    public AssetControlFieldEnhancement readAssetControlFieldEnhancement() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return readAssetControlFieldEnhancementConditionMeter();
+            default:
+                throw corrupt("AssetControlFieldEnhancement", tag);
+        }
+    }
+
+    public AssetControlFieldEnhancementConditionMeter readAssetControlFieldEnhancementConditionMeter() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetControlFieldEnhancementConditionMeter value = new AssetControlFieldEnhancementConditionMeter();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setMax(readByte());
+        }
+        return value;
+    }
+
+    public AssetControlFieldSelectEnhancement readAssetControlFieldSelectEnhancement() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetControlFieldSelectEnhancement value = new AssetControlFieldSelectEnhancement();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setChoices(readMapOfAssetControlFieldSelectEnhancementChoice());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setValue(readDictKey());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        return value;
+    }
+
+    public AssetControlFieldSelectEnhancementChoice readAssetControlFieldSelectEnhancementChoice() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return readAssetControlFieldSelectEnhancementChoiceChoice();
+            case 2:
+                return readAssetControlFieldSelectEnhancementChoiceChoiceGroup();
+            default:
+                throw corrupt("AssetControlFieldSelectEnhancementChoice", tag);
+        }
+    }
+
+    public AssetControlFieldSelectEnhancementChoiceChoice readAssetControlFieldSelectEnhancementChoiceChoice() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetControlFieldSelectEnhancementChoiceChoice value = new AssetControlFieldSelectEnhancementChoiceChoice();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setEnhanceAsset(readAssetEnhancement());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setEnhanceMoves(readListOfMoveEnhancement());
+        }
+        return value;
+    }
+
+    public AssetControlFieldSelectEnhancementChoiceChoiceGroup readAssetControlFieldSelectEnhancementChoiceChoiceGroup() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetControlFieldSelectEnhancementChoiceChoiceGroup value = new AssetControlFieldSelectEnhancementChoiceChoiceGroup();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setChoices(readMapOfSelectEnhancementFieldChoice());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setName(readInputLabel());
+        }
+        return value;
+    }
+
+    public AssetEnhancement readAssetEnhancement() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetEnhancement value = new AssetEnhancement();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAttachments(readAssetAttachment());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setControls(readMapOfAssetControlFieldEnhancement());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setCountAsImpact(readBoolean());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setShared(readBoolean());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        return value;
+    }
+
+    public AssetId readAssetId() throws IOException {
+        String value = readString();
+        return value == null ? null : ids.intern(AssetId.class, value, AssetId::new);
+    }
+
+    public AssetIdWildcard readAssetIdWildcard() throws IOException {
+        String value = readString();
+        return value == null ? null : ids.intern(AssetIdWildcard.class, value, AssetIdWildcard::new);
+    }
+
+    public AssetOptionField readAssetOptionField() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return readAssetOptionFieldSelectEnhancement();
+            case 2:
+                return readAssetOptionFieldSelectValue();
+            case 3:
+                return readAssetOptionFieldText();
+            default:
+                throw corrupt("AssetOptionField", tag);
+        }
+    }
+
+    public AssetOptionFieldSelectEnhancement readAssetOptionFieldSelectEnhancement() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetOptionFieldSelectEnhancement value = new AssetOptionFieldSelectEnhancement();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setChoices(readMapOfAssetOptionFieldSelectEnhancementChoice());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setValue(readDictKey());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        return value;
+    }
+
+    public AssetOptionFieldSelectEnhancementChoice readAssetOptionFieldSelectEnhancementChoice() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return readAssetOptionFieldSelectEnhancementChoiceChoice();
+            case 2:
+                return readAssetOptionFieldSelectEnhancementChoiceChoiceGroup();
+            default:
+                throw corrupt("AssetOptionFieldSelectEnhancementChoice", tag);
+        }
+    }
+
+    public AssetOptionFieldSelectEnhancementChoiceChoice readAssetOptionFieldSelectEnhancementChoiceChoice() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetOptionFieldSelectEnhancementChoiceChoice value = new AssetOptionFieldSelectEnhancementChoiceChoice();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setEnhanceAsset(readAssetEnhancement());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setEnhanceMoves(readListOfMoveEnhancement());
+        }
+        return value;
+    }
+
+    public AssetOptionFieldSelectEnhancementChoiceChoiceGroup readAssetOptionFieldSelectEnhancementChoiceChoiceGroup() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetOptionFieldSelectEnhancementChoiceChoiceGroup value = new AssetOptionFieldSelectEnhancementChoiceChoiceGroup();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setChoices(readMapOfSelectEnhancementFieldChoice());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setName(readInputLabel());
+        }
+        return value;
+    }
+
+    public AssetOptionFieldSelectValue readAssetOptionFieldSelectValue() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetOptionFieldSelectValue value = new AssetOptionFieldSelectValue();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setChoices(readMapOfSelectValueFieldChoice());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setValue(readDictKey());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        return value;
+    }
+
+    public AssetOptionFieldText readAssetOptionFieldText() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AssetOptionFieldText value = new AssetOptionFieldText();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setValue(readString());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        return value;
+    }
+
+    public AssetType readAssetType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return AssetType.ASSET;
+            default:
+                throw corrupt("AssetType", tag);
+        }
+    }
+
+    public AtlasCollection readAtlasCollection() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AtlasCollection value = new AtlasCollection();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readAtlasCollectionId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setType(readAtlasCollectionType());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setCollections(readMapOfAtlasCollection());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setColor(readCssColor());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setContents(readMapOfAtlasEntry());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setEnhances(readAtlasCollectionId());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setImages(readListOfWebpImageUrl());
+        }
+        if ((mask & 1L << 13) != 0) {
+            value.setReplaces(readAtlasCollectionId());
+        }
+        if ((mask & 1L << 14) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 15) != 0) {
+            value.setSummary(readMarkdownString());
+        }
+        if ((mask & 1L << 16) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public AtlasCollectionId readAtlasCollectionId() throws IOException {
+        String value = readString();
+        return value == null ? null : ids.intern(AtlasCollectionId.class, value, AtlasCollectionId::new);
+    }
+
+    public AtlasCollectionType readAtlasCollectionType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return AtlasCollectionType.ATLAS;
+            default:
+                throw corrupt("AtlasCollectionType", tag);
+        }
+    }
+
+    public AtlasEntry readAtlasEntry() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AtlasEntry value = new AtlasEntry();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readAtlasEntryId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setFeatures(readListOfMarkdownString());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setType(readAtlasEntryType());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setQuestStarter(readMarkdownString());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setSummary(readMarkdownString());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setYourTruth(readMarkdownString());
+        }
+        return value;
+    }
+
+    public AtlasEntryId readAtlasEntryId() throws IOException {
+        String value = readString();
+        return value == null ? null : ids.intern(AtlasEntryId.class, value, AtlasEntryId::new);
+    }
+
+    public AtlasEntryType readAtlasEntryType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return AtlasEntryType.ATLAS_ENTRY;
+            default:
+                throw corrupt("AtlasEntryType", tag);
+        }
+    }
+
+    public AuthorInfo readAuthorInfo() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        AuthorInfo value = new AuthorInfo();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setName(readString());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setEmail(readString());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setUrl(readString());
+        }
+        return value;
+    }
+
+    public ChallengeRank readChallengeRank() throws IOException {
+        UnsignedByte value = readUnsignedByte();
+        return value == null ? null : new ChallengeRank(value);
+    }
+
+    public ConditionMeterKey readConditionMeterKey() throws IOException {
+        DictKey value = readDictKey();
+        return value == null ? null : new ConditionMeterKey(value);
+    }
+
+    public ConditionMeterRule readConditionMeterRule() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        ConditionMeterRule value = new ConditionMeterRule();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setMax(readByte());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setMin(readByte());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setRollable(readBoolean());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setShared(readBoolean());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setValue(readByte());
+        }
+        return value;
+    }
+
+    public CssColor readCssColor() throws IOException {
+        String value = readString();
+        return value == null ? null : new CssColor(value);
+    }
+
+    public DelveSite readDelveSite() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        DelveSite value = new DelveSite();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readDelveSiteId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setDenizens(readListOfDelveSiteDenizen());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setDomain(readDelveSiteDomainId());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setRank(readChallengeRank());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setTheme(readDelveSiteThemeId());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setType(readDelveSiteType());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setExtraCard(readString());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 13) != 0) {
+            value.setRegion(readAtlasEntryId());
+        }
+        if ((mask & 1L << 14) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 15) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public DelveSiteDenizen readDelveSiteDenizen() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        DelveSiteDenizen value = new DelveSiteDenizen();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setFrequency(readDelveSiteDenizenFrequency());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setMax(readShort());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setMin(readShort());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setNpc(readNpcId());
+        }
+        return value;
+    }
+
+    public DelveSiteDenizenFrequency readDelveSiteDenizenFrequency() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return DelveSiteDenizenFrequency.COMMON;
+            case 2:
+                return DelveSiteDenizenFrequency.RARE;
+            case 3:
+                return DelveSiteDenizenFrequency.UNCOMMON;
+            case 4:
+                return DelveSiteDenizenFrequency.UNFORESEEN;
+            case 5:
+                return DelveSiteDenizenFrequency.VERY_COMMON;
+            default:
+                throw corrupt("DelveSiteDenizenFrequency", tag);
+        }
+    }
+
+    public DelveSiteDomain readDelveSiteDomain() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        DelveSiteDomain value = new DelveSiteDomain();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readDelveSiteDomainId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setDangers(readListOfOracleTableRowText());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setFeatures(readListOfOracleTableRowText());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setSummary(readMarkdownString());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setType(readDelveSiteDomainType());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setNameOracle(readOracleRollableId());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 13) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public DelveSiteDomainId readDelveSiteDomainId() throws IOException {
+        String value = readString();
+        return value == null ? null : ids.intern(DelveSiteDomainId.class, value, DelveSiteDomainId::new);
+    }
+
+    public DelveSiteDomainType readDelveSiteDomainType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return DelveSiteDomainType.DELVE_SITE_DOMAIN;
+            default:
+                throw corrupt("DelveSiteDomainType", tag);
+        }
+    }
+
+    public DelveSiteId readDelveSiteId() throws IOException {
+        String value = readString();
+        return value == null ? null : ids.intern(DelveSiteId.class, value, DelveSiteId::new);
+    }
+
+    public DelveSiteTheme readDelveSiteTheme() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        DelveSiteTheme value = new DelveSiteTheme();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readDelveSiteThemeId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setDangers(readListOfOracleTableRowText());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setFeatures(readListOfOracleTableRowText());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setSummary(readMarkdownString());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setType(readDelveSiteThemeType());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public DelveSiteThemeId readDelveSiteThemeId() throws IOException {
+        String value = readString();
+        return value == null ? null : ids.intern(DelveSiteThemeId.class, value, DelveSiteThemeId::new);
+    }
+
+    public DelveSiteThemeType readDelveSiteThemeType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return DelveSiteThemeType.DELVE_SITE_THEME;
+            default:
+                throw corrupt("DelveSiteThemeType", tag);
+        }
+    }
+
+    public DelveSiteType readDelveSiteType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return DelveSiteType.DELVE_SITE;
+            default:
+                throw corrupt("DelveSiteType", tag);
+        }
+    }
+
+    public DiceExpression readDiceExpression() throws IOException {
+        String value = readString();
+        return value == null ? null : new DiceExpression(value);
+    }
+
+    public DictKey readDictKey() throws IOException {
+        String value = readString();
+        return value == null ? null : new DictKey(value);
+    }
+
+    public ExpansionId readExpansionId() throws IOException {
+        String value = readString();
+        return value == null ? null : ids.intern(ExpansionId.class, value, ExpansionId::new);
+    }
+
+    public I18nHint readI18nHint() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        I18nHint value = new I18nHint();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setPartOfSpeech(readPartOfSpeech());
+        }
+        return value;
+    }
+
+    public I18nHints readI18nHints() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        I18nHints value = new I18nHints();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setTemplate(readI18nHintsTemplate());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setText(readI18nHint());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setText2(readI18nHint());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setText3(readI18nHint());
+        }
+        return value;
+    }
+
+    public I18nHintsTemplate readI18nHintsTemplate() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        I18nHintsTemplate value = new I18nHintsTemplate();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setText(readI18nHint());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setText2(readI18nHint());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setText3(readI18nHint());
+        }
+        return value;
+    }
+
+    public ImpactCategory readImpactCategory() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        ImpactCategory value = new ImpactCategory();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setContents(readMapOfImpactRule());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        return value;
+    }
+
+    public ImpactRule readImpactRule() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        ImpactRule value = new ImpactRule();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setPermanent(readBoolean());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setPreventsRecovery(readListOfConditionMeterKey());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setShared(readBoolean());
+        }
+        return value;
+    }
+
+    public InputLabel readInputLabel() throws IOException {
+        String value = readString();
+        return value == null ? null : new InputLabel(value);
+    }
+
+    public Label readLabel() throws IOException {
+        String value = readString();
+        return value == null ? null : new Label(value);
+    }
+
+    public License readLicense() throws IOException {
+        WebUrl value = readWebUrl();
+        return value == null ? null : new License(value);
+    }
+
+    public MarkdownString readMarkdownString() throws IOException {
+        String value = readString();
+        return value == null ? null : new MarkdownString(value);
+    }
+
+    public Move readMove() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return readMoveActionRoll();
+            case 2:
+                return readMoveNoRoll();
+            case 3:
+                return readMoveProgressRoll();
+            case 4:
+                return readMoveSpecialTrack();
+            default:
+                throw corrupt("Move", tag);
+        }
+    }
+
+    public MoveActionRoll readMoveActionRoll() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        MoveActionRoll value = new MoveActionRoll();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readMoveId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setOutcomes(readMoveOutcomes());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setText(readMarkdownString());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setTrigger(readTriggerActionRoll());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setType(readMoveActionRollType());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setOracles(readListOfOracleRollableId());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setReplaces(readMoveId());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public MoveActionRollType readMoveActionRollType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return MoveActionRollType.MOVE;
+            default:
+                throw corrupt("MoveActionRollType", tag);
+        }
+    }
+
+    public MoveCategory readMoveCategory() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        MoveCategory value = new MoveCategory();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readMoveCategoryId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setType(readMoveCategoryType());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setColor(readCssColor());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setContents(readMapOfMove());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setEnhances(readMoveCategoryId());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setImages(readListOfWebpImageUrl());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setReplaces(readMoveCategoryId());
+        }
+        if ((mask & 1L << 13) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 14) != 0) {
+            value.setSummary(readMarkdownString());
+        }
+        if ((mask & 1L << 15) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public MoveCategoryId readMoveCategoryId() throws IOException {
+        String value = readString();
+        return value == null ? null : ids.intern(MoveCategoryId.class, value, MoveCategoryId::new);
+    }
+
+    public MoveCategoryType readMoveCategoryType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return MoveCategoryType.MOVE_CATEGORY;
+            default:
+                throw corrupt("MoveCategoryType", tag);
+        }
+    }
+
+    public MoveEnhancement readMoveEnhancement() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return readMoveEnhancementActionRoll();
+            case 2:
+                return readMoveEnhancementNoRoll();
+            case 3:
+                return readMoveEnhancementProgressRoll();
+            case 4:
+                return readMoveEnhancementSpecialTrack();
+            default:
+                throw corrupt("MoveEnhancement", tag);
+        }
+    }
+
+    public MoveEnhancementActionRoll readMoveEnhancementActionRoll() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        MoveEnhancementActionRoll value = new MoveEnhancementActionRoll();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setEnhances(readListOfMoveIdWildcard());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setTrigger(readTriggerActionRollEnhancement());
+        }
+        return value;
+    }
+
+    public MoveEnhancementNoRoll readMoveEnhancementNoRoll() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        MoveEnhancementNoRoll value = new MoveEnhancementNoRoll();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setEnhances(readListOfMoveIdWildcard());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setTrigger(readTriggerNoRollEnhancement());
+        }
+        return value;
+    }
+
+    public MoveEnhancementProgressRoll readMoveEnhancementProgressRoll() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        MoveEnhancementProgressRoll value = new MoveEnhancementProgressRoll();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setEnhances(readListOfMoveIdWildcard());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setTrigger(readTriggerProgressRollEnhancement());
+        }
+        return value;
+    }
+
+    public MoveEnhancementSpecialTrack readMoveEnhancementSpecialTrack() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        MoveEnhancementSpecialTrack value = new MoveEnhancementSpecialTrack();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setEnhances(readListOfMoveIdWildcard());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setTrigger(readTriggerSpecialTrackEnhancement());
+        }
+        return value;
+    }
+
+    public MoveId readMoveId() throws IOException {
+        String value = readString();
+        return value == null ? null : ids.intern(MoveId.class, value, MoveId::new);
+    }
+
+    public MoveIdWildcard readMoveIdWildcard() throws IOException {
+        String value = readString();
+        return value == null ? null : ids.intern(MoveIdWildcard.class, value, MoveIdWildcard::new);
+    }
+
+    public MoveNoRoll readMoveNoRoll() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        MoveNoRoll value = new MoveNoRoll();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readMoveId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setText(readMarkdownString());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setTrigger(readTriggerNoRoll());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setType(readMoveNoRollType());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setOracles(readListOfOracleRollableId());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setReplaces(readMoveId());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public MoveNoRollType readMoveNoRollType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return MoveNoRollType.MOVE;
+            default:
+                throw corrupt("MoveNoRollType", tag);
+        }
+    }
+
+    public MoveOutcome readMoveOutcome() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        MoveOutcome value = new MoveOutcome();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setText(readMarkdownString());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setOracleRolls(readListOfOracleRoll());
+        }
+        return value;
+    }
+
+    public MoveOutcomes readMoveOutcomes() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        MoveOutcomes value = new MoveOutcomes();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setMiss(readMoveOutcome());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setStrongHit(readMoveOutcome());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setWeakHit(readMoveOutcome());
+        }
+        return value;
+    }
+
+    public MoveProgressRoll readMoveProgressRoll() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        MoveProgressRoll value = new MoveProgressRoll();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readMoveId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setOutcomes(readMoveOutcomes());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setText(readMarkdownString());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setTracks(readProgressTrackTypeInfo());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setTrigger(readTriggerProgressRoll());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setType(readMoveProgressRollType());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setOracles(readListOfOracleRollableId());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setReplaces(readMoveId());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 13) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public MoveProgressRollType readMoveProgressRollType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return MoveProgressRollType.MOVE;
+            default:
+                throw corrupt("MoveProgressRollType", tag);
+        }
+    }
+
+    public MoveSpecialTrack readMoveSpecialTrack() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        MoveSpecialTrack value = new MoveSpecialTrack();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readMoveId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setOutcomes(readMoveOutcomes());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setText(readMarkdownString());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setTrigger(readTriggerSpecialTrack());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setType(readMoveSpecialTrackType());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setOracles(readListOfOracleRollableId());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setReplaces(readMoveId());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public MoveSpecialTrackType readMoveSpecialTrackType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return MoveSpecialTrackType.MOVE;
+            default:
+                throw corrupt("MoveSpecialTrackType", tag);
+        }
+    }
+
+    public Npc readNpc() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        Npc value = new Npc();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readNpcId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setDrives(readListOfMarkdownString());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setFeatures(readListOfMarkdownString());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setNature(readNpcNature());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setRank(readChallengeRank());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setTactics(readListOfMarkdownString());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setType(readNpcType());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setQuestStarter(readMarkdownString());
+        }
+        if ((mask & 1L << 13) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 14) != 0) {
+            value.setSummary(readMarkdownString());
+        }
+        if ((mask & 1L << 15) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        if ((mask & 1L << 16) != 0) {
+            value.setVariants(readMapOfNpcVariant());
+        }
+        if ((mask & 1L << 17) != 0) {
+            value.setYourTruth(readMarkdownString());
+        }
+        return value;
+    }
+
+    public NpcCollection readNpcCollection() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        NpcCollection value = new NpcCollection();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readNpcCollectionId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setType(readNpcCollectionType());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setColor(readCssColor());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setContents(readMapOfNpc());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setEnhances(readNpcCollectionId());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setImages(readListOfWebpImageUrl());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setReplaces(readNpcCollectionId());
+        }
+        if ((mask & 1L << 13) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 14) != 0) {
+            value.setSummary(readMarkdownString());
+        }
+        if ((mask & 1L << 15) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public NpcCollectionId readNpcCollectionId() throws IOException {
+        String value = readString();
+        return value == null ? null : ids.intern(NpcCollectionId.class, value, NpcCollectionId::new);
+    }
+
+    public NpcCollectionType readNpcCollectionType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return NpcCollectionType.NPC_COLLECTION;
+            default:
+                throw corrupt("NpcCollectionType", tag);
+        }
+    }
+
+    public NpcId readNpcId() throws IOException {
+        String value = readString();
+        return value == null ? null : ids.intern(NpcId.class, value, NpcId::new);
+    }
+
+    public NpcNature readNpcNature() throws IOException {
+        Label value = readLabel();
+        return value == null ? null : new NpcNature(value);
+    }
+
+    public NpcType readNpcType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return NpcType.NPC;
+            default:
+                throw corrupt("NpcType", tag);
+        }
+    }
+
+    public NpcVariant readNpcVariant() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        NpcVariant value = new NpcVariant();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readNpcVariantId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setNature(readNpcNature());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setRank(readChallengeRank());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setSummary(readMarkdownString());
+        }
+        return value;
+    }
+
+    public NpcVariantId readNpcVariantId() throws IOException {
+        String value = readString();
+        return value == null ? null : ids.intern(NpcVariantId.class, value, NpcVariantId::new);
+    }
+
+    public ObjectType readObjectType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return ObjectType.ASSET;
+            case 2:
+                return ObjectType.ASSET_COLLECTION;
+            case 3:
+                return ObjectType.ATLAS_COLLECTION;
+            case 4:
+                return ObjectType.ATLAS_ENTRY;
+            case 5:
+                return ObjectType.DELVE_SITE;
+            case 6:
+                return ObjectType.DELVE_SITE_DOMAIN;
+            case 7:
+                return ObjectType.DELVE_SITE_THEME;
+            case 8:
+                return ObjectType.MOVE;
+            case 9:
+                return ObjectType.MOVE_CATEGORY;
+            case 10:
+                return ObjectType.NPC;
+            case 11:
+                return ObjectType.NPC_COLLECTION;
+            case 12:
+                return ObjectType.ORACLE_COLLECTION;
+            case 13:
+                return ObjectType.ORACLE_ROLLABLE;
+            case 14:
+                return ObjectType.RARITY;
+            case 15:
+                return ObjectType.TRUTH;
+            default:
+                throw corrupt("ObjectType", tag);
+        }
+    }
+
+    public OracleCollection readOracleCollection() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return readOracleCollectionOracleTableSharedText3();
+            case 2:
+                return readOracleCollectionTableSharedRolls();
+            case 3:
+                return readOracleCollectionTableSharedText();
+            case 4:
+                return readOracleCollectionTableSharedText2();
+            case 5:
+                return readOracleCollectionTables();
+            default:
+                throw corrupt("OracleCollection", tag);
+        }
+    }
+
+    public OracleCollectionId readOracleCollectionId() throws IOException {
+        String value = readString();
+        return value == null ? null : ids.intern(OracleCollectionId.class, value, OracleCollectionId::new);
+    }
+
+    public OracleCollectionOracleTableSharedText3 readOracleCollectionOracleTableSharedText3() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleCollectionOracleTableSharedText3 value = new OracleCollectionOracleTableSharedText3();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readOracleCollectionId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setColumnLabels(readOracleCollectionOracleTableSharedText3ColumnLabels());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setType(readOracleCollectionOracleTableSharedText3Type());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setColor(readCssColor());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setContents(readMapOfOracleColumnText3());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setEnhances(readOracleCollectionId());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setImages(readListOfWebpImageUrl());
+        }
+        if ((mask & 1L << 13) != 0) {
+            value.setReplaces(readOracleCollectionId());
+        }
+        if ((mask & 1L << 14) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 15) != 0) {
+            value.setSummary(readMarkdownString());
+        }
+        if ((mask & 1L << 16) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public OracleCollectionOracleTableSharedText3ColumnLabels readOracleCollectionOracleTableSharedText3ColumnLabels() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleCollectionOracleTableSharedText3ColumnLabels value = new OracleCollectionOracleTableSharedText3ColumnLabels();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setText(readLabel());
+        }
+        return value;
+    }
+
+    public OracleCollectionOracleTableSharedText3Type readOracleCollectionOracleTableSharedText3Type() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return OracleCollectionOracleTableSharedText3Type.ORACLE_COLLECTION;
+            default:
+                throw corrupt("OracleCollectionOracleTableSharedText3Type", tag);
+        }
+    }
+
+    public OracleCollectionTableSharedRolls readOracleCollectionTableSharedRolls() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleCollectionTableSharedRolls value = new OracleCollectionTableSharedRolls();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readOracleCollectionId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setColumnLabels(readOracleCollectionTableSharedRollsColumnLabels());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setType(readOracleCollectionTableSharedRollsType());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setColor(readCssColor());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setContents(readMapOfOracleColumnText());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setEnhances(readOracleCollectionId());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setImages(readListOfWebpImageUrl());
+        }
+        if ((mask & 1L << 13) != 0) {
+            value.setReplaces(readOracleCollectionId());
+        }
+        if ((mask & 1L << 14) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 15) != 0) {
+            value.setSummary(readMarkdownString());
+        }
+        if ((mask & 1L << 16) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public OracleCollectionTableSharedRollsColumnLabels readOracleCollectionTableSharedRollsColumnLabels() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleCollectionTableSharedRollsColumnLabels value = new OracleCollectionTableSharedRollsColumnLabels();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setRoll(readLabel());
+        }
+        return value;
+    }
+
+    public OracleCollectionTableSharedRollsType readOracleCollectionTableSharedRollsType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return OracleCollectionTableSharedRollsType.ORACLE_COLLECTION;
+            default:
+                throw corrupt("OracleCollectionTableSharedRollsType", tag);
+        }
+    }
+
+    public OracleCollectionTableSharedText readOracleCollectionTableSharedText() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleCollectionTableSharedText value = new OracleCollectionTableSharedText();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readOracleCollectionId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setColumnLabels(readOracleCollectionTableSharedTextColumnLabels());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setType(readOracleCollectionTableSharedTextType());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setColor(readCssColor());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setContents(readMapOfOracleColumnText());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setEnhances(readOracleCollectionId());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setImages(readListOfWebpImageUrl());
+        }
+        if ((mask & 1L << 13) != 0) {
+            value.setReplaces(readOracleCollectionId());
+        }
+        if ((mask & 1L << 14) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 15) != 0) {
+            value.setSummary(readMarkdownString());
+        }
+        if ((mask & 1L << 16) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public OracleCollectionTableSharedText2 readOracleCollectionTableSharedText2() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleCollectionTableSharedText2 value = new OracleCollectionTableSharedText2();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readOracleCollectionId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setColumnLabels(readOracleCollectionTableSharedText2ColumnLabels());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setType(readOracleCollectionTableSharedText2Type());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setColor(readCssColor());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setContents(readMapOfOracleColumnText2());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setEnhances(readOracleCollectionId());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setImages(readListOfWebpImageUrl());
+        }
+        if ((mask & 1L << 13) != 0) {
+            value.setReplaces(readOracleCollectionId());
+        }
+        if ((mask & 1L << 14) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 15) != 0) {
+            value.setSummary(readMarkdownString());
+        }
+        if ((mask & 1L << 16) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public OracleCollectionTableSharedText2ColumnLabels readOracleCollectionTableSharedText2ColumnLabels() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleCollectionTableSharedText2ColumnLabels value = new OracleCollectionTableSharedText2ColumnLabels();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setText(readLabel());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setText2(readLabel());
+        }
+        return value;
+    }
+
+    public OracleCollectionTableSharedText2Type readOracleCollectionTableSharedText2Type() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return OracleCollectionTableSharedText2Type.ORACLE_COLLECTION;
+            default:
+                throw corrupt("OracleCollectionTableSharedText2Type", tag);
+        }
+    }
+
+    public OracleCollectionTableSharedTextColumnLabels readOracleCollectionTableSharedTextColumnLabels() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleCollectionTableSharedTextColumnLabels value = new OracleCollectionTableSharedTextColumnLabels();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setText(readLabel());
+        }
+        return value;
+    }
+
+    public OracleCollectionTableSharedTextType readOracleCollectionTableSharedTextType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return OracleCollectionTableSharedTextType.ORACLE_COLLECTION;
+            default:
+                throw corrupt("OracleCollectionTableSharedTextType", tag);
+        }
+    }
+
+    public OracleCollectionTables readOracleCollectionTables() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleCollectionTables value = new OracleCollectionTables();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readOracleCollectionId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setType(readOracleCollectionTablesType());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setCollections(readMapOfOracleCollection());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setColor(readCssColor());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setContents(readMapOfOracleTableRollable());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setEnhances(readOracleCollectionId());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setImages(readListOfWebpImageUrl());
+        }
+        if ((mask & 1L << 13) != 0) {
+            value.setReplaces(readOracleCollectionId());
+        }
+        if ((mask & 1L << 14) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 15) != 0) {
+            value.setSummary(readMarkdownString());
+        }
+        if ((mask & 1L << 16) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public OracleCollectionTablesType readOracleCollectionTablesType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return OracleCollectionTablesType.ORACLE_COLLECTION;
+            default:
+                throw corrupt("OracleCollectionTablesType", tag);
+        }
+    }
+
+    public OracleColumnText readOracleColumnText() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleColumnText value = new OracleColumnText();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readOracleRollableId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setDice(readDiceExpression());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setOracleType(readOracleColumnTextOracleType());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setRows(readListOfOracleTableRowText());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setType(readOracleColumnTextType());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setColor(readCssColor());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setMatch(readOracleMatchBehavior());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setReplaces(readOracleRollableId());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setSummary(readMarkdownString());
+        }
+        if ((mask & 1L << 13) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public OracleColumnText2 readOracleColumnText2() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleColumnText2 value = new OracleColumnText2();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readOracleRollableId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setDice(readDiceExpression());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setOracleType(readOracleColumnText2OracleType());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setRows(readListOfOracleTableRowText2());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setType(readOracleColumnText2Type());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setColor(readCssColor());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setMatch(readOracleMatchBehavior());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setReplaces(readOracleRollableId());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setSummary(readMarkdownString());
+        }
+        if ((mask & 1L << 13) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public OracleColumnText2OracleType readOracleColumnText2OracleType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return OracleColumnText2OracleType.COLUMN_TEXT2;
+            default:
+                throw corrupt("OracleColumnText2OracleType", tag);
+        }
+    }
+
+    public OracleColumnText2Type readOracleColumnText2Type() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return OracleColumnText2Type.ORACLE_ROLLABLE;
+            default:
+                throw corrupt("OracleColumnText2Type", tag);
+        }
+    }
+
+    public OracleColumnText3 readOracleColumnText3() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleColumnText3 value = new OracleColumnText3();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readOracleRollableId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setDice(readDiceExpression());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setOracleType(readOracleColumnText3OracleType());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setRows(readListOfOracleTableRowText3());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setType(readOracleColumnText3Type());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setColor(readCssColor());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setMatch(readOracleMatchBehavior());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setReplaces(readOracleRollableId());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setSummary(readMarkdownString());
+        }
+        if ((mask & 1L << 13) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public OracleColumnText3OracleType readOracleColumnText3OracleType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return OracleColumnText3OracleType.COLUMN_TEXT3;
+            default:
+                throw corrupt("OracleColumnText3OracleType", tag);
+        }
+    }
+
+    public OracleColumnText3Type readOracleColumnText3Type() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return OracleColumnText3Type.ORACLE_ROLLABLE;
+            default:
+                throw corrupt("OracleColumnText3Type", tag);
+        }
+    }
+
+    public OracleColumnTextOracleType readOracleColumnTextOracleType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return OracleColumnTextOracleType.COLUMN_TEXT;
+            default:
+                throw corrupt("OracleColumnTextOracleType", tag);
+        }
+    }
+
+    public OracleColumnTextType readOracleColumnTextType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return OracleColumnTextType.ORACLE_ROLLABLE;
+            default:
+                throw corrupt("OracleColumnTextType", tag);
+        }
+    }
+
+    public OracleDuplicateBehavior readOracleDuplicateBehavior() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return OracleDuplicateBehavior.KEEP;
+            case 2:
+                return OracleDuplicateBehavior.MAKE_IT_WORSE;
+            case 3:
+                return OracleDuplicateBehavior.REROLL;
+            default:
+                throw corrupt("OracleDuplicateBehavior", tag);
+        }
+    }
+
+    public OracleMatchBehavior readOracleMatchBehavior() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleMatchBehavior value = new OracleMatchBehavior();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setText(readMarkdownString());
+        }
+        return value;
+    }
+
+    public OracleRoll readOracleRoll() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleRoll value = new OracleRoll();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAuto(readBoolean());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setDice(readDiceExpression());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setDuplicates(readOracleDuplicateBehavior());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setNumberOfRolls(readShort());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setOracle(readOracleRollableId());
+        }
+        return value;
+    }
+
+    public OracleRollTemplate readOracleRollTemplate() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleRollTemplate value = new OracleRollTemplate();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setText(readTemplateString());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setText2(readTemplateString());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setText3(readTemplateString());
+        }
+        return value;
+    }
+
+    public OracleRollableId readOracleRollableId() throws IOException {
+        String value = readString();
+        return value == null ? null : ids.intern(OracleRollableId.class, value, OracleRollableId::new);
+    }
+
+    public OracleTableRollable readOracleTableRollable() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return readOracleTableRollableTableText();
+            case 2:
+                return readOracleTableRollableTableText2();
+            case 3:
+                return readOracleTableRollableTableText3();
+            default:
+                throw corrupt("OracleTableRollable", tag);
+        }
+    }
+
+    public OracleTableRollableTableText readOracleTableRollableTableText() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleTableRollableTableText value = new OracleTableRollableTableText();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readOracleRollableId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setColumnLabels(readOracleTableRollableTableTextColumnLabels());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setDice(readDiceExpression());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setRows(readListOfOracleTableRowText());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setType(readOracleTableRollableTableTextType());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setMatch(readOracleMatchBehavior());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setRecommendedRolls(readOracleTableRollableTableTextRecommendedRolls());
+        }
+        if ((mask & 1L << 13) != 0) {
+            value.setReplaces(readOracleRollableId());
+        }
+        if ((mask & 1L << 14) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 15) != 0) {
+            value.setSummary(readMarkdownString());
+        }
+        if ((mask & 1L << 16) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public OracleTableRollableTableText2 readOracleTableRollableTableText2() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleTableRollableTableText2 value = new OracleTableRollableTableText2();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readOracleRollableId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setColumnLabels(readOracleTableRollableTableText2ColumnLabels());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setDice(readDiceExpression());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setRows(readListOfOracleTableRowText2());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setType(readOracleTableRollableTableText2Type());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setMatch(readOracleMatchBehavior());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setRecommendedRolls(readOracleTableRollableTableText2RecommendedRolls());
+        }
+        if ((mask & 1L << 13) != 0) {
+            value.setReplaces(readOracleRollableId());
+        }
+        if ((mask & 1L << 14) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 15) != 0) {
+            value.setSummary(readMarkdownString());
+        }
+        if ((mask & 1L << 16) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public OracleTableRollableTableText2ColumnLabels readOracleTableRollableTableText2ColumnLabels() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleTableRollableTableText2ColumnLabels value = new OracleTableRollableTableText2ColumnLabels();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setRoll(readLabel());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setText(readLabel());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setText2(readLabel());
+        }
+        return value;
+    }
+
+    public OracleTableRollableTableText2RecommendedRolls readOracleTableRollableTableText2RecommendedRolls() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleTableRollableTableText2RecommendedRolls value = new OracleTableRollableTableText2RecommendedRolls();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setMax(readShort());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setMin(readShort());
+        }
+        return value;
+    }
+
+    public OracleTableRollableTableText2Type readOracleTableRollableTableText2Type() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return OracleTableRollableTableText2Type.ORACLE_ROLLABLE;
+            default:
+                throw corrupt("OracleTableRollableTableText2Type", tag);
+        }
+    }
+
+    public OracleTableRollableTableText3 readOracleTableRollableTableText3() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleTableRollableTableText3 value = new OracleTableRollableTableText3();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readOracleRollableId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setColumnLabels(readOracleTableRollableTableText3ColumnLabels());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setDice(readDiceExpression());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setRows(readListOfOracleTableRowText3());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setType(readOracleTableRollableTableText3Type());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setMatch(readOracleMatchBehavior());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setRecommendedRolls(readOracleTableRollableTableText3RecommendedRolls());
+        }
+        if ((mask & 1L << 13) != 0) {
+            value.setReplaces(readOracleRollableId());
+        }
+        if ((mask & 1L << 14) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 15) != 0) {
+            value.setSummary(readMarkdownString());
+        }
+        if ((mask & 1L << 16) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public OracleTableRollableTableText3ColumnLabels readOracleTableRollableTableText3ColumnLabels() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleTableRollableTableText3ColumnLabels value = new OracleTableRollableTableText3ColumnLabels();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setRoll(readLabel());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setText(readLabel());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setText2(readLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setText3(readLabel());
+        }
+        return value;
+    }
+
+    public OracleTableRollableTableText3RecommendedRolls readOracleTableRollableTableText3RecommendedRolls() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleTableRollableTableText3RecommendedRolls value = new OracleTableRollableTableText3RecommendedRolls();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setMax(readShort());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setMin(readShort());
+        }
+        return value;
+    }
+
+    public OracleTableRollableTableText3Type readOracleTableRollableTableText3Type() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return OracleTableRollableTableText3Type.ORACLE_ROLLABLE;
+            default:
+                throw corrupt("OracleTableRollableTableText3Type", tag);
+        }
+    }
+
+    public OracleTableRollableTableTextColumnLabels readOracleTableRollableTableTextColumnLabels() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleTableRollableTableTextColumnLabels value = new OracleTableRollableTableTextColumnLabels();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setRoll(readLabel());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setText(readLabel());
+        }
+        return value;
+    }
+
+    public OracleTableRollableTableTextRecommendedRolls readOracleTableRollableTableTextRecommendedRolls() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleTableRollableTableTextRecommendedRolls value = new OracleTableRollableTableTextRecommendedRolls();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setMax(readShort());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setMin(readShort());
+        }
+        return value;
+    }
+
+    public OracleTableRollableTableTextType readOracleTableRollableTableTextType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return OracleTableRollableTableTextType.ORACLE_ROLLABLE;
+            default:
+                throw corrupt("OracleTableRollableTableTextType", tag);
+        }
+    }
+
+    public OracleTableRowText readOracleTableRowText() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleTableRowText value = new OracleTableRowText();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setMax(readShort());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setMin(readShort());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setText(readMarkdownString());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setI18n(readI18nHints());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setEmbedTable(readOracleRollableId());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setOracleRolls(readListOfOracleRoll());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setTemplate(readOracleRollTemplate());
+        }
+        return value;
+    }
+
+    public OracleTableRowText2 readOracleTableRowText2() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleTableRowText2 value = new OracleTableRowText2();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setMax(readShort());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setMin(readShort());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setText(readMarkdownString());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setText2(readMarkdownString());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setI18n(readI18nHints());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setEmbedTable(readOracleRollableId());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setOracleRolls(readListOfOracleRoll());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setTemplate(readOracleRollTemplate());
+        }
+        return value;
+    }
+
+    public OracleTableRowText3 readOracleTableRowText3() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleTableRowText3 value = new OracleTableRowText3();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setMax(readShort());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setMin(readShort());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setText(readMarkdownString());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setText2(readMarkdownString());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setText3(readMarkdownString());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setI18n(readI18nHints());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setEmbedTable(readOracleRollableId());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setOracleRolls(readListOfOracleRoll());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setTemplate(readOracleRollTemplate());
+        }
+        return value;
+    }
+
+    public OracleTablesCollection readOracleTablesCollection() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        OracleTablesCollection value = new OracleTablesCollection();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readOracleCollectionId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setOracleType(readOracleTablesCollectionOracleType());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setType(readOracleTablesCollectionType());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setCollections(readMapOfOracleCollection());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setColor(readCssColor());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setContents(readMapOfOracleTableRollable());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setEnhances(readOracleCollectionId());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 13) != 0) {
+            value.setImages(readListOfWebpImageUrl());
+        }
+        if ((mask & 1L << 14) != 0) {
+            value.setReplaces(readOracleCollectionId());
+        }
+        if ((mask & 1L << 15) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 16) != 0) {
+            value.setSummary(readMarkdownString());
+        }
+        if ((mask & 1L << 17) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public OracleTablesCollectionOracleType readOracleTablesCollectionOracleType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return OracleTablesCollectionOracleType.TABLES;
+            default:
+                throw corrupt("OracleTablesCollectionOracleType", tag);
+        }
+    }
+
+    public OracleTablesCollectionType readOracleTablesCollectionType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return OracleTablesCollectionType.ORACLE_COLLECTION;
+            default:
+                throw corrupt("OracleTablesCollectionType", tag);
+        }
+    }
+
+    public PartOfSpeech readPartOfSpeech() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return PartOfSpeech.ADJECTIVE;
+            case 2:
+                return PartOfSpeech.ADJECTIVE_AS_PROPER_NOUN;
+            case 3:
+                return PartOfSpeech.ADJUNCT_COMMON_NOUN;
+            case 4:
+                return PartOfSpeech.ADJUNCT_PROPER_NOUN;
+            case 5:
+                return PartOfSpeech.ATTRIBUTIVE_VERB;
+            case 6:
+                return PartOfSpeech.COMMON_NOUN;
+            case 7:
+                return PartOfSpeech.COMMON_NOUN_AS_PROPER_NOUN;
+            case 8:
+                return PartOfSpeech.GERUND;
+            case 9:
+                return PartOfSpeech.PROPER_NOUN;
+            case 10:
+                return PartOfSpeech.VERB;
+            default:
+                throw corrupt("PartOfSpeech", tag);
+        }
+    }
+
+    public ProgressRollMethod readProgressRollMethod() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return ProgressRollMethod.MISS;
+            case 2:
+                return ProgressRollMethod.PROGRESS_ROLL;
+            case 3:
+                return ProgressRollMethod.STRONG_HIT;
+            case 4:
+                return ProgressRollMethod.WEAK_HIT;
+            default:
+                throw corrupt("ProgressRollMethod", tag);
+        }
+    }
+
+    public ProgressRollOption readProgressRollOption() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        ProgressRollOption value = new ProgressRollOption();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setUsing(readProgressRollOptionUsing());
+        }
+        return value;
+    }
+
+    public ProgressRollOptionUsing readProgressRollOptionUsing() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return ProgressRollOptionUsing.PROGRESS_TRACK;
+            default:
+                throw corrupt("ProgressRollOptionUsing", tag);
+        }
+    }
+
+    public ProgressTrackTypeInfo readProgressTrackTypeInfo() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        ProgressTrackTypeInfo value = new ProgressTrackTypeInfo();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setCategory(readLabel());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setControls(readMapOfObject());
+        }
+        return value;
+    }
+
+    public Rarity readRarity() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        Rarity value = new Rarity();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readRarityId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setAsset(readAssetId());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setType(readRarityType());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setXpCost(readShort());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        return value;
+    }
+
+    public RarityId readRarityId() throws IOException {
+        String value = readString();
+        return value == null ? null : ids.intern(RarityId.class, value, RarityId::new);
+    }
+
+    public RarityType readRarityType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return RarityType.RARITY;
+            default:
+                throw corrupt("RarityType", tag);
+        }
+    }
+
+    public RollableValue readRollableValue() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return readRollableValueAssetControl();
+            case 2:
+                return readRollableValueAssetOption();
+            case 3:
+                return readRollableValueAttachedAssetControl();
+            case 4:
+                return readRollableValueAttachedAssetOption();
+            case 5:
+                return readRollableValueConditionMeter();
+            case 6:
+                return readRollableValueCustom();
+            case 7:
+                return readRollableValueStat();
+            default:
+                throw corrupt("RollableValue", tag);
+        }
+    }
+
+    public RollableValueAssetControl readRollableValueAssetControl() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        RollableValueAssetControl value = new RollableValueAssetControl();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAssets(readListOfAssetIdWildcard());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setControl(readDictKey());
+        }
+        return value;
+    }
+
+    public RollableValueAssetOption readRollableValueAssetOption() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        RollableValueAssetOption value = new RollableValueAssetOption();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAssets(readListOfAssetIdWildcard());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setOption(readDictKey());
+        }
+        return value;
+    }
+
+    public RollableValueAttachedAssetControl readRollableValueAttachedAssetControl() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        RollableValueAttachedAssetControl value = new RollableValueAttachedAssetControl();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setControl(readDictKey());
+        }
+        return value;
+    }
+
+    public RollableValueAttachedAssetOption readRollableValueAttachedAssetOption() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        RollableValueAttachedAssetOption value = new RollableValueAttachedAssetOption();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setOption(readDictKey());
+        }
+        return value;
+    }
+
+    public RollableValueConditionMeter readRollableValueConditionMeter() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        RollableValueConditionMeter value = new RollableValueConditionMeter();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setConditionMeter(readConditionMeterKey());
+        }
+        return value;
+    }
+
+    public RollableValueCustom readRollableValueCustom() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        RollableValueCustom value = new RollableValueCustom();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setValue(readShort());
+        }
+        return value;
+    }
+
+    public RollableValueStat readRollableValueStat() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        RollableValueStat value = new RollableValueStat();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setStat(readStatKey());
+        }
+        return value;
+    }
+
+    public Rules readRules() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        Rules value = new Rules();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setConditionMeters(readMapOfConditionMeterRule());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setImpacts(readMapOfImpactCategory());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setSpecialTracks(readMapOfSpecialTrackRule());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setStats(readMapOfStatRule());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setTags(readMapOfTagRule());
+        }
+        return value;
+    }
+
+    public RulesExpansion readRulesExpansion() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        RulesExpansion value = new RulesExpansion();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setConditionMeters(readMapOfConditionMeterRule());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setImpacts(readMapOfImpactCategory());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setSpecialTracks(readMapOfSpecialTrackRule());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setStats(readMapOfStatRule());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setTags(readMapOfTagRule());
+        }
+        return value;
+    }
+
+    public RulesPackage readRulesPackage() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return readRulesPackageExpansion();
+            case 2:
+                return readRulesPackageRuleset();
+            default:
+                throw corrupt("RulesPackage", tag);
+        }
+    }
+
+    public RulesPackageExpansion readRulesPackageExpansion() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        RulesPackageExpansion value = new RulesPackageExpansion();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readExpansionId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setDataswornVersion(readRulesPackageExpansionDataswornVersion());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setRuleset(readRulesetId());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setAssets(readMapOfAssetCollection());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setAtlas(readMapOfAtlasCollection());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setAuthors(readListOfAuthorInfo());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setDate(readOffsetDateTime());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setDelveSites(readMapOfDelveSite());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setLicense(readLicense());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setMoves(readMapOfMoveCategory());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setNpcs(readMapOfNpcCollection());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setOracles(readMapOfOracleTablesCollection());
+        }
+        if ((mask & 1L << 13) != 0) {
+            value.setRarities(readMapOfRarity());
+        }
+        if ((mask & 1L << 14) != 0) {
+            value.setRules(readRulesExpansion());
+        }
+        if ((mask & 1L << 15) != 0) {
+            value.setSiteDomains(readMapOfDelveSiteDomain());
+        }
+        if ((mask & 1L << 16) != 0) {
+            value.setSiteThemes(readMapOfDelveSiteTheme());
+        }
+        if ((mask & 1L << 17) != 0) {
+            value.setTitle(readString());
+        }
+        if ((mask & 1L << 18) != 0) {
+            value.setTruths(readMapOfTruth());
+        }
+        if ((mask & 1L << 19) != 0) {
+            value.setUrl(readWebUrl());
+        }
+        return value;
+    }
+
+    public RulesPackageExpansionDataswornVersion readRulesPackageExpansionDataswornVersion() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return RulesPackageExpansionDataswornVersion.DEFAULT_NAME;
+            default:
+                throw corrupt("RulesPackageExpansionDataswornVersion", tag);
+        }
+    }
+
+    public RulesPackageRuleset readRulesPackageRuleset() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        RulesPackageRuleset value = new RulesPackageRuleset();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readRulesetId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setAssets(readMapOfAssetCollection());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setAuthors(readListOfAuthorInfo());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setDataswornVersion(readRulesPackageRulesetDataswornVersion());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setDate(readOffsetDateTime());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setLicense(readLicense());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setMoves(readMapOfMoveCategory());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setOracles(readMapOfOracleTablesCollection());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setRules(readRules());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setTitle(readString());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setUrl(readWebUrl());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setAtlas(readMapOfAtlasCollection());
+        }
+        if ((mask & 1L << 12) != 0) {
+            value.setDelveSites(readMapOfDelveSite());
+        }
+        if ((mask & 1L << 13) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 14) != 0) {
+            value.setNpcs(readMapOfNpcCollection());
+        }
+        if ((mask & 1L << 15) != 0) {
+            value.setRarities(readMapOfRarity());
+        }
+        if ((mask & 1L << 16) != 0) {
+            value.setSiteDomains(readMapOfDelveSiteDomain());
+        }
+        if ((mask & 1L << 17) != 0) {
+            value.setSiteThemes(readMapOfDelveSiteTheme());
+        }
+        if ((mask & 1L << 18) != 0) {
+            value.setTruths(readMapOfTruth());
+        }
+        return value;
+    }
+
+    public RulesPackageRulesetDataswornVersion readRulesPackageRulesetDataswornVersion() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return RulesPackageRulesetDataswornVersion.DEFAULT_NAME;
+            default:
+                throw corrupt("RulesPackageRulesetDataswornVersion", tag);
+        }
+    }
+
+    public RulesetId readRulesetId() throws IOException {
+        String value = readString();
+        return value == null ? null : ids.intern(RulesetId.class, value, RulesetId::new);
+    }
+
+    public SelectEnhancementFieldChoice readSelectEnhancementFieldChoice() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        SelectEnhancementFieldChoice value = new SelectEnhancementFieldChoice();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setChoiceType(readSelectEnhancementFieldChoiceChoiceType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setEnhanceAsset(readAssetEnhancement());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setEnhanceMoves(readListOfMoveEnhancement());
+        }
+        return value;
+    }
+
+    public SelectEnhancementFieldChoiceChoiceType readSelectEnhancementFieldChoiceChoiceType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return SelectEnhancementFieldChoiceChoiceType.CHOICE;
+            default:
+                throw corrupt("SelectEnhancementFieldChoiceChoiceType", tag);
+        }
+    }
+
+    public SelectValueFieldChoice readSelectValueFieldChoice() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return readSelectValueFieldChoiceAssetControl();
+            case 2:
+                return readSelectValueFieldChoiceAssetOption();
+            case 3:
+                return readSelectValueFieldChoiceAttachedAssetControl();
+            case 4:
+                return readSelectValueFieldChoiceAttachedAssetOption();
+            case 5:
+                return readSelectValueFieldChoiceConditionMeter();
+            case 6:
+                return readSelectValueFieldChoiceCustom();
+            case 7:
+                return readSelectValueFieldChoiceStat();
+            default:
+                throw corrupt("SelectValueFieldChoice", tag);
+        }
+    }
+
+    public SelectValueFieldChoiceAssetControl readSelectValueFieldChoiceAssetControl() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        SelectValueFieldChoiceAssetControl value = new SelectValueFieldChoiceAssetControl();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAssets(readListOfAssetIdWildcard());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setChoiceType(readSelectValueFieldChoiceAssetControlChoiceType());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setControl(readDictKey());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        return value;
+    }
+
+    public SelectValueFieldChoiceAssetControlChoiceType readSelectValueFieldChoiceAssetControlChoiceType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return SelectValueFieldChoiceAssetControlChoiceType.CHOICE;
+            default:
+                throw corrupt("SelectValueFieldChoiceAssetControlChoiceType", tag);
+        }
+    }
+
+    public SelectValueFieldChoiceAssetOption readSelectValueFieldChoiceAssetOption() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        SelectValueFieldChoiceAssetOption value = new SelectValueFieldChoiceAssetOption();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAssets(readListOfAssetIdWildcard());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setChoiceType(readSelectValueFieldChoiceAssetOptionChoiceType());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setOption(readDictKey());
+        }
+        return value;
+    }
+
+    public SelectValueFieldChoiceAssetOptionChoiceType readSelectValueFieldChoiceAssetOptionChoiceType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return SelectValueFieldChoiceAssetOptionChoiceType.CHOICE;
+            default:
+                throw corrupt("SelectValueFieldChoiceAssetOptionChoiceType", tag);
+        }
+    }
+
+    public SelectValueFieldChoiceAttachedAssetControl readSelectValueFieldChoiceAttachedAssetControl() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        SelectValueFieldChoiceAttachedAssetControl value = new SelectValueFieldChoiceAttachedAssetControl();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setChoiceType(readSelectValueFieldChoiceAttachedAssetControlChoiceType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setControl(readDictKey());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        return value;
+    }
+
+    public SelectValueFieldChoiceAttachedAssetControlChoiceType readSelectValueFieldChoiceAttachedAssetControlChoiceType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return SelectValueFieldChoiceAttachedAssetControlChoiceType.CHOICE;
+            default:
+                throw corrupt("SelectValueFieldChoiceAttachedAssetControlChoiceType", tag);
+        }
+    }
+
+    public SelectValueFieldChoiceAttachedAssetOption readSelectValueFieldChoiceAttachedAssetOption() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        SelectValueFieldChoiceAttachedAssetOption value = new SelectValueFieldChoiceAttachedAssetOption();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setChoiceType(readSelectValueFieldChoiceAttachedAssetOptionChoiceType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setOption(readDictKey());
+        }
+        return value;
+    }
+
+    public SelectValueFieldChoiceAttachedAssetOptionChoiceType readSelectValueFieldChoiceAttachedAssetOptionChoiceType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return SelectValueFieldChoiceAttachedAssetOptionChoiceType.CHOICE;
+            default:
+                throw corrupt("SelectValueFieldChoiceAttachedAssetOptionChoiceType", tag);
+        }
+    }
+
+    public SelectValueFieldChoiceConditionMeter readSelectValueFieldChoiceConditionMeter() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        SelectValueFieldChoiceConditionMeter value = new SelectValueFieldChoiceConditionMeter();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setChoiceType(readSelectValueFieldChoiceConditionMeterChoiceType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setConditionMeter(readConditionMeterKey());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        return value;
+    }
+
+    public SelectValueFieldChoiceConditionMeterChoiceType readSelectValueFieldChoiceConditionMeterChoiceType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return SelectValueFieldChoiceConditionMeterChoiceType.CHOICE;
+            default:
+                throw corrupt("SelectValueFieldChoiceConditionMeterChoiceType", tag);
+        }
+    }
+
+    public SelectValueFieldChoiceCustom readSelectValueFieldChoiceCustom() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        SelectValueFieldChoiceCustom value = new SelectValueFieldChoiceCustom();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setChoiceType(readSelectValueFieldChoiceCustomChoiceType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setValue(readShort());
+        }
+        return value;
+    }
+
+    public SelectValueFieldChoiceCustomChoiceType readSelectValueFieldChoiceCustomChoiceType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return SelectValueFieldChoiceCustomChoiceType.CHOICE;
+            default:
+                throw corrupt("SelectValueFieldChoiceCustomChoiceType", tag);
+        }
+    }
+
+    public SelectValueFieldChoiceStat readSelectValueFieldChoiceStat() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        SelectValueFieldChoiceStat value = new SelectValueFieldChoiceStat();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setChoiceType(readSelectValueFieldChoiceStatChoiceType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setStat(readStatKey());
+        }
+        return value;
+    }
+
+    public SelectValueFieldChoiceStatChoiceType readSelectValueFieldChoiceStatChoiceType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return SelectValueFieldChoiceStatChoiceType.CHOICE;
+            default:
+                throw corrupt("SelectValueFieldChoiceStatChoiceType", tag);
+        }
+    }
+
+    public SourceInfo readSourceInfo() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        SourceInfo value = new SourceInfo();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAuthors(readListOfAuthorInfo());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setDate(readOffsetDateTime());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setLicense(readLicense());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setTitle(readString());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setUrl(readWebUrl());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setPage(readUnsignedShort());
+        }
+        return value;
+    }
+
+    public SpecialTrackRollMethod readSpecialTrackRollMethod() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return SpecialTrackRollMethod.ALL;
+            case 2:
+                return SpecialTrackRollMethod.HIGHEST;
+            case 3:
+                return SpecialTrackRollMethod.LOWEST;
+            case 4:
+                return SpecialTrackRollMethod.MISS;
+            case 5:
+                return SpecialTrackRollMethod.PLAYER_CHOICE;
+            case 6:
+                return SpecialTrackRollMethod.STRONG_HIT;
+            case 7:
+                return SpecialTrackRollMethod.WEAK_HIT;
+            default:
+                throw corrupt("SpecialTrackRollMethod", tag);
+        }
+    }
+
+    public SpecialTrackRule readSpecialTrackRule() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        SpecialTrackRule value = new SpecialTrackRule();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setOptional(readBoolean());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setShared(readBoolean());
+        }
+        return value;
+    }
+
+    public SpecialTrackType readSpecialTrackType() throws IOException {
+        DictKey value = readDictKey();
+        return value == null ? null : new SpecialTrackType(value);
+    }
+
+    public StatKey readStatKey() throws IOException {
+        DictKey value = readDictKey();
+        return value == null ? null : new StatKey(value);
+    }
+
+    public StatRule readStatRule() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        StatRule value = new StatRule();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setLabel(readInputLabel());
+        }
+        return value;
+    }
+
+    public Suggestions readSuggestions() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        Suggestions value = new Suggestions();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAssets(readListOfAssetId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setAtlas(readListOfAtlasEntryId());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setMoves(readListOfMoveId());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setNpcs(readListOfNpcId());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setOracles(readListOfOracleRollableId());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setRarities(readListOfRarityId());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setSiteDomains(readListOfDelveSiteDomainId());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setSiteThemes(readListOfDelveSiteThemeId());
+        }
+        return value;
+    }
+
+    public SvgImageUrl readSvgImageUrl() throws IOException {
+        String value = readString();
+        return value == null ? null : new SvgImageUrl(value);
+    }
+
+    public Tag readTag() throws IOException {
+        Object value = readObject();
+        return value == null ? null : new Tag(value);
+    }
+
+    public TagRule readTagRule() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return readTagRuleAsset();
+            case 2:
+                return readTagRuleAssetCollection();
+            case 3:
+                return readTagRuleAtlasCollection();
+            case 4:
+                return readTagRuleAtlasEntry();
+            case 5:
+                return readTagRuleBoolean();
+            case 6:
+                return readTagRuleDelveSite();
+            case 7:
+                return readTagRuleDelveSiteDomain();
+            case 8:
+                return readTagRuleDelveSiteTheme();
+            case 9:
+                return readTagRuleEnum();
+            case 10:
+                return readTagRuleInteger();
+            case 11:
+                return readTagRuleMove();
+            case 12:
+                return readTagRuleMoveCategory();
+            case 13:
+                return readTagRuleNpc();
+            case 14:
+                return readTagRuleNpcCollection();
+            case 15:
+                return readTagRuleOracleCollection();
+            case 16:
+                return readTagRuleOracleRollable();
+            case 17:
+                return readTagRuleRarity();
+            case 18:
+                return readTagRuleTruth();
+            default:
+                throw corrupt("TagRule", tag);
+        }
+    }
+
+    public TagRuleAsset readTagRuleAsset() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TagRuleAsset value = new TagRuleAsset();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAppliesTo(readListOfObjectType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setWildcard(readBoolean());
+        }
+        return value;
+    }
+
+    public TagRuleAssetCollection readTagRuleAssetCollection() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TagRuleAssetCollection value = new TagRuleAssetCollection();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAppliesTo(readListOfObjectType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setWildcard(readBoolean());
+        }
+        return value;
+    }
+
+    public TagRuleAtlasCollection readTagRuleAtlasCollection() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TagRuleAtlasCollection value = new TagRuleAtlasCollection();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAppliesTo(readListOfObjectType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setWildcard(readBoolean());
+        }
+        return value;
+    }
+
+    public TagRuleAtlasEntry readTagRuleAtlasEntry() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TagRuleAtlasEntry value = new TagRuleAtlasEntry();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAppliesTo(readListOfObjectType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setWildcard(readBoolean());
+        }
+        return value;
+    }
+
+    public TagRuleBoolean readTagRuleBoolean() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TagRuleBoolean value = new TagRuleBoolean();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAppliesTo(readListOfObjectType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setArray(readBoolean());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        return value;
+    }
+
+    public TagRuleDelveSite readTagRuleDelveSite() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TagRuleDelveSite value = new TagRuleDelveSite();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAppliesTo(readListOfObjectType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setWildcard(readBoolean());
+        }
+        return value;
+    }
+
+    public TagRuleDelveSiteDomain readTagRuleDelveSiteDomain() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TagRuleDelveSiteDomain value = new TagRuleDelveSiteDomain();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAppliesTo(readListOfObjectType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setWildcard(readBoolean());
+        }
+        return value;
+    }
+
+    public TagRuleDelveSiteTheme readTagRuleDelveSiteTheme() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TagRuleDelveSiteTheme value = new TagRuleDelveSiteTheme();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAppliesTo(readListOfObjectType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setWildcard(readBoolean());
+        }
+        return value;
+    }
+
+    public TagRuleEnum readTagRuleEnum() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TagRuleEnum value = new TagRuleEnum();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAppliesTo(readListOfObjectType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setArray(readBoolean());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setEnum_(readListOfDictKey());
+        }
+        return value;
+    }
+
+    public TagRuleInteger readTagRuleInteger() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TagRuleInteger value = new TagRuleInteger();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAppliesTo(readListOfObjectType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setArray(readBoolean());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        return value;
+    }
+
+    public TagRuleMove readTagRuleMove() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TagRuleMove value = new TagRuleMove();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAppliesTo(readListOfObjectType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setWildcard(readBoolean());
+        }
+        return value;
+    }
+
+    public TagRuleMoveCategory readTagRuleMoveCategory() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TagRuleMoveCategory value = new TagRuleMoveCategory();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAppliesTo(readListOfObjectType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setWildcard(readBoolean());
+        }
+        return value;
+    }
+
+    public TagRuleNpc readTagRuleNpc() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TagRuleNpc value = new TagRuleNpc();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAppliesTo(readListOfObjectType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setWildcard(readBoolean());
+        }
+        return value;
+    }
+
+    public TagRuleNpcCollection readTagRuleNpcCollection() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TagRuleNpcCollection value = new TagRuleNpcCollection();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAppliesTo(readListOfObjectType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setWildcard(readBoolean());
+        }
+        return value;
+    }
+
+    public TagRuleOracleCollection readTagRuleOracleCollection() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TagRuleOracleCollection value = new TagRuleOracleCollection();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAppliesTo(readListOfObjectType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setWildcard(readBoolean());
+        }
+        return value;
+    }
+
+    public TagRuleOracleRollable readTagRuleOracleRollable() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TagRuleOracleRollable value = new TagRuleOracleRollable();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAppliesTo(readListOfObjectType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setWildcard(readBoolean());
+        }
+        return value;
+    }
+
+    public TagRuleRarity readTagRuleRarity() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TagRuleRarity value = new TagRuleRarity();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAppliesTo(readListOfObjectType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setWildcard(readBoolean());
+        }
+        return value;
+    }
+
+    public TagRuleTruth readTagRuleTruth() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TagRuleTruth value = new TagRuleTruth();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAppliesTo(readListOfObjectType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setWildcard(readBoolean());
+        }
+        return value;
+    }
+
+    public TemplateString readTemplateString() throws IOException {
+        String value = readString();
+        return value == null ? null : new TemplateString(value);
+    }
+
+    public TriggerActionRoll readTriggerActionRoll() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TriggerActionRoll value = new TriggerActionRoll();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setConditions(readListOfTriggerActionRollCondition());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setText(readMarkdownString());
+        }
+        return value;
+    }
+
+    public TriggerActionRollCondition readTriggerActionRollCondition() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TriggerActionRollCondition value = new TriggerActionRollCondition();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setMethod(readActionRollMethod());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setRollOptions(readListOfRollableValue());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setBy(readTriggerBy());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setText(readMarkdownString());
+        }
+        return value;
+    }
+
+    public TriggerActionRollConditionEnhancement readTriggerActionRollConditionEnhancement() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TriggerActionRollConditionEnhancement value = new TriggerActionRollConditionEnhancement();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setMethod(readActionRollMethod());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setRollOptions(readListOfRollableValue());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setBy(readTriggerBy());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setText(readMarkdownString());
+        }
+        return value;
+    }
+
+    public TriggerActionRollEnhancement readTriggerActionRollEnhancement() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TriggerActionRollEnhancement value = new TriggerActionRollEnhancement();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setConditions(readListOfTriggerActionRollConditionEnhancement());
+        }
+        return value;
+    }
+
+    public TriggerBy readTriggerBy() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TriggerBy value = new TriggerBy();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setAlly(readBoolean());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setPlayer(readBoolean());
+        }
+        return value;
+    }
+
+    public TriggerNoRoll readTriggerNoRoll() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TriggerNoRoll value = new TriggerNoRoll();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setConditions(readListOfTriggerNoRollCondition());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setText(readMarkdownString());
+        }
+        return value;
+    }
+
+    public TriggerNoRollCondition readTriggerNoRollCondition() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TriggerNoRollCondition value = new TriggerNoRollCondition();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setBy(readTriggerBy());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setText(readMarkdownString());
+        }
+        return value;
+    }
+
+    public TriggerNoRollEnhancement readTriggerNoRollEnhancement() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TriggerNoRollEnhancement value = new TriggerNoRollEnhancement();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setConditions(readListOfTriggerNoRollCondition());
+        }
+        return value;
+    }
+
+    public TriggerProgressRoll readTriggerProgressRoll() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TriggerProgressRoll value = new TriggerProgressRoll();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setConditions(readListOfTriggerProgressRollCondition());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setText(readMarkdownString());
+        }
+        return value;
+    }
+
+    public TriggerProgressRollCondition readTriggerProgressRollCondition() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TriggerProgressRollCondition value = new TriggerProgressRollCondition();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setMethod(readProgressRollMethod());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setRollOptions(readListOfProgressRollOption());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setBy(readTriggerBy());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setText(readMarkdownString());
+        }
+        return value;
+    }
+
+    public TriggerProgressRollConditionEnhancement readTriggerProgressRollConditionEnhancement() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TriggerProgressRollConditionEnhancement value = new TriggerProgressRollConditionEnhancement();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setMethod(readProgressRollMethod());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setRollOptions(readListOfProgressRollOption());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setBy(readTriggerBy());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setText(readMarkdownString());
+        }
+        return value;
+    }
+
+    public TriggerProgressRollEnhancement readTriggerProgressRollEnhancement() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TriggerProgressRollEnhancement value = new TriggerProgressRollEnhancement();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setConditions(readListOfTriggerProgressRollConditionEnhancement());
+        }
+        return value;
+    }
+
+    public TriggerSpecialTrack readTriggerSpecialTrack() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TriggerSpecialTrack value = new TriggerSpecialTrack();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setConditions(readListOfTriggerSpecialTrackCondition());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setText(readMarkdownString());
+        }
+        return value;
+    }
+
+    public TriggerSpecialTrackCondition readTriggerSpecialTrackCondition() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TriggerSpecialTrackCondition value = new TriggerSpecialTrackCondition();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setMethod(readSpecialTrackRollMethod());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setRollOptions(readListOfTriggerSpecialTrackConditionOption());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setBy(readTriggerBy());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setText(readMarkdownString());
+        }
+        return value;
+    }
+
+    public TriggerSpecialTrackConditionEnhancement readTriggerSpecialTrackConditionEnhancement() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TriggerSpecialTrackConditionEnhancement value = new TriggerSpecialTrackConditionEnhancement();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setMethod(readSpecialTrackRollMethod());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setRollOptions(readListOfTriggerSpecialTrackConditionOption());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setBy(readTriggerBy());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setText(readMarkdownString());
+        }
+        return value;
+    }
+
+    public TriggerSpecialTrackConditionOption readTriggerSpecialTrackConditionOption() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TriggerSpecialTrackConditionOption value = new TriggerSpecialTrackConditionOption();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setUsing(readSpecialTrackType());
+        }
+        return value;
+    }
+
+    public TriggerSpecialTrackEnhancement readTriggerSpecialTrackEnhancement() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TriggerSpecialTrackEnhancement value = new TriggerSpecialTrackEnhancement();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setConditions(readListOfTriggerSpecialTrackConditionEnhancement());
+        }
+        return value;
+    }
+
+    public Truth readTruth() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        Truth value = new Truth();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setId(readTruthId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setSource(readSourceInfo());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setDice(readDiceExpression());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setName(readLabel());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setOptions(readListOfTruthOption());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setComment(readString());
+        }
+        if ((mask & 1L << 6) != 0) {
+            value.setCanonicalName(readLabel());
+        }
+        if ((mask & 1L << 7) != 0) {
+            value.setIcon(readSvgImageUrl());
+        }
+        if ((mask & 1L << 8) != 0) {
+            value.setSuggestions(readSuggestions());
+        }
+        if ((mask & 1L << 9) != 0) {
+            value.setSummary(readMarkdownString());
+        }
+        if ((mask & 1L << 10) != 0) {
+            value.setTags(readMapOfMapOfTag());
+        }
+        if ((mask & 1L << 11) != 0) {
+            value.setYourCharacter(readMarkdownString());
+        }
+        return value;
+    }
+
+    public TruthId readTruthId() throws IOException {
+        String value = readString();
+        return value == null ? null : ids.intern(TruthId.class, value, TruthId::new);
+    }
+
+    public TruthOption readTruthOption() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TruthOption value = new TruthOption();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setDescription(readMarkdownString());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setQuestStarter(readMarkdownString());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setMax(readShort());
+        }
+        if ((mask & 1L << 3) != 0) {
+            value.setMin(readShort());
+        }
+        if ((mask & 1L << 4) != 0) {
+            value.setSummary(readMarkdownString());
+        }
+        if ((mask & 1L << 5) != 0) {
+            value.setTable(readTruthOptionTable());
+        }
+        return value;
+    }
+
+    public TruthOptionTable readTruthOptionTable() throws IOException {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        TruthOptionTable value = new TruthOptionTable();
+        long mask = header >>> 1;
+        if ((mask & 1L << 0) != 0) {
+            value.setDice(readDiceExpression());
+        }
+        if ((mask & 1L << 1) != 0) {
+            value.setOracleType(readTruthOptionTableOracleType());
+        }
+        if ((mask & 1L << 2) != 0) {
+            value.setRows(readListOfOracleTableRowText());
+        }
+        return value;
+    }
+
+    public TruthOptionTableOracleType readTruthOptionTableOracleType() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return TruthOptionTableOracleType.TABLE_TEXT;
+            default:
+                throw corrupt("TruthOptionTableOracleType", tag);
+        }
+    }
+
+    public UnsignedByte readUnsignedByte() {
+        Byte value = readByte();
+        return value == null ? null : new UnsignedByte(value);
+    }
+
+    public UnsignedInteger readUnsignedInteger() {
+        Integer value = readInteger();
+        return value == null ? null : new UnsignedInteger(value);
+    }
+
+    public UnsignedShort readUnsignedShort() {
+        Short value = readShort();
+        return value == null ? null : new UnsignedShort(value);
+    }
+
+    public WebUrl readWebUrl() throws IOException {
+        String value = readString();
+        return value == null ? null : new WebUrl(value);
+    }
+
+    public WebpImageUrl readWebpImageUrl() throws IOException {
+        String value = readString();
+        return value == null ? null : new WebpImageUrl(value);
+    }
+
+    public List<AssetAbility> readListOfAssetAbility() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<AssetAbility> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readAssetAbility());
+        }
+        return list;
+    }
+
+    public List<AssetId> readListOfAssetId() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<AssetId> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readAssetId());
+        }
+        return list;
+    }
+
+    public List<AssetIdWildcard> readListOfAssetIdWildcard() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<AssetIdWildcard> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readAssetIdWildcard());
+        }
+        return list;
+    }
+
+    public List<AtlasEntryId> readListOfAtlasEntryId() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<AtlasEntryId> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readAtlasEntryId());
+        }
+        return list;
+    }
+
+    public List<AuthorInfo> readListOfAuthorInfo() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<AuthorInfo> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readAuthorInfo());
+        }
+        return list;
+    }
+
+    public List<ConditionMeterKey> readListOfConditionMeterKey() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<ConditionMeterKey> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readConditionMeterKey());
+        }
+        return list;
+    }
+
+    public List<DelveSiteDenizen> readListOfDelveSiteDenizen() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<DelveSiteDenizen> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readDelveSiteDenizen());
+        }
+        return list;
+    }
+
+    public List<DelveSiteDomainId> readListOfDelveSiteDomainId() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<DelveSiteDomainId> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readDelveSiteDomainId());
+        }
+        return list;
+    }
+
+    public List<DelveSiteThemeId> readListOfDelveSiteThemeId() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<DelveSiteThemeId> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readDelveSiteThemeId());
+        }
+        return list;
+    }
+
+    public List<DictKey> readListOfDictKey() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<DictKey> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readDictKey());
+        }
+        return list;
+    }
+
+    public List<MarkdownString> readListOfMarkdownString() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<MarkdownString> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readMarkdownString());
+        }
+        return list;
+    }
+
+    public List<MoveEnhancement> readListOfMoveEnhancement() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<MoveEnhancement> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readMoveEnhancement());
+        }
+        return list;
+    }
+
+    public List<MoveId> readListOfMoveId() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<MoveId> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readMoveId());
+        }
+        return list;
+    }
+
+    public List<MoveIdWildcard> readListOfMoveIdWildcard() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<MoveIdWildcard> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readMoveIdWildcard());
+        }
+        return list;
+    }
+
+    public List<NpcId> readListOfNpcId() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<NpcId> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readNpcId());
+        }
+        return list;
+    }
+
+    public List<ObjectType> readListOfObjectType() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<ObjectType> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readObjectType());
+        }
+        return list;
+    }
+
+    public List<OracleRoll> readListOfOracleRoll() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<OracleRoll> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readOracleRoll());
+        }
+        return list;
+    }
+
+    public List<OracleRollableId> readListOfOracleRollableId() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<OracleRollableId> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readOracleRollableId());
+        }
+        return list;
+    }
+
+    public List<OracleTableRowText> readListOfOracleTableRowText() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<OracleTableRowText> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readOracleTableRowText());
+        }
+        return list;
+    }
+
+    public List<OracleTableRowText2> readListOfOracleTableRowText2() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<OracleTableRowText2> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readOracleTableRowText2());
+        }
+        return list;
+    }
+
+    public List<OracleTableRowText3> readListOfOracleTableRowText3() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<OracleTableRowText3> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readOracleTableRowText3());
+        }
+        return list;
+    }
+
+    public List<ProgressRollOption> readListOfProgressRollOption() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<ProgressRollOption> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readProgressRollOption());
+        }
+        return list;
+    }
+
+    public List<RarityId> readListOfRarityId() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<RarityId> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readRarityId());
+        }
+        return list;
+    }
+
+    public List<RollableValue> readListOfRollableValue() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<RollableValue> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readRollableValue());
+        }
+        return list;
+    }
+
+    public List<TriggerActionRollCondition> readListOfTriggerActionRollCondition() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<TriggerActionRollCondition> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readTriggerActionRollCondition());
+        }
+        return list;
+    }
+
+    public List<TriggerActionRollConditionEnhancement> readListOfTriggerActionRollConditionEnhancement() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<TriggerActionRollConditionEnhancement> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readTriggerActionRollConditionEnhancement());
+        }
+        return list;
+    }
+
+    public List<TriggerNoRollCondition> readListOfTriggerNoRollCondition() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<TriggerNoRollCondition> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readTriggerNoRollCondition());
+        }
+        return list;
+    }
+
+    public List<TriggerProgressRollCondition> readListOfTriggerProgressRollCondition() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<TriggerProgressRollCondition> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readTriggerProgressRollCondition());
+        }
+        return list;
+    }
+
+    public List<TriggerProgressRollConditionEnhancement> readListOfTriggerProgressRollConditionEnhancement() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<TriggerProgressRollConditionEnhancement> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readTriggerProgressRollConditionEnhancement());
+        }
+        return list;
+    }
+
+    public List<TriggerSpecialTrackCondition> readListOfTriggerSpecialTrackCondition() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<TriggerSpecialTrackCondition> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readTriggerSpecialTrackCondition());
+        }
+        return list;
+    }
+
+    public List<TriggerSpecialTrackConditionEnhancement> readListOfTriggerSpecialTrackConditionEnhancement() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<TriggerSpecialTrackConditionEnhancement> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readTriggerSpecialTrackConditionEnhancement());
+        }
+        return list;
+    }
+
+    public List<TriggerSpecialTrackConditionOption> readListOfTriggerSpecialTrackConditionOption() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<TriggerSpecialTrackConditionOption> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readTriggerSpecialTrackConditionOption());
+        }
+        return list;
+    }
+
+    public List<TruthOption> readListOfTruthOption() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<TruthOption> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readTruthOption());
+        }
+        return list;
+    }
+
+    public List<WebpImageUrl> readListOfWebpImageUrl() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<WebpImageUrl> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readWebpImageUrl());
+        }
+        return list;
+    }
+
+    public Map<String, Asset> readMapOfAsset() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Asset> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readAsset());
+        }
+        return map;
+    }
+
+    public Map<String, AssetAbilityControlField> readMapOfAssetAbilityControlField() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, AssetAbilityControlField> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readAssetAbilityControlField());
+        }
+        return map;
+    }
+
+    public Map<String, AssetAbilityOptionField> readMapOfAssetAbilityOptionField() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, AssetAbilityOptionField> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readAssetAbilityOptionField());
+        }
+        return map;
+    }
+
+    public Map<String, AssetCollection> readMapOfAssetCollection() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, AssetCollection> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readAssetCollection());
+        }
+        return map;
+    }
+
+    public Map<String, AssetConditionMeterControlField> readMapOfAssetConditionMeterControlField() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, AssetConditionMeterControlField> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readAssetConditionMeterControlField());
+        }
+        return map;
+    }
+
+    public Map<String, AssetControlField> readMapOfAssetControlField() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, AssetControlField> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readAssetControlField());
+        }
+        return map;
+    }
+
+    public Map<String, AssetControlFieldEnhancement> readMapOfAssetControlFieldEnhancement() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, AssetControlFieldEnhancement> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readAssetControlFieldEnhancement());
+        }
+        return map;
+    }
+
+    public Map<String, AssetControlFieldSelectEnhancementChoice> readMapOfAssetControlFieldSelectEnhancementChoice() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, AssetControlFieldSelectEnhancementChoice> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readAssetControlFieldSelectEnhancementChoice());
+        }
+        return map;
+    }
+
+    public Map<String, AssetOptionField> readMapOfAssetOptionField() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, AssetOptionField> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readAssetOptionField());
+        }
+        return map;
+    }
+
+    public Map<String, AssetOptionFieldSelectEnhancementChoice> readMapOfAssetOptionFieldSelectEnhancementChoice() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, AssetOptionFieldSelectEnhancementChoice> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readAssetOptionFieldSelectEnhancementChoice());
+        }
+        return map;
+    }
+
+    public Map<String, AtlasCollection> readMapOfAtlasCollection() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, AtlasCollection> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readAtlasCollection());
+        }
+        return map;
+    }
+
+    public Map<String, AtlasEntry> readMapOfAtlasEntry() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, AtlasEntry> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readAtlasEntry());
+        }
+        return map;
+    }
+
+    public Map<String, ConditionMeterRule> readMapOfConditionMeterRule() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, ConditionMeterRule> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readConditionMeterRule());
+        }
+        return map;
+    }
+
+    public Map<String, DelveSite> readMapOfDelveSite() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, DelveSite> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readDelveSite());
+        }
+        return map;
+    }
+
+    public Map<String, DelveSiteDomain> readMapOfDelveSiteDomain() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, DelveSiteDomain> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readDelveSiteDomain());
+        }
+        return map;
+    }
+
+    public Map<String, DelveSiteTheme> readMapOfDelveSiteTheme() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, DelveSiteTheme> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readDelveSiteTheme());
+        }
+        return map;
+    }
+
+    public Map<String, ImpactCategory> readMapOfImpactCategory() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, ImpactCategory> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readImpactCategory());
+        }
+        return map;
+    }
+
+    public Map<String, ImpactRule> readMapOfImpactRule() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, ImpactRule> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readImpactRule());
+        }
+        return map;
+    }
+
+    public Map<String, Map<String, Tag>> readMapOfMapOfTag() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Map<String, Tag>> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readMapOfTag());
+        }
+        return map;
+    }
+
+    public Map<String, Move> readMapOfMove() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Move> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readMove());
+        }
+        return map;
+    }
+
+    public Map<String, MoveCategory> readMapOfMoveCategory() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, MoveCategory> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readMoveCategory());
+        }
+        return map;
+    }
+
+    public Map<String, Npc> readMapOfNpc() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Npc> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readNpc());
+        }
+        return map;
+    }
+
+    public Map<String, NpcCollection> readMapOfNpcCollection() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, NpcCollection> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readNpcCollection());
+        }
+        return map;
+    }
+
+    public Map<String, NpcVariant> readMapOfNpcVariant() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, NpcVariant> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readNpcVariant());
+        }
+        return map;
+    }
+
+    public Map<String, Object> readMapOfObject() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readObject());
+        }
+        return map;
+    }
+
+    public Map<String, OracleCollection> readMapOfOracleCollection() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, OracleCollection> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readOracleCollection());
+        }
+        return map;
+    }
+
+    public Map<String, OracleColumnText> readMapOfOracleColumnText() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, OracleColumnText> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readOracleColumnText());
+        }
+        return map;
+    }
+
+    public Map<String, OracleColumnText2> readMapOfOracleColumnText2() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, OracleColumnText2> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readOracleColumnText2());
+        }
+        return map;
+    }
+
+    public Map<String, OracleColumnText3> readMapOfOracleColumnText3() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, OracleColumnText3> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readOracleColumnText3());
+        }
+        return map;
+    }
+
+    public Map<String, OracleTableRollable> readMapOfOracleTableRollable() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, OracleTableRollable> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readOracleTableRollable());
+        }
+        return map;
+    }
+
+    public Map<String, OracleTablesCollection> readMapOfOracleTablesCollection() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, OracleTablesCollection> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readOracleTablesCollection());
+        }
+        return map;
+    }
+
+    public Map<String, Rarity> readMapOfRarity() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Rarity> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readRarity());
+        }
+        return map;
+    }
+
+    public Map<String, SelectEnhancementFieldChoice> readMapOfSelectEnhancementFieldChoice() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, SelectEnhancementFieldChoice> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readSelectEnhancementFieldChoice());
+        }
+        return map;
+    }
+
+    public Map<String, SelectValueFieldChoice> readMapOfSelectValueFieldChoice() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, SelectValueFieldChoice> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readSelectValueFieldChoice());
+        }
+        return map;
+    }
+
+    public Map<String, SpecialTrackRule> readMapOfSpecialTrackRule() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, SpecialTrackRule> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readSpecialTrackRule());
+        }
+        return map;
+    }
+
+    public Map<String, StatRule> readMapOfStatRule() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, StatRule> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readStatRule());
+        }
+        return map;
+    }
+
+    public Map<String, Tag> readMapOfTag() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Tag> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readTag());
+        }
+        return map;
+    }
+
+    public Map<String, TagRule> readMapOfTagRule() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, TagRule> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readTagRule());
+        }
+        return map;
+    }
+
+    public Map<String, Truth> readMapOfTruth() throws IOException {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Truth> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readTruth());
+        }
+        return map;
+    }
+}
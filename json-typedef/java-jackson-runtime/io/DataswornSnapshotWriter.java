@@ -0,0 +1,8771 @@
+// Code generated by Datasworn.codegen.StreamingCodegen. DO NOT EDIT.
+
+package Datasworn.io;
+
+import Datasworn.ActionRollMethod;
+import Datasworn.Asset;
+import Datasworn.AssetAbility;
+import Datasworn.AssetAbilityControlField;
+import Datasworn.AssetAbilityControlFieldCheckbox;
+import Datasworn.AssetAbilityControlFieldClock;
+import Datasworn.AssetAbilityControlFieldCounter;
+import Datasworn.AssetAbilityControlFieldText;
+import Datasworn.AssetAbilityId;
+import Datasworn.AssetAbilityOptionField;
+import Datasworn.AssetAbilityOptionFieldText;
+import Datasworn.AssetAttachment;
+import Datasworn.AssetCollection;
+import Datasworn.AssetCollectionId;
+import Datasworn.AssetCollectionType;
+import Datasworn.AssetConditionMeterControlField;
+import Datasworn.AssetConditionMeterControlFieldCardFlip;
+import Datasworn.AssetConditionMeterControlFieldCheckbox;
+import Datasworn.AssetControlField;
+import Datasworn.AssetControlFieldCardFlip;
+import Datasworn.AssetControlFieldCheckbox;
+import Datasworn.AssetControlFieldConditionMeter;
+import Datasworn.AssetControlFieldConditionMeterMoves;
+import Datasworn.AssetControlFieldEnhancement;
+import Datasworn.AssetControlFieldEnhancementConditionMeter;
+import Datasworn.AssetControlFieldSelectEnhancement;
+import Datasworn.AssetControlFieldSelectEnhancementChoice;
+import Datasworn.AssetControlFieldSelectEnhancementChoiceChoice;
+import Datasworn.AssetControlFieldSelectEnhancementChoiceChoiceGroup;
+import Datasworn.AssetEnhancement;
+import Datasworn.AssetId;
+import Datasworn.AssetIdWildcard;
+import Datasworn.AssetOptionField;
+import Datasworn.AssetOptionFieldSelectEnhancement;
+import Datasworn.AssetOptionFieldSelectEnhancementChoice;
+import Datasworn.AssetOptionFieldSelectEnhancementChoiceChoice;
+import Datasworn.AssetOptionFieldSelectEnhancementChoiceChoiceGroup;
+import Datasworn.AssetOptionFieldSelectValue;
+import Datasworn.AssetOptionFieldText;
+import Datasworn.AssetType;
+import Datasworn.AtlasCollection;
+import Datasworn.AtlasCollectionId;
+import Datasworn.AtlasCollectionType;
+import Datasworn.AtlasEntry;
+import Datasworn.AtlasEntryId;
+import Datasworn.AtlasEntryType;
+import Datasworn.AuthorInfo;
+import Datasworn.ChallengeRank;
+import Datasworn.ConditionMeterKey;
+import Datasworn.ConditionMeterRule;
+import Datasworn.CssColor;
+import Datasworn.DelveSite;
+import Datasworn.DelveSiteDenizen;
+import Datasworn.DelveSiteDenizenFrequency;
+import Datasworn.DelveSiteDomain;
+import Datasworn.DelveSiteDomainId;
+import Datasworn.DelveSiteDomainType;
+import Datasworn.DelveSiteId;
+import Datasworn.DelveSiteTheme;
+import Datasworn.DelveSiteThemeId;
+import Datasworn.DelveSiteThemeType;
+import Datasworn.DelveSiteType;
+import Datasworn.DiceExpression;
+import Datasworn.DictKey;
+import Datasworn.ExpansionId;
+import Datasworn.I18nHint;
+import Datasworn.I18nHints;
+import Datasworn.I18nHintsTemplate;
+import Datasworn.ImpactCategory;
+import Datasworn.ImpactRule;
+import Datasworn.InputLabel;
+import Datasworn.Label;
+import Datasworn.License;
+import Datasworn.MarkdownString;
+import Datasworn.Move;
+import Datasworn.MoveActionRoll;
+import Datasworn.MoveActionRollType;
+import Datasworn.MoveCategory;
+import Datasworn.MoveCategoryId;
+import Datasworn.MoveCategoryType;
+import Datasworn.MoveEnhancement;
+import Datasworn.MoveEnhancementActionRoll;
+import Datasworn.MoveEnhancementNoRoll;
+import Datasworn.MoveEnhancementProgressRoll;
+import Datasworn.MoveEnhancementSpecialTrack;
+import Datasworn.MoveId;
+import Datasworn.MoveIdWildcard;
+import Datasworn.MoveNoRoll;
+import Datasworn.MoveNoRollType;
+import Datasworn.MoveOutcome;
+import Datasworn.MoveOutcomes;
+import Datasworn.MoveProgressRoll;
+import Datasworn.MoveProgressRollType;
+import Datasworn.MoveSpecialTrack;
+import Datasworn.MoveSpecialTrackType;
+import Datasworn.Npc;
+import Datasworn.NpcCollection;
+import Datasworn.NpcCollectionId;
+import Datasworn.NpcCollectionType;
+import Datasworn.NpcId;
+import Datasworn.NpcNature;
+import Datasworn.NpcType;
+import Datasworn.NpcVariant;
+import Datasworn.NpcVariantId;
+import Datasworn.ObjectType;
+import Datasworn.OracleCollection;
+import Datasworn.OracleCollectionId;
+import Datasworn.OracleCollectionOracleTableSharedText3;
+import Datasworn.OracleCollectionOracleTableSharedText3ColumnLabels;
+import Datasworn.OracleCollectionOracleTableSharedText3Type;
+import Datasworn.OracleCollectionTableSharedRolls;
+import Datasworn.OracleCollectionTableSharedRollsColumnLabels;
+import Datasworn.OracleCollectionTableSharedRollsType;
+import Datasworn.OracleCollectionTableSharedText;
+import Datasworn.OracleCollectionTableSharedText2;
+import Datasworn.OracleCollectionTableSharedText2ColumnLabels;
+import Datasworn.OracleCollectionTableSharedText2Type;
+import Datasworn.OracleCollectionTableSharedTextColumnLabels;
+import Datasworn.OracleCollectionTableSharedTextType;
+import Datasworn.OracleCollectionTables;
+import Datasworn.OracleCollectionTablesType;
+import Datasworn.OracleColumnText;
+import Datasworn.OracleColumnText2;
+import Datasworn.OracleColumnText2OracleType;
+import Datasworn.OracleColumnText2Type;
+import Datasworn.OracleColumnText3;
+import Datasworn.OracleColumnText3OracleType;
+import Datasworn.OracleColumnText3Type;
+import Datasworn.OracleColumnTextOracleType;
+import Datasworn.OracleColumnTextType;
+import Datasworn.OracleDuplicateBehavior;
+import Datasworn.OracleMatchBehavior;
+import Datasworn.OracleRoll;
+import Datasworn.OracleRollTemplate;
+import Datasworn.OracleRollableId;
+import Datasworn.OracleTableRollable;
+import Datasworn.OracleTableRollableTableText;
+import Datasworn.OracleTableRollableTableText2;
+import Datasworn.OracleTableRollableTableText2ColumnLabels;
+import Datasworn.OracleTableRollableTableText2RecommendedRolls;
+import Datasworn.OracleTableRollableTableText2Type;
+import Datasworn.OracleTableRollableTableText3;
+import Datasworn.OracleTableRollableTableText3ColumnLabels;
+import Datasworn.OracleTableRollableTableText3RecommendedRolls;
+import Datasworn.OracleTableRollableTableText3Type;
+import Datasworn.OracleTableRollableTableTextColumnLabels;
+import Datasworn.OracleTableRollableTableTextRecommendedRolls;
+import Datasworn.OracleTableRollableTableTextType;
+import Datasworn.OracleTableRowText;
+import Datasworn.OracleTableRowText2;
+import Datasworn.OracleTableRowText3;
+import Datasworn.OracleTablesCollection;
+import Datasworn.OracleTablesCollectionOracleType;
+import Datasworn.OracleTablesCollectionType;
+import Datasworn.PartOfSpeech;
+import Datasworn.ProgressRollMethod;
+import Datasworn.ProgressRollOption;
+import Datasworn.ProgressRollOptionUsing;
+import Datasworn.ProgressTrackTypeInfo;
+import Datasworn.Rarity;
+import Datasworn.RarityId;
+import Datasworn.RarityType;
+import Datasworn.RollableValue;
+import Datasworn.RollableValueAssetControl;
+import Datasworn.RollableValueAssetOption;
+import Datasworn.RollableValueAttachedAssetControl;
+import Datasworn.RollableValueAttachedAssetOption;
+import Datasworn.RollableValueConditionMeter;
+import Datasworn.RollableValueCustom;
+import Datasworn.RollableValueStat;
+import Datasworn.Rules;
+import Datasworn.RulesExpansion;
+import Datasworn.RulesPackage;
+import Datasworn.RulesPackageExpansion;
+import Datasworn.RulesPackageExpansionDataswornVersion;
+import Datasworn.RulesPackageRuleset;
+import Datasworn.RulesPackageRulesetDataswornVersion;
+import Datasworn.RulesetId;
+import Datasworn.SelectEnhancementFieldChoice;
+import Datasworn.SelectEnhancementFieldChoiceChoiceType;
+import Datasworn.SelectValueFieldChoice;
+import Datasworn.SelectValueFieldChoiceAssetControl;
+import Datasworn.SelectValueFieldChoiceAssetControlChoiceType;
+import Datasworn.SelectValueFieldChoiceAssetOption;
+import Datasworn.SelectValueFieldChoiceAssetOptionChoiceType;
+import Datasworn.SelectValueFieldChoiceAttachedAssetControl;
+import Datasworn.SelectValueFieldChoiceAttachedAssetControlChoiceType;
+import Datasworn.SelectValueFieldChoiceAttachedAssetOption;
+import Datasworn.SelectValueFieldChoiceAttachedAssetOptionChoiceType;
+import Datasworn.SelectValueFieldChoiceConditionMeter;
+import Datasworn.SelectValueFieldChoiceConditionMeterChoiceType;
+import Datasworn.SelectValueFieldChoiceCustom;
+import Datasworn.SelectValueFieldChoiceCustomChoiceType;
+import Datasworn.SelectValueFieldChoiceStat;
+import Datasworn.SelectValueFieldChoiceStatChoiceType;
+import Datasworn.SourceInfo;
+import Datasworn.SpecialTrackRollMethod;
+import Datasworn.SpecialTrackRule;
+import Datasworn.SpecialTrackType;
+import Datasworn.StatKey;
+import Datasworn.StatRule;
+import Datasworn.Suggestions;
+import Datasworn.SvgImageUrl;
+import Datasworn.Tag;
+import Datasworn.TagRule;
+import Datasworn.TagRuleAsset;
+import Datasworn.TagRuleAssetCollection;
+import Datasworn.TagRuleAtlasCollection;
+import Datasworn.TagRuleAtlasEntry;
+import Datasworn.TagRuleBoolean;
+import Datasworn.TagRuleDelveSite;
+import Datasworn.TagRuleDelveSiteDomain;
+import Datasworn.TagRuleDelveSiteTheme;
+import Datasworn.TagRuleEnum;
+import Datasworn.TagRuleInteger;
+import Datasworn.TagRuleMove;
+import Datasworn.TagRuleMoveCategory;
+import Datasworn.TagRuleNpc;
+import Datasworn.TagRuleNpcCollection;
+import Datasworn.TagRuleOracleCollection;
+import Datasworn.TagRuleOracleRollable;
+import Datasworn.TagRuleRarity;
+import Datasworn.TagRuleTruth;
+import Datasworn.TemplateString;
+import Datasworn.TriggerActionRoll;
+import Datasworn.TriggerActionRollCondition;
+import Datasworn.TriggerActionRollConditionEnhancement;
+import Datasworn.TriggerActionRollEnhancement;
+import Datasworn.TriggerBy;
+import Datasworn.TriggerNoRoll;
+import Datasworn.TriggerNoRollCondition;
+import Datasworn.TriggerNoRollEnhancement;
+import Datasworn.TriggerProgressRoll;
+import Datasworn.TriggerProgressRollCondition;
+import Datasworn.TriggerProgressRollConditionEnhancement;
+import Datasworn.TriggerProgressRollEnhancement;
+import Datasworn.TriggerSpecialTrack;
+import Datasworn.TriggerSpecialTrackCondition;
+import Datasworn.TriggerSpecialTrackConditionEnhancement;
+import Datasworn.TriggerSpecialTrackConditionOption;
+import Datasworn.TriggerSpecialTrackEnhancement;
+import Datasworn.Truth;
+import Datasworn.TruthId;
+import Datasworn.TruthOption;
+import Datasworn.TruthOptionTable;
+import Datasworn.TruthOptionTableOracleType;
+import Datasworn.UnsignedByte;
+import Datasworn.UnsignedInteger;
+import Datasworn.UnsignedShort;
+import Datasworn.WebUrl;
+import Datasworn.WebpImageUrl;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes Datasworn bindings into the binary snapshot format read by
+ * {@link DataswornSnapshotReader}.
+ */
+final class DataswornSnapshotWriter extends SnapshotWriterBase {
+    static final long SCHEMA_FINGERPRINT = 0x0d66dfa036195e7eL;
+
+    static final String DATASWORN_VERSION = "0.0.10";
+
+    /**
+     * Returns the complete snapshot, once the root value is written.
+     */
+    byte[] finish() {
+        return finish(SCHEMA_FINGERPRINT, DATASWORN_VERSION);
+    }
+
+    public void writeActionRollMethod(ActionRollMethod value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case ALL:
+                writeVarLong(1);
+                break;
+            case HIGHEST:
+                writeVarLong(2);
+                break;
+            case LOWEST:
+                writeVarLong(3);
+                break;
+            case MISS:
+                writeVarLong(4);
+                break;
+            case PLAYER_CHOICE:
+                writeVarLong(5);
+                break;
+            case STRONG_HIT:
+                writeVarLong(6);
+                break;
+            case WEAK_HIT:
+                writeVarLong(7);
+                break;
+        }
+    }
+
+    public void writeAsset(Asset value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getAbilities() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getCategory() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getCountAsImpact() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getShared() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getAttachments() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getColor() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getControls() != null) {
+            mask |= 1L << 12;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 13;
+        }
+        if (value.getOptions() != null) {
+            mask |= 1L << 14;
+        }
+        if (value.getRequirement() != null) {
+            mask |= 1L << 15;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 16;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 17;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeAssetId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeListOfAssetAbility(value.getAbilities());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeLabel(value.getCategory());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeBoolean(value.getCountAsImpact());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeBoolean(value.getShared());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeAssetType(value.getType());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeAssetAttachment(value.getAttachments());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeCssColor(value.getColor());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeMapOfAssetControlField(value.getControls());
+        }
+        if ((mask & 1L << 13) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 14) != 0) {
+            writeMapOfAssetOptionField(value.getOptions());
+        }
+        if ((mask & 1L << 15) != 0) {
+            writeMarkdownString(value.getRequirement());
+        }
+        if ((mask & 1L << 16) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 17) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeAssetAbility(AssetAbility value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getEnabled() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getText() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getControls() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getEnhanceAsset() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getEnhanceMoves() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getMoves() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getOptions() != null) {
+            mask |= 1L << 9;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeAssetAbilityId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeBoolean(value.getEnabled());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeMarkdownString(value.getText());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeMapOfAssetAbilityControlField(value.getControls());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeAssetEnhancement(value.getEnhanceAsset());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeListOfMoveEnhancement(value.getEnhanceMoves());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeMapOfMove(value.getMoves());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeMapOfAssetAbilityOptionField(value.getOptions());
+        }
+    }
+
+    public void writeAssetAbilityControlField(AssetAbilityControlField value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        if (value instanceof AssetAbilityControlFieldCheckbox) {
+            writeVarLong(1);
+            writeAssetAbilityControlFieldCheckbox((AssetAbilityControlFieldCheckbox) value);
+        } else if (value instanceof AssetAbilityControlFieldClock) {
+            writeVarLong(2);
+            writeAssetAbilityControlFieldClock((AssetAbilityControlFieldClock) value);
+        } else if (value instanceof AssetAbilityControlFieldCounter) {
+            writeVarLong(3);
+            writeAssetAbilityControlFieldCounter((AssetAbilityControlFieldCounter) value);
+        } else if (value instanceof AssetAbilityControlFieldText) {
+            writeVarLong(4);
+            writeAssetAbilityControlFieldText((AssetAbilityControlFieldText) value);
+        } else {
+            throw new IllegalArgumentException("Unknown AssetAbilityControlField subtype " + value.getClass().getName());
+        }
+    }
+
+    public void writeAssetAbilityControlFieldCheckbox(AssetAbilityControlFieldCheckbox value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getDisablesAsset() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getIsImpact() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getLabel() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getValue() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 4;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeBoolean(value.getDisablesAsset());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeBoolean(value.getIsImpact());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeBoolean(value.getValue());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+    }
+
+    public void writeAssetAbilityControlFieldClock(AssetAbilityControlFieldClock value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getLabel() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getMax() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getMin() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getRollable() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getValue() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 5;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeByte(value.getMax());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeByte(value.getMin());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeBoolean(value.getRollable());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeByte(value.getValue());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+    }
+
+    public void writeAssetAbilityControlFieldCounter(AssetAbilityControlFieldCounter value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getLabel() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getMax() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getMin() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getRollable() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getValue() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 5;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeShort(value.getMax());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeByte(value.getMin());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeBoolean(value.getRollable());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeByte(value.getValue());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+    }
+
+    public void writeAssetAbilityControlFieldText(AssetAbilityControlFieldText value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getLabel() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getValue() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeString(value.getValue());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+    }
+
+    public void writeAssetAbilityId(AssetAbilityId value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeAssetAbilityOptionField(AssetAbilityOptionField value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        if (value instanceof AssetAbilityOptionFieldText) {
+            writeVarLong(1);
+            writeAssetAbilityOptionFieldText((AssetAbilityOptionFieldText) value);
+        } else {
+            throw new IllegalArgumentException("Unknown AssetAbilityOptionField subtype " + value.getClass().getName());
+        }
+    }
+
+    public void writeAssetAbilityOptionFieldText(AssetAbilityOptionFieldText value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getLabel() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getValue() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeString(value.getValue());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+    }
+
+    public void writeAssetAttachment(AssetAttachment value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAssets() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getMax() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfAssetIdWildcard(value.getAssets());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeShort(value.getMax());
+        }
+    }
+
+    public void writeAssetCollection(AssetCollection value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getColor() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getContents() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getEnhances() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getImages() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getReplaces() != null) {
+            mask |= 1L << 12;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 13;
+        }
+        if (value.getSummary() != null) {
+            mask |= 1L << 14;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 15;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeAssetCollectionId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeAssetCollectionType(value.getType());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeCssColor(value.getColor());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeMapOfAsset(value.getContents());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeAssetCollectionId(value.getEnhances());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeListOfWebpImageUrl(value.getImages());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeAssetCollectionId(value.getReplaces());
+        }
+        if ((mask & 1L << 13) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 14) != 0) {
+            writeMarkdownString(value.getSummary());
+        }
+        if ((mask & 1L << 15) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeAssetCollectionId(AssetCollectionId value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeAssetCollectionType(AssetCollectionType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case ASSET_COLLECTION:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeAssetConditionMeterControlField(AssetConditionMeterControlField value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        if (value instanceof AssetConditionMeterControlFieldCardFlip) {
+            writeVarLong(1);
+            writeAssetConditionMeterControlFieldCardFlip((AssetConditionMeterControlFieldCardFlip) value);
+        } else if (value instanceof AssetConditionMeterControlFieldCheckbox) {
+            writeVarLong(2);
+            writeAssetConditionMeterControlFieldCheckbox((AssetConditionMeterControlFieldCheckbox) value);
+        } else {
+            throw new IllegalArgumentException("Unknown AssetConditionMeterControlField subtype " + value.getClass().getName());
+        }
+    }
+
+    public void writeAssetConditionMeterControlFieldCardFlip(AssetConditionMeterControlFieldCardFlip value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getDisablesAsset() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getIsImpact() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getLabel() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getValue() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 4;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeBoolean(value.getDisablesAsset());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeBoolean(value.getIsImpact());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeBoolean(value.getValue());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+    }
+
+    public void writeAssetConditionMeterControlFieldCheckbox(AssetConditionMeterControlFieldCheckbox value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getDisablesAsset() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getIsImpact() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getLabel() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getValue() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 4;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeBoolean(value.getDisablesAsset());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeBoolean(value.getIsImpact());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeBoolean(value.getValue());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+    }
+
+    public void writeAssetControlField(AssetControlField value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        if (value instanceof AssetControlFieldCardFlip) {
+            writeVarLong(1);
+            writeAssetControlFieldCardFlip((AssetControlFieldCardFlip) value);
+        } else if (value instanceof AssetControlFieldCheckbox) {
+            writeVarLong(2);
+            writeAssetControlFieldCheckbox((AssetControlFieldCheckbox) value);
+        } else if (value instanceof AssetControlFieldConditionMeter) {
+            writeVarLong(3);
+            writeAssetControlFieldConditionMeter((AssetControlFieldConditionMeter) value);
+        } else if (value instanceof AssetControlFieldSelectEnhancement) {
+            writeVarLong(4);
+            writeAssetControlFieldSelectEnhancement((AssetControlFieldSelectEnhancement) value);
+        } else {
+            throw new IllegalArgumentException("Unknown AssetControlField subtype " + value.getClass().getName());
+        }
+    }
+
+    public void writeAssetControlFieldCardFlip(AssetControlFieldCardFlip value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getDisablesAsset() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getIsImpact() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getLabel() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getValue() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 4;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeBoolean(value.getDisablesAsset());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeBoolean(value.getIsImpact());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeBoolean(value.getValue());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+    }
+
+    public void writeAssetControlFieldCheckbox(AssetControlFieldCheckbox value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getDisablesAsset() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getIsImpact() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getLabel() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getValue() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 4;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeBoolean(value.getDisablesAsset());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeBoolean(value.getIsImpact());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeBoolean(value.getValue());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+    }
+
+    public void writeAssetControlFieldConditionMeter(AssetControlFieldConditionMeter value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getLabel() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getMax() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getMin() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getRollable() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getValue() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getControls() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getMoves() != null) {
+            mask |= 1L << 7;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeByte(value.getMax());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeByte(value.getMin());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeBoolean(value.getRollable());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeByte(value.getValue());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeMapOfAssetConditionMeterControlField(value.getControls());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeAssetControlFieldConditionMeterMoves(value.getMoves());
+        }
+    }
+
+    public void writeAssetControlFieldConditionMeterMoves(AssetControlFieldConditionMeterMoves value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getRecover() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSuffer() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfMoveIdWildcard(value.getRecover());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeListOfMoveIdWildcard(value.getSuffer());
+        }
+    }
+
+    public void writeAssetControlFieldEnhancement(AssetControlFieldEnhancement value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        if (value instanceof AssetControlFieldEnhancementConditionMeter) {
+            writeVarLong(1);
+            writeAssetControlFieldEnhancementConditionMeter((AssetControlFieldEnhancementConditionMeter) value);
+        } else {
+            throw new IllegalArgumentException("Unknown AssetControlFieldEnhancement subtype " + value.getClass().getName());
+        }
+    }
+
+    public void writeAssetControlFieldEnhancementConditionMeter(AssetControlFieldEnhancementConditionMeter value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getMax() != null) {
+            mask |= 1L << 0;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeByte(value.getMax());
+        }
+    }
+
+    public void writeAssetControlFieldSelectEnhancement(AssetControlFieldSelectEnhancement value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getChoices() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getLabel() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getValue() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 3;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeMapOfAssetControlFieldSelectEnhancementChoice(value.getChoices());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeDictKey(value.getValue());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+    }
+
+    public void writeAssetControlFieldSelectEnhancementChoice(AssetControlFieldSelectEnhancementChoice value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        if (value instanceof AssetControlFieldSelectEnhancementChoiceChoice) {
+            writeVarLong(1);
+            writeAssetControlFieldSelectEnhancementChoiceChoice((AssetControlFieldSelectEnhancementChoiceChoice) value);
+        } else if (value instanceof AssetControlFieldSelectEnhancementChoiceChoiceGroup) {
+            writeVarLong(2);
+            writeAssetControlFieldSelectEnhancementChoiceChoiceGroup((AssetControlFieldSelectEnhancementChoiceChoiceGroup) value);
+        } else {
+            throw new IllegalArgumentException("Unknown AssetControlFieldSelectEnhancementChoice subtype " + value.getClass().getName());
+        }
+    }
+
+    public void writeAssetControlFieldSelectEnhancementChoiceChoice(AssetControlFieldSelectEnhancementChoiceChoice value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getLabel() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getEnhanceAsset() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getEnhanceMoves() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeAssetEnhancement(value.getEnhanceAsset());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeListOfMoveEnhancement(value.getEnhanceMoves());
+        }
+    }
+
+    public void writeAssetControlFieldSelectEnhancementChoiceChoiceGroup(AssetControlFieldSelectEnhancementChoiceChoiceGroup value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getChoices() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeMapOfSelectEnhancementFieldChoice(value.getChoices());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeInputLabel(value.getName());
+        }
+    }
+
+    public void writeAssetEnhancement(AssetEnhancement value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAttachments() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getControls() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getCountAsImpact() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getShared() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 4;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeAssetAttachment(value.getAttachments());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMapOfAssetControlFieldEnhancement(value.getControls());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeBoolean(value.getCountAsImpact());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeBoolean(value.getShared());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+    }
+
+    public void writeAssetId(AssetId value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeAssetIdWildcard(AssetIdWildcard value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeAssetOptionField(AssetOptionField value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        if (value instanceof AssetOptionFieldSelectEnhancement) {
+            writeVarLong(1);
+            writeAssetOptionFieldSelectEnhancement((AssetOptionFieldSelectEnhancement) value);
+        } else if (value instanceof AssetOptionFieldSelectValue) {
+            writeVarLong(2);
+            writeAssetOptionFieldSelectValue((AssetOptionFieldSelectValue) value);
+        } else if (value instanceof AssetOptionFieldText) {
+            writeVarLong(3);
+            writeAssetOptionFieldText((AssetOptionFieldText) value);
+        } else {
+            throw new IllegalArgumentException("Unknown AssetOptionField subtype " + value.getClass().getName());
+        }
+    }
+
+    public void writeAssetOptionFieldSelectEnhancement(AssetOptionFieldSelectEnhancement value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getChoices() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getLabel() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getValue() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 3;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeMapOfAssetOptionFieldSelectEnhancementChoice(value.getChoices());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeDictKey(value.getValue());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+    }
+
+    public void writeAssetOptionFieldSelectEnhancementChoice(AssetOptionFieldSelectEnhancementChoice value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        if (value instanceof AssetOptionFieldSelectEnhancementChoiceChoice) {
+            writeVarLong(1);
+            writeAssetOptionFieldSelectEnhancementChoiceChoice((AssetOptionFieldSelectEnhancementChoiceChoice) value);
+        } else if (value instanceof AssetOptionFieldSelectEnhancementChoiceChoiceGroup) {
+            writeVarLong(2);
+            writeAssetOptionFieldSelectEnhancementChoiceChoiceGroup((AssetOptionFieldSelectEnhancementChoiceChoiceGroup) value);
+        } else {
+            throw new IllegalArgumentException("Unknown AssetOptionFieldSelectEnhancementChoice subtype " + value.getClass().getName());
+        }
+    }
+
+    public void writeAssetOptionFieldSelectEnhancementChoiceChoice(AssetOptionFieldSelectEnhancementChoiceChoice value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getLabel() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getEnhanceAsset() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getEnhanceMoves() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeAssetEnhancement(value.getEnhanceAsset());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeListOfMoveEnhancement(value.getEnhanceMoves());
+        }
+    }
+
+    public void writeAssetOptionFieldSelectEnhancementChoiceChoiceGroup(AssetOptionFieldSelectEnhancementChoiceChoiceGroup value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getChoices() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeMapOfSelectEnhancementFieldChoice(value.getChoices());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeInputLabel(value.getName());
+        }
+    }
+
+    public void writeAssetOptionFieldSelectValue(AssetOptionFieldSelectValue value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getChoices() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getLabel() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getValue() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 3;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeMapOfSelectValueFieldChoice(value.getChoices());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeDictKey(value.getValue());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+    }
+
+    public void writeAssetOptionFieldText(AssetOptionFieldText value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getLabel() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getValue() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeString(value.getValue());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+    }
+
+    public void writeAssetType(AssetType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case ASSET:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeAtlasCollection(AtlasCollection value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getCollections() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getColor() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getContents() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getEnhances() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getImages() != null) {
+            mask |= 1L << 12;
+        }
+        if (value.getReplaces() != null) {
+            mask |= 1L << 13;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 14;
+        }
+        if (value.getSummary() != null) {
+            mask |= 1L << 15;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 16;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeAtlasCollectionId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeAtlasCollectionType(value.getType());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeMapOfAtlasCollection(value.getCollections());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeCssColor(value.getColor());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeMapOfAtlasEntry(value.getContents());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeAtlasCollectionId(value.getEnhances());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeListOfWebpImageUrl(value.getImages());
+        }
+        if ((mask & 1L << 13) != 0) {
+            writeAtlasCollectionId(value.getReplaces());
+        }
+        if ((mask & 1L << 14) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 15) != 0) {
+            writeMarkdownString(value.getSummary());
+        }
+        if ((mask & 1L << 16) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeAtlasCollectionId(AtlasCollectionId value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeAtlasCollectionType(AtlasCollectionType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case ATLAS:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeAtlasEntry(AtlasEntry value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getFeatures() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getQuestStarter() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getSummary() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getYourTruth() != null) {
+            mask |= 1L << 12;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeAtlasEntryId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeListOfMarkdownString(value.getFeatures());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeAtlasEntryType(value.getType());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeMarkdownString(value.getQuestStarter());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeMarkdownString(value.getSummary());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeMarkdownString(value.getYourTruth());
+        }
+    }
+
+    public void writeAtlasEntryId(AtlasEntryId value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeAtlasEntryType(AtlasEntryType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case ATLAS_ENTRY:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeAuthorInfo(AuthorInfo value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getName() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getEmail() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getUrl() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeString(value.getName());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeString(value.getEmail());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeString(value.getUrl());
+        }
+    }
+
+    public void writeChallengeRank(ChallengeRank value) {
+        writeUnsignedByte(value == null ? null : value.getValue());
+    }
+
+    public void writeConditionMeterKey(ConditionMeterKey value) {
+        writeDictKey(value == null ? null : value.getValue());
+    }
+
+    public void writeConditionMeterRule(ConditionMeterRule value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getDescription() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getLabel() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getMax() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getMin() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getRollable() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getShared() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getValue() != null) {
+            mask |= 1L << 6;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeByte(value.getMax());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeByte(value.getMin());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeBoolean(value.getRollable());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeBoolean(value.getShared());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeByte(value.getValue());
+        }
+    }
+
+    public void writeCssColor(CssColor value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeDelveSite(DelveSite value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getDenizens() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getDomain() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getRank() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getTheme() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getExtraCard() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 12;
+        }
+        if (value.getRegion() != null) {
+            mask |= 1L << 13;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 14;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 15;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeDelveSiteId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeListOfDelveSiteDenizen(value.getDenizens());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeDelveSiteDomainId(value.getDomain());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeChallengeRank(value.getRank());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeDelveSiteThemeId(value.getTheme());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeDelveSiteType(value.getType());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeString(value.getExtraCard());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 13) != 0) {
+            writeAtlasEntryId(value.getRegion());
+        }
+        if ((mask & 1L << 14) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 15) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeDelveSiteDenizen(DelveSiteDenizen value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getFrequency() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getMax() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getMin() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getNpc() != null) {
+            mask |= 1L << 4;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeDelveSiteDenizenFrequency(value.getFrequency());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeShort(value.getMax());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeShort(value.getMin());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeNpcId(value.getNpc());
+        }
+    }
+
+    public void writeDelveSiteDenizenFrequency(DelveSiteDenizenFrequency value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case COMMON:
+                writeVarLong(1);
+                break;
+            case RARE:
+                writeVarLong(2);
+                break;
+            case UNCOMMON:
+                writeVarLong(3);
+                break;
+            case UNFORESEEN:
+                writeVarLong(4);
+                break;
+            case VERY_COMMON:
+                writeVarLong(5);
+                break;
+        }
+    }
+
+    public void writeDelveSiteDomain(DelveSiteDomain value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getDangers() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getFeatures() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getSummary() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getNameOracle() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 12;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 13;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeDelveSiteDomainId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeListOfOracleTableRowText(value.getDangers());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeListOfOracleTableRowText(value.getFeatures());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeMarkdownString(value.getSummary());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeDelveSiteDomainType(value.getType());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeOracleRollableId(value.getNameOracle());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 13) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeDelveSiteDomainId(DelveSiteDomainId value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeDelveSiteDomainType(DelveSiteDomainType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case DELVE_SITE_DOMAIN:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeDelveSiteId(DelveSiteId value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeDelveSiteTheme(DelveSiteTheme value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getDangers() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getFeatures() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getSummary() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 12;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeDelveSiteThemeId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeListOfOracleTableRowText(value.getDangers());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeListOfOracleTableRowText(value.getFeatures());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeMarkdownString(value.getSummary());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeDelveSiteThemeType(value.getType());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeDelveSiteThemeId(DelveSiteThemeId value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeDelveSiteThemeType(DelveSiteThemeType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case DELVE_SITE_THEME:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeDelveSiteType(DelveSiteType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case DELVE_SITE:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeDiceExpression(DiceExpression value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeDictKey(DictKey value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeExpansionId(ExpansionId value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeI18nHint(I18nHint value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getPartOfSpeech() != null) {
+            mask |= 1L << 0;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writePartOfSpeech(value.getPartOfSpeech());
+        }
+    }
+
+    public void writeI18nHints(I18nHints value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getTemplate() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getText() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getText2() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getText3() != null) {
+            mask |= 1L << 3;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeI18nHintsTemplate(value.getTemplate());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeI18nHint(value.getText());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeI18nHint(value.getText2());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeI18nHint(value.getText3());
+        }
+    }
+
+    public void writeI18nHintsTemplate(I18nHintsTemplate value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getText() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getText2() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getText3() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeI18nHint(value.getText());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeI18nHint(value.getText2());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeI18nHint(value.getText3());
+        }
+    }
+
+    public void writeImpactCategory(ImpactCategory value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getContents() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getLabel() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeMapOfImpactRule(value.getContents());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+    }
+
+    public void writeImpactRule(ImpactRule value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getDescription() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getLabel() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getPermanent() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getPreventsRecovery() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getShared() != null) {
+            mask |= 1L << 4;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeBoolean(value.getPermanent());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeListOfConditionMeterKey(value.getPreventsRecovery());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeBoolean(value.getShared());
+        }
+    }
+
+    public void writeInputLabel(InputLabel value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeLabel(Label value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeLicense(License value) {
+        writeWebUrl(value == null ? null : value.getValue());
+    }
+
+    public void writeMarkdownString(MarkdownString value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeMove(Move value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        if (value instanceof MoveActionRoll) {
+            writeVarLong(1);
+            writeMoveActionRoll((MoveActionRoll) value);
+        } else if (value instanceof MoveNoRoll) {
+            writeVarLong(2);
+            writeMoveNoRoll((MoveNoRoll) value);
+        } else if (value instanceof MoveProgressRoll) {
+            writeVarLong(3);
+            writeMoveProgressRoll((MoveProgressRoll) value);
+        } else if (value instanceof MoveSpecialTrack) {
+            writeVarLong(4);
+            writeMoveSpecialTrack((MoveSpecialTrack) value);
+        } else {
+            throw new IllegalArgumentException("Unknown Move subtype " + value.getClass().getName());
+        }
+    }
+
+    public void writeMoveActionRoll(MoveActionRoll value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getOutcomes() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getText() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getTrigger() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getOracles() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getReplaces() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 12;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeMoveId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeMoveOutcomes(value.getOutcomes());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeMarkdownString(value.getText());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeTriggerActionRoll(value.getTrigger());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeMoveActionRollType(value.getType());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeListOfOracleRollableId(value.getOracles());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeMoveId(value.getReplaces());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeMoveActionRollType(MoveActionRollType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case MOVE:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeMoveCategory(MoveCategory value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getColor() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getContents() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getEnhances() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getImages() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getReplaces() != null) {
+            mask |= 1L << 12;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 13;
+        }
+        if (value.getSummary() != null) {
+            mask |= 1L << 14;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 15;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeMoveCategoryId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeMoveCategoryType(value.getType());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeCssColor(value.getColor());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeMapOfMove(value.getContents());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeMoveCategoryId(value.getEnhances());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeListOfWebpImageUrl(value.getImages());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeMoveCategoryId(value.getReplaces());
+        }
+        if ((mask & 1L << 13) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 14) != 0) {
+            writeMarkdownString(value.getSummary());
+        }
+        if ((mask & 1L << 15) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeMoveCategoryId(MoveCategoryId value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeMoveCategoryType(MoveCategoryType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case MOVE_CATEGORY:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeMoveEnhancement(MoveEnhancement value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        if (value instanceof MoveEnhancementActionRoll) {
+            writeVarLong(1);
+            writeMoveEnhancementActionRoll((MoveEnhancementActionRoll) value);
+        } else if (value instanceof MoveEnhancementNoRoll) {
+            writeVarLong(2);
+            writeMoveEnhancementNoRoll((MoveEnhancementNoRoll) value);
+        } else if (value instanceof MoveEnhancementProgressRoll) {
+            writeVarLong(3);
+            writeMoveEnhancementProgressRoll((MoveEnhancementProgressRoll) value);
+        } else if (value instanceof MoveEnhancementSpecialTrack) {
+            writeVarLong(4);
+            writeMoveEnhancementSpecialTrack((MoveEnhancementSpecialTrack) value);
+        } else {
+            throw new IllegalArgumentException("Unknown MoveEnhancement subtype " + value.getClass().getName());
+        }
+    }
+
+    public void writeMoveEnhancementActionRoll(MoveEnhancementActionRoll value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getEnhances() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getTrigger() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfMoveIdWildcard(value.getEnhances());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeTriggerActionRollEnhancement(value.getTrigger());
+        }
+    }
+
+    public void writeMoveEnhancementNoRoll(MoveEnhancementNoRoll value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getEnhances() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getTrigger() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfMoveIdWildcard(value.getEnhances());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeTriggerNoRollEnhancement(value.getTrigger());
+        }
+    }
+
+    public void writeMoveEnhancementProgressRoll(MoveEnhancementProgressRoll value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getEnhances() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getTrigger() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfMoveIdWildcard(value.getEnhances());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeTriggerProgressRollEnhancement(value.getTrigger());
+        }
+    }
+
+    public void writeMoveEnhancementSpecialTrack(MoveEnhancementSpecialTrack value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getEnhances() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getTrigger() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfMoveIdWildcard(value.getEnhances());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeTriggerSpecialTrackEnhancement(value.getTrigger());
+        }
+    }
+
+    public void writeMoveId(MoveId value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeMoveIdWildcard(MoveIdWildcard value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeMoveNoRoll(MoveNoRoll value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getText() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getTrigger() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getOracles() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getReplaces() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 11;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeMoveId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeMarkdownString(value.getText());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeTriggerNoRoll(value.getTrigger());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeMoveNoRollType(value.getType());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeListOfOracleRollableId(value.getOracles());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeMoveId(value.getReplaces());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeMoveNoRollType(MoveNoRollType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case MOVE:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeMoveOutcome(MoveOutcome value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getText() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getOracleRolls() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeMarkdownString(value.getText());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeListOfOracleRoll(value.getOracleRolls());
+        }
+    }
+
+    public void writeMoveOutcomes(MoveOutcomes value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getMiss() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getStrongHit() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getWeakHit() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeMoveOutcome(value.getMiss());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMoveOutcome(value.getStrongHit());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeMoveOutcome(value.getWeakHit());
+        }
+    }
+
+    public void writeMoveProgressRoll(MoveProgressRoll value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getOutcomes() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getText() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getTracks() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getTrigger() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getOracles() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getReplaces() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 12;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 13;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeMoveId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeMoveOutcomes(value.getOutcomes());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeMarkdownString(value.getText());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeProgressTrackTypeInfo(value.getTracks());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeTriggerProgressRoll(value.getTrigger());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeMoveProgressRollType(value.getType());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeListOfOracleRollableId(value.getOracles());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeMoveId(value.getReplaces());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 13) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeMoveProgressRollType(MoveProgressRollType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case MOVE:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeMoveSpecialTrack(MoveSpecialTrack value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getOutcomes() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getText() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getTrigger() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getOracles() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getReplaces() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 12;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeMoveId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeMoveOutcomes(value.getOutcomes());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeMarkdownString(value.getText());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeTriggerSpecialTrack(value.getTrigger());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeMoveSpecialTrackType(value.getType());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeListOfOracleRollableId(value.getOracles());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeMoveId(value.getReplaces());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeMoveSpecialTrackType(MoveSpecialTrackType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case MOVE:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeNpc(Npc value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getDrives() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getFeatures() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getNature() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getRank() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getTactics() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getQuestStarter() != null) {
+            mask |= 1L << 12;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 13;
+        }
+        if (value.getSummary() != null) {
+            mask |= 1L << 14;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 15;
+        }
+        if (value.getVariants() != null) {
+            mask |= 1L << 16;
+        }
+        if (value.getYourTruth() != null) {
+            mask |= 1L << 17;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeNpcId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeListOfMarkdownString(value.getDrives());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeListOfMarkdownString(value.getFeatures());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeNpcNature(value.getNature());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeChallengeRank(value.getRank());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeListOfMarkdownString(value.getTactics());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeNpcType(value.getType());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeMarkdownString(value.getQuestStarter());
+        }
+        if ((mask & 1L << 13) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 14) != 0) {
+            writeMarkdownString(value.getSummary());
+        }
+        if ((mask & 1L << 15) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+        if ((mask & 1L << 16) != 0) {
+            writeMapOfNpcVariant(value.getVariants());
+        }
+        if ((mask & 1L << 17) != 0) {
+            writeMarkdownString(value.getYourTruth());
+        }
+    }
+
+    public void writeNpcCollection(NpcCollection value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getColor() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getContents() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getEnhances() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getImages() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getReplaces() != null) {
+            mask |= 1L << 12;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 13;
+        }
+        if (value.getSummary() != null) {
+            mask |= 1L << 14;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 15;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeNpcCollectionId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeNpcCollectionType(value.getType());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeCssColor(value.getColor());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeMapOfNpc(value.getContents());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeNpcCollectionId(value.getEnhances());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeListOfWebpImageUrl(value.getImages());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeNpcCollectionId(value.getReplaces());
+        }
+        if ((mask & 1L << 13) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 14) != 0) {
+            writeMarkdownString(value.getSummary());
+        }
+        if ((mask & 1L << 15) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeNpcCollectionId(NpcCollectionId value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeNpcCollectionType(NpcCollectionType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case NPC_COLLECTION:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeNpcId(NpcId value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeNpcNature(NpcNature value) {
+        writeLabel(value == null ? null : value.getValue());
+    }
+
+    public void writeNpcType(NpcType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case NPC:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeNpcVariant(NpcVariant value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getNature() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getRank() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getSummary() != null) {
+            mask |= 1L << 6;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeNpcVariantId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeNpcNature(value.getNature());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeChallengeRank(value.getRank());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeMarkdownString(value.getSummary());
+        }
+    }
+
+    public void writeNpcVariantId(NpcVariantId value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeObjectType(ObjectType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case ASSET:
+                writeVarLong(1);
+                break;
+            case ASSET_COLLECTION:
+                writeVarLong(2);
+                break;
+            case ATLAS_COLLECTION:
+                writeVarLong(3);
+                break;
+            case ATLAS_ENTRY:
+                writeVarLong(4);
+                break;
+            case DELVE_SITE:
+                writeVarLong(5);
+                break;
+            case DELVE_SITE_DOMAIN:
+                writeVarLong(6);
+                break;
+            case DELVE_SITE_THEME:
+                writeVarLong(7);
+                break;
+            case MOVE:
+                writeVarLong(8);
+                break;
+            case MOVE_CATEGORY:
+                writeVarLong(9);
+                break;
+            case NPC:
+                writeVarLong(10);
+                break;
+            case NPC_COLLECTION:
+                writeVarLong(11);
+                break;
+            case ORACLE_COLLECTION:
+                writeVarLong(12);
+                break;
+            case ORACLE_ROLLABLE:
+                writeVarLong(13);
+                break;
+            case RARITY:
+                writeVarLong(14);
+                break;
+            case TRUTH:
+                writeVarLong(15);
+                break;
+        }
+    }
+
+    public void writeOracleCollection(OracleCollection value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        if (value instanceof OracleCollectionOracleTableSharedText3) {
+            writeVarLong(1);
+            writeOracleCollectionOracleTableSharedText3((OracleCollectionOracleTableSharedText3) value);
+        } else if (value instanceof OracleCollectionTableSharedRolls) {
+            writeVarLong(2);
+            writeOracleCollectionTableSharedRolls((OracleCollectionTableSharedRolls) value);
+        } else if (value instanceof OracleCollectionTableSharedText) {
+            writeVarLong(3);
+            writeOracleCollectionTableSharedText((OracleCollectionTableSharedText) value);
+        } else if (value instanceof OracleCollectionTableSharedText2) {
+            writeVarLong(4);
+            writeOracleCollectionTableSharedText2((OracleCollectionTableSharedText2) value);
+        } else if (value instanceof OracleCollectionTables) {
+            writeVarLong(5);
+            writeOracleCollectionTables((OracleCollectionTables) value);
+        } else {
+            throw new IllegalArgumentException("Unknown OracleCollection subtype " + value.getClass().getName());
+        }
+    }
+
+    public void writeOracleCollectionId(OracleCollectionId value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeOracleCollectionOracleTableSharedText3(OracleCollectionOracleTableSharedText3 value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getColumnLabels() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getColor() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getContents() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getEnhances() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getImages() != null) {
+            mask |= 1L << 12;
+        }
+        if (value.getReplaces() != null) {
+            mask |= 1L << 13;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 14;
+        }
+        if (value.getSummary() != null) {
+            mask |= 1L << 15;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 16;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeOracleCollectionId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeOracleCollectionOracleTableSharedText3ColumnLabels(value.getColumnLabels());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeOracleCollectionOracleTableSharedText3Type(value.getType());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeCssColor(value.getColor());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeMapOfOracleColumnText3(value.getContents());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeOracleCollectionId(value.getEnhances());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeListOfWebpImageUrl(value.getImages());
+        }
+        if ((mask & 1L << 13) != 0) {
+            writeOracleCollectionId(value.getReplaces());
+        }
+        if ((mask & 1L << 14) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 15) != 0) {
+            writeMarkdownString(value.getSummary());
+        }
+        if ((mask & 1L << 16) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeOracleCollectionOracleTableSharedText3ColumnLabels(OracleCollectionOracleTableSharedText3ColumnLabels value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getText() != null) {
+            mask |= 1L << 0;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeLabel(value.getText());
+        }
+    }
+
+    public void writeOracleCollectionOracleTableSharedText3Type(OracleCollectionOracleTableSharedText3Type value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case ORACLE_COLLECTION:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeOracleCollectionTableSharedRolls(OracleCollectionTableSharedRolls value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getColumnLabels() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getColor() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getContents() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getEnhances() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getImages() != null) {
+            mask |= 1L << 12;
+        }
+        if (value.getReplaces() != null) {
+            mask |= 1L << 13;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 14;
+        }
+        if (value.getSummary() != null) {
+            mask |= 1L << 15;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 16;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeOracleCollectionId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeOracleCollectionTableSharedRollsColumnLabels(value.getColumnLabels());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeOracleCollectionTableSharedRollsType(value.getType());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeCssColor(value.getColor());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeMapOfOracleColumnText(value.getContents());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeOracleCollectionId(value.getEnhances());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeListOfWebpImageUrl(value.getImages());
+        }
+        if ((mask & 1L << 13) != 0) {
+            writeOracleCollectionId(value.getReplaces());
+        }
+        if ((mask & 1L << 14) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 15) != 0) {
+            writeMarkdownString(value.getSummary());
+        }
+        if ((mask & 1L << 16) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeOracleCollectionTableSharedRollsColumnLabels(OracleCollectionTableSharedRollsColumnLabels value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getRoll() != null) {
+            mask |= 1L << 0;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeLabel(value.getRoll());
+        }
+    }
+
+    public void writeOracleCollectionTableSharedRollsType(OracleCollectionTableSharedRollsType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case ORACLE_COLLECTION:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeOracleCollectionTableSharedText(OracleCollectionTableSharedText value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getColumnLabels() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getColor() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getContents() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getEnhances() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getImages() != null) {
+            mask |= 1L << 12;
+        }
+        if (value.getReplaces() != null) {
+            mask |= 1L << 13;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 14;
+        }
+        if (value.getSummary() != null) {
+            mask |= 1L << 15;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 16;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeOracleCollectionId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeOracleCollectionTableSharedTextColumnLabels(value.getColumnLabels());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeOracleCollectionTableSharedTextType(value.getType());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeCssColor(value.getColor());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeMapOfOracleColumnText(value.getContents());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeOracleCollectionId(value.getEnhances());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeListOfWebpImageUrl(value.getImages());
+        }
+        if ((mask & 1L << 13) != 0) {
+            writeOracleCollectionId(value.getReplaces());
+        }
+        if ((mask & 1L << 14) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 15) != 0) {
+            writeMarkdownString(value.getSummary());
+        }
+        if ((mask & 1L << 16) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeOracleCollectionTableSharedText2(OracleCollectionTableSharedText2 value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getColumnLabels() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getColor() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getContents() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getEnhances() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getImages() != null) {
+            mask |= 1L << 12;
+        }
+        if (value.getReplaces() != null) {
+            mask |= 1L << 13;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 14;
+        }
+        if (value.getSummary() != null) {
+            mask |= 1L << 15;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 16;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeOracleCollectionId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeOracleCollectionTableSharedText2ColumnLabels(value.getColumnLabels());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeOracleCollectionTableSharedText2Type(value.getType());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeCssColor(value.getColor());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeMapOfOracleColumnText2(value.getContents());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeOracleCollectionId(value.getEnhances());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeListOfWebpImageUrl(value.getImages());
+        }
+        if ((mask & 1L << 13) != 0) {
+            writeOracleCollectionId(value.getReplaces());
+        }
+        if ((mask & 1L << 14) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 15) != 0) {
+            writeMarkdownString(value.getSummary());
+        }
+        if ((mask & 1L << 16) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeOracleCollectionTableSharedText2ColumnLabels(OracleCollectionTableSharedText2ColumnLabels value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getText() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getText2() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeLabel(value.getText());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeLabel(value.getText2());
+        }
+    }
+
+    public void writeOracleCollectionTableSharedText2Type(OracleCollectionTableSharedText2Type value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case ORACLE_COLLECTION:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeOracleCollectionTableSharedTextColumnLabels(OracleCollectionTableSharedTextColumnLabels value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getText() != null) {
+            mask |= 1L << 0;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeLabel(value.getText());
+        }
+    }
+
+    public void writeOracleCollectionTableSharedTextType(OracleCollectionTableSharedTextType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case ORACLE_COLLECTION:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeOracleCollectionTables(OracleCollectionTables value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getCollections() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getColor() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getContents() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getEnhances() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getImages() != null) {
+            mask |= 1L << 12;
+        }
+        if (value.getReplaces() != null) {
+            mask |= 1L << 13;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 14;
+        }
+        if (value.getSummary() != null) {
+            mask |= 1L << 15;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 16;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeOracleCollectionId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeOracleCollectionTablesType(value.getType());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeMapOfOracleCollection(value.getCollections());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeCssColor(value.getColor());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeMapOfOracleTableRollable(value.getContents());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeOracleCollectionId(value.getEnhances());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeListOfWebpImageUrl(value.getImages());
+        }
+        if ((mask & 1L << 13) != 0) {
+            writeOracleCollectionId(value.getReplaces());
+        }
+        if ((mask & 1L << 14) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 15) != 0) {
+            writeMarkdownString(value.getSummary());
+        }
+        if ((mask & 1L << 16) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeOracleCollectionTablesType(OracleCollectionTablesType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case ORACLE_COLLECTION:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeOracleColumnText(OracleColumnText value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getDice() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getOracleType() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getRows() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getColor() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getMatch() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getReplaces() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getSummary() != null) {
+            mask |= 1L << 12;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 13;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeOracleRollableId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeDiceExpression(value.getDice());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeOracleColumnTextOracleType(value.getOracleType());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeListOfOracleTableRowText(value.getRows());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeOracleColumnTextType(value.getType());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeCssColor(value.getColor());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeOracleMatchBehavior(value.getMatch());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeOracleRollableId(value.getReplaces());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeMarkdownString(value.getSummary());
+        }
+        if ((mask & 1L << 13) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeOracleColumnText2(OracleColumnText2 value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getDice() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getOracleType() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getRows() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getColor() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getMatch() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getReplaces() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getSummary() != null) {
+            mask |= 1L << 12;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 13;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeOracleRollableId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeDiceExpression(value.getDice());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeOracleColumnText2OracleType(value.getOracleType());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeListOfOracleTableRowText2(value.getRows());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeOracleColumnText2Type(value.getType());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeCssColor(value.getColor());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeOracleMatchBehavior(value.getMatch());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeOracleRollableId(value.getReplaces());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeMarkdownString(value.getSummary());
+        }
+        if ((mask & 1L << 13) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeOracleColumnText2OracleType(OracleColumnText2OracleType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case COLUMN_TEXT2:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeOracleColumnText2Type(OracleColumnText2Type value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case ORACLE_ROLLABLE:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeOracleColumnText3(OracleColumnText3 value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getDice() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getOracleType() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getRows() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getColor() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getMatch() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getReplaces() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getSummary() != null) {
+            mask |= 1L << 12;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 13;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeOracleRollableId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeDiceExpression(value.getDice());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeOracleColumnText3OracleType(value.getOracleType());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeListOfOracleTableRowText3(value.getRows());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeOracleColumnText3Type(value.getType());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeCssColor(value.getColor());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeOracleMatchBehavior(value.getMatch());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeOracleRollableId(value.getReplaces());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeMarkdownString(value.getSummary());
+        }
+        if ((mask & 1L << 13) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeOracleColumnText3OracleType(OracleColumnText3OracleType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case COLUMN_TEXT3:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeOracleColumnText3Type(OracleColumnText3Type value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case ORACLE_ROLLABLE:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeOracleColumnTextOracleType(OracleColumnTextOracleType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case COLUMN_TEXT:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeOracleColumnTextType(OracleColumnTextType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case ORACLE_ROLLABLE:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeOracleDuplicateBehavior(OracleDuplicateBehavior value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case KEEP:
+                writeVarLong(1);
+                break;
+            case MAKE_IT_WORSE:
+                writeVarLong(2);
+                break;
+            case REROLL:
+                writeVarLong(3);
+                break;
+        }
+    }
+
+    public void writeOracleMatchBehavior(OracleMatchBehavior value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getText() != null) {
+            mask |= 1L << 0;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeMarkdownString(value.getText());
+        }
+    }
+
+    public void writeOracleRoll(OracleRoll value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAuto() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getDice() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getDuplicates() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getNumberOfRolls() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getOracle() != null) {
+            mask |= 1L << 4;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeBoolean(value.getAuto());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeDiceExpression(value.getDice());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeOracleDuplicateBehavior(value.getDuplicates());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeShort(value.getNumberOfRolls());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeOracleRollableId(value.getOracle());
+        }
+    }
+
+    public void writeOracleRollTemplate(OracleRollTemplate value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getText() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getText2() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getText3() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeTemplateString(value.getText());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeTemplateString(value.getText2());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeTemplateString(value.getText3());
+        }
+    }
+
+    public void writeOracleRollableId(OracleRollableId value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeOracleTableRollable(OracleTableRollable value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        if (value instanceof OracleTableRollableTableText) {
+            writeVarLong(1);
+            writeOracleTableRollableTableText((OracleTableRollableTableText) value);
+        } else if (value instanceof OracleTableRollableTableText2) {
+            writeVarLong(2);
+            writeOracleTableRollableTableText2((OracleTableRollableTableText2) value);
+        } else if (value instanceof OracleTableRollableTableText3) {
+            writeVarLong(3);
+            writeOracleTableRollableTableText3((OracleTableRollableTableText3) value);
+        } else {
+            throw new IllegalArgumentException("Unknown OracleTableRollable subtype " + value.getClass().getName());
+        }
+    }
+
+    public void writeOracleTableRollableTableText(OracleTableRollableTableText value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getColumnLabels() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getDice() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getRows() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getMatch() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getRecommendedRolls() != null) {
+            mask |= 1L << 12;
+        }
+        if (value.getReplaces() != null) {
+            mask |= 1L << 13;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 14;
+        }
+        if (value.getSummary() != null) {
+            mask |= 1L << 15;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 16;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeOracleRollableId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeOracleTableRollableTableTextColumnLabels(value.getColumnLabels());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeDiceExpression(value.getDice());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeListOfOracleTableRowText(value.getRows());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeOracleTableRollableTableTextType(value.getType());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeOracleMatchBehavior(value.getMatch());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeOracleTableRollableTableTextRecommendedRolls(value.getRecommendedRolls());
+        }
+        if ((mask & 1L << 13) != 0) {
+            writeOracleRollableId(value.getReplaces());
+        }
+        if ((mask & 1L << 14) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 15) != 0) {
+            writeMarkdownString(value.getSummary());
+        }
+        if ((mask & 1L << 16) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeOracleTableRollableTableText2(OracleTableRollableTableText2 value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getColumnLabels() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getDice() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getRows() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getMatch() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getRecommendedRolls() != null) {
+            mask |= 1L << 12;
+        }
+        if (value.getReplaces() != null) {
+            mask |= 1L << 13;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 14;
+        }
+        if (value.getSummary() != null) {
+            mask |= 1L << 15;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 16;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeOracleRollableId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeOracleTableRollableTableText2ColumnLabels(value.getColumnLabels());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeDiceExpression(value.getDice());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeListOfOracleTableRowText2(value.getRows());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeOracleTableRollableTableText2Type(value.getType());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeOracleMatchBehavior(value.getMatch());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeOracleTableRollableTableText2RecommendedRolls(value.getRecommendedRolls());
+        }
+        if ((mask & 1L << 13) != 0) {
+            writeOracleRollableId(value.getReplaces());
+        }
+        if ((mask & 1L << 14) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 15) != 0) {
+            writeMarkdownString(value.getSummary());
+        }
+        if ((mask & 1L << 16) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeOracleTableRollableTableText2ColumnLabels(OracleTableRollableTableText2ColumnLabels value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getRoll() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getText() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getText2() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeLabel(value.getRoll());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeLabel(value.getText());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeLabel(value.getText2());
+        }
+    }
+
+    public void writeOracleTableRollableTableText2RecommendedRolls(OracleTableRollableTableText2RecommendedRolls value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getMax() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getMin() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeShort(value.getMax());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeShort(value.getMin());
+        }
+    }
+
+    public void writeOracleTableRollableTableText2Type(OracleTableRollableTableText2Type value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case ORACLE_ROLLABLE:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeOracleTableRollableTableText3(OracleTableRollableTableText3 value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getColumnLabels() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getDice() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getRows() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getMatch() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getRecommendedRolls() != null) {
+            mask |= 1L << 12;
+        }
+        if (value.getReplaces() != null) {
+            mask |= 1L << 13;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 14;
+        }
+        if (value.getSummary() != null) {
+            mask |= 1L << 15;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 16;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeOracleRollableId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeOracleTableRollableTableText3ColumnLabels(value.getColumnLabels());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeDiceExpression(value.getDice());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeListOfOracleTableRowText3(value.getRows());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeOracleTableRollableTableText3Type(value.getType());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeOracleMatchBehavior(value.getMatch());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeOracleTableRollableTableText3RecommendedRolls(value.getRecommendedRolls());
+        }
+        if ((mask & 1L << 13) != 0) {
+            writeOracleRollableId(value.getReplaces());
+        }
+        if ((mask & 1L << 14) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 15) != 0) {
+            writeMarkdownString(value.getSummary());
+        }
+        if ((mask & 1L << 16) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeOracleTableRollableTableText3ColumnLabels(OracleTableRollableTableText3ColumnLabels value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getRoll() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getText() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getText2() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getText3() != null) {
+            mask |= 1L << 3;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeLabel(value.getRoll());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeLabel(value.getText());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeLabel(value.getText2());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeLabel(value.getText3());
+        }
+    }
+
+    public void writeOracleTableRollableTableText3RecommendedRolls(OracleTableRollableTableText3RecommendedRolls value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getMax() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getMin() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeShort(value.getMax());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeShort(value.getMin());
+        }
+    }
+
+    public void writeOracleTableRollableTableText3Type(OracleTableRollableTableText3Type value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case ORACLE_ROLLABLE:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeOracleTableRollableTableTextColumnLabels(OracleTableRollableTableTextColumnLabels value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getRoll() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getText() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeLabel(value.getRoll());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeLabel(value.getText());
+        }
+    }
+
+    public void writeOracleTableRollableTableTextRecommendedRolls(OracleTableRollableTableTextRecommendedRolls value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getMax() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getMin() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeShort(value.getMax());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeShort(value.getMin());
+        }
+    }
+
+    public void writeOracleTableRollableTableTextType(OracleTableRollableTableTextType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case ORACLE_ROLLABLE:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeOracleTableRowText(OracleTableRowText value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getMax() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getMin() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getText() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getI18n() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getEmbedTable() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getOracleRolls() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getTemplate() != null) {
+            mask |= 1L << 8;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeShort(value.getMax());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeShort(value.getMin());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeMarkdownString(value.getText());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeI18nHints(value.getI18n());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeOracleRollableId(value.getEmbedTable());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeListOfOracleRoll(value.getOracleRolls());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeOracleRollTemplate(value.getTemplate());
+        }
+    }
+
+    public void writeOracleTableRowText2(OracleTableRowText2 value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getMax() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getMin() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getText() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getText2() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getI18n() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getEmbedTable() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getOracleRolls() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getTemplate() != null) {
+            mask |= 1L << 9;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeShort(value.getMax());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeShort(value.getMin());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeMarkdownString(value.getText());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeMarkdownString(value.getText2());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeI18nHints(value.getI18n());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeOracleRollableId(value.getEmbedTable());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeListOfOracleRoll(value.getOracleRolls());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeOracleRollTemplate(value.getTemplate());
+        }
+    }
+
+    public void writeOracleTableRowText3(OracleTableRowText3 value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getMax() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getMin() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getText() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getText2() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getText3() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getI18n() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getEmbedTable() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getOracleRolls() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getTemplate() != null) {
+            mask |= 1L << 10;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeShort(value.getMax());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeShort(value.getMin());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeMarkdownString(value.getText());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeMarkdownString(value.getText2());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeMarkdownString(value.getText3());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeI18nHints(value.getI18n());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeOracleRollableId(value.getEmbedTable());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeListOfOracleRoll(value.getOracleRolls());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeOracleRollTemplate(value.getTemplate());
+        }
+    }
+
+    public void writeOracleTablesCollection(OracleTablesCollection value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getOracleType() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getCollections() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getColor() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getContents() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getEnhances() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 12;
+        }
+        if (value.getImages() != null) {
+            mask |= 1L << 13;
+        }
+        if (value.getReplaces() != null) {
+            mask |= 1L << 14;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 15;
+        }
+        if (value.getSummary() != null) {
+            mask |= 1L << 16;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 17;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeOracleCollectionId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeOracleTablesCollectionOracleType(value.getOracleType());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeOracleTablesCollectionType(value.getType());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeMapOfOracleCollection(value.getCollections());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeCssColor(value.getColor());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeMapOfOracleTableRollable(value.getContents());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeOracleCollectionId(value.getEnhances());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 13) != 0) {
+            writeListOfWebpImageUrl(value.getImages());
+        }
+        if ((mask & 1L << 14) != 0) {
+            writeOracleCollectionId(value.getReplaces());
+        }
+        if ((mask & 1L << 15) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 16) != 0) {
+            writeMarkdownString(value.getSummary());
+        }
+        if ((mask & 1L << 17) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeOracleTablesCollectionOracleType(OracleTablesCollectionOracleType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case TABLES:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeOracleTablesCollectionType(OracleTablesCollectionType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case ORACLE_COLLECTION:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writePartOfSpeech(PartOfSpeech value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case ADJECTIVE:
+                writeVarLong(1);
+                break;
+            case ADJECTIVE_AS_PROPER_NOUN:
+                writeVarLong(2);
+                break;
+            case ADJUNCT_COMMON_NOUN:
+                writeVarLong(3);
+                break;
+            case ADJUNCT_PROPER_NOUN:
+                writeVarLong(4);
+                break;
+            case ATTRIBUTIVE_VERB:
+                writeVarLong(5);
+                break;
+            case COMMON_NOUN:
+                writeVarLong(6);
+                break;
+            case COMMON_NOUN_AS_PROPER_NOUN:
+                writeVarLong(7);
+                break;
+            case GERUND:
+                writeVarLong(8);
+                break;
+            case PROPER_NOUN:
+                writeVarLong(9);
+                break;
+            case VERB:
+                writeVarLong(10);
+                break;
+        }
+    }
+
+    public void writeProgressRollMethod(ProgressRollMethod value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case MISS:
+                writeVarLong(1);
+                break;
+            case PROGRESS_ROLL:
+                writeVarLong(2);
+                break;
+            case STRONG_HIT:
+                writeVarLong(3);
+                break;
+            case WEAK_HIT:
+                writeVarLong(4);
+                break;
+        }
+    }
+
+    public void writeProgressRollOption(ProgressRollOption value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getUsing() != null) {
+            mask |= 1L << 0;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeProgressRollOptionUsing(value.getUsing());
+        }
+    }
+
+    public void writeProgressRollOptionUsing(ProgressRollOptionUsing value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case PROGRESS_TRACK:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeProgressTrackTypeInfo(ProgressTrackTypeInfo value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getCategory() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getControls() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeLabel(value.getCategory());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMapOfObject(value.getControls());
+        }
+    }
+
+    public void writeRarity(Rarity value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getAsset() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getType() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getXpCost() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 11;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeRarityId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeAssetId(value.getAsset());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeRarityType(value.getType());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeShort(value.getXpCost());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+    }
+
+    public void writeRarityId(RarityId value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeRarityType(RarityType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case RARITY:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeRollableValue(RollableValue value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        if (value instanceof RollableValueAssetControl) {
+            writeVarLong(1);
+            writeRollableValueAssetControl((RollableValueAssetControl) value);
+        } else if (value instanceof RollableValueAssetOption) {
+            writeVarLong(2);
+            writeRollableValueAssetOption((RollableValueAssetOption) value);
+        } else if (value instanceof RollableValueAttachedAssetControl) {
+            writeVarLong(3);
+            writeRollableValueAttachedAssetControl((RollableValueAttachedAssetControl) value);
+        } else if (value instanceof RollableValueAttachedAssetOption) {
+            writeVarLong(4);
+            writeRollableValueAttachedAssetOption((RollableValueAttachedAssetOption) value);
+        } else if (value instanceof RollableValueConditionMeter) {
+            writeVarLong(5);
+            writeRollableValueConditionMeter((RollableValueConditionMeter) value);
+        } else if (value instanceof RollableValueCustom) {
+            writeVarLong(6);
+            writeRollableValueCustom((RollableValueCustom) value);
+        } else if (value instanceof RollableValueStat) {
+            writeVarLong(7);
+            writeRollableValueStat((RollableValueStat) value);
+        } else {
+            throw new IllegalArgumentException("Unknown RollableValue subtype " + value.getClass().getName());
+        }
+    }
+
+    public void writeRollableValueAssetControl(RollableValueAssetControl value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAssets() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getControl() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfAssetIdWildcard(value.getAssets());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeDictKey(value.getControl());
+        }
+    }
+
+    public void writeRollableValueAssetOption(RollableValueAssetOption value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAssets() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getOption() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfAssetIdWildcard(value.getAssets());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeDictKey(value.getOption());
+        }
+    }
+
+    public void writeRollableValueAttachedAssetControl(RollableValueAttachedAssetControl value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getControl() != null) {
+            mask |= 1L << 0;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeDictKey(value.getControl());
+        }
+    }
+
+    public void writeRollableValueAttachedAssetOption(RollableValueAttachedAssetOption value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getOption() != null) {
+            mask |= 1L << 0;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeDictKey(value.getOption());
+        }
+    }
+
+    public void writeRollableValueConditionMeter(RollableValueConditionMeter value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getConditionMeter() != null) {
+            mask |= 1L << 0;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeConditionMeterKey(value.getConditionMeter());
+        }
+    }
+
+    public void writeRollableValueCustom(RollableValueCustom value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getLabel() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getValue() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeShort(value.getValue());
+        }
+    }
+
+    public void writeRollableValueStat(RollableValueStat value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getStat() != null) {
+            mask |= 1L << 0;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeStatKey(value.getStat());
+        }
+    }
+
+    public void writeRules(Rules value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getConditionMeters() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getImpacts() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getSpecialTracks() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getStats() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 4;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeMapOfConditionMeterRule(value.getConditionMeters());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMapOfImpactCategory(value.getImpacts());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeMapOfSpecialTrackRule(value.getSpecialTracks());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeMapOfStatRule(value.getStats());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeMapOfTagRule(value.getTags());
+        }
+    }
+
+    public void writeRulesExpansion(RulesExpansion value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getConditionMeters() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getImpacts() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getSpecialTracks() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getStats() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 4;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeMapOfConditionMeterRule(value.getConditionMeters());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMapOfImpactCategory(value.getImpacts());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeMapOfSpecialTrackRule(value.getSpecialTracks());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeMapOfStatRule(value.getStats());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeMapOfTagRule(value.getTags());
+        }
+    }
+
+    public void writeRulesPackage(RulesPackage value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        if (value instanceof RulesPackageExpansion) {
+            writeVarLong(1);
+            writeRulesPackageExpansion((RulesPackageExpansion) value);
+        } else if (value instanceof RulesPackageRuleset) {
+            writeVarLong(2);
+            writeRulesPackageRuleset((RulesPackageRuleset) value);
+        } else {
+            throw new IllegalArgumentException("Unknown RulesPackage subtype " + value.getClass().getName());
+        }
+    }
+
+    public void writeRulesPackageExpansion(RulesPackageExpansion value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getDataswornVersion() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getRuleset() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getAssets() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getAtlas() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getAuthors() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getDate() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getDelveSites() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getLicense() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getMoves() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getNpcs() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getOracles() != null) {
+            mask |= 1L << 12;
+        }
+        if (value.getRarities() != null) {
+            mask |= 1L << 13;
+        }
+        if (value.getRules() != null) {
+            mask |= 1L << 14;
+        }
+        if (value.getSiteDomains() != null) {
+            mask |= 1L << 15;
+        }
+        if (value.getSiteThemes() != null) {
+            mask |= 1L << 16;
+        }
+        if (value.getTitle() != null) {
+            mask |= 1L << 17;
+        }
+        if (value.getTruths() != null) {
+            mask |= 1L << 18;
+        }
+        if (value.getUrl() != null) {
+            mask |= 1L << 19;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeExpansionId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeRulesPackageExpansionDataswornVersion(value.getDataswornVersion());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeRulesetId(value.getRuleset());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeMapOfAssetCollection(value.getAssets());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeMapOfAtlasCollection(value.getAtlas());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeListOfAuthorInfo(value.getAuthors());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeOffsetDateTime(value.getDate());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeMapOfDelveSite(value.getDelveSites());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeLicense(value.getLicense());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeMapOfMoveCategory(value.getMoves());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeMapOfNpcCollection(value.getNpcs());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeMapOfOracleTablesCollection(value.getOracles());
+        }
+        if ((mask & 1L << 13) != 0) {
+            writeMapOfRarity(value.getRarities());
+        }
+        if ((mask & 1L << 14) != 0) {
+            writeRulesExpansion(value.getRules());
+        }
+        if ((mask & 1L << 15) != 0) {
+            writeMapOfDelveSiteDomain(value.getSiteDomains());
+        }
+        if ((mask & 1L << 16) != 0) {
+            writeMapOfDelveSiteTheme(value.getSiteThemes());
+        }
+        if ((mask & 1L << 17) != 0) {
+            writeString(value.getTitle());
+        }
+        if ((mask & 1L << 18) != 0) {
+            writeMapOfTruth(value.getTruths());
+        }
+        if ((mask & 1L << 19) != 0) {
+            writeWebUrl(value.getUrl());
+        }
+    }
+
+    public void writeRulesPackageExpansionDataswornVersion(RulesPackageExpansionDataswornVersion value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case DEFAULT_NAME:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeRulesPackageRuleset(RulesPackageRuleset value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getAssets() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getAuthors() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getDataswornVersion() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getDate() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getLicense() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getMoves() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getOracles() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getRules() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getTitle() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getUrl() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getAtlas() != null) {
+            mask |= 1L << 11;
+        }
+        if (value.getDelveSites() != null) {
+            mask |= 1L << 12;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 13;
+        }
+        if (value.getNpcs() != null) {
+            mask |= 1L << 14;
+        }
+        if (value.getRarities() != null) {
+            mask |= 1L << 15;
+        }
+        if (value.getSiteDomains() != null) {
+            mask |= 1L << 16;
+        }
+        if (value.getSiteThemes() != null) {
+            mask |= 1L << 17;
+        }
+        if (value.getTruths() != null) {
+            mask |= 1L << 18;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeRulesetId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMapOfAssetCollection(value.getAssets());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeListOfAuthorInfo(value.getAuthors());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeRulesPackageRulesetDataswornVersion(value.getDataswornVersion());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeOffsetDateTime(value.getDate());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeLicense(value.getLicense());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeMapOfMoveCategory(value.getMoves());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeMapOfOracleTablesCollection(value.getOracles());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeRules(value.getRules());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeString(value.getTitle());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeWebUrl(value.getUrl());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeMapOfAtlasCollection(value.getAtlas());
+        }
+        if ((mask & 1L << 12) != 0) {
+            writeMapOfDelveSite(value.getDelveSites());
+        }
+        if ((mask & 1L << 13) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 14) != 0) {
+            writeMapOfNpcCollection(value.getNpcs());
+        }
+        if ((mask & 1L << 15) != 0) {
+            writeMapOfRarity(value.getRarities());
+        }
+        if ((mask & 1L << 16) != 0) {
+            writeMapOfDelveSiteDomain(value.getSiteDomains());
+        }
+        if ((mask & 1L << 17) != 0) {
+            writeMapOfDelveSiteTheme(value.getSiteThemes());
+        }
+        if ((mask & 1L << 18) != 0) {
+            writeMapOfTruth(value.getTruths());
+        }
+    }
+
+    public void writeRulesPackageRulesetDataswornVersion(RulesPackageRulesetDataswornVersion value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case DEFAULT_NAME:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeRulesetId(RulesetId value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeSelectEnhancementFieldChoice(SelectEnhancementFieldChoice value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getChoiceType() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getLabel() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getEnhanceAsset() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getEnhanceMoves() != null) {
+            mask |= 1L << 3;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeSelectEnhancementFieldChoiceChoiceType(value.getChoiceType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeAssetEnhancement(value.getEnhanceAsset());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeListOfMoveEnhancement(value.getEnhanceMoves());
+        }
+    }
+
+    public void writeSelectEnhancementFieldChoiceChoiceType(SelectEnhancementFieldChoiceChoiceType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case CHOICE:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeSelectValueFieldChoice(SelectValueFieldChoice value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        if (value instanceof SelectValueFieldChoiceAssetControl) {
+            writeVarLong(1);
+            writeSelectValueFieldChoiceAssetControl((SelectValueFieldChoiceAssetControl) value);
+        } else if (value instanceof SelectValueFieldChoiceAssetOption) {
+            writeVarLong(2);
+            writeSelectValueFieldChoiceAssetOption((SelectValueFieldChoiceAssetOption) value);
+        } else if (value instanceof SelectValueFieldChoiceAttachedAssetControl) {
+            writeVarLong(3);
+            writeSelectValueFieldChoiceAttachedAssetControl((SelectValueFieldChoiceAttachedAssetControl) value);
+        } else if (value instanceof SelectValueFieldChoiceAttachedAssetOption) {
+            writeVarLong(4);
+            writeSelectValueFieldChoiceAttachedAssetOption((SelectValueFieldChoiceAttachedAssetOption) value);
+        } else if (value instanceof SelectValueFieldChoiceConditionMeter) {
+            writeVarLong(5);
+            writeSelectValueFieldChoiceConditionMeter((SelectValueFieldChoiceConditionMeter) value);
+        } else if (value instanceof SelectValueFieldChoiceCustom) {
+            writeVarLong(6);
+            writeSelectValueFieldChoiceCustom((SelectValueFieldChoiceCustom) value);
+        } else if (value instanceof SelectValueFieldChoiceStat) {
+            writeVarLong(7);
+            writeSelectValueFieldChoiceStat((SelectValueFieldChoiceStat) value);
+        } else {
+            throw new IllegalArgumentException("Unknown SelectValueFieldChoice subtype " + value.getClass().getName());
+        }
+    }
+
+    public void writeSelectValueFieldChoiceAssetControl(SelectValueFieldChoiceAssetControl value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAssets() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getChoiceType() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getControl() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getLabel() != null) {
+            mask |= 1L << 3;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfAssetIdWildcard(value.getAssets());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSelectValueFieldChoiceAssetControlChoiceType(value.getChoiceType());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeDictKey(value.getControl());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+    }
+
+    public void writeSelectValueFieldChoiceAssetControlChoiceType(SelectValueFieldChoiceAssetControlChoiceType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case CHOICE:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeSelectValueFieldChoiceAssetOption(SelectValueFieldChoiceAssetOption value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAssets() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getChoiceType() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getLabel() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getOption() != null) {
+            mask |= 1L << 3;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfAssetIdWildcard(value.getAssets());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSelectValueFieldChoiceAssetOptionChoiceType(value.getChoiceType());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeDictKey(value.getOption());
+        }
+    }
+
+    public void writeSelectValueFieldChoiceAssetOptionChoiceType(SelectValueFieldChoiceAssetOptionChoiceType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case CHOICE:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeSelectValueFieldChoiceAttachedAssetControl(SelectValueFieldChoiceAttachedAssetControl value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getChoiceType() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getControl() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getLabel() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeSelectValueFieldChoiceAttachedAssetControlChoiceType(value.getChoiceType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeDictKey(value.getControl());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+    }
+
+    public void writeSelectValueFieldChoiceAttachedAssetControlChoiceType(SelectValueFieldChoiceAttachedAssetControlChoiceType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case CHOICE:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeSelectValueFieldChoiceAttachedAssetOption(SelectValueFieldChoiceAttachedAssetOption value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getChoiceType() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getLabel() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getOption() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeSelectValueFieldChoiceAttachedAssetOptionChoiceType(value.getChoiceType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeDictKey(value.getOption());
+        }
+    }
+
+    public void writeSelectValueFieldChoiceAttachedAssetOptionChoiceType(SelectValueFieldChoiceAttachedAssetOptionChoiceType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case CHOICE:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeSelectValueFieldChoiceConditionMeter(SelectValueFieldChoiceConditionMeter value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getChoiceType() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getConditionMeter() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getLabel() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeSelectValueFieldChoiceConditionMeterChoiceType(value.getChoiceType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeConditionMeterKey(value.getConditionMeter());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+    }
+
+    public void writeSelectValueFieldChoiceConditionMeterChoiceType(SelectValueFieldChoiceConditionMeterChoiceType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case CHOICE:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeSelectValueFieldChoiceCustom(SelectValueFieldChoiceCustom value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getChoiceType() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getLabel() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getValue() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeSelectValueFieldChoiceCustomChoiceType(value.getChoiceType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeShort(value.getValue());
+        }
+    }
+
+    public void writeSelectValueFieldChoiceCustomChoiceType(SelectValueFieldChoiceCustomChoiceType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case CHOICE:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeSelectValueFieldChoiceStat(SelectValueFieldChoiceStat value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getChoiceType() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getLabel() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getStat() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeSelectValueFieldChoiceStatChoiceType(value.getChoiceType());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeStatKey(value.getStat());
+        }
+    }
+
+    public void writeSelectValueFieldChoiceStatChoiceType(SelectValueFieldChoiceStatChoiceType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case CHOICE:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeSourceInfo(SourceInfo value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAuthors() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getDate() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getLicense() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getTitle() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getUrl() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getPage() != null) {
+            mask |= 1L << 5;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfAuthorInfo(value.getAuthors());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeOffsetDateTime(value.getDate());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeLicense(value.getLicense());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeString(value.getTitle());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeWebUrl(value.getUrl());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeUnsignedShort(value.getPage());
+        }
+    }
+
+    public void writeSpecialTrackRollMethod(SpecialTrackRollMethod value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case ALL:
+                writeVarLong(1);
+                break;
+            case HIGHEST:
+                writeVarLong(2);
+                break;
+            case LOWEST:
+                writeVarLong(3);
+                break;
+            case MISS:
+                writeVarLong(4);
+                break;
+            case PLAYER_CHOICE:
+                writeVarLong(5);
+                break;
+            case STRONG_HIT:
+                writeVarLong(6);
+                break;
+            case WEAK_HIT:
+                writeVarLong(7);
+                break;
+        }
+    }
+
+    public void writeSpecialTrackRule(SpecialTrackRule value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getDescription() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getLabel() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getOptional() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getShared() != null) {
+            mask |= 1L << 3;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeBoolean(value.getOptional());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeBoolean(value.getShared());
+        }
+    }
+
+    public void writeSpecialTrackType(SpecialTrackType value) {
+        writeDictKey(value == null ? null : value.getValue());
+    }
+
+    public void writeStatKey(StatKey value) {
+        writeDictKey(value == null ? null : value.getValue());
+    }
+
+    public void writeStatRule(StatRule value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getDescription() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getLabel() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeInputLabel(value.getLabel());
+        }
+    }
+
+    public void writeSuggestions(Suggestions value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAssets() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getAtlas() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getMoves() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getNpcs() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getOracles() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getRarities() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getSiteDomains() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getSiteThemes() != null) {
+            mask |= 1L << 7;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfAssetId(value.getAssets());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeListOfAtlasEntryId(value.getAtlas());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeListOfMoveId(value.getMoves());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeListOfNpcId(value.getNpcs());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeListOfOracleRollableId(value.getOracles());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeListOfRarityId(value.getRarities());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeListOfDelveSiteDomainId(value.getSiteDomains());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeListOfDelveSiteThemeId(value.getSiteThemes());
+        }
+    }
+
+    public void writeSvgImageUrl(SvgImageUrl value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeTag(Tag value) {
+        writeObject(value == null ? null : value.getValue());
+    }
+
+    public void writeTagRule(TagRule value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        if (value instanceof TagRuleAsset) {
+            writeVarLong(1);
+            writeTagRuleAsset((TagRuleAsset) value);
+        } else if (value instanceof TagRuleAssetCollection) {
+            writeVarLong(2);
+            writeTagRuleAssetCollection((TagRuleAssetCollection) value);
+        } else if (value instanceof TagRuleAtlasCollection) {
+            writeVarLong(3);
+            writeTagRuleAtlasCollection((TagRuleAtlasCollection) value);
+        } else if (value instanceof TagRuleAtlasEntry) {
+            writeVarLong(4);
+            writeTagRuleAtlasEntry((TagRuleAtlasEntry) value);
+        } else if (value instanceof TagRuleBoolean) {
+            writeVarLong(5);
+            writeTagRuleBoolean((TagRuleBoolean) value);
+        } else if (value instanceof TagRuleDelveSite) {
+            writeVarLong(6);
+            writeTagRuleDelveSite((TagRuleDelveSite) value);
+        } else if (value instanceof TagRuleDelveSiteDomain) {
+            writeVarLong(7);
+            writeTagRuleDelveSiteDomain((TagRuleDelveSiteDomain) value);
+        } else if (value instanceof TagRuleDelveSiteTheme) {
+            writeVarLong(8);
+            writeTagRuleDelveSiteTheme((TagRuleDelveSiteTheme) value);
+        } else if (value instanceof TagRuleEnum) {
+            writeVarLong(9);
+            writeTagRuleEnum((TagRuleEnum) value);
+        } else if (value instanceof TagRuleInteger) {
+            writeVarLong(10);
+            writeTagRuleInteger((TagRuleInteger) value);
+        } else if (value instanceof TagRuleMove) {
+            writeVarLong(11);
+            writeTagRuleMove((TagRuleMove) value);
+        } else if (value instanceof TagRuleMoveCategory) {
+            writeVarLong(12);
+            writeTagRuleMoveCategory((TagRuleMoveCategory) value);
+        } else if (value instanceof TagRuleNpc) {
+            writeVarLong(13);
+            writeTagRuleNpc((TagRuleNpc) value);
+        } else if (value instanceof TagRuleNpcCollection) {
+            writeVarLong(14);
+            writeTagRuleNpcCollection((TagRuleNpcCollection) value);
+        } else if (value instanceof TagRuleOracleCollection) {
+            writeVarLong(15);
+            writeTagRuleOracleCollection((TagRuleOracleCollection) value);
+        } else if (value instanceof TagRuleOracleRollable) {
+            writeVarLong(16);
+            writeTagRuleOracleRollable((TagRuleOracleRollable) value);
+        } else if (value instanceof TagRuleRarity) {
+            writeVarLong(17);
+            writeTagRuleRarity((TagRuleRarity) value);
+        } else if (value instanceof TagRuleTruth) {
+            writeVarLong(18);
+            writeTagRuleTruth((TagRuleTruth) value);
+        } else {
+            throw new IllegalArgumentException("Unknown TagRule subtype " + value.getClass().getName());
+        }
+    }
+
+    public void writeTagRuleAsset(TagRuleAsset value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAppliesTo() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getWildcard() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfObjectType(value.getAppliesTo());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeBoolean(value.getWildcard());
+        }
+    }
+
+    public void writeTagRuleAssetCollection(TagRuleAssetCollection value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAppliesTo() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getWildcard() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfObjectType(value.getAppliesTo());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeBoolean(value.getWildcard());
+        }
+    }
+
+    public void writeTagRuleAtlasCollection(TagRuleAtlasCollection value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAppliesTo() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getWildcard() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfObjectType(value.getAppliesTo());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeBoolean(value.getWildcard());
+        }
+    }
+
+    public void writeTagRuleAtlasEntry(TagRuleAtlasEntry value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAppliesTo() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getWildcard() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfObjectType(value.getAppliesTo());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeBoolean(value.getWildcard());
+        }
+    }
+
+    public void writeTagRuleBoolean(TagRuleBoolean value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAppliesTo() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getArray() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfObjectType(value.getAppliesTo());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeBoolean(value.getArray());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+    }
+
+    public void writeTagRuleDelveSite(TagRuleDelveSite value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAppliesTo() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getWildcard() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfObjectType(value.getAppliesTo());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeBoolean(value.getWildcard());
+        }
+    }
+
+    public void writeTagRuleDelveSiteDomain(TagRuleDelveSiteDomain value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAppliesTo() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getWildcard() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfObjectType(value.getAppliesTo());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeBoolean(value.getWildcard());
+        }
+    }
+
+    public void writeTagRuleDelveSiteTheme(TagRuleDelveSiteTheme value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAppliesTo() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getWildcard() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfObjectType(value.getAppliesTo());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeBoolean(value.getWildcard());
+        }
+    }
+
+    public void writeTagRuleEnum(TagRuleEnum value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAppliesTo() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getArray() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getEnum_() != null) {
+            mask |= 1L << 3;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfObjectType(value.getAppliesTo());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeBoolean(value.getArray());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeListOfDictKey(value.getEnum_());
+        }
+    }
+
+    public void writeTagRuleInteger(TagRuleInteger value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAppliesTo() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getArray() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfObjectType(value.getAppliesTo());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeBoolean(value.getArray());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+    }
+
+    public void writeTagRuleMove(TagRuleMove value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAppliesTo() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getWildcard() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfObjectType(value.getAppliesTo());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeBoolean(value.getWildcard());
+        }
+    }
+
+    public void writeTagRuleMoveCategory(TagRuleMoveCategory value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAppliesTo() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getWildcard() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfObjectType(value.getAppliesTo());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeBoolean(value.getWildcard());
+        }
+    }
+
+    public void writeTagRuleNpc(TagRuleNpc value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAppliesTo() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getWildcard() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfObjectType(value.getAppliesTo());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeBoolean(value.getWildcard());
+        }
+    }
+
+    public void writeTagRuleNpcCollection(TagRuleNpcCollection value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAppliesTo() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getWildcard() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfObjectType(value.getAppliesTo());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeBoolean(value.getWildcard());
+        }
+    }
+
+    public void writeTagRuleOracleCollection(TagRuleOracleCollection value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAppliesTo() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getWildcard() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfObjectType(value.getAppliesTo());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeBoolean(value.getWildcard());
+        }
+    }
+
+    public void writeTagRuleOracleRollable(TagRuleOracleRollable value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAppliesTo() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getWildcard() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfObjectType(value.getAppliesTo());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeBoolean(value.getWildcard());
+        }
+    }
+
+    public void writeTagRuleRarity(TagRuleRarity value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAppliesTo() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getWildcard() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfObjectType(value.getAppliesTo());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeBoolean(value.getWildcard());
+        }
+    }
+
+    public void writeTagRuleTruth(TagRuleTruth value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAppliesTo() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getDescription() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getWildcard() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfObjectType(value.getAppliesTo());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeBoolean(value.getWildcard());
+        }
+    }
+
+    public void writeTemplateString(TemplateString value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeTriggerActionRoll(TriggerActionRoll value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getConditions() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getText() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfTriggerActionRollCondition(value.getConditions());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMarkdownString(value.getText());
+        }
+    }
+
+    public void writeTriggerActionRollCondition(TriggerActionRollCondition value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getMethod() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getRollOptions() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getBy() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getText() != null) {
+            mask |= 1L << 3;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeActionRollMethod(value.getMethod());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeListOfRollableValue(value.getRollOptions());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeTriggerBy(value.getBy());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeMarkdownString(value.getText());
+        }
+    }
+
+    public void writeTriggerActionRollConditionEnhancement(TriggerActionRollConditionEnhancement value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getMethod() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getRollOptions() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getBy() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getText() != null) {
+            mask |= 1L << 3;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeActionRollMethod(value.getMethod());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeListOfRollableValue(value.getRollOptions());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeTriggerBy(value.getBy());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeMarkdownString(value.getText());
+        }
+    }
+
+    public void writeTriggerActionRollEnhancement(TriggerActionRollEnhancement value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getConditions() != null) {
+            mask |= 1L << 0;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfTriggerActionRollConditionEnhancement(value.getConditions());
+        }
+    }
+
+    public void writeTriggerBy(TriggerBy value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getAlly() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getPlayer() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeBoolean(value.getAlly());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeBoolean(value.getPlayer());
+        }
+    }
+
+    public void writeTriggerNoRoll(TriggerNoRoll value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getConditions() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getText() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfTriggerNoRollCondition(value.getConditions());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMarkdownString(value.getText());
+        }
+    }
+
+    public void writeTriggerNoRollCondition(TriggerNoRollCondition value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getBy() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getText() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeTriggerBy(value.getBy());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMarkdownString(value.getText());
+        }
+    }
+
+    public void writeTriggerNoRollEnhancement(TriggerNoRollEnhancement value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getConditions() != null) {
+            mask |= 1L << 0;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfTriggerNoRollCondition(value.getConditions());
+        }
+    }
+
+    public void writeTriggerProgressRoll(TriggerProgressRoll value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getConditions() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getText() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfTriggerProgressRollCondition(value.getConditions());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMarkdownString(value.getText());
+        }
+    }
+
+    public void writeTriggerProgressRollCondition(TriggerProgressRollCondition value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getMethod() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getRollOptions() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getBy() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getText() != null) {
+            mask |= 1L << 3;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeProgressRollMethod(value.getMethod());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeListOfProgressRollOption(value.getRollOptions());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeTriggerBy(value.getBy());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeMarkdownString(value.getText());
+        }
+    }
+
+    public void writeTriggerProgressRollConditionEnhancement(TriggerProgressRollConditionEnhancement value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getMethod() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getRollOptions() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getBy() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getText() != null) {
+            mask |= 1L << 3;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeProgressRollMethod(value.getMethod());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeListOfProgressRollOption(value.getRollOptions());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeTriggerBy(value.getBy());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeMarkdownString(value.getText());
+        }
+    }
+
+    public void writeTriggerProgressRollEnhancement(TriggerProgressRollEnhancement value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getConditions() != null) {
+            mask |= 1L << 0;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfTriggerProgressRollConditionEnhancement(value.getConditions());
+        }
+    }
+
+    public void writeTriggerSpecialTrack(TriggerSpecialTrack value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getConditions() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getText() != null) {
+            mask |= 1L << 1;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfTriggerSpecialTrackCondition(value.getConditions());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMarkdownString(value.getText());
+        }
+    }
+
+    public void writeTriggerSpecialTrackCondition(TriggerSpecialTrackCondition value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getMethod() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getRollOptions() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getBy() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getText() != null) {
+            mask |= 1L << 3;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeSpecialTrackRollMethod(value.getMethod());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeListOfTriggerSpecialTrackConditionOption(value.getRollOptions());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeTriggerBy(value.getBy());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeMarkdownString(value.getText());
+        }
+    }
+
+    public void writeTriggerSpecialTrackConditionEnhancement(TriggerSpecialTrackConditionEnhancement value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getMethod() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getRollOptions() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getBy() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getText() != null) {
+            mask |= 1L << 3;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeSpecialTrackRollMethod(value.getMethod());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeListOfTriggerSpecialTrackConditionOption(value.getRollOptions());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeTriggerBy(value.getBy());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeMarkdownString(value.getText());
+        }
+    }
+
+    public void writeTriggerSpecialTrackConditionOption(TriggerSpecialTrackConditionOption value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getUsing() != null) {
+            mask |= 1L << 0;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeSpecialTrackType(value.getUsing());
+        }
+    }
+
+    public void writeTriggerSpecialTrackEnhancement(TriggerSpecialTrackEnhancement value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getConditions() != null) {
+            mask |= 1L << 0;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeListOfTriggerSpecialTrackConditionEnhancement(value.getConditions());
+        }
+    }
+
+    public void writeTruth(Truth value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getId() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getSource() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getDice() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getName() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getOptions() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getComment() != null) {
+            mask |= 1L << 5;
+        }
+        if (value.getCanonicalName() != null) {
+            mask |= 1L << 6;
+        }
+        if (value.getIcon() != null) {
+            mask |= 1L << 7;
+        }
+        if (value.getSuggestions() != null) {
+            mask |= 1L << 8;
+        }
+        if (value.getSummary() != null) {
+            mask |= 1L << 9;
+        }
+        if (value.getTags() != null) {
+            mask |= 1L << 10;
+        }
+        if (value.getYourCharacter() != null) {
+            mask |= 1L << 11;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeTruthId(value.getId());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeSourceInfo(value.getSource());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeDiceExpression(value.getDice());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeLabel(value.getName());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeListOfTruthOption(value.getOptions());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeString(value.getComment());
+        }
+        if ((mask & 1L << 6) != 0) {
+            writeLabel(value.getCanonicalName());
+        }
+        if ((mask & 1L << 7) != 0) {
+            writeSvgImageUrl(value.getIcon());
+        }
+        if ((mask & 1L << 8) != 0) {
+            writeSuggestions(value.getSuggestions());
+        }
+        if ((mask & 1L << 9) != 0) {
+            writeMarkdownString(value.getSummary());
+        }
+        if ((mask & 1L << 10) != 0) {
+            writeMapOfMapOfTag(value.getTags());
+        }
+        if ((mask & 1L << 11) != 0) {
+            writeMarkdownString(value.getYourCharacter());
+        }
+    }
+
+    public void writeTruthId(TruthId value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeTruthOption(TruthOption value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getDescription() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getQuestStarter() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getMax() != null) {
+            mask |= 1L << 2;
+        }
+        if (value.getMin() != null) {
+            mask |= 1L << 3;
+        }
+        if (value.getSummary() != null) {
+            mask |= 1L << 4;
+        }
+        if (value.getTable() != null) {
+            mask |= 1L << 5;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeMarkdownString(value.getDescription());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeMarkdownString(value.getQuestStarter());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeShort(value.getMax());
+        }
+        if ((mask & 1L << 3) != 0) {
+            writeShort(value.getMin());
+        }
+        if ((mask & 1L << 4) != 0) {
+            writeMarkdownString(value.getSummary());
+        }
+        if ((mask & 1L << 5) != 0) {
+            writeTruthOptionTable(value.getTable());
+        }
+    }
+
+    public void writeTruthOptionTable(TruthOptionTable value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long mask = 0;
+        if (value.getDice() != null) {
+            mask |= 1L << 0;
+        }
+        if (value.getOracleType() != null) {
+            mask |= 1L << 1;
+        }
+        if (value.getRows() != null) {
+            mask |= 1L << 2;
+        }
+        writeVarLong(mask << 1 | 1);
+        if ((mask & 1L << 0) != 0) {
+            writeDiceExpression(value.getDice());
+        }
+        if ((mask & 1L << 1) != 0) {
+            writeTruthOptionTableOracleType(value.getOracleType());
+        }
+        if ((mask & 1L << 2) != 0) {
+            writeListOfOracleTableRowText(value.getRows());
+        }
+    }
+
+    public void writeTruthOptionTableOracleType(TruthOptionTableOracleType value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        switch (value) {
+            case TABLE_TEXT:
+                writeVarLong(1);
+                break;
+        }
+    }
+
+    public void writeUnsignedByte(UnsignedByte value) {
+        writeNumber(value == null ? null : (long) value.getValue());
+    }
+
+    public void writeUnsignedInteger(UnsignedInteger value) {
+        writeNumber(value == null ? null : (long) value.getValue());
+    }
+
+    public void writeUnsignedShort(UnsignedShort value) {
+        writeNumber(value == null ? null : (long) value.getValue());
+    }
+
+    public void writeWebUrl(WebUrl value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeWebpImageUrl(WebpImageUrl value) {
+        writeString(value == null ? null : value.getValue());
+    }
+
+    public void writeListOfAssetAbility(List<AssetAbility> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (AssetAbility element : value) {
+            writeAssetAbility(element);
+        }
+    }
+
+    public void writeListOfAssetId(List<AssetId> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (AssetId element : value) {
+            writeAssetId(element);
+        }
+    }
+
+    public void writeListOfAssetIdWildcard(List<AssetIdWildcard> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (AssetIdWildcard element : value) {
+            writeAssetIdWildcard(element);
+        }
+    }
+
+    public void writeListOfAtlasEntryId(List<AtlasEntryId> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (AtlasEntryId element : value) {
+            writeAtlasEntryId(element);
+        }
+    }
+
+    public void writeListOfAuthorInfo(List<AuthorInfo> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (AuthorInfo element : value) {
+            writeAuthorInfo(element);
+        }
+    }
+
+    public void writeListOfConditionMeterKey(List<ConditionMeterKey> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (ConditionMeterKey element : value) {
+            writeConditionMeterKey(element);
+        }
+    }
+
+    public void writeListOfDelveSiteDenizen(List<DelveSiteDenizen> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (DelveSiteDenizen element : value) {
+            writeDelveSiteDenizen(element);
+        }
+    }
+
+    public void writeListOfDelveSiteDomainId(List<DelveSiteDomainId> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (DelveSiteDomainId element : value) {
+            writeDelveSiteDomainId(element);
+        }
+    }
+
+    public void writeListOfDelveSiteThemeId(List<DelveSiteThemeId> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (DelveSiteThemeId element : value) {
+            writeDelveSiteThemeId(element);
+        }
+    }
+
+    public void writeListOfDictKey(List<DictKey> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (DictKey element : value) {
+            writeDictKey(element);
+        }
+    }
+
+    public void writeListOfMarkdownString(List<MarkdownString> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (MarkdownString element : value) {
+            writeMarkdownString(element);
+        }
+    }
+
+    public void writeListOfMoveEnhancement(List<MoveEnhancement> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (MoveEnhancement element : value) {
+            writeMoveEnhancement(element);
+        }
+    }
+
+    public void writeListOfMoveId(List<MoveId> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (MoveId element : value) {
+            writeMoveId(element);
+        }
+    }
+
+    public void writeListOfMoveIdWildcard(List<MoveIdWildcard> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (MoveIdWildcard element : value) {
+            writeMoveIdWildcard(element);
+        }
+    }
+
+    public void writeListOfNpcId(List<NpcId> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (NpcId element : value) {
+            writeNpcId(element);
+        }
+    }
+
+    public void writeListOfObjectType(List<ObjectType> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (ObjectType element : value) {
+            writeObjectType(element);
+        }
+    }
+
+    public void writeListOfOracleRoll(List<OracleRoll> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (OracleRoll element : value) {
+            writeOracleRoll(element);
+        }
+    }
+
+    public void writeListOfOracleRollableId(List<OracleRollableId> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (OracleRollableId element : value) {
+            writeOracleRollableId(element);
+        }
+    }
+
+    public void writeListOfOracleTableRowText(List<OracleTableRowText> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (OracleTableRowText element : value) {
+            writeOracleTableRowText(element);
+        }
+    }
+
+    public void writeListOfOracleTableRowText2(List<OracleTableRowText2> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (OracleTableRowText2 element : value) {
+            writeOracleTableRowText2(element);
+        }
+    }
+
+    public void writeListOfOracleTableRowText3(List<OracleTableRowText3> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (OracleTableRowText3 element : value) {
+            writeOracleTableRowText3(element);
+        }
+    }
+
+    public void writeListOfProgressRollOption(List<ProgressRollOption> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (ProgressRollOption element : value) {
+            writeProgressRollOption(element);
+        }
+    }
+
+    public void writeListOfRarityId(List<RarityId> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (RarityId element : value) {
+            writeRarityId(element);
+        }
+    }
+
+    public void writeListOfRollableValue(List<RollableValue> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (RollableValue element : value) {
+            writeRollableValue(element);
+        }
+    }
+
+    public void writeListOfTriggerActionRollCondition(List<TriggerActionRollCondition> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (TriggerActionRollCondition element : value) {
+            writeTriggerActionRollCondition(element);
+        }
+    }
+
+    public void writeListOfTriggerActionRollConditionEnhancement(List<TriggerActionRollConditionEnhancement> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (TriggerActionRollConditionEnhancement element : value) {
+            writeTriggerActionRollConditionEnhancement(element);
+        }
+    }
+
+    public void writeListOfTriggerNoRollCondition(List<TriggerNoRollCondition> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (TriggerNoRollCondition element : value) {
+            writeTriggerNoRollCondition(element);
+        }
+    }
+
+    public void writeListOfTriggerProgressRollCondition(List<TriggerProgressRollCondition> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (TriggerProgressRollCondition element : value) {
+            writeTriggerProgressRollCondition(element);
+        }
+    }
+
+    public void writeListOfTriggerProgressRollConditionEnhancement(List<TriggerProgressRollConditionEnhancement> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (TriggerProgressRollConditionEnhancement element : value) {
+            writeTriggerProgressRollConditionEnhancement(element);
+        }
+    }
+
+    public void writeListOfTriggerSpecialTrackCondition(List<TriggerSpecialTrackCondition> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (TriggerSpecialTrackCondition element : value) {
+            writeTriggerSpecialTrackCondition(element);
+        }
+    }
+
+    public void writeListOfTriggerSpecialTrackConditionEnhancement(List<TriggerSpecialTrackConditionEnhancement> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (TriggerSpecialTrackConditionEnhancement element : value) {
+            writeTriggerSpecialTrackConditionEnhancement(element);
+        }
+    }
+
+    public void writeListOfTriggerSpecialTrackConditionOption(List<TriggerSpecialTrackConditionOption> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (TriggerSpecialTrackConditionOption element : value) {
+            writeTriggerSpecialTrackConditionOption(element);
+        }
+    }
+
+    public void writeListOfTruthOption(List<TruthOption> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (TruthOption element : value) {
+            writeTruthOption(element);
+        }
+    }
+
+    public void writeListOfWebpImageUrl(List<WebpImageUrl> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (WebpImageUrl element : value) {
+            writeWebpImageUrl(element);
+        }
+    }
+
+    public void writeMapOfAsset(Map<String, Asset> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, Asset> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeAsset(entry.getValue());
+        }
+    }
+
+    public void writeMapOfAssetAbilityControlField(Map<String, AssetAbilityControlField> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, AssetAbilityControlField> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeAssetAbilityControlField(entry.getValue());
+        }
+    }
+
+    public void writeMapOfAssetAbilityOptionField(Map<String, AssetAbilityOptionField> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, AssetAbilityOptionField> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeAssetAbilityOptionField(entry.getValue());
+        }
+    }
+
+    public void writeMapOfAssetCollection(Map<String, AssetCollection> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, AssetCollection> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeAssetCollection(entry.getValue());
+        }
+    }
+
+    public void writeMapOfAssetConditionMeterControlField(Map<String, AssetConditionMeterControlField> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, AssetConditionMeterControlField> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeAssetConditionMeterControlField(entry.getValue());
+        }
+    }
+
+    public void writeMapOfAssetControlField(Map<String, AssetControlField> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, AssetControlField> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeAssetControlField(entry.getValue());
+        }
+    }
+
+    public void writeMapOfAssetControlFieldEnhancement(Map<String, AssetControlFieldEnhancement> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, AssetControlFieldEnhancement> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeAssetControlFieldEnhancement(entry.getValue());
+        }
+    }
+
+    public void writeMapOfAssetControlFieldSelectEnhancementChoice(Map<String, AssetControlFieldSelectEnhancementChoice> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, AssetControlFieldSelectEnhancementChoice> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeAssetControlFieldSelectEnhancementChoice(entry.getValue());
+        }
+    }
+
+    public void writeMapOfAssetOptionField(Map<String, AssetOptionField> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, AssetOptionField> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeAssetOptionField(entry.getValue());
+        }
+    }
+
+    public void writeMapOfAssetOptionFieldSelectEnhancementChoice(Map<String, AssetOptionFieldSelectEnhancementChoice> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, AssetOptionFieldSelectEnhancementChoice> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeAssetOptionFieldSelectEnhancementChoice(entry.getValue());
+        }
+    }
+
+    public void writeMapOfAtlasCollection(Map<String, AtlasCollection> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, AtlasCollection> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeAtlasCollection(entry.getValue());
+        }
+    }
+
+    public void writeMapOfAtlasEntry(Map<String, AtlasEntry> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, AtlasEntry> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeAtlasEntry(entry.getValue());
+        }
+    }
+
+    public void writeMapOfConditionMeterRule(Map<String, ConditionMeterRule> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, ConditionMeterRule> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeConditionMeterRule(entry.getValue());
+        }
+    }
+
+    public void writeMapOfDelveSite(Map<String, DelveSite> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, DelveSite> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeDelveSite(entry.getValue());
+        }
+    }
+
+    public void writeMapOfDelveSiteDomain(Map<String, DelveSiteDomain> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, DelveSiteDomain> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeDelveSiteDomain(entry.getValue());
+        }
+    }
+
+    public void writeMapOfDelveSiteTheme(Map<String, DelveSiteTheme> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, DelveSiteTheme> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeDelveSiteTheme(entry.getValue());
+        }
+    }
+
+    public void writeMapOfImpactCategory(Map<String, ImpactCategory> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, ImpactCategory> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeImpactCategory(entry.getValue());
+        }
+    }
+
+    public void writeMapOfImpactRule(Map<String, ImpactRule> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, ImpactRule> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeImpactRule(entry.getValue());
+        }
+    }
+
+    public void writeMapOfMapOfTag(Map<String, Map<String, Tag>> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, Map<String, Tag>> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeMapOfTag(entry.getValue());
+        }
+    }
+
+    public void writeMapOfMove(Map<String, Move> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, Move> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeMove(entry.getValue());
+        }
+    }
+
+    public void writeMapOfMoveCategory(Map<String, MoveCategory> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, MoveCategory> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeMoveCategory(entry.getValue());
+        }
+    }
+
+    public void writeMapOfNpc(Map<String, Npc> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, Npc> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeNpc(entry.getValue());
+        }
+    }
+
+    public void writeMapOfNpcCollection(Map<String, NpcCollection> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, NpcCollection> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeNpcCollection(entry.getValue());
+        }
+    }
+
+    public void writeMapOfNpcVariant(Map<String, NpcVariant> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, NpcVariant> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeNpcVariant(entry.getValue());
+        }
+    }
+
+    public void writeMapOfObject(Map<String, Object> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, Object> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeObject(entry.getValue());
+        }
+    }
+
+    public void writeMapOfOracleCollection(Map<String, OracleCollection> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, OracleCollection> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeOracleCollection(entry.getValue());
+        }
+    }
+
+    public void writeMapOfOracleColumnText(Map<String, OracleColumnText> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, OracleColumnText> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeOracleColumnText(entry.getValue());
+        }
+    }
+
+    public void writeMapOfOracleColumnText2(Map<String, OracleColumnText2> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, OracleColumnText2> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeOracleColumnText2(entry.getValue());
+        }
+    }
+
+    public void writeMapOfOracleColumnText3(Map<String, OracleColumnText3> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, OracleColumnText3> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeOracleColumnText3(entry.getValue());
+        }
+    }
+
+    public void writeMapOfOracleTableRollable(Map<String, OracleTableRollable> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, OracleTableRollable> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeOracleTableRollable(entry.getValue());
+        }
+    }
+
+    public void writeMapOfOracleTablesCollection(Map<String, OracleTablesCollection> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, OracleTablesCollection> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeOracleTablesCollection(entry.getValue());
+        }
+    }
+
+    public void writeMapOfRarity(Map<String, Rarity> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, Rarity> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeRarity(entry.getValue());
+        }
+    }
+
+    public void writeMapOfSelectEnhancementFieldChoice(Map<String, SelectEnhancementFieldChoice> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, SelectEnhancementFieldChoice> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeSelectEnhancementFieldChoice(entry.getValue());
+        }
+    }
+
+    public void writeMapOfSelectValueFieldChoice(Map<String, SelectValueFieldChoice> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, SelectValueFieldChoice> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeSelectValueFieldChoice(entry.getValue());
+        }
+    }
+
+    public void writeMapOfSpecialTrackRule(Map<String, SpecialTrackRule> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, SpecialTrackRule> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeSpecialTrackRule(entry.getValue());
+        }
+    }
+
+    public void writeMapOfStatRule(Map<String, StatRule> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, StatRule> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeStatRule(entry.getValue());
+        }
+    }
+
+    public void writeMapOfTag(Map<String, Tag> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, Tag> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeTag(entry.getValue());
+        }
+    }
+
+    public void writeMapOfTagRule(Map<String, TagRule> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, TagRule> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeTagRule(entry.getValue());
+        }
+    }
+
+    public void writeMapOfTruth(Map<String, Truth> value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.size() + 1L);
+        for (Map.Entry<String, Truth> entry : value.entrySet()) {
+            writeString(entry.getKey());
+            writeTruth(entry.getValue());
+        }
+    }
+}
@@ -0,0 +1,6395 @@
+// Code generated by Datasworn.codegen.StreamingCodegen. DO NOT EDIT.
+
+package Datasworn.io;
+
+import Datasworn.ActionRollMethod;
+import Datasworn.Asset;
+import Datasworn.AssetAbility;
+import Datasworn.AssetAbilityControlField;
+import Datasworn.AssetAbilityControlFieldCheckbox;
+import Datasworn.AssetAbilityControlFieldClock;
+import Datasworn.AssetAbilityControlFieldCounter;
+import Datasworn.AssetAbilityControlFieldText;
+import Datasworn.AssetAbilityId;
+import Datasworn.AssetAbilityOptionField;
+import Datasworn.AssetAbilityOptionFieldText;
+import Datasworn.AssetAttachment;
+import Datasworn.AssetCollection;
+import Datasworn.AssetCollectionId;
+import Datasworn.AssetCollectionType;
+import Datasworn.AssetConditionMeterControlField;
+import Datasworn.AssetConditionMeterControlFieldCardFlip;
+import Datasworn.AssetConditionMeterControlFieldCheckbox;
+import Datasworn.AssetControlField;
+import Datasworn.AssetControlFieldCardFlip;
+import Datasworn.AssetControlFieldCheckbox;
+import Datasworn.AssetControlFieldConditionMeter;
+import Datasworn.AssetControlFieldConditionMeterMoves;
+import Datasworn.AssetControlFieldEnhancement;
+import Datasworn.AssetControlFieldEnhancementConditionMeter;
+import Datasworn.AssetControlFieldSelectEnhancement;
+import Datasworn.AssetControlFieldSelectEnhancementChoice;
+import Datasworn.AssetControlFieldSelectEnhancementChoiceChoice;
+import Datasworn.AssetControlFieldSelectEnhancementChoiceChoiceGroup;
+import Datasworn.AssetEnhancement;
+import Datasworn.AssetId;
+import Datasworn.AssetIdWildcard;
+import Datasworn.AssetOptionField;
+import Datasworn.AssetOptionFieldSelectEnhancement;
+import Datasworn.AssetOptionFieldSelectEnhancementChoice;
+import Datasworn.AssetOptionFieldSelectEnhancementChoiceChoice;
+import Datasworn.AssetOptionFieldSelectEnhancementChoiceChoiceGroup;
+import Datasworn.AssetOptionFieldSelectValue;
+import Datasworn.AssetOptionFieldText;
+import Datasworn.AssetType;
+import Datasworn.AtlasCollection;
+import Datasworn.AtlasCollectionId;
+import Datasworn.AtlasCollectionType;
+import Datasworn.AtlasEntry;
+import Datasworn.AtlasEntryId;
+import Datasworn.AtlasEntryType;
+import Datasworn.AuthorInfo;
+import Datasworn.ChallengeRank;
+import Datasworn.ConditionMeterKey;
+import Datasworn.ConditionMeterRule;
+import Datasworn.CssColor;
+import Datasworn.DelveSite;
+import Datasworn.DelveSiteDenizen;
+import Datasworn.DelveSiteDenizenFrequency;
+import Datasworn.DelveSiteDomain;
+import Datasworn.DelveSiteDomainId;
+import Datasworn.DelveSiteDomainType;
+import Datasworn.DelveSiteId;
+import Datasworn.DelveSiteTheme;
+import Datasworn.DelveSiteThemeId;
+import Datasworn.DelveSiteThemeType;
+import Datasworn.DelveSiteType;
+import Datasworn.DiceExpression;
+import Datasworn.DictKey;
+import Datasworn.ExpansionId;
+import Datasworn.I18nHint;
+import Datasworn.I18nHints;
+import Datasworn.I18nHintsTemplate;
+import Datasworn.ImpactCategory;
+import Datasworn.ImpactRule;
+import Datasworn.InputLabel;
+import Datasworn.Label;
+import Datasworn.License;
+import Datasworn.MarkdownString;
+import Datasworn.Move;
+import Datasworn.MoveActionRoll;
+import Datasworn.MoveActionRollType;
+import Datasworn.MoveCategory;
+import Datasworn.MoveCategoryId;
+import Datasworn.MoveCategoryType;
+import Datasworn.MoveEnhancement;
+import Datasworn.MoveEnhancementActionRoll;
+import Datasworn.MoveEnhancementNoRoll;
+import Datasworn.MoveEnhancementProgressRoll;
+import Datasworn.MoveEnhancementSpecialTrack;
+import Datasworn.MoveId;
+import Datasworn.MoveIdWildcard;
+import Datasworn.MoveNoRoll;
+import Datasworn.MoveNoRollType;
+import Datasworn.MoveOutcome;
+import Datasworn.MoveOutcomes;
+import Datasworn.MoveProgressRoll;
+import Datasworn.MoveProgressRollType;
+import Datasworn.MoveSpecialTrack;
+import Datasworn.MoveSpecialTrackType;
+import Datasworn.Npc;
+import Datasworn.NpcCollection;
+import Datasworn.NpcCollectionId;
+import Datasworn.NpcCollectionType;
+import Datasworn.NpcId;
+import Datasworn.NpcNature;
+import Datasworn.NpcType;
+import Datasworn.NpcVariant;
+import Datasworn.NpcVariantId;
+import Datasworn.ObjectType;
+import Datasworn.OracleCollection;
+import Datasworn.OracleCollectionId;
+import Datasworn.OracleCollectionOracleTableSharedText3;
+import Datasworn.OracleCollectionOracleTableSharedText3ColumnLabels;
+import Datasworn.OracleCollectionOracleTableSharedText3Type;
+import Datasworn.OracleCollectionTableSharedRolls;
+import Datasworn.OracleCollectionTableSharedRollsColumnLabels;
+import Datasworn.OracleCollectionTableSharedRollsType;
+import Datasworn.OracleCollectionTableSharedText;
+import Datasworn.OracleCollectionTableSharedText2;
+import Datasworn.OracleCollectionTableSharedText2ColumnLabels;
+import Datasworn.OracleCollectionTableSharedText2Type;
+import Datasworn.OracleCollectionTableSharedTextColumnLabels;
+import Datasworn.OracleCollectionTableSharedTextType;
+import Datasworn.OracleCollectionTables;
+import Datasworn.OracleCollectionTablesType;
+import Datasworn.OracleColumnText;
+import Datasworn.OracleColumnText2;
+import Datasworn.OracleColumnText2OracleType;
+import Datasworn.OracleColumnText2Type;
+import Datasworn.OracleColumnText3;
+import Datasworn.OracleColumnText3OracleType;
+import Datasworn.OracleColumnText3Type;
+import Datasworn.OracleColumnTextOracleType;
+import Datasworn.OracleColumnTextType;
+import Datasworn.OracleDuplicateBehavior;
+import Datasworn.OracleMatchBehavior;
+import Datasworn.OracleRoll;
+import Datasworn.OracleRollTemplate;
+import Datasworn.OracleRollableId;
+import Datasworn.OracleTableRollable;
+import Datasworn.OracleTableRollableTableText;
+import Datasworn.OracleTableRollableTableText2;
+import Datasworn.OracleTableRollableTableText2ColumnLabels;
+import Datasworn.OracleTableRollableTableText2RecommendedRolls;
+import Datasworn.OracleTableRollableTableText2Type;
+import Datasworn.OracleTableRollableTableText3;
+import Datasworn.OracleTableRollableTableText3ColumnLabels;
+import Datasworn.OracleTableRollableTableText3RecommendedRolls;
+import Datasworn.OracleTableRollableTableText3Type;
+import Datasworn.OracleTableRollableTableTextColumnLabels;
+import Datasworn.OracleTableRollableTableTextRecommendedRolls;
+import Datasworn.OracleTableRollableTableTextType;
+import Datasworn.OracleTableRowText;
+import Datasworn.OracleTableRowText2;
+import Datasworn.OracleTableRowText3;
+import Datasworn.OracleTablesCollection;
+import Datasworn.OracleTablesCollectionOracleType;
+import Datasworn.OracleTablesCollectionType;
+import Datasworn.PartOfSpeech;
+import Datasworn.ProgressRollMethod;
+import Datasworn.ProgressRollOption;
+import Datasworn.ProgressRollOptionUsing;
+import Datasworn.ProgressTrackTypeInfo;
+import Datasworn.Rarity;
+import Datasworn.RarityId;
+import Datasworn.RarityType;
+import Datasworn.RollableValue;
+import Datasworn.RollableValueAssetControl;
+import Datasworn.RollableValueAssetOption;
+import Datasworn.RollableValueAttachedAssetControl;
+import Datasworn.RollableValueAttachedAssetOption;
+import Datasworn.RollableValueConditionMeter;
+import Datasworn.RollableValueCustom;
+import Datasworn.RollableValueStat;
+import Datasworn.Rules;
+import Datasworn.RulesExpansion;
+import Datasworn.RulesPackage;
+import Datasworn.RulesPackageExpansion;
+import Datasworn.RulesPackageExpansionDataswornVersion;
+import Datasworn.RulesPackageRuleset;
+import Datasworn.RulesPackageRulesetDataswornVersion;
+import Datasworn.RulesetId;
+import Datasworn.SelectEnhancementFieldChoice;
+import Datasworn.SelectEnhancementFieldChoiceChoiceType;
+import Datasworn.SelectValueFieldChoice;
+import Datasworn.SelectValueFieldChoiceAssetControl;
+import Datasworn.SelectValueFieldChoiceAssetControlChoiceType;
+import Datasworn.SelectValueFieldChoiceAssetOption;
+import Datasworn.SelectValueFieldChoiceAssetOptionChoiceType;
+import Datasworn.SelectValueFieldChoiceAttachedAssetControl;
+import Datasworn.SelectValueFieldChoiceAttachedAssetControlChoiceType;
+import Datasworn.SelectValueFieldChoiceAttachedAssetOption;
+import Datasworn.SelectValueFieldChoiceAttachedAssetOptionChoiceType;
+import Datasworn.SelectValueFieldChoiceConditionMeter;
+import Datasworn.SelectValueFieldChoiceConditionMeterChoiceType;
+import Datasworn.SelectValueFieldChoiceCustom;
+import Datasworn.SelectValueFieldChoiceCustomChoiceType;
+import Datasworn.SelectValueFieldChoiceStat;
+import Datasworn.SelectValueFieldChoiceStatChoiceType;
+import Datasworn.SourceInfo;
+import Datasworn.SpecialTrackRollMethod;
+import Datasworn.SpecialTrackRule;
+import Datasworn.SpecialTrackType;
+import Datasworn.StatKey;
+import Datasworn.StatRule;
+import Datasworn.Suggestions;
+import Datasworn.SvgImageUrl;
+import Datasworn.Tag;
+import Datasworn.TagRule;
+import Datasworn.TagRuleAsset;
+import Datasworn.TagRuleAssetCollection;
+import Datasworn.TagRuleAtlasCollection;
+import Datasworn.TagRuleAtlasEntry;
+import Datasworn.TagRuleBoolean;
+import Datasworn.TagRuleDelveSite;
+import Datasworn.TagRuleDelveSiteDomain;
+import Datasworn.TagRuleDelveSiteTheme;
+import Datasworn.TagRuleEnum;
+import Datasworn.TagRuleInteger;
+import Datasworn.TagRuleMove;
+import Datasworn.TagRuleMoveCategory;
+import Datasworn.TagRuleNpc;
+import Datasworn.TagRuleNpcCollection;
+import Datasworn.TagRuleOracleCollection;
+import Datasworn.TagRuleOracleRollable;
+import Datasworn.TagRuleRarity;
+import Datasworn.TagRuleTruth;
+import Datasworn.TemplateString;
+import Datasworn.TriggerActionRoll;
+import Datasworn.TriggerActionRollCondition;
+import Datasworn.TriggerActionRollConditionEnhancement;
+import Datasworn.TriggerActionRollEnhancement;
+import Datasworn.TriggerBy;
+import Datasworn.TriggerNoRoll;
+import Datasworn.TriggerNoRollCondition;
+import Datasworn.TriggerNoRollEnhancement;
+import Datasworn.TriggerProgressRoll;
+import Datasworn.TriggerProgressRollCondition;
+import Datasworn.TriggerProgressRollConditionEnhancement;
+import Datasworn.TriggerProgressRollEnhancement;
+import Datasworn.TriggerSpecialTrack;
+import Datasworn.TriggerSpecialTrackCondition;
+import Datasworn.TriggerSpecialTrackConditionEnhancement;
+import Datasworn.TriggerSpecialTrackConditionOption;
+import Datasworn.TriggerSpecialTrackEnhancement;
+import Datasworn.Truth;
+import Datasworn.TruthId;
+import Datasworn.TruthOption;
+import Datasworn.TruthOptionTable;
+import Datasworn.TruthOptionTableOracleType;
+import Datasworn.UnsignedByte;
+import Datasworn.UnsignedInteger;
+import Datasworn.UnsignedShort;
+import Datasworn.WebUrl;
+import Datasworn.WebpImageUrl;
+
+import com.fasterxml.jackson.core.JsonGenerationException;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes Datasworn bindings straight to a {@link JsonGenerator}.<p>
+ * Output matches what Jackson writes for the bindings, except that
+ * polymorphic objects always start with their discriminator, so
+ * {@link DataswornReader} can read them back without buffering.
+ */
+public final class DataswornWriter extends DataswornWriterBase {
+    public DataswornWriter(JsonGenerator generator) {
+        super(generator);
+    }
+
+    public void writeActionRollMethod(ActionRollMethod value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case ALL:
+                generator.writeString("all");
+                break;
+            case HIGHEST:
+                generator.writeString("highest");
+                break;
+            case LOWEST:
+                generator.writeString("lowest");
+                break;
+            case MISS:
+                generator.writeString("miss");
+                break;
+            case PLAYER_CHOICE:
+                generator.writeString("player_choice");
+                break;
+            case STRONG_HIT:
+                generator.writeString("strong_hit");
+                break;
+            case WEAK_HIT:
+                generator.writeString("weak_hit");
+                break;
+        }
+    }
+
+    public void writeAsset(Asset value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("_id");
+        writeAssetId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("abilities");
+        writeListOfAssetAbility(value.getAbilities());
+        generator.writeFieldName("category");
+        writeLabel(value.getCategory());
+        generator.writeFieldName("count_as_impact");
+        writeBoolean(value.getCountAsImpact());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("shared");
+        writeBoolean(value.getShared());
+        generator.writeFieldName("type");
+        writeAssetType(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getAttachments() != null) {
+            generator.writeFieldName("attachments");
+            writeAssetAttachment(value.getAttachments());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getColor() != null) {
+            generator.writeFieldName("color");
+            writeCssColor(value.getColor());
+        }
+        if (value.getControls() != null) {
+            generator.writeFieldName("controls");
+            writeMapOfAssetControlField(value.getControls());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getOptions() != null) {
+            generator.writeFieldName("options");
+            writeMapOfAssetOptionField(value.getOptions());
+        }
+        if (value.getRequirement() != null) {
+            generator.writeFieldName("requirement");
+            writeMarkdownString(value.getRequirement());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeAssetAbility(AssetAbility value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("_id");
+        writeAssetAbilityId(value.getId());
+        generator.writeFieldName("enabled");
+        writeBoolean(value.getEnabled());
+        generator.writeFieldName("text");
+        writeMarkdownString(value.getText());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getControls() != null) {
+            generator.writeFieldName("controls");
+            writeMapOfAssetAbilityControlField(value.getControls());
+        }
+        if (value.getEnhanceAsset() != null) {
+            generator.writeFieldName("enhance_asset");
+            writeAssetEnhancement(value.getEnhanceAsset());
+        }
+        if (value.getEnhanceMoves() != null) {
+            generator.writeFieldName("enhance_moves");
+            writeListOfMoveEnhancement(value.getEnhanceMoves());
+        }
+        if (value.getMoves() != null) {
+            generator.writeFieldName("moves");
+            writeMapOfMove(value.getMoves());
+        }
+        if (value.getName() != null) {
+            generator.writeFieldName("name");
+            writeLabel(value.getName());
+        }
+        if (value.getOptions() != null) {
+            generator.writeFieldName("options");
+            writeMapOfAssetAbilityOptionField(value.getOptions());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeAssetAbilityControlField(AssetAbilityControlField value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        if (value instanceof AssetAbilityControlFieldCheckbox) {
+            writeAssetAbilityControlFieldCheckbox((AssetAbilityControlFieldCheckbox) value);
+        } else if (value instanceof AssetAbilityControlFieldClock) {
+            writeAssetAbilityControlFieldClock((AssetAbilityControlFieldClock) value);
+        } else if (value instanceof AssetAbilityControlFieldCounter) {
+            writeAssetAbilityControlFieldCounter((AssetAbilityControlFieldCounter) value);
+        } else if (value instanceof AssetAbilityControlFieldText) {
+            writeAssetAbilityControlFieldText((AssetAbilityControlFieldText) value);
+        } else {
+            throw new JsonGenerationException("Unknown AssetAbilityControlField subtype " + value.getClass().getName(), generator);
+        }
+    }
+
+    public void writeAssetAbilityControlFieldCheckbox(AssetAbilityControlFieldCheckbox value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("field_type", "checkbox");
+        generator.writeFieldName("disables_asset");
+        writeBoolean(value.getDisablesAsset());
+        generator.writeFieldName("is_impact");
+        writeBoolean(value.getIsImpact());
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeFieldName("value");
+        writeBoolean(value.getValue());
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeAssetAbilityControlFieldClock(AssetAbilityControlFieldClock value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("field_type", "clock");
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeFieldName("max");
+        writeByte(value.getMax());
+        generator.writeFieldName("min");
+        writeByte(value.getMin());
+        generator.writeFieldName("rollable");
+        writeBoolean(value.getRollable());
+        generator.writeFieldName("value");
+        writeByte(value.getValue());
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeAssetAbilityControlFieldCounter(AssetAbilityControlFieldCounter value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("field_type", "counter");
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeFieldName("max");
+        writeShort(value.getMax());
+        generator.writeFieldName("min");
+        writeByte(value.getMin());
+        generator.writeFieldName("rollable");
+        writeBoolean(value.getRollable());
+        generator.writeFieldName("value");
+        writeByte(value.getValue());
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeAssetAbilityControlFieldText(AssetAbilityControlFieldText value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("field_type", "text");
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeFieldName("value");
+        writeString(value.getValue());
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeAssetAbilityId(AssetAbilityId value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeAssetAbilityOptionField(AssetAbilityOptionField value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        if (value instanceof AssetAbilityOptionFieldText) {
+            writeAssetAbilityOptionFieldText((AssetAbilityOptionFieldText) value);
+        } else {
+            throw new JsonGenerationException("Unknown AssetAbilityOptionField subtype " + value.getClass().getName(), generator);
+        }
+    }
+
+    public void writeAssetAbilityOptionFieldText(AssetAbilityOptionFieldText value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("field_type", "text");
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeFieldName("value");
+        writeString(value.getValue());
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeAssetAttachment(AssetAttachment value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("assets");
+        writeListOfAssetIdWildcard(value.getAssets());
+        generator.writeFieldName("max");
+        writeShort(value.getMax());
+        generator.writeEndObject();
+    }
+
+    public void writeAssetCollection(AssetCollection value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("_id");
+        writeAssetCollectionId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("type");
+        writeAssetCollectionType(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getColor() != null) {
+            generator.writeFieldName("color");
+            writeCssColor(value.getColor());
+        }
+        if (value.getContents() != null) {
+            generator.writeFieldName("contents");
+            writeMapOfAsset(value.getContents());
+        }
+        if (value.getDescription() != null) {
+            generator.writeFieldName("description");
+            writeMarkdownString(value.getDescription());
+        }
+        if (value.getEnhances() != null) {
+            generator.writeFieldName("enhances");
+            writeAssetCollectionId(value.getEnhances());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getImages() != null) {
+            generator.writeFieldName("images");
+            writeListOfWebpImageUrl(value.getImages());
+        }
+        if (value.getReplaces() != null) {
+            generator.writeFieldName("replaces");
+            writeAssetCollectionId(value.getReplaces());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getSummary() != null) {
+            generator.writeFieldName("summary");
+            writeMarkdownString(value.getSummary());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeAssetCollectionId(AssetCollectionId value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeAssetCollectionType(AssetCollectionType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case ASSET_COLLECTION:
+                generator.writeString("asset_collection");
+                break;
+        }
+    }
+
+    public void writeAssetConditionMeterControlField(AssetConditionMeterControlField value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        if (value instanceof AssetConditionMeterControlFieldCardFlip) {
+            writeAssetConditionMeterControlFieldCardFlip((AssetConditionMeterControlFieldCardFlip) value);
+        } else if (value instanceof AssetConditionMeterControlFieldCheckbox) {
+            writeAssetConditionMeterControlFieldCheckbox((AssetConditionMeterControlFieldCheckbox) value);
+        } else {
+            throw new JsonGenerationException("Unknown AssetConditionMeterControlField subtype " + value.getClass().getName(), generator);
+        }
+    }
+
+    public void writeAssetConditionMeterControlFieldCardFlip(AssetConditionMeterControlFieldCardFlip value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("field_type", "card_flip");
+        generator.writeFieldName("disables_asset");
+        writeBoolean(value.getDisablesAsset());
+        generator.writeFieldName("is_impact");
+        writeBoolean(value.getIsImpact());
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeFieldName("value");
+        writeBoolean(value.getValue());
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeAssetConditionMeterControlFieldCheckbox(AssetConditionMeterControlFieldCheckbox value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("field_type", "checkbox");
+        generator.writeFieldName("disables_asset");
+        writeBoolean(value.getDisablesAsset());
+        generator.writeFieldName("is_impact");
+        writeBoolean(value.getIsImpact());
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeFieldName("value");
+        writeBoolean(value.getValue());
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeAssetControlField(AssetControlField value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        if (value instanceof AssetControlFieldCardFlip) {
+            writeAssetControlFieldCardFlip((AssetControlFieldCardFlip) value);
+        } else if (value instanceof AssetControlFieldCheckbox) {
+            writeAssetControlFieldCheckbox((AssetControlFieldCheckbox) value);
+        } else if (value instanceof AssetControlFieldConditionMeter) {
+            writeAssetControlFieldConditionMeter((AssetControlFieldConditionMeter) value);
+        } else if (value instanceof AssetControlFieldSelectEnhancement) {
+            writeAssetControlFieldSelectEnhancement((AssetControlFieldSelectEnhancement) value);
+        } else {
+            throw new JsonGenerationException("Unknown AssetControlField subtype " + value.getClass().getName(), generator);
+        }
+    }
+
+    public void writeAssetControlFieldCardFlip(AssetControlFieldCardFlip value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("field_type", "card_flip");
+        generator.writeFieldName("disables_asset");
+        writeBoolean(value.getDisablesAsset());
+        generator.writeFieldName("is_impact");
+        writeBoolean(value.getIsImpact());
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeFieldName("value");
+        writeBoolean(value.getValue());
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeAssetControlFieldCheckbox(AssetControlFieldCheckbox value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("field_type", "checkbox");
+        generator.writeFieldName("disables_asset");
+        writeBoolean(value.getDisablesAsset());
+        generator.writeFieldName("is_impact");
+        writeBoolean(value.getIsImpact());
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeFieldName("value");
+        writeBoolean(value.getValue());
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeAssetControlFieldConditionMeter(AssetControlFieldConditionMeter value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("field_type", "condition_meter");
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeFieldName("max");
+        writeByte(value.getMax());
+        generator.writeFieldName("min");
+        writeByte(value.getMin());
+        generator.writeFieldName("rollable");
+        writeBoolean(value.getRollable());
+        generator.writeFieldName("value");
+        writeByte(value.getValue());
+        if (value.getControls() != null) {
+            generator.writeFieldName("controls");
+            writeMapOfAssetConditionMeterControlField(value.getControls());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getMoves() != null) {
+            generator.writeFieldName("moves");
+            writeAssetControlFieldConditionMeterMoves(value.getMoves());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeAssetControlFieldConditionMeterMoves(AssetControlFieldConditionMeterMoves value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        if (value.getRecover() != null) {
+            generator.writeFieldName("recover");
+            writeListOfMoveIdWildcard(value.getRecover());
+        }
+        if (value.getSuffer() != null) {
+            generator.writeFieldName("suffer");
+            writeListOfMoveIdWildcard(value.getSuffer());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeAssetControlFieldEnhancement(AssetControlFieldEnhancement value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        if (value instanceof AssetControlFieldEnhancementConditionMeter) {
+            writeAssetControlFieldEnhancementConditionMeter((AssetControlFieldEnhancementConditionMeter) value);
+        } else {
+            throw new JsonGenerationException("Unknown AssetControlFieldEnhancement subtype " + value.getClass().getName(), generator);
+        }
+    }
+
+    public void writeAssetControlFieldEnhancementConditionMeter(AssetControlFieldEnhancementConditionMeter value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("field_type", "condition_meter");
+        generator.writeFieldName("max");
+        writeByte(value.getMax());
+        generator.writeEndObject();
+    }
+
+    public void writeAssetControlFieldSelectEnhancement(AssetControlFieldSelectEnhancement value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("field_type", "select_enhancement");
+        generator.writeFieldName("choices");
+        writeMapOfAssetControlFieldSelectEnhancementChoice(value.getChoices());
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeFieldName("value");
+        writeDictKey(value.getValue());
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeAssetControlFieldSelectEnhancementChoice(AssetControlFieldSelectEnhancementChoice value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        if (value instanceof AssetControlFieldSelectEnhancementChoiceChoice) {
+            writeAssetControlFieldSelectEnhancementChoiceChoice((AssetControlFieldSelectEnhancementChoiceChoice) value);
+        } else if (value instanceof AssetControlFieldSelectEnhancementChoiceChoiceGroup) {
+            writeAssetControlFieldSelectEnhancementChoiceChoiceGroup((AssetControlFieldSelectEnhancementChoiceChoiceGroup) value);
+        } else {
+            throw new JsonGenerationException("Unknown AssetControlFieldSelectEnhancementChoice subtype " + value.getClass().getName(), generator);
+        }
+    }
+
+    public void writeAssetControlFieldSelectEnhancementChoiceChoice(AssetControlFieldSelectEnhancementChoiceChoice value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("choice_type", "choice");
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        if (value.getEnhanceAsset() != null) {
+            generator.writeFieldName("enhance_asset");
+            writeAssetEnhancement(value.getEnhanceAsset());
+        }
+        if (value.getEnhanceMoves() != null) {
+            generator.writeFieldName("enhance_moves");
+            writeListOfMoveEnhancement(value.getEnhanceMoves());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeAssetControlFieldSelectEnhancementChoiceChoiceGroup(AssetControlFieldSelectEnhancementChoiceChoiceGroup value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("choice_type", "choice_group");
+        generator.writeFieldName("choices");
+        writeMapOfSelectEnhancementFieldChoice(value.getChoices());
+        generator.writeFieldName("name");
+        writeInputLabel(value.getName());
+        generator.writeEndObject();
+    }
+
+    public void writeAssetEnhancement(AssetEnhancement value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        if (value.getAttachments() != null) {
+            generator.writeFieldName("attachments");
+            writeAssetAttachment(value.getAttachments());
+        }
+        if (value.getControls() != null) {
+            generator.writeFieldName("controls");
+            writeMapOfAssetControlFieldEnhancement(value.getControls());
+        }
+        if (value.getCountAsImpact() != null) {
+            generator.writeFieldName("count_as_impact");
+            writeBoolean(value.getCountAsImpact());
+        }
+        if (value.getShared() != null) {
+            generator.writeFieldName("shared");
+            writeBoolean(value.getShared());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeAssetId(AssetId value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeAssetIdWildcard(AssetIdWildcard value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeAssetOptionField(AssetOptionField value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        if (value instanceof AssetOptionFieldSelectEnhancement) {
+            writeAssetOptionFieldSelectEnhancement((AssetOptionFieldSelectEnhancement) value);
+        } else if (value instanceof AssetOptionFieldSelectValue) {
+            writeAssetOptionFieldSelectValue((AssetOptionFieldSelectValue) value);
+        } else if (value instanceof AssetOptionFieldText) {
+            writeAssetOptionFieldText((AssetOptionFieldText) value);
+        } else {
+            throw new JsonGenerationException("Unknown AssetOptionField subtype " + value.getClass().getName(), generator);
+        }
+    }
+
+    public void writeAssetOptionFieldSelectEnhancement(AssetOptionFieldSelectEnhancement value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("field_type", "select_enhancement");
+        generator.writeFieldName("choices");
+        writeMapOfAssetOptionFieldSelectEnhancementChoice(value.getChoices());
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeFieldName("value");
+        writeDictKey(value.getValue());
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeAssetOptionFieldSelectEnhancementChoice(AssetOptionFieldSelectEnhancementChoice value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        if (value instanceof AssetOptionFieldSelectEnhancementChoiceChoice) {
+            writeAssetOptionFieldSelectEnhancementChoiceChoice((AssetOptionFieldSelectEnhancementChoiceChoice) value);
+        } else if (value instanceof AssetOptionFieldSelectEnhancementChoiceChoiceGroup) {
+            writeAssetOptionFieldSelectEnhancementChoiceChoiceGroup((AssetOptionFieldSelectEnhancementChoiceChoiceGroup) value);
+        } else {
+            throw new JsonGenerationException("Unknown AssetOptionFieldSelectEnhancementChoice subtype " + value.getClass().getName(), generator);
+        }
+    }
+
+    public void writeAssetOptionFieldSelectEnhancementChoiceChoice(AssetOptionFieldSelectEnhancementChoiceChoice value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("choice_type", "choice");
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        if (value.getEnhanceAsset() != null) {
+            generator.writeFieldName("enhance_asset");
+            writeAssetEnhancement(value.getEnhanceAsset());
+        }
+        if (value.getEnhanceMoves() != null) {
+            generator.writeFieldName("enhance_moves");
+            writeListOfMoveEnhancement(value.getEnhanceMoves());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeAssetOptionFieldSelectEnhancementChoiceChoiceGroup(AssetOptionFieldSelectEnhancementChoiceChoiceGroup value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("choice_type", "choice_group");
+        generator.writeFieldName("choices");
+        writeMapOfSelectEnhancementFieldChoice(value.getChoices());
+        generator.writeFieldName("name");
+        writeInputLabel(value.getName());
+        generator.writeEndObject();
+    }
+
+    public void writeAssetOptionFieldSelectValue(AssetOptionFieldSelectValue value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("field_type", "select_value");
+        generator.writeFieldName("choices");
+        writeMapOfSelectValueFieldChoice(value.getChoices());
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeFieldName("value");
+        writeDictKey(value.getValue());
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeAssetOptionFieldText(AssetOptionFieldText value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("field_type", "text");
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeFieldName("value");
+        writeString(value.getValue());
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeAssetType(AssetType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case ASSET:
+                generator.writeString("asset");
+                break;
+        }
+    }
+
+    public void writeAtlasCollection(AtlasCollection value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("_id");
+        writeAtlasCollectionId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("type");
+        writeAtlasCollectionType(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getCollections() != null) {
+            generator.writeFieldName("collections");
+            writeMapOfAtlasCollection(value.getCollections());
+        }
+        if (value.getColor() != null) {
+            generator.writeFieldName("color");
+            writeCssColor(value.getColor());
+        }
+        if (value.getContents() != null) {
+            generator.writeFieldName("contents");
+            writeMapOfAtlasEntry(value.getContents());
+        }
+        if (value.getDescription() != null) {
+            generator.writeFieldName("description");
+            writeMarkdownString(value.getDescription());
+        }
+        if (value.getEnhances() != null) {
+            generator.writeFieldName("enhances");
+            writeAtlasCollectionId(value.getEnhances());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getImages() != null) {
+            generator.writeFieldName("images");
+            writeListOfWebpImageUrl(value.getImages());
+        }
+        if (value.getReplaces() != null) {
+            generator.writeFieldName("replaces");
+            writeAtlasCollectionId(value.getReplaces());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getSummary() != null) {
+            generator.writeFieldName("summary");
+            writeMarkdownString(value.getSummary());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeAtlasCollectionId(AtlasCollectionId value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeAtlasCollectionType(AtlasCollectionType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case ATLAS:
+                generator.writeString("atlas");
+                break;
+        }
+    }
+
+    public void writeAtlasEntry(AtlasEntry value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("_id");
+        writeAtlasEntryId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("features");
+        writeListOfMarkdownString(value.getFeatures());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("type");
+        writeAtlasEntryType(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getQuestStarter() != null) {
+            generator.writeFieldName("quest_starter");
+            writeMarkdownString(value.getQuestStarter());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getSummary() != null) {
+            generator.writeFieldName("summary");
+            writeMarkdownString(value.getSummary());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        if (value.getYourTruth() != null) {
+            generator.writeFieldName("your_truth");
+            writeMarkdownString(value.getYourTruth());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeAtlasEntryId(AtlasEntryId value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeAtlasEntryType(AtlasEntryType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case ATLAS_ENTRY:
+                generator.writeString("atlas_entry");
+                break;
+        }
+    }
+
+    public void writeAuthorInfo(AuthorInfo value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("name");
+        writeString(value.getName());
+        if (value.getEmail() != null) {
+            generator.writeFieldName("email");
+            writeString(value.getEmail());
+        }
+        if (value.getUrl() != null) {
+            generator.writeFieldName("url");
+            writeString(value.getUrl());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeChallengeRank(ChallengeRank value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeUnsignedByte(value.getValue());
+    }
+
+    public void writeConditionMeterKey(ConditionMeterKey value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeDictKey(value.getValue());
+    }
+
+    public void writeConditionMeterRule(ConditionMeterRule value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeFieldName("max");
+        writeByte(value.getMax());
+        generator.writeFieldName("min");
+        writeByte(value.getMin());
+        generator.writeFieldName("rollable");
+        writeBoolean(value.getRollable());
+        generator.writeFieldName("shared");
+        writeBoolean(value.getShared());
+        generator.writeFieldName("value");
+        writeByte(value.getValue());
+        generator.writeEndObject();
+    }
+
+    public void writeCssColor(CssColor value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeDelveSite(DelveSite value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("_id");
+        writeDelveSiteId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("denizens");
+        writeListOfDelveSiteDenizen(value.getDenizens());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("domain");
+        writeDelveSiteDomainId(value.getDomain());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("rank");
+        writeChallengeRank(value.getRank());
+        generator.writeFieldName("theme");
+        writeDelveSiteThemeId(value.getTheme());
+        generator.writeFieldName("type");
+        writeDelveSiteType(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getExtraCard() != null) {
+            generator.writeFieldName("extra_card");
+            writeString(value.getExtraCard());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getRegion() != null) {
+            generator.writeFieldName("region");
+            writeAtlasEntryId(value.getRegion());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeDelveSiteDenizen(DelveSiteDenizen value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("frequency");
+        writeDelveSiteDenizenFrequency(value.getFrequency());
+        generator.writeFieldName("max");
+        writeShort(value.getMax());
+        generator.writeFieldName("min");
+        writeShort(value.getMin());
+        if (value.getName() != null) {
+            generator.writeFieldName("name");
+            writeLabel(value.getName());
+        }
+        if (value.getNpc() != null) {
+            generator.writeFieldName("npc");
+            writeNpcId(value.getNpc());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeDelveSiteDenizenFrequency(DelveSiteDenizenFrequency value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case COMMON:
+                generator.writeString("common");
+                break;
+            case RARE:
+                generator.writeString("rare");
+                break;
+            case UNCOMMON:
+                generator.writeString("uncommon");
+                break;
+            case UNFORESEEN:
+                generator.writeString("unforeseen");
+                break;
+            case VERY_COMMON:
+                generator.writeString("very_common");
+                break;
+        }
+    }
+
+    public void writeDelveSiteDomain(DelveSiteDomain value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("_id");
+        writeDelveSiteDomainId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("dangers");
+        writeListOfOracleTableRowText(value.getDangers());
+        generator.writeFieldName("features");
+        writeListOfOracleTableRowText(value.getFeatures());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("summary");
+        writeMarkdownString(value.getSummary());
+        generator.writeFieldName("type");
+        writeDelveSiteDomainType(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getDescription() != null) {
+            generator.writeFieldName("description");
+            writeMarkdownString(value.getDescription());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getNameOracle() != null) {
+            generator.writeFieldName("name_oracle");
+            writeOracleRollableId(value.getNameOracle());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeDelveSiteDomainId(DelveSiteDomainId value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeDelveSiteDomainType(DelveSiteDomainType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case DELVE_SITE_DOMAIN:
+                generator.writeString("delve_site_domain");
+                break;
+        }
+    }
+
+    public void writeDelveSiteId(DelveSiteId value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeDelveSiteTheme(DelveSiteTheme value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("_id");
+        writeDelveSiteThemeId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("dangers");
+        writeListOfOracleTableRowText(value.getDangers());
+        generator.writeFieldName("features");
+        writeListOfOracleTableRowText(value.getFeatures());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("summary");
+        writeMarkdownString(value.getSummary());
+        generator.writeFieldName("type");
+        writeDelveSiteThemeType(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getDescription() != null) {
+            generator.writeFieldName("description");
+            writeMarkdownString(value.getDescription());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeDelveSiteThemeId(DelveSiteThemeId value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeDelveSiteThemeType(DelveSiteThemeType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case DELVE_SITE_THEME:
+                generator.writeString("delve_site_theme");
+                break;
+        }
+    }
+
+    public void writeDelveSiteType(DelveSiteType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case DELVE_SITE:
+                generator.writeString("delve_site");
+                break;
+        }
+    }
+
+    public void writeDiceExpression(DiceExpression value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeDictKey(DictKey value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeExpansionId(ExpansionId value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeI18nHint(I18nHint value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        if (value.getPartOfSpeech() != null) {
+            generator.writeFieldName("part_of_speech");
+            writePartOfSpeech(value.getPartOfSpeech());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeI18nHints(I18nHints value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        if (value.getTemplate() != null) {
+            generator.writeFieldName("template");
+            writeI18nHintsTemplate(value.getTemplate());
+        }
+        if (value.getText() != null) {
+            generator.writeFieldName("text");
+            writeI18nHint(value.getText());
+        }
+        if (value.getText2() != null) {
+            generator.writeFieldName("text2");
+            writeI18nHint(value.getText2());
+        }
+        if (value.getText3() != null) {
+            generator.writeFieldName("text3");
+            writeI18nHint(value.getText3());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeI18nHintsTemplate(I18nHintsTemplate value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        if (value.getText() != null) {
+            generator.writeFieldName("text");
+            writeI18nHint(value.getText());
+        }
+        if (value.getText2() != null) {
+            generator.writeFieldName("text2");
+            writeI18nHint(value.getText2());
+        }
+        if (value.getText3() != null) {
+            generator.writeFieldName("text3");
+            writeI18nHint(value.getText3());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeImpactCategory(ImpactCategory value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("contents");
+        writeMapOfImpactRule(value.getContents());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeEndObject();
+    }
+
+    public void writeImpactRule(ImpactRule value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeFieldName("permanent");
+        writeBoolean(value.getPermanent());
+        generator.writeFieldName("prevents_recovery");
+        writeListOfConditionMeterKey(value.getPreventsRecovery());
+        generator.writeFieldName("shared");
+        writeBoolean(value.getShared());
+        generator.writeEndObject();
+    }
+
+    public void writeInputLabel(InputLabel value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeLabel(Label value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeLicense(License value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeWebUrl(value.getValue());
+    }
+
+    public void writeMarkdownString(MarkdownString value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeMove(Move value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        if (value instanceof MoveActionRoll) {
+            writeMoveActionRoll((MoveActionRoll) value);
+        } else if (value instanceof MoveNoRoll) {
+            writeMoveNoRoll((MoveNoRoll) value);
+        } else if (value instanceof MoveProgressRoll) {
+            writeMoveProgressRoll((MoveProgressRoll) value);
+        } else if (value instanceof MoveSpecialTrack) {
+            writeMoveSpecialTrack((MoveSpecialTrack) value);
+        } else {
+            throw new JsonGenerationException("Unknown Move subtype " + value.getClass().getName(), generator);
+        }
+    }
+
+    public void writeMoveActionRoll(MoveActionRoll value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("roll_type", "action_roll");
+        generator.writeFieldName("_id");
+        writeMoveId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("outcomes");
+        writeMoveOutcomes(value.getOutcomes());
+        generator.writeFieldName("text");
+        writeMarkdownString(value.getText());
+        generator.writeFieldName("trigger");
+        writeTriggerActionRoll(value.getTrigger());
+        generator.writeFieldName("type");
+        writeMoveActionRollType(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getOracles() != null) {
+            generator.writeFieldName("oracles");
+            writeListOfOracleRollableId(value.getOracles());
+        }
+        if (value.getReplaces() != null) {
+            generator.writeFieldName("replaces");
+            writeMoveId(value.getReplaces());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMoveActionRollType(MoveActionRollType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case MOVE:
+                generator.writeString("move");
+                break;
+        }
+    }
+
+    public void writeMoveCategory(MoveCategory value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("_id");
+        writeMoveCategoryId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("type");
+        writeMoveCategoryType(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getColor() != null) {
+            generator.writeFieldName("color");
+            writeCssColor(value.getColor());
+        }
+        if (value.getContents() != null) {
+            generator.writeFieldName("contents");
+            writeMapOfMove(value.getContents());
+        }
+        if (value.getDescription() != null) {
+            generator.writeFieldName("description");
+            writeMarkdownString(value.getDescription());
+        }
+        if (value.getEnhances() != null) {
+            generator.writeFieldName("enhances");
+            writeMoveCategoryId(value.getEnhances());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getImages() != null) {
+            generator.writeFieldName("images");
+            writeListOfWebpImageUrl(value.getImages());
+        }
+        if (value.getReplaces() != null) {
+            generator.writeFieldName("replaces");
+            writeMoveCategoryId(value.getReplaces());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getSummary() != null) {
+            generator.writeFieldName("summary");
+            writeMarkdownString(value.getSummary());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMoveCategoryId(MoveCategoryId value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeMoveCategoryType(MoveCategoryType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case MOVE_CATEGORY:
+                generator.writeString("move_category");
+                break;
+        }
+    }
+
+    public void writeMoveEnhancement(MoveEnhancement value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        if (value instanceof MoveEnhancementActionRoll) {
+            writeMoveEnhancementActionRoll((MoveEnhancementActionRoll) value);
+        } else if (value instanceof MoveEnhancementNoRoll) {
+            writeMoveEnhancementNoRoll((MoveEnhancementNoRoll) value);
+        } else if (value instanceof MoveEnhancementProgressRoll) {
+            writeMoveEnhancementProgressRoll((MoveEnhancementProgressRoll) value);
+        } else if (value instanceof MoveEnhancementSpecialTrack) {
+            writeMoveEnhancementSpecialTrack((MoveEnhancementSpecialTrack) value);
+        } else {
+            throw new JsonGenerationException("Unknown MoveEnhancement subtype " + value.getClass().getName(), generator);
+        }
+    }
+
+    public void writeMoveEnhancementActionRoll(MoveEnhancementActionRoll value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("roll_type", "action_roll");
+        generator.writeFieldName("enhances");
+        writeListOfMoveIdWildcard(value.getEnhances());
+        if (value.getTrigger() != null) {
+            generator.writeFieldName("trigger");
+            writeTriggerActionRollEnhancement(value.getTrigger());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMoveEnhancementNoRoll(MoveEnhancementNoRoll value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("roll_type", "no_roll");
+        generator.writeFieldName("enhances");
+        writeListOfMoveIdWildcard(value.getEnhances());
+        if (value.getTrigger() != null) {
+            generator.writeFieldName("trigger");
+            writeTriggerNoRollEnhancement(value.getTrigger());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMoveEnhancementProgressRoll(MoveEnhancementProgressRoll value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("roll_type", "progress_roll");
+        generator.writeFieldName("enhances");
+        writeListOfMoveIdWildcard(value.getEnhances());
+        if (value.getTrigger() != null) {
+            generator.writeFieldName("trigger");
+            writeTriggerProgressRollEnhancement(value.getTrigger());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMoveEnhancementSpecialTrack(MoveEnhancementSpecialTrack value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("roll_type", "special_track");
+        generator.writeFieldName("enhances");
+        writeListOfMoveIdWildcard(value.getEnhances());
+        if (value.getTrigger() != null) {
+            generator.writeFieldName("trigger");
+            writeTriggerSpecialTrackEnhancement(value.getTrigger());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMoveId(MoveId value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeMoveIdWildcard(MoveIdWildcard value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeMoveNoRoll(MoveNoRoll value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("roll_type", "no_roll");
+        generator.writeFieldName("_id");
+        writeMoveId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("text");
+        writeMarkdownString(value.getText());
+        generator.writeFieldName("trigger");
+        writeTriggerNoRoll(value.getTrigger());
+        generator.writeFieldName("type");
+        writeMoveNoRollType(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getOracles() != null) {
+            generator.writeFieldName("oracles");
+            writeListOfOracleRollableId(value.getOracles());
+        }
+        if (value.getReplaces() != null) {
+            generator.writeFieldName("replaces");
+            writeMoveId(value.getReplaces());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMoveNoRollType(MoveNoRollType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case MOVE:
+                generator.writeString("move");
+                break;
+        }
+    }
+
+    public void writeMoveOutcome(MoveOutcome value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("text");
+        writeMarkdownString(value.getText());
+        if (value.getOracleRolls() != null) {
+            generator.writeFieldName("oracle_rolls");
+            writeListOfOracleRoll(value.getOracleRolls());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMoveOutcomes(MoveOutcomes value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("miss");
+        writeMoveOutcome(value.getMiss());
+        generator.writeFieldName("strong_hit");
+        writeMoveOutcome(value.getStrongHit());
+        generator.writeFieldName("weak_hit");
+        writeMoveOutcome(value.getWeakHit());
+        generator.writeEndObject();
+    }
+
+    public void writeMoveProgressRoll(MoveProgressRoll value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("roll_type", "progress_roll");
+        generator.writeFieldName("_id");
+        writeMoveId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("outcomes");
+        writeMoveOutcomes(value.getOutcomes());
+        generator.writeFieldName("text");
+        writeMarkdownString(value.getText());
+        generator.writeFieldName("tracks");
+        writeProgressTrackTypeInfo(value.getTracks());
+        generator.writeFieldName("trigger");
+        writeTriggerProgressRoll(value.getTrigger());
+        generator.writeFieldName("type");
+        writeMoveProgressRollType(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getOracles() != null) {
+            generator.writeFieldName("oracles");
+            writeListOfOracleRollableId(value.getOracles());
+        }
+        if (value.getReplaces() != null) {
+            generator.writeFieldName("replaces");
+            writeMoveId(value.getReplaces());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMoveProgressRollType(MoveProgressRollType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case MOVE:
+                generator.writeString("move");
+                break;
+        }
+    }
+
+    public void writeMoveSpecialTrack(MoveSpecialTrack value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("roll_type", "special_track");
+        generator.writeFieldName("_id");
+        writeMoveId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("outcomes");
+        writeMoveOutcomes(value.getOutcomes());
+        generator.writeFieldName("text");
+        writeMarkdownString(value.getText());
+        generator.writeFieldName("trigger");
+        writeTriggerSpecialTrack(value.getTrigger());
+        generator.writeFieldName("type");
+        writeMoveSpecialTrackType(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getOracles() != null) {
+            generator.writeFieldName("oracles");
+            writeListOfOracleRollableId(value.getOracles());
+        }
+        if (value.getReplaces() != null) {
+            generator.writeFieldName("replaces");
+            writeMoveId(value.getReplaces());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMoveSpecialTrackType(MoveSpecialTrackType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case MOVE:
+                generator.writeString("move");
+                break;
+        }
+    }
+
+    public void writeNpc(Npc value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("_id");
+        writeNpcId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("drives");
+        writeListOfMarkdownString(value.getDrives());
+        generator.writeFieldName("features");
+        writeListOfMarkdownString(value.getFeatures());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("nature");
+        writeNpcNature(value.getNature());
+        generator.writeFieldName("rank");
+        writeChallengeRank(value.getRank());
+        generator.writeFieldName("tactics");
+        writeListOfMarkdownString(value.getTactics());
+        generator.writeFieldName("type");
+        writeNpcType(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getQuestStarter() != null) {
+            generator.writeFieldName("quest_starter");
+            writeMarkdownString(value.getQuestStarter());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getSummary() != null) {
+            generator.writeFieldName("summary");
+            writeMarkdownString(value.getSummary());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        if (value.getVariants() != null) {
+            generator.writeFieldName("variants");
+            writeMapOfNpcVariant(value.getVariants());
+        }
+        if (value.getYourTruth() != null) {
+            generator.writeFieldName("your_truth");
+            writeMarkdownString(value.getYourTruth());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeNpcCollection(NpcCollection value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("_id");
+        writeNpcCollectionId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("type");
+        writeNpcCollectionType(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getColor() != null) {
+            generator.writeFieldName("color");
+            writeCssColor(value.getColor());
+        }
+        if (value.getContents() != null) {
+            generator.writeFieldName("contents");
+            writeMapOfNpc(value.getContents());
+        }
+        if (value.getDescription() != null) {
+            generator.writeFieldName("description");
+            writeMarkdownString(value.getDescription());
+        }
+        if (value.getEnhances() != null) {
+            generator.writeFieldName("enhances");
+            writeNpcCollectionId(value.getEnhances());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getImages() != null) {
+            generator.writeFieldName("images");
+            writeListOfWebpImageUrl(value.getImages());
+        }
+        if (value.getReplaces() != null) {
+            generator.writeFieldName("replaces");
+            writeNpcCollectionId(value.getReplaces());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getSummary() != null) {
+            generator.writeFieldName("summary");
+            writeMarkdownString(value.getSummary());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeNpcCollectionId(NpcCollectionId value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeNpcCollectionType(NpcCollectionType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case NPC_COLLECTION:
+                generator.writeString("npc_collection");
+                break;
+        }
+    }
+
+    public void writeNpcId(NpcId value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeNpcNature(NpcNature value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeLabel(value.getValue());
+    }
+
+    public void writeNpcType(NpcType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case NPC:
+                generator.writeString("npc");
+                break;
+        }
+    }
+
+    public void writeNpcVariant(NpcVariant value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("_id");
+        writeNpcVariantId(value.getId());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("nature");
+        writeNpcNature(value.getNature());
+        generator.writeFieldName("rank");
+        writeChallengeRank(value.getRank());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getSummary() != null) {
+            generator.writeFieldName("summary");
+            writeMarkdownString(value.getSummary());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeNpcVariantId(NpcVariantId value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeObjectType(ObjectType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case ASSET:
+                generator.writeString("asset");
+                break;
+            case ASSET_COLLECTION:
+                generator.writeString("asset_collection");
+                break;
+            case ATLAS_COLLECTION:
+                generator.writeString("atlas_collection");
+                break;
+            case ATLAS_ENTRY:
+                generator.writeString("atlas_entry");
+                break;
+            case DELVE_SITE:
+                generator.writeString("delve_site");
+                break;
+            case DELVE_SITE_DOMAIN:
+                generator.writeString("delve_site_domain");
+                break;
+            case DELVE_SITE_THEME:
+                generator.writeString("delve_site_theme");
+                break;
+            case MOVE:
+                generator.writeString("move");
+                break;
+            case MOVE_CATEGORY:
+                generator.writeString("move_category");
+                break;
+            case NPC:
+                generator.writeString("npc");
+                break;
+            case NPC_COLLECTION:
+                generator.writeString("npc_collection");
+                break;
+            case ORACLE_COLLECTION:
+                generator.writeString("oracle_collection");
+                break;
+            case ORACLE_ROLLABLE:
+                generator.writeString("oracle_rollable");
+                break;
+            case RARITY:
+                generator.writeString("rarity");
+                break;
+            case TRUTH:
+                generator.writeString("truth");
+                break;
+        }
+    }
+
+    public void writeOracleCollection(OracleCollection value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        if (value instanceof OracleCollectionOracleTableSharedText3) {
+            writeOracleCollectionOracleTableSharedText3((OracleCollectionOracleTableSharedText3) value);
+        } else if (value instanceof OracleCollectionTableSharedRolls) {
+            writeOracleCollectionTableSharedRolls((OracleCollectionTableSharedRolls) value);
+        } else if (value instanceof OracleCollectionTableSharedText) {
+            writeOracleCollectionTableSharedText((OracleCollectionTableSharedText) value);
+        } else if (value instanceof OracleCollectionTableSharedText2) {
+            writeOracleCollectionTableSharedText2((OracleCollectionTableSharedText2) value);
+        } else if (value instanceof OracleCollectionTables) {
+            writeOracleCollectionTables((OracleCollectionTables) value);
+        } else {
+            throw new JsonGenerationException("Unknown OracleCollection subtype " + value.getClass().getName(), generator);
+        }
+    }
+
+    public void writeOracleCollectionId(OracleCollectionId value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeOracleCollectionOracleTableSharedText3(OracleCollectionOracleTableSharedText3 value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("oracle_type", "OracleTableSharedText3");
+        generator.writeFieldName("_id");
+        writeOracleCollectionId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("column_labels");
+        writeOracleCollectionOracleTableSharedText3ColumnLabels(value.getColumnLabels());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("type");
+        writeOracleCollectionOracleTableSharedText3Type(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getColor() != null) {
+            generator.writeFieldName("color");
+            writeCssColor(value.getColor());
+        }
+        if (value.getContents() != null) {
+            generator.writeFieldName("contents");
+            writeMapOfOracleColumnText3(value.getContents());
+        }
+        if (value.getDescription() != null) {
+            generator.writeFieldName("description");
+            writeMarkdownString(value.getDescription());
+        }
+        if (value.getEnhances() != null) {
+            generator.writeFieldName("enhances");
+            writeOracleCollectionId(value.getEnhances());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getImages() != null) {
+            generator.writeFieldName("images");
+            writeListOfWebpImageUrl(value.getImages());
+        }
+        if (value.getReplaces() != null) {
+            generator.writeFieldName("replaces");
+            writeOracleCollectionId(value.getReplaces());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getSummary() != null) {
+            generator.writeFieldName("summary");
+            writeMarkdownString(value.getSummary());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeOracleCollectionOracleTableSharedText3ColumnLabels(OracleCollectionOracleTableSharedText3ColumnLabels value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("text");
+        writeLabel(value.getText());
+        generator.writeEndObject();
+    }
+
+    public void writeOracleCollectionOracleTableSharedText3Type(OracleCollectionOracleTableSharedText3Type value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case ORACLE_COLLECTION:
+                generator.writeString("oracle_collection");
+                break;
+        }
+    }
+
+    public void writeOracleCollectionTableSharedRolls(OracleCollectionTableSharedRolls value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("oracle_type", "table_shared_rolls");
+        generator.writeFieldName("_id");
+        writeOracleCollectionId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("column_labels");
+        writeOracleCollectionTableSharedRollsColumnLabels(value.getColumnLabels());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("type");
+        writeOracleCollectionTableSharedRollsType(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getColor() != null) {
+            generator.writeFieldName("color");
+            writeCssColor(value.getColor());
+        }
+        if (value.getContents() != null) {
+            generator.writeFieldName("contents");
+            writeMapOfOracleColumnText(value.getContents());
+        }
+        if (value.getDescription() != null) {
+            generator.writeFieldName("description");
+            writeMarkdownString(value.getDescription());
+        }
+        if (value.getEnhances() != null) {
+            generator.writeFieldName("enhances");
+            writeOracleCollectionId(value.getEnhances());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getImages() != null) {
+            generator.writeFieldName("images");
+            writeListOfWebpImageUrl(value.getImages());
+        }
+        if (value.getReplaces() != null) {
+            generator.writeFieldName("replaces");
+            writeOracleCollectionId(value.getReplaces());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getSummary() != null) {
+            generator.writeFieldName("summary");
+            writeMarkdownString(value.getSummary());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeOracleCollectionTableSharedRollsColumnLabels(OracleCollectionTableSharedRollsColumnLabels value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("roll");
+        writeLabel(value.getRoll());
+        generator.writeEndObject();
+    }
+
+    public void writeOracleCollectionTableSharedRollsType(OracleCollectionTableSharedRollsType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case ORACLE_COLLECTION:
+                generator.writeString("oracle_collection");
+                break;
+        }
+    }
+
+    public void writeOracleCollectionTableSharedText(OracleCollectionTableSharedText value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("oracle_type", "table_shared_text");
+        generator.writeFieldName("_id");
+        writeOracleCollectionId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("column_labels");
+        writeOracleCollectionTableSharedTextColumnLabels(value.getColumnLabels());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("type");
+        writeOracleCollectionTableSharedTextType(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getColor() != null) {
+            generator.writeFieldName("color");
+            writeCssColor(value.getColor());
+        }
+        if (value.getContents() != null) {
+            generator.writeFieldName("contents");
+            writeMapOfOracleColumnText(value.getContents());
+        }
+        if (value.getDescription() != null) {
+            generator.writeFieldName("description");
+            writeMarkdownString(value.getDescription());
+        }
+        if (value.getEnhances() != null) {
+            generator.writeFieldName("enhances");
+            writeOracleCollectionId(value.getEnhances());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getImages() != null) {
+            generator.writeFieldName("images");
+            writeListOfWebpImageUrl(value.getImages());
+        }
+        if (value.getReplaces() != null) {
+            generator.writeFieldName("replaces");
+            writeOracleCollectionId(value.getReplaces());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getSummary() != null) {
+            generator.writeFieldName("summary");
+            writeMarkdownString(value.getSummary());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeOracleCollectionTableSharedText2(OracleCollectionTableSharedText2 value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("oracle_type", "table_shared_text2");
+        generator.writeFieldName("_id");
+        writeOracleCollectionId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("column_labels");
+        writeOracleCollectionTableSharedText2ColumnLabels(value.getColumnLabels());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("type");
+        writeOracleCollectionTableSharedText2Type(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getColor() != null) {
+            generator.writeFieldName("color");
+            writeCssColor(value.getColor());
+        }
+        if (value.getContents() != null) {
+            generator.writeFieldName("contents");
+            writeMapOfOracleColumnText2(value.getContents());
+        }
+        if (value.getDescription() != null) {
+            generator.writeFieldName("description");
+            writeMarkdownString(value.getDescription());
+        }
+        if (value.getEnhances() != null) {
+            generator.writeFieldName("enhances");
+            writeOracleCollectionId(value.getEnhances());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getImages() != null) {
+            generator.writeFieldName("images");
+            writeListOfWebpImageUrl(value.getImages());
+        }
+        if (value.getReplaces() != null) {
+            generator.writeFieldName("replaces");
+            writeOracleCollectionId(value.getReplaces());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getSummary() != null) {
+            generator.writeFieldName("summary");
+            writeMarkdownString(value.getSummary());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeOracleCollectionTableSharedText2ColumnLabels(OracleCollectionTableSharedText2ColumnLabels value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("text");
+        writeLabel(value.getText());
+        generator.writeFieldName("text2");
+        writeLabel(value.getText2());
+        generator.writeEndObject();
+    }
+
+    public void writeOracleCollectionTableSharedText2Type(OracleCollectionTableSharedText2Type value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case ORACLE_COLLECTION:
+                generator.writeString("oracle_collection");
+                break;
+        }
+    }
+
+    public void writeOracleCollectionTableSharedTextColumnLabels(OracleCollectionTableSharedTextColumnLabels value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("text");
+        writeLabel(value.getText());
+        generator.writeEndObject();
+    }
+
+    public void writeOracleCollectionTableSharedTextType(OracleCollectionTableSharedTextType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case ORACLE_COLLECTION:
+                generator.writeString("oracle_collection");
+                break;
+        }
+    }
+
+    public void writeOracleCollectionTables(OracleCollectionTables value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("oracle_type", "tables");
+        generator.writeFieldName("_id");
+        writeOracleCollectionId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("type");
+        writeOracleCollectionTablesType(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getCollections() != null) {
+            generator.writeFieldName("collections");
+            writeMapOfOracleCollection(value.getCollections());
+        }
+        if (value.getColor() != null) {
+            generator.writeFieldName("color");
+            writeCssColor(value.getColor());
+        }
+        if (value.getContents() != null) {
+            generator.writeFieldName("contents");
+            writeMapOfOracleTableRollable(value.getContents());
+        }
+        if (value.getDescription() != null) {
+            generator.writeFieldName("description");
+            writeMarkdownString(value.getDescription());
+        }
+        if (value.getEnhances() != null) {
+            generator.writeFieldName("enhances");
+            writeOracleCollectionId(value.getEnhances());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getImages() != null) {
+            generator.writeFieldName("images");
+            writeListOfWebpImageUrl(value.getImages());
+        }
+        if (value.getReplaces() != null) {
+            generator.writeFieldName("replaces");
+            writeOracleCollectionId(value.getReplaces());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getSummary() != null) {
+            generator.writeFieldName("summary");
+            writeMarkdownString(value.getSummary());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeOracleCollectionTablesType(OracleCollectionTablesType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case ORACLE_COLLECTION:
+                generator.writeString("oracle_collection");
+                break;
+        }
+    }
+
+    public void writeOracleColumnText(OracleColumnText value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("_id");
+        writeOracleRollableId(value.getId());
+        generator.writeFieldName("dice");
+        writeDiceExpression(value.getDice());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("oracle_type");
+        writeOracleColumnTextOracleType(value.getOracleType());
+        generator.writeFieldName("rows");
+        writeListOfOracleTableRowText(value.getRows());
+        generator.writeFieldName("type");
+        writeOracleColumnTextType(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getColor() != null) {
+            generator.writeFieldName("color");
+            writeCssColor(value.getColor());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getMatch() != null) {
+            generator.writeFieldName("match");
+            writeOracleMatchBehavior(value.getMatch());
+        }
+        if (value.getReplaces() != null) {
+            generator.writeFieldName("replaces");
+            writeOracleRollableId(value.getReplaces());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getSummary() != null) {
+            generator.writeFieldName("summary");
+            writeMarkdownString(value.getSummary());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeOracleColumnText2(OracleColumnText2 value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("_id");
+        writeOracleRollableId(value.getId());
+        generator.writeFieldName("dice");
+        writeDiceExpression(value.getDice());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("oracle_type");
+        writeOracleColumnText2OracleType(value.getOracleType());
+        generator.writeFieldName("rows");
+        writeListOfOracleTableRowText2(value.getRows());
+        generator.writeFieldName("type");
+        writeOracleColumnText2Type(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getColor() != null) {
+            generator.writeFieldName("color");
+            writeCssColor(value.getColor());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getMatch() != null) {
+            generator.writeFieldName("match");
+            writeOracleMatchBehavior(value.getMatch());
+        }
+        if (value.getReplaces() != null) {
+            generator.writeFieldName("replaces");
+            writeOracleRollableId(value.getReplaces());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getSummary() != null) {
+            generator.writeFieldName("summary");
+            writeMarkdownString(value.getSummary());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeOracleColumnText2OracleType(OracleColumnText2OracleType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case COLUMN_TEXT2:
+                generator.writeString("column_text2");
+                break;
+        }
+    }
+
+    public void writeOracleColumnText2Type(OracleColumnText2Type value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case ORACLE_ROLLABLE:
+                generator.writeString("oracle_rollable");
+                break;
+        }
+    }
+
+    public void writeOracleColumnText3(OracleColumnText3 value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("_id");
+        writeOracleRollableId(value.getId());
+        generator.writeFieldName("dice");
+        writeDiceExpression(value.getDice());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("oracle_type");
+        writeOracleColumnText3OracleType(value.getOracleType());
+        generator.writeFieldName("rows");
+        writeListOfOracleTableRowText3(value.getRows());
+        generator.writeFieldName("type");
+        writeOracleColumnText3Type(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getColor() != null) {
+            generator.writeFieldName("color");
+            writeCssColor(value.getColor());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getMatch() != null) {
+            generator.writeFieldName("match");
+            writeOracleMatchBehavior(value.getMatch());
+        }
+        if (value.getReplaces() != null) {
+            generator.writeFieldName("replaces");
+            writeOracleRollableId(value.getReplaces());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getSummary() != null) {
+            generator.writeFieldName("summary");
+            writeMarkdownString(value.getSummary());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeOracleColumnText3OracleType(OracleColumnText3OracleType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case COLUMN_TEXT3:
+                generator.writeString("column_text3");
+                break;
+        }
+    }
+
+    public void writeOracleColumnText3Type(OracleColumnText3Type value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case ORACLE_ROLLABLE:
+                generator.writeString("oracle_rollable");
+                break;
+        }
+    }
+
+    public void writeOracleColumnTextOracleType(OracleColumnTextOracleType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case COLUMN_TEXT:
+                generator.writeString("column_text");
+                break;
+        }
+    }
+
+    public void writeOracleColumnTextType(OracleColumnTextType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case ORACLE_ROLLABLE:
+                generator.writeString("oracle_rollable");
+                break;
+        }
+    }
+
+    public void writeOracleDuplicateBehavior(OracleDuplicateBehavior value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case KEEP:
+                generator.writeString("keep");
+                break;
+            case MAKE_IT_WORSE:
+                generator.writeString("make_it_worse");
+                break;
+            case REROLL:
+                generator.writeString("reroll");
+                break;
+        }
+    }
+
+    public void writeOracleMatchBehavior(OracleMatchBehavior value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("text");
+        writeMarkdownString(value.getText());
+        generator.writeEndObject();
+    }
+
+    public void writeOracleRoll(OracleRoll value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("auto");
+        writeBoolean(value.getAuto());
+        generator.writeFieldName("dice");
+        writeDiceExpression(value.getDice());
+        generator.writeFieldName("duplicates");
+        writeOracleDuplicateBehavior(value.getDuplicates());
+        generator.writeFieldName("number_of_rolls");
+        writeShort(value.getNumberOfRolls());
+        generator.writeFieldName("oracle");
+        writeOracleRollableId(value.getOracle());
+        generator.writeEndObject();
+    }
+
+    public void writeOracleRollTemplate(OracleRollTemplate value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        if (value.getText() != null) {
+            generator.writeFieldName("text");
+            writeTemplateString(value.getText());
+        }
+        if (value.getText2() != null) {
+            generator.writeFieldName("text2");
+            writeTemplateString(value.getText2());
+        }
+        if (value.getText3() != null) {
+            generator.writeFieldName("text3");
+            writeTemplateString(value.getText3());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeOracleRollableId(OracleRollableId value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeOracleTableRollable(OracleTableRollable value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        if (value instanceof OracleTableRollableTableText) {
+            writeOracleTableRollableTableText((OracleTableRollableTableText) value);
+        } else if (value instanceof OracleTableRollableTableText2) {
+            writeOracleTableRollableTableText2((OracleTableRollableTableText2) value);
+        } else if (value instanceof OracleTableRollableTableText3) {
+            writeOracleTableRollableTableText3((OracleTableRollableTableText3) value);
+        } else {
+            throw new JsonGenerationException("Unknown OracleTableRollable subtype " + value.getClass().getName(), generator);
+        }
+    }
+
+    public void writeOracleTableRollableTableText(OracleTableRollableTableText value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("oracle_type", "table_text");
+        generator.writeFieldName("_id");
+        writeOracleRollableId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("column_labels");
+        writeOracleTableRollableTableTextColumnLabels(value.getColumnLabels());
+        generator.writeFieldName("dice");
+        writeDiceExpression(value.getDice());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("rows");
+        writeListOfOracleTableRowText(value.getRows());
+        generator.writeFieldName("type");
+        writeOracleTableRollableTableTextType(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getDescription() != null) {
+            generator.writeFieldName("description");
+            writeMarkdownString(value.getDescription());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getMatch() != null) {
+            generator.writeFieldName("match");
+            writeOracleMatchBehavior(value.getMatch());
+        }
+        if (value.getRecommendedRolls() != null) {
+            generator.writeFieldName("recommended_rolls");
+            writeOracleTableRollableTableTextRecommendedRolls(value.getRecommendedRolls());
+        }
+        if (value.getReplaces() != null) {
+            generator.writeFieldName("replaces");
+            writeOracleRollableId(value.getReplaces());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getSummary() != null) {
+            generator.writeFieldName("summary");
+            writeMarkdownString(value.getSummary());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeOracleTableRollableTableText2(OracleTableRollableTableText2 value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("oracle_type", "table_text2");
+        generator.writeFieldName("_id");
+        writeOracleRollableId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("column_labels");
+        writeOracleTableRollableTableText2ColumnLabels(value.getColumnLabels());
+        generator.writeFieldName("dice");
+        writeDiceExpression(value.getDice());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("rows");
+        writeListOfOracleTableRowText2(value.getRows());
+        generator.writeFieldName("type");
+        writeOracleTableRollableTableText2Type(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getDescription() != null) {
+            generator.writeFieldName("description");
+            writeMarkdownString(value.getDescription());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getMatch() != null) {
+            generator.writeFieldName("match");
+            writeOracleMatchBehavior(value.getMatch());
+        }
+        if (value.getRecommendedRolls() != null) {
+            generator.writeFieldName("recommended_rolls");
+            writeOracleTableRollableTableText2RecommendedRolls(value.getRecommendedRolls());
+        }
+        if (value.getReplaces() != null) {
+            generator.writeFieldName("replaces");
+            writeOracleRollableId(value.getReplaces());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getSummary() != null) {
+            generator.writeFieldName("summary");
+            writeMarkdownString(value.getSummary());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeOracleTableRollableTableText2ColumnLabels(OracleTableRollableTableText2ColumnLabels value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("roll");
+        writeLabel(value.getRoll());
+        generator.writeFieldName("text");
+        writeLabel(value.getText());
+        generator.writeFieldName("text2");
+        writeLabel(value.getText2());
+        generator.writeEndObject();
+    }
+
+    public void writeOracleTableRollableTableText2RecommendedRolls(OracleTableRollableTableText2RecommendedRolls value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("max");
+        writeShort(value.getMax());
+        generator.writeFieldName("min");
+        writeShort(value.getMin());
+        generator.writeEndObject();
+    }
+
+    public void writeOracleTableRollableTableText2Type(OracleTableRollableTableText2Type value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case ORACLE_ROLLABLE:
+                generator.writeString("oracle_rollable");
+                break;
+        }
+    }
+
+    public void writeOracleTableRollableTableText3(OracleTableRollableTableText3 value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("oracle_type", "table_text3");
+        generator.writeFieldName("_id");
+        writeOracleRollableId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("column_labels");
+        writeOracleTableRollableTableText3ColumnLabels(value.getColumnLabels());
+        generator.writeFieldName("dice");
+        writeDiceExpression(value.getDice());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("rows");
+        writeListOfOracleTableRowText3(value.getRows());
+        generator.writeFieldName("type");
+        writeOracleTableRollableTableText3Type(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getDescription() != null) {
+            generator.writeFieldName("description");
+            writeMarkdownString(value.getDescription());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getMatch() != null) {
+            generator.writeFieldName("match");
+            writeOracleMatchBehavior(value.getMatch());
+        }
+        if (value.getRecommendedRolls() != null) {
+            generator.writeFieldName("recommended_rolls");
+            writeOracleTableRollableTableText3RecommendedRolls(value.getRecommendedRolls());
+        }
+        if (value.getReplaces() != null) {
+            generator.writeFieldName("replaces");
+            writeOracleRollableId(value.getReplaces());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getSummary() != null) {
+            generator.writeFieldName("summary");
+            writeMarkdownString(value.getSummary());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeOracleTableRollableTableText3ColumnLabels(OracleTableRollableTableText3ColumnLabels value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("roll");
+        writeLabel(value.getRoll());
+        generator.writeFieldName("text");
+        writeLabel(value.getText());
+        generator.writeFieldName("text2");
+        writeLabel(value.getText2());
+        generator.writeFieldName("text3");
+        writeLabel(value.getText3());
+        generator.writeEndObject();
+    }
+
+    public void writeOracleTableRollableTableText3RecommendedRolls(OracleTableRollableTableText3RecommendedRolls value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("max");
+        writeShort(value.getMax());
+        generator.writeFieldName("min");
+        writeShort(value.getMin());
+        generator.writeEndObject();
+    }
+
+    public void writeOracleTableRollableTableText3Type(OracleTableRollableTableText3Type value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case ORACLE_ROLLABLE:
+                generator.writeString("oracle_rollable");
+                break;
+        }
+    }
+
+    public void writeOracleTableRollableTableTextColumnLabels(OracleTableRollableTableTextColumnLabels value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("roll");
+        writeLabel(value.getRoll());
+        generator.writeFieldName("text");
+        writeLabel(value.getText());
+        generator.writeEndObject();
+    }
+
+    public void writeOracleTableRollableTableTextRecommendedRolls(OracleTableRollableTableTextRecommendedRolls value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("max");
+        writeShort(value.getMax());
+        generator.writeFieldName("min");
+        writeShort(value.getMin());
+        generator.writeEndObject();
+    }
+
+    public void writeOracleTableRollableTableTextType(OracleTableRollableTableTextType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case ORACLE_ROLLABLE:
+                generator.writeString("oracle_rollable");
+                break;
+        }
+    }
+
+    public void writeOracleTableRowText(OracleTableRowText value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("max");
+        writeShort(value.getMax());
+        generator.writeFieldName("min");
+        writeShort(value.getMin());
+        generator.writeFieldName("text");
+        writeMarkdownString(value.getText());
+        if (value.getI18n() != null) {
+            generator.writeFieldName("_i18n");
+            writeI18nHints(value.getI18n());
+        }
+        if (value.getEmbedTable() != null) {
+            generator.writeFieldName("embed_table");
+            writeOracleRollableId(value.getEmbedTable());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getOracleRolls() != null) {
+            generator.writeFieldName("oracle_rolls");
+            writeListOfOracleRoll(value.getOracleRolls());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getTemplate() != null) {
+            generator.writeFieldName("template");
+            writeOracleRollTemplate(value.getTemplate());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeOracleTableRowText2(OracleTableRowText2 value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("max");
+        writeShort(value.getMax());
+        generator.writeFieldName("min");
+        writeShort(value.getMin());
+        generator.writeFieldName("text");
+        writeMarkdownString(value.getText());
+        generator.writeFieldName("text2");
+        writeMarkdownString(value.getText2());
+        if (value.getI18n() != null) {
+            generator.writeFieldName("_i18n");
+            writeI18nHints(value.getI18n());
+        }
+        if (value.getEmbedTable() != null) {
+            generator.writeFieldName("embed_table");
+            writeOracleRollableId(value.getEmbedTable());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getOracleRolls() != null) {
+            generator.writeFieldName("oracle_rolls");
+            writeListOfOracleRoll(value.getOracleRolls());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getTemplate() != null) {
+            generator.writeFieldName("template");
+            writeOracleRollTemplate(value.getTemplate());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeOracleTableRowText3(OracleTableRowText3 value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("max");
+        writeShort(value.getMax());
+        generator.writeFieldName("min");
+        writeShort(value.getMin());
+        generator.writeFieldName("text");
+        writeMarkdownString(value.getText());
+        generator.writeFieldName("text2");
+        writeMarkdownString(value.getText2());
+        generator.writeFieldName("text3");
+        writeMarkdownString(value.getText3());
+        if (value.getI18n() != null) {
+            generator.writeFieldName("_i18n");
+            writeI18nHints(value.getI18n());
+        }
+        if (value.getEmbedTable() != null) {
+            generator.writeFieldName("embed_table");
+            writeOracleRollableId(value.getEmbedTable());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getOracleRolls() != null) {
+            generator.writeFieldName("oracle_rolls");
+            writeListOfOracleRoll(value.getOracleRolls());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getTemplate() != null) {
+            generator.writeFieldName("template");
+            writeOracleRollTemplate(value.getTemplate());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeOracleTablesCollection(OracleTablesCollection value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("_id");
+        writeOracleCollectionId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("oracle_type");
+        writeOracleTablesCollectionOracleType(value.getOracleType());
+        generator.writeFieldName("type");
+        writeOracleTablesCollectionType(value.getType());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getCollections() != null) {
+            generator.writeFieldName("collections");
+            writeMapOfOracleCollection(value.getCollections());
+        }
+        if (value.getColor() != null) {
+            generator.writeFieldName("color");
+            writeCssColor(value.getColor());
+        }
+        if (value.getContents() != null) {
+            generator.writeFieldName("contents");
+            writeMapOfOracleTableRollable(value.getContents());
+        }
+        if (value.getDescription() != null) {
+            generator.writeFieldName("description");
+            writeMarkdownString(value.getDescription());
+        }
+        if (value.getEnhances() != null) {
+            generator.writeFieldName("enhances");
+            writeOracleCollectionId(value.getEnhances());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getImages() != null) {
+            generator.writeFieldName("images");
+            writeListOfWebpImageUrl(value.getImages());
+        }
+        if (value.getReplaces() != null) {
+            generator.writeFieldName("replaces");
+            writeOracleCollectionId(value.getReplaces());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getSummary() != null) {
+            generator.writeFieldName("summary");
+            writeMarkdownString(value.getSummary());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeOracleTablesCollectionOracleType(OracleTablesCollectionOracleType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case TABLES:
+                generator.writeString("tables");
+                break;
+        }
+    }
+
+    public void writeOracleTablesCollectionType(OracleTablesCollectionType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case ORACLE_COLLECTION:
+                generator.writeString("oracle_collection");
+                break;
+        }
+    }
+
+    public void writePartOfSpeech(PartOfSpeech value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case ADJECTIVE:
+                generator.writeString("adjective");
+                break;
+            case ADJECTIVE_AS_PROPER_NOUN:
+                generator.writeString("adjective_as_proper_noun");
+                break;
+            case ADJUNCT_COMMON_NOUN:
+                generator.writeString("adjunct_common_noun");
+                break;
+            case ADJUNCT_PROPER_NOUN:
+                generator.writeString("adjunct_proper_noun");
+                break;
+            case ATTRIBUTIVE_VERB:
+                generator.writeString("attributive_verb");
+                break;
+            case COMMON_NOUN:
+                generator.writeString("common_noun");
+                break;
+            case COMMON_NOUN_AS_PROPER_NOUN:
+                generator.writeString("common_noun_as_proper_noun");
+                break;
+            case GERUND:
+                generator.writeString("gerund");
+                break;
+            case PROPER_NOUN:
+                generator.writeString("proper_noun");
+                break;
+            case VERB:
+                generator.writeString("verb");
+                break;
+        }
+    }
+
+    public void writeProgressRollMethod(ProgressRollMethod value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case MISS:
+                generator.writeString("miss");
+                break;
+            case PROGRESS_ROLL:
+                generator.writeString("progress_roll");
+                break;
+            case STRONG_HIT:
+                generator.writeString("strong_hit");
+                break;
+            case WEAK_HIT:
+                generator.writeString("weak_hit");
+                break;
+        }
+    }
+
+    public void writeProgressRollOption(ProgressRollOption value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("using");
+        writeProgressRollOptionUsing(value.getUsing());
+        generator.writeEndObject();
+    }
+
+    public void writeProgressRollOptionUsing(ProgressRollOptionUsing value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case PROGRESS_TRACK:
+                generator.writeString("progress_track");
+                break;
+        }
+    }
+
+    public void writeProgressTrackTypeInfo(ProgressTrackTypeInfo value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("category");
+        writeLabel(value.getCategory());
+        if (value.getControls() != null) {
+            generator.writeFieldName("controls");
+            writeMapOfObject(value.getControls());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeRarity(Rarity value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("_id");
+        writeRarityId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("asset");
+        writeAssetId(value.getAsset());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("type");
+        writeRarityType(value.getType());
+        generator.writeFieldName("xp_cost");
+        writeShort(value.getXpCost());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeRarityId(RarityId value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeRarityType(RarityType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case RARITY:
+                generator.writeString("rarity");
+                break;
+        }
+    }
+
+    public void writeRollableValue(RollableValue value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        if (value instanceof RollableValueAssetControl) {
+            writeRollableValueAssetControl((RollableValueAssetControl) value);
+        } else if (value instanceof RollableValueAssetOption) {
+            writeRollableValueAssetOption((RollableValueAssetOption) value);
+        } else if (value instanceof RollableValueAttachedAssetControl) {
+            writeRollableValueAttachedAssetControl((RollableValueAttachedAssetControl) value);
+        } else if (value instanceof RollableValueAttachedAssetOption) {
+            writeRollableValueAttachedAssetOption((RollableValueAttachedAssetOption) value);
+        } else if (value instanceof RollableValueConditionMeter) {
+            writeRollableValueConditionMeter((RollableValueConditionMeter) value);
+        } else if (value instanceof RollableValueCustom) {
+            writeRollableValueCustom((RollableValueCustom) value);
+        } else if (value instanceof RollableValueStat) {
+            writeRollableValueStat((RollableValueStat) value);
+        } else {
+            throw new JsonGenerationException("Unknown RollableValue subtype " + value.getClass().getName(), generator);
+        }
+    }
+
+    public void writeRollableValueAssetControl(RollableValueAssetControl value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("using", "asset_control");
+        generator.writeFieldName("assets");
+        writeListOfAssetIdWildcard(value.getAssets());
+        generator.writeFieldName("control");
+        writeDictKey(value.getControl());
+        generator.writeEndObject();
+    }
+
+    public void writeRollableValueAssetOption(RollableValueAssetOption value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("using", "asset_option");
+        generator.writeFieldName("assets");
+        writeListOfAssetIdWildcard(value.getAssets());
+        generator.writeFieldName("option");
+        writeDictKey(value.getOption());
+        generator.writeEndObject();
+    }
+
+    public void writeRollableValueAttachedAssetControl(RollableValueAttachedAssetControl value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("using", "attached_asset_control");
+        generator.writeFieldName("control");
+        writeDictKey(value.getControl());
+        generator.writeEndObject();
+    }
+
+    public void writeRollableValueAttachedAssetOption(RollableValueAttachedAssetOption value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("using", "attached_asset_option");
+        generator.writeFieldName("option");
+        writeDictKey(value.getOption());
+        generator.writeEndObject();
+    }
+
+    public void writeRollableValueConditionMeter(RollableValueConditionMeter value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("using", "condition_meter");
+        generator.writeFieldName("condition_meter");
+        writeConditionMeterKey(value.getConditionMeter());
+        generator.writeEndObject();
+    }
+
+    public void writeRollableValueCustom(RollableValueCustom value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("using", "custom");
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeFieldName("value");
+        writeShort(value.getValue());
+        generator.writeEndObject();
+    }
+
+    public void writeRollableValueStat(RollableValueStat value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("using", "stat");
+        generator.writeFieldName("stat");
+        writeStatKey(value.getStat());
+        generator.writeEndObject();
+    }
+
+    public void writeRules(Rules value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("condition_meters");
+        writeMapOfConditionMeterRule(value.getConditionMeters());
+        generator.writeFieldName("impacts");
+        writeMapOfImpactCategory(value.getImpacts());
+        generator.writeFieldName("special_tracks");
+        writeMapOfSpecialTrackRule(value.getSpecialTracks());
+        generator.writeFieldName("stats");
+        writeMapOfStatRule(value.getStats());
+        generator.writeFieldName("tags");
+        writeMapOfTagRule(value.getTags());
+        generator.writeEndObject();
+    }
+
+    public void writeRulesExpansion(RulesExpansion value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        if (value.getConditionMeters() != null) {
+            generator.writeFieldName("condition_meters");
+            writeMapOfConditionMeterRule(value.getConditionMeters());
+        }
+        if (value.getImpacts() != null) {
+            generator.writeFieldName("impacts");
+            writeMapOfImpactCategory(value.getImpacts());
+        }
+        if (value.getSpecialTracks() != null) {
+            generator.writeFieldName("special_tracks");
+            writeMapOfSpecialTrackRule(value.getSpecialTracks());
+        }
+        if (value.getStats() != null) {
+            generator.writeFieldName("stats");
+            writeMapOfStatRule(value.getStats());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfTagRule(value.getTags());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeRulesPackage(RulesPackage value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        if (value instanceof RulesPackageExpansion) {
+            writeRulesPackageExpansion((RulesPackageExpansion) value);
+        } else if (value instanceof RulesPackageRuleset) {
+            writeRulesPackageRuleset((RulesPackageRuleset) value);
+        } else {
+            throw new JsonGenerationException("Unknown RulesPackage subtype " + value.getClass().getName(), generator);
+        }
+    }
+
+    public void writeRulesPackageExpansion(RulesPackageExpansion value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("type", "expansion");
+        generator.writeFieldName("_id");
+        writeExpansionId(value.getId());
+        generator.writeFieldName("datasworn_version");
+        writeRulesPackageExpansionDataswornVersion(value.getDataswornVersion());
+        generator.writeFieldName("ruleset");
+        writeRulesetId(value.getRuleset());
+        if (value.getAssets() != null) {
+            generator.writeFieldName("assets");
+            writeMapOfAssetCollection(value.getAssets());
+        }
+        if (value.getAtlas() != null) {
+            generator.writeFieldName("atlas");
+            writeMapOfAtlasCollection(value.getAtlas());
+        }
+        if (value.getAuthors() != null) {
+            generator.writeFieldName("authors");
+            writeListOfAuthorInfo(value.getAuthors());
+        }
+        if (value.getDate() != null) {
+            generator.writeFieldName("date");
+            writeOffsetDateTime(value.getDate());
+        }
+        if (value.getDelveSites() != null) {
+            generator.writeFieldName("delve_sites");
+            writeMapOfDelveSite(value.getDelveSites());
+        }
+        if (value.getDescription() != null) {
+            generator.writeFieldName("description");
+            writeMarkdownString(value.getDescription());
+        }
+        if (value.getLicense() != null) {
+            generator.writeFieldName("license");
+            writeLicense(value.getLicense());
+        }
+        if (value.getMoves() != null) {
+            generator.writeFieldName("moves");
+            writeMapOfMoveCategory(value.getMoves());
+        }
+        if (value.getNpcs() != null) {
+            generator.writeFieldName("npcs");
+            writeMapOfNpcCollection(value.getNpcs());
+        }
+        if (value.getOracles() != null) {
+            generator.writeFieldName("oracles");
+            writeMapOfOracleTablesCollection(value.getOracles());
+        }
+        if (value.getRarities() != null) {
+            generator.writeFieldName("rarities");
+            writeMapOfRarity(value.getRarities());
+        }
+        if (value.getRules() != null) {
+            generator.writeFieldName("rules");
+            writeRulesExpansion(value.getRules());
+        }
+        if (value.getSiteDomains() != null) {
+            generator.writeFieldName("site_domains");
+            writeMapOfDelveSiteDomain(value.getSiteDomains());
+        }
+        if (value.getSiteThemes() != null) {
+            generator.writeFieldName("site_themes");
+            writeMapOfDelveSiteTheme(value.getSiteThemes());
+        }
+        if (value.getTitle() != null) {
+            generator.writeFieldName("title");
+            writeString(value.getTitle());
+        }
+        if (value.getTruths() != null) {
+            generator.writeFieldName("truths");
+            writeMapOfTruth(value.getTruths());
+        }
+        if (value.getUrl() != null) {
+            generator.writeFieldName("url");
+            writeWebUrl(value.getUrl());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeRulesPackageExpansionDataswornVersion(RulesPackageExpansionDataswornVersion value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case DEFAULT_NAME:
+                generator.writeString("0.0.10");
+                break;
+        }
+    }
+
+    public void writeRulesPackageRuleset(RulesPackageRuleset value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("type", "ruleset");
+        generator.writeFieldName("_id");
+        writeRulesetId(value.getId());
+        generator.writeFieldName("assets");
+        writeMapOfAssetCollection(value.getAssets());
+        generator.writeFieldName("authors");
+        writeListOfAuthorInfo(value.getAuthors());
+        generator.writeFieldName("datasworn_version");
+        writeRulesPackageRulesetDataswornVersion(value.getDataswornVersion());
+        generator.writeFieldName("date");
+        writeOffsetDateTime(value.getDate());
+        generator.writeFieldName("license");
+        writeLicense(value.getLicense());
+        generator.writeFieldName("moves");
+        writeMapOfMoveCategory(value.getMoves());
+        generator.writeFieldName("oracles");
+        writeMapOfOracleTablesCollection(value.getOracles());
+        generator.writeFieldName("rules");
+        writeRules(value.getRules());
+        generator.writeFieldName("title");
+        writeString(value.getTitle());
+        generator.writeFieldName("url");
+        writeWebUrl(value.getUrl());
+        if (value.getAtlas() != null) {
+            generator.writeFieldName("atlas");
+            writeMapOfAtlasCollection(value.getAtlas());
+        }
+        if (value.getDelveSites() != null) {
+            generator.writeFieldName("delve_sites");
+            writeMapOfDelveSite(value.getDelveSites());
+        }
+        if (value.getDescription() != null) {
+            generator.writeFieldName("description");
+            writeMarkdownString(value.getDescription());
+        }
+        if (value.getNpcs() != null) {
+            generator.writeFieldName("npcs");
+            writeMapOfNpcCollection(value.getNpcs());
+        }
+        if (value.getRarities() != null) {
+            generator.writeFieldName("rarities");
+            writeMapOfRarity(value.getRarities());
+        }
+        if (value.getSiteDomains() != null) {
+            generator.writeFieldName("site_domains");
+            writeMapOfDelveSiteDomain(value.getSiteDomains());
+        }
+        if (value.getSiteThemes() != null) {
+            generator.writeFieldName("site_themes");
+            writeMapOfDelveSiteTheme(value.getSiteThemes());
+        }
+        if (value.getTruths() != null) {
+            generator.writeFieldName("truths");
+            writeMapOfTruth(value.getTruths());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeRulesPackageRulesetDataswornVersion(RulesPackageRulesetDataswornVersion value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case DEFAULT_NAME:
+                generator.writeString("0.0.10");
+                break;
+        }
+    }
+
+    public void writeRulesetId(RulesetId value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeSelectEnhancementFieldChoice(SelectEnhancementFieldChoice value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("choice_type");
+        writeSelectEnhancementFieldChoiceChoiceType(value.getChoiceType());
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        if (value.getEnhanceAsset() != null) {
+            generator.writeFieldName("enhance_asset");
+            writeAssetEnhancement(value.getEnhanceAsset());
+        }
+        if (value.getEnhanceMoves() != null) {
+            generator.writeFieldName("enhance_moves");
+            writeListOfMoveEnhancement(value.getEnhanceMoves());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeSelectEnhancementFieldChoiceChoiceType(SelectEnhancementFieldChoiceChoiceType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case CHOICE:
+                generator.writeString("choice");
+                break;
+        }
+    }
+
+    public void writeSelectValueFieldChoice(SelectValueFieldChoice value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        if (value instanceof SelectValueFieldChoiceAssetControl) {
+            writeSelectValueFieldChoiceAssetControl((SelectValueFieldChoiceAssetControl) value);
+        } else if (value instanceof SelectValueFieldChoiceAssetOption) {
+            writeSelectValueFieldChoiceAssetOption((SelectValueFieldChoiceAssetOption) value);
+        } else if (value instanceof SelectValueFieldChoiceAttachedAssetControl) {
+            writeSelectValueFieldChoiceAttachedAssetControl((SelectValueFieldChoiceAttachedAssetControl) value);
+        } else if (value instanceof SelectValueFieldChoiceAttachedAssetOption) {
+            writeSelectValueFieldChoiceAttachedAssetOption((SelectValueFieldChoiceAttachedAssetOption) value);
+        } else if (value instanceof SelectValueFieldChoiceConditionMeter) {
+            writeSelectValueFieldChoiceConditionMeter((SelectValueFieldChoiceConditionMeter) value);
+        } else if (value instanceof SelectValueFieldChoiceCustom) {
+            writeSelectValueFieldChoiceCustom((SelectValueFieldChoiceCustom) value);
+        } else if (value instanceof SelectValueFieldChoiceStat) {
+            writeSelectValueFieldChoiceStat((SelectValueFieldChoiceStat) value);
+        } else {
+            throw new JsonGenerationException("Unknown SelectValueFieldChoice subtype " + value.getClass().getName(), generator);
+        }
+    }
+
+    public void writeSelectValueFieldChoiceAssetControl(SelectValueFieldChoiceAssetControl value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("using", "asset_control");
+        generator.writeFieldName("assets");
+        writeListOfAssetIdWildcard(value.getAssets());
+        generator.writeFieldName("choice_type");
+        writeSelectValueFieldChoiceAssetControlChoiceType(value.getChoiceType());
+        generator.writeFieldName("control");
+        writeDictKey(value.getControl());
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeEndObject();
+    }
+
+    public void writeSelectValueFieldChoiceAssetControlChoiceType(SelectValueFieldChoiceAssetControlChoiceType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case CHOICE:
+                generator.writeString("choice");
+                break;
+        }
+    }
+
+    public void writeSelectValueFieldChoiceAssetOption(SelectValueFieldChoiceAssetOption value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("using", "asset_option");
+        generator.writeFieldName("assets");
+        writeListOfAssetIdWildcard(value.getAssets());
+        generator.writeFieldName("choice_type");
+        writeSelectValueFieldChoiceAssetOptionChoiceType(value.getChoiceType());
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeFieldName("option");
+        writeDictKey(value.getOption());
+        generator.writeEndObject();
+    }
+
+    public void writeSelectValueFieldChoiceAssetOptionChoiceType(SelectValueFieldChoiceAssetOptionChoiceType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case CHOICE:
+                generator.writeString("choice");
+                break;
+        }
+    }
+
+    public void writeSelectValueFieldChoiceAttachedAssetControl(SelectValueFieldChoiceAttachedAssetControl value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("using", "attached_asset_control");
+        generator.writeFieldName("choice_type");
+        writeSelectValueFieldChoiceAttachedAssetControlChoiceType(value.getChoiceType());
+        generator.writeFieldName("control");
+        writeDictKey(value.getControl());
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeEndObject();
+    }
+
+    public void writeSelectValueFieldChoiceAttachedAssetControlChoiceType(SelectValueFieldChoiceAttachedAssetControlChoiceType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case CHOICE:
+                generator.writeString("choice");
+                break;
+        }
+    }
+
+    public void writeSelectValueFieldChoiceAttachedAssetOption(SelectValueFieldChoiceAttachedAssetOption value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("using", "attached_asset_option");
+        generator.writeFieldName("choice_type");
+        writeSelectValueFieldChoiceAttachedAssetOptionChoiceType(value.getChoiceType());
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeFieldName("option");
+        writeDictKey(value.getOption());
+        generator.writeEndObject();
+    }
+
+    public void writeSelectValueFieldChoiceAttachedAssetOptionChoiceType(SelectValueFieldChoiceAttachedAssetOptionChoiceType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case CHOICE:
+                generator.writeString("choice");
+                break;
+        }
+    }
+
+    public void writeSelectValueFieldChoiceConditionMeter(SelectValueFieldChoiceConditionMeter value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("using", "condition_meter");
+        generator.writeFieldName("choice_type");
+        writeSelectValueFieldChoiceConditionMeterChoiceType(value.getChoiceType());
+        generator.writeFieldName("condition_meter");
+        writeConditionMeterKey(value.getConditionMeter());
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeEndObject();
+    }
+
+    public void writeSelectValueFieldChoiceConditionMeterChoiceType(SelectValueFieldChoiceConditionMeterChoiceType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case CHOICE:
+                generator.writeString("choice");
+                break;
+        }
+    }
+
+    public void writeSelectValueFieldChoiceCustom(SelectValueFieldChoiceCustom value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("using", "custom");
+        generator.writeFieldName("choice_type");
+        writeSelectValueFieldChoiceCustomChoiceType(value.getChoiceType());
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeFieldName("value");
+        writeShort(value.getValue());
+        generator.writeEndObject();
+    }
+
+    public void writeSelectValueFieldChoiceCustomChoiceType(SelectValueFieldChoiceCustomChoiceType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case CHOICE:
+                generator.writeString("choice");
+                break;
+        }
+    }
+
+    public void writeSelectValueFieldChoiceStat(SelectValueFieldChoiceStat value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("using", "stat");
+        generator.writeFieldName("choice_type");
+        writeSelectValueFieldChoiceStatChoiceType(value.getChoiceType());
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeFieldName("stat");
+        writeStatKey(value.getStat());
+        generator.writeEndObject();
+    }
+
+    public void writeSelectValueFieldChoiceStatChoiceType(SelectValueFieldChoiceStatChoiceType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case CHOICE:
+                generator.writeString("choice");
+                break;
+        }
+    }
+
+    public void writeSourceInfo(SourceInfo value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("authors");
+        writeListOfAuthorInfo(value.getAuthors());
+        generator.writeFieldName("date");
+        writeOffsetDateTime(value.getDate());
+        generator.writeFieldName("license");
+        writeLicense(value.getLicense());
+        generator.writeFieldName("title");
+        writeString(value.getTitle());
+        generator.writeFieldName("url");
+        writeWebUrl(value.getUrl());
+        if (value.getPage() != null) {
+            generator.writeFieldName("page");
+            writeUnsignedShort(value.getPage());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeSpecialTrackRollMethod(SpecialTrackRollMethod value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case ALL:
+                generator.writeString("all");
+                break;
+            case HIGHEST:
+                generator.writeString("highest");
+                break;
+            case LOWEST:
+                generator.writeString("lowest");
+                break;
+            case MISS:
+                generator.writeString("miss");
+                break;
+            case PLAYER_CHOICE:
+                generator.writeString("player_choice");
+                break;
+            case STRONG_HIT:
+                generator.writeString("strong_hit");
+                break;
+            case WEAK_HIT:
+                generator.writeString("weak_hit");
+                break;
+        }
+    }
+
+    public void writeSpecialTrackRule(SpecialTrackRule value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeFieldName("optional");
+        writeBoolean(value.getOptional());
+        generator.writeFieldName("shared");
+        writeBoolean(value.getShared());
+        generator.writeEndObject();
+    }
+
+    public void writeSpecialTrackType(SpecialTrackType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeDictKey(value.getValue());
+    }
+
+    public void writeStatKey(StatKey value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeDictKey(value.getValue());
+    }
+
+    public void writeStatRule(StatRule value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("label");
+        writeInputLabel(value.getLabel());
+        generator.writeEndObject();
+    }
+
+    public void writeSuggestions(Suggestions value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        if (value.getAssets() != null) {
+            generator.writeFieldName("assets");
+            writeListOfAssetId(value.getAssets());
+        }
+        if (value.getAtlas() != null) {
+            generator.writeFieldName("atlas");
+            writeListOfAtlasEntryId(value.getAtlas());
+        }
+        if (value.getMoves() != null) {
+            generator.writeFieldName("moves");
+            writeListOfMoveId(value.getMoves());
+        }
+        if (value.getNpcs() != null) {
+            generator.writeFieldName("npcs");
+            writeListOfNpcId(value.getNpcs());
+        }
+        if (value.getOracles() != null) {
+            generator.writeFieldName("oracles");
+            writeListOfOracleRollableId(value.getOracles());
+        }
+        if (value.getRarities() != null) {
+            generator.writeFieldName("rarities");
+            writeListOfRarityId(value.getRarities());
+        }
+        if (value.getSiteDomains() != null) {
+            generator.writeFieldName("site_domains");
+            writeListOfDelveSiteDomainId(value.getSiteDomains());
+        }
+        if (value.getSiteThemes() != null) {
+            generator.writeFieldName("site_themes");
+            writeListOfDelveSiteThemeId(value.getSiteThemes());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeSvgImageUrl(SvgImageUrl value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeTag(Tag value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeObject(value.getValue());
+    }
+
+    public void writeTagRule(TagRule value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        if (value instanceof TagRuleAsset) {
+            writeTagRuleAsset((TagRuleAsset) value);
+        } else if (value instanceof TagRuleAssetCollection) {
+            writeTagRuleAssetCollection((TagRuleAssetCollection) value);
+        } else if (value instanceof TagRuleAtlasCollection) {
+            writeTagRuleAtlasCollection((TagRuleAtlasCollection) value);
+        } else if (value instanceof TagRuleAtlasEntry) {
+            writeTagRuleAtlasEntry((TagRuleAtlasEntry) value);
+        } else if (value instanceof TagRuleBoolean) {
+            writeTagRuleBoolean((TagRuleBoolean) value);
+        } else if (value instanceof TagRuleDelveSite) {
+            writeTagRuleDelveSite((TagRuleDelveSite) value);
+        } else if (value instanceof TagRuleDelveSiteDomain) {
+            writeTagRuleDelveSiteDomain((TagRuleDelveSiteDomain) value);
+        } else if (value instanceof TagRuleDelveSiteTheme) {
+            writeTagRuleDelveSiteTheme((TagRuleDelveSiteTheme) value);
+        } else if (value instanceof TagRuleEnum) {
+            writeTagRuleEnum((TagRuleEnum) value);
+        } else if (value instanceof TagRuleInteger) {
+            writeTagRuleInteger((TagRuleInteger) value);
+        } else if (value instanceof TagRuleMove) {
+            writeTagRuleMove((TagRuleMove) value);
+        } else if (value instanceof TagRuleMoveCategory) {
+            writeTagRuleMoveCategory((TagRuleMoveCategory) value);
+        } else if (value instanceof TagRuleNpc) {
+            writeTagRuleNpc((TagRuleNpc) value);
+        } else if (value instanceof TagRuleNpcCollection) {
+            writeTagRuleNpcCollection((TagRuleNpcCollection) value);
+        } else if (value instanceof TagRuleOracleCollection) {
+            writeTagRuleOracleCollection((TagRuleOracleCollection) value);
+        } else if (value instanceof TagRuleOracleRollable) {
+            writeTagRuleOracleRollable((TagRuleOracleRollable) value);
+        } else if (value instanceof TagRuleRarity) {
+            writeTagRuleRarity((TagRuleRarity) value);
+        } else if (value instanceof TagRuleTruth) {
+            writeTagRuleTruth((TagRuleTruth) value);
+        } else {
+            throw new JsonGenerationException("Unknown TagRule subtype " + value.getClass().getName(), generator);
+        }
+    }
+
+    public void writeTagRuleAsset(TagRuleAsset value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("value_type", "asset");
+        generator.writeFieldName("applies_to");
+        writeListOfObjectType(value.getAppliesTo());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("wildcard");
+        writeBoolean(value.getWildcard());
+        generator.writeEndObject();
+    }
+
+    public void writeTagRuleAssetCollection(TagRuleAssetCollection value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("value_type", "asset_collection");
+        generator.writeFieldName("applies_to");
+        writeListOfObjectType(value.getAppliesTo());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("wildcard");
+        writeBoolean(value.getWildcard());
+        generator.writeEndObject();
+    }
+
+    public void writeTagRuleAtlasCollection(TagRuleAtlasCollection value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("value_type", "atlas_collection");
+        generator.writeFieldName("applies_to");
+        writeListOfObjectType(value.getAppliesTo());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("wildcard");
+        writeBoolean(value.getWildcard());
+        generator.writeEndObject();
+    }
+
+    public void writeTagRuleAtlasEntry(TagRuleAtlasEntry value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("value_type", "atlas_entry");
+        generator.writeFieldName("applies_to");
+        writeListOfObjectType(value.getAppliesTo());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("wildcard");
+        writeBoolean(value.getWildcard());
+        generator.writeEndObject();
+    }
+
+    public void writeTagRuleBoolean(TagRuleBoolean value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("value_type", "boolean");
+        generator.writeFieldName("applies_to");
+        writeListOfObjectType(value.getAppliesTo());
+        generator.writeFieldName("array");
+        writeBoolean(value.getArray());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeEndObject();
+    }
+
+    public void writeTagRuleDelveSite(TagRuleDelveSite value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("value_type", "delve_site");
+        generator.writeFieldName("applies_to");
+        writeListOfObjectType(value.getAppliesTo());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("wildcard");
+        writeBoolean(value.getWildcard());
+        generator.writeEndObject();
+    }
+
+    public void writeTagRuleDelveSiteDomain(TagRuleDelveSiteDomain value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("value_type", "delve_site_domain");
+        generator.writeFieldName("applies_to");
+        writeListOfObjectType(value.getAppliesTo());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("wildcard");
+        writeBoolean(value.getWildcard());
+        generator.writeEndObject();
+    }
+
+    public void writeTagRuleDelveSiteTheme(TagRuleDelveSiteTheme value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("value_type", "delve_site_theme");
+        generator.writeFieldName("applies_to");
+        writeListOfObjectType(value.getAppliesTo());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("wildcard");
+        writeBoolean(value.getWildcard());
+        generator.writeEndObject();
+    }
+
+    public void writeTagRuleEnum(TagRuleEnum value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("value_type", "enum");
+        generator.writeFieldName("applies_to");
+        writeListOfObjectType(value.getAppliesTo());
+        generator.writeFieldName("array");
+        writeBoolean(value.getArray());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("enum");
+        writeListOfDictKey(value.getEnum_());
+        generator.writeEndObject();
+    }
+
+    public void writeTagRuleInteger(TagRuleInteger value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("value_type", "integer");
+        generator.writeFieldName("applies_to");
+        writeListOfObjectType(value.getAppliesTo());
+        generator.writeFieldName("array");
+        writeBoolean(value.getArray());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeEndObject();
+    }
+
+    public void writeTagRuleMove(TagRuleMove value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("value_type", "move");
+        generator.writeFieldName("applies_to");
+        writeListOfObjectType(value.getAppliesTo());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("wildcard");
+        writeBoolean(value.getWildcard());
+        generator.writeEndObject();
+    }
+
+    public void writeTagRuleMoveCategory(TagRuleMoveCategory value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("value_type", "move_category");
+        generator.writeFieldName("applies_to");
+        writeListOfObjectType(value.getAppliesTo());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("wildcard");
+        writeBoolean(value.getWildcard());
+        generator.writeEndObject();
+    }
+
+    public void writeTagRuleNpc(TagRuleNpc value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("value_type", "npc");
+        generator.writeFieldName("applies_to");
+        writeListOfObjectType(value.getAppliesTo());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("wildcard");
+        writeBoolean(value.getWildcard());
+        generator.writeEndObject();
+    }
+
+    public void writeTagRuleNpcCollection(TagRuleNpcCollection value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("value_type", "npc_collection");
+        generator.writeFieldName("applies_to");
+        writeListOfObjectType(value.getAppliesTo());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("wildcard");
+        writeBoolean(value.getWildcard());
+        generator.writeEndObject();
+    }
+
+    public void writeTagRuleOracleCollection(TagRuleOracleCollection value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("value_type", "oracle_collection");
+        generator.writeFieldName("applies_to");
+        writeListOfObjectType(value.getAppliesTo());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("wildcard");
+        writeBoolean(value.getWildcard());
+        generator.writeEndObject();
+    }
+
+    public void writeTagRuleOracleRollable(TagRuleOracleRollable value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("value_type", "oracle_rollable");
+        generator.writeFieldName("applies_to");
+        writeListOfObjectType(value.getAppliesTo());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("wildcard");
+        writeBoolean(value.getWildcard());
+        generator.writeEndObject();
+    }
+
+    public void writeTagRuleRarity(TagRuleRarity value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("value_type", "rarity");
+        generator.writeFieldName("applies_to");
+        writeListOfObjectType(value.getAppliesTo());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("wildcard");
+        writeBoolean(value.getWildcard());
+        generator.writeEndObject();
+    }
+
+    public void writeTagRuleTruth(TagRuleTruth value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("value_type", "truth");
+        generator.writeFieldName("applies_to");
+        writeListOfObjectType(value.getAppliesTo());
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("wildcard");
+        writeBoolean(value.getWildcard());
+        generator.writeEndObject();
+    }
+
+    public void writeTemplateString(TemplateString value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeTriggerActionRoll(TriggerActionRoll value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("conditions");
+        writeListOfTriggerActionRollCondition(value.getConditions());
+        generator.writeFieldName("text");
+        writeMarkdownString(value.getText());
+        generator.writeEndObject();
+    }
+
+    public void writeTriggerActionRollCondition(TriggerActionRollCondition value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("method");
+        writeActionRollMethod(value.getMethod());
+        generator.writeFieldName("roll_options");
+        writeListOfRollableValue(value.getRollOptions());
+        if (value.getBy() != null) {
+            generator.writeFieldName("by");
+            writeTriggerBy(value.getBy());
+        }
+        if (value.getText() != null) {
+            generator.writeFieldName("text");
+            writeMarkdownString(value.getText());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeTriggerActionRollConditionEnhancement(TriggerActionRollConditionEnhancement value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("method");
+        writeActionRollMethod(value.getMethod());
+        generator.writeFieldName("roll_options");
+        writeListOfRollableValue(value.getRollOptions());
+        if (value.getBy() != null) {
+            generator.writeFieldName("by");
+            writeTriggerBy(value.getBy());
+        }
+        if (value.getText() != null) {
+            generator.writeFieldName("text");
+            writeMarkdownString(value.getText());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeTriggerActionRollEnhancement(TriggerActionRollEnhancement value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("conditions");
+        writeListOfTriggerActionRollConditionEnhancement(value.getConditions());
+        generator.writeEndObject();
+    }
+
+    public void writeTriggerBy(TriggerBy value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("ally");
+        writeBoolean(value.getAlly());
+        generator.writeFieldName("player");
+        writeBoolean(value.getPlayer());
+        generator.writeEndObject();
+    }
+
+    public void writeTriggerNoRoll(TriggerNoRoll value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("conditions");
+        writeListOfTriggerNoRollCondition(value.getConditions());
+        generator.writeFieldName("text");
+        writeMarkdownString(value.getText());
+        generator.writeEndObject();
+    }
+
+    public void writeTriggerNoRollCondition(TriggerNoRollCondition value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        if (value.getBy() != null) {
+            generator.writeFieldName("by");
+            writeTriggerBy(value.getBy());
+        }
+        if (value.getText() != null) {
+            generator.writeFieldName("text");
+            writeMarkdownString(value.getText());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeTriggerNoRollEnhancement(TriggerNoRollEnhancement value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("conditions");
+        writeListOfTriggerNoRollCondition(value.getConditions());
+        generator.writeEndObject();
+    }
+
+    public void writeTriggerProgressRoll(TriggerProgressRoll value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("conditions");
+        writeListOfTriggerProgressRollCondition(value.getConditions());
+        generator.writeFieldName("text");
+        writeMarkdownString(value.getText());
+        generator.writeEndObject();
+    }
+
+    public void writeTriggerProgressRollCondition(TriggerProgressRollCondition value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("method");
+        writeProgressRollMethod(value.getMethod());
+        generator.writeFieldName("roll_options");
+        writeListOfProgressRollOption(value.getRollOptions());
+        if (value.getBy() != null) {
+            generator.writeFieldName("by");
+            writeTriggerBy(value.getBy());
+        }
+        if (value.getText() != null) {
+            generator.writeFieldName("text");
+            writeMarkdownString(value.getText());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeTriggerProgressRollConditionEnhancement(TriggerProgressRollConditionEnhancement value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("method");
+        writeProgressRollMethod(value.getMethod());
+        generator.writeFieldName("roll_options");
+        writeListOfProgressRollOption(value.getRollOptions());
+        if (value.getBy() != null) {
+            generator.writeFieldName("by");
+            writeTriggerBy(value.getBy());
+        }
+        if (value.getText() != null) {
+            generator.writeFieldName("text");
+            writeMarkdownString(value.getText());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeTriggerProgressRollEnhancement(TriggerProgressRollEnhancement value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("conditions");
+        writeListOfTriggerProgressRollConditionEnhancement(value.getConditions());
+        generator.writeEndObject();
+    }
+
+    public void writeTriggerSpecialTrack(TriggerSpecialTrack value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("conditions");
+        writeListOfTriggerSpecialTrackCondition(value.getConditions());
+        generator.writeFieldName("text");
+        writeMarkdownString(value.getText());
+        generator.writeEndObject();
+    }
+
+    public void writeTriggerSpecialTrackCondition(TriggerSpecialTrackCondition value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("method");
+        writeSpecialTrackRollMethod(value.getMethod());
+        generator.writeFieldName("roll_options");
+        writeListOfTriggerSpecialTrackConditionOption(value.getRollOptions());
+        if (value.getBy() != null) {
+            generator.writeFieldName("by");
+            writeTriggerBy(value.getBy());
+        }
+        if (value.getText() != null) {
+            generator.writeFieldName("text");
+            writeMarkdownString(value.getText());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeTriggerSpecialTrackConditionEnhancement(TriggerSpecialTrackConditionEnhancement value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("method");
+        writeSpecialTrackRollMethod(value.getMethod());
+        generator.writeFieldName("roll_options");
+        writeListOfTriggerSpecialTrackConditionOption(value.getRollOptions());
+        if (value.getBy() != null) {
+            generator.writeFieldName("by");
+            writeTriggerBy(value.getBy());
+        }
+        if (value.getText() != null) {
+            generator.writeFieldName("text");
+            writeMarkdownString(value.getText());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeTriggerSpecialTrackConditionOption(TriggerSpecialTrackConditionOption value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("using");
+        writeSpecialTrackType(value.getUsing());
+        generator.writeEndObject();
+    }
+
+    public void writeTriggerSpecialTrackEnhancement(TriggerSpecialTrackEnhancement value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("conditions");
+        writeListOfTriggerSpecialTrackConditionEnhancement(value.getConditions());
+        generator.writeEndObject();
+    }
+
+    public void writeTruth(Truth value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("_id");
+        writeTruthId(value.getId());
+        generator.writeFieldName("_source");
+        writeSourceInfo(value.getSource());
+        generator.writeFieldName("dice");
+        writeDiceExpression(value.getDice());
+        generator.writeFieldName("name");
+        writeLabel(value.getName());
+        generator.writeFieldName("options");
+        writeListOfTruthOption(value.getOptions());
+        if (value.getComment() != null) {
+            generator.writeFieldName("_comment");
+            writeString(value.getComment());
+        }
+        if (value.getCanonicalName() != null) {
+            generator.writeFieldName("canonical_name");
+            writeLabel(value.getCanonicalName());
+        }
+        if (value.getIcon() != null) {
+            generator.writeFieldName("icon");
+            writeSvgImageUrl(value.getIcon());
+        }
+        if (value.getSuggestions() != null) {
+            generator.writeFieldName("suggestions");
+            writeSuggestions(value.getSuggestions());
+        }
+        if (value.getSummary() != null) {
+            generator.writeFieldName("summary");
+            writeMarkdownString(value.getSummary());
+        }
+        if (value.getTags() != null) {
+            generator.writeFieldName("tags");
+            writeMapOfMapOfTag(value.getTags());
+        }
+        if (value.getYourCharacter() != null) {
+            generator.writeFieldName("your_character");
+            writeMarkdownString(value.getYourCharacter());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeTruthId(TruthId value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeTruthOption(TruthOption value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("description");
+        writeMarkdownString(value.getDescription());
+        generator.writeFieldName("quest_starter");
+        writeMarkdownString(value.getQuestStarter());
+        if (value.getMax() != null) {
+            generator.writeFieldName("max");
+            writeShort(value.getMax());
+        }
+        if (value.getMin() != null) {
+            generator.writeFieldName("min");
+            writeShort(value.getMin());
+        }
+        if (value.getSummary() != null) {
+            generator.writeFieldName("summary");
+            writeMarkdownString(value.getSummary());
+        }
+        if (value.getTable() != null) {
+            generator.writeFieldName("table");
+            writeTruthOptionTable(value.getTable());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeTruthOptionTable(TruthOptionTable value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("dice");
+        writeDiceExpression(value.getDice());
+        generator.writeFieldName("oracle_type");
+        writeTruthOptionTableOracleType(value.getOracleType());
+        generator.writeFieldName("rows");
+        writeListOfOracleTableRowText(value.getRows());
+        generator.writeEndObject();
+    }
+
+    public void writeTruthOptionTableOracleType(TruthOptionTableOracleType value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (value) {
+            case TABLE_TEXT:
+                generator.writeString("table_text");
+                break;
+        }
+    }
+
+    public void writeUnsignedByte(UnsignedByte value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeNumber(Byte.toUnsignedLong(value.getValue()));
+    }
+
+    public void writeUnsignedInteger(UnsignedInteger value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeNumber(Integer.toUnsignedLong(value.getValue()));
+    }
+
+    public void writeUnsignedShort(UnsignedShort value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeNumber(Short.toUnsignedLong(value.getValue()));
+    }
+
+    public void writeWebUrl(WebUrl value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeWebpImageUrl(WebpImageUrl value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        writeString(value.getValue());
+    }
+
+    public void writeListOfAssetAbility(List<AssetAbility> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (AssetAbility element : value) {
+            writeAssetAbility(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfAssetId(List<AssetId> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (AssetId element : value) {
+            writeAssetId(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfAssetIdWildcard(List<AssetIdWildcard> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (AssetIdWildcard element : value) {
+            writeAssetIdWildcard(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfAtlasEntryId(List<AtlasEntryId> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (AtlasEntryId element : value) {
+            writeAtlasEntryId(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfAuthorInfo(List<AuthorInfo> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (AuthorInfo element : value) {
+            writeAuthorInfo(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfConditionMeterKey(List<ConditionMeterKey> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (ConditionMeterKey element : value) {
+            writeConditionMeterKey(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfDelveSiteDenizen(List<DelveSiteDenizen> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (DelveSiteDenizen element : value) {
+            writeDelveSiteDenizen(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfDelveSiteDomainId(List<DelveSiteDomainId> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (DelveSiteDomainId element : value) {
+            writeDelveSiteDomainId(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfDelveSiteThemeId(List<DelveSiteThemeId> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (DelveSiteThemeId element : value) {
+            writeDelveSiteThemeId(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfDictKey(List<DictKey> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (DictKey element : value) {
+            writeDictKey(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfMarkdownString(List<MarkdownString> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (MarkdownString element : value) {
+            writeMarkdownString(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfMoveEnhancement(List<MoveEnhancement> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (MoveEnhancement element : value) {
+            writeMoveEnhancement(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfMoveId(List<MoveId> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (MoveId element : value) {
+            writeMoveId(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfMoveIdWildcard(List<MoveIdWildcard> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (MoveIdWildcard element : value) {
+            writeMoveIdWildcard(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfNpcId(List<NpcId> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (NpcId element : value) {
+            writeNpcId(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfObjectType(List<ObjectType> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (ObjectType element : value) {
+            writeObjectType(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfOracleRoll(List<OracleRoll> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (OracleRoll element : value) {
+            writeOracleRoll(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfOracleRollableId(List<OracleRollableId> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (OracleRollableId element : value) {
+            writeOracleRollableId(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfOracleTableRowText(List<OracleTableRowText> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (OracleTableRowText element : value) {
+            writeOracleTableRowText(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfOracleTableRowText2(List<OracleTableRowText2> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (OracleTableRowText2 element : value) {
+            writeOracleTableRowText2(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfOracleTableRowText3(List<OracleTableRowText3> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (OracleTableRowText3 element : value) {
+            writeOracleTableRowText3(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfProgressRollOption(List<ProgressRollOption> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (ProgressRollOption element : value) {
+            writeProgressRollOption(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfRarityId(List<RarityId> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (RarityId element : value) {
+            writeRarityId(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfRollableValue(List<RollableValue> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (RollableValue element : value) {
+            writeRollableValue(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfTriggerActionRollCondition(List<TriggerActionRollCondition> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (TriggerActionRollCondition element : value) {
+            writeTriggerActionRollCondition(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfTriggerActionRollConditionEnhancement(List<TriggerActionRollConditionEnhancement> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (TriggerActionRollConditionEnhancement element : value) {
+            writeTriggerActionRollConditionEnhancement(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfTriggerNoRollCondition(List<TriggerNoRollCondition> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (TriggerNoRollCondition element : value) {
+            writeTriggerNoRollCondition(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfTriggerProgressRollCondition(List<TriggerProgressRollCondition> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (TriggerProgressRollCondition element : value) {
+            writeTriggerProgressRollCondition(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfTriggerProgressRollConditionEnhancement(List<TriggerProgressRollConditionEnhancement> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (TriggerProgressRollConditionEnhancement element : value) {
+            writeTriggerProgressRollConditionEnhancement(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfTriggerSpecialTrackCondition(List<TriggerSpecialTrackCondition> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (TriggerSpecialTrackCondition element : value) {
+            writeTriggerSpecialTrackCondition(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfTriggerSpecialTrackConditionEnhancement(List<TriggerSpecialTrackConditionEnhancement> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (TriggerSpecialTrackConditionEnhancement element : value) {
+            writeTriggerSpecialTrackConditionEnhancement(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfTriggerSpecialTrackConditionOption(List<TriggerSpecialTrackConditionOption> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (TriggerSpecialTrackConditionOption element : value) {
+            writeTriggerSpecialTrackConditionOption(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfTruthOption(List<TruthOption> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (TruthOption element : value) {
+            writeTruthOption(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeListOfWebpImageUrl(List<WebpImageUrl> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (WebpImageUrl element : value) {
+            writeWebpImageUrl(element);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeMapOfAsset(Map<String, Asset> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, Asset> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeAsset(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfAssetAbilityControlField(Map<String, AssetAbilityControlField> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, AssetAbilityControlField> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeAssetAbilityControlField(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfAssetAbilityOptionField(Map<String, AssetAbilityOptionField> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, AssetAbilityOptionField> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeAssetAbilityOptionField(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfAssetCollection(Map<String, AssetCollection> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, AssetCollection> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeAssetCollection(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfAssetConditionMeterControlField(Map<String, AssetConditionMeterControlField> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, AssetConditionMeterControlField> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeAssetConditionMeterControlField(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfAssetControlField(Map<String, AssetControlField> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, AssetControlField> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeAssetControlField(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfAssetControlFieldEnhancement(Map<String, AssetControlFieldEnhancement> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, AssetControlFieldEnhancement> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeAssetControlFieldEnhancement(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfAssetControlFieldSelectEnhancementChoice(Map<String, AssetControlFieldSelectEnhancementChoice> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, AssetControlFieldSelectEnhancementChoice> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeAssetControlFieldSelectEnhancementChoice(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfAssetOptionField(Map<String, AssetOptionField> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, AssetOptionField> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeAssetOptionField(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfAssetOptionFieldSelectEnhancementChoice(Map<String, AssetOptionFieldSelectEnhancementChoice> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, AssetOptionFieldSelectEnhancementChoice> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeAssetOptionFieldSelectEnhancementChoice(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfAtlasCollection(Map<String, AtlasCollection> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, AtlasCollection> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeAtlasCollection(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfAtlasEntry(Map<String, AtlasEntry> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, AtlasEntry> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeAtlasEntry(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfConditionMeterRule(Map<String, ConditionMeterRule> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, ConditionMeterRule> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeConditionMeterRule(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfDelveSite(Map<String, DelveSite> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, DelveSite> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeDelveSite(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfDelveSiteDomain(Map<String, DelveSiteDomain> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, DelveSiteDomain> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeDelveSiteDomain(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfDelveSiteTheme(Map<String, DelveSiteTheme> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, DelveSiteTheme> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeDelveSiteTheme(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfImpactCategory(Map<String, ImpactCategory> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, ImpactCategory> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeImpactCategory(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfImpactRule(Map<String, ImpactRule> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, ImpactRule> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeImpactRule(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfMapOfTag(Map<String, Map<String, Tag>> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, Map<String, Tag>> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeMapOfTag(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfMove(Map<String, Move> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, Move> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeMove(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfMoveCategory(Map<String, MoveCategory> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, MoveCategory> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeMoveCategory(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfNpc(Map<String, Npc> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, Npc> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeNpc(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfNpcCollection(Map<String, NpcCollection> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, NpcCollection> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeNpcCollection(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfNpcVariant(Map<String, NpcVariant> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, NpcVariant> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeNpcVariant(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfObject(Map<String, Object> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, Object> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeObject(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfOracleCollection(Map<String, OracleCollection> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, OracleCollection> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeOracleCollection(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfOracleColumnText(Map<String, OracleColumnText> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, OracleColumnText> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeOracleColumnText(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfOracleColumnText2(Map<String, OracleColumnText2> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, OracleColumnText2> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeOracleColumnText2(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfOracleColumnText3(Map<String, OracleColumnText3> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, OracleColumnText3> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeOracleColumnText3(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfOracleTableRollable(Map<String, OracleTableRollable> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, OracleTableRollable> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeOracleTableRollable(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfOracleTablesCollection(Map<String, OracleTablesCollection> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, OracleTablesCollection> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeOracleTablesCollection(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfRarity(Map<String, Rarity> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, Rarity> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeRarity(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfSelectEnhancementFieldChoice(Map<String, SelectEnhancementFieldChoice> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, SelectEnhancementFieldChoice> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeSelectEnhancementFieldChoice(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfSelectValueFieldChoice(Map<String, SelectValueFieldChoice> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, SelectValueFieldChoice> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeSelectValueFieldChoice(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfSpecialTrackRule(Map<String, SpecialTrackRule> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, SpecialTrackRule> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeSpecialTrackRule(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfStatRule(Map<String, StatRule> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, StatRule> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeStatRule(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfTag(Map<String, Tag> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, Tag> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeTag(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfTagRule(Map<String, TagRule> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, TagRule> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeTagRule(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public void writeMapOfTruth(Map<String, Truth> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, Truth> entry : value.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeTruth(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,111 @@
+package Datasworn.io;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scalar writers shared by the generated {@link DataswornWriter}.
+ */
+abstract class DataswornWriterBase {
+    protected final JsonGenerator generator;
+
+    protected DataswornWriterBase(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    public void writeString(String value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+
+    public void writeBoolean(Boolean value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeBoolean(value);
+        }
+    }
+
+    public void writeByte(Byte value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    public void writeShort(Short value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    public void writeInteger(Integer value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    /**
+     * Writes a timestamp. Midnight UTC is written date-only, the way Datasworn
+     * writes package dates, so that they round-trip through
+     * {@link DataswornReader#readOffsetDateTime()}.
+     */
+    public void writeOffsetDateTime(OffsetDateTime value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value.getOffset().equals(ZoneOffset.UTC) && value.toLocalTime().equals(LocalTime.MIDNIGHT)) {
+            generator.writeString(value.toLocalDate().toString());
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+
+    /**
+     * Writes a value of unknown shape, such as one read by
+     * {@link DataswornReader#readObject()}.
+     */
+    public void writeObject(Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof String) {
+            generator.writeString((String) value);
+        } else if (value instanceof Boolean) {
+            generator.writeBoolean((Boolean) value);
+        } else if (value instanceof Integer) {
+            generator.writeNumber((Integer) value);
+        } else if (value instanceof Long) {
+            generator.writeNumber((Long) value);
+        } else if (value instanceof Double) {
+            generator.writeNumber((Double) value);
+        } else if (value instanceof Map) {
+            generator.writeStartObject();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                generator.writeFieldName(String.valueOf(entry.getKey()));
+                writeObject(entry.getValue());
+            }
+            generator.writeEndObject();
+        } else if (value instanceof List) {
+            generator.writeStartArray();
+            for (Object element : (List<?>) value) {
+                writeObject(element);
+            }
+            generator.writeEndArray();
+        } else {
+            generator.writeObject(value);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package Datasworn.io;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Scans raw UTF-8 JSON bytes ahead of the parser.<p>
+ * Used to find the discriminator property of a polymorphic object before any
+ * of its other properties are consumed, so the concrete type can be chosen
+ * up front instead of buffering the object's tokens.
+ */
+final class JsonLookahead {
+    private JsonLookahead() {
+    }
+
+    /**
+     * Finds a string-valued property among the direct children of the object
+     * whose opening brace is at {@code objectStart}.<p>
+     * Returns null if the object has no such property, or if its value is not
+     * a string.
+     */
+    static String findStringProperty(byte[] json, int objectStart, String property) {
+        int i = skipWhitespace(json, objectStart + 1);
+        while (i < json.length && json[i] != '}') {
+            if (json[i] != '"') {
+                return null;
+            }
+            int keyStart = i + 1;
+            int keyEnd = skipString(json, i);
+            i = skipWhitespace(json, keyEnd + 1);
+            // colon
+            i = skipWhitespace(json, i + 1);
+            if (keyMatches(json, keyStart, keyEnd, property)) {
+                if (json[i] != '"') {
+                    return null;
+                }
+                int valueEnd = skipString(json, i);
+                return new String(json, i + 1, valueEnd - i - 1, StandardCharsets.UTF_8);
+            }
+            i = skipWhitespace(json, skipValue(json, i));
+            if (i < json.length && json[i] == ',') {
+                i = skipWhitespace(json, i + 1);
+            }
+        }
+        return null;
+    }
+
+    private static boolean keyMatches(byte[] json, int start, int end, String property) {
+        if (end - start != property.length()) {
+            return false;
+        }
+        for (int k = 0; k < property.length(); k++) {
+            if (json[start + k] != property.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipWhitespace(byte[] json, int i) {
+        while (i < json.length) {
+            byte b = json[i];
+            if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the index of the closing quote of the string that opens at
+     * {@code i}.
+     */
+    private static int skipString(byte[] json, int i) {
+        for (i++; i < json.length; i++) {
+            byte b = json[i];
+            if (b == '\\') {
+                i++;
+            } else if (b == '"') {
+                return i;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Returns the index just past the value that starts at {@code i}.
+     */
+    private static int skipValue(byte[] json, int i) {
+        byte first = json[i];
+        if (first == '"') {
+            return skipString(json, i) + 1;
+        }
+        if (first != '{' && first != '[') {
+            while (i < json.length) {
+                byte b = json[i];
+                if (b == ',' || b == '}' || b == ']' || b == ' ' || b == '\t' || b == '\n' || b == '\r') {
+                    break;
+                }
+                i++;
+            }
+            return i;
+        }
+        int depth = 0;
+        for (; i < json.length; i++) {
+            byte b = json[i];
+            if (b == '"') {
+                i = skipString(json, i);
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if ((b == '}' || b == ']') && --depth == 0) {
+                return i + 1;
+            }
+        }
+        return i;
+    }
+}
@@ -0,0 +1,172 @@
+package Datasworn.io;
+
+import Datasworn.RulesPackage;
+import Datasworn.RulesPackageExpansion;
+import Datasworn.RulesPackageRuleset;
+import Datasworn.ids.IdPool;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads a package's scalar properties and rules eagerly, and skims its
+ * content sections into {@link LazySectionMap}s.
+ */
+final class LazyPackageReader {
+    private final JsonFactory factory;
+    private final byte[] json;
+    private final JsonParser parser;
+    private final IdPool ids;
+    private final DataswornReader reader;
+
+    private LazyPackageReader(JsonFactory factory, byte[] json, JsonParser parser, IdPool ids) {
+        this.factory = factory;
+        this.json = json;
+        this.parser = parser;
+        this.ids = ids;
+        this.reader = new DataswornReader(parser, json, 0, ids);
+    }
+
+    static RulesPackage read(JsonFactory factory, byte[] json, IdPool ids) throws IOException {
+        try (JsonParser parser = factory.createParser(json)) {
+            parser.nextToken();
+            return new LazyPackageReader(factory, json, parser, ids).readRulesPackage();
+        }
+    }
+
+    private RulesPackage readRulesPackage() throws IOException {
+        reader.expectStartObject("RulesPackage");
+        String tag = reader.discriminator("RulesPackage", "type");
+        switch (tag) {
+            case "ruleset": {
+                RulesPackageRuleset ruleset = new RulesPackageRuleset();
+                for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+                    parser.nextToken();
+                    if (!readSection(ruleset, field) && !reader.readRulesPackageRulesetField(ruleset, field)) {
+                        parser.skipChildren();
+                    }
+                }
+                return ruleset;
+            }
+            case "expansion": {
+                RulesPackageExpansion expansion = new RulesPackageExpansion();
+                for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+                    parser.nextToken();
+                    if (!readSection(expansion, field) && !reader.readRulesPackageExpansionField(expansion, field)) {
+                        parser.skipChildren();
+                    }
+                }
+                return expansion;
+            }
+            default:
+                throw reader.unknownDiscriminator("RulesPackage", "type", tag);
+        }
+    }
+
+    private boolean readSection(RulesPackageRuleset ruleset, String field) throws IOException {
+        switch (field) {
+            case "assets":
+                ruleset.setAssets(skim(DataswornReader::readAssetCollection));
+                return true;
+            case "atlas":
+                ruleset.setAtlas(skim(DataswornReader::readAtlasCollection));
+                return true;
+            case "delve_sites":
+                ruleset.setDelveSites(skim(DataswornReader::readDelveSite));
+                return true;
+            case "moves":
+                ruleset.setMoves(skim(DataswornReader::readMoveCategory));
+                return true;
+            case "npcs":
+                ruleset.setNpcs(skim(DataswornReader::readNpcCollection));
+                return true;
+            case "oracles":
+                ruleset.setOracles(skim(DataswornReader::readOracleTablesCollection));
+                return true;
+            case "rarities":
+                ruleset.setRarities(skim(DataswornReader::readRarity));
+                return true;
+            case "site_domains":
+                ruleset.setSiteDomains(skim(DataswornReader::readDelveSiteDomain));
+                return true;
+            case "site_themes":
+                ruleset.setSiteThemes(skim(DataswornReader::readDelveSiteTheme));
+                return true;
+            case "truths":
+                ruleset.setTruths(skim(DataswornReader::readTruth));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private boolean readSection(RulesPackageExpansion expansion, String field) throws IOException {
+        switch (field) {
+            case "assets":
+                expansion.setAssets(skim(DataswornReader::readAssetCollection));
+                return true;
+            case "atlas":
+                expansion.setAtlas(skim(DataswornReader::readAtlasCollection));
+                return true;
+            case "delve_sites":
+                expansion.setDelveSites(skim(DataswornReader::readDelveSite));
+                return true;
+            case "moves":
+                expansion.setMoves(skim(DataswornReader::readMoveCategory));
+                return true;
+            case "npcs":
+                expansion.setNpcs(skim(DataswornReader::readNpcCollection));
+                return true;
+            case "oracles":
+                expansion.setOracles(skim(DataswornReader::readOracleTablesCollection));
+                return true;
+            case "rarities":
+                expansion.setRarities(skim(DataswornReader::readRarity));
+                return true;
+            case "site_domains":
+                expansion.setSiteDomains(skim(DataswornReader::readDelveSiteDomain));
+                return true;
+            case "site_themes":
+                expansion.setSiteThemes(skim(DataswornReader::readDelveSiteTheme));
+                return true;
+            case "truths":
+                expansion.setTruths(skim(DataswornReader::readTruth));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Records the key and byte range of every entry in the section object the
+     * parser is positioned on, skipping over their contents.
+     */
+    private <V> Map<String, V> skim(LazySectionMap.EntryReader<V> entryReader) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        reader.expectStartObject("section");
+        List<String> keys = new ArrayList<>();
+        int[] starts = new int[16];
+        int[] ends = new int[16];
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            int i = keys.size();
+            if (i == starts.length) {
+                starts = Arrays.copyOf(starts, i * 2);
+                ends = Arrays.copyOf(ends, i * 2);
+            }
+            keys.add(key);
+            starts[i] = (int) parser.currentTokenLocation().getByteOffset();
+            parser.skipChildren();
+            ends[i] = (int) parser.currentLocation().getByteOffset();
+        }
+        return new LazySectionMap<>(factory, json, keys.toArray(new String[0]), starts, ends, entryReader, ids);
+    }
+}
@@ -0,0 +1,172 @@
+package Datasworn.io;
+
+import Datasworn.ids.IdPool;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A top-level package section whose entries are read from the source bytes
+ * the first time they're looked up.<p>
+ * Only the byte range of each entry is known up front. Reads of single
+ * entries stay lazy; the first modification reads every remaining entry and
+ * from then on the map behaves like a {@link LinkedHashMap}. An entry is read
+ * under the map's lock, once; after that it's looked up without locking.
+ */
+final class LazySectionMap<V> extends AbstractMap<String, V> {
+    /**
+     * Reads one entry's value from a reader positioned on its first token.
+     */
+    interface EntryReader<V> {
+        V read(DataswornReader reader) throws IOException;
+    }
+
+    /** Stands for an entry read as null, since null marks one not read yet. */
+    private static final Object NULL = new Object();
+
+    private final JsonFactory factory;
+    private final byte[] json;
+    private final String[] keys;
+    private final int[] starts;
+    private final int[] ends;
+    private final EntryReader<V> entryReader;
+    private final IdPool ids;
+    private final Map<String, Integer> index;
+    private final AtomicReferenceArray<Object> values;
+    private volatile Map<String, V> inflated;
+
+    LazySectionMap(JsonFactory factory, byte[] json, String[] keys, int[] starts, int[] ends,
+            EntryReader<V> entryReader, IdPool ids) {
+        this.factory = factory;
+        this.json = json;
+        this.keys = keys;
+        this.starts = starts;
+        this.ends = ends;
+        this.entryReader = entryReader;
+        this.ids = ids;
+        this.index = new HashMap<>(keys.length * 2);
+        for (int i = 0; i < keys.length; i++) {
+            index.put(keys[i], i);
+        }
+        this.values = new AtomicReferenceArray<>(keys.length);
+    }
+
+    @Override
+    public int size() {
+        Map<String, V> map = inflated;
+        return map != null ? map.size() : keys.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        Map<String, V> map = inflated;
+        return map != null ? map.containsKey(key) : index.containsKey(key);
+    }
+
+    @Override
+    public V get(Object key) {
+        Map<String, V> map = inflated;
+        if (map != null) {
+            return map.get(key);
+        }
+        Integer i = index.get(key);
+        return i == null ? null : valueAt(i);
+    }
+
+    @Override
+    public V put(String key, V value) {
+        return inflate().put(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        return inflate().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        inflate().clear();
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        Map<String, V> map = inflated;
+        return map != null ? map.entrySet() : new EntrySet();
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int i) {
+        Object value = values.get(i);
+        if (value == null) {
+            value = load(i);
+        }
+        return value == NULL ? null : (V) value;
+    }
+
+    private synchronized Object load(int i) {
+        Object value = values.get(i);
+        if (value == null) {
+            try (JsonParser parser = factory.createParser(json, starts[i], ends[i] - starts[i])) {
+                parser.nextToken();
+                value = entryReader.read(new DataswornReader(parser, json, starts[i], ids));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read section entry \"" + keys[i] + "\"", e);
+            }
+            if (value == null) {
+                value = NULL;
+            }
+            values.set(i, value);
+        }
+        return value;
+    }
+
+    private synchronized Map<String, V> inflate() {
+        if (inflated == null) {
+            Map<String, V> map = new LinkedHashMap<>();
+            for (int i = 0; i < keys.length; i++) {
+                map.put(keys[i], valueAt(i));
+            }
+            inflated = map;
+        }
+        return inflated;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, V>> {
+        @Override
+        public int size() {
+            return keys.length;
+        }
+
+        @Override
+        public Iterator<Entry<String, V>> iterator() {
+            return new Iterator<Entry<String, V>>() {
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < keys.length;
+                }
+
+                @Override
+                public Entry<String, V> next() {
+                    if (next >= keys.length) {
+                        throw new NoSuchElementException();
+                    }
+                    int i = next++;
+                    return new SimpleImmutableEntry<>(keys[i], valueAt(i));
+                }
+            };
+        }
+    }
+}
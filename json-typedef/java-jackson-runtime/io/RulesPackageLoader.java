@@ -0,0 +1,99 @@
+package Datasworn.io;
+
+import Datasworn.RulesPackage;
+import Datasworn.RulesPackageExpansion;
+import Datasworn.RulesPackageRuleset;
+import Datasworn.ids.IdPool;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Loads Datasworn JSON into the bindings with a single streaming pass.<p>
+ * This is a faster alternative to {@code ObjectMapper.readValue}: there is no
+ * bean introspection and polymorphic objects are not buffered. The whole
+ * document is read into memory first, since the discriminator lookahead works
+ * on the raw bytes.<p>
+ * IDs are interned into {@link IdPool#shared()} unless another pool is given.
+ */
+public final class RulesPackageLoader {
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private RulesPackageLoader() {
+    }
+
+    public static RulesPackage read(Path path) throws IOException {
+        return read(Files.readAllBytes(path));
+    }
+
+    public static RulesPackage read(InputStream in) throws IOException {
+        return read(in.readAllBytes());
+    }
+
+    public static RulesPackage read(byte[] json) throws IOException {
+        return read(json, IdPool.shared());
+    }
+
+    public static RulesPackage read(byte[] json, IdPool ids) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            parser.nextToken();
+            return new DataswornReader(parser, json, 0, ids).readRulesPackage();
+        }
+    }
+
+    /**
+     * Reads a package without reading its content sections ({@code assets},
+     * {@code moves}, {@code oracles}, {@code npcs}, {@code atlas},
+     * {@code truths}, {@code delve_sites}, {@code site_themes},
+     * {@code site_domains} and {@code rarities}).<p>
+     * Each section map knows only its keys and where each entry lies in
+     * {@code json}; an entry is read the first time it is looked up. A service
+     * that only touches oracles never pays for the rest. Entries that fail to
+     * read throw {@link java.io.UncheckedIOException} from the map.
+     */
+    public static RulesPackage readLazily(byte[] json) throws IOException {
+        return readLazily(json, IdPool.shared());
+    }
+
+    public static RulesPackage readLazily(byte[] json, IdPool ids) throws IOException {
+        return LazyPackageReader.read(FACTORY, json, ids);
+    }
+
+    public static RulesPackage readLazily(Path path) throws IOException {
+        return readLazily(Files.readAllBytes(path));
+    }
+
+    public static RulesPackageRuleset readRuleset(Path path) throws IOException {
+        return asRuleset(read(path));
+    }
+
+    public static RulesPackageRuleset readRuleset(byte[] json) throws IOException {
+        return asRuleset(read(json));
+    }
+
+    public static RulesPackageExpansion readExpansion(Path path) throws IOException {
+        return asExpansion(read(path));
+    }
+
+    public static RulesPackageExpansion readExpansion(byte[] json) throws IOException {
+        return asExpansion(read(json));
+    }
+
+    private static RulesPackageRuleset asRuleset(RulesPackage rulesPackage) throws IOException {
+        if (rulesPackage instanceof RulesPackageRuleset) {
+            return (RulesPackageRuleset) rulesPackage;
+        }
+        throw new IOException("Expected a ruleset package, but got an expansion");
+    }
+
+    private static RulesPackageExpansion asExpansion(RulesPackage rulesPackage) throws IOException {
+        if (rulesPackage instanceof RulesPackageExpansion) {
+            return (RulesPackageExpansion) rulesPackage;
+        }
+        throw new IOException("Expected an expansion package, but got a ruleset");
+    }
+}
@@ -0,0 +1,102 @@
+package Datasworn.io;
+
+import Datasworn.RulesPackage;
+import Datasworn.ids.IdPool;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads and writes fully loaded packages in a compact binary snapshot
+ * format, so that a service can skip JSON parsing on startup.<p>
+ * A snapshot is laid out as:
+ * <ul>
+ * <li>a header: magic {@code "DSWN"}, format version, a fingerprint of the
+ * bindings that wrote it, the Datasworn version, and the payload's CRC-32C
+ * and length;</li>
+ * <li>a string table, where each distinct string is stored once;</li>
+ * <li>the package itself, with string-table indexes for strings, varints for
+ * numbers, a presence mask per object and a type tag per polymorphic
+ * object.</li>
+ * </ul>
+ * Snapshots are read straight from a memory-mapped file. A snapshot written
+ * by other bindings or for another Datasworn version is rejected.
+ */
+public final class RulesPackageSnapshot {
+    private RulesPackageSnapshot() {
+    }
+
+    public static byte[] toBytes(RulesPackage rulesPackage) {
+        DataswornSnapshotWriter writer = new DataswornSnapshotWriter();
+        writer.writeRulesPackage(rulesPackage);
+        return writer.finish();
+    }
+
+    /**
+     * Writes a snapshot to {@code path}, replacing it atomically.
+     */
+    public static void write(RulesPackage rulesPackage, Path path) throws IOException {
+        Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, toBytes(rulesPackage));
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * @throws IOException if the snapshot is corrupt or stale.
+     */
+    public static RulesPackage read(ByteBuffer snapshot) throws IOException {
+        return read(snapshot, IdPool.shared());
+    }
+
+    /**
+     * @throws IOException if the snapshot is corrupt or stale.
+     */
+    public static RulesPackage read(ByteBuffer snapshot, IdPool ids) throws IOException {
+        return new DataswornSnapshotReader(snapshot, ids).readRulesPackage();
+    }
+
+    /**
+     * Memory-maps a snapshot file and reads it.
+     *
+     * @throws IOException if the snapshot is missing, corrupt or stale.
+     */
+    public static RulesPackage read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Reads a package from its snapshot if there is a valid one that is no
+     * older than the JSON. Otherwise, reads the JSON and writes a fresh
+     * snapshot for next time.
+     */
+    public static RulesPackage load(Path json, Path snapshot) throws IOException {
+        try {
+            if (Files.getLastModifiedTime(snapshot).compareTo(Files.getLastModifiedTime(json)) >= 0) {
+                return read(snapshot);
+            }
+        } catch (NoSuchFileException e) {
+            // no snapshot yet
+        } catch (IOException e) {
+            // corrupt or stale; rebuild it below
+        }
+        RulesPackage rulesPackage = RulesPackageLoader.read(json);
+        try {
+            write(rulesPackage, snapshot);
+        } catch (IOException e) {
+            // the snapshot is only a cache, so failing to write it isn't fatal
+        }
+        return rulesPackage;
+    }
+}
@@ -0,0 +1,195 @@
+package Datasworn.io;
+
+import Datasworn.ids.IdPool;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Scalar decodings and header validation shared by the generated
+ * {@link DataswornSnapshotReader}.<p>
+ * The buffer is read in place. Only the string table is indexed up front, and
+ * each string is decoded once, the first time it is referenced, then shared
+ * by every object that refers to it.
+ */
+abstract class SnapshotReaderBase {
+    protected final ByteBuffer buffer;
+
+    protected final IdPool ids;
+
+    private final int[] stringOffsets;
+    private final int[] stringLengths;
+    private final String[] strings;
+    private byte[] scratch = new byte[256];
+
+    /**
+     * @param payload the snapshot payload, as returned by {@link #payload}.
+     * @param ids     the pool to intern IDs into.
+     */
+    protected SnapshotReaderBase(ByteBuffer payload, IdPool ids) {
+        this.buffer = payload;
+        this.ids = ids;
+        int count = readVarInt();
+        stringOffsets = new int[count];
+        stringLengths = new int[count];
+        strings = new String[count];
+        for (int i = 0; i < count; i++) {
+            stringLengths[i] = readVarInt();
+            stringOffsets[i] = buffer.position();
+            buffer.position(buffer.position() + stringLengths[i]);
+        }
+    }
+
+    /**
+     * Validates a snapshot's header and checksum, and returns a slice of
+     * {@code snapshot} holding its payload.
+     *
+     * @throws IOException if the snapshot is corrupt, or was written by other
+     *                     bindings or for another Datasworn version.
+     */
+    static ByteBuffer payload(ByteBuffer snapshot, long schemaFingerprint, String dataswornVersion)
+            throws IOException {
+        ByteBuffer in = snapshot.duplicate();
+        if (in.remaining() < 4 + 2 + 8 + 1 || in.getInt() != SnapshotWriterBase.MAGIC) {
+            throw new IOException("Not a Datasworn snapshot");
+        }
+        short formatVersion = in.getShort();
+        if (formatVersion != SnapshotWriterBase.FORMAT_VERSION) {
+            throw new IOException("Unsupported snapshot format version " + formatVersion);
+        }
+        if (in.getLong() != schemaFingerprint) {
+            throw new IOException("Snapshot was written by different Datasworn bindings");
+        }
+        byte[] version = new byte[in.get()];
+        in.get(version);
+        String snapshotVersion = new String(version, StandardCharsets.US_ASCII);
+        if (!snapshotVersion.equals(dataswornVersion)) {
+            throw new IOException("Snapshot is for Datasworn " + snapshotVersion + ", expected " + dataswornVersion);
+        }
+        int checksum = in.getInt();
+        int length = in.getInt();
+        if (length < 0 || length > in.remaining()) {
+            throw new IOException("Snapshot is truncated");
+        }
+        ByteBuffer payload = in.slice();
+        payload.limit(length);
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException("Snapshot checksum mismatch");
+        }
+        return payload;
+    }
+
+    public String readString() {
+        int index = readVarInt();
+        return index == 0 ? null : string(index - 1);
+    }
+
+    public Boolean readBoolean() {
+        int value = readVarInt();
+        return value == 0 ? null : value == 2;
+    }
+
+    public Byte readByte() {
+        long value = readVarLong();
+        return value == 0 ? null : (byte) unzigzag(value - 1);
+    }
+
+    public Short readShort() {
+        long value = readVarLong();
+        return value == 0 ? null : (short) unzigzag(value - 1);
+    }
+
+    public Integer readInteger() {
+        long value = readVarLong();
+        return value == 0 ? null : (int) unzigzag(value - 1);
+    }
+
+    public OffsetDateTime readOffsetDateTime() {
+        String value = readString();
+        return value == null ? null : OffsetDateTime.parse(value);
+    }
+
+    public Object readObject() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return readString();
+            case 2: {
+                long value = unzigzag(readVarLong() - 1);
+                return value == (int) value ? (Object) (int) value : (Object) value;
+            }
+            case 3:
+                return Double.longBitsToDouble(readVarLong());
+            case 4:
+                return Boolean.TRUE;
+            case 5:
+                return Boolean.FALSE;
+            case 6: {
+                int size = readVarInt();
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    map.put(readString(), readObject());
+                }
+                return map;
+            }
+            case 7: {
+                int size = readVarInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readObject());
+                }
+                return list;
+            }
+            default:
+                throw corrupt("Object", tag);
+        }
+    }
+
+    protected final long readVarLong() {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    protected final int readVarInt() {
+        return (int) readVarLong();
+    }
+
+    protected final IOException corrupt(String type, long tag) {
+        return new IOException("Corrupt snapshot: unexpected " + type + " tag " + tag + " at " + buffer.position());
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private String string(int index) {
+        String value = strings[index];
+        if (value == null) {
+            int length = stringLengths[index];
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            buffer.get(stringOffsets[index], scratch, 0, length);
+            value = new String(scratch, 0, length, StandardCharsets.UTF_8);
+            strings[index] = value;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,161 @@
+package Datasworn.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Scalar encodings and file layout shared by the generated
+ * {@link DataswornSnapshotWriter}.<p>
+ * Every value is written in a nullable form whose null is a single zero byte:
+ * strings are string-table indexes plus one, numbers are zigzag varints plus
+ * one, and so on. See {@link RulesPackageSnapshot} for the file layout.
+ */
+abstract class SnapshotWriterBase {
+    static final int MAGIC = 0x4453574E;
+    static final short FORMAT_VERSION = 1;
+
+    private byte[] body = new byte[1 << 16];
+    private int size;
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        Integer index = stringIndexes.get(value);
+        if (index == null) {
+            index = strings.size();
+            strings.add(value);
+            stringIndexes.put(value, index);
+        }
+        writeVarLong(index + 1L);
+    }
+
+    public void writeBoolean(Boolean value) {
+        writeVarLong(value == null ? 0 : value ? 2 : 1);
+    }
+
+    public void writeByte(Byte value) {
+        writeNumber(value == null ? null : value.longValue());
+    }
+
+    public void writeShort(Short value) {
+        writeNumber(value == null ? null : value.longValue());
+    }
+
+    public void writeInteger(Integer value) {
+        writeNumber(value == null ? null : value.longValue());
+    }
+
+    public void writeOffsetDateTime(OffsetDateTime value) {
+        writeString(value == null ? null : value.toString());
+    }
+
+    /**
+     * Writes a value of unknown shape, as a type tag followed by its contents.
+     */
+    public void writeObject(Object value) {
+        if (value == null) {
+            writeVarLong(0);
+        } else if (value instanceof String) {
+            writeVarLong(1);
+            writeString((String) value);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short
+                || value instanceof Byte) {
+            writeVarLong(2);
+            writeNumber(((Number) value).longValue());
+        } else if (value instanceof Number) {
+            writeVarLong(3);
+            writeVarLong(Double.doubleToRawLongBits(((Number) value).doubleValue()));
+        } else if (value instanceof Boolean) {
+            writeVarLong((Boolean) value ? 4 : 5);
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            writeVarLong(6);
+            writeVarLong(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString(String.valueOf(entry.getKey()));
+                writeObject(entry.getValue());
+            }
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            writeVarLong(7);
+            writeVarLong(list.size());
+            for (Object element : list) {
+                writeObject(element);
+            }
+        } else {
+            throw new IllegalArgumentException("Can't write " + value.getClass().getName() + " to a snapshot");
+        }
+    }
+
+    protected final void writeNumber(Long value) {
+        if (value == null) {
+            writeVarLong(0);
+        } else {
+            long v = value;
+            writeVarLong(((v << 1) ^ (v >> 63)) + 1);
+        }
+    }
+
+    protected final void writeVarLong(long value) {
+        if (size + 10 > body.length) {
+            body = Arrays.copyOf(body, body.length * 2);
+        }
+        while ((value & ~0x7FL) != 0) {
+            body[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        body[size++] = (byte) value;
+    }
+
+    /**
+     * Assembles the header, string table and everything written so far into a
+     * complete snapshot.
+     */
+    final byte[] finish(long schemaFingerprint, String dataswornVersion) {
+        byte[][] encoded = new byte[strings.size()][];
+        int tableSize = 10;
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = strings.get(i).getBytes(StandardCharsets.UTF_8);
+            tableSize += 5 + encoded[i].length;
+        }
+        byte[] version = dataswornVersion.getBytes(StandardCharsets.US_ASCII);
+        int headerSize = 4 + 2 + 8 + 1 + version.length + 4 + 4;
+        ByteBuffer out = ByteBuffer.allocate(headerSize + tableSize + size);
+        out.putInt(MAGIC).putShort(FORMAT_VERSION).putLong(schemaFingerprint);
+        out.put((byte) version.length).put(version);
+        int checksumAt = out.position();
+        out.putInt(0).putInt(0);
+        int payloadStart = out.position();
+        putVarLong(out, encoded.length);
+        for (byte[] string : encoded) {
+            putVarLong(out, string.length);
+            out.put(string);
+        }
+        out.put(body, 0, size);
+        int payloadEnd = out.position();
+        CRC32C crc = new CRC32C();
+        crc.update(out.array(), payloadStart, payloadEnd - payloadStart);
+        out.putInt(checksumAt, (int) crc.getValue());
+        out.putInt(checksumAt + 4, payloadEnd - payloadStart);
+        return Arrays.copyOf(out.array(), payloadEnd);
+    }
+
+    private static void putVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+}
@@ -0,0 +1,122 @@
+package Datasworn.moves;
+
+/**
+ * The exact odds of action and progress rolls, from tables computed once
+ * when the class is loaded.<p>
+ * An action roll is a d6 plus a modifier (a stat or meter plus any adds),
+ * capped at {@value #MAX_SCORE}, against two d10 challenge dice: beating both
+ * is a strong hit, beating one a weak hit, and neither a miss. A progress
+ * roll is the same with the progress score in place of the action score.
+ * Momentum is taken into account as the rules have it: negative momentum
+ * equal to the action die cancels the die, leaving the modifier alone, and
+ * burning momentum that is higher than the action score beats each
+ * challenge die it's higher than. Burning is assumed whenever it improves
+ * the outcome.<p>
+ * Every modifier that leads to distinct odds, every momentum and both ways
+ * of burning are tabulated up front, so every lookup is a couple of array
+ * loads and returns a shared {@link RollOdds}.
+ * <pre>
+ * RollOdds odds = ActionRolls.action(iron + adds, momentum, true);
+ * double strongHit = odds.strongHit();
+ * </pre>
+ */
+public final class ActionRolls {
+    /** The highest action score; any more is ignored. */
+    public static final int MAX_SCORE = 10;
+    public static final int MIN_MOMENTUM = -6;
+    public static final int MAX_MOMENTUM = 10;
+
+    /** Below this, every action score is 0 or less, which beats no challenge die. */
+    private static final int MIN_MODIFIER = -6;
+    /** From this on, every action score is capped, even with the action die cancelled. */
+    private static final int MAX_MODIFIER = MAX_SCORE;
+
+    private static final int STRONG_HIT = 0;
+    private static final int WEAK_HIT = 1;
+    private static final int MISS = 2;
+    private static final int STRONG_HIT_MATCH = 3;
+    private static final int MISS_MATCH = 4;
+
+    /** For each score from 0, the ways the challenge dice come out against it, by outcome. */
+    private static final int[][] CHALLENGE = new int[MAX_SCORE + 1][5];
+    private static final RollOdds[] PROGRESS = new RollOdds[MAX_SCORE + 1];
+    /** By modifier, momentum and whether momentum is burnt. */
+    private static final RollOdds[][][] ACTION =
+            new RollOdds[MAX_MODIFIER - MIN_MODIFIER + 1][MAX_MOMENTUM - MIN_MOMENTUM + 1][2];
+
+    static {
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            int[] ways = CHALLENGE[score];
+            for (int first = 1; first <= 10; first++) {
+                for (int second = 1; second <= 10; second++) {
+                    int beaten = (score > first ? 1 : 0) + (score > second ? 1 : 0);
+                    int outcome = beaten == 2 ? STRONG_HIT : beaten == 1 ? WEAK_HIT : MISS;
+                    ways[outcome]++;
+                    if (first == second) {
+                        ways[outcome == STRONG_HIT ? STRONG_HIT_MATCH : MISS_MATCH]++;
+                    }
+                }
+            }
+            PROGRESS[score] = odds(ways, 100);
+        }
+        for (int modifier = MIN_MODIFIER; modifier <= MAX_MODIFIER; modifier++) {
+            for (int momentum = MIN_MOMENTUM; momentum <= MAX_MOMENTUM; momentum++) {
+                for (int burn = 0; burn < 2; burn++) {
+                    int[] ways = new int[5];
+                    for (int die = 1; die <= 6; die++) {
+                        int score = momentum < 0 && die == -momentum ? modifier : die + modifier;
+                        if (burn == 1 && momentum > score) {
+                            score = momentum;
+                        }
+                        int[] challenge = CHALLENGE[Math.max(0, Math.min(MAX_SCORE, score))];
+                        for (int outcome = 0; outcome < ways.length; outcome++) {
+                            ways[outcome] += challenge[outcome];
+                        }
+                    }
+                    ACTION[modifier - MIN_MODIFIER][momentum - MIN_MOMENTUM][burn] = odds(ways, 600);
+                }
+            }
+        }
+    }
+
+    private ActionRolls() {
+    }
+
+    /**
+     * Returns the odds of an action roll with no momentum to speak of.
+     */
+    public static RollOdds action(int modifier) {
+        return action(modifier, 0, false);
+    }
+
+    /**
+     * Returns the odds of an action roll.
+     *
+     * @param modifier the stat or meter rolled, plus any adds.
+     * @param burn     whether momentum is burnt when it helps.
+     * @throws IllegalArgumentException if momentum is outside
+     *                                  {@value #MIN_MOMENTUM} to
+     *                                  {@value #MAX_MOMENTUM}.
+     */
+    public static RollOdds action(int modifier, int momentum, boolean burn) {
+        if (momentum < MIN_MOMENTUM || momentum > MAX_MOMENTUM) {
+            throw new IllegalArgumentException("Momentum " + momentum + " outside " + MIN_MOMENTUM + " to "
+                    + MAX_MOMENTUM);
+        }
+        int clamped = Math.max(MIN_MODIFIER, Math.min(MAX_MODIFIER, modifier));
+        return ACTION[clamped - MIN_MODIFIER][momentum - MIN_MOMENTUM][burn ? 1 : 0];
+    }
+
+    /**
+     * Returns the odds of a progress roll. Scores are capped at
+     * {@value #MAX_SCORE}, the number of boxes on a track.
+     */
+    public static RollOdds progress(int score) {
+        return PROGRESS[Math.max(0, Math.min(MAX_SCORE, score))];
+    }
+
+    private static RollOdds odds(int[] ways, int total) {
+        return new RollOdds(ways[STRONG_HIT], ways[WEAK_HIT], ways[MISS], ways[STRONG_HIT_MATCH], ways[MISS_MATCH],
+                total);
+    }
+}
@@ -0,0 +1,136 @@
+package Datasworn.moves;
+
+import Datasworn.Asset;
+import Datasworn.AssetAttachment;
+import Datasworn.AssetControlField;
+import Datasworn.AssetControlFieldConditionMeter;
+import Datasworn.AssetControlFieldEnhancement;
+import Datasworn.AssetControlFieldEnhancementConditionMeter;
+import Datasworn.AssetEnhancement;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An asset as a character has it: the asset with the
+ * {@code enhance_asset} of each of its enabled abilities applied, in order,
+ * so a later ability's {@code count_as_impact}, {@code shared},
+ * {@code attachments} or condition meter {@code max} replaces an earlier
+ * one's.<p>
+ * An asset without enhancements is one instance shared by every
+ * {@link MoveSet}. Effective assets are immutable and safe to share between
+ * threads.
+ */
+public final class EffectiveAsset {
+    private final int handle;
+    private final String id;
+    private final Asset asset;
+    private final List<AssetEnhancement> enhancements;
+    private final boolean countAsImpact;
+    private final boolean shared;
+    private final AssetAttachment attachments;
+    /** The {@code max} of each condition meter control. */
+    private final Map<String, Integer> meterMaxes;
+
+    private EffectiveAsset(int handle, String id, Asset asset, List<AssetEnhancement> enhancements) {
+        this.handle = handle;
+        this.id = id;
+        this.asset = asset;
+        this.enhancements = List.copyOf(enhancements);
+        boolean countAsImpact = Boolean.TRUE.equals(asset.getCountAsImpact());
+        boolean shared = Boolean.TRUE.equals(asset.getShared());
+        AssetAttachment attachments = asset.getAttachments();
+        Map<String, Integer> meterMaxes = new HashMap<>();
+        if (asset.getControls() != null) {
+            for (Map.Entry<String, AssetControlField> control : asset.getControls().entrySet()) {
+                if (control.getValue() instanceof AssetControlFieldConditionMeter) {
+                    Byte max = ((AssetControlFieldConditionMeter) control.getValue()).getMax();
+                    if (max != null) {
+                        meterMaxes.put(control.getKey(), (int) max);
+                    }
+                }
+            }
+        }
+        for (AssetEnhancement enhancement : enhancements) {
+            if (enhancement.getCountAsImpact() != null) {
+                countAsImpact = enhancement.getCountAsImpact();
+            }
+            if (enhancement.getShared() != null) {
+                shared = enhancement.getShared();
+            }
+            if (enhancement.getAttachments() != null) {
+                attachments = enhancement.getAttachments();
+            }
+            if (enhancement.getControls() != null) {
+                for (Map.Entry<String, AssetControlFieldEnhancement> control : enhancement.getControls().entrySet()) {
+                    if (control.getValue() instanceof AssetControlFieldEnhancementConditionMeter) {
+                        Byte max = ((AssetControlFieldEnhancementConditionMeter) control.getValue()).getMax();
+                        if (max != null) {
+                            meterMaxes.put(control.getKey(), (int) max);
+                        }
+                    }
+                }
+            }
+        }
+        this.countAsImpact = countAsImpact;
+        this.shared = shared;
+        this.attachments = attachments;
+        this.meterMaxes = Map.copyOf(meterMaxes);
+    }
+
+    static EffectiveAsset of(int handle, String id, Asset asset, List<AssetEnhancement> enhancements) {
+        return new EffectiveAsset(handle, id, asset, enhancements);
+    }
+
+    /**
+     * Returns the asset's handle in its {@link EffectiveMoves}.
+     */
+    public int handle() {
+        return handle;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public Asset asset() {
+        return asset;
+    }
+
+    public boolean enhanced() {
+        return !enhancements.isEmpty();
+    }
+
+    public List<AssetEnhancement> enhancements() {
+        return enhancements;
+    }
+
+    public boolean countAsImpact() {
+        return countAsImpact;
+    }
+
+    public boolean shared() {
+        return shared;
+    }
+
+    /**
+     * Returns the assets that can be attached to this one, or null.
+     */
+    public AssetAttachment attachments() {
+        return attachments;
+    }
+
+    /**
+     * Returns the {@code max} of a condition meter control, or -1 if the
+     * asset has no such meter.
+     */
+    public int meterMax(String key) {
+        return meterMaxes.getOrDefault(key, -1);
+    }
+
+    @Override
+    public String toString() {
+        return enhancements.isEmpty() ? id : id + " +" + enhancements.size();
+    }
+}
@@ -0,0 +1,96 @@
+package Datasworn.moves;
+
+import Datasworn.Move;
+import Datasworn.MoveEnhancement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A move as a character has it: the move and the enhancements their enabled
+ * asset abilities apply to it, in the order of the abilities in the index.
+ * <p>
+ * A move without enhancements is one instance shared by every
+ * {@link MoveSet}. Effective moves are immutable and safe to share between
+ * threads.
+ */
+public final class EffectiveMove {
+    private final int handle;
+    private final String id;
+    private final Move move;
+    private final List<MoveEnhancement> enhancements;
+    /** The ability handle of each enhancement, ascending. */
+    private final int[] sources;
+    private volatile List<Object> conditions;
+
+    private EffectiveMove(int handle, String id, Move move, List<MoveEnhancement> enhancements, int[] sources) {
+        this.handle = handle;
+        this.id = id;
+        this.move = move;
+        this.enhancements = List.copyOf(enhancements);
+        this.sources = sources;
+    }
+
+    static EffectiveMove of(int handle, String id, Move move, List<MoveEnhancement> enhancements, int[] sources) {
+        return new EffectiveMove(handle, id, move, enhancements, sources);
+    }
+
+    /**
+     * Returns the move's handle in its {@link EffectiveMoves}.
+     */
+    public int handle() {
+        return handle;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public Move move() {
+        return move;
+    }
+
+    public boolean enhanced() {
+        return !enhancements.isEmpty();
+    }
+
+    public List<MoveEnhancement> enhancements() {
+        return enhancements;
+    }
+
+    /**
+     * Returns the ability that each of the enhancements is from.
+     */
+    public int source(int enhancement) {
+        return sources[enhancement];
+    }
+
+    int[] sources() {
+        return sources;
+    }
+
+    /**
+     * Returns the move's trigger conditions followed by those its
+     * enhancements add: {@code Trigger*Condition}s, then
+     * {@code Trigger*ConditionEnhancement}s ({@code TriggerNoRollCondition}s
+     * for {@code no_roll} moves). They're merged the first time they're
+     * asked for.
+     */
+    public List<Object> conditions() {
+        List<Object> merged = conditions;
+        if (merged == null) {
+            List<Object> list = new ArrayList<>(MoveShapes.conditions(move));
+            for (MoveEnhancement enhancement : enhancements) {
+                list.addAll(MoveShapes.conditions(enhancement));
+            }
+            merged = List.copyOf(list);
+            conditions = merged;
+        }
+        return merged;
+    }
+
+    @Override
+    public String toString() {
+        return enhancements.isEmpty() ? id : id + " +" + enhancements.size();
+    }
+}
@@ -0,0 +1,640 @@
+package Datasworn.moves;
+
+import Datasworn.Asset;
+import Datasworn.AssetAbility;
+import Datasworn.AssetEnhancement;
+import Datasworn.Move;
+import Datasworn.MoveEnhancement;
+import Datasworn.MoveIdWildcard;
+import Datasworn.index.DataswornIndex;
+import Datasworn.index.WildcardMatcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Works out the moves and assets a character has, with the enhancements of
+ * their assets' enabled abilities applied.<p>
+ * Every move, asset and asset ability in the index gets a dense handle, and
+ * what each ability adds or enhances is worked out once: the moves of its
+ * {@code moves}, the moves its {@code enhance_moves} apply to (of the same
+ * kind, and matching {@code enhances} if it has one), and its asset, for
+ * {@code enhance_asset}. A character's assets and abilities are then a
+ * bitset, owned assets first and enabled abilities after them. Moving from
+ * one set to another by owning an asset or enabling an ability recomputes
+ * only the moves and the asset that ability touches, and reuses the rest;
+ * a set asked for by its bitset with {@link #get(long[])} is computed from
+ * scratch, and kept in a cache of the most recently used, up to the
+ * engine's capacity, which moving between sets reads from but doesn't fill.
+ * Abilities only count while their asset is owned, so a set never has an
+ * ability enabled without its asset. Engines and their sets are immutable,
+ * apart from the cache, and safe to share between threads.
+ * <pre>
+ * EffectiveMoves engine = EffectiveMoves.of(index);
+ * MoveSet set = engine.empty().withAsset(engine.asset("starforged/assets/path/empath"), true);
+ * set = set.withAbility(engine.ability("starforged/assets/path/empath/abilities/1"), true);
+ * EffectiveMove move = set.move("starforged/moves/adventure/gather_information");
+ * </pre>
+ * Callers that keep many characters' sets, such as a server, should keep
+ * each character's set with the character rather than their keys, and can
+ * give the engine a capacity of 0 to cache nothing.
+ */
+public final class EffectiveMoves {
+    /** The number of sets cached by {@link #of(DataswornIndex)}. */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final String[] moveIds;
+    private final Move[] moves;
+    private final Map<String, Integer> moveHandles = new HashMap<>();
+    /** For each move, the ability whose {@code moves} it's in, or -1. */
+    private final int[] addedBy;
+    /** For each move, the abilities that enhance it, ascending, and the enhancement of each. */
+    private final int[][] enhancers;
+    private final MoveEnhancement[][] enhancements;
+
+    private final String[] assetIds;
+    private final Asset[] assets;
+    private final Map<String, Integer> assetHandles = new HashMap<>();
+    /** For each asset, the handles of its abilities, which are consecutive. */
+    private final int[][] assetAbilities;
+
+    private final String[] abilityIds;
+    private final AssetAbility[] abilities;
+    private final Map<String, Integer> abilityHandles = new HashMap<>();
+    private final int[] abilityAssets;
+    /** For each ability, the moves of its {@code moves}. */
+    private final int[][] addedMoves;
+    /** For each ability, the moves it enhances, ascending, and the enhancement of each. */
+    private final int[][] enhancedMoves;
+    private final MoveEnhancement[][] moveEnhancements;
+
+    private final EffectiveMove[] baseMoves;
+    private final EffectiveAsset[] baseAssets;
+    private final int words;
+    /** The most recently used sets, least recent first, guarded by itself. */
+    private final LinkedHashMap<Key, MoveSet> sets;
+    private final MoveSet empty;
+
+    private EffectiveMoves(DataswornIndex index, int capacity) {
+        List<String> moveIdList = new ArrayList<>();
+        List<Move> moveList = new ArrayList<>();
+        Map<Move, Integer> moveObjects = new IdentityHashMap<>();
+        List<String> assetIdList = new ArrayList<>();
+        List<Asset> assetList = new ArrayList<>();
+        for (int handle = 0; handle < index.size(); handle++) {
+            String id = index.id(handle);
+            Object node = index.get(id);
+            if (node instanceof Move) {
+                moveHandles.put(id, moveList.size());
+                moveObjects.put((Move) node, moveList.size());
+                moveIdList.add(id);
+                moveList.add((Move) node);
+            } else if (node instanceof Asset) {
+                assetHandles.put(id, assetList.size());
+                assetIdList.add(id);
+                assetList.add((Asset) node);
+            }
+        }
+        moveIds = moveIdList.toArray(new String[0]);
+        moves = moveList.toArray(new Move[0]);
+        assetIds = assetIdList.toArray(new String[0]);
+        assets = assetList.toArray(new Asset[0]);
+        addedBy = new int[moves.length];
+        Arrays.fill(addedBy, -1);
+
+        List<String> abilityIdList = new ArrayList<>();
+        List<AssetAbility> abilityList = new ArrayList<>();
+        List<Integer> abilityAssetList = new ArrayList<>();
+        assetAbilities = new int[assets.length][];
+        for (int asset = 0; asset < assets.length; asset++) {
+            List<AssetAbility> own = assets[asset].getAbilities() == null ? List.of() : assets[asset].getAbilities();
+            assetAbilities[asset] = new int[own.size()];
+            for (int i = 0; i < own.size(); i++) {
+                AssetAbility ability = own.get(i);
+                String id = ability.getId() == null ? null : ability.getId().getValue();
+                assetAbilities[asset][i] = abilityList.size();
+                if (id != null) {
+                    abilityHandles.put(id, abilityList.size());
+                }
+                abilityIdList.add(id);
+                abilityList.add(ability);
+                abilityAssetList.add(asset);
+            }
+        }
+        abilityIds = abilityIdList.toArray(new String[0]);
+        abilities = abilityList.toArray(new AssetAbility[0]);
+        abilityAssets = abilityAssetList.stream().mapToInt(Integer::intValue).toArray();
+
+        List<List<Integer>> enhancerLists = new ArrayList<>();
+        List<List<MoveEnhancement>> enhancementLists = new ArrayList<>();
+        for (int move = 0; move < moves.length; move++) {
+            enhancerLists.add(new ArrayList<>());
+            enhancementLists.add(new ArrayList<>());
+        }
+        addedMoves = new int[abilities.length][];
+        enhancedMoves = new int[abilities.length][];
+        moveEnhancements = new MoveEnhancement[abilities.length][];
+        BitSet[] matches = matchEnhancements(index);
+        int matched = 0;
+        for (int ability = 0; ability < abilities.length; ability++) {
+            List<Integer> added = new ArrayList<>();
+            if (abilities[ability].getMoves() != null) {
+                for (Move node : abilities[ability].getMoves().values()) {
+                    Integer move = moveObjects.get(node);
+                    if (move != null) {
+                        addedBy[move] = ability;
+                        added.add(move);
+                    }
+                }
+            }
+            addedMoves[ability] = added.stream().mapToInt(Integer::intValue).toArray();
+            TreeMap<Integer, List<MoveEnhancement>> enhanced = new TreeMap<>();
+            if (abilities[ability].getEnhanceMoves() != null) {
+                for (MoveEnhancement enhancement : abilities[ability].getEnhanceMoves()) {
+                    BitSet matching = MoveShapes.enhances(enhancement) == null ? null : matches[matched++];
+                    for (int move = 0; move < moves.length; move++) {
+                        if (MoveShapes.sameKind(enhancement, moves[move])
+                                && (matching == null || matching.get(move))) {
+                            enhancerLists.get(move).add(ability);
+                            enhancementLists.get(move).add(enhancement);
+                            enhanced.computeIfAbsent(move, k -> new ArrayList<>()).add(enhancement);
+                        }
+                    }
+                }
+            }
+            List<Integer> enhancedList = new ArrayList<>();
+            List<MoveEnhancement> enhancementList = new ArrayList<>();
+            enhanced.forEach((move, list) -> {
+                for (MoveEnhancement enhancement : list) {
+                    enhancedList.add(move);
+                    enhancementList.add(enhancement);
+                }
+            });
+            enhancedMoves[ability] = enhancedList.stream().mapToInt(Integer::intValue).toArray();
+            moveEnhancements[ability] = enhancementList.toArray(new MoveEnhancement[0]);
+        }
+        enhancers = new int[moves.length][];
+        enhancements = new MoveEnhancement[moves.length][];
+        for (int move = 0; move < moves.length; move++) {
+            enhancers[move] = enhancerLists.get(move).stream().mapToInt(Integer::intValue).toArray();
+            enhancements[move] = enhancementLists.get(move).toArray(new MoveEnhancement[0]);
+        }
+
+        baseMoves = new EffectiveMove[moves.length];
+        for (int move = 0; move < moves.length; move++) {
+            baseMoves[move] = EffectiveMove.of(move, moveIds[move], moves[move], List.of(), new int[0]);
+        }
+        baseAssets = new EffectiveAsset[assets.length];
+        for (int asset = 0; asset < assets.length; asset++) {
+            baseAssets[asset] = EffectiveAsset.of(asset, assetIds[asset], assets[asset], List.of());
+        }
+        words = (assets.length + abilities.length + 63) / 64;
+        empty = compute(new long[words]);
+        sets = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, MoveSet> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public static EffectiveMoves of(DataswornIndex index) {
+        return new EffectiveMoves(index, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the number of sets to cache, evicting the least
+     *                 recently used.
+     * @throws IllegalArgumentException if the capacity is negative.
+     */
+    public static EffectiveMoves of(DataswornIndex index, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Negative capacity " + capacity);
+        }
+        return new EffectiveMoves(index, capacity);
+    }
+
+    /**
+     * Returns the set of a character without assets: every move but those
+     * of asset abilities, unenhanced.
+     */
+    public MoveSet empty() {
+        return empty;
+    }
+
+    /**
+     * Returns the set for a bitset of owned assets, then enabled abilities,
+     * as from {@link MoveSet#key()}, computing it from scratch and caching
+     * it if it isn't cached. Abilities of assets that aren't owned are
+     * ignored.
+     *
+     * @throws IllegalArgumentException if the key is longer than the
+     *                                  engine's.
+     */
+    public MoveSet get(long[] key) {
+        if (key.length > words) {
+            throw new IllegalArgumentException("Key of " + key.length + " words, expected " + words);
+        }
+        long[] bits = Arrays.copyOf(key, words);
+        for (int ability = 0; ability < abilities.length; ability++) {
+            if (!bit(bits, abilityAssets[ability])) {
+                clear(bits, abilityBit(ability));
+            }
+        }
+        if (Arrays.equals(bits, empty.bits())) {
+            return empty;
+        }
+        Key cacheKey = new Key(bits);
+        MoveSet set = cached(cacheKey);
+        if (set == null) {
+            set = compute(bits);
+            synchronized (sets) {
+                MoveSet previous = sets.putIfAbsent(cacheKey, set);
+                set = previous == null ? set : previous;
+            }
+        }
+        return set;
+    }
+
+    /**
+     * Returns how many sets are cached.
+     */
+    public int cached() {
+        synchronized (sets) {
+            return sets.size();
+        }
+    }
+
+    public int moves() {
+        return moves.length;
+    }
+
+    /**
+     * Returns the handle of a move, or -1.
+     */
+    public int move(String id) {
+        return moveHandles.getOrDefault(id, -1);
+    }
+
+    public String moveId(int move) {
+        return moveIds[move];
+    }
+
+    /**
+     * Returns the ability whose {@code moves} a move is in, or -1.
+     */
+    public int addedBy(int move) {
+        return addedBy[move];
+    }
+
+    public int assets() {
+        return assets.length;
+    }
+
+    /**
+     * Returns the handle of an asset, or -1.
+     */
+    public int asset(String id) {
+        return assetHandles.getOrDefault(id, -1);
+    }
+
+    public String assetId(int asset) {
+        return assetIds[asset];
+    }
+
+    public int abilities() {
+        return abilities.length;
+    }
+
+    /**
+     * Returns the handle of an asset ability, or -1.
+     */
+    public int ability(String id) {
+        return abilityHandles.getOrDefault(id, -1);
+    }
+
+    /**
+     * Returns the handles of an asset's abilities, in order.
+     */
+    public int[] abilities(int asset) {
+        return assetAbilities[asset].clone();
+    }
+
+    /**
+     * Returns the ability's id, or null if it has none.
+     */
+    public String abilityId(int ability) {
+        return abilityIds[ability];
+    }
+
+    /**
+     * Returns the asset an ability belongs to.
+     */
+    public int abilityAsset(int ability) {
+        return abilityAssets[ability];
+    }
+
+    /**
+     * Returns the set with an asset owned or not, starting with the
+     * abilities that are {@code enabled} by default when it's owned, and
+     * with none when it isn't.
+     */
+    MoveSet withAsset(MoveSet from, int asset, boolean owns) {
+        if (bit(from.bits(), asset) == owns) {
+            return from;
+        }
+        long[] bits = from.bits().clone();
+        for (int ability : assetAbilities[asset]) {
+            clear(bits, abilityBit(ability));
+        }
+        if (owns) {
+            set(bits, asset);
+            for (int ability : assetAbilities[asset]) {
+                if (Boolean.TRUE.equals(abilities[ability].getEnabled())) {
+                    set(bits, abilityBit(ability));
+                }
+            }
+        } else {
+            clear(bits, asset);
+        }
+        return step(from, bits, asset);
+    }
+
+    /**
+     * Returns the set with an ability enabled or not.
+     *
+     * @throws IllegalArgumentException if the ability's asset isn't owned.
+     */
+    MoveSet withAbility(MoveSet from, int ability, boolean enabled) {
+        int asset = abilityAssets[ability];
+        if (!bit(from.bits(), asset)) {
+            throw new IllegalArgumentException("Asset " + assetIds[asset] + " of ability " + ability + " isn't owned");
+        }
+        if (bit(from.bits(), abilityBit(ability)) == enabled) {
+            return from;
+        }
+        long[] bits = from.bits().clone();
+        if (enabled) {
+            set(bits, abilityBit(ability));
+        } else {
+            clear(bits, abilityBit(ability));
+        }
+        return step(from, bits, asset);
+    }
+
+    /**
+     * Returns a move without enhancements.
+     */
+    EffectiveMove base(int move) {
+        return baseMoves[move];
+    }
+
+    /**
+     * Returns the abilities that can enhance a move, ascending, one per
+     * enhancement.
+     */
+    int[] enhancers(int move) {
+        return enhancers[move];
+    }
+
+    /**
+     * Returns the enhancements of {@link #enhancers(int)}.
+     */
+    MoveEnhancement[] enhancements(int move) {
+        return enhancements[move];
+    }
+
+    boolean owns(long[] bits, int asset) {
+        return bit(bits, asset);
+    }
+
+    boolean enabled(long[] bits, int ability) {
+        return bit(bits, abilityBit(ability));
+    }
+
+    /**
+     * Finds the moves that each {@code enhance_moves} entry with
+     * {@code enhances} names, in order, in one walk of the index.
+     */
+    private BitSet[] matchEnhancements(DataswornIndex index) {
+        List<String> wildcards = new ArrayList<>();
+        List<Integer> owners = new ArrayList<>();
+        int count = 0;
+        for (AssetAbility ability : abilities) {
+            if (ability.getEnhanceMoves() == null) {
+                continue;
+            }
+            for (MoveEnhancement enhancement : ability.getEnhanceMoves()) {
+                List<MoveIdWildcard> enhances = MoveShapes.enhances(enhancement);
+                if (enhances == null) {
+                    continue;
+                }
+                for (MoveIdWildcard wildcard : enhances) {
+                    wildcards.add(wildcard.getValue());
+                    owners.add(count);
+                }
+                count++;
+            }
+        }
+        BitSet[] matches = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            matches[i] = new BitSet(moves.length);
+        }
+        if (!wildcards.isEmpty()) {
+            WildcardMatcher.compile(wildcards).forEachMatch(index, (id, wildcard) -> {
+                Integer move = moveHandles.get(id);
+                if (move != null) {
+                    matches[owners.get(wildcard)].set(move);
+                }
+            });
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the cached set for {@code bits}, or computes it from
+     * {@code from}, which differs from it only in the abilities of
+     * {@code asset}: the enhancements of the abilities that changed are
+     * added to or removed from the moves they apply to, and the moves the
+     * asset's abilities add and the asset itself are recomputed. Computed
+     * sets aren't cached, since a character steps through many on the way
+     * to the one they keep.
+     */
+    private MoveSet step(MoveSet from, long[] bits, int asset) {
+        if (Arrays.equals(bits, empty.bits())) {
+            return empty;
+        }
+        MoveSet set = cached(new Key(bits));
+        if (set != null) {
+            return set;
+        }
+        EffectiveMove[] effectiveMoves = from.effectiveMoves().clone();
+        for (int ability : assetAbilities[asset]) {
+            boolean enabled = bit(bits, abilityBit(ability));
+            if (bit(from.bits(), abilityBit(ability)) != enabled) {
+                enhance(effectiveMoves, ability, enabled);
+            }
+        }
+        for (int ability : assetAbilities[asset]) {
+            for (int move : addedMoves[ability]) {
+                effectiveMoves[move] = move(bits, move);
+            }
+        }
+        EffectiveAsset[] effectiveAssets = from.effectiveAssets().clone();
+        effectiveAssets[asset] = asset(bits, asset);
+        return MoveSet.of(this, bits, effectiveMoves, effectiveAssets);
+    }
+
+    private MoveSet compute(long[] bits) {
+        EffectiveMove[] effectiveMoves = new EffectiveMove[moves.length];
+        for (int move = 0; move < moves.length; move++) {
+            boolean available = addedBy[move] < 0 || bit(bits, abilityBit(addedBy[move]));
+            effectiveMoves[move] = available ? baseMoves[move] : null;
+        }
+        for (int ability = 0; ability < abilities.length; ability++) {
+            if (bit(bits, abilityBit(ability))) {
+                enhance(effectiveMoves, ability, true);
+            }
+        }
+        EffectiveAsset[] effectiveAssets = new EffectiveAsset[assets.length];
+        for (int asset = 0; asset < assets.length; asset++) {
+            effectiveAssets[asset] = asset(bits, asset);
+        }
+        return MoveSet.of(this, bits, effectiveMoves, effectiveAssets);
+    }
+
+    private MoveSet cached(Key key) {
+        synchronized (sets) {
+            return sets.get(key);
+        }
+    }
+
+    /**
+     * Adds an ability's enhancements to the moves it enhances, in the order
+     * of the abilities, or removes them. Moves the character doesn't have
+     * are left null.
+     */
+    private void enhance(EffectiveMove[] effectiveMoves, int ability, boolean enabled) {
+        int[] enhanced = enhancedMoves[ability];
+        for (int start = 0, end; start < enhanced.length; start = end) {
+            int move = enhanced[start];
+            end = start + 1;
+            while (end < enhanced.length && enhanced[end] == move) {
+                end++;
+            }
+            EffectiveMove from = effectiveMoves[move];
+            if (from == null) {
+                continue;
+            }
+            int[] fromSources = from.sources();
+            List<MoveEnhancement> applied = new ArrayList<>();
+            int[] sources = new int[fromSources.length + (enabled ? end - start : 0)];
+            int i = 0;
+            for (; i < fromSources.length && fromSources[i] < ability; i++) {
+                sources[applied.size()] = fromSources[i];
+                applied.add(from.enhancements().get(i));
+            }
+            if (enabled) {
+                for (int j = start; j < end; j++) {
+                    sources[applied.size()] = ability;
+                    applied.add(moveEnhancements[ability][j]);
+                }
+            }
+            for (; i < fromSources.length; i++) {
+                if (fromSources[i] != ability) {
+                    sources[applied.size()] = fromSources[i];
+                    applied.add(from.enhancements().get(i));
+                }
+            }
+            effectiveMoves[move] = applied.isEmpty() ? baseMoves[move]
+                    : EffectiveMove.of(move, moveIds[move], moves[move], applied,
+                            Arrays.copyOf(sources, applied.size()));
+        }
+    }
+
+    /**
+     * Returns a move as the abilities in {@code bits} have it, or null if
+     * it's an ability's move and the ability isn't enabled.
+     */
+    private EffectiveMove move(long[] bits, int move) {
+        if (addedBy[move] >= 0 && !bit(bits, abilityBit(addedBy[move]))) {
+            return null;
+        }
+        List<MoveEnhancement> applied = new ArrayList<>();
+        List<Integer> sources = new ArrayList<>();
+        for (int i = 0; i < enhancers[move].length; i++) {
+            if (bit(bits, abilityBit(enhancers[move][i]))) {
+                applied.add(enhancements[move][i]);
+                sources.add(enhancers[move][i]);
+            }
+        }
+        return applied.isEmpty() ? baseMoves[move] : EffectiveMove.of(move, moveIds[move], moves[move], applied,
+                sources.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Returns an asset as the abilities in {@code bits} have it, or null if
+     * it isn't owned.
+     */
+    private EffectiveAsset asset(long[] bits, int asset) {
+        if (!bit(bits, asset)) {
+            return null;
+        }
+        List<AssetEnhancement> applied = null;
+        for (int ability : assetAbilities[asset]) {
+            AssetEnhancement enhancement = abilities[ability].getEnhanceAsset();
+            if (enhancement != null && bit(bits, abilityBit(ability))) {
+                if (applied == null) {
+                    applied = new ArrayList<>();
+                }
+                applied.add(enhancement);
+            }
+        }
+        return applied == null ? baseAssets[asset] : EffectiveAsset.of(asset, assetIds[asset], assets[asset], applied);
+    }
+
+    private int abilityBit(int ability) {
+        return assets.length + ability;
+    }
+
+    private static boolean bit(long[] bits, int i) {
+        return (bits[i >>> 6] & 1L << i) != 0;
+    }
+
+    private static void set(long[] bits, int i) {
+        bits[i >>> 6] |= 1L << i;
+    }
+
+    private static void clear(long[] bits, int i) {
+        bits[i >>> 6] &= ~(1L << i);
+    }
+
+    private static final class Key {
+        private final long[] bits;
+        private final int hash;
+
+        Key(long[] bits) {
+            this.bits = bits;
+            hash = Arrays.hashCode(bits);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && Arrays.equals(bits, ((Key) o).bits);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
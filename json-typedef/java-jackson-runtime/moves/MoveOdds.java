@@ -0,0 +1,275 @@
+package Datasworn.moves;
+
+import Datasworn.ActionRollMethod;
+import Datasworn.Move;
+import Datasworn.MoveActionRoll;
+import Datasworn.MoveNoRoll;
+import Datasworn.MoveProgressRoll;
+import Datasworn.MoveSpecialTrack;
+import Datasworn.ProgressRollMethod;
+import Datasworn.RollableValue;
+import Datasworn.RollableValueCustom;
+import Datasworn.SpecialTrackRollMethod;
+import Datasworn.TriggerActionRoll;
+import Datasworn.TriggerActionRollCondition;
+import Datasworn.TriggerActionRollConditionEnhancement;
+import Datasworn.TriggerNoRollCondition;
+import Datasworn.TriggerProgressRoll;
+import Datasworn.TriggerProgressRollCondition;
+import Datasworn.TriggerProgressRollConditionEnhancement;
+import Datasworn.TriggerSpecialTrack;
+import Datasworn.TriggerSpecialTrackCondition;
+import Datasworn.TriggerSpecialTrackConditionEnhancement;
+import Datasworn.TriggerSpecialTrackConditionOption;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The odds of making a move, for each of its trigger conditions, from the
+ * {@link ActionRolls} tables.<p>
+ * A condition's roll method picks the roll options it uses: {@code highest}
+ * and {@code lowest} the option with the highest or lowest value,
+ * {@code player_choice} the best one for the player, which is also the
+ * highest, and {@code all} each option, rolled separately (as when
+ * continuing a legacy). So the odds of a condition are an array, with one
+ * entry per roll, and no entries if the character has none of its options.
+ * The {@code strong_hit}, {@code weak_hit} and {@code miss} methods give
+ * {@link RollOdds#STRONG_HIT} and the like. Working out the odds reads each
+ * option's value once and doesn't roll or sample anything.<p>
+ * The odds of an {@link EffectiveMove} include the conditions its asset
+ * abilities add, such as the empath's option to Face Danger with spirit. A
+ * condition an enhancement adds without a method or roll options of its
+ * own only says when a bonus applies ("When aided by your banshee"); the
+ * move is still rolled by its other conditions, so it has no entries.
+ * <pre>
+ * for (RollOdds[] condition : MoveOdds.of(move, values, adds, momentum, true, 0)) {
+ *     ...
+ * }
+ * </pre>
+ */
+public final class MoveOdds {
+    private MoveOdds() {
+    }
+
+    /**
+     * Returns the odds of each of a move's trigger conditions, in order: none
+     * for a {@code no_roll} move.
+     *
+     * @param adds     added to action rolls.
+     * @param progress the progress score of the track a progress move rolls.
+     */
+    public static List<RollOdds[]> of(Move move, RollValues values, int adds, int momentum, boolean burn,
+            int progress) {
+        List<RollOdds[]> odds = new ArrayList<>();
+        if (move instanceof MoveActionRoll) {
+            TriggerActionRoll trigger = ((MoveActionRoll) move).getTrigger();
+            if (trigger != null && trigger.getConditions() != null) {
+                for (TriggerActionRollCondition condition : trigger.getConditions()) {
+                    odds.add(action(condition, values, adds, momentum, burn));
+                }
+            }
+        } else if (move instanceof MoveProgressRoll) {
+            TriggerProgressRoll trigger = ((MoveProgressRoll) move).getTrigger();
+            if (trigger != null && trigger.getConditions() != null) {
+                for (TriggerProgressRollCondition condition : trigger.getConditions()) {
+                    odds.add(progress(condition, progress));
+                }
+            }
+        } else if (move instanceof MoveSpecialTrack) {
+            TriggerSpecialTrack trigger = ((MoveSpecialTrack) move).getTrigger();
+            if (trigger != null && trigger.getConditions() != null) {
+                for (TriggerSpecialTrackCondition condition : trigger.getConditions()) {
+                    odds.add(specialTrack(condition, values));
+                }
+            }
+        } else if (!(move instanceof MoveNoRoll)) {
+            throw new IllegalArgumentException("Unknown Move subtype " + move.getClass().getName());
+        }
+        return odds;
+    }
+
+    /**
+     * Returns the odds of each of an effective move's trigger conditions, in
+     * the order of {@link EffectiveMove#conditions()}: none for a
+     * {@code no_roll} move.
+     *
+     * @param adds     added to action rolls.
+     * @param progress the progress score of the track a progress move rolls.
+     */
+    public static List<RollOdds[]> of(EffectiveMove move, RollValues values, int adds, int momentum, boolean burn,
+            int progress) {
+        List<RollOdds[]> odds = new ArrayList<>();
+        for (Object condition : move.conditions()) {
+            if (condition instanceof TriggerActionRollCondition) {
+                odds.add(action((TriggerActionRollCondition) condition, values, adds, momentum, burn));
+            } else if (condition instanceof TriggerActionRollConditionEnhancement) {
+                odds.add(action((TriggerActionRollConditionEnhancement) condition, values, adds, momentum, burn));
+            } else if (condition instanceof TriggerProgressRollCondition) {
+                odds.add(progress((TriggerProgressRollCondition) condition, progress));
+            } else if (condition instanceof TriggerProgressRollConditionEnhancement) {
+                odds.add(progress((TriggerProgressRollConditionEnhancement) condition, progress));
+            } else if (condition instanceof TriggerSpecialTrackCondition) {
+                odds.add(specialTrack((TriggerSpecialTrackCondition) condition, values));
+            } else if (condition instanceof TriggerSpecialTrackConditionEnhancement) {
+                odds.add(specialTrack((TriggerSpecialTrackConditionEnhancement) condition, values));
+            } else if (!(condition instanceof TriggerNoRollCondition)) {
+                throw new IllegalArgumentException("Unknown trigger condition " + condition.getClass().getName());
+            }
+        }
+        return odds;
+    }
+
+    /**
+     * Returns the odds of an action roll condition.
+     */
+    public static RollOdds[] action(TriggerActionRollCondition condition, RollValues values, int adds, int momentum,
+            boolean burn) {
+        return action(condition.getMethod(), condition.getRollOptions(), values, adds, momentum, burn);
+    }
+
+    /**
+     * Returns the odds of an action roll condition that an asset ability
+     * adds to a move.
+     */
+    public static RollOdds[] action(TriggerActionRollConditionEnhancement condition, RollValues values, int adds,
+            int momentum, boolean burn) {
+        return action(condition.getMethod(), condition.getRollOptions(), values, adds, momentum, burn);
+    }
+
+    private static RollOdds[] action(ActionRollMethod method, List<RollableValue> rollOptions, RollValues values,
+            int adds, int momentum, boolean burn) {
+        if (method == ActionRollMethod.STRONG_HIT) {
+            return new RollOdds[] {RollOdds.STRONG_HIT};
+        }
+        if (method == ActionRollMethod.WEAK_HIT) {
+            return new RollOdds[] {RollOdds.WEAK_HIT};
+        }
+        if (method == ActionRollMethod.MISS) {
+            return new RollOdds[] {RollOdds.MISS};
+        }
+        List<RollableValue> options = rollOptions == null ? List.of() : rollOptions;
+        int[] scores = new int[options.size()];
+        for (int i = 0; i < scores.length; i++) {
+            RollableValue option = options.get(i);
+            if (option instanceof RollableValueCustom) {
+                Short value = ((RollableValueCustom) option).getValue();
+                scores[i] = value == null ? RollValues.NONE : value;
+            } else {
+                scores[i] = values.value(option);
+            }
+        }
+        boolean each = method == ActionRollMethod.ALL;
+        boolean lowest = method == ActionRollMethod.LOWEST;
+        int[] picked = pick(scores, each, lowest);
+        RollOdds[] odds = new RollOdds[picked.length];
+        for (int i = 0; i < picked.length; i++) {
+            odds[i] = ActionRolls.action(picked[i] + adds, momentum, burn);
+        }
+        return odds;
+    }
+
+    /**
+     * Returns the odds of a progress roll condition, rolling a track with
+     * the given progress score.
+     */
+    public static RollOdds[] progress(TriggerProgressRollCondition condition, int score) {
+        return progress(condition.getMethod(), true, score);
+    }
+
+    /**
+     * Returns the odds of a progress roll condition that an asset ability
+     * adds to a move, or none if it only says when a bonus applies.
+     */
+    public static RollOdds[] progress(TriggerProgressRollConditionEnhancement condition, int score) {
+        boolean rolls = condition.getMethod() != null
+                || condition.getRollOptions() != null && !condition.getRollOptions().isEmpty();
+        return progress(condition.getMethod(), rolls, score);
+    }
+
+    private static RollOdds[] progress(ProgressRollMethod method, boolean rolls, int score) {
+        if (method == ProgressRollMethod.STRONG_HIT) {
+            return new RollOdds[] {RollOdds.STRONG_HIT};
+        }
+        if (method == ProgressRollMethod.WEAK_HIT) {
+            return new RollOdds[] {RollOdds.WEAK_HIT};
+        }
+        if (method == ProgressRollMethod.MISS) {
+            return new RollOdds[] {RollOdds.MISS};
+        }
+        return rolls ? new RollOdds[] {ActionRolls.progress(score)} : new RollOdds[0];
+    }
+
+    /**
+     * Returns the odds of a special track condition, rolling the scores of
+     * the tracks it names.
+     */
+    public static RollOdds[] specialTrack(TriggerSpecialTrackCondition condition, RollValues values) {
+        return specialTrack(condition.getMethod(), condition.getRollOptions(), values);
+    }
+
+    /**
+     * Returns the odds of a special track condition that an asset ability
+     * adds to a move.
+     */
+    public static RollOdds[] specialTrack(TriggerSpecialTrackConditionEnhancement condition, RollValues values) {
+        return specialTrack(condition.getMethod(), condition.getRollOptions(), values);
+    }
+
+    private static RollOdds[] specialTrack(SpecialTrackRollMethod method,
+            List<TriggerSpecialTrackConditionOption> rollOptions, RollValues values) {
+        if (method == SpecialTrackRollMethod.STRONG_HIT) {
+            return new RollOdds[] {RollOdds.STRONG_HIT};
+        }
+        if (method == SpecialTrackRollMethod.WEAK_HIT) {
+            return new RollOdds[] {RollOdds.WEAK_HIT};
+        }
+        if (method == SpecialTrackRollMethod.MISS) {
+            return new RollOdds[] {RollOdds.MISS};
+        }
+        List<TriggerSpecialTrackConditionOption> options = rollOptions == null ? List.of() : rollOptions;
+        int[] scores = new int[options.size()];
+        for (int i = 0; i < scores.length; i++) {
+            TriggerSpecialTrackConditionOption option = options.get(i);
+            scores[i] = option.getUsing() == null || option.getUsing().getValue() == null ? RollValues.NONE
+                    : values.specialTrack(option.getUsing().getValue().getValue());
+        }
+        int[] picked = pick(scores, method == SpecialTrackRollMethod.ALL, method == SpecialTrackRollMethod.LOWEST);
+        RollOdds[] odds = new RollOdds[picked.length];
+        for (int i = 0; i < picked.length; i++) {
+            odds[i] = ActionRolls.progress(picked[i]);
+        }
+        return odds;
+    }
+
+    /**
+     * Returns the scores that are rolled: every one the character has, or
+     * the highest or lowest of them.
+     */
+    private static int[] pick(int[] scores, boolean each, boolean lowest) {
+        int count = 0;
+        int best = RollValues.NONE;
+        for (int score : scores) {
+            if (score == RollValues.NONE) {
+                continue;
+            }
+            if (count++ == 0 || (lowest ? score < best : score > best)) {
+                best = score;
+            }
+        }
+        if (count == 0) {
+            return new int[0];
+        }
+        if (!each) {
+            return new int[] {best};
+        }
+        int[] picked = new int[count];
+        int i = 0;
+        for (int score : scores) {
+            if (score != RollValues.NONE) {
+                picked[i++] = score;
+            }
+        }
+        return picked;
+    }
+}
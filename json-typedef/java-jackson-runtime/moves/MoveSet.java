@@ -0,0 +1,141 @@
+package Datasworn.moves;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The moves and assets of a character who owns some assets and has some of
+ * their abilities enabled, as computed by {@link EffectiveMoves}.<p>
+ * Sets are immutable: {@link #withAsset} and {@link #withAbility} return
+ * another set, from the engine's cache if it's still there. Sets of one
+ * engine with the same assets and abilities are equal.
+ */
+public final class MoveSet {
+    private final EffectiveMoves engine;
+    private final long[] bits;
+    /** For each move handle, the move, or null if the character doesn't have it. */
+    private final EffectiveMove[] moves;
+    /** For each asset handle, the asset, or null if the character doesn't own it. */
+    private final EffectiveAsset[] assets;
+    private volatile List<EffectiveMove> moveList;
+
+    private MoveSet(EffectiveMoves engine, long[] bits, EffectiveMove[] moves, EffectiveAsset[] assets) {
+        this.engine = engine;
+        this.bits = bits;
+        this.moves = moves;
+        this.assets = assets;
+    }
+
+    static MoveSet of(EffectiveMoves engine, long[] bits, EffectiveMove[] moves, EffectiveAsset[] assets) {
+        return new MoveSet(engine, bits, moves, assets);
+    }
+
+    public EffectiveMoves engine() {
+        return engine;
+    }
+
+    /**
+     * Returns the set's owned assets, then enabled abilities, as a bitset
+     * that {@link EffectiveMoves#get(long[])} takes back.
+     */
+    public long[] key() {
+        return bits.clone();
+    }
+
+    public boolean owns(int asset) {
+        return engine.owns(bits, asset);
+    }
+
+    public boolean enabled(int ability) {
+        return engine.enabled(bits, ability);
+    }
+
+    /**
+     * Returns the set with an asset owned, and the abilities it starts with
+     * enabled, or without it.
+     */
+    public MoveSet withAsset(int asset, boolean owns) {
+        return engine.withAsset(this, asset, owns);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the ability's asset isn't owned.
+     */
+    public MoveSet withAbility(int ability, boolean enabled) {
+        return engine.withAbility(this, ability, enabled);
+    }
+
+    /**
+     * Returns a move by handle, or null if the character doesn't have it.
+     */
+    public EffectiveMove move(int move) {
+        return moves[move];
+    }
+
+    /**
+     * Returns a move by id, or null if there's no such move or the character
+     * doesn't have it.
+     */
+    public EffectiveMove move(String id) {
+        int move = engine.move(id);
+        return move < 0 ? null : moves[move];
+    }
+
+    /**
+     * Returns the moves the character has, in index order.
+     */
+    public List<EffectiveMove> moves() {
+        List<EffectiveMove> list = moveList;
+        if (list == null) {
+            list = new ArrayList<>();
+            for (EffectiveMove move : moves) {
+                if (move != null) {
+                    list.add(move);
+                }
+            }
+            list = Collections.unmodifiableList(list);
+            moveList = list;
+        }
+        return list;
+    }
+
+    /**
+     * Returns an asset by handle, or null if the character doesn't own it.
+     */
+    public EffectiveAsset asset(int asset) {
+        return assets[asset];
+    }
+
+    /**
+     * Returns an asset by id, or null if there's no such asset or the
+     * character doesn't own it.
+     */
+    public EffectiveAsset asset(String id) {
+        int asset = engine.asset(id);
+        return asset < 0 ? null : assets[asset];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof MoveSet && ((MoveSet) o).engine == engine && Arrays.equals(((MoveSet) o).bits, bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bits);
+    }
+
+    long[] bits() {
+        return bits;
+    }
+
+    EffectiveMove[] effectiveMoves() {
+        return moves;
+    }
+
+    EffectiveAsset[] effectiveAssets() {
+        return assets;
+    }
+}
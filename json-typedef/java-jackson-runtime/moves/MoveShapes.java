@@ -0,0 +1,179 @@
+package Datasworn.moves;
+
+import Datasworn.Move;
+import Datasworn.MoveActionRoll;
+import Datasworn.MoveEnhancement;
+import Datasworn.MoveEnhancementActionRoll;
+import Datasworn.MoveEnhancementNoRoll;
+import Datasworn.MoveEnhancementProgressRoll;
+import Datasworn.MoveEnhancementSpecialTrack;
+import Datasworn.MoveIdWildcard;
+import Datasworn.MoveNoRoll;
+import Datasworn.MoveProgressRoll;
+import Datasworn.MoveSpecialTrack;
+import Datasworn.TriggerActionRollCondition;
+import Datasworn.TriggerActionRollConditionEnhancement;
+import Datasworn.TriggerBy;
+import Datasworn.TriggerNoRollCondition;
+import Datasworn.TriggerProgressRollCondition;
+import Datasworn.TriggerProgressRollConditionEnhancement;
+import Datasworn.TriggerSpecialTrackCondition;
+import Datasworn.TriggerSpecialTrackConditionEnhancement;
+
+import java.util.List;
+
+/**
+ * The parts of moves and move enhancements that the move engines read.<p>
+ * The four kinds of move ({@code action_roll}, {@code no_roll},
+ * {@code progress_roll} and {@code special_track}) and the four kinds of
+ * enhancement share no type for their triggers, so they're told apart here.
+ */
+final class MoveShapes {
+    private MoveShapes() {
+    }
+
+    /**
+     * Returns a move's trigger conditions ({@code Trigger*Condition}).
+     */
+    static List<?> conditions(Move move) {
+        List<?> conditions = null;
+        if (move instanceof MoveActionRoll) {
+            MoveActionRoll m = (MoveActionRoll) move;
+            conditions = m.getTrigger() == null ? null : m.getTrigger().getConditions();
+        } else if (move instanceof MoveNoRoll) {
+            MoveNoRoll m = (MoveNoRoll) move;
+            conditions = m.getTrigger() == null ? null : m.getTrigger().getConditions();
+        } else if (move instanceof MoveProgressRoll) {
+            MoveProgressRoll m = (MoveProgressRoll) move;
+            conditions = m.getTrigger() == null ? null : m.getTrigger().getConditions();
+        } else if (move instanceof MoveSpecialTrack) {
+            MoveSpecialTrack m = (MoveSpecialTrack) move;
+            conditions = m.getTrigger() == null ? null : m.getTrigger().getConditions();
+        } else {
+            throw unknownMove(move);
+        }
+        return conditions == null ? List.of() : conditions;
+    }
+
+    /**
+     * Returns the trigger conditions an enhancement adds
+     * ({@code Trigger*ConditionEnhancement}, or {@code TriggerNoRollCondition}).
+     */
+    static List<?> conditions(MoveEnhancement enhancement) {
+        List<?> conditions = null;
+        if (enhancement instanceof MoveEnhancementActionRoll) {
+            MoveEnhancementActionRoll e = (MoveEnhancementActionRoll) enhancement;
+            conditions = e.getTrigger() == null ? null : e.getTrigger().getConditions();
+        } else if (enhancement instanceof MoveEnhancementNoRoll) {
+            MoveEnhancementNoRoll e = (MoveEnhancementNoRoll) enhancement;
+            conditions = e.getTrigger() == null ? null : e.getTrigger().getConditions();
+        } else if (enhancement instanceof MoveEnhancementProgressRoll) {
+            MoveEnhancementProgressRoll e = (MoveEnhancementProgressRoll) enhancement;
+            conditions = e.getTrigger() == null ? null : e.getTrigger().getConditions();
+        } else if (enhancement instanceof MoveEnhancementSpecialTrack) {
+            MoveEnhancementSpecialTrack e = (MoveEnhancementSpecialTrack) enhancement;
+            conditions = e.getTrigger() == null ? null : e.getTrigger().getConditions();
+        } else {
+            throw unknownEnhancement(enhancement);
+        }
+        return conditions == null ? List.of() : conditions;
+    }
+
+    /**
+     * Returns the wildcards of the moves an enhancement applies to, or null
+     * if it applies to every move of its kind.
+     */
+    static List<MoveIdWildcard> enhances(MoveEnhancement enhancement) {
+        if (enhancement instanceof MoveEnhancementActionRoll) {
+            return ((MoveEnhancementActionRoll) enhancement).getEnhances();
+        }
+        if (enhancement instanceof MoveEnhancementNoRoll) {
+            return ((MoveEnhancementNoRoll) enhancement).getEnhances();
+        }
+        if (enhancement instanceof MoveEnhancementProgressRoll) {
+            return ((MoveEnhancementProgressRoll) enhancement).getEnhances();
+        }
+        if (enhancement instanceof MoveEnhancementSpecialTrack) {
+            return ((MoveEnhancementSpecialTrack) enhancement).getEnhances();
+        }
+        throw unknownEnhancement(enhancement);
+    }
+
+    /**
+     * Whether an enhancement is of the same kind as a move, which it must be
+     * to apply to it.
+     */
+    static boolean sameKind(MoveEnhancement enhancement, Move move) {
+        return enhancement instanceof MoveEnhancementActionRoll && move instanceof MoveActionRoll
+                || enhancement instanceof MoveEnhancementNoRoll && move instanceof MoveNoRoll
+                || enhancement instanceof MoveEnhancementProgressRoll && move instanceof MoveProgressRoll
+                || enhancement instanceof MoveEnhancementSpecialTrack && move instanceof MoveSpecialTrack;
+    }
+
+    /**
+     * Returns a trigger condition's roll options: {@code RollableValue}s,
+     * {@code ProgressRollOption}s or {@code TriggerSpecialTrackConditionOption}s.
+     */
+    static List<?> rollOptions(Object condition) {
+        List<?> options;
+        if (condition instanceof TriggerActionRollCondition) {
+            options = ((TriggerActionRollCondition) condition).getRollOptions();
+        } else if (condition instanceof TriggerActionRollConditionEnhancement) {
+            options = ((TriggerActionRollConditionEnhancement) condition).getRollOptions();
+        } else if (condition instanceof TriggerProgressRollCondition) {
+            options = ((TriggerProgressRollCondition) condition).getRollOptions();
+        } else if (condition instanceof TriggerProgressRollConditionEnhancement) {
+            options = ((TriggerProgressRollConditionEnhancement) condition).getRollOptions();
+        } else if (condition instanceof TriggerSpecialTrackCondition) {
+            options = ((TriggerSpecialTrackCondition) condition).getRollOptions();
+        } else if (condition instanceof TriggerSpecialTrackConditionEnhancement) {
+            options = ((TriggerSpecialTrackConditionEnhancement) condition).getRollOptions();
+        } else if (condition instanceof TriggerNoRollCondition) {
+            options = null;
+        } else {
+            throw unknownCondition(condition);
+        }
+        return options == null ? List.of() : options;
+    }
+
+    /**
+     * Returns who can activate a trigger condition, or null if it doesn't
+     * say.
+     */
+    static TriggerBy by(Object condition) {
+        if (condition instanceof TriggerActionRollCondition) {
+            return ((TriggerActionRollCondition) condition).getBy();
+        }
+        if (condition instanceof TriggerActionRollConditionEnhancement) {
+            return ((TriggerActionRollConditionEnhancement) condition).getBy();
+        }
+        if (condition instanceof TriggerProgressRollCondition) {
+            return ((TriggerProgressRollCondition) condition).getBy();
+        }
+        if (condition instanceof TriggerProgressRollConditionEnhancement) {
+            return ((TriggerProgressRollConditionEnhancement) condition).getBy();
+        }
+        if (condition instanceof TriggerSpecialTrackCondition) {
+            return ((TriggerSpecialTrackCondition) condition).getBy();
+        }
+        if (condition instanceof TriggerSpecialTrackConditionEnhancement) {
+            return ((TriggerSpecialTrackConditionEnhancement) condition).getBy();
+        }
+        if (condition instanceof TriggerNoRollCondition) {
+            return ((TriggerNoRollCondition) condition).getBy();
+        }
+        throw unknownCondition(condition);
+    }
+
+    private static IllegalArgumentException unknownMove(Move move) {
+        return new IllegalArgumentException("Unknown Move subtype " + move.getClass().getName());
+    }
+
+    private static IllegalArgumentException unknownEnhancement(MoveEnhancement enhancement) {
+        return new IllegalArgumentException("Unknown MoveEnhancement subtype " + enhancement.getClass().getName());
+    }
+
+    private static IllegalArgumentException unknownCondition(Object condition) {
+        return new IllegalArgumentException("Unknown trigger condition " + condition.getClass().getName());
+    }
+}
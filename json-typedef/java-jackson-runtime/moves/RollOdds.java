@@ -0,0 +1,108 @@
+package Datasworn.moves;
+
+/**
+ * The exact odds of each outcome of one roll: a strong hit, a weak hit or a
+ * miss, and whether the challenge dice match.<p>
+ * Odds are kept as whole numbers of equally likely ways out of
+ * {@link #total()}, such as 600 for an action roll (a d6 and two d10s), so
+ * they compare and add up exactly. A match can only come with a strong hit
+ * or a miss, since both challenge dice show the same number. Odds are
+ * immutable; the ones {@link ActionRolls} returns are computed once and
+ * shared.
+ */
+public final class RollOdds {
+    /** An automatic strong hit, such as a {@code strong_hit} roll method. */
+    public static final RollOdds STRONG_HIT = new RollOdds(1, 0, 0, 0, 0, 1);
+    public static final RollOdds WEAK_HIT = new RollOdds(0, 1, 0, 0, 0, 1);
+    public static final RollOdds MISS = new RollOdds(0, 0, 1, 0, 0, 1);
+
+    private final int strongHits;
+    private final int weakHits;
+    private final int misses;
+    private final int strongHitMatches;
+    private final int missMatches;
+    private final int total;
+
+    RollOdds(int strongHits, int weakHits, int misses, int strongHitMatches, int missMatches, int total) {
+        this.strongHits = strongHits;
+        this.weakHits = weakHits;
+        this.misses = misses;
+        this.strongHitMatches = strongHitMatches;
+        this.missMatches = missMatches;
+        this.total = total;
+    }
+
+    /**
+     * Returns the number of equally likely ways the roll can come out.
+     */
+    public int total() {
+        return total;
+    }
+
+    /**
+     * Returns the number of ways to get a strong hit, matches included.
+     */
+    public int strongHits() {
+        return strongHits;
+    }
+
+    public int weakHits() {
+        return weakHits;
+    }
+
+    /**
+     * Returns the number of ways to miss, matches included.
+     */
+    public int misses() {
+        return misses;
+    }
+
+    public int strongHitMatches() {
+        return strongHitMatches;
+    }
+
+    public int missMatches() {
+        return missMatches;
+    }
+
+    public double strongHit() {
+        return (double) strongHits / total;
+    }
+
+    public double weakHit() {
+        return (double) weakHits / total;
+    }
+
+    public double miss() {
+        return (double) misses / total;
+    }
+
+    /**
+     * Returns the probability of a strong or weak hit.
+     */
+    public double hit() {
+        return (double) (strongHits + weakHits) / total;
+    }
+
+    /**
+     * Returns the probability that the challenge dice match, whatever the
+     * outcome.
+     */
+    public double match() {
+        return (double) (strongHitMatches + missMatches) / total;
+    }
+
+    public double strongHitMatch() {
+        return (double) strongHitMatches / total;
+    }
+
+    public double missMatch() {
+        return (double) missMatches / total;
+    }
+
+    @Override
+    public String toString() {
+        return "RollOdds[strong " + strongHits + ", weak " + weakHits + ", miss " + misses + ", match "
+                + (strongHitMatches + missMatches) + " / " + total + "]";
+    }
+}
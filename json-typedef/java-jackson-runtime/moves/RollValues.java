@@ -0,0 +1,26 @@
+package Datasworn.moves;
+
+import Datasworn.RollableValue;
+
+/**
+ * Where the values a move rolls with come from: a character's stats, meters
+ * and assets, and their special tracks.
+ */
+public interface RollValues {
+    /** A value the character doesn't have, such as a control of an asset they don't own. */
+    int NONE = Integer.MIN_VALUE;
+
+    /**
+     * Returns the value of a roll option, or {@link #NONE}. Options of type
+     * {@code custom} carry their own value and aren't passed here.
+     */
+    int value(RollableValue option);
+
+    /**
+     * Returns the progress score of a special track, such as
+     * {@code bonds_legacy}, or {@link #NONE}.
+     */
+    default int specialTrack(String track) {
+        return NONE;
+    }
+}
@@ -0,0 +1,273 @@
+package Datasworn.moves;
+
+import Datasworn.DictKey;
+import Datasworn.MoveEnhancement;
+import Datasworn.ProgressRollOption;
+import Datasworn.RollableValue;
+import Datasworn.RollableValueAssetControl;
+import Datasworn.RollableValueAssetOption;
+import Datasworn.RollableValueAttachedAssetControl;
+import Datasworn.RollableValueAttachedAssetOption;
+import Datasworn.RollableValueConditionMeter;
+import Datasworn.RollableValueStat;
+import Datasworn.TriggerBy;
+import Datasworn.TriggerSpecialTrackConditionOption;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Which moves roll with a stat, condition meter, asset control or option,
+ * progress track or special track.<p>
+ * Each trigger condition of each move in an {@link EffectiveMoves} is
+ * indexed once under every roll option it has, as a kind (such as
+ * {@link #STAT}) and a key (such as {@code iron}), and so is each condition
+ * that an asset ability's {@code enhance_moves} adds, along with that
+ * ability. Looking up a key for a {@link MoveSet} then walks only the uses
+ * of that key and keeps those whose move the character has and whose
+ * ability they've enabled, so enabling an ability brings its conditions
+ * into the results without anything being reindexed. Uses are in the order
+ * of the moves, then of {@link EffectiveMove#conditions()}. Custom roll
+ * options, which are constants, aren't indexed. Indexes are immutable and
+ * safe to share between threads.
+ * <pre>
+ * TriggerIndex triggers = TriggerIndex.of(engine);
+ * for (EffectiveMove move : triggers.moves(set, TriggerIndex.STAT, "iron", false)) {
+ *     ...
+ * }
+ * </pre>
+ */
+public final class TriggerIndex {
+    public static final String STAT = "stat";
+    public static final String CONDITION_METER = "condition_meter";
+    public static final String ASSET_CONTROL = "asset_control";
+    public static final String ASSET_OPTION = "asset_option";
+    public static final String ATTACHED_ASSET_CONTROL = "attached_asset_control";
+    public static final String ATTACHED_ASSET_OPTION = "attached_asset_option";
+    /** The kind of progress roll options, whose only key is {@link #PROGRESS_TRACK}. */
+    public static final String PROGRESS = "progress";
+    public static final String PROGRESS_TRACK = "progress_track";
+    public static final String SPECIAL_TRACK = "special_track";
+
+    private final EffectiveMoves engine;
+    /** For each kind, the uses of each key. */
+    private final Map<String, Map<String, Use[]>> uses;
+    private final Map<String, Set<String>> keys;
+
+    private TriggerIndex(EffectiveMoves engine) {
+        this.engine = engine;
+        Map<String, Map<String, List<Use>>> found = new HashMap<>();
+        Map<String, Set<String>> keys = new HashMap<>();
+        Set<Map.Entry<String, String>> conditionKeys = new LinkedHashSet<>();
+        for (int move = 0; move < engine.moves(); move++) {
+            for (Object condition : MoveShapes.conditions(engine.base(move).move())) {
+                index(move, -1, condition, conditionKeys, found, keys);
+            }
+            int[] enhancers = engine.enhancers(move);
+            MoveEnhancement[] enhancements = engine.enhancements(move);
+            for (int i = 0; i < enhancers.length; i++) {
+                for (Object condition : MoveShapes.conditions(enhancements[i])) {
+                    index(move, enhancers[i], condition, conditionKeys, found, keys);
+                }
+            }
+        }
+        Map<String, Map<String, Use[]>> uses = new HashMap<>();
+        found.forEach((kind, byKey) -> {
+            Map<String, Use[]> kindUses = new HashMap<>();
+            byKey.forEach((key, list) -> kindUses.put(key, list.toArray(new Use[0])));
+            uses.put(kind, kindUses);
+        });
+        this.uses = uses;
+        Map<String, Set<String>> sorted = new HashMap<>();
+        keys.forEach((kind, set) -> sorted.put(kind, Collections.unmodifiableSet(new TreeSet<>(set))));
+        this.keys = sorted;
+    }
+
+    public static TriggerIndex of(EffectiveMoves engine) {
+        return new TriggerIndex(engine);
+    }
+
+    public EffectiveMoves engine() {
+        return engine;
+    }
+
+    /**
+     * Returns the keys of a kind that some move rolls with, sorted.
+     */
+    public Set<String> keys(String kind) {
+        return keys.getOrDefault(kind, Set.of());
+    }
+
+    /**
+     * Returns every use of a key, whether or not a character has the move
+     * or the ability that adds the condition.
+     */
+    public List<Use> uses(String kind, String key) {
+        Use[] all = find(kind, key);
+        return all == null ? List.of() : Collections.unmodifiableList(Arrays.asList(all));
+    }
+
+    /**
+     * Returns the uses of a key in a character's moves and enabled
+     * abilities.
+     */
+    public List<Use> uses(MoveSet set, String kind, String key) {
+        Use[] all = find(kind, key);
+        if (all == null) {
+            return List.of();
+        }
+        List<Use> found = new ArrayList<>();
+        for (Use use : all) {
+            if (active(set, use)) {
+                found.add(use);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the moves of a character that can roll with a key, once each:
+     * those with a condition the player can activate, or an ally can if
+     * {@code ally} is true.
+     */
+    public List<EffectiveMove> moves(MoveSet set, String kind, String key, boolean ally) {
+        Use[] all = find(kind, key);
+        if (all == null) {
+            return List.of();
+        }
+        List<EffectiveMove> found = new ArrayList<>();
+        int last = -1;
+        for (Use use : all) {
+            if (use.move != last && (ally ? use.ally : use.player) && active(set, use)) {
+                found.add(set.move(use.move));
+                last = use.move;
+            }
+        }
+        return found;
+    }
+
+    private Use[] find(String kind, String key) {
+        Map<String, Use[]> kindUses = uses.get(kind);
+        return kindUses == null ? null : kindUses.get(key);
+    }
+
+    private static boolean active(MoveSet set, Use use) {
+        return set.move(use.move) != null && (use.source < 0 || set.enabled(use.source));
+    }
+
+    private static void index(int move, int source, Object condition, Set<Map.Entry<String, String>> conditionKeys,
+            Map<String, Map<String, List<Use>>> found, Map<String, Set<String>> keys) {
+        conditionKeys.clear();
+        for (Object option : MoveShapes.rollOptions(condition)) {
+            String kind = null;
+            String key = null;
+            if (option instanceof RollableValue) {
+                RollableValue value = (RollableValue) option;
+                if (value instanceof RollableValueStat) {
+                    RollableValueStat stat = (RollableValueStat) value;
+                    kind = STAT;
+                    key = stat.getStat() == null ? null : dictKey(stat.getStat().getValue());
+                } else if (value instanceof RollableValueConditionMeter) {
+                    RollableValueConditionMeter meter = (RollableValueConditionMeter) value;
+                    kind = CONDITION_METER;
+                    key = meter.getConditionMeter() == null ? null : dictKey(meter.getConditionMeter().getValue());
+                } else if (value instanceof RollableValueAssetControl) {
+                    kind = ASSET_CONTROL;
+                    key = dictKey(((RollableValueAssetControl) value).getControl());
+                } else if (value instanceof RollableValueAssetOption) {
+                    kind = ASSET_OPTION;
+                    key = dictKey(((RollableValueAssetOption) value).getOption());
+                } else if (value instanceof RollableValueAttachedAssetControl) {
+                    kind = ATTACHED_ASSET_CONTROL;
+                    key = dictKey(((RollableValueAttachedAssetControl) value).getControl());
+                } else if (value instanceof RollableValueAttachedAssetOption) {
+                    kind = ATTACHED_ASSET_OPTION;
+                    key = dictKey(((RollableValueAttachedAssetOption) value).getOption());
+                }
+            } else if (option instanceof ProgressRollOption) {
+                ProgressRollOption progress = (ProgressRollOption) option;
+                kind = PROGRESS;
+                key = progress.getUsing() == null ? null : PROGRESS_TRACK;
+            } else if (option instanceof TriggerSpecialTrackConditionOption) {
+                TriggerSpecialTrackConditionOption track = (TriggerSpecialTrackConditionOption) option;
+                kind = SPECIAL_TRACK;
+                key = track.getUsing() == null ? null : dictKey(track.getUsing().getValue());
+            }
+            if (kind != null && key != null && conditionKeys.add(Map.entry(kind, key))) {
+                keys.computeIfAbsent(kind, k -> new LinkedHashSet<>()).add(key);
+            }
+        }
+        if (conditionKeys.isEmpty()) {
+            return;
+        }
+        TriggerBy by = MoveShapes.by(condition);
+        boolean player = by == null || by.getPlayer() == null || by.getPlayer();
+        boolean ally = by != null && Boolean.TRUE.equals(by.getAlly());
+        for (Map.Entry<String, String> key : conditionKeys) {
+            found.computeIfAbsent(key.getKey(), k -> new HashMap<>())
+                    .computeIfAbsent(key.getValue(), k -> new ArrayList<>())
+                    .add(new Use(move, source, condition, player, ally));
+        }
+    }
+
+    private static String dictKey(DictKey key) {
+        return key == null ? null : key.getValue();
+    }
+
+    /**
+     * A trigger condition that rolls with a key.
+     */
+    public static final class Use {
+        private final int move;
+        private final int source;
+        private final Object condition;
+        private final boolean player;
+        private final boolean ally;
+
+        private Use(int move, int source, Object condition, boolean player, boolean ally) {
+            this.move = move;
+            this.source = source;
+            this.condition = condition;
+            this.player = player;
+            this.ally = ally;
+        }
+
+        /**
+         * Returns the move's handle in the {@link EffectiveMoves}.
+         */
+        public int move() {
+            return move;
+        }
+
+        /**
+         * Returns the ability whose enhancement adds the condition, or -1 if
+         * it's the move's own.
+         */
+        public int source() {
+            return source;
+        }
+
+        /**
+         * Returns the condition: a {@code Trigger*Condition} or
+         * {@code Trigger*ConditionEnhancement}.
+         */
+        public Object condition() {
+            return condition;
+        }
+
+        public boolean player() {
+            return player;
+        }
+
+        public boolean ally() {
+            return ally;
+        }
+    }
+}
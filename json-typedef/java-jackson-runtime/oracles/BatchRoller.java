@@ -0,0 +1,169 @@
+package Datasworn.oracles;
+
+import Datasworn.OracleRollableId;
+
+import java.nio.IntBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Rolls oracle tables in bulk, such as when pre-generating pools of sectors,
+ * NPCs or names.<p>
+ * Results are row indexes, written to an {@code int[]} or {@link IntBuffer};
+ * turn them into text with {@link RollableTable#text(int)} only for the ones
+ * that are needed. The work is split into chunks of {@link #CHUNK} samples,
+ * rolled on a fork-join pool. Each chunk has its own {@link SplittableRandom},
+ * split in order from one seeded at the start, so the same seed gives the
+ * same results however many threads do the work.
+ * <pre>
+ * BatchRoller roller = BatchRoller.of(tables);
+ * int[] rows = roller.rollMany("starforged/oracles/characters/name/given", 1_000_000, seed);
+ * </pre>
+ */
+public final class BatchRoller {
+    public static final int CHUNK = 4096;
+
+    private final OracleTables tables;
+    private final ForkJoinPool pool;
+
+    private BatchRoller(OracleTables tables, ForkJoinPool pool) {
+        this.tables = tables;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns a roller that works on the common fork-join pool.
+     */
+    public static BatchRoller of(OracleTables tables) {
+        return of(tables, ForkJoinPool.commonPool());
+    }
+
+    public static BatchRoller of(OracleTables tables, ForkJoinPool pool) {
+        return new BatchRoller(tables, pool);
+    }
+
+    /**
+     * Rolls a table {@code n} times.
+     *
+     * @return the index of the row rolled each time, or -1 where a roll
+     *         landed in a gap.
+     * @throws IllegalArgumentException if there's no table with that ID.
+     */
+    public int[] rollMany(OracleRollableId id, int n, long seed) {
+        return rollMany(id.getValue(), n, seed);
+    }
+
+    public int[] rollMany(String id, int n, long seed) {
+        int table = tables.handle(id);
+        if (table < 0) {
+            throw new IllegalArgumentException("Unknown oracle table " + id);
+        }
+        return rollMany(new int[] {table}, n, seed);
+    }
+
+    /**
+     * Rolls each table with the given handles {@code n} times, such as every
+     * table that makes up a settlement.
+     *
+     * @return the rows, sample by sample: sample {@code i}'s roll on
+     *         {@code tables[j]} is at {@code i * tables.length + j}.
+     */
+    public int[] rollMany(int[] tables, int n, long seed) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Negative number of rolls " + n);
+        }
+        int[] out = new int[Math.multiplyExact(n, tables.length)];
+        run(tables, n, seed, out, 0, null);
+        return out;
+    }
+
+    /**
+     * Rolls each table with the given handles once per sample, for as many
+     * samples as fit in the buffer's remaining space, laid out as by
+     * {@link #rollMany(int[], int, long)}. The buffer's position is moved past
+     * the results.
+     *
+     * @return the number of samples rolled.
+     */
+    public int rollMany(int[] tables, IntBuffer out, long seed) {
+        if (tables.length == 0) {
+            return 0;
+        }
+        int n = out.remaining() / tables.length;
+        if (out.hasArray()) {
+            run(tables, n, seed, out.array(), out.arrayOffset() + out.position(), null);
+        } else {
+            run(tables, n, seed, null, out.position(), out);
+        }
+        out.position(out.position() + n * tables.length);
+        return n;
+    }
+
+    private void run(int[] handles, int n, long seed, int[] array, int offset, IntBuffer buffer) {
+        RollableTable[] targets = new RollableTable[handles.length];
+        for (int j = 0; j < handles.length; j++) {
+            targets[j] = tables.table(handles[j]);
+        }
+        int chunks = (n + CHUNK - 1) / CHUNK;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[chunks];
+        for (int c = 0; c < chunks; c++) {
+            randoms[c] = root.split();
+        }
+        if (chunks > 0) {
+            pool.invoke(new Chunks(targets, randoms, n, array, offset, buffer, 0, chunks));
+        }
+    }
+
+    /**
+     * Rolls a range of chunks, halving it until one chunk is left.
+     */
+    private static final class Chunks extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final RollableTable[] targets;
+        private final SplittableRandom[] randoms;
+        private final int n;
+        private final int[] array;
+        private final int offset;
+        private final IntBuffer buffer;
+        private final int from;
+        private final int to;
+
+        Chunks(RollableTable[] targets, SplittableRandom[] randoms, int n, int[] array, int offset, IntBuffer buffer,
+                int from, int to) {
+            this.targets = targets;
+            this.randoms = randoms;
+            this.n = n;
+            this.array = array;
+            this.offset = offset;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Chunks(targets, randoms, n, array, offset, buffer, from, middle),
+                        new Chunks(targets, randoms, n, array, offset, buffer, middle, to));
+                return;
+            }
+            int samples = Math.min(CHUNK, n - from * CHUNK);
+            int start = from * CHUNK * targets.length;
+            int[] out = array != null ? array : new int[samples * targets.length];
+            int i = array != null ? offset + start : 0;
+            SplittableRandom random = randoms[from];
+            for (int sample = 0; sample < samples; sample++) {
+                for (RollableTable target : targets) {
+                    out[i++] = target.roll(random);
+                }
+            }
+            if (buffer != null) {
+                buffer.put(offset + start, out);
+            }
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package Datasworn.oracles;
+
+import Datasworn.DelveSite;
+import Datasworn.DelveSiteDenizen;
+import Datasworn.DelveSiteDomain;
+import Datasworn.DelveSiteTheme;
+import Datasworn.OracleTableRowText;
+import Datasworn.index.DataswornIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
+
+/**
+ * Rolls the features, dangers and denizens of delve sites.<p>
+ * A site's features are its theme's rows followed by its domain's, which
+ * together cover the d100; its dangers are the theme's and domain's, with
+ * the rest of the d100 taken from the rows of
+ * {@value #DANGERS} that don't stand for them. Each theme and domain pair is
+ * merged once into a {@link RollableTable}, cached and shared by every site
+ * with that pair, so rolling on a site is one random number and one array
+ * load, as for any other table. Denizens are compiled the same way, and
+ * their {@code npc}s are looked up in the index when the site is compiled;
+ * references to NPCs that don't exist are listed by {@link #unresolved()}.
+ * <pre>
+ * DelveSiteGenerator sites = DelveSiteGenerator.of(index, tables);
+ * DelveSiteGenerator.Site site = sites.site("delve/delve_sites/alvas_rest");
+ * String feature = site.features().text(site.features().roll(random));
+ * Object npc = site.npc(site.rollDenizen(random));
+ * </pre>
+ */
+public final class DelveSiteGenerator {
+    /** The table that the dangers of every theme and domain are rolled on. */
+    public static final String DANGERS = "delve/oracles/moves/reveal_a_danger";
+
+    private static final Dice D100 = Dice.parse("1d100");
+
+    private final DataswornIndex index;
+    private final RollableTable dangers;
+    private final Map<String, Site> sites;
+    private final List<String> unresolved;
+    /** The merged features and dangers of each theme and domain pair. */
+    private final Map<String, RollableTable[]> pairs = new ConcurrentHashMap<>();
+
+    private DelveSiteGenerator(DataswornIndex index, RollableTable dangers, List<DelveSite> sources) {
+        this.index = index;
+        this.dangers = dangers;
+        Map<String, Site> sites = new HashMap<>();
+        List<String> unresolved = new ArrayList<>();
+        for (DelveSite source : sources) {
+            Site site = compile(source, unresolved);
+            sites.put(site.id(), site);
+        }
+        this.sites = Map.copyOf(sites);
+        this.unresolved = List.copyOf(unresolved);
+    }
+
+    /**
+     * Compiles every {@code DelveSite} in the index.
+     *
+     * @throws IllegalArgumentException if a site's theme or domain doesn't
+     *                                  exist, or their rows or its denizens
+     *                                  overlap or fall outside the d100.
+     */
+    public static DelveSiteGenerator of(DataswornIndex index, OracleTables tables) {
+        List<DelveSite> sources = new ArrayList<>();
+        for (int handle = 0; handle < index.size(); handle++) {
+            Object node = index.get(index.id(handle));
+            if (node instanceof DelveSite) {
+                sources.add((DelveSite) node);
+            }
+        }
+        return new DelveSiteGenerator(index, tables.get(DANGERS), sources);
+    }
+
+    /**
+     * Returns the site with the given ID, or null if there's none.
+     */
+    public Site site(String id) {
+        return sites.get(id);
+    }
+
+    /**
+     * Returns the {@code npc} references of denizens that aren't in the
+     * index.
+     */
+    public List<String> unresolved() {
+        return unresolved;
+    }
+
+    /**
+     * Returns the features of a theme and domain, such as ones rolled on the
+     * site nature oracles, merged into one table.
+     *
+     * @throws IllegalArgumentException if the theme or domain doesn't exist,
+     *                                  or their rows overlap.
+     */
+    public RollableTable features(String theme, String domain) {
+        return pair(theme, domain)[0];
+    }
+
+    /**
+     * Returns the dangers of a theme and domain, merged into one table with
+     * the rest of {@value #DANGERS}.
+     *
+     * @throws IllegalArgumentException if the theme or domain doesn't exist,
+     *                                  or their rows overlap.
+     */
+    public RollableTable dangers(String theme, String domain) {
+        return pair(theme, domain)[1];
+    }
+
+    private RollableTable[] pair(String theme, String domain) {
+        RollableTable[] pair = pairs.get(theme + '\n' + domain);
+        if (pair == null) {
+            pair = pairs.computeIfAbsent(theme + '\n' + domain, key -> merge(theme, domain));
+        }
+        return pair;
+    }
+
+    private RollableTable[] merge(String themeId, String domainId) {
+        DelveSiteTheme theme = index.get(themeId, DelveSiteTheme.class);
+        DelveSiteDomain domain = index.get(domainId, DelveSiteDomain.class);
+        if (theme == null || domain == null) {
+            throw new IllegalArgumentException("Unknown delve site theme or domain " + (theme == null ? themeId
+                    : domainId));
+        }
+        List<OracleTableRowText> features = new ArrayList<>();
+        addAll(features, theme.getFeatures());
+        addAll(features, domain.getFeatures());
+        List<Object> dangerRows = new ArrayList<>();
+        addAll(dangerRows, theme.getDangers());
+        addAll(dangerRows, domain.getDangers());
+        if (dangers != null) {
+            // Rows of the move's table that stand for the theme and domain are left out.
+            RollableTable own = RollableTable.of(null, D100, dangerRows);
+            for (int row = 0; row < dangers.rows(); row++) {
+                Object danger = dangers.row(row);
+                if (free(own, OracleShapes.min(danger), OracleShapes.max(danger))) {
+                    dangerRows.add(danger);
+                }
+            }
+        }
+        String id = themeId + "+" + domainId;
+        return new RollableTable[] {
+            RollableTable.of(id + "/features", D100, features),
+            RollableTable.of(id + "/dangers", D100, dangerRows),
+        };
+    }
+
+    private static boolean free(RollableTable table, Short min, Short max) {
+        if (min == null || max == null) {
+            return false;
+        }
+        for (int roll = min; roll <= max; roll++) {
+            if (table.rowFor(roll) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T> void addAll(List<? super T> rows, List<T> more) {
+        if (more != null) {
+            rows.addAll(more);
+        }
+    }
+
+    private Site compile(DelveSite source, List<String> unresolved) {
+        String id = source.getId() == null ? null : source.getId().getValue();
+        if (source.getTheme() == null || source.getDomain() == null) {
+            throw new IllegalArgumentException("Delve site " + id + " has no theme or domain");
+        }
+        RollableTable[] pair = pair(source.getTheme().getValue(), source.getDomain().getValue());
+        List<DelveSiteDenizen> denizens = source.getDenizens() == null ? List.of() : source.getDenizens();
+        if (denizens.size() > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Delve site " + id + " has too many denizens");
+        }
+        byte[] lookup = new byte[D100.range()];
+        Arrays.fill(lookup, (byte) -1);
+        Object[] npcs = new Object[denizens.size()];
+        for (int denizen = 0; denizen < denizens.size(); denizen++) {
+            DelveSiteDenizen value = denizens.get(denizen);
+            if (value.getNpc() != null) {
+                npcs[denizen] = index.get(value.getNpc().getValue());
+                if (npcs[denizen] == null) {
+                    unresolved.add(id + " -> " + value.getNpc().getValue());
+                }
+            }
+            Short min = value.getMin();
+            Short max = value.getMax();
+            if (min == null || max == null) {
+                continue;
+            }
+            if (min < D100.min() || max > D100.max() || min > max) {
+                throw new IllegalArgumentException("Denizen " + denizen + " of delve site " + id + " has range "
+                        + min + "-" + max + ", outside " + D100);
+            }
+            for (int roll = min; roll <= max; roll++) {
+                if (lookup[roll - D100.min()] >= 0) {
+                    throw new IllegalArgumentException("Denizens " + lookup[roll - D100.min()] + " and " + denizen
+                            + " of delve site " + id + " overlap at " + roll);
+                }
+                lookup[roll - D100.min()] = (byte) denizen;
+            }
+        }
+        return new Site(id, source, pair[0], pair[1], denizens.toArray(new DelveSiteDenizen[0]), lookup, npcs);
+    }
+
+    /**
+     * A compiled delve site. Sites are immutable and safe to share between
+     * threads.
+     */
+    public static final class Site {
+        private final String id;
+        private final DelveSite source;
+        private final RollableTable features;
+        private final RollableTable dangers;
+        private final DelveSiteDenizen[] denizens;
+        /** The denizen for each roll from 1, or -1. */
+        private final byte[] lookup;
+        private final Object[] npcs;
+
+        Site(String id, DelveSite source, RollableTable features, RollableTable dangers, DelveSiteDenizen[] denizens,
+                byte[] lookup, Object[] npcs) {
+            this.id = id;
+            this.source = source;
+            this.features = features;
+            this.dangers = dangers;
+            this.denizens = denizens;
+            this.lookup = lookup;
+            this.npcs = npcs;
+        }
+
+        public String id() {
+            return id;
+        }
+
+        public DelveSite source() {
+            return source;
+        }
+
+        /**
+         * Returns the features of the site's theme and domain.
+         */
+        public RollableTable features() {
+            return features;
+        }
+
+        /**
+         * Returns the dangers of the site's theme and domain, and the rest of
+         * {@value DelveSiteGenerator#DANGERS}.
+         */
+        public RollableTable dangers() {
+            return dangers;
+        }
+
+        /**
+         * Returns the number of denizens.
+         */
+        public int denizens() {
+            return denizens.length;
+        }
+
+        public DelveSiteDenizen denizen(int denizen) {
+            return denizens[denizen];
+        }
+
+        /**
+         * Returns the index of the denizen that {@code roll} lands on, or -1.
+         */
+        public int denizenFor(int roll) {
+            int offset = roll - D100.min();
+            return offset < 0 || offset >= lookup.length ? -1 : lookup[offset];
+        }
+
+        /**
+         * Rolls the denizen table and returns the index of the denizen
+         * rolled, or -1 if the roll landed in a gap.
+         */
+        public int rollDenizen(RandomGenerator random) {
+            return lookup[D100.roll(random) - D100.min()];
+        }
+
+        /**
+         * Returns the NPC a denizen refers to, or null if it has none (a
+         * slot for the player to fill) or it isn't in the index.
+         */
+        public Object npc(int denizen) {
+            return denizen < 0 ? null : npcs[denizen];
+        }
+
+        @Override
+        public String toString() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package Datasworn.oracles;
+
+import Datasworn.DiceExpression;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
+
+/**
+ * A compiled {@code DiceExpression}: {@code NdS}, optionally followed by
+ * {@code +M} or {@code -M}, such as {@code 1d100}, {@code 2d6} or
+ * {@code 1d10+2}. The count may be left out, as in {@code d6}.<p>
+ * Expressions are parsed once and cached by their text, so every table,
+ * truth and {@code OracleRoll} with the same dice shares one instance. The
+ * cache stops growing at {@value #MAX_CACHED} expressions, far more than the
+ * packages use, so that parsing dice from callers can't fill it; later
+ * expressions are parsed each time. Rolling doesn't allocate. Dice are immutable and safe to share between
+ * threads.
+ */
+public final class Dice {
+    /** The most dice one expression may roll, which keeps totals far from overflowing. */
+    public static final int MAX_COUNT = 1000;
+    public static final int MAX_SIDES = 10000;
+    /** The most expressions kept in the cache. */
+    public static final int MAX_CACHED = 1024;
+
+    private static final Map<String, Dice> CACHE = new ConcurrentHashMap<>();
+
+    private final String expression;
+    private final int count;
+    private final int sides;
+    private final int modifier;
+    private volatile double[] distribution;
+
+    private Dice(String expression, int count, int sides, int modifier) {
+        this.expression = expression;
+        this.count = count;
+        this.sides = sides;
+        this.modifier = modifier;
+    }
+
+    /**
+     * Returns the compiled dice for an expression, parsing it the first time
+     * it's seen, or every time once the cache is full.
+     *
+     * @throws IllegalArgumentException if the expression isn't
+     *                                  {@code [N]dS[+M|-M]}.
+     */
+    public static Dice parse(String expression) {
+        Dice dice = CACHE.get(expression);
+        if (dice == null) {
+            dice = CACHE.size() < MAX_CACHED ? CACHE.computeIfAbsent(expression, Dice::compile) : compile(expression);
+        }
+        return dice;
+    }
+
+    /**
+     * Returns the number of cached expressions.
+     */
+    static int cached() {
+        return CACHE.size();
+    }
+
+    public static Dice of(DiceExpression expression) {
+        if (expression == null || expression.getValue() == null) {
+            throw new IllegalArgumentException("Missing dice expression");
+        }
+        return parse(expression.getValue());
+    }
+
+    /**
+     * Returns the number of dice rolled.
+     */
+    public int count() {
+        return count;
+    }
+
+    public int sides() {
+        return sides;
+    }
+
+    public int modifier() {
+        return modifier;
+    }
+
+    /**
+     * Returns the lowest possible total.
+     */
+    public int min() {
+        return count + modifier;
+    }
+
+    /**
+     * Returns the highest possible total.
+     */
+    public int max() {
+        return count * sides + modifier;
+    }
+
+    /**
+     * Returns the number of possible totals, {@code max() - min() + 1}.
+     */
+    public int range() {
+        return count * (sides - 1) + 1;
+    }
+
+    /**
+     * Returns the exact probability of each total, from {@link #min()} to
+     * {@link #max()}. It's computed the first time it's asked for, by
+     * convolving one die at a time with a sliding window sum, and then
+     * cached; the returned array is a copy.
+     */
+    public double[] distribution() {
+        return distributionArray().clone();
+    }
+
+    /**
+     * Returns the exact probability of rolling {@code total}.
+     */
+    public double probability(int total) {
+        return total < min() || total > max() ? 0 : distributionArray()[total - min()];
+    }
+
+    double[] distributionArray() {
+        double[] result = distribution;
+        if (result == null) {
+            result = new double[] {1};
+            for (int die = 0; die < count; die++) {
+                double[] next = new double[result.length + sides - 1];
+                double window = 0;
+                for (int i = 0; i < next.length; i++) {
+                    if (i < result.length) {
+                        window += result[i];
+                    }
+                    if (i >= sides) {
+                        window -= result[i - sides];
+                    }
+                    next[i] = window / sides;
+                }
+                result = next;
+            }
+            distribution = result;
+        }
+        return result;
+    }
+
+    /**
+     * Rolls the dice and returns their total plus the modifier.
+     */
+    public int roll(RandomGenerator random) {
+        int total = modifier;
+        for (int i = 0; i < count; i++) {
+            total += random.nextInt(sides) + 1;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the expression this was parsed from.
+     */
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    private static Dice compile(String expression) {
+        int length = expression.length();
+        int i = 0;
+        int count = 1;
+        if (i < length && isDigit(expression.charAt(i))) {
+            int end = digitsEnd(expression, i);
+            count = number(expression, i, end, MAX_COUNT);
+            i = end;
+        }
+        if (i == length || (expression.charAt(i) != 'd' && expression.charAt(i) != 'D')) {
+            throw invalid(expression);
+        }
+        i++;
+        int end = digitsEnd(expression, i);
+        int sides = number(expression, i, end, MAX_SIDES);
+        i = end;
+        int modifier = 0;
+        if (i < length) {
+            char sign = expression.charAt(i++);
+            if (sign != '+' && sign != '-') {
+                throw invalid(expression);
+            }
+            end = digitsEnd(expression, i);
+            if (end != length) {
+                throw invalid(expression);
+            }
+            modifier = number(expression, i, end, MAX_COUNT * MAX_SIDES);
+            if (sign == '-') {
+                modifier = -modifier;
+            }
+        }
+        if (count < 1 || sides < 1) {
+            throw invalid(expression);
+        }
+        return new Dice(expression, count, sides, modifier);
+    }
+
+    private static int digitsEnd(String expression, int start) {
+        int end = start;
+        while (end < expression.length() && isDigit(expression.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    private static int number(String expression, int start, int end, int limit) {
+        if (start == end) {
+            throw invalid(expression);
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (expression.charAt(i) - '0');
+            if (value > limit) {
+                throw new IllegalArgumentException("Dice expression " + expression + " is too large");
+            }
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static IllegalArgumentException invalid(String expression) {
+        return new IllegalArgumentException("Unsupported dice expression " + expression);
+    }
+}
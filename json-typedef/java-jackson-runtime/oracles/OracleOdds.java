@@ -0,0 +1,244 @@
+package Datasworn.oracles;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * The exact odds of every result of resolving each oracle table with an
+ * {@link OracleResolver}, follow-up rolls included, up to a depth limit.<p>
+ * A single table's row probabilities are {@link RollableTable#probabilities()}.
+ * Once rows call for more rolls, the full joint distribution over every
+ * possible tree of results grows exponentially, so this keeps its marginals
+ * instead: for each table a resolution can reach, the expected number of
+ * times each of its rows comes up. For rows that can only come up once, such
+ * as any row of the table that was resolved, that is the probability that it
+ * comes up at all.<p>
+ * The odds follow the resolver's rules exactly: dice overrides, rows that
+ * roll their own table again being rerolled, and duplicates being rerolled
+ * or kept. (The resolver gives up rerolling after
+ * {@link OracleResolver#MAX_ATTEMPTS} tries, which is too unlikely to show in
+ * a {@code double}.) The odds of every table are computed in parallel when
+ * this is built, sharing the odds of the subtrees they have in common.
+ * <pre>
+ * OracleOdds odds = OracleOdds.of(resolver, 3);
+ * int goal = tables.handle("classic/oracles/character/goal");
+ * double[] rows = odds.occurrences(goal, goal);
+ * </pre>
+ */
+public final class OracleOdds {
+    /**
+     * The most sequences of draws one group of rerolled duplicates may have,
+     * such as 100 rows drawn three times.
+     */
+    public static final long MAX_SEQUENCES = 1L << 24;
+
+    private final int depth;
+    /** For each root table, the handles of the tables it reaches, ascending. */
+    private final int[][] reached;
+    /** For each root table, the expected occurrences of the rows of each table in {@code reached}. */
+    private final double[][][] occurrences;
+
+    private OracleOdds(int depth, int[][] reached, double[][][] occurrences) {
+        this.depth = depth;
+        this.reached = reached;
+        this.occurrences = occurrences;
+    }
+
+    /**
+     * @param depth how many levels of follow-up rolls to count: 0 for just
+     *              the table itself.
+     * @throws IllegalArgumentException if depth is negative, or a group of
+     *                                  rerolled duplicates has more than
+     *                                  {@link #MAX_SEQUENCES} ways to come up.
+     */
+    public static OracleOdds of(OracleResolver resolver, int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("Negative depth " + depth);
+        }
+        OracleTables tables = resolver.tables();
+        // Without cycles, no chain of rolls is longer than the number of tables.
+        int levels = Math.min(depth, tables.size());
+        Calculator calculator = new Calculator(resolver);
+        int[][] reached = new int[tables.size()][];
+        double[][][] occurrences = new double[tables.size()][][];
+        IntStream.range(0, tables.size()).parallel().forEach(root -> {
+            Map<Integer, double[]> result = new TreeMap<>();
+            RollableTable table = tables.table(root);
+            double[] rows = table.probabilities();
+            add(result, root, rows, 1);
+            for (int row = 0; row < rows.length; row++) {
+                if (rows[row] > 0) {
+                    addAll(result, calculator.follow(root, row, levels), rows[row]);
+                }
+            }
+            reached[root] = result.keySet().stream().mapToInt(Integer::intValue).toArray();
+            occurrences[root] = result.values().toArray(new double[0][]);
+        });
+        return new OracleOdds(depth, reached, occurrences);
+    }
+
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * Returns the handles of the tables that resolving {@code root} can roll,
+     * itself included, in ascending order.
+     */
+    public int[] reached(int root) {
+        return reached[root].clone();
+    }
+
+    /**
+     * Returns the expected number of times each row of {@code table} comes up
+     * when resolving {@code root}, or null if it can't come up at all.
+     */
+    public double[] occurrences(int root, int table) {
+        int i = Arrays.binarySearch(reached[root], table);
+        return i < 0 ? null : occurrences[root][i].clone();
+    }
+
+    private static void add(Map<Integer, double[]> result, int table, double[] rows, double weight) {
+        double[] sum = result.computeIfAbsent(table, key -> new double[rows.length]);
+        for (int row = 0; row < sum.length; row++) {
+            sum[row] += rows[row] * weight;
+        }
+    }
+
+    private static void addAll(Map<Integer, double[]> result, Map<Integer, double[]> other, double weight) {
+        other.forEach((table, rows) -> add(result, table, rows, weight));
+    }
+
+    /**
+     * Computes the expected occurrences below each row, memoized by table,
+     * row and depth.
+     */
+    private static final class Calculator {
+        private final OracleResolver resolver;
+        private final OracleTables tables;
+        private final Map<Long, Map<Integer, double[]>> memo = new ConcurrentHashMap<>();
+
+        Calculator(OracleResolver resolver) {
+            this.resolver = resolver;
+            this.tables = resolver.tables();
+        }
+
+        /**
+         * Returns the expected occurrences of every row rolled because of
+         * {@code row} of {@code table}, {@code depth} levels down.
+         */
+        Map<Integer, double[]> follow(int table, int row, int depth) {
+            OracleResolver.Step[] steps = resolver.steps(table, row);
+            if (depth == 0 || steps == null) {
+                return Map.of();
+            }
+            long key = ((long) table * (Short.MAX_VALUE + 1) + row) * (tables.size() + 1) + depth;
+            Map<Integer, double[]> cached = memo.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            Map<Integer, double[]> result = new TreeMap<>();
+            for (OracleResolver.Step step : steps) {
+                RollableTable target = tables.table(step.table);
+                boolean self = step.table == table;
+                double[] q = target.probabilities(step.dice != null ? step.dice : target.dice());
+                if (self) {
+                    excludeRollsAgain(step.table, q);
+                }
+                double[] marginals = step.duplicates == OracleResolver.REROLL
+                        ? withoutReplacement(q, step.count)
+                        : withReplacement(q, step.count);
+                double[] rows = Arrays.copyOf(marginals, target.rows());
+                add(result, step.table, rows, 1);
+                for (int next = 0; next < rows.length; next++) {
+                    if (rows[next] > 0 && !(self && resolver.rollsAgain(step.table, next))) {
+                        addAll(result, follow(step.table, next, depth - 1), rows[next]);
+                    }
+                }
+            }
+            memo.putIfAbsent(key, result);
+            return result;
+        }
+
+        /**
+         * Conditions {@code q} on not landing on a row that rolls its table
+         * again, since the resolver rerolls those.
+         */
+        private void excludeRollsAgain(int table, double[] q) {
+            double kept = 0;
+            for (int row = 0; row < q.length; row++) {
+                if (row < q.length - 1 && resolver.rollsAgain(table, row)) {
+                    continue;
+                }
+                kept += q[row];
+            }
+            if (kept <= 0) {
+                return;
+            }
+            for (int row = 0; row < q.length; row++) {
+                q[row] = row < q.length - 1 && resolver.rollsAgain(table, row) ? 0 : q[row] / kept;
+            }
+        }
+
+        private static double[] withReplacement(double[] q, int count) {
+            double[] marginals = new double[q.length];
+            for (int i = 0; i < q.length; i++) {
+                marginals[i] = q[i] * count;
+            }
+            return marginals;
+        }
+
+        /**
+         * Returns the probability of each row coming up in {@code count}
+         * draws that reroll duplicates, by going through every sequence of
+         * distinct draws.
+         */
+        private static double[] withoutReplacement(double[] q, int count) {
+            int possible = 0;
+            for (double p : q) {
+                if (p > 0) {
+                    possible++;
+                }
+            }
+            double sequences = Math.pow(possible, Math.min(count, possible));
+            if (sequences > MAX_SEQUENCES) {
+                throw new IllegalArgumentException(count + " rerolled draws from " + possible
+                        + " rows have too many sequences to enumerate");
+            }
+            double[] marginals = new double[q.length];
+            draw(q, new boolean[q.length], 1, 1, count, marginals);
+            return marginals;
+        }
+
+        private static void draw(double[] q, boolean[] drawn, double remaining, double probability, int left,
+                double[] marginals) {
+            if (left == 0) {
+                return;
+            }
+            if (remaining <= 1e-12) {
+                // Every row has come up, so the rest are duplicates kept as rolled.
+                double total = 0;
+                for (double p : q) {
+                    total += p;
+                }
+                for (int i = 0; i < q.length; i++) {
+                    marginals[i] += probability * left * q[i] / total;
+                }
+                return;
+            }
+            for (int i = 0; i < q.length; i++) {
+                if (drawn[i] || q[i] <= 0) {
+                    continue;
+                }
+                double p = probability * q[i] / remaining;
+                marginals[i] += p;
+                drawn[i] = true;
+                draw(q, drawn, remaining - q[i], p, left - 1, marginals);
+                drawn[i] = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package Datasworn.oracles;
+
+import Datasworn.OracleDuplicateBehavior;
+import Datasworn.OracleRoll;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Rolls an oracle table and every roll its result calls for, recursively:
+ * "Roll twice" rows, "Action + Theme" rows, and so on.<p>
+ * The {@code oracle_rolls} of every row are compiled up front into a plan
+ * per row: the target table's handle, the dice (the target's own unless the
+ * roll overrides them), the number of rolls and what to do with duplicates.
+ * An {@code oracle_roll} without an {@code oracle}, or naming the row's own
+ * table, rolls the same table again; results that would roll it yet again are
+ * rerolled. Apart from that, tables that call for rolls on each other would
+ * never finish, so such cycles are rejected when compiling. Rolls on oracles
+ * that aren't among the tables, such as IDs that don't exist in the data,
+ * are left out and listed by {@link #unresolved()}.<p>
+ * Duplicates within one {@code oracle_roll} are handled as it says:
+ * {@code reroll} rolls again, {@code keep} keeps them, flagged
+ * {@link RollResults#DUPLICATE}, and {@code make_it_worse} keeps them, flagged
+ * {@link RollResults#WORSE}. A roll that can't avoid a duplicate or a repeat
+ * after {@link #MAX_ATTEMPTS} tries is kept. Matches on tables with a
+ * {@code match} behavior are flagged {@link RollResults#MATCH}.<p>
+ * By default only rolls marked {@code auto} are made; the others are left
+ * for the player, as the rulebooks recommend. Resolving doesn't allocate
+ * once the {@link RollResults} buffer is large enough.
+ * <pre>
+ * OracleResolver resolver = OracleResolver.of(tables);
+ * RollResults results = new RollResults();
+ * resolver.resolve("starforged/oracles/core/action", random, results);
+ * for (int i = 0; i &lt; results.size(); i++) {
+ *     RollableTable table = tables.table(results.table(i));
+ *     System.out.println(table.id() + ": " + table.text(results.row(i)));
+ * }
+ * </pre>
+ */
+public final class OracleResolver {
+    public static final int MAX_ATTEMPTS = 100;
+
+    static final int KEEP = 0;
+    static final int REROLL = 1;
+    static final int MAKE_IT_WORSE = 2;
+
+    private final OracleTables tables;
+    /** For each table handle and row, the rolls the row calls for, or null. */
+    private final Step[][][] plans;
+    /** For each table handle and row, whether the row rolls its own table again. */
+    private final boolean[][] rollsAgain;
+    private final List<String> unresolved;
+
+    private OracleResolver(OracleTables tables, Step[][][] plans, boolean[][] rollsAgain, List<String> unresolved) {
+        this.tables = tables;
+        this.plans = plans;
+        this.rollsAgain = rollsAgain;
+        this.unresolved = unresolved;
+    }
+
+    /**
+     * Compiles a resolver that makes only the {@code auto} rolls.
+     *
+     * @throws IllegalArgumentException if tables call for rolls on each
+     *                                  other in a cycle.
+     */
+    public static OracleResolver of(OracleTables tables) {
+        return of(tables, false);
+    }
+
+    /**
+     * @param manual whether to also make the rolls that aren't {@code auto}.
+     */
+    public static OracleResolver of(OracleTables tables, boolean manual) {
+        Step[][][] plans = new Step[tables.size()][][];
+        boolean[][] rollsAgain = new boolean[tables.size()][];
+        List<String> unresolved = new ArrayList<>();
+        for (int handle = 0; handle < tables.size(); handle++) {
+            RollableTable table = tables.table(handle);
+            plans[handle] = new Step[table.rows()][];
+            rollsAgain[handle] = new boolean[table.rows()];
+            for (int row = 0; row < table.rows(); row++) {
+                List<OracleRoll> rolls = OracleShapes.oracleRolls(table.row(row));
+                if (rolls == null || rolls.isEmpty()) {
+                    continue;
+                }
+                Step[] steps = compile(tables, handle, rolls, manual, "Row " + row + " of " + table.id(),
+                        unresolved);
+                for (Step step : steps) {
+                    rollsAgain[handle][row] |= step.table == handle;
+                }
+                plans[handle][row] = steps.length == 0 ? null : steps;
+            }
+        }
+        checkCycles(tables, plans);
+        return new OracleResolver(tables, plans, rollsAgain, List.copyOf(unresolved));
+    }
+
+    /**
+     * Compiles a list of rolls that isn't part of a table, such as a
+     * {@code MoveOutcome}'s {@code oracle_rolls}. Every roll must name its
+     * oracle.
+     *
+     * @throws IllegalArgumentException if a roll has no oracle, or its
+     *                                  oracle isn't among the tables.
+     */
+    public Plan plan(List<OracleRoll> rolls, boolean manual) {
+        return new Plan(compile(tables, -1, rolls, manual, "Oracle roll", null));
+    }
+
+    public OracleTables tables() {
+        return tables;
+    }
+
+    /**
+     * Describes each roll that was left out because its oracle isn't among
+     * the tables, such as
+     * {@code Row 7 of starforged/oracles/starships/fleet -> starforged/oracles/starships/mission}.
+     */
+    public List<String> unresolved() {
+        return unresolved;
+    }
+
+    /**
+     * Returns the rolls a row calls for, or null if it calls for none.
+     */
+    Step[] steps(int table, int row) {
+        return plans[table][row];
+    }
+
+    boolean rollsAgain(int table, int row) {
+        return rollsAgain[table][row];
+    }
+
+    /**
+     * Clears {@code results} and fills it with a roll on the table with the
+     * given handle and everything that follows from it.
+     */
+    public void resolve(int table, RandomGenerator random, RollResults results) {
+        results.clear();
+        RollableTable target = tables.table(table);
+        int roll = target.dice().roll(random);
+        add(table, target.rowFor(roll), roll, -1, 0, true, random, results);
+    }
+
+    /**
+     * @throws IllegalArgumentException if there's no table with that ID.
+     */
+    public void resolve(String id, RandomGenerator random, RollResults results) {
+        int table = tables.handle(id);
+        if (table < 0) {
+            throw new IllegalArgumentException("Unknown oracle table " + id);
+        }
+        resolve(table, random, results);
+    }
+
+    /**
+     * Clears {@code results} and fills it with the rolls of a plan, as
+     * top-level results, and everything that follows from them.
+     */
+    public void resolve(Plan plan, RandomGenerator random, RollResults results) {
+        results.clear();
+        follow(plan.steps, -1, random, results);
+    }
+
+    private void follow(Step[] steps, int parent, RandomGenerator random, RollResults results) {
+        for (Step step : steps) {
+            RollableTable target = tables.table(step.table);
+            Dice dice = step.dice != null ? step.dice : target.dice();
+            boolean self = parent >= 0 && results.table(parent) == step.table;
+            int start = results.size();
+            for (int n = 0; n < step.count; n++) {
+                int roll;
+                int row;
+                int flag = 0;
+                int attempts = 0;
+                while (true) {
+                    roll = dice.roll(random);
+                    row = target.rowFor(roll);
+                    if (self && row >= 0 && rollsAgain[step.table][row] && ++attempts < MAX_ATTEMPTS) {
+                        continue;
+                    }
+                    if (results.contains(start, parent, step.table, row)) {
+                        if (step.duplicates == REROLL && ++attempts < MAX_ATTEMPTS) {
+                            continue;
+                        }
+                        flag = step.duplicates == MAKE_IT_WORSE ? RollResults.WORSE : RollResults.DUPLICATE;
+                    }
+                    break;
+                }
+                boolean expand = !(self && row >= 0 && rollsAgain[step.table][row]);
+                add(step.table, row, roll, parent, flag, expand, random, results);
+            }
+        }
+    }
+
+    private void add(int table, int row, int roll, int parent, int flag, boolean expand, RandomGenerator random,
+            RollResults results) {
+        if (tables.table(table).isMatch(roll)) {
+            flag |= RollResults.MATCH;
+        }
+        int result = results.add(table, row, roll, parent, flag);
+        if (expand && row >= 0 && plans[table][row] != null) {
+            follow(plans[table][row], result, random, results);
+        }
+    }
+
+    /**
+     * @param own the handle of the table the rolls belong to, which rolls
+     *            without an {@code oracle} roll again, or -1 if there's none.
+     * @param unresolved where to list rolls on unknown oracles, or null to
+     *                   reject them.
+     */
+    private static Step[] compile(OracleTables tables, int own, List<OracleRoll> rolls, boolean manual,
+            String where, List<String> unresolved) {
+        List<Step> steps = new ArrayList<>(rolls.size());
+        for (OracleRoll roll : rolls) {
+            if (!manual && !Boolean.TRUE.equals(roll.getAuto())) {
+                continue;
+            }
+            int table = own;
+            if (roll.getOracle() != null) {
+                table = tables.handle(roll.getOracle().getValue());
+                if (table < 0 && unresolved != null) {
+                    unresolved.add(where + " -> " + roll.getOracle().getValue());
+                    continue;
+                }
+                if (table < 0) {
+                    throw new IllegalArgumentException(where + " rolls on unknown oracle "
+                            + roll.getOracle().getValue());
+                }
+            } else if (own < 0) {
+                throw new IllegalArgumentException(where + " has no oracle");
+            }
+            Dice dice = roll.getDice() == null ? null : Dice.of(roll.getDice());
+            int count = roll.getNumberOfRolls() == null ? 1 : roll.getNumberOfRolls();
+            if (count < 0) {
+                throw new IllegalArgumentException(where + " has a negative number_of_rolls");
+            }
+            OracleDuplicateBehavior duplicates = roll.getDuplicates();
+            int duplicateCode = duplicates == OracleDuplicateBehavior.KEEP ? KEEP
+                    : duplicates == OracleDuplicateBehavior.MAKE_IT_WORSE ? MAKE_IT_WORSE : REROLL;
+            steps.add(new Step(table, dice, count, duplicateCode));
+        }
+        return steps.toArray(new Step[0]);
+    }
+
+    /**
+     * Rejects tables that call for rolls on each other in a cycle, with a
+     * depth-first search over the table graph. Rolls on a row's own table
+     * aren't edges, since results that would repeat them are rerolled.
+     */
+    private static void checkCycles(OracleTables tables, Step[][][] plans) {
+        byte[] state = new byte[plans.length];
+        int[] path = new int[plans.length];
+        for (int handle = 0; handle < plans.length; handle++) {
+            if (state[handle] == 0) {
+                visit(tables, plans, handle, state, path, 0);
+            }
+        }
+    }
+
+    private static void visit(OracleTables tables, Step[][][] plans, int handle, byte[] state, int[] path,
+            int depth) {
+        state[handle] = 1;
+        path[depth] = handle;
+        for (Step[] steps : plans[handle]) {
+            if (steps == null) {
+                continue;
+            }
+            for (Step step : steps) {
+                if (step.table == handle) {
+                    continue;
+                }
+                if (state[step.table] == 1) {
+                    StringBuilder cycle = new StringBuilder();
+                    for (int i = depth; i >= 0; i--) {
+                        cycle.insert(0, tables.table(path[i]).id() + " -> ");
+                        if (path[i] == step.table) {
+                            break;
+                        }
+                    }
+                    throw new IllegalArgumentException("Oracle tables roll on each other in a cycle: " + cycle
+                            + tables.table(step.table).id());
+                }
+                if (state[step.table] == 0) {
+                    visit(tables, plans, step.table, state, path, depth + 1);
+                }
+            }
+        }
+        state[handle] = 2;
+    }
+
+    /**
+     * Compiled rolls that aren't part of a table.
+     */
+    public static final class Plan {
+        private final Step[] steps;
+
+        Plan(Step[] steps) {
+            this.steps = steps;
+        }
+
+        /**
+         * Returns the number of rolls in the plan, not counting repeats.
+         */
+        public int size() {
+            return steps.length;
+        }
+    }
+
+    /**
+     * One compiled {@code OracleRoll}.
+     */
+    static final class Step {
+        final int table;
+        /** The dice to roll, or null for the table's own. */
+        final Dice dice;
+        final int count;
+        final int duplicates;
+
+        Step(int table, Dice dice, int count, int duplicates) {
+            this.table = table;
+            this.dice = dice;
+            this.count = count;
+            this.duplicates = duplicates;
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package Datasworn.oracles;
+
+import Datasworn.DiceExpression;
+import Datasworn.MarkdownString;
+import Datasworn.OracleCollectionId;
+import Datasworn.OracleCollectionOracleTableSharedText3;
+import Datasworn.OracleCollectionTableSharedRolls;
+import Datasworn.OracleCollectionTableSharedText;
+import Datasworn.OracleCollectionTableSharedText2;
+import Datasworn.OracleColumnText;
+import Datasworn.OracleColumnText2;
+import Datasworn.OracleColumnText3;
+import Datasworn.OracleMatchBehavior;
+import Datasworn.OracleRoll;
+import Datasworn.OracleRollTemplate;
+import Datasworn.OracleRollableId;
+import Datasworn.OracleTableRollableTableText;
+import Datasworn.OracleTableRollableTableText2;
+import Datasworn.OracleTableRollableTableText3;
+import Datasworn.OracleTableRowText;
+import Datasworn.OracleTableRowText2;
+import Datasworn.OracleTableRowText3;
+import Datasworn.TemplateString;
+import Datasworn.TruthOptionTable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The parts of oracle tables and their rows that the roll engine reads.<p>
+ * Standalone tables ({@code OracleTableRollableTableText*}) and the columns
+ * of shared-roll collections ({@code OracleColumnText*}) have the same shape,
+ * as do the three row types, but the bindings share no type for them, so
+ * they're told apart here. The tables of truth options
+ * ({@code TruthOptionTable}) have the same shape too, without an ID.
+ */
+final class OracleShapes {
+    private OracleShapes() {
+    }
+
+    /**
+     * Whether {@code node} is a table or column that can be rolled.
+     */
+    static boolean isTable(Object node) {
+        return node instanceof OracleTableRollableTableText || node instanceof OracleTableRollableTableText2
+                || node instanceof OracleTableRollableTableText3 || node instanceof OracleColumnText
+                || node instanceof OracleColumnText2 || node instanceof OracleColumnText3;
+    }
+
+    /**
+     * Whether {@code node} is a collection whose columns share one roll.
+     */
+    static boolean isSharedCollection(Object node) {
+        return node instanceof OracleCollectionTableSharedRolls || node instanceof OracleCollectionTableSharedText
+                || node instanceof OracleCollectionTableSharedText2
+                || node instanceof OracleCollectionOracleTableSharedText3;
+    }
+
+    static String collectionId(Object collection) {
+        OracleCollectionId id;
+        if (collection instanceof OracleCollectionTableSharedRolls) {
+            id = ((OracleCollectionTableSharedRolls) collection).getId();
+        } else if (collection instanceof OracleCollectionTableSharedText) {
+            id = ((OracleCollectionTableSharedText) collection).getId();
+        } else if (collection instanceof OracleCollectionTableSharedText2) {
+            id = ((OracleCollectionTableSharedText2) collection).getId();
+        } else if (collection instanceof OracleCollectionOracleTableSharedText3) {
+            id = ((OracleCollectionOracleTableSharedText3) collection).getId();
+        } else {
+            throw unknownCollection(collection);
+        }
+        return id == null ? null : id.getValue();
+    }
+
+    /**
+     * Returns the columns of a shared-roll collection ({@code OracleColumnText*}),
+     * keyed as in its {@code contents}.
+     */
+    static Map<String, ?> columns(Object collection) {
+        Map<String, ?> columns;
+        if (collection instanceof OracleCollectionTableSharedRolls) {
+            columns = ((OracleCollectionTableSharedRolls) collection).getContents();
+        } else if (collection instanceof OracleCollectionTableSharedText) {
+            columns = ((OracleCollectionTableSharedText) collection).getContents();
+        } else if (collection instanceof OracleCollectionTableSharedText2) {
+            columns = ((OracleCollectionTableSharedText2) collection).getContents();
+        } else if (collection instanceof OracleCollectionOracleTableSharedText3) {
+            columns = ((OracleCollectionOracleTableSharedText3) collection).getContents();
+        } else {
+            throw unknownCollection(collection);
+        }
+        return columns == null ? Map.of() : columns;
+    }
+
+    static String id(Object table) {
+        OracleRollableId id;
+        if (table instanceof OracleTableRollableTableText) {
+            id = ((OracleTableRollableTableText) table).getId();
+        } else if (table instanceof OracleTableRollableTableText2) {
+            id = ((OracleTableRollableTableText2) table).getId();
+        } else if (table instanceof OracleTableRollableTableText3) {
+            id = ((OracleTableRollableTableText3) table).getId();
+        } else if (table instanceof OracleColumnText) {
+            id = ((OracleColumnText) table).getId();
+        } else if (table instanceof OracleColumnText2) {
+            id = ((OracleColumnText2) table).getId();
+        } else if (table instanceof OracleColumnText3) {
+            id = ((OracleColumnText3) table).getId();
+        } else if (table instanceof TruthOptionTable) {
+            // A truth option's table has no ID of its own.
+            return null;
+        } else {
+            throw unknownTable(table);
+        }
+        return id == null ? null : id.getValue();
+    }
+
+    static String dice(Object table) {
+        DiceExpression dice;
+        if (table instanceof OracleTableRollableTableText) {
+            dice = ((OracleTableRollableTableText) table).getDice();
+        } else if (table instanceof OracleTableRollableTableText2) {
+            dice = ((OracleTableRollableTableText2) table).getDice();
+        } else if (table instanceof OracleTableRollableTableText3) {
+            dice = ((OracleTableRollableTableText3) table).getDice();
+        } else if (table instanceof OracleColumnText) {
+            dice = ((OracleColumnText) table).getDice();
+        } else if (table instanceof OracleColumnText2) {
+            dice = ((OracleColumnText2) table).getDice();
+        } else if (table instanceof OracleColumnText3) {
+            dice = ((OracleColumnText3) table).getDice();
+        } else if (table instanceof TruthOptionTable) {
+            dice = ((TruthOptionTable) table).getDice();
+        } else {
+            throw unknownTable(table);
+        }
+        return dice == null ? null : dice.getValue();
+    }
+
+    /**
+     * Returns the text of a table's {@code match} behavior, or null if it
+     * has none.
+     */
+    static String matchText(Object table) {
+        OracleMatchBehavior match;
+        if (table instanceof OracleTableRollableTableText) {
+            match = ((OracleTableRollableTableText) table).getMatch();
+        } else if (table instanceof OracleTableRollableTableText2) {
+            match = ((OracleTableRollableTableText2) table).getMatch();
+        } else if (table instanceof OracleTableRollableTableText3) {
+            match = ((OracleTableRollableTableText3) table).getMatch();
+        } else if (table instanceof OracleColumnText) {
+            match = ((OracleColumnText) table).getMatch();
+        } else if (table instanceof OracleColumnText2) {
+            match = ((OracleColumnText2) table).getMatch();
+        } else if (table instanceof OracleColumnText3) {
+            match = ((OracleColumnText3) table).getMatch();
+        } else if (table instanceof TruthOptionTable) {
+            return null;
+        } else {
+            throw unknownTable(table);
+        }
+        if (match == null) {
+            return null;
+        }
+        return match.getText() == null ? "" : match.getText().getValue();
+    }
+
+    static List<?> rows(Object table) {
+        List<?> rows;
+        if (table instanceof OracleTableRollableTableText) {
+            rows = ((OracleTableRollableTableText) table).getRows();
+        } else if (table instanceof OracleTableRollableTableText2) {
+            rows = ((OracleTableRollableTableText2) table).getRows();
+        } else if (table instanceof OracleTableRollableTableText3) {
+            rows = ((OracleTableRollableTableText3) table).getRows();
+        } else if (table instanceof OracleColumnText) {
+            rows = ((OracleColumnText) table).getRows();
+        } else if (table instanceof OracleColumnText2) {
+            rows = ((OracleColumnText2) table).getRows();
+        } else if (table instanceof OracleColumnText3) {
+            rows = ((OracleColumnText3) table).getRows();
+        } else if (table instanceof TruthOptionTable) {
+            rows = ((TruthOptionTable) table).getRows();
+        } else {
+            throw unknownTable(table);
+        }
+        return rows == null ? List.of() : rows;
+    }
+
+    /**
+     * Returns a row's low roll, or null if it can't be rolled (such as a row
+     * that only labels the rows below it).
+     */
+    static Short min(Object row) {
+        if (row instanceof OracleTableRowText) {
+            return ((OracleTableRowText) row).getMin();
+        }
+        if (row instanceof OracleTableRowText2) {
+            return ((OracleTableRowText2) row).getMin();
+        }
+        if (row instanceof OracleTableRowText3) {
+            return ((OracleTableRowText3) row).getMin();
+        }
+        throw unknownRow(row);
+    }
+
+    static Short max(Object row) {
+        if (row instanceof OracleTableRowText) {
+            return ((OracleTableRowText) row).getMax();
+        }
+        if (row instanceof OracleTableRowText2) {
+            return ((OracleTableRowText2) row).getMax();
+        }
+        if (row instanceof OracleTableRowText3) {
+            return ((OracleTableRowText3) row).getMax();
+        }
+        throw unknownRow(row);
+    }
+
+    /**
+     * Returns the rolls a row calls for, or null if it has none.
+     */
+    static List<OracleRoll> oracleRolls(Object row) {
+        if (row instanceof OracleTableRowText) {
+            return ((OracleTableRowText) row).getOracleRolls();
+        }
+        if (row instanceof OracleTableRowText2) {
+            return ((OracleTableRowText2) row).getOracleRolls();
+        }
+        if (row instanceof OracleTableRowText3) {
+            return ((OracleTableRowText3) row).getOracleRolls();
+        }
+        throw unknownRow(row);
+    }
+
+    /**
+     * Returns a row's text in the given column, counting from 1, or null if
+     * it has none.
+     */
+    static String text(Object row, int column) {
+        MarkdownString text = null;
+        if (row instanceof OracleTableRowText) {
+            if (column == 1) {
+                text = ((OracleTableRowText) row).getText();
+            }
+        } else if (row instanceof OracleTableRowText2) {
+            OracleTableRowText2 row2 = (OracleTableRowText2) row;
+            text = column == 1 ? row2.getText() : column == 2 ? row2.getText2() : null;
+        } else if (row instanceof OracleTableRowText3) {
+            OracleTableRowText3 row3 = (OracleTableRowText3) row;
+            text = column == 1 ? row3.getText() : column == 2 ? row3.getText2() : column == 3 ? row3.getText3() : null;
+        } else {
+            throw unknownRow(row);
+        }
+        return text == null ? null : text.getValue();
+    }
+
+    /**
+     * Returns a row's template for the given column, counting from 1, or null
+     * if it has none.
+     */
+    static String template(Object row, int column) {
+        OracleRollTemplate template;
+        if (row instanceof OracleTableRowText) {
+            template = ((OracleTableRowText) row).getTemplate();
+        } else if (row instanceof OracleTableRowText2) {
+            template = ((OracleTableRowText2) row).getTemplate();
+        } else if (row instanceof OracleTableRowText3) {
+            template = ((OracleTableRowText3) row).getTemplate();
+        } else {
+            throw unknownRow(row);
+        }
+        if (template == null) {
+            return null;
+        }
+        TemplateString text = column == 1 ? template.getText() : column == 2 ? template.getText2()
+                : column == 3 ? template.getText3() : null;
+        return text == null ? null : text.getValue();
+    }
+
+    private static IllegalArgumentException unknownTable(Object table) {
+        return new IllegalArgumentException("Not a rollable oracle table: " + table.getClass().getName());
+    }
+
+    private static IllegalArgumentException unknownCollection(Object collection) {
+        return new IllegalArgumentException("Not a shared-roll oracle collection: " + collection.getClass().getName());
+    }
+
+    private static IllegalArgumentException unknownRow(Object row) {
+        return new IllegalArgumentException("Not an oracle table row: " + row.getClass().getName());
+    }
+}
@@ -0,0 +1,114 @@
+package Datasworn.oracles;
+
+import Datasworn.OracleRollableId;
+import Datasworn.index.DataswornIndex;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Every rollable oracle table in a {@link DataswornIndex}, compiled into
+ * {@link RollableTable}s: standalone tables and the columns of shared-roll
+ * collections alike. The shared-roll collections themselves are also
+ * compiled, into {@link SharedRollTable}s.<p>
+ * Each table also gets a dense {@code int} handle, counting up from 0 in ID
+ * order, so that compiled structures can refer to tables without holding
+ * their IDs.
+ * <pre>
+ * OracleTables tables = OracleTables.of(index);
+ * RollableTable theme = tables.get("starforged/oracles/core/theme");
+ * String text = theme.text(theme.roll(random));
+ * </pre>
+ */
+public final class OracleTables {
+    private final RollableTable[] tables;
+    private final Map<String, Integer> handles;
+    private final Map<String, SharedRollTable> shared;
+
+    private OracleTables(RollableTable[] tables, Map<String, Integer> handles, Map<String, SharedRollTable> shared) {
+        this.tables = tables;
+        this.handles = handles;
+        this.shared = shared;
+    }
+
+    /**
+     * @throws IllegalArgumentException if a table can't be compiled.
+     */
+    public static OracleTables of(DataswornIndex index) {
+        List<Object> sources = new ArrayList<>();
+        List<Object> collections = new ArrayList<>();
+        for (int handle = 0; handle < index.size(); handle++) {
+            Object node = index.get(index.id(handle));
+            if (OracleShapes.isTable(node)) {
+                sources.add(node);
+            } else if (OracleShapes.isSharedCollection(node)) {
+                collections.add(node);
+            }
+        }
+        RollableTable[] tables = sources.parallelStream().map(RollableTable::of).toArray(RollableTable[]::new);
+        Map<String, Integer> handles = new HashMap<>(tables.length * 4 / 3 + 1);
+        for (int handle = 0; handle < tables.length; handle++) {
+            handles.put(tables[handle].id(), handle);
+        }
+        // The collections' columns are found by handle, before the collections are added.
+        OracleTables columns = new OracleTables(tables, handles, Map.of());
+        Map<String, SharedRollTable> shared = new HashMap<>();
+        for (Object collection : collections) {
+            SharedRollTable table = SharedRollTable.of(collection, columns);
+            shared.put(table.id(), table);
+        }
+        return new OracleTables(tables, handles, Map.copyOf(shared));
+    }
+
+    /**
+     * Returns the table with the given ID, or null if there's none.
+     */
+    public RollableTable get(String id) {
+        Integer handle = handles.get(id);
+        return handle == null ? null : tables[handle];
+    }
+
+    public RollableTable get(OracleRollableId id) {
+        return get(id.getValue());
+    }
+
+    /**
+     * Returns a table's handle, or -1 if there's no table with that ID.
+     */
+    public int handle(String id) {
+        return handles.getOrDefault(id, -1);
+    }
+
+    /**
+     * Returns the shared-roll collection with the given ID, compiled so that
+     * one roll lands on every column, or null if there's none.
+     */
+    public SharedRollTable shared(String id) {
+        return shared.get(id);
+    }
+
+    /**
+     * Returns every shared-roll collection.
+     */
+    public Collection<SharedRollTable> shared() {
+        return shared.values();
+    }
+
+    public RollableTable table(int handle) {
+        return tables[handle];
+    }
+
+    public int size() {
+        return tables.length;
+    }
+
+    /**
+     * Returns every table, in handle order.
+     */
+    public List<RollableTable> tables() {
+        return List.of(tables);
+    }
+}
@@ -0,0 +1,142 @@
+package Datasworn.oracles;
+
+import java.util.Arrays;
+
+/**
+ * A reusable buffer of oracle roll results, filled by
+ * {@link OracleResolver}.<p>
+ * Results are stored in parallel primitive arrays, in the order they were
+ * rolled: each result is followed by the results of the rolls it called for,
+ * and {@link #parent(int)} links it back to the result that called for it.
+ * The arrays only grow, so a buffer that is {@linkplain #clear() cleared} and
+ * refilled stops allocating once it has held its largest tree. Buffers aren't
+ * thread-safe; give each thread its own.
+ */
+public final class RollResults {
+    /** The result is a duplicate of an earlier result in its group, kept as is. */
+    public static final int DUPLICATE = 1;
+    /** The result is a duplicate that compounds to make things worse. */
+    public static final int WORSE = 1 << 1;
+    /** The roll is a match on a table with a {@code match} behavior. */
+    public static final int MATCH = 1 << 2;
+
+    private int size;
+    private int[] tables;
+    private int[] rows;
+    private int[] rolls;
+    private int[] parents;
+    private byte[] flags;
+
+    public RollResults() {
+        this(16);
+    }
+
+    public RollResults(int capacity) {
+        capacity = Math.max(capacity, 1);
+        tables = new int[capacity];
+        rows = new int[capacity];
+        rolls = new int[capacity];
+        parents = new int[capacity];
+        flags = new byte[capacity];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the {@linkplain OracleTables#handle handle} of the table rolled.
+     */
+    public int table(int result) {
+        return tables[check(result)];
+    }
+
+    /**
+     * Returns the index of the row rolled, or -1 if the roll landed in a gap.
+     */
+    public int row(int result) {
+        return rows[check(result)];
+    }
+
+    /**
+     * Returns the dice total rolled.
+     */
+    public int roll(int result) {
+        return rolls[check(result)];
+    }
+
+    /**
+     * Returns the result that called for this one, or -1 for a top-level
+     * result.
+     */
+    public int parent(int result) {
+        return parents[check(result)];
+    }
+
+    /**
+     * Returns the result's {@link #DUPLICATE}, {@link #WORSE} and
+     * {@link #MATCH} flags.
+     */
+    public int flags(int result) {
+        return flags[check(result)];
+    }
+
+    public boolean is(int result, int flag) {
+        return (flags[check(result)] & flag) != 0;
+    }
+
+    int add(int table, int row, int roll, int parent, int flag) {
+        if (size == tables.length) {
+            int capacity = size * 2;
+            tables = Arrays.copyOf(tables, capacity);
+            rows = Arrays.copyOf(rows, capacity);
+            rolls = Arrays.copyOf(rolls, capacity);
+            parents = Arrays.copyOf(parents, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+        }
+        tables[size] = table;
+        rows[size] = row;
+        rolls[size] = roll;
+        parents[size] = parent;
+        flags[size] = (byte) flag;
+        return size++;
+    }
+
+    /**
+     * Whether a result from {@code start} onwards with the given parent
+     * already landed on {@code table} and {@code row}. The groups of rolls
+     * that must not repeat are a handful of results long, so this scans them
+     * rather than keeping a set.
+     */
+    boolean contains(int start, int parent, int table, int row) {
+        for (int i = start; i < size; i++) {
+            if (parents[i] == parent && rows[i] == row && tables[i] == table) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int check(int result) {
+        if (result < 0 || result >= size) {
+            throw new IndexOutOfBoundsException("Result " + result + " out of " + size);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("RollResults[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(parents[i]).append("->").append(tables[i]).append(':').append(rows[i]);
+        }
+        return builder.append(']').toString();
+    }
+}
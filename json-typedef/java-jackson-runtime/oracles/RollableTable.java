@@ -0,0 +1,272 @@
+package Datasworn.oracles;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * An oracle table compiled for rolling: a standalone
+ * {@code OracleTableRollableTableText*}, or an {@code OracleColumnText*} in a
+ * shared-roll collection.<p>
+ * Compiling fills an array from every possible roll of the table's
+ * {@link Dice} to the row it lands on, so rolling a single die is one random
+ * number and one array load, with no scan over the rows and no unboxing of
+ * their {@code min} and {@code max}. Rows are referred to by their index in the table's
+ * {@code rows}. Tables are immutable and safe to share between threads.
+ * <pre>
+ * RollableTable action = tables.get("starforged/oracles/core/action");
+ * int row = action.roll(random);
+ * String text = action.text(row);
+ * </pre>
+ */
+public final class RollableTable {
+    private final String id;
+    private final Object source;
+    private final Dice dice;
+    private final Object[] rows;
+    private final int minRoll;
+    private final int maxRoll;
+    /** The row for each roll from {@code minRoll}, or -1; one of these is null. */
+    private final byte[] smallLookup;
+    private final short[] lookup;
+    private final double[] probabilities;
+    private final String matchText;
+    /** A bit for each roll from {@code minRoll} that is a match, or null if the table has no match behavior. */
+    private final long[] matches;
+
+    private RollableTable(Object source, String id, Dice dice, List<?> rowList, String matchText) {
+        this.source = source;
+        this.id = id;
+        this.dice = dice;
+        this.minRoll = dice.min();
+        this.maxRoll = dice.max();
+        this.rows = rowList.toArray();
+        if (rows.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Oracle table " + id + " has too many rows");
+        }
+        int size = maxRoll - minRoll + 1;
+        boolean small = rows.length <= Byte.MAX_VALUE;
+        this.smallLookup = small ? new byte[size] : null;
+        this.lookup = small ? null : new short[size];
+        for (int roll = 0; roll < size; roll++) {
+            set(roll, -1);
+        }
+        for (int row = 0; row < rows.length; row++) {
+            Short min = OracleShapes.min(rows[row]);
+            Short max = OracleShapes.max(rows[row]);
+            if (min == null || max == null) {
+                continue;
+            }
+            if (min < minRoll || max > maxRoll || min > max) {
+                throw new IllegalArgumentException("Row " + row + " of oracle table " + id + " has range " + min
+                        + "-" + max + ", outside " + dice);
+            }
+            for (int roll = min; roll <= max; roll++) {
+                if (rowFor(roll) >= 0) {
+                    throw new IllegalArgumentException("Rows " + rowFor(roll) + " and " + row + " of oracle table "
+                            + id + " overlap at " + roll);
+                }
+                set(roll - minRoll, row);
+            }
+        }
+        this.probabilities = Arrays.copyOf(probabilities(dice), rows.length);
+        this.matchText = matchText;
+        this.matches = matchText == null ? null : matches(dice);
+    }
+
+    /**
+     * Compiles an {@code OracleTableRollable}, an {@code OracleColumnText*}
+     * or a {@code TruthOptionTable}, which has no ID.
+     *
+     * @throws IllegalArgumentException if it has no dice, rows overlap, or a
+     *                                  row is outside the dice's range.
+     */
+    public static RollableTable of(Object table) {
+        String id = OracleShapes.id(table);
+        String expression = OracleShapes.dice(table);
+        if (expression == null) {
+            throw new IllegalArgumentException("Oracle table " + id + " has no dice");
+        }
+        return new RollableTable(table, id, Dice.parse(expression), OracleShapes.rows(table),
+                OracleShapes.matchText(table));
+    }
+
+    /**
+     * Compiles rows ({@code OracleTableRowText*}) that aren't a table of
+     * their own, such as the features of a delve site's theme and domain
+     * together. The table has no {@link #source()}.
+     */
+    static RollableTable of(String id, Dice dice, List<?> rows) {
+        return new RollableTable(null, id, dice, rows, null);
+    }
+
+    public String id() {
+        return id;
+    }
+
+    /**
+     * Returns the table binding this was compiled from, or null if it was
+     * put together from rows of other objects.
+     */
+    public Object source() {
+        return source;
+    }
+
+    public Dice dice() {
+        return dice;
+    }
+
+    public int minRoll() {
+        return minRoll;
+    }
+
+    public int maxRoll() {
+        return maxRoll;
+    }
+
+    /**
+     * Returns the number of rows, including any that can't be rolled.
+     */
+    public int rows() {
+        return rows.length;
+    }
+
+    /**
+     * Returns a row binding ({@code OracleTableRowText*}).
+     */
+    public Object row(int row) {
+        return rows[row];
+    }
+
+    /**
+     * Returns the exact probability of rolling each row, computed from the
+     * dice when the table is compiled. The returned array is a copy.
+     */
+    public double[] probabilities() {
+        return probabilities.clone();
+    }
+
+    public double probability(int row) {
+        return probabilities[row];
+    }
+
+    /**
+     * Returns the probability of each row when rolling other dice on this
+     * table, as an {@code OracleRoll} with its own {@code dice} does, with
+     * the probability of landing in a gap or outside the table last.
+     */
+    double[] probabilities(Dice other) {
+        double[] distribution = other.distributionArray();
+        double[] result = new double[rows.length + 1];
+        for (int i = 0; i < distribution.length; i++) {
+            int row = rowFor(other.min() + i);
+            result[row < 0 ? rows.length : row] += distribution[i];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index of the row that {@code roll} lands on, or -1 if it's
+     * outside the dice's range or no row covers it.
+     */
+    public int rowFor(int roll) {
+        int offset = roll - minRoll;
+        if (offset < 0 || offset > maxRoll - minRoll) {
+            return -1;
+        }
+        return smallLookup != null ? smallLookup[offset] : lookup[offset];
+    }
+
+    /**
+     * Rolls the table and returns the index of the row rolled, or -1 if the
+     * roll landed in a gap between rows.
+     */
+    public int roll(RandomGenerator random) {
+        return rowFor(dice.roll(random));
+    }
+
+    /**
+     * Whether the table has a {@code match} behavior, calling for something
+     * special when a roll comes up a match.
+     */
+    public boolean hasMatch() {
+        return matches != null;
+    }
+
+    /**
+     * Returns the text of the table's {@code match} behavior, or null if it
+     * has none.
+     */
+    public String matchText() {
+        return matchText;
+    }
+
+    /**
+     * Whether {@code roll} is a match on this table: its digits are all the
+     * same, as 11, 22 ... 99 and 100 (read as 00) are on a d100. Always false
+     * for tables without a {@code match} behavior. The matches are worked out
+     * when the table is compiled, so this is a single bit test.
+     */
+    public boolean isMatch(int roll) {
+        int offset = roll - minRoll;
+        return matches != null && offset >= 0 && offset <= maxRoll - minRoll
+                && (matches[offset >>> 6] & 1L << offset) != 0;
+    }
+
+    /**
+     * Returns a row's {@code text}, or null if the row has none.
+     */
+    public String text(int row) {
+        return OracleShapes.text(rows[row], 1);
+    }
+
+    /**
+     * Returns a row's text in {@code column}: 1 for {@code text}, 2 for
+     * {@code text2} and 3 for {@code text3}.
+     */
+    public String text(int row, int column) {
+        return OracleShapes.text(rows[row], column);
+    }
+
+    @Override
+    public String toString() {
+        return id + " (" + dice + ")";
+    }
+
+    /**
+     * Marks the rolls whose digits are all the same. Only a single die with
+     * 100, 1000 ... sides, read as two, three ... digits, can come up a match.
+     */
+    private long[] matches(Dice dice) {
+        long[] bits = new long[(maxRoll - minRoll) / 64 + 1];
+        int digits = 0;
+        for (int sides = dice.sides(); sides > 1 && sides % 10 == 0; sides /= 10) {
+            digits++;
+        }
+        boolean powerOfTen = dice.sides() == (int) Math.pow(10, digits);
+        if (dice.count() != 1 || dice.modifier() != 0 || digits < 2 || !powerOfTen) {
+            return bits;
+        }
+        for (int roll = minRoll; roll <= maxRoll; roll++) {
+            int rest = roll % dice.sides();
+            int digit = rest % 10;
+            boolean match = true;
+            for (int i = 0; i < digits; i++, rest /= 10) {
+                match &= rest % 10 == digit;
+            }
+            if (match) {
+                int offset = roll - minRoll;
+                bits[offset >>> 6] |= 1L << offset;
+            }
+        }
+        return bits;
+    }
+
+    private void set(int offset, int row) {
+        if (smallLookup != null) {
+            smallLookup[offset] = (byte) row;
+        } else {
+            lookup[offset] = (short) row;
+        }
+    }
+}
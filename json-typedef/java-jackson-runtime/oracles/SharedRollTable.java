@@ -0,0 +1,187 @@
+package Datasworn.oracles;
+
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * A collection of oracle columns that share one roll, compiled into a single
+ * row-aligned table: {@code OracleCollectionTableSharedRolls} (such as
+ * given name, callsign and family name), and the shared-text collections
+ * {@code OracleCollectionTableSharedText}, {@code ...SharedText2} and
+ * {@code OracleCollectionOracleTableSharedText3} (such as Ask the Oracle,
+ * with a column for each likelihood).<p>
+ * Each possible roll maps to one run of cells, holding the row every column
+ * lands on, so a single roll yields all the columns' results from one
+ * contiguous read, and they always agree on the roll.
+ * <pre>
+ * SharedRollTable names = tables.shared("starforged/collections/oracles/characters/name");
+ * int[] rows = new int[names.columns()];
+ * names.roll(random, rows);
+ * String callsign = names.text(names.column("callsign"), rows[names.column("callsign")]);
+ * </pre>
+ */
+public final class SharedRollTable {
+    private final String id;
+    private final String[] keys;
+    private final int[] handles;
+    private final RollableTable[] columns;
+    private final Dice dice;
+    /** For each roll from the dice's minimum, the row of each column, or -1. */
+    private final short[] cells;
+
+    private SharedRollTable(String id, String[] keys, int[] handles, RollableTable[] columns, Dice dice,
+            short[] cells) {
+        this.id = id;
+        this.keys = keys;
+        this.handles = handles;
+        this.columns = columns;
+        this.dice = dice;
+        this.cells = cells;
+    }
+
+    /**
+     * Compiles a shared-roll collection whose columns are among
+     * {@code tables}.
+     *
+     * @throws IllegalArgumentException if a column isn't among the tables,
+     *                                  or the columns roll different dice.
+     */
+    public static SharedRollTable of(Object collection, OracleTables tables) {
+        String id = OracleShapes.collectionId(collection);
+        Map<String, ?> contents = OracleShapes.columns(collection);
+        String[] keys = contents.keySet().toArray(new String[0]);
+        int[] handles = new int[keys.length];
+        RollableTable[] columns = new RollableTable[keys.length];
+        Dice dice = null;
+        for (int c = 0; c < keys.length; c++) {
+            String columnId = OracleShapes.id(contents.get(keys[c]));
+            handles[c] = columnId == null ? -1 : tables.handle(columnId);
+            if (handles[c] < 0) {
+                throw new IllegalArgumentException("Column " + keys[c] + " of " + id + " isn't among the tables");
+            }
+            columns[c] = tables.table(handles[c]);
+            if (dice == null) {
+                dice = columns[c].dice();
+            } else if (!sameRolls(columns[c].dice(), dice)) {
+                throw new IllegalArgumentException("Columns of " + id + " roll both " + dice + " and "
+                        + columns[c].dice());
+            }
+        }
+        short[] cells = new short[dice == null ? 0 : dice.range() * keys.length];
+        for (int roll = 0; dice != null && roll < dice.range(); roll++) {
+            for (int c = 0; c < keys.length; c++) {
+                cells[roll * keys.length + c] = (short) columns[c].rowFor(dice.min() + roll);
+            }
+        }
+        return new SharedRollTable(id, keys, handles, columns, dice, cells);
+    }
+
+    /**
+     * Whether two dice roll the same totals, whichever expressions they were
+     * parsed from: {@code 1d100} and {@code 1d100+0} do.
+     */
+    private static boolean sameRolls(Dice a, Dice b) {
+        return a.count() == b.count() && a.sides() == b.sides() && a.modifier() == b.modifier();
+    }
+
+    public String id() {
+        return id;
+    }
+
+    /**
+     * Returns the dice the columns share, or null if there are no columns.
+     */
+    public Dice dice() {
+        return dice;
+    }
+
+    public int columns() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the key of a column in the collection's {@code contents}.
+     */
+    public String key(int column) {
+        return keys[column];
+    }
+
+    /**
+     * Returns the index of the column with the given key, or -1.
+     */
+    public int column(String key) {
+        for (int c = 0; c < keys.length; c++) {
+            if (keys[c].equals(key)) {
+                return c;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a column as a table of its own.
+     */
+    public RollableTable table(int column) {
+        return columns[column];
+    }
+
+    /**
+     * Returns the {@linkplain OracleTables#handle handle} of a column.
+     */
+    public int handle(int column) {
+        return handles[column];
+    }
+
+    /**
+     * Rolls once and writes the row each column lands on, or -1, to the
+     * start of {@code rows}.
+     *
+     * @return the dice total rolled.
+     */
+    public int roll(RandomGenerator random, int[] rows) {
+        int roll = dice.roll(random);
+        rowsFor(roll, rows);
+        return roll;
+    }
+
+    /**
+     * Writes the row each column lands on for {@code roll}, or -1, to the
+     * start of {@code rows}.
+     */
+    public void rowsFor(int roll, int[] rows) {
+        int offset = roll - dice.min();
+        if (offset < 0 || offset >= dice.range()) {
+            for (int c = 0; c < keys.length; c++) {
+                rows[c] = -1;
+            }
+            return;
+        }
+        int start = offset * keys.length;
+        for (int c = 0; c < keys.length; c++) {
+            rows[c] = cells[start + c];
+        }
+    }
+
+    /**
+     * Returns the row a column lands on for {@code roll}, or -1.
+     */
+    public int rowFor(int roll, int column) {
+        int offset = roll - dice.min();
+        if (offset < 0 || offset >= dice.range()) {
+            return -1;
+        }
+        return cells[offset * keys.length + column];
+    }
+
+    /**
+     * Returns a column's row {@code text}, or null if it has none.
+     */
+    public String text(int column, int row) {
+        return columns[column].text(row);
+    }
+
+    @Override
+    public String toString() {
+        return id + " (" + dice + ", " + String.join(", ", keys) + ")";
+    }
+}
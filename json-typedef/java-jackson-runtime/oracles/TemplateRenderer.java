@@ -0,0 +1,357 @@
+package Datasworn.oracles;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Renders oracle results, filling in {@code OracleRollTemplate}s such as
+ * {@code {{text:starforged/oracles/factions/legacy}} {{text:starforged/oracles/factions/affiliation}}}
+ * by rolling each table they name.<p>
+ * Every row template is parsed once, when the renderer is compiled, into its
+ * literal text and the handles of the tables between it, so rendering appends
+ * literals and rolled text straight to the output, with no pattern matching
+ * and no intermediate strings. {@code {{text:id}}}, {@code {{text2:id}}} and
+ * {@code {{text3:id}}} insert the rolled row's text in that column, and
+ * {@code {{table:id}}} its {@code text}. A rolled row that has a template of
+ * its own is rendered in turn, so templates that would end up rendering
+ * themselves are rejected when compiling. Placeholders naming tables that
+ * don't exist are kept as literal text, and listed by {@link #unresolved()}.<p>
+ * A result that {@link OracleResolver} has already resolved is rendered from
+ * the results its row's {@code oracle_rolls} called for, so the text agrees
+ * with them: each placeholder takes the next child result on its table, and
+ * only placeholders that have none left, such as those whose rolls aren't
+ * {@code auto}, are rolled.
+ * <pre>
+ * TemplateRenderer renderer = TemplateRenderer.of(tables);
+ * StringBuilder name = new StringBuilder();
+ * renderer.render(tables.handle("delve/oracles/site_name/format"), random, name);
+ * </pre>
+ */
+public final class TemplateRenderer {
+    private final OracleTables tables;
+    /** For each table handle, row and column, the row's template, or null. */
+    private final Template[][][] templates;
+    private final List<String> unresolved;
+
+    private TemplateRenderer(OracleTables tables, Template[][][] templates, List<String> unresolved) {
+        this.tables = tables;
+        this.templates = templates;
+        this.unresolved = unresolved;
+    }
+
+    /**
+     * @throws IllegalArgumentException if templates render each other in a
+     *                                  cycle.
+     */
+    public static TemplateRenderer of(OracleTables tables) {
+        Template[][][] templates = new Template[tables.size()][][];
+        List<String> unresolved = new ArrayList<>();
+        for (int handle = 0; handle < tables.size(); handle++) {
+            RollableTable table = tables.table(handle);
+            templates[handle] = new Template[table.rows()][];
+            for (int row = 0; row < table.rows(); row++) {
+                for (int column = 1; column <= 3; column++) {
+                    String text = OracleShapes.template(table.row(row), column);
+                    if (text == null) {
+                        continue;
+                    }
+                    if (templates[handle][row] == null) {
+                        templates[handle][row] = new Template[3];
+                    }
+                    templates[handle][row][column - 1] = compile(text, tables, unresolved);
+                }
+            }
+        }
+        TemplateRenderer renderer = new TemplateRenderer(tables, templates, List.copyOf(unresolved));
+        renderer.checkCycles();
+        return renderer;
+    }
+
+    /**
+     * Parses a template that isn't part of a table.
+     */
+    public Template compile(String text) {
+        return compile(text, tables, new ArrayList<>());
+    }
+
+    /**
+     * Returns the placeholders in the tables' templates that name tables
+     * that don't exist, such as {@code {{text:starforged/oracles/factions/legacy}}}.
+     */
+    public List<String> unresolved() {
+        return unresolved;
+    }
+
+    /**
+     * Rolls the table with the given handle and appends the result's text,
+     * or its rendered template if it has one.
+     *
+     * @return the index of the row rolled.
+     */
+    public int render(int table, RandomGenerator random, Appendable out) throws IOException {
+        int row = tables.table(table).roll(random);
+        renderRow(table, row, 1, random, out);
+        return row;
+    }
+
+    public int render(int table, RandomGenerator random, StringBuilder out) {
+        try {
+            return render(table, random, (Appendable) out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends a row's text in {@code column}, counting from 1, rendering its
+     * template if it has one. Nothing is appended for {@code row} -1.
+     */
+    public void renderRow(int table, int row, int column, RandomGenerator random, Appendable out)
+            throws IOException {
+        if (row < 0) {
+            return;
+        }
+        Template[] rowTemplates = templates[table][row];
+        Template template = rowTemplates == null ? null : rowTemplates[column - 1];
+        if (template != null) {
+            render(template, random, out);
+            return;
+        }
+        String text = tables.table(table).text(row, column);
+        if (text != null) {
+            out.append(text);
+        }
+    }
+
+    /**
+     * Appends the text of a resolved result, or its template rendered from
+     * the result's children in {@code results}, rolling only the tables a
+     * placeholder names that no child is left for.
+     */
+    public void render(RollResults results, int result, RandomGenerator random, Appendable out)
+            throws IOException {
+        render(results, result, 1, random, out);
+    }
+
+    public void render(RollResults results, int result, RandomGenerator random, StringBuilder out) {
+        try {
+            render(results, result, 1, random, (Appendable) out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void render(RollResults results, int result, int column, RandomGenerator random, Appendable out)
+            throws IOException {
+        int table = results.table(result);
+        int row = results.row(result);
+        if (row < 0) {
+            return;
+        }
+        Template template = template(table, row, column);
+        if (template == null) {
+            String text = tables.table(table).text(row, column);
+            if (text != null) {
+                out.append(text);
+            }
+            return;
+        }
+        for (int i = 0; i < template.tables.length; i++) {
+            out.append(template.literals[i]);
+            int child = child(results, result, template, i);
+            if (child >= 0) {
+                render(results, child, template.columns[i], random, out);
+            } else {
+                int target = template.tables[i];
+                renderRow(target, tables.table(target).roll(random), template.columns[i], random, out);
+            }
+        }
+        out.append(template.literals[template.tables.length]);
+    }
+
+    /**
+     * Returns the child of {@code parent} that the {@code i}th placeholder of
+     * its template takes, or -1 if there's none: the {@code n}th child on
+     * that table for the {@code n}th placeholder naming it. Children are a
+     * handful of results, so they're scanned rather than indexed.
+     */
+    private static int child(RollResults results, int parent, Template template, int i) {
+        int table = template.tables[i];
+        int skip = 0;
+        for (int j = 0; j < i; j++) {
+            if (template.tables[j] == table) {
+                skip++;
+            }
+        }
+        for (int r = parent + 1; r < results.size(); r++) {
+            if (results.parent(r) == parent && results.table(r) == table && skip-- == 0) {
+                return r;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Appends a template, rolling each table it names.
+     */
+    public void render(Template template, RandomGenerator random, Appendable out) throws IOException {
+        for (int i = 0; i < template.tables.length; i++) {
+            out.append(template.literals[i]);
+            int table = template.tables[i];
+            renderRow(table, tables.table(table).roll(random), template.columns[i], random, out);
+        }
+        out.append(template.literals[template.tables.length]);
+    }
+
+    public void render(Template template, RandomGenerator random, StringBuilder out) {
+        try {
+            render(template, random, (Appendable) out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns a row's template for {@code column}, counting from 1, or null
+     * if it has none.
+     */
+    public Template template(int table, int row, int column) {
+        Template[] rowTemplates = templates[table][row];
+        return rowTemplates == null ? null : rowTemplates[column - 1];
+    }
+
+    private static Template compile(String text, OracleTables tables, List<String> unresolved) {
+        List<String> literals = new ArrayList<>();
+        List<int[]> placeholders = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int start = 0;
+        for (int open = text.indexOf("{{"); open >= 0; open = text.indexOf("{{", start)) {
+            int close = text.indexOf("}}", open + 2);
+            if (close < 0) {
+                break;
+            }
+            int colon = text.indexOf(':', open + 2);
+            int column = colon < 0 || colon > close ? -1 : column(text, open + 2, colon);
+            int table = column < 0 ? -1 : tables.handle(text.substring(colon + 1, close));
+            literal.append(text, start, open);
+            if (table < 0) {
+                literal.append(text, open, close + 2);
+                unresolved.add(text.substring(open, close + 2));
+            } else {
+                literals.add(literal.toString());
+                literal.setLength(0);
+                placeholders.add(new int[] {table, column});
+            }
+            start = close + 2;
+        }
+        literal.append(text, start, text.length());
+        literals.add(literal.toString());
+
+        int[] handles = new int[placeholders.size()];
+        byte[] columns = new byte[placeholders.size()];
+        for (int i = 0; i < handles.length; i++) {
+            handles[i] = placeholders.get(i)[0];
+            columns[i] = (byte) placeholders.get(i)[1];
+        }
+        return new Template(text, literals.toArray(new String[0]), handles, columns);
+    }
+
+    /**
+     * Returns the column a placeholder kind inserts, or -1 for an unknown
+     * kind.
+     */
+    private static int column(String text, int start, int end) {
+        switch (text.substring(start, end)) {
+            case "text":
+            case "table":
+                return 1;
+            case "text2":
+                return 2;
+            case "text3":
+                return 3;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Rejects templates that would render themselves, with a depth-first
+     * search from each table over the tables its templates roll.
+     */
+    private void checkCycles() {
+        byte[] state = new byte[templates.length];
+        for (int handle = 0; handle < templates.length; handle++) {
+            if (state[handle] == 0) {
+                visit(handle, state);
+            }
+        }
+    }
+
+    private void visit(int handle, byte[] state) {
+        state[handle] = 1;
+        for (Template[] rowTemplates : templates[handle]) {
+            if (rowTemplates == null) {
+                continue;
+            }
+            for (Template template : rowTemplates) {
+                if (template == null) {
+                    continue;
+                }
+                for (int table : template.tables) {
+                    if (state[table] == 1) {
+                        throw new IllegalArgumentException("Templates of " + tables.table(handle).id()
+                                + " and " + tables.table(table).id() + " render each other in a cycle");
+                    }
+                    if (state[table] == 0) {
+                        visit(table, state);
+                    }
+                }
+            }
+        }
+        state[handle] = 2;
+    }
+
+    /**
+     * A parsed template: literal text, with a table to roll between each two
+     * literals.
+     */
+    public static final class Template {
+        private final String text;
+        /** One more literal than there are tables. */
+        final String[] literals;
+        final int[] tables;
+        final byte[] columns;
+
+        Template(String text, String[] literals, int[] tables, byte[] columns) {
+            this.text = text;
+            this.literals = literals;
+            this.tables = tables;
+            this.columns = columns;
+        }
+
+        /**
+         * Returns the number of tables the template rolls.
+         */
+        public int size() {
+            return tables.length;
+        }
+
+        /**
+         * Returns the handle of the {@code i}th table the template rolls.
+         */
+        public int table(int i) {
+            return tables[i];
+        }
+
+        /**
+         * Returns the template's source text.
+         */
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+}
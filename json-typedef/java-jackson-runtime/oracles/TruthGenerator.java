@@ -0,0 +1,262 @@
+package Datasworn.oracles;
+
+import Datasworn.MarkdownString;
+import Datasworn.Truth;
+import Datasworn.TruthOption;
+import Datasworn.index.DataswornIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Rolls a campaign's truths: an option for every {@code Truth} of one or more
+ * packages, and a row of the option's own table where it has one (such as
+ * the cause of the cataclysm), all in one call.<p>
+ * Each truth is compiled like a {@link RollableTable}, into an array from
+ * every roll of its dice to the option it lands on, and each option's
+ * {@code TruthOptionTable} into a {@code RollableTable} of its own. Rolling
+ * fills a {@link TruthResults} buffer with option and row indexes only; the
+ * options' {@code summary}, {@code quest_starter} and {@code description} are
+ * read from the bindings when asked for, so a campaign whose texts are never
+ * shown costs no more than its rolls. Generators are immutable and safe to
+ * share between threads.
+ * <pre>
+ * TruthGenerator truths = TruthGenerator.of(index, "starforged");
+ * TruthResults results = new TruthResults();
+ * truths.roll(random, results);
+ * for (int truth = 0; truth &lt; truths.size(); truth++) {
+ *     System.out.println(truths.summary(truth, results.option(truth)));
+ * }
+ * </pre>
+ */
+public final class TruthGenerator {
+    private final Truth[] truths;
+    private final String[] ids;
+    private final Dice[] dice;
+    /** For each truth, the option for each roll from the dice's minimum, or -1. */
+    private final byte[][] lookups;
+    /** For each truth and option, the option's table, or null. */
+    private final RollableTable[][] tables;
+    private final List<String> overlaps;
+
+    private TruthGenerator(Truth[] truths, String[] ids, Dice[] dice, byte[][] lookups, RollableTable[][] tables,
+            List<String> overlaps) {
+        this.truths = truths;
+        this.ids = ids;
+        this.dice = dice;
+        this.lookups = lookups;
+        this.tables = tables;
+        this.overlaps = overlaps;
+    }
+
+    /**
+     * Compiles the truths of the packages with the given IDs, or of every
+     * package in the index if none are given, in ID order.
+     *
+     * @throws IllegalArgumentException if a truth or an option's table has
+     *                                  no dice, an option or row falls
+     *                                  outside its dice, or rows overlap.
+     */
+    public static TruthGenerator of(DataswornIndex index, String... packages) {
+        List<Truth> found = new ArrayList<>();
+        for (int handle = 0; handle < index.size(); handle++) {
+            String id = index.id(handle);
+            Object node = index.get(id);
+            if (node instanceof Truth && inPackages(id, packages)) {
+                found.add((Truth) node);
+            }
+        }
+        int size = found.size();
+        Truth[] truths = found.toArray(new Truth[0]);
+        String[] ids = new String[size];
+        Dice[] dice = new Dice[size];
+        byte[][] lookups = new byte[size][];
+        RollableTable[][] tables = new RollableTable[size][];
+        List<String> overlaps = new ArrayList<>();
+        for (int truth = 0; truth < size; truth++) {
+            ids[truth] = truths[truth].getId() == null ? null : truths[truth].getId().getValue();
+            dice[truth] = Dice.of(truths[truth].getDice());
+            List<TruthOption> options = options(truths[truth]);
+            if (options.size() > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException("Truth " + ids[truth] + " has too many options");
+            }
+            lookups[truth] = lookup(ids[truth], dice[truth], options, overlaps);
+            tables[truth] = new RollableTable[options.size()];
+            for (int option = 0; option < options.size(); option++) {
+                if (options.get(option).getTable() != null) {
+                    tables[truth][option] = RollableTable.of(options.get(option).getTable());
+                }
+            }
+        }
+        return new TruthGenerator(truths, ids, dice, lookups, tables, List.copyOf(overlaps));
+    }
+
+    /**
+     * Returns the options whose rolls overlap an earlier option's, such as
+     * {@code classic/truths/mysticism option 2}. The earlier option keeps
+     * the rolls they share.
+     */
+    public List<String> overlaps() {
+        return overlaps;
+    }
+
+    /**
+     * Returns the number of truths.
+     */
+    public int size() {
+        return truths.length;
+    }
+
+    public String id(int truth) {
+        return ids[truth];
+    }
+
+    /**
+     * Returns the index of the truth with the given ID, or -1.
+     */
+    public int truth(String id) {
+        for (int truth = 0; truth < ids.length; truth++) {
+            if (id.equals(ids[truth])) {
+                return truth;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the truth binding.
+     */
+    public Truth source(int truth) {
+        return truths[truth];
+    }
+
+    public Dice dice(int truth) {
+        return dice[truth];
+    }
+
+    /**
+     * Returns the number of options a truth has.
+     */
+    public int options(int truth) {
+        return tables[truth].length;
+    }
+
+    /**
+     * Returns an option binding.
+     */
+    public TruthOption option(int truth, int option) {
+        return options(truths[truth]).get(option);
+    }
+
+    /**
+     * Returns the index of the option that {@code roll} lands on, or -1 if
+     * no option covers it.
+     */
+    public int optionFor(int truth, int roll) {
+        int offset = roll - dice[truth].min();
+        byte[] lookup = lookups[truth];
+        return offset < 0 || offset >= lookup.length ? -1 : lookup[offset];
+    }
+
+    /**
+     * Returns an option's table, or null if it has none.
+     */
+    public RollableTable table(int truth, int option) {
+        return tables[truth][option];
+    }
+
+    /**
+     * Clears {@code results} and fills it with a roll on every truth: the
+     * option rolled and, for options with a table, the row rolled on it.
+     */
+    public void roll(RandomGenerator random, TruthResults results) {
+        results.reset(truths.length);
+        for (int truth = 0; truth < truths.length; truth++) {
+            int roll = dice[truth].roll(random);
+            int option = optionFor(truth, roll);
+            RollableTable table = option < 0 ? null : tables[truth][option];
+            results.set(truth, roll, option, table == null ? -1 : table.roll(random));
+        }
+    }
+
+    /**
+     * Returns an option's {@code summary}, or null if it has none.
+     */
+    public String summary(int truth, int option) {
+        return option < 0 ? null : text(option(truth, option).getSummary());
+    }
+
+    /**
+     * Returns an option's {@code quest_starter}, or null if it has none.
+     */
+    public String questStarter(int truth, int option) {
+        return option < 0 ? null : text(option(truth, option).getQuestStarter());
+    }
+
+    /**
+     * Returns an option's {@code description}, or null if it has none.
+     */
+    public String description(int truth, int option) {
+        return option < 0 ? null : text(option(truth, option).getDescription());
+    }
+
+    /**
+     * Returns the {@code text} of a row of an option's table, or null if
+     * there's no such row.
+     */
+    public String text(int truth, int option, int row) {
+        RollableTable table = option < 0 ? null : tables[truth][option];
+        return table == null || row < 0 ? null : table.text(row);
+    }
+
+    private static boolean inPackages(String id, String[] packages) {
+        if (packages.length == 0) {
+            return true;
+        }
+        for (String rulesPackage : packages) {
+            if (id.length() > rulesPackage.length() && id.startsWith(rulesPackage)
+                    && id.charAt(rulesPackage.length()) == '/') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<TruthOption> options(Truth truth) {
+        return truth.getOptions() == null ? List.of() : truth.getOptions();
+    }
+
+    private static byte[] lookup(String id, Dice dice, List<TruthOption> options, List<String> overlaps) {
+        byte[] lookup = new byte[dice.range()];
+        Arrays.fill(lookup, (byte) -1);
+        for (int option = 0; option < options.size(); option++) {
+            Short min = options.get(option).getMin();
+            Short max = options.get(option).getMax();
+            if (min == null || max == null) {
+                continue;
+            }
+            if (min < dice.min() || max > dice.max() || min > max) {
+                throw new IllegalArgumentException("Option " + option + " of truth " + id + " has range " + min
+                        + "-" + max + ", outside " + dice);
+            }
+            boolean overlapped = false;
+            for (int roll = min; roll <= max; roll++) {
+                if (lookup[roll - dice.min()] >= 0) {
+                    overlapped = true;
+                } else {
+                    lookup[roll - dice.min()] = (byte) option;
+                }
+            }
+            if (overlapped) {
+                overlaps.add(id + " option " + option);
+            }
+        }
+        return lookup;
+    }
+
+    private static String text(MarkdownString text) {
+        return text == null ? null : text.getValue();
+    }
+}
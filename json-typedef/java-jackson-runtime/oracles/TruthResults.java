@@ -0,0 +1,76 @@
+package Datasworn.oracles;
+
+import java.util.Arrays;
+
+/**
+ * A reusable buffer for a campaign's truths, filled by
+ * {@link TruthGenerator#roll}: for each truth, in the generator's order, the
+ * dice total, the option it landed on and the row rolled on the option's
+ * table.<p>
+ * Results are held in primitive arrays that only grow, so a buffer that is
+ * refilled again and again doesn't allocate. Buffers aren't thread-safe;
+ * give each thread its own.
+ */
+public final class TruthResults {
+    private int size;
+    private int[] rolls = new int[0];
+    private int[] options = new int[0];
+    private int[] rows = new int[0];
+
+    /**
+     * Returns the number of truths rolled.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the dice total rolled for a truth.
+     */
+    public int roll(int truth) {
+        return rolls[check(truth)];
+    }
+
+    /**
+     * Returns the index of the option rolled, or -1 if the roll landed
+     * outside every option.
+     */
+    public int option(int truth) {
+        return options[check(truth)];
+    }
+
+    /**
+     * Returns the index of the row rolled on the option's table, or -1 if
+     * the option has no table.
+     */
+    public int row(int truth) {
+        return rows[check(truth)];
+    }
+
+    void reset(int size) {
+        if (rolls.length < size) {
+            rolls = new int[size];
+            options = new int[size];
+            rows = new int[size];
+        }
+        this.size = size;
+    }
+
+    void set(int truth, int roll, int option, int row) {
+        rolls[truth] = roll;
+        options[truth] = option;
+        rows[truth] = row;
+    }
+
+    private int check(int truth) {
+        if (truth < 0 || truth >= size) {
+            throw new IndexOutOfBoundsException("Truth " + truth + " out of " + size);
+        }
+        return truth;
+    }
+
+    @Override
+    public String toString() {
+        return "TruthResults" + Arrays.toString(Arrays.copyOf(options, size));
+    }
+}
@@ -0,0 +1,171 @@
+package Datasworn.character;
+
+import Datasworn.RulesPackage;
+import Datasworn.index.DataswornIndex;
+import Datasworn.io.RulesPackageLoader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Checks that concurrent updates to one {@link AssetStateStore} record
+ * aren't lost: {@code add} and {@code compareAndSet} on one counter, flags
+ * packed in one word, and a condition meter whose {@code max} changes under
+ * it.
+ * <pre>
+ * java Datasworn.character.AssetStateStoreTest [package.json ...]
+ * </pre>
+ */
+public final class AssetStateStoreTest {
+    private static final String[] PACKAGES = {
+        "datasworn/starforged/starforged.json",
+    };
+    private static final int THREADS = 4;
+    private static final int UPDATES = 5000;
+
+    private AssetStateStoreTest() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        List<RulesPackage> packages = new ArrayList<>();
+        for (String file : args.length > 0 ? args : PACKAGES) {
+            packages.add(RulesPackageLoader.read(Path.of(file)));
+        }
+        CharacterSchema schema = CharacterSchema.of(DataswornIndex.of(packages));
+        AssetStateStore store = AssetStateStore.of(schema);
+        counter(store, schema.asset("starforged/assets/support_vehicle/snub_fighter"));
+        flags(store, schema.asset("starforged/assets/command_vehicle/starship"));
+        meter(store, schema.asset("starforged/assets/companion/symbiote"));
+        System.out.println("AssetStateStoreTest passed");
+    }
+
+    /**
+     * Half the threads add 1 to a counter, and half increment it with
+     * compareAndSet, so every update must land.
+     */
+    private static void counter(AssetStateStore store, int asset) throws InterruptedException {
+        int record = store.add(asset);
+        int marks = store.layout(asset).field("abilities/2/victory_marks");
+        Runnable[] tasks = new Runnable[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            boolean add = t % 2 == 0;
+            tasks[t] = () -> {
+                for (int i = 0; i < UPDATES; i++) {
+                    if (add) {
+                        store.add(record, marks, 1);
+                    } else {
+                        int value;
+                        do {
+                            value = store.get(record, marks);
+                        } while (!store.compareAndSet(record, marks, value, value + 1));
+                    }
+                }
+            };
+        }
+        run(tasks);
+        expect(store.get(record, marks), THREADS * UPDATES, "victory marks");
+    }
+
+    /**
+     * Each thread checks and unchecks its own box, ending checked; the boxes
+     * share a word.
+     */
+    private static void flags(AssetStateStore store, int asset) throws InterruptedException {
+        int record = store.add(asset);
+        AssetLayout layout = store.layout(asset);
+        List<Runnable> tasks = new ArrayList<>();
+        for (int field = 0; field < layout.fields(); field++) {
+            if (layout.storage(field) == AssetLayout.FLAG) {
+                int flag = field;
+                tasks.add(() -> {
+                    for (int i = 0; i <= UPDATES; i++) {
+                        store.set(record, flag, i % 2 == 0 ? 1 : 0);
+                    }
+                });
+            }
+        }
+        if (tasks.size() < 2) {
+            throw new AssertionError(layout.id() + " has " + tasks.size() + " flags, expected at least 2");
+        }
+        run(tasks.toArray(new Runnable[0]));
+        for (int field = 0; field < layout.fields(); field++) {
+            if (layout.storage(field) == AssetLayout.FLAG) {
+                expect(store.get(record, field), 1, layout.path(field));
+            }
+        }
+    }
+
+    /**
+     * Threads add to a meter while another raises and lowers its max,
+     * ending at the asset's own; the meter must never pass its max.
+     */
+    private static void meter(AssetStateStore store, int asset) throws InterruptedException {
+        int record = store.add(asset);
+        AssetLayout layout = store.layout(asset);
+        int health = layout.field("health");
+        if (layout.limit(health) <= layout.max(health)) {
+            throw new AssertionError(layout.id() + " health can't be raised");
+        }
+        Runnable[] tasks = new Runnable[THREADS];
+        tasks[0] = () -> {
+            for (int i = 0; i <= UPDATES; i++) {
+                store.setMax(record, health, i % 2 == 0 ? layout.max(health) : layout.limit(health));
+            }
+        };
+        for (int t = 1; t < THREADS; t++) {
+            tasks[t] = () -> {
+                for (int i = 0; i < UPDATES; i++) {
+                    int value = store.add(record, health, 1);
+                    if (value > layout.limit(health)) {
+                        throw new AssertionError("Health " + value + " above " + layout.limit(health));
+                    }
+                    store.compareAndSet(record, health, value, value - 1);
+                }
+            };
+        }
+        run(tasks);
+        expect(store.max(record, health), layout.max(health), "health max");
+        if (store.get(record, health) > layout.max(health)) {
+            throw new AssertionError("Health " + store.get(record, health) + " above " + layout.max(health));
+        }
+    }
+
+    /**
+     * Runs tasks on threads of their own, started together, and rethrows
+     * the first failure.
+     */
+    private static void run(Runnable... tasks) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread[] threads = new Thread[tasks.length];
+        for (int t = 0; t < tasks.length; t++) {
+            Runnable task = tasks[t];
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            threads[t].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+    }
+
+    private static void expect(int actual, int expected, String what) {
+        if (actual != expected) {
+            throw new AssertionError("Expected " + what + " " + expected + ", got " + actual);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package Datasworn.index;
+
+import Datasworn.io.RulesPackageLoader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Checks {@link WildcardMatcher} on move, oracle and asset wildcards: that
+ * {@code *} matches one segment and {@code **} one to three, wherever it
+ * is, and that {@code select} and {@code forEachMatch} find what testing
+ * each ID with {@code matches} does.
+ * <pre>
+ * java Datasworn.index.WildcardMatcherTest [starforged.json]
+ * </pre>
+ */
+public final class WildcardMatcherTest {
+    private static final String PACKAGE = "datasworn/starforged/starforged.json";
+    private static final String ICE_OUTLANDS = "starforged/oracles/planets/ice/settlements/outlands";
+
+    private WildcardMatcherTest() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        DataswornIndex index = DataswornIndex.of(RulesPackageLoader.read(Path.of(args.length > 0 ? args[0] : PACKAGE)));
+
+        // * is one segment: both move categories have a Face Danger.
+        expect(index, "starforged/moves/*/face_danger",
+                "starforged/moves/adventure/face_danger", "starforged/moves/scene_challenge/face_danger");
+        matches("starforged/moves/*/face_danger", "starforged/moves/adventure/secure_an_advantage", false);
+        matches("starforged/moves/*/face_danger", "starforged/moves/face_danger", false);
+        matches("starforged/moves/*", "starforged/moves/adventure/face_danger", false);
+
+        // ** at the start, in the middle and at the end.
+        matches("**/planets/ice/settlements/outlands", ICE_OUTLANDS, true);
+        matches("*/oracles/**/settlements/outlands", ICE_OUTLANDS, true);
+        matches("starforged/oracles/planets/**", ICE_OUTLANDS, true);
+        // It can't match nothing, nor more than three segments.
+        matches("starforged/oracles/planets/ice/**/outlands", ICE_OUTLANDS, true);
+        matches("starforged/oracles/planets/ice/settlements/**/outlands", ICE_OUTLANDS, false);
+        matches("**/settlements/outlands", ICE_OUTLANDS, false);
+        matches("starforged/oracles/**", ICE_OUTLANDS, false);
+        matches("*/oracles/**/settlements/outlands", "starforged/oracles/planets/ice/settlements/expanse", false);
+
+        // Eleven planet types, each with three settlement oracles.
+        List<String> outlands = select(index, "*/oracles/**/settlements/outlands");
+        if (outlands.size() != 11 || !outlands.contains(ICE_OUTLANDS)) {
+            throw new AssertionError("Expected 11 outlands oracles, got " + outlands);
+        }
+        if (select(index, "**/settlements/*").contains(ICE_OUTLANDS)) {
+            throw new AssertionError("**/settlements/* matched an oracle four segments down");
+        }
+        if (select(index, "starforged/oracles/planets/**/settlements/*").size() != 33) {
+            throw new AssertionError("Expected 33 settlement oracles");
+        }
+
+        // Assets and their abilities.
+        List<String> companions = select(index, "*/assets/companion/*");
+        if (companions.size() != 11 || !companions.contains("starforged/assets/companion/protocol_bot")) {
+            throw new AssertionError("Expected 11 companions, got " + companions);
+        }
+        matches("*/assets/companion/*", "starforged/assets/companion/protocol_bot/abilities/0", false);
+        matches("*/assets/companion/**", "starforged/assets/companion/protocol_bot/abilities/0", true);
+        expect(index, "starforged/assets/companion/protocol_bot/abilities/*",
+                "starforged/assets/companion/protocol_bot/abilities/0",
+                "starforged/assets/companion/protocol_bot/abilities/1",
+                "starforged/assets/companion/protocol_bot/abilities/2");
+        expect(index, "*/assets/companion/no_such_asset");
+
+        // Several wildcards at once, numbered in order.
+        String[] wildcards = {
+            "starforged/moves/*/face_danger", "**/planets/ice/settlements/*", "*/assets/companion/*", "*/oracles/planets/**",
+        };
+        WildcardMatcher all = WildcardMatcher.compile(wildcards);
+        List<List<String>> found = new ArrayList<>();
+        for (int i = 0; i < wildcards.length; i++) {
+            found.add(new ArrayList<>());
+        }
+        all.forEachMatch(index, (id, i) -> found.get(i).add(id));
+        TreeSet<String> union = new TreeSet<>();
+        for (int i = 0; i < wildcards.length; i++) {
+            List<String> one = select(index, wildcards[i]);
+            if (!found.get(i).equals(one)) {
+                throw new AssertionError("forEachMatch found " + found.get(i).size() + " IDs for " + wildcards[i]
+                        + ", select found " + one.size());
+            }
+            union.addAll(one);
+        }
+        if (!all.select(index).equals(new ArrayList<>(union))) {
+            throw new AssertionError("select of every wildcard isn't the union of each");
+        }
+        BitSet bits = new BitSet();
+        if (!all.matches(ICE_OUTLANDS, bits) || !bits.equals(BitSet.valueOf(new long[] { 0b1010 }))) {
+            throw new AssertionError("Expected wildcards 1 and 3 to match " + ICE_OUTLANDS + ", got " + bits);
+        }
+
+        try {
+            WildcardMatcher.compile("starforged/moves/*", "");
+            throw new AssertionError("An empty wildcard was compiled");
+        } catch (IllegalArgumentException expected) {
+            // Expected.
+        }
+        System.out.println("WildcardMatcherTest passed");
+    }
+
+    private static void matches(String wildcard, String id, boolean expected) {
+        if (WildcardMatcher.compile(wildcard).matches(id) != expected) {
+            throw new AssertionError(wildcard + (expected ? " didn't match " : " matched ") + id);
+        }
+    }
+
+    /**
+     * Selects the IDs a wildcard matches, checking that they're sorted and
+     * are those that {@code matches} accepts.
+     */
+    private static List<String> select(DataswornIndex index, String wildcard) {
+        WildcardMatcher matcher = WildcardMatcher.compile(wildcard);
+        List<String> expected = new ArrayList<>();
+        for (String id : new TreeSet<>(index.ids())) {
+            if (matcher.matches(id)) {
+                expected.add(id);
+            }
+        }
+        List<String> selected = matcher.select(index);
+        if (!selected.equals(expected)) {
+            throw new AssertionError("select found " + selected + " for " + wildcard + ", expected " + expected);
+        }
+        return selected;
+    }
+
+    private static void expect(DataswornIndex index, String wildcard, String... ids) {
+        List<String> selected = select(index, wildcard);
+        if (!selected.equals(List.of(ids))) {
+            throw new AssertionError("Expected " + List.of(ids) + " for " + wildcard + ", got " + selected);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package Datasworn.io;
+
+import Datasworn.RulesPackage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+/**
+ * Checks that a package round-trips through {@link RulesPackageSnapshot}
+ * unchanged, as the {@link DataswornModule} serializer sees it, and that a
+ * truncated or corrupt snapshot is rejected by {@code read} and replaced by
+ * {@code load}.
+ * <pre>
+ * java Datasworn.io.RulesPackageSnapshotTest [package.json]
+ * </pre>
+ */
+public final class RulesPackageSnapshotTest {
+    private static final String PACKAGE = "datasworn/starforged/starforged.json";
+
+    private RulesPackageSnapshotTest() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path json = Path.of(args.length > 0 ? args[0] : PACKAGE);
+        ObjectMapper mapper = new ObjectMapper().registerModule(new DataswornModule());
+        JsonNode expected = tree(mapper, RulesPackageLoader.read(json));
+
+        byte[] snapshot = RulesPackageSnapshot.toBytes(RulesPackageLoader.read(json));
+        same(expected, tree(mapper, RulesPackageSnapshot.read(ByteBuffer.wrap(snapshot))), "snapshot");
+        // A second read of the same bytes gives the same package.
+        same(expected, tree(mapper, RulesPackageSnapshot.read(ByteBuffer.wrap(snapshot))), "second read");
+
+        for (int length : new int[] { 0, 3, 12, 40, snapshot.length / 2, snapshot.length - 1 }) {
+            rejected(Arrays.copyOf(snapshot, length), "snapshot truncated to " + length + " bytes");
+        }
+        // The magic, the bindings' fingerprint, and a byte in the middle and
+        // at the end of the payload, which the checksum covers.
+        for (int offset : new int[] { 0, 6, snapshot.length / 2, snapshot.length - 1 }) {
+            byte[] corrupt = snapshot.clone();
+            corrupt[offset] ^= 0x40;
+            rejected(corrupt, "snapshot with byte " + offset + " flipped");
+        }
+
+        Path dir = Files.createTempDirectory("snapshot-test");
+        try {
+            Path copy = Files.copy(json, dir.resolve("package.json"));
+            Path file = dir.resolve("package.snapshot");
+            byte[] corrupt = snapshot.clone();
+            corrupt[snapshot.length / 2] ^= 0x40;
+            Files.write(file, corrupt);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(copy).toMillis() + 1000));
+            // A corrupt snapshot falls back to the JSON and is rewritten.
+            same(expected, tree(mapper, RulesPackageSnapshot.load(copy, file)), "load over a corrupt snapshot");
+            same(expected, tree(mapper, RulesPackageSnapshot.read(file)), "rewritten snapshot");
+
+            // A snapshot older than its JSON is stale, and is rewritten too.
+            Files.write(file, Arrays.copyOf(snapshot, 40));
+            Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(copy).toMillis() - 1000));
+            same(expected, tree(mapper, RulesPackageSnapshot.load(copy, file)), "load over a stale snapshot");
+            same(expected, tree(mapper, RulesPackageSnapshot.read(file)), "refreshed snapshot");
+
+            // A missing one is written.
+            Files.delete(file);
+            same(expected, tree(mapper, RulesPackageSnapshot.load(copy, file)), "load without a snapshot");
+            if (!Files.exists(file)) {
+                throw new AssertionError("load didn't write a snapshot");
+            }
+        } finally {
+            try (var files = Files.list(dir)) {
+                for (Path path : (Iterable<Path>) files::iterator) {
+                    Files.delete(path);
+                }
+            }
+            Files.delete(dir);
+        }
+        System.out.println("RulesPackageSnapshotTest passed");
+    }
+
+    private static JsonNode tree(ObjectMapper mapper, RulesPackage rulesPackage) throws IOException {
+        return mapper.readTree(mapper.writeValueAsBytes(rulesPackage));
+    }
+
+    private static void same(JsonNode expected, JsonNode actual, String what) {
+        if (!expected.equals(actual)) {
+            throw new AssertionError("The " + what + " doesn't match the JSON");
+        }
+    }
+
+    private static void rejected(byte[] snapshot, String what) {
+        try {
+            RulesPackageSnapshot.read(ByteBuffer.wrap(snapshot));
+        } catch (IOException expected) {
+            return;
+        }
+        throw new AssertionError("A " + what + " was read");
+    }
+}
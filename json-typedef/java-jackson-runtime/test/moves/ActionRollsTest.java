@@ -0,0 +1,59 @@
+package Datasworn.moves;
+
+/**
+ * Checks {@link ActionRolls} against odds worked out by hand: the ways a
+ * d6 plus a modifier beats two d10s, out of 600, and a progress score out of
+ * 100.
+ */
+public final class ActionRollsTest {
+    private ActionRollsTest() {
+    }
+
+    public static void main(String[] args) {
+        // Score s beats both d10s in (s - 1)^2 ways and neither in (11 - s)^2.
+        // A d6 plus 0 gives scores 1 to 6, with 1 + 4 + ... + 25 strong hits.
+        expect(ActionRolls.action(0), 55, 190, 355, 15, 45, 600);
+        // Plus 2 gives 3 to 8.
+        expect(ActionRolls.action(2), 139, 262, 199, 27, 33, 600);
+        // Plus 9 or more is capped at 10 on every die.
+        expect(ActionRolls.action(9), 486, 108, 6, 54, 6, 600);
+        expect(ActionRolls.action(40), 486, 108, 6, 54, 6, 600);
+
+        // Momentum of -6 cancels a 6, leaving a score of 0, which misses.
+        expect(ActionRolls.action(0, -6, false), 30, 140, 430, 10, 50, 600);
+        // Burning momentum of 10 makes every score 10.
+        expect(ActionRolls.action(0, 10, true), 486, 108, 6, 54, 6, 600);
+        // Momentum that isn't burnt, and isn't negative, changes nothing.
+        same(ActionRolls.action(0), ActionRolls.action(0, 10, false));
+        // Burning momentum below the score changes nothing either.
+        same(ActionRolls.action(5), ActionRolls.action(5, 2, true));
+
+        expect(ActionRolls.progress(0), 0, 0, 100, 0, 10, 100);
+        expect(ActionRolls.progress(6), 25, 50, 25, 5, 5, 100);
+        expect(ActionRolls.progress(10), 81, 18, 1, 9, 1, 100);
+        same(ActionRolls.progress(10), ActionRolls.progress(11));
+
+        try {
+            ActionRolls.action(0, ActionRolls.MAX_MOMENTUM + 1, false);
+            throw new AssertionError("Momentum above the maximum was accepted");
+        } catch (IllegalArgumentException expected) {
+            // Expected.
+        }
+        System.out.println("ActionRollsTest passed");
+    }
+
+    private static void expect(RollOdds odds, int strongHits, int weakHits, int misses, int strongHitMatches,
+            int missMatches, int total) {
+        if (odds.strongHits() != strongHits || odds.weakHits() != weakHits || odds.misses() != misses
+                || odds.strongHitMatches() != strongHitMatches || odds.missMatches() != missMatches
+                || odds.total() != total) {
+            throw new AssertionError("Expected strong " + strongHits + ", weak " + weakHits + ", miss " + misses
+                    + ", matches " + strongHitMatches + "/" + missMatches + " / " + total + ", got " + odds);
+        }
+    }
+
+    private static void same(RollOdds expected, RollOdds actual) {
+        expect(actual, expected.strongHits(), expected.weakHits(), expected.misses(), expected.strongHitMatches(),
+                expected.missMatches(), expected.total());
+    }
+}
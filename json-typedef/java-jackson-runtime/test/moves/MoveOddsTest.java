@@ -0,0 +1,66 @@
+package Datasworn.moves;
+
+import Datasworn.RollableValue;
+import Datasworn.RollableValueConditionMeter;
+import Datasworn.RulesPackage;
+import Datasworn.index.DataswornIndex;
+import Datasworn.io.RulesPackageLoader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checks the odds of an {@link EffectiveMove} against known values: the
+ * condition an enhancement adds is rolled like the move's own.
+ * <pre>
+ * java Datasworn.moves.MoveOddsTest [package.json ...]
+ * </pre>
+ */
+public final class MoveOddsTest {
+    private static final String[] PACKAGES = {
+        "datasworn/starforged/starforged.json",
+    };
+    private static final String EMPATH = "starforged/assets/path/empath";
+    private static final String FACE_DANGER = "starforged/moves/adventure/face_danger";
+
+    private MoveOddsTest() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<RulesPackage> packages = new ArrayList<>();
+        for (String file : args.length > 0 ? args : PACKAGES) {
+            packages.add(RulesPackageLoader.read(Path.of(file)));
+        }
+        EffectiveMoves engine = EffectiveMoves.of(DataswornIndex.of(packages));
+        // A character with spirit 4 and no other values.
+        RollValues values = (RollableValue option) -> option instanceof RollableValueConditionMeter
+                && "spirit".equals(((RollableValueConditionMeter) option).getConditionMeter().getValue().getValue())
+                ? 4 : RollValues.NONE;
+
+        EffectiveMove base = engine.empty().move(FACE_DANGER);
+        for (RollOdds[] condition : MoveOdds.of(base, values, 0, 0, false, 0)) {
+            if (condition.length != 0) {
+                throw new AssertionError("Face Danger rolled with a stat the character doesn't have");
+            }
+        }
+
+        MoveSet set = engine.empty().withAsset(engine.asset(EMPATH), true)
+                .withAbility(engine.ability(EMPATH + "/abilities/2"), true);
+        EffectiveMove move = set.move(FACE_DANGER);
+        List<RollOdds[]> odds = MoveOdds.of(move, values, 1, 0, false, 0);
+        if (odds.size() != base.conditions().size() + 1) {
+            throw new AssertionError("Expected one more condition than " + base.conditions().size() + ", got "
+                    + odds.size());
+        }
+        RollOdds[] spirit = odds.get(odds.size() - 1);
+        // Spirit 4 plus 1 gives scores 6 to 10, with 25 + 36 + 49 + 64 + 81 + 81 strong hits.
+        if (spirit.length != 1 || spirit[0].strongHits() != 336 || spirit[0].misses() != 56) {
+            throw new AssertionError("Expected 336 strong hits and 56 misses out of 600, got "
+                    + Arrays.toString(spirit));
+        }
+        System.out.println("MoveOddsTest passed");
+    }
+}
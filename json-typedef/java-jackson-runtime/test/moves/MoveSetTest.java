@@ -0,0 +1,80 @@
+package Datasworn.moves;
+
+import Datasworn.RulesPackage;
+import Datasworn.index.DataswornIndex;
+import Datasworn.io.RulesPackageLoader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Checks that the sets {@link EffectiveMoves} steps to as assets are owned
+ * and abilities enabled, at random, equal the sets computed from scratch
+ * for the same bitset.
+ * <pre>
+ * java Datasworn.moves.MoveSetTest [package.json ...]
+ * </pre>
+ */
+public final class MoveSetTest {
+    private static final String[] PACKAGES = {
+        "datasworn/classic/classic.json",
+        "datasworn/delve/delve.json",
+        "datasworn/starforged/starforged.json",
+    };
+
+    private MoveSetTest() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<RulesPackage> packages = new ArrayList<>();
+        for (String file : args.length > 0 ? args : PACKAGES) {
+            packages.add(RulesPackageLoader.read(Path.of(file)));
+        }
+        // With no cache, get computes every set from scratch.
+        EffectiveMoves engine = EffectiveMoves.of(DataswornIndex.of(packages), 0);
+        Random random = new Random(1);
+        MoveSet set = engine.empty();
+        for (int step = 0; step < 2000; step++) {
+            if (random.nextInt(3) == 0) {
+                set = set.withAsset(random.nextInt(engine.assets()), random.nextBoolean());
+            } else {
+                int ability = random.nextInt(engine.abilities());
+                set = set.owns(engine.abilityAsset(ability)) ? set.withAbility(ability, random.nextBoolean())
+                        : set.withAsset(engine.abilityAsset(ability), true);
+            }
+            if (step % 10 == 0) {
+                check(set, engine.get(set.key()), step);
+            }
+        }
+        if (engine.cached() != 0) {
+            throw new AssertionError("An engine with no capacity cached " + engine.cached() + " sets");
+        }
+        System.out.println("MoveSetTest passed");
+    }
+
+    private static void check(MoveSet stepped, MoveSet fresh, int step) {
+        if (!stepped.equals(fresh)) {
+            throw new AssertionError("Step " + step + ": keys differ");
+        }
+        for (int move = 0; move < stepped.engine().moves(); move++) {
+            EffectiveMove a = stepped.move(move);
+            EffectiveMove b = fresh.move(move);
+            if ((a == null) != (b == null) || a != null && (!a.enhancements().equals(b.enhancements())
+                    || !a.conditions().equals(b.conditions()))) {
+                throw new AssertionError("Step " + step + ": " + stepped.engine().moveId(move) + " is " + a
+                        + " stepped and " + b + " fresh");
+            }
+        }
+        for (int asset = 0; asset < stepped.engine().assets(); asset++) {
+            EffectiveAsset a = stepped.asset(asset);
+            EffectiveAsset b = fresh.asset(asset);
+            if ((a == null) != (b == null) || a != null && !a.enhancements().equals(b.enhancements())) {
+                throw new AssertionError("Step " + step + ": " + stepped.engine().assetId(asset) + " is " + a
+                        + " stepped and " + b + " fresh");
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package Datasworn.oracles;
+
+import java.util.SplittableRandom;
+
+/**
+ * Checks that {@link Dice} parses {@code [N]dS[+M|-M]}, rejects anything
+ * else and anything past {@link Dice#MAX_COUNT} or {@link Dice#MAX_SIDES},
+ * works out odds and rolls within them, and stops caching at
+ * {@link Dice#MAX_CACHED} expressions.
+ */
+public final class DiceTest {
+    private DiceTest() {
+    }
+
+    public static void main(String[] args) {
+        expect(Dice.parse("1d100"), 1, 100, 0);
+        expect(Dice.parse("d6"), 1, 6, 0);
+        expect(Dice.parse("2d6"), 2, 6, 0);
+        expect(Dice.parse("1d10+2"), 1, 10, 2);
+        expect(Dice.parse("3D6-1"), 3, 6, -1);
+        expect(Dice.parse("1d6+0"), 1, 6, 0);
+        expect(Dice.parse(Dice.MAX_COUNT + "d" + Dice.MAX_SIDES), Dice.MAX_COUNT, Dice.MAX_SIDES, 0);
+        expect(Dice.parse("1d6-" + Dice.MAX_COUNT * Dice.MAX_SIDES), 1, 6, -Dice.MAX_COUNT * Dice.MAX_SIDES);
+
+        for (String bad : new String[] {
+            "", "d", "1d", "6", "0d6", "1d0", "00d6", "1x6", "1d6+", "1d6-", "1d6+2+1", "1d6+-2", "-1d6", "+1d6",
+            " 1d6", "1d6 ", "1 d6", "1d6*2", "1d6d6", "1dd6", "1d6+x", "1d\u0662",
+            (Dice.MAX_COUNT + 1) + "d6", "1d" + (Dice.MAX_SIDES + 1), "1d6+" + (Dice.MAX_COUNT * Dice.MAX_SIDES + 1),
+            "99999999999d6", "1d99999999999", "1d6+99999999999",
+        }) {
+            try {
+                Dice.parse(bad);
+                throw new AssertionError("Parsed \"" + bad + "\"");
+            } catch (IllegalArgumentException expected) {
+                // Expected.
+            }
+        }
+        try {
+            Dice.of(null);
+            throw new AssertionError("Parsed a missing expression");
+        } catch (IllegalArgumentException expected) {
+            // Expected.
+        }
+
+        // 2d6+1 totals 3 to 13, 8 in 6 ways out of 36.
+        Dice dice = Dice.parse("2d6+1");
+        if (dice.min() != 3 || dice.max() != 13 || dice.range() != 11 || dice.distribution().length != 11) {
+            throw new AssertionError("Expected 2d6+1 to total 3 to 13, got " + dice.min() + " to " + dice.max());
+        }
+        close(dice.probability(8), 6.0 / 36, "P(8)");
+        close(dice.probability(3), 1.0 / 36, "P(3)");
+        close(dice.probability(2), 0, "P(2)");
+        close(dice.probability(14), 0, "P(14)");
+        double sum = 0;
+        for (double p : Dice.parse("10d10").distribution()) {
+            sum += p;
+        }
+        close(sum, 1, "the sum of 10d10's odds");
+        SplittableRandom random = new SplittableRandom(1);
+        int[] counts = new int[dice.range()];
+        for (int i = 0; i < 36000; i++) {
+            int total = dice.roll(random);
+            if (total < dice.min() || total > dice.max()) {
+                throw new AssertionError("2d6+1 rolled " + total);
+            }
+            counts[total - dice.min()]++;
+        }
+        if (counts[0] == 0 || counts[10] == 0 || Math.abs(counts[5] - 6000) > 400) {
+            throw new AssertionError("2d6+1 rolled 8 " + counts[5] + " times in 36000");
+        }
+
+        // The same text gives the same dice, until the cache is full.
+        if (Dice.parse("1d100") != Dice.parse("1d100") || !"1d10+2".equals(Dice.parse("1d10+2").toString())) {
+            throw new AssertionError("1d100 wasn't cached");
+        }
+        for (int modifier = 1; modifier <= 2 * Dice.MAX_CACHED; modifier++) {
+            expect(Dice.parse("1d6+" + modifier), 1, 6, modifier);
+        }
+        if (Dice.cached() > Dice.MAX_CACHED) {
+            throw new AssertionError("The cache grew to " + Dice.cached() + " expressions");
+        }
+        if (Dice.parse("1d100") != Dice.parse("1d100")) {
+            throw new AssertionError("1d100 was dropped from the cache");
+        }
+        System.out.println("DiceTest passed");
+    }
+
+    private static void expect(Dice dice, int count, int sides, int modifier) {
+        if (dice.count() != count || dice.sides() != sides || dice.modifier() != modifier) {
+            throw new AssertionError("Expected " + count + "d" + sides + (modifier < 0 ? "" : "+") + modifier
+                    + ", got " + dice.count() + "d" + dice.sides() + " " + dice.modifier());
+        }
+    }
+
+    private static void close(double actual, double expected, String what) {
+        if (Math.abs(actual - expected) > 1e-9) {
+            throw new AssertionError("Expected " + what + " " + expected + ", got " + actual);
+        }
+    }
+}
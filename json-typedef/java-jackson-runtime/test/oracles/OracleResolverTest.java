@@ -0,0 +1,217 @@
+package Datasworn.oracles;
+
+import Datasworn.index.DataswornIndex;
+import Datasworn.io.RulesPackageLoader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Checks {@link OracleResolver} on small packages of made-up tables: each
+ * duplicates policy, rerolls of "roll twice" rows on their own table, the
+ * {@link OracleResolver#MAX_ATTEMPTS} cutoff and rejection of tables that
+ * roll on each other in a cycle.
+ */
+public final class OracleResolverTest {
+    private static final String ID = "test/oracles/test/";
+    private static final int SEEDS = 2000;
+
+    private OracleResolverTest() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        OracleTables tables = tables(
+                table("pick", "1d2", row(1, 1), row(2, 2)),
+                table("only", "1d1", row(1, 1)),
+                table("reroll", "1d1", row(1, 1, roll("pick", 2, "reroll", true))),
+                table("keep", "1d1", row(1, 1, roll("pick", 2, "keep", true))),
+                table("worse", "1d1", row(1, 1, roll("pick", 2, "make_it_worse", true))),
+                table("stuck", "1d1", row(1, 1, roll("only", 2, "reroll", true))),
+                table("override", "1d1", row(1, 1, "{\"oracle\":\"" + ID + "pick\",\"dice\":\"1d1\",\"auto\":true,"
+                        + "\"duplicates\":\"keep\",\"number_of_rolls\":3}")),
+                table("twice", "1d10", row(1, 8), row(9, 9, roll(null, 2, "keep", true)),
+                        row(10, 10, roll("twice", 2, "keep", true))),
+                table("always", "1d1", row(1, 1, roll(null, 2, "reroll", true))),
+                table("manual", "1d1", row(1, 1, roll("pick", 1, "reroll", false))),
+                table("missing", "1d1", row(1, 1, roll("nowhere", 1, "reroll", true))));
+        OracleResolver resolver = OracleResolver.of(tables);
+        RollResults results = new RollResults();
+
+        // Two rolls on a two-row table that reroll duplicates land on both rows.
+        for (int seed = 0; seed < SEEDS; seed++) {
+            resolver.resolve(ID + "reroll", new SplittableRandom(seed), results);
+            children(results, 2);
+            if (results.row(1) == results.row(2) || results.flags(2) != 0) {
+                throw new AssertionError("A duplicate wasn't rerolled: " + results);
+            }
+        }
+        // Keeping and making it worse both keep them, flagged.
+        duplicates(resolver, results, "keep", RollResults.DUPLICATE);
+        duplicates(resolver, results, "worse", RollResults.WORSE);
+
+        // A duplicate that can't be avoided is kept after MAX_ATTEMPTS dice.
+        CountingRandom counting = new CountingRandom(1);
+        resolver.resolve(ID + "stuck", counting, results);
+        children(results, 2);
+        if (results.flags(2) != RollResults.DUPLICATE || counting.rolls != 2 + OracleResolver.MAX_ATTEMPTS) {
+            throw new AssertionError("Expected a duplicate after " + (2 + OracleResolver.MAX_ATTEMPTS)
+                    + " dice, got " + results + " after " + counting.rolls);
+        }
+
+        // Dice that override the table's always roll 1 here.
+        resolver.resolve(ID + "override", new SplittableRandom(1), results);
+        children(results, 3);
+        for (int i = 1; i <= 3; i++) {
+            if (results.row(i) != 0 || results.flags(i) != (i == 1 ? 0 : RollResults.DUPLICATE)) {
+                throw new AssertionError("Overridden dice didn't roll 1: " + results);
+            }
+        }
+
+        // A row that rolls its own table again, without an oracle or naming
+        // it, never gets another such row, and isn't followed further.
+        RollableTable twice = tables.get(ID + "twice");
+        int seen = 0;
+        for (int seed = 0; seed < SEEDS; seed++) {
+            resolver.resolve(ID + "twice", new SplittableRandom(seed), results);
+            if (results.row(0) == 0) {
+                children(results, 0);
+                continue;
+            }
+            seen++;
+            children(results, 2);
+            for (int i = 1; i <= 2; i++) {
+                if (results.row(i) != 0 || results.table(i) != results.table(0)) {
+                    throw new AssertionError("Rolled again on " + twice.text(results.row(i)) + ": " + results);
+                }
+            }
+        }
+        if (seen == 0) {
+            throw new AssertionError("No seed rolled twice");
+        }
+        // Unless every row does, when the repeats are kept after MAX_ATTEMPTS
+        // tries each, and not followed.
+        counting = new CountingRandom(1);
+        resolver.resolve(ID + "always", counting, results);
+        children(results, 2);
+        if (counting.rolls != 1 + 2 * OracleResolver.MAX_ATTEMPTS) {
+            throw new AssertionError("Expected " + (1 + 2 * OracleResolver.MAX_ATTEMPTS) + " dice, got "
+                    + counting.rolls);
+        }
+
+        // Rolls that aren't auto are only made by a manual resolver.
+        resolver.resolve(ID + "manual", new SplittableRandom(1), results);
+        children(results, 0);
+        OracleResolver.of(tables, true).resolve(ID + "manual", new SplittableRandom(1), results);
+        children(results, 1);
+
+        // Rolls on oracles that don't exist are left out, and listed.
+        resolver.resolve(ID + "missing", new SplittableRandom(1), results);
+        children(results, 0);
+        if (!resolver.unresolved().equals(List.of("Row 0 of " + ID + "missing -> " + ID + "nowhere"))) {
+            throw new AssertionError("Unexpected unresolved rolls " + resolver.unresolved());
+        }
+
+        // Tables that roll on each other in a cycle are rejected, but only
+        // once the rolls that make the cycle are made.
+        OracleTables cycle = tables(
+                table("a", "1d1", row(1, 1, roll("b", 1, "reroll", true))),
+                table("b", "1d2", row(1, 1), row(2, 2, roll("c", 1, "reroll", false))),
+                table("c", "1d1", row(1, 1, roll("a", 1, "reroll", true))));
+        OracleResolver.of(cycle);
+        try {
+            OracleResolver.of(cycle, true);
+            throw new AssertionError("A cycle was accepted");
+        } catch (IllegalArgumentException expected) {
+            if (!expected.getMessage().endsWith(ID + "a -> " + ID + "b -> " + ID + "c -> " + ID + "a")) {
+                throw new AssertionError("Unexpected cycle " + expected.getMessage());
+            }
+        }
+        System.out.println("OracleResolverTest passed");
+    }
+
+    /**
+     * Checks that some seeds roll the same row twice, with the second
+     * flagged, and none flag the first.
+     */
+    private static void duplicates(OracleResolver resolver, RollResults results, String table, int flag) {
+        int flagged = 0;
+        for (int seed = 0; seed < SEEDS; seed++) {
+            resolver.resolve(ID + table, new SplittableRandom(seed), results);
+            children(results, 2);
+            boolean same = results.row(1) == results.row(2);
+            if (results.flags(1) != 0 || results.flags(2) != (same ? flag : 0)) {
+                throw new AssertionError("Expected flag " + flag + " on duplicates only: " + results);
+            }
+            if (same) {
+                flagged++;
+            }
+        }
+        if (flagged == 0) {
+            throw new AssertionError("No seed rolled a duplicate on " + table);
+        }
+    }
+
+    /**
+     * Checks that the results are one roll and {@code count} rolls that
+     * follow from it.
+     */
+    private static void children(RollResults results, int count) {
+        if (results.size() != count + 1) {
+            throw new AssertionError("Expected " + (count + 1) + " results, got " + results);
+        }
+        for (int i = 1; i <= count; i++) {
+            if (results.parent(i) != 0) {
+                throw new AssertionError("Expected result " + i + " to follow from the first: " + results);
+            }
+        }
+    }
+
+    private static OracleTables tables(String... tables) throws IOException {
+        String json = "{\"_id\":\"test\",\"type\":\"ruleset\",\"datasworn_version\":\"0.0.10\",\"oracles\":{\"test\":{"
+                + "\"_id\":\"test/collections/oracles/test\",\"type\":\"oracle_collection\",\"name\":\"Test\","
+                + "\"oracle_type\":\"tables\",\"contents\":{" + String.join(",", tables) + "}}}}";
+        return OracleTables.of(DataswornIndex.of(RulesPackageLoader.read(json.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private static String table(String key, String dice, String... rows) {
+        return "\"" + key + "\":{\"_id\":\"" + ID + key + "\",\"type\":\"oracle_rollable\",\"name\":\"" + key
+                + "\",\"oracle_type\":\"table_text\",\"dice\":\"" + dice + "\",\"rows\":[" + String.join(",", rows)
+                + "]}";
+    }
+
+    private static String row(int min, int max, String... rolls) {
+        return "{\"min\":" + min + ",\"max\":" + max + ",\"text\":\"" + min + "-" + max + "\""
+                + (rolls.length == 0 ? "" : ",\"oracle_rolls\":[" + String.join(",", rolls) + "]") + "}";
+    }
+
+    private static String roll(String oracle, int count, String duplicates, boolean auto) {
+        return "{\"oracle\":" + (oracle == null ? "null" : "\"" + ID + oracle + "\"") + ",\"dice\":null,\"auto\":"
+                + auto + ",\"duplicates\":\"" + duplicates + "\",\"number_of_rolls\":" + count + "}";
+    }
+
+    /**
+     * Counts the dice rolled.
+     */
+    private static final class CountingRandom implements RandomGenerator {
+        private final SplittableRandom random;
+        private int rolls;
+
+        CountingRandom(long seed) {
+            random = new SplittableRandom(seed);
+        }
+
+        @Override
+        public long nextLong() {
+            return random.nextLong();
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            rolls++;
+            return random.nextInt(bound);
+        }
+    }
+}